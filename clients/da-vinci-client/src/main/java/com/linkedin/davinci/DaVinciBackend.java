@@ -21,14 +21,18 @@ import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.ingestion.DefaultIngestionBackend;
 import com.linkedin.davinci.ingestion.IngestionBackend;
 import com.linkedin.davinci.kafka.consumer.KafkaStoreIngestionService;
+import com.linkedin.davinci.notifier.BlockCacheWarmupNotifier;
 import com.linkedin.davinci.notifier.VeniceNotifier;
 import com.linkedin.davinci.repository.VeniceMetadataRepositoryBuilder;
 import com.linkedin.davinci.stats.AggBlobTransferStats;
 import com.linkedin.davinci.stats.AggVersionedBlobTransferStats;
 import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
+import com.linkedin.davinci.stats.BlockCacheWarmupStats;
 import com.linkedin.davinci.stats.HeartbeatMonitoringServiceStats;
+import com.linkedin.davinci.stats.HotTierStats;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.stats.ingestion.heartbeat.HeartbeatMonitoringService;
+import com.linkedin.davinci.storage.HotKeySampler;
 import com.linkedin.davinci.storage.StorageEngineMetadataService;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.storage.StorageService;
@@ -132,6 +136,8 @@ public class DaVinciBackend implements Closeable {
   private final BlobTransferManager<Void> blobTransferManager;
   private final boolean writeBatchingPushStatus;
   private final HeartbeatMonitoringService heartbeatMonitoringService;
+  private final HotKeySampler hotKeySampler;
+  private final BlockCacheWarmupNotifier blockCacheWarmupNotifier;
   private AggVersionedBlobTransferStats aggVersionedBlobTransferStats;
   private AggBlobTransferStats aggBlobTransferStats;
 
@@ -207,6 +213,7 @@ public class DaVinciBackend implements Closeable {
           true,
           functionToCheckWhetherStorageEngineShouldBeKeptOrNot(managedClients));
       storageService.start();
+      storageService.getHotTierCache().ifPresent(hotTierCache -> new HotTierStats(metricsRepository, hotTierCache));
 
       SchemaReader kafkaMessageEnvelopeSchemaReader = ClientFactory.getSchemaReader(
           ClientConfig.cloneConfig(clientConfig)
@@ -335,6 +342,21 @@ public class DaVinciBackend implements Closeable {
         ingestionService.setBlobTransferManager(blobTransferManager);
       }
 
+      if (backendConfig.isBlockCacheWarmupEnabled()) {
+        hotKeySampler = new HotKeySampler(
+            backendConfig.getBlockCacheWarmupHotKeyCountPerStore(),
+            backendConfig.getBlockCacheWarmupKeySamplingInterval());
+        blockCacheWarmupNotifier = new BlockCacheWarmupNotifier(
+            hotKeySampler,
+            storageService.getStorageEngineRepository(),
+            storeRepository,
+            backendConfig.getBlockCacheWarmupMaxReadsPerSecond(),
+            new BlockCacheWarmupStats(metricsRepository));
+      } else {
+        hotKeySampler = null;
+        blockCacheWarmupNotifier = null;
+      }
+
       bootstrap();
 
       storeRepository.registerStoreDataChangedListener(storeChangeListener);
@@ -418,6 +440,9 @@ public class DaVinciBackend implements Closeable {
         getStorageService(),
         configLoader.getVeniceServerConfig());
     ingestionBackend.addIngestionNotifier(ingestionListener);
+    if (blockCacheWarmupNotifier != null) {
+      ingestionBackend.addIngestionNotifier(blockCacheWarmupNotifier);
+    }
   }
 
   @Override
@@ -527,6 +552,13 @@ public class DaVinciBackend implements Closeable {
     return ingestionBackend;
   }
 
+  /**
+   * @return the sampler of the keys being read, or null if block cache warm-up is disabled.
+   */
+  public HotKeySampler getHotKeySampler() {
+    return hotKeySampler;
+  }
+
   public void verifyCacheConfigEquality(@Nullable ObjectCacheConfig newObjectCacheConfig, String storeName) {
     ObjectCacheConfig existingObjectCacheConfig =
         cacheBackend.isPresent() ? cacheBackend.get().getStoreCacheConfig() : null;
@@ -10,6 +10,7 @@ import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEV
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_STOPS_WRITES_TRIGGER_WRITE_ONLY_VERSION;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.CLUSTER_NAME;
+import static com.linkedin.venice.ConfigKeys.DA_VINCI_HOT_TIER_ENABLED;
 import static com.linkedin.venice.ConfigKeys.INGESTION_USE_DA_VINCI_CLIENT;
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
 import static com.linkedin.venice.ConfigKeys.VENICE_LOG_CONTEXT_COMPONENT;
@@ -22,6 +23,7 @@ import com.linkedin.davinci.StoreBackend;
 import com.linkedin.davinci.VersionBackend;
 import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.consumer.VeniceChangeCoordinate;
+import com.linkedin.davinci.storage.HotKeySampler;
 import com.linkedin.davinci.storage.chunking.AbstractAvroChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.GenericChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
@@ -144,6 +146,7 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
   protected StoreBackend storeBackend;
   private static ReferenceCounted<DaVinciBackend> daVinciBackend;
   private ObjectCacheBackend cacheBackend;
+  private HotKeySampler hotKeySampler;
   private static final Map<CharSequence, Schema> computeResultSchemaCache = new VeniceConcurrentHashMap<>();
 
   private final AbstractAvroChunkingAdapter<V> chunkingAdapter;
@@ -385,6 +388,12 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     return get(key, null);
   }
 
+  private void sampleHotKey(byte[] keyBytes) {
+    if (hotKeySampler != null) {
+      hotKeySampler.sample(getStoreName(), keyBytes);
+    }
+  }
+
   // TODO: This is 'almost' the same logic for the batchGet path. We could probably wrap this function and adapt it to
   // the batch-get api (where sometimes the Batch-get is just for a single key). Advantages would be to remove duplicate
   // code.
@@ -392,6 +401,7 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     try (ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion()) {
       VersionBackend versionBackend = versionRef.get();
       byte[] keyBytes = keySerializer.serialize(key);
+      sampleHotKey(keyBytes);
       int partition = versionBackend.getPartition(keyBytes);
 
       if (isPartitionReadyToServe(versionBackend, partition)) {
@@ -487,6 +497,7 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
 
         for (K key: keyList) {
           byte[] keyBytes = getKeySerializer().serialize(key);
+          sampleHotKey(keyBytes);
           int partition = versionBackend.getPartition(keyBytes);
 
           if (isPartitionReadyToServe(versionBackend, partition)) {
@@ -634,6 +645,7 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
 
       for (K key: keys) {
         byte[] keyBytes = keySerializer.serialize(key);
+        sampleHotKey(keyBytes);
         int partition = versionBackend.getPartition(keyBytes);
 
         if (isPartitionReadyToServe(versionBackend, partition)) {
@@ -844,6 +856,7 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
         .put(ZOOKEEPER_ADDRESS, zkAddress)
         .put(KAFKA_BOOTSTRAP_SERVERS, kafkaBootstrapServers)
         .put(ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED, daVinciConfig.getStorageClass() == StorageClass.MEMORY_BACKED_BY_DISK)
+        .put(DA_VINCI_HOT_TIER_ENABLED, daVinciConfig.getStorageClass() == StorageClass.TIERED)
         .put(INGESTION_USE_DA_VINCI_CLIENT, true)
         .put(RECORD_TRANSFORMER_VALUE_SCHEMA, recordTransformerOutputValueSchema)
         .put(VENICE_LOG_CONTEXT_COMPONENT, VeniceComponent.DAVINCI_CLIENT.name())
@@ -915,6 +928,7 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
         cacheBackend = getBackend().getObjectCache();
       }
       storeBackend = getBackend().getStoreOrThrow(getStoreName());
+      hotKeySampler = getBackend().getHotKeySampler();
       if (managedClients.isPresent()) {
         storeBackend.setManaged(daVinciConfig.isManaged());
       }
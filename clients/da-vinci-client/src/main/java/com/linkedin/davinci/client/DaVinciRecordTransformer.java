@@ -188,6 +188,21 @@ public abstract class DaVinciRecordTransformer<K, V, O> implements Closeable {
     return;
   }
 
+  /**
+   * Callback invoked once all the batch data of {@link #storeVersion} has been consumed for a partition. This happens
+   * when the end of push is consumed, or at the end of {@link #onRecovery} if the end of push had already been consumed
+   * before a restart. Records processed before this callback for the partition are either batch data or records
+   * recovered from local storage, and records processed after it are real-time updates, so this can be used to switch
+   * from bulk loading to incremental updates.
+   *
+   * By default, it's a no-op.
+   *
+   * @param partitionId the partition which has consumed all its batch data
+   */
+  public void onEndOfPush(int partitionId) {
+    return;
+  }
+
   /**
    * Whether to deserialize input values using a single, uniform schema.
    *
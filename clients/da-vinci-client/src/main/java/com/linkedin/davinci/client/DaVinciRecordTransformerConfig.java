@@ -25,6 +25,7 @@ public class DaVinciRecordTransformerConfig {
   private final boolean useSpecificRecordKeyDeserializer;
   private final boolean useSpecificRecordValueDeserializer;
   private final boolean recordMetadataEnabled;
+  private final int recoveryScanParallelism;
 
   public DaVinciRecordTransformerConfig(Builder builder) {
     this.recordTransformerFunction = Optional.ofNullable(builder.recordTransformerFunction)
@@ -46,6 +47,11 @@ public class DaVinciRecordTransformerConfig {
     this.alwaysBootstrapFromVersionTopic = builder.alwaysBootstrapFromVersionTopic;
     this.recordTransformationEnabled = builder.recordTransformationEnabled;
     this.recordMetadataEnabled = builder.recordMetadataEnabled;
+
+    if (builder.recoveryScanParallelism < 1) {
+      throw new VeniceException("recoveryScanParallelism must be at least 1");
+    }
+    this.recoveryScanParallelism = builder.recoveryScanParallelism;
   }
 
   /**
@@ -118,6 +124,13 @@ public class DaVinciRecordTransformerConfig {
     return recordMetadataEnabled;
   }
 
+  /**
+   * @return {@link #recoveryScanParallelism}
+   */
+  public int getRecoveryScanParallelism() {
+    return recoveryScanParallelism;
+  }
+
   public static class Builder {
     private DaVinciRecordTransformerFunctionalInterface recordTransformerFunction;
     private Class keyClass;
@@ -127,6 +140,7 @@ public class DaVinciRecordTransformerConfig {
     private Boolean alwaysBootstrapFromVersionTopic = false;
     private Boolean recordTransformationEnabled = true;
     private Boolean recordMetadataEnabled = false;
+    private int recoveryScanParallelism = 1;
 
     /**
      * Required for creating a {@link DaVinciRecordTransformer}. The function is invoked with the store version at startup.
@@ -224,6 +238,22 @@ public class DaVinciRecordTransformerConfig {
       return this;
     }
 
+    /**
+     * The number of threads scanning each partition on local disk during recovery. When it's greater than 1, each
+     * partition is split into key ranges which are scanned in parallel, so
+     * {@link DaVinciRecordTransformer#processPut(Lazy, Lazy, int, DaVinciRecordTransformerRecordMetadata)} can be
+     * invoked concurrently for the same partition, and it must be thread-safe. Each key is still processed exactly
+     * once, by a single thread.
+     *
+     * Default is 1.
+     *
+     * @param recoveryScanParallelism the number of threads scanning each partition during recovery
+     */
+    public Builder setRecoveryScanParallelism(int recoveryScanParallelism) {
+      this.recoveryScanParallelism = recoveryScanParallelism;
+      return this;
+    }
+
     public DaVinciRecordTransformerConfig build() {
       return new DaVinciRecordTransformerConfig(this);
     }
@@ -1,11 +1,13 @@
 package com.linkedin.davinci.client;
 
+import com.linkedin.davinci.stats.AggVersionedDaVinciRecordTransformerStats;
 import com.linkedin.davinci.store.AbstractStorageIterator;
 import com.linkedin.davinci.store.StorageEngine;
 import com.linkedin.davinci.store.StoragePartitionAdjustmentTrigger;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.annotation.VisibleForTesting;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.offsets.OffsetRecord;
@@ -16,11 +18,21 @@ import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.VeniceSerializationException;
+import com.linkedin.venice.utils.ArrayUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.lazy.Lazy;
+import java.io.Closeable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.avro.Schema;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -32,12 +44,22 @@ import org.apache.logging.log4j.Logger;
  * @param <K> the type of the input key
  * @param <O> the type of the output value
  */
-public class DaVinciRecordTransformerUtility<K, O> {
+public class DaVinciRecordTransformerUtility<K, O> implements Closeable {
   private static final Logger LOGGER = LogManager.getLogger(DaVinciRecordTransformerUtility.class);
+  /**
+   * The number of records scanned by a recovery scan thread between two progress reports.
+   */
+  private static final int RECOVERY_PROGRESS_REPORT_INTERVAL = 10000;
   private final DaVinciRecordTransformer recordTransformer;
   private final DaVinciRecordTransformerConfig recordTransformerConfig;
   private final RecordDeserializer<K> keyDeserializer;
   private final RecordSerializer<O> outputValueSerializer;
+  /**
+   * Shared by the recovery scans of all the partitions, so that its thread count is bounded by the recovery scan
+   * parallelism. Only created if a partition is scanned in parallel.
+   */
+  private final Lazy<ExecutorService> recoveryScanExecutor;
+  private AggVersionedDaVinciRecordTransformerStats recordTransformerStats;
 
   public DaVinciRecordTransformerUtility(
       DaVinciRecordTransformer recordTransformer,
@@ -55,6 +77,11 @@ public class DaVinciRecordTransformerUtility<K, O> {
 
     this.outputValueSerializer =
         FastSerializerDeserializerFactory.getFastAvroGenericSerializer(recordTransformer.getOutputValueSchema());
+    this.recoveryScanExecutor = Lazy.of(
+        () -> Executors.newFixedThreadPool(
+            recordTransformerConfig.getRecoveryScanParallelism(),
+            new DaemonThreadFactory(
+                "DVRT-RecoveryScan-" + recordTransformer.getStoreName() + "_v" + recordTransformer.getStoreVersion())));
   }
 
   /**
@@ -161,63 +188,25 @@ public class DaVinciRecordTransformerUtility<K, O> {
           StoragePartitionAdjustmentTrigger.PREPARE_FOR_READ,
           storagePartitionConfig);
 
-      try (AbstractStorageIterator iterator = storageEngine.getIterator(partitionId)) {
-        for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
-          byte[] keyBytes = iterator.key();
-          byte[] valueBytes = iterator.value();
-          Lazy<K> lazyKey = Lazy.of(() -> keyDeserializer.deserialize(keyBytes));
-          Lazy<O> lazyValue = Lazy.of(() -> {
-            ByteBuffer valueByteBuffer = ByteBuffer.wrap(valueBytes);
-
-            /*
-             * Use writer schema for deserialization, otherwise it will run into deserialization errors if
-             * schema evolution occurred.
-             */
-            int writerSchemaId = valueByteBuffer.getInt();
-            Schema valueSchema = schemaIdToSchemaMap.computeIfAbsent(
-                writerSchemaId,
-                i -> schemaRepository.getValueSchema(recordTransformer.getStoreName(), writerSchemaId).getSchema());
-
-            ByteBuffer decompressedValueBytes;
-            try {
-              decompressedValueBytes = compressor.get().decompress(valueByteBuffer);
-            } catch (IOException e) {
-              throw new RuntimeException(e);
-            }
-
-            RecordDeserializer<O> outputValueDeserializer;
-            if (recordTransformerConfig.useSpecificRecordValueDeserializer()) {
-              outputValueDeserializer = FastSerializerDeserializerFactory
-                  .getFastAvroSpecificDeserializer(valueSchema, recordTransformerConfig.getOutputValueClass());
-            } else {
-              if (recordTransformerConfig.isRecordTransformationEnabled()) {
-                outputValueDeserializer = FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(
-                    recordTransformer.getOutputValueSchema(),
-                    recordTransformer.getOutputValueSchema());
-              } else if (recordTransformer.useUniformInputValueSchema()) {
-                outputValueDeserializer = FastSerializerDeserializerFactory
-                    .getFastAvroGenericDeserializer(valueSchema, recordTransformer.getInputValueSchema());
-              } else {
-                outputValueDeserializer =
-                    FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(valueSchema, valueSchema);
-              }
-            }
-            return outputValueDeserializer.deserialize(decompressedValueBytes);
-          });
-
-          // Most of the record metadata is not available from disk
-          DaVinciRecordTransformerRecordMetadata recordTransformerRecordMetadata =
-              recordTransformerConfig.isRecordMetadataEnabled()
-                  ? new DaVinciRecordTransformerRecordMetadata(
-                      /*
-                       * We can technically supply the writer schema id, but that would require pulling some logic
-                       * out of lazyValue, which could add latency. Revisit if it is actually needed.
-                       */
-                      0,
-                      PubSubSymbolicPosition.EARLIEST,
-                      keyBytes.length + valueBytes.length)
-                  : null;
-          recordTransformer.processPut(lazyKey, lazyValue, partitionId, recordTransformerRecordMetadata);
+      try {
+        int recoveryScanParallelism = recordTransformerConfig.getRecoveryScanParallelism();
+        List<byte[]> splitPoints = recoveryScanParallelism > 1
+            ? storageEngine.getKeyRangeSplitPoints(partitionId, recoveryScanParallelism)
+            : Collections.emptyList();
+        if (splitPoints.isEmpty()) {
+          scanKeyRange(storageEngine, partitionId, null, null, compressor, schemaIdToSchemaMap, schemaRepository);
+        } else {
+          LOGGER.info(
+              "Scanning local storage for partition {} in {} key ranges in parallel",
+              partitionId,
+              splitPoints.size() + 1);
+          scanKeyRangesInParallel(
+              storageEngine,
+              partitionId,
+              splitPoints,
+              compressor,
+              schemaIdToSchemaMap,
+              schemaRepository);
         }
       } catch (VeniceSerializationException exception) {
         LOGGER.error(
@@ -238,10 +227,189 @@ public class DaVinciRecordTransformerUtility<K, O> {
             storagePartitionConfig);
       }
     }
+
+    if (offsetRecord.isEndOfPushReceived()) {
+      // The end of push won't be consumed again, so the batch data of this partition is complete
+      recordTransformer.onEndOfPush(partitionId);
+    }
+  }
+
+  /**
+   * Scan the key ranges split by the given split points in parallel on {@link #recoveryScanExecutor}. Each key belongs
+   * to exactly one key range, so it's still processed by a single thread.
+   */
+  private void scanKeyRangesInParallel(
+      StorageEngine storageEngine,
+      int partitionId,
+      List<byte[]> splitPoints,
+      Lazy<VeniceCompressor> compressor,
+      Map<Integer, Schema> schemaIdToSchemaMap,
+      ReadOnlySchemaRepository schemaRepository) {
+    int rangeCount = splitPoints.size() + 1;
+    ExecutorService scanExecutor = recoveryScanExecutor.get();
+    List<Future<?>> futures = new ArrayList<>(rangeCount);
+    try {
+      for (int i = 0; i < rangeCount; i++) {
+        byte[] startKey = i == 0 ? null : splitPoints.get(i - 1);
+        byte[] endKey = i == rangeCount - 1 ? null : splitPoints.get(i);
+        futures.add(
+            scanExecutor.submit(
+                () -> scanKeyRange(
+                    storageEngine,
+                    partitionId,
+                    startKey,
+                    endKey,
+                    compressor,
+                    schemaIdToSchemaMap,
+                    schemaRepository)));
+      }
+      for (Future<?> future: futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Interrupted while scanning local storage for partition: " + partitionId, e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new VeniceException("Failed to scan local storage for partition: " + partitionId, e.getCause());
+    } finally {
+      // Stop the scans of the other key ranges if one failed
+      for (Future<?> future: futures) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Scan the records in [startKey, endKey) of the given partition, and a null key means the start or the end of the
+   * partition.
+   */
+  private void scanKeyRange(
+      StorageEngine storageEngine,
+      int partitionId,
+      byte[] startKey,
+      byte[] endKey,
+      Lazy<VeniceCompressor> compressor,
+      Map<Integer, Schema> schemaIdToSchemaMap,
+      ReadOnlySchemaRepository schemaRepository) {
+    long recordCount = 0;
+    try (AbstractStorageIterator iterator = storageEngine.getIterator(partitionId)) {
+      if (startKey == null) {
+        iterator.seekToFirst();
+      } else {
+        iterator.seek(startKey);
+      }
+      for (; iterator.isValid(); iterator.next()) {
+        byte[] keyBytes = iterator.key();
+        if (endKey != null && ArrayUtils.compareUnsigned(keyBytes, endKey) >= 0) {
+          break;
+        }
+        processRecoveredRecord(
+            keyBytes,
+            iterator.value(),
+            partitionId,
+            compressor,
+            schemaIdToSchemaMap,
+            schemaRepository);
+        if (++recordCount % RECOVERY_PROGRESS_REPORT_INTERVAL == 0) {
+          recordRecoveryProgress(RECOVERY_PROGRESS_REPORT_INTERVAL);
+        }
+      }
+    }
+    recordRecoveryProgress(recordCount % RECOVERY_PROGRESS_REPORT_INTERVAL);
+  }
+
+  private void processRecoveredRecord(
+      byte[] keyBytes,
+      byte[] valueBytes,
+      int partitionId,
+      Lazy<VeniceCompressor> compressor,
+      Map<Integer, Schema> schemaIdToSchemaMap,
+      ReadOnlySchemaRepository schemaRepository) {
+    Lazy<K> lazyKey = Lazy.of(() -> keyDeserializer.deserialize(keyBytes));
+    Lazy<O> lazyValue = Lazy.of(() -> {
+      ByteBuffer valueByteBuffer = ByteBuffer.wrap(valueBytes);
+
+      /*
+       * Use writer schema for deserialization, otherwise it will run into deserialization errors if
+       * schema evolution occurred.
+       */
+      int writerSchemaId = valueByteBuffer.getInt();
+      Schema valueSchema = schemaIdToSchemaMap.computeIfAbsent(
+          writerSchemaId,
+          i -> schemaRepository.getValueSchema(recordTransformer.getStoreName(), writerSchemaId).getSchema());
+
+      ByteBuffer decompressedValueBytes;
+      try {
+        decompressedValueBytes = compressor.get().decompress(valueByteBuffer);
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+
+      RecordDeserializer<O> outputValueDeserializer;
+      if (recordTransformerConfig.useSpecificRecordValueDeserializer()) {
+        outputValueDeserializer = FastSerializerDeserializerFactory
+            .getFastAvroSpecificDeserializer(valueSchema, recordTransformerConfig.getOutputValueClass());
+      } else {
+        if (recordTransformerConfig.isRecordTransformationEnabled()) {
+          outputValueDeserializer = FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(
+              recordTransformer.getOutputValueSchema(),
+              recordTransformer.getOutputValueSchema());
+        } else if (recordTransformer.useUniformInputValueSchema()) {
+          outputValueDeserializer = FastSerializerDeserializerFactory
+              .getFastAvroGenericDeserializer(valueSchema, recordTransformer.getInputValueSchema());
+        } else {
+          outputValueDeserializer =
+              FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(valueSchema, valueSchema);
+        }
+      }
+      return outputValueDeserializer.deserialize(decompressedValueBytes);
+    });
+
+    // Most of the record metadata is not available from disk
+    DaVinciRecordTransformerRecordMetadata recordTransformerRecordMetadata =
+        recordTransformerConfig.isRecordMetadataEnabled()
+            ? new DaVinciRecordTransformerRecordMetadata(
+                /*
+                 * We can technically supply the writer schema id, but that would require pulling some logic
+                 * out of lazyValue, which could add latency. Revisit if it is actually needed.
+                 */
+                0,
+                PubSubSymbolicPosition.EARLIEST,
+                keyBytes.length + valueBytes.length)
+            : null;
+    recordTransformer.processPut(lazyKey, lazyValue, partitionId, recordTransformerRecordMetadata);
+  }
+
+  private void recordRecoveryProgress(long recordCount) {
+    if (recordTransformerStats != null && recordCount > 0) {
+      recordTransformerStats.recordRecoveryRecords(
+          recordTransformer.getStoreName(),
+          recordTransformer.getStoreVersion(),
+          recordCount,
+          System.currentTimeMillis());
+    }
+  }
+
+  /**
+   * Set up the stats to report the progress of {@link #onRecovery}.
+   */
+  public void setRecordTransformerStats(AggVersionedDaVinciRecordTransformerStats recordTransformerStats) {
+    this.recordTransformerStats = recordTransformerStats;
   }
 
   @VisibleForTesting
   public RecordDeserializer<K> getKeyDeserializer() {
     return keyDeserializer;
   }
+
+  /**
+   * Stops the recovery scan threads, if any.
+   */
+  @Override
+  public void close() {
+    recoveryScanExecutor.ifPresent(ExecutorService::shutdownNow);
+  }
 }
@@ -5,6 +5,7 @@ import com.linkedin.davinci.store.StorageEngine;
 import com.linkedin.venice.annotation.Experimental;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.kafka.protocol.ControlMessage;
+import com.linkedin.venice.kafka.protocol.enums.ControlMessageType;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.pubsub.PubSubContext;
@@ -50,6 +51,11 @@ public class InternalDaVinciRecordTransformer<K, V, O> extends DaVinciRecordTran
     this.recordTransformer = recordTransformer;
     this.startLatchConsumptionLatch =
         new CountDownLatch(internalRecordTransformerConfig.getStartConsumptionLatchCount());
+    // The recovery is run by the utility of the user's transformer, check internalOnRecovery
+    DaVinciRecordTransformerUtility recordTransformerUtility = recordTransformer.getRecordTransformerUtility();
+    if (recordTransformerUtility != null) {
+      recordTransformerUtility.setRecordTransformerStats(internalRecordTransformerConfig.getRecordTransformerStats());
+    }
   }
 
   @Override
@@ -114,13 +120,16 @@ public class InternalDaVinciRecordTransformer<K, V, O> extends DaVinciRecordTran
 
   /**
    * On receiving a control message for a given partition and offset, we will process it here.
-   * It is used for Version Specific CDC.
+   * It is used for Version Specific CDC, and to notify the transformer of the end of push.
    */
   public void onControlMessage(
       int partition,
       PubSubPosition offset,
       ControlMessage controlMessage,
       long pubSubMessageTimestamp) {
+    if (controlMessage.getControlMessageType() == ControlMessageType.END_OF_PUSH.getValue()) {
+      this.recordTransformer.onEndOfPush(partition);
+    }
     if (this.recordTransformer instanceof VeniceChangelogConsumerDaVinciRecordTransformerImpl.DaVinciRecordTransformerChangelogConsumer) {
       ((VeniceChangelogConsumerDaVinciRecordTransformerImpl.DaVinciRecordTransformerChangelogConsumer) this.recordTransformer)
           .onControlMessage(partition, offset, controlMessage, pubSubMessageTimestamp);
@@ -169,6 +178,13 @@ public class InternalDaVinciRecordTransformer<K, V, O> extends DaVinciRecordTran
 
   @Override
   public void close() throws IOException {
-    this.recordTransformer.close();
+    try {
+      this.recordTransformer.close();
+    } finally {
+      DaVinciRecordTransformerUtility recordTransformerUtility = recordTransformer.getRecordTransformerUtility();
+      if (recordTransformerUtility != null) {
+        recordTransformerUtility.close();
+      }
+    }
   }
 }
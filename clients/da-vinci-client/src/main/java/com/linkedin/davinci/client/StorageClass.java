@@ -20,5 +20,17 @@ public enum StorageClass {
    * 4. At serving time, all the read request will be served out of memory and internally, RocksDB in DaVinci is using
    * mmap to bring the on-disk data files into RAM.
    */
-  MEMORY_BACKED_BY_DISK
+  MEMORY_BACKED_BY_DISK,
+  /**
+   * The mode has the following implications:
+   * 1. Keep all the data on disk like {@link #DISK}.
+   * 2. Keep the values of the hottest keys in an in-memory tier in front of the disk, which is shared by all the
+   * stores of the application and bounded by
+   * {@link com.linkedin.venice.ConfigKeys#DA_VINCI_HOT_TIER_CAPACITY_IN_BYTES}.
+   * The keys are admitted by their access frequency, so the occasional reads won't evict the hot keys.
+   * 3. The in-memory tier is updated by the ingestion along with the disk, so it is always consistent with the disk.
+   * 4. This mode is recommended for the stores with a skewed access pattern, which are too large to be kept fully in
+   * RAM, but need a latency close to {@link #MEMORY_BACKED_BY_DISK}.
+   */
+  TIERED
 }
@@ -29,6 +29,8 @@ import static com.linkedin.venice.ConfigKeys.DAVINCI_VALIDATE_SPECIFIC_SCHEMA_EN
 import static com.linkedin.venice.ConfigKeys.DA_VINCI_CURRENT_VERSION_BOOTSTRAPPING_QUOTA_BYTES_PER_SECOND;
 import static com.linkedin.venice.ConfigKeys.DA_VINCI_CURRENT_VERSION_BOOTSTRAPPING_QUOTA_RECORDS_PER_SECOND;
 import static com.linkedin.venice.ConfigKeys.DA_VINCI_CURRENT_VERSION_BOOTSTRAPPING_SPEEDUP_ENABLED;
+import static com.linkedin.venice.ConfigKeys.DA_VINCI_HOT_TIER_CAPACITY_IN_BYTES;
+import static com.linkedin.venice.ConfigKeys.DA_VINCI_HOT_TIER_ENABLED;
 import static com.linkedin.venice.ConfigKeys.DEFAULT_MAX_RECORD_SIZE_BYTES;
 import static com.linkedin.venice.ConfigKeys.DIV_PRODUCER_STATE_MAX_AGE_MS;
 import static com.linkedin.venice.ConfigKeys.ENABLE_GRPC_READ_SERVER;
@@ -69,6 +71,12 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_PRINCIPAL_NAME;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_INGESTION_STORAGE_LOOKUP_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_THREAD_POOL_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_CONCURRENCY_LIMITER_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_CONCURRENCY_LIMITER_INITIAL_LIMIT;
+import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_CONCURRENCY_LIMITER_MAX_LIMIT;
+import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_CONCURRENCY_LIMITER_MIN_LIMIT;
+import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_CONCURRENCY_LIMITER_RTT_TOLERANCE;
+import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_CONCURRENCY_LIMITER_SAMPLE_WINDOW_IN_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_THROTTLER_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_THROTTLER_MULTI_GET_LATENCY_THRESHOLD;
 import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_THROTTLER_READ_COMPUTE_GET_LATENCY_THRESHOLD;
@@ -79,10 +87,20 @@ import static com.linkedin.venice.ConfigKeys.SERVER_BATCH_REPORT_END_OF_INCREMEN
 import static com.linkedin.venice.ConfigKeys.SERVER_BLOB_TRANSFER_ADAPTIVE_THROTTLER_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_BLOB_TRANSFER_ADAPTIVE_THROTTLER_UPDATE_PERCENTAGE;
 import static com.linkedin.venice.ConfigKeys.SERVER_BLOCKING_QUEUE_TYPE;
+import static com.linkedin.venice.ConfigKeys.SERVER_BLOCK_CACHE_WARMUP_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_BLOCK_CACHE_WARMUP_HOT_KEY_COUNT_PER_STORE;
+import static com.linkedin.venice.ConfigKeys.SERVER_BLOCK_CACHE_WARMUP_KEY_SAMPLING_INTERVAL;
+import static com.linkedin.venice.ConfigKeys.SERVER_BLOCK_CACHE_WARMUP_MAX_READS_PER_SECOND;
 import static com.linkedin.venice.ConfigKeys.SERVER_CHANNEL_OPTION_WRITE_BUFFER_WATERMARK_HIGH_BYTES;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_FAST_AVRO_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_QUEUE_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_THREAD_NUM;
+import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_PARTITION_BALANCER_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_PARTITION_BALANCER_IMBALANCE_THRESHOLD;
+import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_PARTITION_BALANCER_INTERVAL_IN_SECONDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_PARTITION_BALANCER_LAG_THRESHOLD;
+import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_PARTITION_BALANCER_MAX_MIGRATIONS_PER_RUN;
+import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_PARTITION_BALANCER_PARTITION_COOLDOWN_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_POLL_TRACKER_STALE_THRESHOLD_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_POOL_ALLOCATION_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_POOL_SIZE_FOR_CURRENT_VERSION_AA_WC_LEADER;
@@ -183,6 +201,10 @@ import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_INTERVAL_IN_MILLIS;
 import static com.linkedin.venice.ConfigKeys.SERVER_READ_OTEL_STATS_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_READ_QUOTA_INITIALIZATION_FALLBACK_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_REQUEST_SCHEDULER_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_REQUEST_SCHEDULER_QUEUE_DELAY_SLO_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_REQUEST_SCHEDULER_STORE_TO_QUEUE_DELAY_SLO_MS_MAP;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_REQUEST_SCHEDULER_STORE_TO_WEIGHT_MAP;
 import static com.linkedin.venice.ConfigKeys.SERVER_RECORD_LEVEL_METRICS_WHEN_BOOTSTRAPPING_CURRENT_VERSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_RECORD_LEVEL_TIMESTAMP_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_CONSUMER_CONFIG_PREFIX;
@@ -194,6 +216,9 @@ import static com.linkedin.venice.ConfigKeys.SERVER_RESUBSCRIPTION_CHECK_INTERVA
 import static com.linkedin.venice.ConfigKeys.SERVER_RESUBSCRIPTION_TRIGGERED_BY_VERSION_INGESTION_CONTEXT_CHANGE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_ROCKSDB_STORAGE_CONFIG_CHECK_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_ROUTER_CONNECTION_WARMING_DELAY_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_SCAN_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_SCAN_MAX_BYTES_PER_REQUEST;
+import static com.linkedin.venice.ConfigKeys.SERVER_SCAN_MAX_RECORDS_PER_REQUEST;
 import static com.linkedin.venice.ConfigKeys.SERVER_SCHEMA_FAST_CLASS_WARMUP_TIMEOUT;
 import static com.linkedin.venice.ConfigKeys.SERVER_SCHEMA_PRESENCE_CHECK_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_CONSUMER_ASSIGNMENT_STRATEGY;
@@ -494,6 +519,17 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final boolean enableDatabaseMemoryStats;
 
   private final Map<String, Integer> storeToEarlyTerminationThresholdMSMap;
+  private final boolean readRequestSchedulerEnabled;
+  private final Map<String, Integer> readRequestSchedulerStoreToWeightMap;
+  private final int readRequestSchedulerQueueDelaySloMs;
+  private final Map<String, Integer> readRequestSchedulerStoreToQueueDelaySloMsMap;
+  private final boolean blockCacheWarmupEnabled;
+  private final int blockCacheWarmupHotKeyCountPerStore;
+  private final int blockCacheWarmupKeySamplingInterval;
+  private final long blockCacheWarmupMaxReadsPerSecond;
+  private final boolean scanEnabled;
+  private final int scanMaxRecordsPerRequest;
+  private final long scanMaxBytesPerRequest;
 
   private final int databaseLookupQueueCapacity;
   private final int computeQueueCapacity;
@@ -655,6 +691,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final boolean daVinciCurrentVersionBootstrappingSpeedupEnabled;
   private final long daVinciCurrentVersionBootstrappingQuotaRecordsPerSecond;
   private final long daVinciCurrentVersionBootstrappingQuotaBytesPerSecond;
+  private final boolean daVinciHotTierEnabled;
+  private final long daVinciHotTierCapacityInBytes;
   private final boolean resubscriptionTriggeredByVersionIngestionContextChangeEnabled;
   private final int resubscriptionCheckIntervalInSeconds;
   private final int defaultMaxRecordSizeBytes;
@@ -685,6 +723,12 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final int loadControllerSingleGetLatencyAcceptThresholdMs;
   private final int loadControllerMultiGetLatencyAcceptThresholdMs;
   private final int loadControllerComputeLatencyAcceptThresholdMs;
+  private final boolean adaptiveConcurrencyLimiterEnabled;
+  private final int adaptiveConcurrencyLimiterInitialLimit;
+  private final int adaptiveConcurrencyLimiterMinLimit;
+  private final int adaptiveConcurrencyLimiterMaxLimit;
+  private final double adaptiveConcurrencyLimiterRttTolerance;
+  private final long adaptiveConcurrencyLimiterSampleWindowMs;
 
   private final List<Double> defaultConsumerPoolLimitFactorsList =
       Arrays.asList(0.4D, 0.6D, 0.8D, 1.0D, 1.2D, 1.4D, 1.6D);
@@ -706,6 +750,12 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final boolean inactiveTopicPartitionCheckerEnabled;
   private final int inactiveTopicPartitionCheckerInternalInSeconds;
   private final int inactiveTopicPartitionCheckerThresholdInSeconds;
+  private final boolean consumerPartitionBalancerEnabled;
+  private final int consumerPartitionBalancerIntervalInSeconds;
+  private final double consumerPartitionBalancerImbalanceThreshold;
+  private final long consumerPartitionBalancerLagThreshold;
+  private final int consumerPartitionBalancerPartitionCooldownInSeconds;
+  private final int consumerPartitionBalancerMaxMigrationsPerRun;
 
   private final boolean lagBasedReplicaAutoResubscribeEnabled;
   private final int lagBasedReplicaAutoResubscribeIntervalInSeconds;
@@ -909,6 +959,21 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     storeToEarlyTerminationThresholdMSMapProp.forEach(
         (storeName, thresholdStr) -> storeToEarlyTerminationThresholdMSMap
             .put(storeName, Integer.parseInt(thresholdStr.trim())));
+    readRequestSchedulerEnabled = serverProperties.getBoolean(SERVER_READ_REQUEST_SCHEDULER_ENABLED, false);
+    readRequestSchedulerStoreToWeightMap = parseStoreToIntMap(
+        serverProperties.getMap(SERVER_READ_REQUEST_SCHEDULER_STORE_TO_WEIGHT_MAP, Collections.emptyMap()));
+    readRequestSchedulerQueueDelaySloMs = serverProperties.getInt(SERVER_READ_REQUEST_SCHEDULER_QUEUE_DELAY_SLO_MS, 0);
+    readRequestSchedulerStoreToQueueDelaySloMsMap = parseStoreToIntMap(
+        serverProperties
+            .getMap(SERVER_READ_REQUEST_SCHEDULER_STORE_TO_QUEUE_DELAY_SLO_MS_MAP, Collections.emptyMap()));
+    blockCacheWarmupEnabled = serverProperties.getBoolean(SERVER_BLOCK_CACHE_WARMUP_ENABLED, false);
+    blockCacheWarmupHotKeyCountPerStore =
+        serverProperties.getInt(SERVER_BLOCK_CACHE_WARMUP_HOT_KEY_COUNT_PER_STORE, 10000);
+    blockCacheWarmupKeySamplingInterval = serverProperties.getInt(SERVER_BLOCK_CACHE_WARMUP_KEY_SAMPLING_INTERVAL, 100);
+    blockCacheWarmupMaxReadsPerSecond = serverProperties.getLong(SERVER_BLOCK_CACHE_WARMUP_MAX_READS_PER_SECOND, 10000);
+    scanEnabled = serverProperties.getBoolean(SERVER_SCAN_ENABLED, false);
+    scanMaxRecordsPerRequest = serverProperties.getInt(SERVER_SCAN_MAX_RECORDS_PER_REQUEST, 1000);
+    scanMaxBytesPerRequest = serverProperties.getSizeInBytes(SERVER_SCAN_MAX_BYTES_PER_REQUEST, 4 * 1024 * 1024);
     databaseLookupQueueCapacity = serverProperties.getInt(SERVER_DATABASE_LOOKUP_QUEUE_CAPACITY, Integer.MAX_VALUE);
     computeQueueCapacity = serverProperties.getInt(SERVER_COMPUTE_QUEUE_CAPACITY, Integer.MAX_VALUE);
     helixHybridStoreQuotaEnabled = serverProperties.getBoolean(HELIX_HYBRID_STORE_QUOTA_ENABLED, false);
@@ -1120,6 +1185,9 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         serverProperties.getLong(DA_VINCI_CURRENT_VERSION_BOOTSTRAPPING_QUOTA_RECORDS_PER_SECOND, -1);
     daVinciCurrentVersionBootstrappingQuotaBytesPerSecond =
         serverProperties.getSizeInBytes(DA_VINCI_CURRENT_VERSION_BOOTSTRAPPING_QUOTA_BYTES_PER_SECOND, -1);
+    daVinciHotTierEnabled = serverProperties.getBoolean(DA_VINCI_HOT_TIER_ENABLED, false);
+    daVinciHotTierCapacityInBytes =
+        serverProperties.getSizeInBytes(DA_VINCI_HOT_TIER_CAPACITY_IN_BYTES, 256 * 1024 * 1024L);
     resubscriptionTriggeredByVersionIngestionContextChangeEnabled =
         serverProperties.getBoolean(SERVER_RESUBSCRIPTION_TRIGGERED_BY_VERSION_INGESTION_CONTEXT_CHANGE_ENABLED, false);
     resubscriptionCheckIntervalInSeconds = serverProperties.getInt(SERVER_RESUBSCRIPTION_CHECK_INTERVAL_IN_SECONDS, 60);
@@ -1197,6 +1265,15 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         serverProperties.getInt(SERVER_LOAD_CONTROLLER_MULTI_GET_LATENCY_ACCEPT_THRESHOLD_IN_MS, 100);
     loadControllerComputeLatencyAcceptThresholdMs =
         serverProperties.getInt(SERVER_LOAD_CONTROLLER_COMPUTE_LATENCY_ACCEPT_THRESHOLD_IN_MS, 100);
+    adaptiveConcurrencyLimiterEnabled = serverProperties.getBoolean(SERVER_ADAPTIVE_CONCURRENCY_LIMITER_ENABLED, false);
+    adaptiveConcurrencyLimiterInitialLimit =
+        serverProperties.getInt(SERVER_ADAPTIVE_CONCURRENCY_LIMITER_INITIAL_LIMIT, 200);
+    adaptiveConcurrencyLimiterMinLimit = serverProperties.getInt(SERVER_ADAPTIVE_CONCURRENCY_LIMITER_MIN_LIMIT, 20);
+    adaptiveConcurrencyLimiterMaxLimit = serverProperties.getInt(SERVER_ADAPTIVE_CONCURRENCY_LIMITER_MAX_LIMIT, 2000);
+    adaptiveConcurrencyLimiterRttTolerance =
+        serverProperties.getDouble(SERVER_ADAPTIVE_CONCURRENCY_LIMITER_RTT_TOLERANCE, 1.5);
+    adaptiveConcurrencyLimiterSampleWindowMs =
+        serverProperties.getLong(SERVER_ADAPTIVE_CONCURRENCY_LIMITER_SAMPLE_WINDOW_IN_MS, 1000);
     consumerPollTrackerStaleThresholdInSeconds = serverProperties
         .getLong(SERVER_CONSUMER_POLL_TRACKER_STALE_THRESHOLD_IN_SECONDS, TimeUnit.MINUTES.toSeconds(15));
     daVinciRecordTransformerOnRecoveryThreadPoolSize = serverProperties
@@ -1214,6 +1291,18 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         serverProperties.getInt(SERVER_INACTIVE_TOPIC_PARTITION_CHECKER_INTERNAL_IN_SECONDS, 100);
     this.inactiveTopicPartitionCheckerThresholdInSeconds =
         serverProperties.getInt(SERVER_INACTIVE_TOPIC_PARTITION_CHECKER_THRESHOLD_IN_SECONDS, 5);
+    this.consumerPartitionBalancerEnabled =
+        serverProperties.getBoolean(SERVER_CONSUMER_PARTITION_BALANCER_ENABLED, false);
+    this.consumerPartitionBalancerIntervalInSeconds =
+        serverProperties.getInt(SERVER_CONSUMER_PARTITION_BALANCER_INTERVAL_IN_SECONDS, 60);
+    this.consumerPartitionBalancerImbalanceThreshold =
+        serverProperties.getDouble(SERVER_CONSUMER_PARTITION_BALANCER_IMBALANCE_THRESHOLD, 0.5d);
+    this.consumerPartitionBalancerLagThreshold =
+        serverProperties.getLong(SERVER_CONSUMER_PARTITION_BALANCER_LAG_THRESHOLD, 100000L);
+    this.consumerPartitionBalancerPartitionCooldownInSeconds =
+        serverProperties.getInt(SERVER_CONSUMER_PARTITION_BALANCER_PARTITION_COOLDOWN_IN_SECONDS, 600);
+    this.consumerPartitionBalancerMaxMigrationsPerRun =
+        serverProperties.getInt(SERVER_CONSUMER_PARTITION_BALANCER_MAX_MIGRATIONS_PER_RUN, 1);
     this.lagBasedReplicaAutoResubscribeEnabled =
         serverProperties.getBoolean(SERVER_LAG_BASED_REPLICA_AUTO_RESUBSCRIBE_ENABLED, false);
     this.lagBasedReplicaAutoResubscribeIntervalInSeconds =
@@ -1548,6 +1637,56 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return storeToEarlyTerminationThresholdMSMap;
   }
 
+  public boolean isReadRequestSchedulerEnabled() {
+    return readRequestSchedulerEnabled;
+  }
+
+  public Map<String, Integer> getReadRequestSchedulerStoreToWeightMap() {
+    return readRequestSchedulerStoreToWeightMap;
+  }
+
+  public int getReadRequestSchedulerQueueDelaySloMs() {
+    return readRequestSchedulerQueueDelaySloMs;
+  }
+
+  public Map<String, Integer> getReadRequestSchedulerStoreToQueueDelaySloMsMap() {
+    return readRequestSchedulerStoreToQueueDelaySloMsMap;
+  }
+
+  public boolean isBlockCacheWarmupEnabled() {
+    return blockCacheWarmupEnabled;
+  }
+
+  public int getBlockCacheWarmupHotKeyCountPerStore() {
+    return blockCacheWarmupHotKeyCountPerStore;
+  }
+
+  public int getBlockCacheWarmupKeySamplingInterval() {
+    return blockCacheWarmupKeySamplingInterval;
+  }
+
+  public long getBlockCacheWarmupMaxReadsPerSecond() {
+    return blockCacheWarmupMaxReadsPerSecond;
+  }
+
+  public boolean isScanEnabled() {
+    return scanEnabled;
+  }
+
+  public int getScanMaxRecordsPerRequest() {
+    return scanMaxRecordsPerRequest;
+  }
+
+  public long getScanMaxBytesPerRequest() {
+    return scanMaxBytesPerRequest;
+  }
+
+  private static Map<String, Integer> parseStoreToIntMap(Map<String, String> storeToValueMap) {
+    Map<String, Integer> result = new HashMap<>();
+    storeToValueMap.forEach((storeName, valueStr) -> result.put(storeName, Integer.parseInt(valueStr.trim())));
+    return result;
+  }
+
   public int getDatabaseLookupQueueCapacity() {
     return databaseLookupQueueCapacity;
   }
@@ -2016,6 +2155,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return daVinciCurrentVersionBootstrappingQuotaBytesPerSecond;
   }
 
+  public boolean isDaVinciHotTierEnabled() {
+    return daVinciHotTierEnabled;
+  }
+
+  public long getDaVinciHotTierCapacityInBytes() {
+    return daVinciHotTierCapacityInBytes;
+  }
+
   public boolean isResubscriptionTriggeredByVersionIngestionContextChangeEnabled() {
     return resubscriptionTriggeredByVersionIngestionContextChangeEnabled;
   }
@@ -2156,6 +2303,30 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return loadControllerComputeLatencyAcceptThresholdMs;
   }
 
+  public boolean isAdaptiveConcurrencyLimiterEnabled() {
+    return adaptiveConcurrencyLimiterEnabled;
+  }
+
+  public int getAdaptiveConcurrencyLimiterInitialLimit() {
+    return adaptiveConcurrencyLimiterInitialLimit;
+  }
+
+  public int getAdaptiveConcurrencyLimiterMinLimit() {
+    return adaptiveConcurrencyLimiterMinLimit;
+  }
+
+  public int getAdaptiveConcurrencyLimiterMaxLimit() {
+    return adaptiveConcurrencyLimiterMaxLimit;
+  }
+
+  public double getAdaptiveConcurrencyLimiterRttTolerance() {
+    return adaptiveConcurrencyLimiterRttTolerance;
+  }
+
+  public long getAdaptiveConcurrencyLimiterSampleWindowMs() {
+    return adaptiveConcurrencyLimiterSampleWindowMs;
+  }
+
   public long getConsumerPollTrackerStaleThresholdSeconds() {
     return consumerPollTrackerStaleThresholdInSeconds;
   }
@@ -2192,6 +2363,30 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return inactiveTopicPartitionCheckerEnabled;
   }
 
+  public boolean isConsumerPartitionBalancerEnabled() {
+    return consumerPartitionBalancerEnabled;
+  }
+
+  public int getConsumerPartitionBalancerIntervalInSeconds() {
+    return consumerPartitionBalancerIntervalInSeconds;
+  }
+
+  public double getConsumerPartitionBalancerImbalanceThreshold() {
+    return consumerPartitionBalancerImbalanceThreshold;
+  }
+
+  public long getConsumerPartitionBalancerLagThreshold() {
+    return consumerPartitionBalancerLagThreshold;
+  }
+
+  public int getConsumerPartitionBalancerPartitionCooldownInSeconds() {
+    return consumerPartitionBalancerPartitionCooldownInSeconds;
+  }
+
+  public int getConsumerPartitionBalancerMaxMigrationsPerRun() {
+    return consumerPartitionBalancerMaxMigrationsPerRun;
+  }
+
   public boolean isLagBasedReplicaAutoResubscribeEnabled() {
     return lagBasedReplicaAutoResubscribeEnabled;
   }
@@ -35,6 +35,7 @@ import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.lazy.Lazy;
 import com.linkedin.venice.views.MaterializedView;
+import com.linkedin.venice.views.ViewUtils;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -663,7 +664,7 @@ public class VeniceChangelogConsumerDaVinciRecordTransformerImpl<K, V>
       super(storeName, storeVersion, keySchema, inputValueSchema, outputValueSchema, recordTransformerConfig);
 
       // Determine the topic name based on whether a view name is provided
-      if (viewName != null && !viewName.isEmpty() && getViewClass().equals(MaterializedView.class.getCanonicalName())) {
+      if (viewName != null && !viewName.isEmpty() && ViewUtils.isMaterializedView(getViewClass())) {
         this.topicName =
             MaterializedView.composeTopicName(changelogClientConfig.getStoreName(), getStoreVersion(), viewName);
       } else {
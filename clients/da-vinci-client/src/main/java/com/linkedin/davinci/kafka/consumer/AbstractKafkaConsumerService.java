@@ -30,6 +30,14 @@ public abstract class AbstractKafkaConsumerService extends AbstractVeniceService
 
   public abstract boolean hasAnySubscriptionFor(PubSubTopic versionTopic);
 
+  /**
+   * Pauses the consumption of the given topic-partition, which is kept paused if the topic-partition is moved to
+   * another consumer of the pool, until {@link #resume} or the unsubscription.
+   */
+  public abstract void pause(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition);
+
+  public abstract void resume(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition);
+
   public abstract long getMaxElapsedTimeMSSinceLastPollInConsumerPool();
 
   public abstract void startConsumptionIntoDataReceiver(
@@ -702,6 +702,7 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
         int oldValueSchemaId =
             oldValueBB == null ? -1 : mergeConflictResultWrapper.getOldValueProvider().get().writerSchemaId();
         Lazy<GenericRecord> valueProvider = mergeConflictResultWrapper.getValueProvider();
+        Lazy<GenericRecord> oldValueRecordProvider = mergeConflictResultWrapper.getOldValueRecordProvider();
         // The helper function takes in a BiFunction but the parameter for view partition set will never be used and
         // always null for A/A ingestion of the RT topic.
         queueUpVersionTopicWritesWithViewWriters(
@@ -713,7 +714,8 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
                 mergeConflictResult.getValueSchemaId(),
                 oldValueSchemaId,
                 mergeConflictResult.getRmdRecord(),
-                valueProvider),
+                valueProvider,
+                oldValueRecordProvider),
             null,
             produceToVersionTopic);
       } else {
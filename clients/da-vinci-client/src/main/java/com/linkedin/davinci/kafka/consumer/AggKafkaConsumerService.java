@@ -565,22 +565,14 @@ public class AggKafkaConsumerService extends AbstractVeniceService {
   }
 
   void pauseConsumerFor(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
-    PubSubConsumerAdapter consumer;
     for (AbstractKafkaConsumerService consumerService: kafkaServerToConsumerServiceMap.values()) {
-      consumer = consumerService.getConsumerAssignedToVersionTopicPartition(versionTopic, pubSubTopicPartition);
-      if (consumer != null) {
-        consumer.pause(pubSubTopicPartition);
-      }
+      consumerService.pause(versionTopic, pubSubTopicPartition);
     }
   }
 
   void resumeConsumerFor(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
-    PubSubConsumerAdapter consumer;
     for (AbstractKafkaConsumerService consumerService: kafkaServerToConsumerServiceMap.values()) {
-      consumer = consumerService.getConsumerAssignedToVersionTopicPartition(versionTopic, pubSubTopicPartition);
-      if (consumer != null) {
-        consumer.resume(pubSubTopicPartition);
-      }
+      consumerService.resume(versionTopic, pubSubTopicPartition);
     }
   }
 
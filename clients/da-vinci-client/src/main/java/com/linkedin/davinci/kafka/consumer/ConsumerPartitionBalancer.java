@@ -0,0 +1,210 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.utils.IndexedMap;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.service.AbstractVeniceService;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.LogContext;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A service that periodically moves the busy topic-partitions away from the most loaded consumer of a
+ * {@link KafkaConsumerService} pool to the least loaded one, since a topic-partition is assigned to a consumer once at
+ * subscription time, and the traffic of the topic-partitions can change a lot afterwards.
+ *
+ * <p>The load of a consumer is the sum of the byte rates of its topic-partitions, taken from
+ * {@link ConsumptionTask#getPartitionStats(PubSubTopicPartition)}. In every run, the balancer only moves a
+ * topic-partition when:
+ * <ul>
+ *   <li>The load of the most loaded consumer exceeds the average load of the pool by more than the imbalance
+ *       threshold</li>
+ *   <li>The most loaded consumer has at least one topic-partition lagging by more than the lag threshold, since a busy
+ *       consumer which keeps up doesn't need any help</li>
+ *   <li>The topic-partition hasn't been moved within the cooldown period, so the same topic-partition won't bounce
+ *       between consumers</li>
+ * </ul>
+ *
+ * <p>Among the eligible topic-partitions, the lagging ones are preferred, and the one with the highest byte rate which
+ * doesn't make the target consumer busier than the source consumer is moved. The move itself is done by
+ * {@link KafkaConsumerService#migratePartition}.
+ */
+public class ConsumerPartitionBalancer extends AbstractVeniceService {
+  private static final Logger LOGGER = LogManager.getLogger(ConsumerPartitionBalancer.class);
+
+  private final KafkaConsumerService consumerService;
+  private final long intervalInMs;
+  private final double imbalanceThreshold;
+  private final long lagThreshold;
+  private final long partitionCooldownInMs;
+  private final int maxMigrationsPerRun;
+  private final Time time;
+  private final ScheduledExecutorService executorService;
+
+  /** The last time each topic-partition was moved, for the topic-partitions within the cooldown period */
+  private final Map<PubSubTopicPartition, Long> lastMigrationTimeMap = new VeniceConcurrentHashMap<>();
+
+  public ConsumerPartitionBalancer(
+      KafkaConsumerService consumerService,
+      long intervalInSeconds,
+      double imbalanceThreshold,
+      long lagThreshold,
+      long partitionCooldownInSeconds,
+      int maxMigrationsPerRun,
+      Time time,
+      LogContext logContext) {
+    this.consumerService = consumerService;
+    this.intervalInMs = TimeUnit.SECONDS.toMillis(intervalInSeconds);
+    this.imbalanceThreshold = imbalanceThreshold;
+    this.lagThreshold = lagThreshold;
+    this.partitionCooldownInMs = TimeUnit.SECONDS.toMillis(partitionCooldownInSeconds);
+    this.maxMigrationsPerRun = maxMigrationsPerRun;
+    this.time = time;
+    this.executorService =
+        Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("ConsumerPartitionBalancer", logContext));
+  }
+
+  @Override
+  public boolean startInner() throws Exception {
+    executorService.scheduleWithFixedDelay(this::balance, intervalInMs, intervalInMs, TimeUnit.MILLISECONDS);
+    return true;
+  }
+
+  @Override
+  public void stopInner() throws Exception {
+    if (!executorService.isShutdown()) {
+      executorService.shutdown();
+      try {
+        if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
+          executorService.shutdownNow();
+        }
+      } catch (InterruptedException e) {
+        executorService.shutdownNow();
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Runs one round of balancing, which moves up to {@code maxMigrationsPerRun} topic-partitions.
+   *
+   * <p>The loads are only computed once per round, and adjusted by the byte rates of the moved topic-partitions, since
+   * the rates of a moved topic-partition start from scratch on the target consumer.
+   */
+  void balance() {
+    try {
+      long currentTimeMs = time.getMilliseconds();
+      lastMigrationTimeMap.values()
+          .removeIf(migrationTimeMs -> currentTimeMs - migrationTimeMs >= partitionCooldownInMs);
+
+      IndexedMap<SharedKafkaConsumer, ConsumptionTask> consumerToConsumptionTask =
+          consumerService.getConsumerToConsumptionTask();
+      if (consumerToConsumptionTask.size() < 2) {
+        return;
+      }
+      Map<SharedKafkaConsumer, Double> consumerToLoad = new HashMap<>(consumerToConsumptionTask.size());
+      for (Map.Entry<SharedKafkaConsumer, ConsumptionTask> entry: consumerToConsumptionTask.entrySet()) {
+        double load = 0;
+        for (PubSubTopicPartition topicPartition: entry.getKey().getAssignment()) {
+          load += entry.getValue().getPartitionStats(topicPartition).getBytesRate();
+        }
+        consumerToLoad.put(entry.getKey(), load);
+      }
+
+      for (int i = 0; i < maxMigrationsPerRun; i++) {
+        if (!migrateOnePartition(consumerToConsumptionTask, consumerToLoad, currentTimeMs)) {
+          break;
+        }
+      }
+    } catch (Exception e) {
+      // Log the exception to avoid breaking the scheduled execution
+      LOGGER.warn("Error during consumer partition balancing", e);
+    }
+  }
+
+  private boolean migrateOnePartition(
+      IndexedMap<SharedKafkaConsumer, ConsumptionTask> consumerToConsumptionTask,
+      Map<SharedKafkaConsumer, Double> consumerToLoad,
+      long currentTimeMs) {
+    SharedKafkaConsumer sourceConsumer = null;
+    SharedKafkaConsumer targetConsumer = null;
+    double totalLoad = 0;
+    for (Map.Entry<SharedKafkaConsumer, Double> entry: consumerToLoad.entrySet()) {
+      totalLoad += entry.getValue();
+      if (sourceConsumer == null || entry.getValue() > consumerToLoad.get(sourceConsumer)) {
+        sourceConsumer = entry.getKey();
+      }
+      if (targetConsumer == null || entry.getValue() < consumerToLoad.get(targetConsumer)) {
+        targetConsumer = entry.getKey();
+      }
+    }
+    double sourceLoad = consumerToLoad.get(sourceConsumer);
+    double targetLoad = consumerToLoad.get(targetConsumer);
+    double averageLoad = totalLoad / consumerToLoad.size();
+    if (sourceConsumer == targetConsumer || sourceLoad <= averageLoad * (1 + imbalanceThreshold)) {
+      return false;
+    }
+
+    ConsumptionTask sourceTask = consumerToConsumptionTask.get(sourceConsumer);
+    // Moving a topic-partition with more than half of the load difference makes the target busier than the source.
+    double maxBytesRateToMove = (sourceLoad - targetLoad) / 2;
+    boolean sourceLagging = lagThreshold <= 0;
+    PubSubTopicPartition candidate = null;
+    boolean candidateLagging = false;
+    double candidateBytesRate = 0;
+    for (PubSubTopicPartition topicPartition: sourceConsumer.getAssignment()) {
+      boolean lagging = sourceConsumer.getOffsetLag(topicPartition) > lagThreshold;
+      sourceLagging |= lagging;
+      ConsumptionTask.PartitionStats partitionStats = sourceTask.getPartitionStats(topicPartition);
+      double bytesRate = partitionStats.getBytesRate();
+      if (bytesRate <= 0 || bytesRate > maxBytesRateToMove || partitionStats.getLastDeliveredPosition() == null
+          || lastMigrationTimeMap.containsKey(topicPartition) || targetConsumer.hasSubscription(topicPartition)) {
+        continue;
+      }
+      if (candidate == null || (lagging && !candidateLagging)
+          || (lagging == candidateLagging && bytesRate > candidateBytesRate)) {
+        candidate = topicPartition;
+        candidateLagging = lagging;
+        candidateBytesRate = bytesRate;
+      }
+    }
+    if (!sourceLagging || candidate == null) {
+      return false;
+    }
+    PubSubTopic versionTopic = sourceTask.getDestinationIdentifier(candidate);
+    if (versionTopic == null) {
+      return false;
+    }
+
+    // The cooldown also applies to the failed moves, so a topic-partition which can't be moved isn't retried soon.
+    lastMigrationTimeMap.put(candidate, currentTimeMs);
+    LOGGER.info(
+        "Moving: {} with bytes rate: {} from {} with load: {} to {} with load: {}, average load of the pool: {}",
+        candidate,
+        candidateBytesRate,
+        sourceConsumer,
+        sourceLoad,
+        targetConsumer,
+        targetLoad,
+        averageLoad);
+    if (!consumerService.migratePartition(versionTopic, candidate, sourceConsumer, targetConsumer)) {
+      return false;
+    }
+    consumerToLoad.put(sourceConsumer, sourceLoad - candidateBytesRate);
+    consumerToLoad.put(targetConsumer, targetLoad + candidateBytesRate);
+    return true;
+  }
+
+  Map<PubSubTopicPartition, Long> getLastMigrationTimeMap() {
+    return lastMigrationTimeMap;
+  }
+}
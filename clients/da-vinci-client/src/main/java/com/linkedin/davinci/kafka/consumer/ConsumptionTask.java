@@ -4,6 +4,7 @@ import com.linkedin.davinci.ingestion.consumption.ConsumedDataReceiver;
 import com.linkedin.davinci.stats.AggKafkaConsumerServiceStats;
 import com.linkedin.davinci.stats.KafkaConsumerServiceStats;
 import com.linkedin.venice.pubsub.api.DefaultPubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubPosition;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.ExceptionUtils;
@@ -309,6 +310,10 @@ class ConsumptionTask implements Runnable {
     return dataReceiver == null ? null : dataReceiver.destinationIdentifier();
   }
 
+  ConsumedDataReceiver<List<DefaultPubSubMessage>> getDataReceiver(PubSubTopicPartition topicPartition) {
+    return dataReceiverMap.get(topicPartition);
+  }
+
   public PartitionStats getPartitionStats(PubSubTopicPartition topicPartition) {
     PartitionStats partitionStats = this.partitionToStatsMap.get(topicPartition);
     return partitionStats == null ? EMPTY_PARTITION_STATS : partitionStats;
@@ -411,10 +416,14 @@ class ConsumptionTask implements Runnable {
       }
       result.setMsgCount(msgCnt);
       result.setPayloadSize(payloadSize);
-      partitionToStatsMap.computeIfAbsent(pubSubTopicPartition, this::newPartitionStats)
-          .record(pollTimestamp, msgCnt, payloadSize);
+      LivePartitionStats partitionStats =
+          partitionToStatsMap.computeIfAbsent(pubSubTopicPartition, this::newPartitionStats);
+      partitionStats.record(pollTimestamp, msgCnt, payloadSize);
 
       receiver.write(messages);
+      if (msgCnt > 0) {
+        partitionStats.lastDeliveredPosition = messages.get(msgCnt - 1).getPosition();
+      }
     } catch (Exception e) {
       result.setError(e);
     }
@@ -434,6 +443,14 @@ class ConsumptionTask implements Runnable {
     public long getLastSuccessfulPollTimestamp() {
       return DEFAULT_TOPIC_PARTITION_NO_POLL_TIMESTAMP;
     }
+
+    /**
+     * @return the position of the last message handed over to the data receiver, or null if nothing has been delivered
+     *         yet, which is where the consumption resumes when the partition moves to another consumer.
+     */
+    public PubSubPosition getLastDeliveredPosition() {
+      return null;
+    }
   }
 
   /**
@@ -444,6 +461,7 @@ class ConsumptionTask implements Runnable {
     protected final Rate messageRate;
     protected final Rate bytesRate;
     protected long lastSuccessfulPollTimestamp;
+    protected volatile PubSubPosition lastDeliveredPosition;
 
     private LivePartitionStats(long lastSuccessfulPollTimestamp) {
       this.messageRate = new Rate();
@@ -468,6 +486,11 @@ class ConsumptionTask implements Runnable {
       return this.lastSuccessfulPollTimestamp;
     }
 
+    @Override
+    public PubSubPosition getLastDeliveredPosition() {
+      return this.lastDeliveredPosition;
+    }
+
     void record(long lastSuccessfulPollTimestamp, int messageCount, int bytesCount) {
       this.lastSuccessfulPollTimestamp = lastSuccessfulPollTimestamp;
       this.messageRate.record(messageCount, lastSuccessfulPollTimestamp);
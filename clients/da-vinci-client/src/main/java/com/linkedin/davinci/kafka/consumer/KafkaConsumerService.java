@@ -43,6 +43,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.IntConsumer;
 import java.util.function.LongSupplier;
 import java.util.function.Supplier;
@@ -90,6 +91,19 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
    */
   protected final Map<SharedKafkaConsumer, ReentrantLock> consumerToLocks = new HashMap<>();
 
+  /**
+   * The subscription changes requested by the ingestion tasks hold the read lock, while the partition migrations of the
+   * {@link ConsumerPartitionBalancer} hold the write lock, so a migration never races with a subscription change of the
+   * same topic-partition, which looks up the consumer before taking the per consumer lock.
+   */
+  private final ReentrantReadWriteLock subscriptionLock = new ReentrantReadWriteLock();
+
+  /**
+   * The paused topic-partitions, since the pause of a consumer doesn't survive the unsubscription, so it needs to be
+   * applied again when a topic-partition is moved to another consumer by {@link #migratePartition}.
+   */
+  private final Set<TopicPartitionForIngestion> pausedTopicPartitions = VeniceConcurrentHashMap.newKeySet();
+
   private RandomAccessDaemonThreadFactory threadFactory;
   private final Logger LOGGER;
   private final ExecutorService consumerExecutor;
@@ -102,6 +116,7 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
   private final int serverIngestionInfoLogLineLimit;
   protected final ConsumerPollTracker consumerPollTracker;
   protected final InactiveTopicPartitionChecker inactiveTopicPartitionChecker;
+  protected final ConsumerPartitionBalancer consumerPartitionBalancer;
   protected final PubSubContext pubSubContext;
 
   /**
@@ -226,6 +241,20 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
     } else {
       this.inactiveTopicPartitionChecker = null;
     }
+    if (serverConfig.isConsumerPartitionBalancerEnabled() && numOfConsumersPerKafkaCluster > 1) {
+      this.consumerPartitionBalancer = new ConsumerPartitionBalancer(
+          this,
+          serverConfig.getConsumerPartitionBalancerIntervalInSeconds(),
+          serverConfig.getConsumerPartitionBalancerImbalanceThreshold(),
+          serverConfig.getConsumerPartitionBalancerLagThreshold(),
+          serverConfig.getConsumerPartitionBalancerPartitionCooldownInSeconds(),
+          serverConfig.getConsumerPartitionBalancerMaxMigrationsPerRun(),
+          time,
+          serverConfig.getLogContext());
+      LOGGER.info("Created ConsumerPartitionBalancer for consumer pool type: {}", poolType);
+    } else {
+      this.consumerPartitionBalancer = null;
+    }
     serverIngestionInfoLogLineLimit = serverConfig.getServerIngestionInfoLogLineLimit();
     LOGGER.info("KafkaConsumerService was initialized with {} consumers.", numOfConsumersPerKafkaCluster);
   }
@@ -237,6 +266,17 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
       PubSubTopicPartition topicPartition) {
   }
 
+  /**
+   * May be overridden to restore the state cleaned up by {@link #handleUnsubscription} in sub-classes, since a
+   * topic-partition moved by {@link #migratePartition} is subscribed without going through
+   * {@link #pickConsumerForPartition(PubSubTopic, PubSubTopicPartition)}.
+   */
+  void handleResubscription(
+      SharedKafkaConsumer consumer,
+      PubSubTopic versionTopic,
+      PubSubTopicPartition topicPartition) {
+  }
+
   @Override
   public SharedKafkaConsumer getConsumerAssignedToVersionTopicPartition(
       PubSubTopic versionTopic,
@@ -276,106 +316,117 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
    */
   @Override
   public void unsubscribeAll(PubSubTopic versionTopic) {
-    versionTopicToTopicPartitionToConsumer.compute(versionTopic, (k, topicPartitionToConsumerMap) -> {
-      if (topicPartitionToConsumerMap != null) {
-        topicPartitionToConsumerMap.forEach((topicPartition, sharedConsumer) -> {
-          /**
-           * Refer {@link AbstractKafkaConsumerService#startConsumptionIntoDataReceiver} for avoiding race condition caused by
-           * setting data receiver and unsubscribing concurrently for the same topic partition on a shared consumer.
-           */
-          try (AutoCloseableLock ignored = AutoCloseableLock.of(consumerToLocks.get(sharedConsumer))) {
-            sharedConsumer.unSubscribe(topicPartition);
-            removeTopicPartitionFromConsumptionTask(sharedConsumer, topicPartition);
-          }
-          consumerPollTracker.removeTopicPartition(topicPartition);
-        });
-      }
-      return null;
-    });
-  }
-
-  /**
-   * Stop specific subscription associated with the given version topic.
-   */
-  @Override
-  public void unSubscribe(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition, long timeoutMs) {
-    SharedKafkaConsumer consumer = getConsumerAssignedToVersionTopicPartition(versionTopic, pubSubTopicPartition);
-    if (consumer != null) {
-      /**
-       * Refer {@link AbstractKafkaConsumerService#startConsumptionIntoDataReceiver} for avoiding race condition caused by
-       * setting data receiver and unsubscribing concurrently for the same topic partition on a shared consumer.
-       */
-      try (AutoCloseableLock ignored = AutoCloseableLock.of(consumerToLocks.get(consumer))) {
-        consumer.unSubscribe(pubSubTopicPartition, timeoutMs);
-        removeTopicPartitionFromConsumptionTask(consumer, pubSubTopicPartition);
-      }
-      consumerPollTracker.removeTopicPartition(pubSubTopicPartition);
+    try (AutoCloseableLock subscriptionReadLock = AutoCloseableLock.of(subscriptionLock.readLock())) {
       versionTopicToTopicPartitionToConsumer.compute(versionTopic, (k, topicPartitionToConsumerMap) -> {
         if (topicPartitionToConsumerMap != null) {
-          topicPartitionToConsumerMap.remove(pubSubTopicPartition);
-          return topicPartitionToConsumerMap.isEmpty() ? null : topicPartitionToConsumerMap;
-        } else {
-          return null;
+          topicPartitionToConsumerMap.forEach((topicPartition, sharedConsumer) -> {
+            /**
+             * Refer {@link AbstractKafkaConsumerService#startConsumptionIntoDataReceiver} for avoiding race condition
+             * caused by setting data receiver and unsubscribing concurrently for the same topic partition on a shared
+             * consumer.
+             */
+            try (AutoCloseableLock ignored = AutoCloseableLock.of(consumerToLocks.get(sharedConsumer))) {
+              sharedConsumer.unSubscribe(topicPartition);
+              removeTopicPartitionFromConsumptionTask(sharedConsumer, topicPartition);
+            }
+            consumerPollTracker.removeTopicPartition(topicPartition);
+            pausedTopicPartitions.remove(new TopicPartitionForIngestion(versionTopic, topicPartition));
+          });
         }
+        return null;
       });
     }
   }
 
+  /**
+   * Stop specific subscription associated with the given version topic.
+   */
   @Override
-  public void batchUnsubscribe(PubSubTopic versionTopic, Set<PubSubTopicPartition> topicPartitionsToUnSub) {
-    Map<SharedKafkaConsumer, Set<PubSubTopicPartition>> consumerUnSubTopicPartitionSet = new HashMap<>();
-    SharedKafkaConsumer consumer;
-    for (PubSubTopicPartition topicPartition: topicPartitionsToUnSub) {
-      consumer = getConsumerAssignedToVersionTopicPartition(versionTopic, topicPartition);
+  public void unSubscribe(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition, long timeoutMs) {
+    try (AutoCloseableLock subscriptionReadLock = AutoCloseableLock.of(subscriptionLock.readLock())) {
+      SharedKafkaConsumer consumer = getConsumerAssignedToVersionTopicPartition(versionTopic, pubSubTopicPartition);
       if (consumer != null) {
-        Set<PubSubTopicPartition> topicPartitionSet =
-            consumerUnSubTopicPartitionSet.computeIfAbsent(consumer, k -> new HashSet<>());
-        topicPartitionSet.add(topicPartition);
-      }
-      consumerPollTracker.removeTopicPartition(topicPartition);
-    }
-    /**
-     * Leverage {@link PubSubConsumerAdapter#batchUnsubscribe(Set)}.
-     * Per-consumer locks are independent, so unsubscriptions on different SharedKafkaConsumers run
-     * in parallel. This reduces the total time from N_consumers × waitAfterUnsubscribe_timeout
-     * (sequential) to a single waitAfterUnsubscribe_timeout (parallel), which is critical for fast
-     * StoreIngestionTask shutdown.
-     */
-    List<CompletableFuture<Void>> futures = new ArrayList<>(consumerUnSubTopicPartitionSet.size());
-    consumerUnSubTopicPartitionSet.forEach((sharedConsumer, tpSet) -> {
-      futures.add(CompletableFuture.runAsync(() -> {
-        ConsumptionTask task = consumerToConsumptionTask.get(sharedConsumer);
         /**
          * Refer {@link AbstractKafkaConsumerService#startConsumptionIntoDataReceiver} for avoiding race condition caused
          * by setting data receiver and unsubscribing concurrently for the same topic partition on a shared consumer.
          */
-        try (AutoCloseableLock ignored = AutoCloseableLock.of(consumerToLocks.get(sharedConsumer))) {
-          sharedConsumer.batchUnsubscribe(tpSet);
-          tpSet.forEach(task::removeDataReceiver);
+        try (AutoCloseableLock ignored = AutoCloseableLock.of(consumerToLocks.get(consumer))) {
+          consumer.unSubscribe(pubSubTopicPartition, timeoutMs);
+          removeTopicPartitionFromConsumptionTask(consumer, pubSubTopicPartition);
         }
-        tpSet.forEach(
-            tp -> versionTopicToTopicPartitionToConsumer.compute(versionTopic, (k, topicPartitionToConsumerMap) -> {
-              if (topicPartitionToConsumerMap != null) {
-                topicPartitionToConsumerMap.remove(tp);
-                return topicPartitionToConsumerMap.isEmpty() ? null : topicPartitionToConsumerMap;
-              } else {
-                return null;
-              }
-            }));
-      }, batchUnsubscribeExecutor));
-    });
-    long timeoutMs = SharedKafkaConsumer.DEFAULT_MAX_WAIT_MS + TimeUnit.SECONDS.toMillis(5);
-    try {
-      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(timeoutMs, TimeUnit.MILLISECONDS);
-    } catch (InterruptedException e) {
-      futures.forEach(f -> f.cancel(true));
-      Thread.currentThread().interrupt();
-    } catch (TimeoutException e) {
-      futures.forEach(f -> f.cancel(true));
-      LOGGER.warn("Batch unsubscribe for {} timed out after {}ms", versionTopic, timeoutMs, e);
-    } catch (ExecutionException e) {
-      futures.forEach(f -> f.cancel(true));
-      LOGGER.error("Batch unsubscribe for {} failed", versionTopic, e);
+        consumerPollTracker.removeTopicPartition(pubSubTopicPartition);
+        pausedTopicPartitions.remove(new TopicPartitionForIngestion(versionTopic, pubSubTopicPartition));
+        versionTopicToTopicPartitionToConsumer.compute(versionTopic, (k, topicPartitionToConsumerMap) -> {
+          if (topicPartitionToConsumerMap != null) {
+            topicPartitionToConsumerMap.remove(pubSubTopicPartition);
+            return topicPartitionToConsumerMap.isEmpty() ? null : topicPartitionToConsumerMap;
+          } else {
+            return null;
+          }
+        });
+      }
+    }
+  }
+
+  @Override
+  public void batchUnsubscribe(PubSubTopic versionTopic, Set<PubSubTopicPartition> topicPartitionsToUnSub) {
+    try (AutoCloseableLock subscriptionReadLock = AutoCloseableLock.of(subscriptionLock.readLock())) {
+      Map<SharedKafkaConsumer, Set<PubSubTopicPartition>> consumerUnSubTopicPartitionSet = new HashMap<>();
+      SharedKafkaConsumer consumer;
+      for (PubSubTopicPartition topicPartition: topicPartitionsToUnSub) {
+        consumer = getConsumerAssignedToVersionTopicPartition(versionTopic, topicPartition);
+        if (consumer != null) {
+          Set<PubSubTopicPartition> topicPartitionSet =
+              consumerUnSubTopicPartitionSet.computeIfAbsent(consumer, k -> new HashSet<>());
+          topicPartitionSet.add(topicPartition);
+        }
+        consumerPollTracker.removeTopicPartition(topicPartition);
+        pausedTopicPartitions.remove(new TopicPartitionForIngestion(versionTopic, topicPartition));
+      }
+      /**
+       * Leverage {@link PubSubConsumerAdapter#batchUnsubscribe(Set)}.
+       * Per-consumer locks are independent, so unsubscriptions on different SharedKafkaConsumers run
+       * in parallel. This reduces the total time from N_consumers × waitAfterUnsubscribe_timeout
+       * (sequential) to a single waitAfterUnsubscribe_timeout (parallel), which is critical for fast
+       * StoreIngestionTask shutdown.
+       */
+      List<CompletableFuture<Void>> futures = new ArrayList<>(consumerUnSubTopicPartitionSet.size());
+      consumerUnSubTopicPartitionSet.forEach((sharedConsumer, tpSet) -> {
+        futures.add(CompletableFuture.runAsync(() -> {
+          ConsumptionTask task = consumerToConsumptionTask.get(sharedConsumer);
+          /**
+           * Refer {@link AbstractKafkaConsumerService#startConsumptionIntoDataReceiver} for avoiding race condition
+           * caused by setting data receiver and unsubscribing concurrently for the same topic partition on a shared
+           * consumer.
+           */
+          try (AutoCloseableLock ignored = AutoCloseableLock.of(consumerToLocks.get(sharedConsumer))) {
+            sharedConsumer.batchUnsubscribe(tpSet);
+            tpSet.forEach(task::removeDataReceiver);
+          }
+          tpSet.forEach(
+              tp -> versionTopicToTopicPartitionToConsumer.compute(versionTopic, (k, topicPartitionToConsumerMap) -> {
+                if (topicPartitionToConsumerMap != null) {
+                  topicPartitionToConsumerMap.remove(tp);
+                  return topicPartitionToConsumerMap.isEmpty() ? null : topicPartitionToConsumerMap;
+                } else {
+                  return null;
+                }
+              }));
+        }, batchUnsubscribeExecutor));
+      });
+      long timeoutMs = SharedKafkaConsumer.DEFAULT_MAX_WAIT_MS + TimeUnit.SECONDS.toMillis(5);
+      try {
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(timeoutMs, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        futures.forEach(f -> f.cancel(true));
+        Thread.currentThread().interrupt();
+      } catch (TimeoutException e) {
+        futures.forEach(f -> f.cancel(true));
+        LOGGER.warn("Batch unsubscribe for {} timed out after {}ms", versionTopic, timeoutMs, e);
+      } catch (ExecutionException e) {
+        futures.forEach(f -> f.cancel(true));
+        LOGGER.error("Batch unsubscribe for {} failed", versionTopic, e);
+      }
     }
   }
 
@@ -386,12 +437,18 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
     if (inactiveTopicPartitionChecker != null) {
       inactiveTopicPartitionChecker.start();
     }
+    if (consumerPartitionBalancer != null) {
+      consumerPartitionBalancer.start();
+    }
     LOGGER.info("KafkaConsumerService started for {}", kafkaUrl);
     return true;
   }
 
   @Override
   public void stopInner() throws Exception {
+    if (consumerPartitionBalancer != null) {
+      consumerPartitionBalancer.stop();
+    }
     if (inactiveTopicPartitionChecker != null) {
       inactiveTopicPartitionChecker.stop();
     }
@@ -425,6 +482,28 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
     // Note: crossTpProcessingPool shutdown is handled by AggKafkaConsumerService
   }
 
+  @Override
+  public void pause(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
+    try (AutoCloseableLock subscriptionReadLock = AutoCloseableLock.of(subscriptionLock.readLock())) {
+      SharedKafkaConsumer consumer = getConsumerAssignedToVersionTopicPartition(versionTopic, pubSubTopicPartition);
+      if (consumer != null) {
+        pausedTopicPartitions.add(new TopicPartitionForIngestion(versionTopic, pubSubTopicPartition));
+        consumer.pause(pubSubTopicPartition);
+      }
+    }
+  }
+
+  @Override
+  public void resume(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
+    try (AutoCloseableLock subscriptionReadLock = AutoCloseableLock.of(subscriptionLock.readLock())) {
+      pausedTopicPartitions.remove(new TopicPartitionForIngestion(versionTopic, pubSubTopicPartition));
+      SharedKafkaConsumer consumer = getConsumerAssignedToVersionTopicPartition(versionTopic, pubSubTopicPartition);
+      if (consumer != null) {
+        consumer.resume(pubSubTopicPartition);
+      }
+    }
+  }
+
   @Override
   public boolean hasAnySubscriptionFor(PubSubTopic versionTopic) {
     Map<PubSubTopicPartition, SharedKafkaConsumer> subscriptions =
@@ -513,36 +592,155 @@ public abstract class KafkaConsumerService extends AbstractKafkaConsumerService
       PubSubPosition lastReadPosition,
       ConsumedDataReceiver<List<DefaultPubSubMessage>> consumedDataReceiver,
       boolean inclusive) {
-    PubSubTopic versionTopic = consumedDataReceiver.destinationIdentifier();
-    PubSubTopicPartition topicPartition = partitionReplicaIngestionContext.getPubSubTopicPartition();
-    SharedKafkaConsumer consumer = assignConsumerFor(versionTopic, topicPartition);
-    if (consumer == null) {
-      // Defensive code. Shouldn't happen except in case of a regression.
-      throw new VeniceException(
-          "Shared consumer must exist for version topic: " + versionTopic + " in Kafka cluster: " + kafkaUrl);
-    }
-    /**
-     * It is possible that when one {@link StoreIngestionTask} thread finishes unsubscribing a topic partition but not
-     * finish removing data receiver, but the other {@link StoreIngestionTask} thread is setting data receiver for this
-     * topic partition before subscription. As {@link ConsumptionTask} does not allow 2 different data receivers for
-     * the same topic partition, it will throw exception.
-     */
-    try (AutoCloseableLock ignored = AutoCloseableLock.of(consumerToLocks.get(consumer))) {
-      ConsumptionTask consumptionTask = consumerToConsumptionTask.get(consumer);
-      if (consumptionTask == null) {
-        // Defensive coding. Should never happen except in case of a regression.
-        throw new IllegalStateException(
-            "There should be a " + ConsumptionTask.class.getSimpleName() + " assigned for this "
-                + SharedKafkaConsumer.class.getSimpleName());
+    try (AutoCloseableLock subscriptionReadLock = AutoCloseableLock.of(subscriptionLock.readLock())) {
+      PubSubTopic versionTopic = consumedDataReceiver.destinationIdentifier();
+      PubSubTopicPartition topicPartition = partitionReplicaIngestionContext.getPubSubTopicPartition();
+      SharedKafkaConsumer consumer = assignConsumerFor(versionTopic, topicPartition);
+      if (consumer == null) {
+        // Defensive code. Shouldn't happen except in case of a regression.
+        throw new VeniceException(
+            "Shared consumer must exist for version topic: " + versionTopic + " in Kafka cluster: " + kafkaUrl);
       }
       /**
-       * N.B. it's important to set the {@link ConsumedDataReceiver} prior to subscribing, otherwise the
-       * {@link KafkaConsumerService.ConsumptionTask} will not be able to funnel the messages.
+       * It is possible that when one {@link StoreIngestionTask} thread finishes unsubscribing a topic partition but not
+       * finish removing data receiver, but the other {@link StoreIngestionTask} thread is setting data receiver for
+       * this topic partition before subscription. As {@link ConsumptionTask} does not allow 2 different data receivers
+       * for the same topic partition, it will throw exception.
        */
-      consumptionTask.setDataReceiver(topicPartition, consumedDataReceiver);
-      consumer.subscribe(consumedDataReceiver.destinationIdentifier(), topicPartition, lastReadPosition, inclusive);
-      consumerPollTracker.recordSubscribed(topicPartition);
+      try (AutoCloseableLock ignored = AutoCloseableLock.of(consumerToLocks.get(consumer))) {
+        ConsumptionTask consumptionTask = consumerToConsumptionTask.get(consumer);
+        if (consumptionTask == null) {
+          // Defensive coding. Should never happen except in case of a regression.
+          throw new IllegalStateException(
+              "There should be a " + ConsumptionTask.class.getSimpleName() + " assigned for this "
+                  + SharedKafkaConsumer.class.getSimpleName());
+        }
+        /**
+         * N.B. it's important to set the {@link ConsumedDataReceiver} prior to subscribing, otherwise the
+         * {@link KafkaConsumerService.ConsumptionTask} will not be able to funnel the messages.
+         */
+        consumptionTask.setDataReceiver(topicPartition, consumedDataReceiver);
+        consumer.subscribe(consumedDataReceiver.destinationIdentifier(), topicPartition, lastReadPosition, inclusive);
+        consumerPollTracker.recordSubscribed(topicPartition);
+      }
+    }
+  }
+
+  /**
+   * Moves the given topic-partition from the source consumer to the target consumer of this pool, which is driven by
+   * the {@link ConsumerPartitionBalancer}.
+   *
+   * The source consumer unsubscribes the topic-partition first, and the migration waits for the next poll of the
+   * source consumer, so all the messages polled before the unsubscription have been handed over to the data receiver
+   * by then. The target consumer then resumes right after the last delivered message, so no message is skipped. If the
+   * source consumer doesn't poll in time, the delivered position is not final, and the topic-partition is resubscribed
+   * on the source consumer instead, which may deliver some messages again, and they are filtered out by the ingestion
+   * task. The subscription write lock is released while waiting for the poll, so the subscription changes of the other
+   * topic-partitions aren't blocked, and the migration is given up if the topic-partition has been unsubscribed in the
+   * meantime.
+   *
+   * @return true if the topic-partition has been moved to the target consumer.
+   */
+  boolean migratePartition(
+      PubSubTopic versionTopic,
+      PubSubTopicPartition topicPartition,
+      SharedKafkaConsumer sourceConsumer,
+      SharedKafkaConsumer targetConsumer) {
+    ConsumptionTask sourceTask = consumerToConsumptionTask.get(sourceConsumer);
+    ConsumptionTask targetTask = consumerToConsumptionTask.get(targetConsumer);
+    ConsumedDataReceiver<List<DefaultPubSubMessage>> dataReceiver;
+    long pollTimesBeforeUnsubscription;
+    try (AutoCloseableLock ignored = lockForMigration(sourceConsumer, targetConsumer)) {
+      dataReceiver = sourceTask.getDataReceiver(topicPartition);
+      if (getConsumerAssignedToVersionTopicPartition(versionTopic, topicPartition) != sourceConsumer
+          || dataReceiver == null || !sourceConsumer.hasSubscription(topicPartition)
+          || targetConsumer.hasSubscription(topicPartition)
+          || sourceTask.getPartitionStats(topicPartition).getLastDeliveredPosition() == null) {
+        // The subscription has changed since the balancer looked at it.
+        return false;
+      }
+      pollTimesBeforeUnsubscription = sourceConsumer.unSubscribeWithoutWaitingForPoll(topicPartition);
+    }
+
+    boolean polled = sourceConsumer
+        .waitForPoll(pollTimesBeforeUnsubscription, topicPartition, SharedKafkaConsumer.DEFAULT_MAX_WAIT_MS);
+
+    try (AutoCloseableLock ignored = lockForMigration(sourceConsumer, targetConsumer)) {
+      if (getConsumerAssignedToVersionTopicPartition(versionTopic, topicPartition) != sourceConsumer
+          || sourceTask.getDataReceiver(topicPartition) != dataReceiver) {
+        // The topic-partition has been unsubscribed by its ingestion task while waiting for the poll.
+        aggStats.recordTotalPartitionMigrationFailure();
+        return false;
+      }
+      PubSubPosition lastDeliveredPosition = sourceTask.getPartitionStats(topicPartition).getLastDeliveredPosition();
+      if (!polled) {
+        LOGGER.warn(
+            "{} didn't poll in time after unsubscribing: {}, will resubscribe it on the same consumer",
+            sourceConsumer,
+            topicPartition);
+        resubscribe(sourceConsumer, versionTopic, topicPartition, lastDeliveredPosition);
+        aggStats.recordTotalPartitionMigrationFailure();
+        return false;
+      }
+
+      sourceTask.removeDataReceiver(topicPartition);
+      targetTask.setDataReceiver(topicPartition, dataReceiver);
+      try {
+        resubscribe(targetConsumer, versionTopic, topicPartition, lastDeliveredPosition);
+      } catch (Exception e) {
+        LOGGER.error(
+            "Failed to subscribe: {} on {}, will resubscribe it on {}",
+            topicPartition,
+            targetConsumer,
+            sourceConsumer,
+            e);
+        targetTask.removeDataReceiver(topicPartition);
+        sourceTask.setDataReceiver(topicPartition, dataReceiver);
+        resubscribe(sourceConsumer, versionTopic, topicPartition, lastDeliveredPosition);
+        aggStats.recordTotalPartitionMigrationFailure();
+        return false;
+      }
+      versionTopicToTopicPartitionToConsumer.computeIfPresent(versionTopic, (k, topicPartitionToConsumerMap) -> {
+        topicPartitionToConsumerMap.put(topicPartition, targetConsumer);
+        return topicPartitionToConsumerMap;
+      });
+      aggStats.recordTotalPartitionMigration();
+      LOGGER.info(
+          "Moved: {} of version topic: {} from {} to {} at position: {}",
+          topicPartition,
+          versionTopic,
+          sourceConsumer,
+          targetConsumer,
+          lastDeliveredPosition);
+      return true;
+    }
+  }
+
+  /**
+   * Takes the subscription write lock and the locks of both consumers, which are always taken in the same order to
+   * avoid deadlocks.
+   */
+  private AutoCloseableLock lockForMigration(SharedKafkaConsumer sourceConsumer, SharedKafkaConsumer targetConsumer) {
+    boolean sourceFirst = consumerToConsumptionTask.indexOf(sourceConsumer) < consumerToConsumptionTask
+        .indexOf(targetConsumer);
+    ReentrantLock sourceLock = consumerToLocks.get(sourceConsumer);
+    ReentrantLock targetLock = consumerToLocks.get(targetConsumer);
+    return sourceFirst
+        ? AutoCloseableLock.ofMany(subscriptionLock.writeLock(), sourceLock, targetLock)
+        : AutoCloseableLock.ofMany(subscriptionLock.writeLock(), targetLock, sourceLock);
+  }
+
+  private void resubscribe(
+      SharedKafkaConsumer consumer,
+      PubSubTopic versionTopic,
+      PubSubTopicPartition topicPartition,
+      PubSubPosition lastDeliveredPosition) {
+    consumer.subscribe(versionTopic, topicPartition, lastDeliveredPosition, false);
+    if (pausedTopicPartitions.contains(new TopicPartitionForIngestion(versionTopic, topicPartition))) {
+      consumer.pause(topicPartition);
     }
+    handleResubscription(consumer, versionTopic, topicPartition);
+    consumerPollTracker.recordSubscribed(topicPartition);
   }
 
   @Override
@@ -133,6 +133,22 @@ public class KafkaConsumerServiceDelegator extends AbstractKafkaConsumerService
     }
   }
 
+  @Override
+  public void pause(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
+    KafkaConsumerService kafkaConsumerService = getKafkaConsumerService(versionTopic, pubSubTopicPartition);
+    if (kafkaConsumerService != null) {
+      kafkaConsumerService.pause(versionTopic, pubSubTopicPartition);
+    }
+  }
+
+  @Override
+  public void resume(PubSubTopic versionTopic, PubSubTopicPartition pubSubTopicPartition) {
+    KafkaConsumerService kafkaConsumerService = getKafkaConsumerService(versionTopic, pubSubTopicPartition);
+    if (kafkaConsumerService != null) {
+      kafkaConsumerService.resume(versionTopic, pubSubTopicPartition);
+    }
+  }
+
   @Override
   public boolean hasAnySubscriptionFor(PubSubTopic versionTopic) {
     for (KafkaConsumerService kafkaConsumerService: this.consumerServices) {
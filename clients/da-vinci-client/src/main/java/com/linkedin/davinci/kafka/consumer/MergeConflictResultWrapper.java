@@ -31,6 +31,11 @@ public class MergeConflictResultWrapper {
    */
   private final Lazy<GenericRecord> valueProvider;
 
+  /**
+   * Best-effort deserialized value provider that provides the old value for all the operations.
+   */
+  private final Lazy<GenericRecord> oldValueRecordProvider;
+
   public MergeConflictResultWrapper(
       MergeConflictResult mergeConflictResult,
       Lazy<ByteBufferValueRecord<ByteBuffer>> oldValueProvider,
@@ -56,6 +61,7 @@ public class MergeConflictResultWrapper {
         this.valueProvider =
             Lazy.of(() -> deserializerProvider.apply(oldValue.writerSchemaId()).deserialize(oldValue.value()));
       }
+      this.oldValueRecordProvider = this.valueProvider;
     } else {
       // this is a PUT or UPDATE
       if (mergeConflictResult.getDeserializedValue().isPresent()) {
@@ -66,6 +72,13 @@ public class MergeConflictResultWrapper {
             () -> deserializerProvider.apply(mergeConflictResult.getValueSchemaId())
                 .deserialize(mergeConflictResult.getNewValue()));
       }
+      this.oldValueRecordProvider = Lazy.of(() -> {
+        ByteBufferValueRecord<ByteBuffer> oldValue = oldValueProvider.get();
+        if (oldValue == null || oldValue.value() == null) {
+          return null;
+        }
+        return deserializerProvider.apply(oldValue.writerSchemaId()).deserialize(oldValue.value());
+      });
     }
   }
 
@@ -106,4 +119,12 @@ public class MergeConflictResultWrapper {
   public Lazy<GenericRecord> getValueProvider() {
     return valueProvider;
   }
+
+  /**
+   * Return a best-effort provider of the deserialized old value, which is null for non-existent key or if the old value
+   * is not available.
+   */
+  public Lazy<GenericRecord> getOldValueRecordProvider() {
+    return oldValueRecordProvider;
+  }
 }
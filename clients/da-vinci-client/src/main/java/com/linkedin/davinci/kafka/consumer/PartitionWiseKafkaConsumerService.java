@@ -205,6 +205,16 @@ public class PartitionWiseKafkaConsumerService extends KafkaConsumerService {
     }
   }
 
+  @Override
+  synchronized void handleResubscription(
+      SharedKafkaConsumer consumer,
+      PubSubTopic versionTopic,
+      PubSubTopicPartition pubSubTopicPartition) {
+    if (pubSubTopicPartition.getPubSubTopic().isRealTime()) {
+      rtTopicPartitionToConsumerMap.computeIfAbsent(pubSubTopicPartition, key -> new HashSet<>()).add(consumer);
+    }
+  }
+
   Map<PubSubTopicPartition, Set<PubSubConsumerAdapter>> getRtTopicPartitionToConsumerMap() {
     return rtTopicPartitionToConsumerMap;
   }
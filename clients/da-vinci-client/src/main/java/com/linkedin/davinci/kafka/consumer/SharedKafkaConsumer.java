@@ -205,6 +205,31 @@ class SharedKafkaConsumer implements PubSubConsumerAdapter {
     }, DEFAULT_MAX_WAIT_MS);
   }
 
+  /**
+   * Unsubscribes the given topic-partition without waiting for the next poll, so that the caller can wait for it with
+   * {@link #waitForPoll} after releasing its own locks.
+   *
+   * @return the poll times before the unsubscription
+   */
+  synchronized long unSubscribeWithoutWaitingForPoll(PubSubTopicPartition pubSubTopicPartition) {
+    long currentPollTimes = pollTimes;
+    this.delegate.unSubscribe(pubSubTopicPartition);
+    PubSubTopic versionTopic = subscribedTopicPartitionToVersionTopic.remove(pubSubTopicPartition);
+    unsubscriptionListener.call(this, versionTopic, pubSubTopicPartition);
+    updateCurrentAssignment(delegate.getAssignment());
+    return currentPollTimes;
+  }
+
+  /**
+   * Waits for the next poll after {@link #unSubscribeWithoutWaitingForPoll}.
+   *
+   * @return true if the consumer has polled since the given poll times
+   */
+  synchronized boolean waitForPoll(long previousPollTimes, PubSubTopicPartition pubSubTopicPartition, long timeoutMs) {
+    waitAfterUnsubscribe(previousPollTimes, Collections.singleton(pubSubTopicPartition), timeoutMs);
+    return pollTimes > previousPollTimes;
+  }
+
   /**
    * This function encapsulates the logging, bookkeeping and required waiting period surrounding the action of
    * unsubscribing some partition(s).
@@ -273,7 +298,6 @@ class SharedKafkaConsumer implements PubSubConsumerAdapter {
     this.timeoutMsOverride = timeoutMsOverride;
   }
 
-  // Only for testing.
   long getPollTimes() {
     return pollTimes;
   }
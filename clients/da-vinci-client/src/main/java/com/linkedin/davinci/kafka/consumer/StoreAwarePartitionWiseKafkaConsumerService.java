@@ -128,6 +128,15 @@ public class StoreAwarePartitionWiseKafkaConsumerService extends PartitionWiseKa
     decreaseConsumerStoreLoad(consumer, versionTopic);
   }
 
+  @Override
+  synchronized void handleResubscription(
+      SharedKafkaConsumer consumer,
+      PubSubTopic versionTopic,
+      PubSubTopicPartition pubSubTopicPartition) {
+    super.handleResubscription(consumer, versionTopic, pubSubTopicPartition);
+    increaseConsumerStoreLoad(consumer, versionTopic.getStoreName());
+  }
+
   int getConsumerStoreLoad(SharedKafkaConsumer consumer, String storeName) {
     int baseAssignmentCount = getConsumerToBaseLoadCount().getOrDefault(consumer, 0);
     int storeSubscriptionCount =
@@ -0,0 +1,128 @@
+package com.linkedin.davinci.notifier;
+
+import com.linkedin.davinci.listener.response.NoOpReadResponseStats;
+import com.linkedin.davinci.stats.BlockCacheWarmupStats;
+import com.linkedin.davinci.storage.HotKeySampler;
+import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
+import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.pubsub.api.PubSubPosition;
+import com.linkedin.venice.throttle.EventThrottler;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.PartitionUtils;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Pre-warm the block cache of the future version with the hot keys sampled by {@link HotKeySampler} from the read path,
+ * so that the version swap won't come with a latency regression caused by a cold block cache.
+ *
+ * Once a partition of a future version is ready to serve, the hot keys belonging to it are read from the new version
+ * in the background, and the reads are throttled to avoid competing with the online traffic. The partitions of the
+ * current or backup versions are skipped since they are either serving traffic already or will never be swapped in.
+ */
+public class BlockCacheWarmupNotifier implements VeniceNotifier {
+  private static final Logger LOGGER = LogManager.getLogger(BlockCacheWarmupNotifier.class);
+
+  private final HotKeySampler hotKeySampler;
+  private final StorageEngineRepository storageEngineRepository;
+  private final ReadOnlyStoreRepository storeRepository;
+  private final EventThrottler readThrottler;
+  private final BlockCacheWarmupStats stats;
+  private final ExecutorService warmupExecutor =
+      Executors.newSingleThreadExecutor(new DaemonThreadFactory("BlockCacheWarmup"));
+
+  public BlockCacheWarmupNotifier(
+      HotKeySampler hotKeySampler,
+      StorageEngineRepository storageEngineRepository,
+      ReadOnlyStoreRepository storeRepository,
+      long maxReadsPerSecond,
+      BlockCacheWarmupStats stats) {
+    this.hotKeySampler = hotKeySampler;
+    this.storageEngineRepository = storageEngineRepository;
+    this.storeRepository = storeRepository;
+    this.readThrottler = new EventThrottler(maxReadsPerSecond);
+    this.stats = stats;
+  }
+
+  @Override
+  public void completed(String kafkaTopic, int partitionId, PubSubPosition position, String message) {
+    try {
+      warmupExecutor.execute(() -> warmUpPartition(kafkaTopic, partitionId));
+    } catch (RejectedExecutionException e) {
+      LOGGER.warn(
+          "Skip block cache warm-up for partition: {} of: {} since the notifier is closed",
+          partitionId,
+          kafkaTopic);
+    }
+  }
+
+  void warmUpPartition(String kafkaTopic, int partitionId) {
+    String storeName = Version.parseStoreFromKafkaTopicName(kafkaTopic);
+    int versionNumber = Version.parseVersionFromKafkaTopicName(kafkaTopic);
+    Store store = storeRepository.getStore(storeName);
+    if (store == null || versionNumber <= store.getCurrentVersion()) {
+      return;
+    }
+    Version version = store.getVersion(versionNumber);
+    StorageEngine storageEngine = storageEngineRepository.getLocalStorageEngine(kafkaTopic);
+    List<byte[]> hotKeys = hotKeySampler.getHotKeys(storeName);
+    if (version == null || storageEngine == null || hotKeys.isEmpty()) {
+      return;
+    }
+
+    long startTimeNs = System.nanoTime();
+    int partitionKeyCount = 0;
+    int warmedKeyCount = 0;
+    try {
+      StoreVersionState svs = storageEngine.getStoreVersionState();
+      boolean isChunked = svs != null && svs.getChunked();
+      VenicePartitioner partitioner =
+          PartitionUtils.getUserPartitionLevelVenicePartitioner(version.getPartitionerConfig());
+      int partitionCount = version.getPartitionCount();
+      for (byte[] key: hotKeys) {
+        if (partitioner.getPartitionId(key, partitionCount) != partitionId) {
+          continue;
+        }
+        partitionKeyCount++;
+        if (storageEngine.isClosed() || !storageEngine.containsPartition(partitionId)) {
+          // The partition was dropped in the meantime
+          continue;
+        }
+        readThrottler.maybeThrottle(1);
+        SingleGetChunkingAdapter.get(storageEngine, partitionId, key, isChunked, NoOpReadResponseStats.SINGLETON);
+        warmedKeyCount++;
+      }
+    } catch (Exception e) {
+      stats.recordWarmupFailure();
+      LOGGER.warn("Failed to warm up the block cache for partition: {} of: {}", partitionId, kafkaTopic, e);
+    }
+    if (partitionKeyCount > 0) {
+      double durationMs = LatencyUtils.getElapsedTimeFromNSToMS(startTimeNs);
+      stats.recordPartitionWarmup((double) warmedKeyCount / partitionKeyCount, durationMs, warmedKeyCount);
+      LOGGER.info(
+          "Warmed up the block cache with {}/{} hot keys for partition: {} of: {} in {}ms",
+          warmedKeyCount,
+          partitionKeyCount,
+          partitionId,
+          kafkaTopic,
+          durationMs);
+    }
+  }
+
+  @Override
+  public void close() {
+    warmupExecutor.shutdownNow();
+  }
+}
@@ -7,11 +7,13 @@ import com.linkedin.venice.meta.ReadOnlyViewStore;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.StoreDataChangedListener;
 import com.linkedin.venice.meta.SubscriptionBasedReadOnlyStoreRepository;
+import com.linkedin.venice.meta.ViewConfig;
 import com.linkedin.venice.schema.GeneratedSchemaID;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.schema.rmd.RmdSchemaEntry;
 import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import com.linkedin.venice.views.SecondaryIndexView;
 import com.linkedin.venice.views.VeniceView;
 import java.util.Collection;
 import java.util.Collections;
@@ -40,6 +42,9 @@ public class NativeMetadataRepositoryViewAdapter implements SubscriptionBasedRea
   private final Map<StoreDataChangedListener, StoreDataChangedListener> storeDataChangedAdapterMap =
       new VeniceConcurrentHashMap<>();
 
+  // Map of secondary index view store name to its key schema.
+  private final Map<String, SchemaEntry> indexKeySchemaMap = new VeniceConcurrentHashMap<>();
+
   public NativeMetadataRepositoryViewAdapter(NativeMetadataRepository nativeMetadataRepository) {
     this.nativeMetadataRepository = nativeMetadataRepository;
   }
@@ -59,9 +64,26 @@ public class NativeMetadataRepositoryViewAdapter implements SubscriptionBasedRea
     return nativeMetadataRepository.getVeniceCluster(VeniceView.getStoreName(storeName));
   }
 
+  /**
+   * The key schema of a view store is the key schema of the store, except for a {@link SecondaryIndexView} which is
+   * keyed by the index value and the primary key.
+   */
   @Override
   public SchemaEntry getKeySchema(String storeName) {
-    return nativeMetadataRepository.getKeySchema(VeniceView.getStoreName(storeName));
+    SchemaEntry keySchema = nativeMetadataRepository.getKeySchema(VeniceView.getStoreName(storeName));
+    if (keySchema == null || !VeniceView.isViewStore(storeName)) {
+      return keySchema;
+    }
+    Store store = nativeMetadataRepository.getStore(VeniceView.getStoreName(storeName));
+    ViewConfig viewConfig =
+        store == null ? null : store.getViewConfigs().get(VeniceView.getViewNameFromViewStoreName(storeName));
+    if (viewConfig == null || !SecondaryIndexView.class.getCanonicalName().equals(viewConfig.getViewClassName())) {
+      return keySchema;
+    }
+    // The key schema of the store can't change, so the derived key schema is computed once.
+    return indexKeySchemaMap.computeIfAbsent(
+        storeName,
+        ignored -> new SchemaEntry(keySchema.getId(), SecondaryIndexView.getIndexKeySchema(keySchema.getSchema())));
   }
 
   @Override
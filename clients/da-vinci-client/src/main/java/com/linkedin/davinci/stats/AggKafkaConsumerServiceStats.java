@@ -92,6 +92,14 @@ public class AggKafkaConsumerServiceStats extends AbstractVeniceAggStoreStats<Ka
     totalStats.recordSubscribedPartitionsNum(count);
   }
 
+  public void recordTotalPartitionMigration() {
+    totalStats.recordPartitionMigration();
+  }
+
+  public void recordTotalPartitionMigrationFailure() {
+    totalStats.recordPartitionMigrationFailure();
+  }
+
   /**
    * Records a single per-consumer partition count to the OTel partition assignment histogram
    * on the total stats instance. Called for each consumer in the pool from
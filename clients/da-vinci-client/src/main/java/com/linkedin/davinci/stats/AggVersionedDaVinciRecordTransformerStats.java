@@ -37,4 +37,8 @@ public class AggVersionedDaVinciRecordTransformerStats
   public void recordDeleteError(String storeName, int version, long timestamp) {
     recordVersionedAndTotalStat(storeName, version, stat -> stat.recordDeleteError(timestamp));
   }
+
+  public void recordRecoveryRecords(String storeName, int version, long recordCount, long timestamp) {
+    recordVersionedAndTotalStat(storeName, version, stat -> stat.recordRecoveryRecords(recordCount, timestamp));
+  }
 }
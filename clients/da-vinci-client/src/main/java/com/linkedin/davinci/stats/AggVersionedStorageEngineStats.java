@@ -3,6 +3,9 @@ package com.linkedin.davinci.stats;
 import static com.linkedin.venice.meta.Store.NON_EXISTING_VERSION;
 
 import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.davinci.store.StorageEngineStats;
+import com.linkedin.davinci.store.rocksdb.RocksDBStatisticsSampler;
+import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineStats;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
@@ -16,6 +19,7 @@ import io.tehuti.metrics.stats.AsyncGauge;
 import io.tehuti.metrics.stats.Gauge;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -300,6 +304,17 @@ public class AggVersionedStorageEngineStats extends
       return storageEngine != null ? storageEngine.getStats().getKeyCountEstimate() : 0;
     }
 
+    /**
+     * @return 0 if the storage engine doesn't have its own RocksDB statistics.
+     */
+    public double getRocksDBStatistic(ToDoubleFunction<RocksDBStatisticsSampler.Snapshot> statistic) {
+      StorageEngineStats stats = storageEngine != null ? storageEngine.getStats() : null;
+      if (!(stats instanceof RocksDBStorageEngineStats)) {
+        return 0;
+      }
+      return statistic.applyAsDouble(((RocksDBStorageEngineStats) stats).getRocksDBStatistics());
+    }
+
     public void recordRocksDBOpenFailure() {
       rocksDBOpenFailureCount.incrementAndGet();
     }
@@ -0,0 +1,43 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.Min;
+import io.tehuti.metrics.stats.OccurrenceRate;
+import io.tehuti.metrics.stats.Rate;
+
+
+/**
+ * Stats of {@link com.linkedin.davinci.notifier.BlockCacheWarmupNotifier}, which measure how many of the hot keys get
+ * warmed up in the future version before the version swap, and how long the warm-up of each partition takes.
+ */
+public class BlockCacheWarmupStats extends AbstractVeniceStats {
+  private final Sensor warmupKeyCoverageSensor;
+  private final Sensor warmupDurationSensor;
+  private final Sensor warmupKeyCountSensor;
+  private final Sensor warmupFailureSensor;
+
+  public BlockCacheWarmupStats(MetricsRepository metricsRepository) {
+    super(metricsRepository, "BlockCacheWarmup");
+    this.warmupKeyCoverageSensor = registerSensorIfAbsent("warmup_key_coverage", new Avg(), new Min());
+    this.warmupDurationSensor = registerSensorIfAbsent("warmup_duration_ms", new Avg(), new Max());
+    this.warmupKeyCountSensor = registerSensorIfAbsent("warmup_key_count", new Rate());
+    this.warmupFailureSensor = registerSensorIfAbsent("warmup_failure", new OccurrenceRate());
+  }
+
+  /**
+   * @param coverage the ratio of the hot keys of the partition, which were read from the future version.
+   */
+  public void recordPartitionWarmup(double coverage, double durationMs, int warmedKeyCount) {
+    warmupKeyCoverageSensor.record(coverage);
+    warmupDurationSensor.record(durationMs);
+    warmupKeyCountSensor.record(warmedKeyCount);
+  }
+
+  public void recordWarmupFailure() {
+    warmupFailureSensor.record();
+  }
+}
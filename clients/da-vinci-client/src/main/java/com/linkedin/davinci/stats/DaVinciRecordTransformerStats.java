@@ -14,6 +14,7 @@ public class DaVinciRecordTransformerStats {
   public static final String RECORD_TRANSFORMER_DELETE_LATENCY = "record_transformer_delete_latency";
   public static final String RECORD_TRANSFORMER_PUT_ERROR_COUNT = "record_transformer_put_error_count";
   public static final String RECORD_TRANSFORMER_DELETE_ERROR_COUNT = "record_transformer_delete_error_count";
+  public static final String RECORD_TRANSFORMER_RECOVERY_RECORD_COUNT = "record_transformer_recovery_record_count";
 
   private final WritePathLatencySensor putLatencySensor;
   private final WritePathLatencySensor deleteLatencySensor;
@@ -21,6 +22,8 @@ public class DaVinciRecordTransformerStats {
   private final Sensor putErrorSensor;
   private final Count deleteErrorCount = new Count();
   private final Sensor deleteErrorSensor;
+  private final Count recoveryRecordCount = new Count();
+  private final Sensor recoveryRecordSensor;
 
   public DaVinciRecordTransformerStats() {
     localMetricRepository = new MetricsRepository(METRIC_CONFIG);
@@ -32,6 +35,8 @@ public class DaVinciRecordTransformerStats {
     putErrorSensor.add(RECORD_TRANSFORMER_PUT_ERROR_COUNT, putErrorCount);
     deleteErrorSensor = localMetricRepository.sensor(RECORD_TRANSFORMER_DELETE_ERROR_COUNT);
     deleteErrorSensor.add(RECORD_TRANSFORMER_DELETE_ERROR_COUNT, deleteErrorCount);
+    recoveryRecordSensor = localMetricRepository.sensor(RECORD_TRANSFORMER_RECOVERY_RECORD_COUNT);
+    recoveryRecordSensor.add(RECORD_TRANSFORMER_RECOVERY_RECORD_COUNT, recoveryRecordCount);
   }
 
   public void recordPutLatency(double latencyMs, long currentTimeMs) {
@@ -65,4 +70,12 @@ public class DaVinciRecordTransformerStats {
   public double getDeleteErrorCount() {
     return deleteErrorCount.measure(METRIC_CONFIG, System.currentTimeMillis());
   }
+
+  public void recordRecoveryRecords(long recordCount, long currentTimeMs) {
+    recoveryRecordSensor.record(recordCount, currentTimeMs);
+  }
+
+  public double getRecoveryRecordCount() {
+    return recoveryRecordCount.measure(METRIC_CONFIG, System.currentTimeMillis());
+  }
 }
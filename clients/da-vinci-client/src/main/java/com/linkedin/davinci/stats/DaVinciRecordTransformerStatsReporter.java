@@ -4,6 +4,7 @@ import static com.linkedin.davinci.stats.DaVinciRecordTransformerStats.RECORD_TR
 import static com.linkedin.davinci.stats.DaVinciRecordTransformerStats.RECORD_TRANSFORMER_DELETE_LATENCY;
 import static com.linkedin.davinci.stats.DaVinciRecordTransformerStats.RECORD_TRANSFORMER_PUT_ERROR_COUNT;
 import static com.linkedin.davinci.stats.DaVinciRecordTransformerStats.RECORD_TRANSFORMER_PUT_LATENCY;
+import static com.linkedin.davinci.stats.DaVinciRecordTransformerStats.RECORD_TRANSFORMER_RECOVERY_RECORD_COUNT;
 import static com.linkedin.venice.stats.StatsErrorCode.NULL_INGESTION_STATS;
 
 import io.tehuti.metrics.MetricsRepository;
@@ -44,6 +45,12 @@ public class DaVinciRecordTransformerStatsReporter extends AbstractVeniceStatsRe
             () -> getStats().getDeleteErrorCount(),
             0,
             RECORD_TRANSFORMER_DELETE_ERROR_COUNT));
+    registerSensor(
+        new DaVinciRecordTransformerStatsReporter.DaVinciRecordTransformerStatsGauge(
+            this,
+            () -> getStats().getRecoveryRecordCount(),
+            0,
+            RECORD_TRANSFORMER_RECOVERY_RECORD_COUNT));
   }
 
   protected void registerLatencySensor(
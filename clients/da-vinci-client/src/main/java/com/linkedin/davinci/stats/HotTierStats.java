@@ -0,0 +1,28 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.davinci.store.tiered.HotTierCache;
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.stats.AsyncGauge;
+
+
+/**
+ * Stats of the {@link HotTierCache}. The hits are the reads served by the in-memory tier, and the misses are the reads
+ * served by the disk tier.
+ */
+public class HotTierStats extends AbstractVeniceStats {
+  public HotTierStats(MetricsRepository metricsRepository, HotTierCache hotTierCache) {
+    super(metricsRepository, "HotTier");
+    registerSensor(new AsyncGauge((ignored, ignored2) -> hotTierCache.getHitCount(), "memory_tier_hit_count"));
+    registerSensor(new AsyncGauge((ignored, ignored2) -> hotTierCache.getMissCount(), "disk_tier_hit_count"));
+    registerSensor(new AsyncGauge((ignored, ignored2) -> {
+      long hitCount = hotTierCache.getHitCount();
+      long totalCount = hitCount + hotTierCache.getMissCount();
+      return totalCount == 0 ? 0 : (double) hitCount / totalCount;
+    }, "memory_tier_hit_ratio"));
+    registerSensor(new AsyncGauge((ignored, ignored2) -> hotTierCache.getSizeInBytes(), "memory_tier_size_in_bytes"));
+    registerSensor(
+        new AsyncGauge((ignored, ignored2) -> hotTierCache.getCapacityInBytes(), "memory_tier_capacity_in_bytes"));
+    registerSensor(new AsyncGauge((ignored, ignored2) -> hotTierCache.getEntryCount(), "memory_tier_entry_count"));
+  }
+}
@@ -63,6 +63,9 @@ public class KafkaConsumerServiceStats extends AbstractVeniceStats {
   private final Sensor minPartitionsPerConsumer;
   private final Sensor avgPartitionsPerConsumer;
   private final Sensor subscribedPartitionsNum;
+  // Tehuti-only sensors of the ConsumerPartitionBalancer, recorded only on the total instance.
+  private final Sensor partitionMigrationSensor;
+  private final Sensor partitionMigrationFailureSensor;
 
   // Joint Tehuti+OTel metric state fields
 
@@ -131,6 +134,8 @@ public class KafkaConsumerServiceStats extends AbstractVeniceStats {
     // Tehuti-only: total subscribed partition count across all consumers. No OTel counterpart
     // because OTel's PARTITION_ASSIGNMENT_COUNT histogram sum provides the equivalent aggregate.
     subscribedPartitionsNum = registerSensor("subscribed_partitions_num", new Gauge());
+    partitionMigrationSensor = registerSensor("partition_migration", new OccurrenceRate(), new Total());
+    partitionMigrationFailureSensor = registerSensor("partition_migration_failure", new OccurrenceRate(), new Total());
 
     // Per-store metrics: on per-store instances, Tehuti sensor has parent propagation to total
     pollBytesOtel = MetricEntityStateBase.create(
@@ -359,6 +364,14 @@ public class KafkaConsumerServiceStats extends AbstractVeniceStats {
     subscribedPartitionsNum.record(count);
   }
 
+  public void recordPartitionMigration() {
+    partitionMigrationSensor.record();
+  }
+
+  public void recordPartitionMigrationFailure() {
+    partitionMigrationFailureSensor.record();
+  }
+
   /**
    * Records a single per-consumer partition count to the OTel partition assignment histogram.
    * Called for each consumer in the pool from
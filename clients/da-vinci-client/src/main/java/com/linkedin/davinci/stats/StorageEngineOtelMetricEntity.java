@@ -24,6 +24,10 @@ import java.util.Set;
  *   <li>{@code rocksdb_open_failure_count} maps to {@link #ROCKSDB_OPEN_FAILURE_COUNT} (COUNTER)</li>
  *   <li>{@code rocksdb_key_count_estimate} maps to {@link #KEY_COUNT_ESTIMATE} (ASYNC_GAUGE)</li>
  * </ul>
+ *
+ * <p>The {@code rocksdb.*} ASYNC_DOUBLE_GAUGE metrics after {@link #KEY_COUNT_ESTIMATE} have no Tehuti counterpart, and
+ * are only non-zero for the stores with per-store RocksDB statistics, check
+ * {@link com.linkedin.davinci.store.rocksdb.RocksDBServerConfig#ROCKSDB_PER_STORE_STATISTICS_ENABLED}.
  */
 public enum StorageEngineOtelMetricEntity implements ModuleMetricEntityInterface {
   DISK_USAGE(
@@ -41,6 +45,42 @@ public enum StorageEngineOtelMetricEntity implements ModuleMetricEntityInterface
   KEY_COUNT_ESTIMATE(
       "rocksdb.key.estimated_count", MetricType.ASYNC_GAUGE, MetricUnit.NUMBER,
       "Estimated key count in the storage engine", setOf(VENICE_CLUSTER_NAME, VENICE_STORE_NAME, VENICE_VERSION_ROLE)
+  ),
+
+  ROCKSDB_BLOCK_CACHE_HIT_RATIO(
+      "rocksdb.block_cache.hit_ratio", MetricType.ASYNC_DOUBLE_GAUGE, MetricUnit.RATIO,
+      "Block cache hit ratio of the store version in the last sample interval",
+      setOf(VENICE_CLUSTER_NAME, VENICE_STORE_NAME, VENICE_VERSION_ROLE)
+  ),
+
+  ROCKSDB_BLOOM_FILTER_USEFUL_RATIO(
+      "rocksdb.bloom_filter.useful_ratio", MetricType.ASYNC_DOUBLE_GAUGE, MetricUnit.RATIO,
+      "Ratio of the bloom filter checks avoiding disk reads in the last sample interval",
+      setOf(VENICE_CLUSTER_NAME, VENICE_STORE_NAME, VENICE_VERSION_ROLE)
+  ),
+
+  ROCKSDB_READ_AMPLIFICATION(
+      "rocksdb.read.amplification", MetricType.ASYNC_DOUBLE_GAUGE, MetricUnit.NUMBER,
+      "Bytes read from disk per useful byte in the last sample interval",
+      setOf(VENICE_CLUSTER_NAME, VENICE_STORE_NAME, VENICE_VERSION_ROLE)
+  ),
+
+  ROCKSDB_WRITE_STALL_TIME(
+      "rocksdb.write.stall_time", MetricType.ASYNC_DOUBLE_GAUGE, MetricUnit.MILLISECOND,
+      "Write stall time of the store version in the last sample interval",
+      setOf(VENICE_CLUSTER_NAME, VENICE_STORE_NAME, VENICE_VERSION_ROLE)
+  ),
+
+  ROCKSDB_GET_P99_LATENCY(
+      "rocksdb.get.p99_latency", MetricType.ASYNC_DOUBLE_GAUGE, MetricUnit.MILLISECOND,
+      "P99 latency of the RocksDB single gets in the last sample interval",
+      setOf(VENICE_CLUSTER_NAME, VENICE_STORE_NAME, VENICE_VERSION_ROLE)
+  ),
+
+  ROCKSDB_MULTI_GET_P99_LATENCY(
+      "rocksdb.multi_get.p99_latency", MetricType.ASYNC_DOUBLE_GAUGE, MetricUnit.MILLISECOND,
+      "P99 latency of the RocksDB multi-gets in the last sample interval",
+      setOf(VENICE_CLUSTER_NAME, VENICE_STORE_NAME, VENICE_VERSION_ROLE)
   );
 
   private final MetricEntity metricEntity;
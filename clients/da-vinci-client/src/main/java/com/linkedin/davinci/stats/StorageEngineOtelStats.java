@@ -4,11 +4,18 @@ import static com.linkedin.davinci.stats.OtelVersionedStatsUtils.classifyVersion
 import static com.linkedin.davinci.stats.OtelVersionedStatsUtils.getVersionForRole;
 import static com.linkedin.davinci.stats.StorageEngineOtelMetricEntity.DISK_USAGE;
 import static com.linkedin.davinci.stats.StorageEngineOtelMetricEntity.KEY_COUNT_ESTIMATE;
+import static com.linkedin.davinci.stats.StorageEngineOtelMetricEntity.ROCKSDB_BLOCK_CACHE_HIT_RATIO;
+import static com.linkedin.davinci.stats.StorageEngineOtelMetricEntity.ROCKSDB_BLOOM_FILTER_USEFUL_RATIO;
+import static com.linkedin.davinci.stats.StorageEngineOtelMetricEntity.ROCKSDB_GET_P99_LATENCY;
+import static com.linkedin.davinci.stats.StorageEngineOtelMetricEntity.ROCKSDB_MULTI_GET_P99_LATENCY;
 import static com.linkedin.davinci.stats.StorageEngineOtelMetricEntity.ROCKSDB_OPEN_FAILURE_COUNT;
+import static com.linkedin.davinci.stats.StorageEngineOtelMetricEntity.ROCKSDB_READ_AMPLIFICATION;
+import static com.linkedin.davinci.stats.StorageEngineOtelMetricEntity.ROCKSDB_WRITE_STALL_TIME;
 import static com.linkedin.venice.meta.Store.NON_EXISTING_VERSION;
 
 import com.linkedin.davinci.stats.AggVersionedStorageEngineStats.StorageEngineStatsWrapper;
 import com.linkedin.davinci.stats.OtelVersionedStatsUtils.VersionInfo;
+import com.linkedin.davinci.store.rocksdb.RocksDBStatisticsSampler.Snapshot;
 import com.linkedin.venice.server.VersionRole;
 import com.linkedin.venice.stats.OpenTelemetryMetricsSetup;
 import com.linkedin.venice.stats.VeniceOpenTelemetryMetricsRepository;
@@ -20,24 +27,45 @@ import com.linkedin.venice.stats.metrics.MetricEntityStateOneEnum;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.metrics.MetricsRepository;
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.ToDoubleFunction;
 
 
 /**
  * Per-store OTel stats for storage engine metrics.
  *
- * <p>Holds 3 OTel metrics:
+ * <p>Holds 9 OTel metrics:
  * <ul>
  *   <li>{@code ingestion.disk.used} — ASYNC_GAUGE with VERSION_ROLE + RECORD_TYPE dimensions,
  *       implemented via {@link AsyncMetricEntityStateTwoEnums}{@code <VeniceRecordType, VersionRole>}.</li>
  *   <li>{@code rocksdb.key.estimated_count} — ASYNC_GAUGE with VERSION_ROLE dimension</li>
  *   <li>{@code rocksdb.open.failure_count} — COUNTER with VERSION_ROLE dimension</li>
+ *   <li>6 per-store RocksDB statistics, e.g. {@code rocksdb.block_cache.hit_ratio} — ASYNC_DOUBLE_GAUGE with
+ *       VERSION_ROLE dimension, one metric per entry in {@link #ROCKSDB_STATISTICS}.</li>
  * </ul>
  *
  * <p>Tehuti metrics are managed separately by
  * {@link AggVersionedStorageEngineStats.StorageEngineStatsReporter}.
  */
 public class StorageEngineOtelStats implements Closeable {
+  /**
+   * The per-store RocksDB statistics and how to read each of them from a {@link Snapshot}.
+   */
+  private static final Map<StorageEngineOtelMetricEntity, ToDoubleFunction<Snapshot>> ROCKSDB_STATISTICS =
+      new EnumMap<>(StorageEngineOtelMetricEntity.class);
+
+  static {
+    ROCKSDB_STATISTICS.put(ROCKSDB_BLOCK_CACHE_HIT_RATIO, Snapshot::getBlockCacheHitRatio);
+    ROCKSDB_STATISTICS.put(ROCKSDB_BLOOM_FILTER_USEFUL_RATIO, Snapshot::getBloomFilterUsefulRatio);
+    ROCKSDB_STATISTICS.put(ROCKSDB_READ_AMPLIFICATION, Snapshot::getReadAmplification);
+    ROCKSDB_STATISTICS.put(ROCKSDB_WRITE_STALL_TIME, Snapshot::getStallTimeMs);
+    ROCKSDB_STATISTICS.put(ROCKSDB_GET_P99_LATENCY, Snapshot::getGetLatencyP99Ms);
+    ROCKSDB_STATISTICS.put(ROCKSDB_MULTI_GET_P99_LATENCY, Snapshot::getMultiGetLatencyP99Ms);
+  }
+
   private final boolean emitOtelMetrics;
 
   /**
@@ -67,6 +95,9 @@ public class StorageEngineOtelStats implements Closeable {
   /** RocksDB open failure COUNTER with VersionRole dimension */
   private final MetricEntityStateOneEnum<VersionRole> openFailureMetric;
 
+  /** Per-store RocksDB statistics ASYNC_DOUBLE_GAUGEs with VersionRole dimension */
+  private final List<AsyncMetricEntityStateOneEnum<VersionRole>> rocksDBStatisticsMetrics;
+
   public StorageEngineOtelStats(MetricsRepository metricsRepository, String storeName, String clusterName) {
     OpenTelemetryMetricsSetup.OpenTelemetryMetricsSetupInfo otelSetup =
         OpenTelemetryMetricsSetup.builder(metricsRepository)
@@ -98,10 +129,21 @@ public class StorageEngineOtelStats implements Closeable {
       // RocksDB open failure count: COUNTER with VersionRole dimension
       this.openFailureMetric = MetricEntityStateOneEnum
           .create(ROCKSDB_OPEN_FAILURE_COUNT.getMetricEntity(), otelRepository, baseDimensionsMap, VersionRole.class);
+
+      this.rocksDBStatisticsMetrics = new ArrayList<>(ROCKSDB_STATISTICS.size());
+      ROCKSDB_STATISTICS.forEach(
+          (metricEntity, statistic) -> rocksDBStatisticsMetrics.add(
+              AsyncMetricEntityStateOneEnum.create(
+                  metricEntity.getMetricEntity(),
+                  otelRepository,
+                  baseDimensionsMap,
+                  VersionRole.class,
+                  role -> () -> getRocksDBStatisticForRole(role, statistic))));
     } else {
       this.diskUsageMetrics = null;
       this.keyCountMetric = null;
       this.openFailureMetric = null;
+      this.rocksDBStatisticsMetrics = null;
     }
   }
 
@@ -198,6 +240,15 @@ public class StorageEngineOtelStats implements Closeable {
     return wrapper == null ? 0 : wrapper.getKeyCountEstimate();
   }
 
+  /**
+   * ASYNC_DOUBLE_GAUGE callback: resolves a per-store RocksDB statistic for a specific VersionRole.
+   * Returns 0 when the version/wrapper is unavailable or the store doesn't have its own statistics.
+   */
+  private double getRocksDBStatisticForRole(VersionRole role, ToDoubleFunction<Snapshot> statistic) {
+    StorageEngineStatsWrapper wrapper = getWrapperForRole(role);
+    return wrapper == null ? 0 : wrapper.getRocksDBStatistic(statistic);
+  }
+
   /**
    * Clears internal wrapper references so ASYNC_GAUGE callbacks return 0 (not stale values).
    * OTel instruments registered with the SDK are NOT deregistered — they remain
@@ -0,0 +1,174 @@
+package com.linkedin.davinci.storage;
+
+import com.linkedin.davinci.utils.ByteArrayKey;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * HotKeySampler keeps a bounded heavy-hitter sketch of the keys read from each store, which is used to pre-warm the
+ * block cache of the future version before it becomes the current version.
+ *
+ * High-level idea:
+ * 1. Only one out of {@link #samplingInterval} lookups is sampled, so the overhead on the read path is a random number
+ *    generation for most of the lookups.
+ * 2. Each store has a Space-Saving sketch of 2 * {@link #maxKeyCountPerStore} counters kept in an indexed min-heap:
+ *    a sampled key which isn't tracked yet takes over the counter of the coldest key, so recording a sample costs
+ *    O(log n) and never needs to sort or trim the sketch on the read path.
+ * 3. All the counts are halved every {@link #agingInterval} samples, so that the keys which used to be hot but are no
+ *    longer read will age out gradually. Halving keeps the heap order, so it is a linear pass without re-heapifying.
+ */
+public class HotKeySampler {
+  private final int maxKeyCountPerStore;
+  private final int samplingInterval;
+  private final long agingInterval;
+  private final Map<String, StoreSketch> storeSketchMap = new VeniceConcurrentHashMap<>();
+
+  public HotKeySampler(int maxKeyCountPerStore, int samplingInterval) {
+    if (maxKeyCountPerStore <= 0) {
+      throw new IllegalArgumentException("Max key count per store should be positive, but got: " + maxKeyCountPerStore);
+    }
+    this.maxKeyCountPerStore = maxKeyCountPerStore;
+    this.samplingInterval = Math.max(1, samplingInterval);
+    this.agingInterval = 8L * maxKeyCountPerStore;
+  }
+
+  public void sample(String storeName, byte[] keyBytes) {
+    if (shouldSample()) {
+      getStoreSketch(storeName).add(new ByteArrayKey(keyBytes.clone()));
+    }
+  }
+
+  public void sample(String storeName, ByteBuffer keyBuffer) {
+    if (shouldSample()) {
+      // Copy the key, since the buffer could be backed by a request buffer which will be reused
+      byte[] keyBytes = new byte[keyBuffer.remaining()];
+      keyBuffer.duplicate().get(keyBytes);
+      getStoreSketch(storeName).add(new ByteArrayKey(keyBytes));
+    }
+  }
+
+  /**
+   * @return the hot keys of the given store, ordered from the hottest to the coldest.
+   */
+  public List<byte[]> getHotKeys(String storeName) {
+    StoreSketch sketch = storeSketchMap.get(storeName);
+    return sketch == null ? Collections.emptyList() : sketch.getTopKeys();
+  }
+
+  public void removeStore(String storeName) {
+    storeSketchMap.remove(storeName);
+  }
+
+  private boolean shouldSample() {
+    return samplingInterval == 1 || ThreadLocalRandom.current().nextInt(samplingInterval) == 0;
+  }
+
+  private StoreSketch getStoreSketch(String storeName) {
+    return storeSketchMap.computeIfAbsent(storeName, s -> new StoreSketch());
+  }
+
+  private class StoreSketch {
+    private final Counter[] heap = new Counter[2 * maxKeyCountPerStore];
+    private final Map<ByteArrayKey, Counter> counterMap = new HashMap<>();
+    private int size = 0;
+    private long sampleCountSinceAging = 0;
+
+    synchronized void add(ByteArrayKey key) {
+      Counter counter = counterMap.get(key);
+      if (counter != null) {
+        counter.count++;
+        siftDown(counter.heapIndex);
+      } else if (size < heap.length) {
+        counter = new Counter(key, size);
+        heap[size++] = counter;
+        counterMap.put(key, counter);
+        siftUp(counter.heapIndex);
+      } else {
+        // The new key takes over the counter of the coldest key, whose count bounds the over-estimation of the new key
+        counter = heap[0];
+        counterMap.remove(counter.key);
+        counter.key = key;
+        counter.count++;
+        counterMap.put(key, counter);
+        siftDown(0);
+      }
+      if (++sampleCountSinceAging >= agingInterval) {
+        sampleCountSinceAging = 0;
+        for (int i = 0; i < size; i++) {
+          heap[i].count = Math.max(1L, heap[i].count / 2);
+        }
+      }
+    }
+
+    synchronized List<byte[]> getTopKeys() {
+      List<Counter> counters = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        counters.add(heap[i]);
+      }
+      counters.sort((c1, c2) -> Long.compare(c2.count, c1.count));
+      int keyCount = Math.min(maxKeyCountPerStore, counters.size());
+      List<byte[]> topKeys = new ArrayList<>(keyCount);
+      for (int i = 0; i < keyCount; i++) {
+        topKeys.add(counters.get(i).key.getContent());
+      }
+      return topKeys;
+    }
+
+    private void siftUp(int index) {
+      Counter counter = heap[index];
+      while (index > 0) {
+        int parentIndex = (index - 1) / 2;
+        Counter parent = heap[parentIndex];
+        if (parent.count <= counter.count) {
+          break;
+        }
+        setHeapEntry(index, parent);
+        index = parentIndex;
+      }
+      setHeapEntry(index, counter);
+    }
+
+    private void siftDown(int index) {
+      Counter counter = heap[index];
+      while (true) {
+        int childIndex = 2 * index + 1;
+        if (childIndex >= size) {
+          break;
+        }
+        if (childIndex + 1 < size && heap[childIndex + 1].count < heap[childIndex].count) {
+          childIndex++;
+        }
+        Counter child = heap[childIndex];
+        if (counter.count <= child.count) {
+          break;
+        }
+        setHeapEntry(index, child);
+        index = childIndex;
+      }
+      setHeapEntry(index, counter);
+    }
+
+    private void setHeapEntry(int index, Counter counter) {
+      heap[index] = counter;
+      counter.heapIndex = index;
+    }
+  }
+
+  private static class Counter {
+    private ByteArrayKey key;
+    private long count = 1;
+    private int heapIndex;
+
+    Counter(ByteArrayKey key, int heapIndex) {
+      this.key = key;
+      this.heapIndex = heapIndex;
+    }
+  }
+}
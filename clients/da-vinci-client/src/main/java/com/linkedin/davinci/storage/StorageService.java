@@ -17,6 +17,8 @@ import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.davinci.store.blackhole.BlackHoleStorageEngineFactory;
 import com.linkedin.davinci.store.memory.InMemoryStorageEngineFactory;
 import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
+import com.linkedin.davinci.store.tiered.HotTierCache;
+import com.linkedin.davinci.store.tiered.TieredStorageEngine;
 import com.linkedin.venice.ConfigKeys;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
@@ -73,6 +75,11 @@ public class StorageService extends AbstractVeniceService {
   private final InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer;
   private final InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer;
   private final ReadOnlyStoreRepository storeRepository;
+  /**
+   * The in-memory tier in front of all the storage engines, which is null if
+   * {@link VeniceServerConfig#isDaVinciHotTierEnabled()} is false.
+   */
+  private final HotTierCache hotTierCache;
 
   /**
    * This map tracks the storage engines for which some other component needs to latch onto their lifecycle.
@@ -144,6 +151,9 @@ public class StorageService extends AbstractVeniceService {
     this.storeVersionStateSerializer = storeVersionStateSerializer;
     this.partitionStateSerializer = partitionStateSerializer;
     this.storeRepository = storeRepository;
+    this.hotTierCache = serverConfig.isDaVinciHotTierEnabled()
+        ? new HotTierCache(serverConfig.getDaVinciHotTierCapacityInBytes())
+        : null;
     if (persistenceTypeToStorageEngineFactoryMapOptional.isPresent()) {
       this.persistenceTypeToStorageEngineFactoryMap = persistenceTypeToStorageEngineFactoryMapOptional.get();
     } else {
@@ -409,7 +419,7 @@ public class StorageService extends AbstractVeniceService {
           return v;
         });
     DelegatingStorageEngine delegatingStorageEngine =
-        refCountedStorageEngine == null ? new DelegatingStorageEngine(newEngine) : refCountedStorageEngine.get();
+        refCountedStorageEngine == null ? createDelegatingStorageEngine(newEngine) : refCountedStorageEngine.get();
 
     storageEngineRepository.addLocalStorageEngine(delegatingStorageEngine);
     // Setup storage engine stats
@@ -422,6 +432,21 @@ public class StorageService extends AbstractVeniceService {
     return delegatingStorageEngine;
   }
 
+  private DelegatingStorageEngine createDelegatingStorageEngine(StorageEngine storageEngine) {
+    if (hotTierCache != null) {
+      return new TieredStorageEngine(storageEngine, hotTierCache);
+    }
+    return new DelegatingStorageEngine(storageEngine);
+  }
+
+  /**
+   * @return the in-memory tier shared by all the storage engines, which can be resized at runtime, or empty if
+   *         {@link VeniceServerConfig#isDaVinciHotTierEnabled()} is false.
+   */
+  public Optional<HotTierCache> getHotTierCache() {
+    return Optional.ofNullable(hotTierCache);
+  }
+
   public synchronized void checkWhetherStoragePartitionsShouldBeKeptOrNot(SafeHelixManager manager) {
     if (!serverConfig.isDeleteUnassignedPartitionsOnStartupEnabled()) {
       return;
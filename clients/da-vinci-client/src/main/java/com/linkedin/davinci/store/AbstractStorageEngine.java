@@ -771,4 +771,9 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
   public AbstractStorageIterator getIterator(int partitionId) {
     throw new UnsupportedOperationException("Method not supported for storage engine");
   }
+
+  @Override
+  public List<byte[]> getKeyRangeSplitPoints(int partitionId, int maxRangeCount) {
+    return getPartitionOrThrow(partitionId).getKeyRangeSplitPoints(maxRangeCount);
+  }
 }
@@ -4,6 +4,8 @@ import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
 import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -184,4 +186,11 @@ public abstract class AbstractStoragePartition {
   public AbstractStorageIterator getIterator() {
     throw new UnsupportedOperationException("Method not supported for storage engine");
   }
+
+  /**
+   * Check {@link StorageEngine#getKeyRangeSplitPoints(int, int)}, and the partition is not split by default.
+   */
+  public List<byte[]> getKeyRangeSplitPoints(int maxRangeCount) {
+    return Collections.emptyList();
+  }
 }
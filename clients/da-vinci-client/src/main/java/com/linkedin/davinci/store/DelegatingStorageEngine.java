@@ -7,6 +7,7 @@ import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.pubsub.PubSubContext;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -252,6 +253,11 @@ public class DelegatingStorageEngine<P extends AbstractStoragePartition> impleme
     return this.delegate.getIterator(partitionId);
   }
 
+  @Override
+  public List<byte[]> getKeyRangeSplitPoints(int partitionId, int maxRangeCount) {
+    return this.delegate.getKeyRangeSplitPoints(partitionId, maxRangeCount);
+  }
+
   @Override
   public void suppressLogs(boolean b) {
     this.delegate.suppressLogs(b);
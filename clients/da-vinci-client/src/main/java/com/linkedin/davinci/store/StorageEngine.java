@@ -8,6 +8,7 @@ import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.pubsub.PubSubContext;
 import java.io.Closeable;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -195,6 +196,14 @@ public interface StorageEngine<Partition extends AbstractStoragePartition> exten
 
   AbstractStorageIterator getIterator(int partitionId);
 
+  /**
+   * Get the keys splitting the given partition into at most {@code maxRangeCount} key ranges of similar sizes, which
+   * can be scanned in parallel by seeking an iterator to each split key.
+   *
+   * @return the split keys in ascending order, and an empty list if the partition can't be split.
+   */
+  List<byte[]> getKeyRangeSplitPoints(int partitionId, int maxRangeCount);
+
   void suppressLogs(boolean b);
 
   default StorageEngineStats getStats() {
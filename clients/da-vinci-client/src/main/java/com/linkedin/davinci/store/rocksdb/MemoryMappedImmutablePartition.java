@@ -0,0 +1,332 @@
+package com.linkedin.davinci.store.rocksdb;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ArrayUtils;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * An immutable, memory-mapped copy of the default column family of a read-only RocksDB partition, which is used to
+ * serve the lookups of batch-only stores without going through the RocksDB read path (block cache, index and filter
+ * blocks, decompression, JNI copies) once the batch push is done.
+ *
+ * File layout:
+ * 1. The records are appended in the RocksDB key order to a list of data files: data_0, data_1, ..., and each record
+ *    is encoded as [key length][value length][key][value]. A record never spans two data files, and each data file is
+ *    mapped into memory as a whole.
+ * 2. The data files are split into blocks of about {@link Writer#blockSizeInBytes}, and the index file keeps the
+ *    location and the first key of every block, which is loaded on heap. A lookup does a binary search over the first
+ *    keys to locate the block, and then scans the block, which is usually a single page of the mapped file.
+ * 3. The index file is written last and renamed into place atomically, so the files without an index are incomplete
+ *    and will be rebuilt. The index also keeps the latest sequence number of the source RocksDB database to detect the
+ *    stale files when the database has been changed after the files were built.
+ */
+public class MemoryMappedImmutablePartition implements Closeable {
+  static final String INDEX_FILE_NAME = "index";
+  private static final String DATA_FILE_NAME_PREFIX = "data_";
+  private static final String TEMP_FILE_SUFFIX = ".tmp";
+  private static final int MAGIC_NUMBER = 0x564D4D50; // VMMP
+  private static final int FORMAT_VERSION = 1;
+  private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+
+  private final long sequenceNumber;
+  private final long recordCount;
+  private final byte[][] blockFirstKeys;
+  private final int[] blockFileIndexes;
+  private final int[] blockOffsets;
+  private volatile MappedByteBuffer[] dataBuffers;
+
+  private MemoryMappedImmutablePartition(
+      long sequenceNumber,
+      long recordCount,
+      byte[][] blockFirstKeys,
+      int[] blockFileIndexes,
+      int[] blockOffsets,
+      MappedByteBuffer[] dataBuffers) {
+    this.sequenceNumber = sequenceNumber;
+    this.recordCount = recordCount;
+    this.blockFirstKeys = blockFirstKeys;
+    this.blockFileIndexes = blockFileIndexes;
+    this.blockOffsets = blockOffsets;
+    this.dataBuffers = dataBuffers;
+  }
+
+  /**
+   * @return the partition in the given directory, or null if the files are absent or incomplete.
+   */
+  public static MemoryMappedImmutablePartition open(String dir) throws IOException {
+    File indexFile = new File(dir, INDEX_FILE_NAME);
+    if (!indexFile.exists()) {
+      return null;
+    }
+    try (DataInputStream input =
+        new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile), 64 * 1024))) {
+      int magicNumber = input.readInt();
+      int formatVersion = input.readInt();
+      if (magicNumber != MAGIC_NUMBER || formatVersion != FORMAT_VERSION) {
+        throw new VeniceException(
+            "Unexpected memory-mapped index file: " + indexFile + " with magic number: " + magicNumber
+                + " and format version: " + formatVersion);
+      }
+      long sequenceNumber = input.readLong();
+      long recordCount = input.readLong();
+      int fileCount = input.readInt();
+      int blockCount = input.readInt();
+      byte[][] blockFirstKeys = new byte[blockCount][];
+      int[] blockFileIndexes = new int[blockCount];
+      int[] blockOffsets = new int[blockCount];
+      for (int i = 0; i < blockCount; i++) {
+        blockFileIndexes[i] = input.readInt();
+        blockOffsets[i] = input.readInt();
+        blockFirstKeys[i] = new byte[input.readInt()];
+        input.readFully(blockFirstKeys[i]);
+      }
+      MappedByteBuffer[] dataBuffers = new MappedByteBuffer[fileCount];
+      for (int i = 0; i < fileCount; i++) {
+        // The mapping stays valid after the channel is closed
+        try (FileChannel channel =
+            FileChannel.open(new File(dir, DATA_FILE_NAME_PREFIX + i).toPath(), StandardOpenOption.READ)) {
+          dataBuffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+      }
+      return new MemoryMappedImmutablePartition(
+          sequenceNumber,
+          recordCount,
+          blockFirstKeys,
+          blockFileIndexes,
+          blockOffsets,
+          dataBuffers);
+    }
+  }
+
+  public long getSequenceNumber() {
+    return sequenceNumber;
+  }
+
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * @return a read-only view of the value in the mapped file, or null if the key doesn't exist.
+   */
+  public ByteBuffer get(byte[] key) {
+    return get(key, 0, key.length);
+  }
+
+  public ByteBuffer get(byte[] key, int keyOffset, int keyLength) {
+    MappedByteBuffer[] buffers = dataBuffers;
+    if (buffers == null) {
+      throw new VeniceException("Memory-mapped partition has been closed");
+    }
+    int blockIndex = findBlock(key, keyOffset, keyLength);
+    if (blockIndex < 0) {
+      return null;
+    }
+    int fileIndex = blockFileIndexes[blockIndex];
+    ByteBuffer buffer = buffers[fileIndex];
+    int position = blockOffsets[blockIndex];
+    int blockEnd = (blockIndex + 1 < blockOffsets.length && blockFileIndexes[blockIndex + 1] == fileIndex)
+        ? blockOffsets[blockIndex + 1]
+        : buffer.limit();
+    while (position < blockEnd) {
+      int recordKeyLength = buffer.getInt(position);
+      int valueLength = buffer.getInt(position + Integer.BYTES);
+      int keyStart = position + RECORD_HEADER_SIZE;
+      int result = compare(buffer, keyStart, recordKeyLength, key, keyOffset, keyLength);
+      if (result == 0) {
+        ByteBuffer value = buffer.asReadOnlyBuffer();
+        value.position(keyStart + recordKeyLength);
+        value.limit(keyStart + recordKeyLength + valueLength);
+        return value.slice();
+      }
+      if (result > 0) {
+        // The records are sorted, so the key doesn't exist
+        return null;
+      }
+      position = keyStart + recordKeyLength + valueLength;
+    }
+    return null;
+  }
+
+  /**
+   * The mapped memory is released by GC once all the buffers are unreachable, since unmapping it explicitly could
+   * crash the lookups which are still reading the buffers.
+   */
+  @Override
+  public void close() {
+    dataBuffers = null;
+  }
+
+  /**
+   * @return the index of the last block whose first key is not greater than the given key, or -1 if there is none.
+   */
+  private int findBlock(byte[] key, int keyOffset, int keyLength) {
+    byte[] searchKey = key;
+    if (keyOffset != 0 || keyLength != key.length) {
+      searchKey = new byte[keyLength];
+      System.arraycopy(key, keyOffset, searchKey, 0, keyLength);
+    }
+    int low = 0;
+    int high = blockFirstKeys.length - 1;
+    int result = -1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (ArrayUtils.compareUnsigned(blockFirstKeys[mid], searchKey) <= 0) {
+        result = mid;
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return result;
+  }
+
+  private static int compare(ByteBuffer buffer, int start, int length, byte[] key, int keyOffset, int keyLength) {
+    int minLength = Math.min(length, keyLength);
+    for (int i = 0; i < minLength; i++) {
+      int result = (buffer.get(start + i) & 0xFF) - (key[keyOffset + i] & 0xFF);
+      if (result != 0) {
+        return result;
+      }
+    }
+    return length - keyLength;
+  }
+
+  /**
+   * Writes the records, which must be added in the ascending order of the keys, into the given directory.
+   */
+  public static class Writer implements Closeable {
+    private final File dir;
+    private final long maxDataFileSizeInBytes;
+    private final int blockSizeInBytes;
+    private final List<byte[]> blockFirstKeys = new ArrayList<>();
+    private final List<int[]> blockLocations = new ArrayList<>();
+    private FileOutputStream currentFileStream;
+    private DataOutputStream currentOutput;
+    private int currentFileIndex = -1;
+    private long currentFileSize;
+    private long currentBlockStart;
+    private long recordCount;
+    private byte[] lastKey;
+
+    public Writer(String dir, long maxDataFileSizeInBytes, int blockSizeInBytes) throws IOException {
+      if (maxDataFileSizeInBytes > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException(
+            "Data file size: " + maxDataFileSizeInBytes + " exceeds the max size of a mapped file");
+      }
+      this.dir = new File(dir);
+      this.maxDataFileSizeInBytes = maxDataFileSizeInBytes;
+      this.blockSizeInBytes = blockSizeInBytes;
+      if (this.dir.exists()) {
+        // Remove the leftover of a previous attempt, and the index first to invalidate the files right away
+        Files.deleteIfExists(new File(this.dir, INDEX_FILE_NAME).toPath());
+        File[] files = this.dir.listFiles();
+        if (files != null) {
+          for (File file: files) {
+            Files.delete(file.toPath());
+          }
+        }
+      } else if (!this.dir.mkdirs()) {
+        throw new IOException("Failed to create dir: " + dir);
+      }
+    }
+
+    public void add(byte[] key, byte[] value) throws IOException {
+      if (lastKey != null && ArrayUtils.compareUnsigned(lastKey, key) >= 0) {
+        throw new VeniceException("Keys must be added in the ascending order");
+      }
+      long recordSize = RECORD_HEADER_SIZE + key.length + value.length;
+      if (currentOutput == null || currentFileSize + recordSize > maxDataFileSizeInBytes) {
+        if (recordSize > maxDataFileSizeInBytes) {
+          throw new VeniceException("Record size: " + recordSize + " exceeds the max data file size");
+        }
+        rollDataFile();
+      }
+      if (currentFileSize == 0 || currentFileSize - currentBlockStart >= blockSizeInBytes) {
+        currentBlockStart = currentFileSize;
+        blockFirstKeys.add(key.clone());
+        blockLocations.add(new int[] { currentFileIndex, (int) currentFileSize });
+      }
+      currentOutput.writeInt(key.length);
+      currentOutput.writeInt(value.length);
+      currentOutput.write(key);
+      currentOutput.write(value);
+      currentFileSize += recordSize;
+      recordCount++;
+      lastKey = key;
+    }
+
+    /**
+     * Writes the index file to make the data files visible to {@link #open}.
+     */
+    public void finish(long sequenceNumber) throws IOException {
+      closeDataFile();
+      File tempIndexFile = new File(dir, INDEX_FILE_NAME + TEMP_FILE_SUFFIX);
+      try (FileOutputStream fileStream = new FileOutputStream(tempIndexFile);
+          DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileStream, 64 * 1024))) {
+        output.writeInt(MAGIC_NUMBER);
+        output.writeInt(FORMAT_VERSION);
+        output.writeLong(sequenceNumber);
+        output.writeLong(recordCount);
+        output.writeInt(currentFileIndex + 1);
+        output.writeInt(blockFirstKeys.size());
+        for (int i = 0; i < blockFirstKeys.size(); i++) {
+          output.writeInt(blockLocations.get(i)[0]);
+          output.writeInt(blockLocations.get(i)[1]);
+          output.writeInt(blockFirstKeys.get(i).length);
+          output.write(blockFirstKeys.get(i));
+        }
+        output.flush();
+        fileStream.getFD().sync();
+      }
+      Files.move(
+          tempIndexFile.toPath(),
+          new File(dir, INDEX_FILE_NAME).toPath(),
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (currentOutput != null) {
+        currentOutput.close();
+        currentOutput = null;
+      }
+    }
+
+    private void rollDataFile() throws IOException {
+      closeDataFile();
+      currentFileIndex++;
+      currentFileStream = new FileOutputStream(new File(dir, DATA_FILE_NAME_PREFIX + currentFileIndex));
+      currentOutput = new DataOutputStream(new BufferedOutputStream(currentFileStream, 1024 * 1024));
+      currentFileSize = 0;
+      currentBlockStart = 0;
+    }
+
+    private void closeDataFile() throws IOException {
+      if (currentOutput != null) {
+        currentOutput.flush();
+        currentFileStream.getFD().sync();
+        currentOutput.close();
+        currentOutput = null;
+      }
+    }
+  }
+}
@@ -63,45 +63,50 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
   }
 
   @Override
-  public synchronized void putWithReplicationMetadata(byte[] key, byte[] value, byte[] metadata) {
-    makeSureRocksDBIsStillOpen();
-    if (readOnly) {
-      throw new VeniceException(
-          "Cannot make writes while database is opened in read-only mode for replica: " + replicaId);
-    }
+  public void putWithReplicationMetadata(byte[] key, byte[] value, byte[] metadata) {
+    executeWrite(() -> {
+      makeSureRocksDBIsStillOpen();
+      if (readOnly) {
+        throw new VeniceException(
+            "Cannot make writes while database is opened in read-only mode for replica: " + replicaId);
+      }
 
-    try {
-      if (deferredWrite) {
-        super.put(key, value);
-        rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
-      } else {
-        try (WriteBatch writeBatch = new WriteBatch()) {
-          writeBatch.put(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key, value);
-          writeBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, metadata);
-          rocksDB.write(writeOptions, writeBatch);
+      try {
+        if (deferredWrite) {
+          super.put(key, value);
+          rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
+        } else {
+          try (WriteBatch writeBatch = new WriteBatch()) {
+            writeBatch.put(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key, value);
+            writeBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, metadata);
+            rocksDB.write(writeOptions, writeBatch);
+          }
         }
+      } catch (RocksDBException e) {
+        throw new VeniceException("Failed to put key/value pair to RocksDB: " + replicaId, e);
       }
-    } catch (RocksDBException e) {
-      throw new VeniceException("Failed to put key/value pair to RocksDB: " + replicaId, e);
-    }
+    });
   }
 
   @Override
-  public synchronized void putReplicationMetadata(byte[] key, byte[] metadata) {
-    makeSureRocksDBIsStillOpen();
-    if (readOnly) {
-      throw new VeniceException(
-          "Cannot make writes while database is opened in read-only mode for replica: " + replicaId);
-    }
-    try {
-      if (deferredWrite) {
-        rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
-      } else {
-        rocksDB.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), writeOptions, key, metadata);
+  public void putReplicationMetadata(byte[] key, byte[] metadata) {
+    executeWrite(() -> {
+      makeSureRocksDBIsStillOpen();
+      if (readOnly) {
+        throw new VeniceException(
+            "Cannot make writes while database is opened in read-only mode for replica: " + replicaId);
       }
-    } catch (RocksDBException e) {
-      throw new VeniceException("Failed to put key/value pair to RocksDB: " + replicaId, e);
-    }
+      try {
+        if (deferredWrite) {
+          rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
+        } else {
+          rocksDB
+              .put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), writeOptions, key, metadata);
+        }
+      } catch (RocksDBException e) {
+        throw new VeniceException("Failed to put key/value pair to RocksDB: " + replicaId, e);
+      }
+    });
   }
 
   public long getRmdByteUsage() {
@@ -121,7 +126,7 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
    * TODO: Rewrite this implementation after we adopt the thread-local direct bytebuffer approach.
    */
   @Override
-  public synchronized void putWithReplicationMetadata(byte[] key, ByteBuffer value, byte[] metadata) {
+  public void putWithReplicationMetadata(byte[] key, ByteBuffer value, byte[] metadata) {
     byte[] valueBytes = ByteUtils.extractByteArray(value);
     putWithReplicationMetadata(key, valueBytes, metadata);
   }
@@ -148,30 +153,32 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
    * This API deletes a record from RocksDB but updates the metadata in ByteBuffer format and puts it into RocksDB.
    */
   @Override
-  public synchronized void deleteWithReplicationMetadata(byte[] key, byte[] replicationMetadata) {
-    makeSureRocksDBIsStillOpen();
-    if (readOnly) {
-      throw new VeniceException(
-          "Cannot make writes while database is opened in read-only mode for replica: " + replicaId);
-    }
-    try {
-      if (deferredWrite) {
-        // Just update the RMD for deletion during repush
-        rocksDBSstFileWriter.put(key, ByteBuffer.wrap(replicationMetadata));
-      } else {
-        try (WriteBatch writeBatch = new WriteBatch()) {
-          writeBatch.delete(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
-          writeBatch
-              .put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, replicationMetadata);
-          rocksDB.write(writeOptions, writeBatch);
+  public void deleteWithReplicationMetadata(byte[] key, byte[] replicationMetadata) {
+    executeWrite(() -> {
+      makeSureRocksDBIsStillOpen();
+      if (readOnly) {
+        throw new VeniceException(
+            "Cannot make writes while database is opened in read-only mode for replica: " + replicaId);
+      }
+      try {
+        if (deferredWrite) {
+          // Just update the RMD for deletion during repush
+          rocksDBSstFileWriter.put(key, ByteBuffer.wrap(replicationMetadata));
+        } else {
+          try (WriteBatch writeBatch = new WriteBatch()) {
+            writeBatch.delete(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
+            writeBatch
+                .put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, replicationMetadata);
+            rocksDB.write(writeOptions, writeBatch);
+          }
         }
+      } catch (RocksDBException e) {
+        String msg = deferredWrite
+            ? "Failed to put metadata while deleting key from RocksDB: " + replicaId
+            : "Failed to delete entry from the RocksDB: " + replicaId;
+        throw new VeniceException(msg, e);
       }
-    } catch (RocksDBException e) {
-      String msg = deferredWrite
-          ? "Failed to put metadata while deleting key from RocksDB: " + replicaId
-          : "Failed to delete entry from the RocksDB: " + replicaId;
-      throw new VeniceException(msg, e);
-    }
+    });
   }
 
   @Override
@@ -211,6 +218,7 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     Map<String, String> checkpointingInfo = super.sync();
     // if deferredWrite is false, super.sync will flush both the column families
     if (deferredWrite) {
+      rocksDBSstFileWriter.ingestCheckpointedSSTFiles(rocksDB, getColumnFamilyHandleList());
       checkpointingInfo.putAll(rocksDBSstFileWriter.sync());
     }
     return checkpointingInfo;
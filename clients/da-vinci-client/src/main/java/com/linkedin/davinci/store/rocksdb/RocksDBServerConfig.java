@@ -3,6 +3,10 @@ package com.linkedin.davinci.store.rocksdb;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.rocksdb.CompactionStyle;
@@ -271,6 +275,83 @@ public class RocksDBServerConfig {
    */
   public static final String ROCKSDB_ITERATOR_READ_AHEAD_SIZE_IN_BYTES = "rocksdb.iterator.read.ahead.size.in.bytes";
 
+  /**
+   * Whether to serve the lookups of the read-only partitions, which are the partitions of batch-only stores after the
+   * batch push when {@link com.linkedin.davinci.config.VeniceServerConfig#isReadOnlyForBatchOnlyStoreEnabled()} is on,
+   * from a memory-mapped copy of the data built by {@link MemoryMappedImmutablePartition}.
+   * The copy takes the same amount of disk space as the uncompressed data in the partition.
+   */
+  public static final String ROCKSDB_MEMORY_MAPPED_READ_ONLY_PARTITION_ENABLED =
+      "rocksdb.memory.mapped.read.only.partition.enabled";
+  public static final String ROCKSDB_MEMORY_MAPPED_DATA_FILE_SIZE_IN_BYTES =
+      "rocksdb.memory.mapped.data.file.size.in.bytes";
+  public static final String ROCKSDB_MEMORY_MAPPED_BLOCK_SIZE_IN_BYTES = "rocksdb.memory.mapped.block.size.in.bytes";
+
+  /**
+   * Whether to let the single-key writes to the same partition, such as the ones from the drainer and the leader
+   * producer callbacks, run concurrently instead of being serialized by the partition, with RocksDB's pipelined write
+   * and adaptive yield of the write thread enabled. It doesn't apply to the partitions ingesting the sorted batch
+   * data, since they write through the SST file writer.
+   */
+  public static final String ROCKSDB_CONCURRENT_WRITE_ENABLED = "rocksdb.concurrent.write.enabled";
+
+  /**
+   * Whether to collect RocksDB statistics, including the get/multi-get latency histograms, per storage engine instead
+   * of only at host level, which are emitted through {@link com.linkedin.davinci.stats.StorageEngineOtelStats} with the
+   * store and version role dimensions. The store versions with their own statistics don't contribute to the host-level
+   * statistics enabled by {@link #ROCKSDB_STATISTICS_ENABLED}, since a RocksDB database only takes one statistics
+   * object.
+   */
+  public static final String ROCKSDB_PER_STORE_STATISTICS_ENABLED = "rocksdb.per.store.statistics.enabled";
+
+  /**
+   * The stores to collect the per-store statistics for, and all the stores are included if it is empty.
+   */
+  public static final String ROCKSDB_PER_STORE_STATISTICS_STORES = "rocksdb.per.store.statistics.stores";
+
+  /**
+   * The max number of store versions with their own statistics on this host, which bounds both the overhead of the
+   * statistics and the cardinality of the emitted metrics. The store versions opened beyond the limit fall back to the
+   * host-level statistics.
+   */
+  public static final String ROCKSDB_PER_STORE_STATISTICS_MAX_STORE_VERSIONS =
+      "rocksdb.per.store.statistics.max.store.versions";
+
+  /**
+   * The per-store statistics are sampled and reset at most once per interval, so the emitted hit ratios, stall time
+   * and latency percentiles reflect the last interval instead of the whole lifetime of the store version.
+   */
+  public static final String ROCKSDB_PER_STORE_STATISTICS_SAMPLE_INTERVAL_MS =
+      "rocksdb.per.store.statistics.sample.interval.ms";
+
+  /**
+   * Whether to hand the sorted batch records over to a background writer thread per partition, which appends them to
+   * the SST files, so the ingestion thread can move on to the next records right away. The checksum verification of
+   * the finished SST files is moved to another background thread as well.
+   */
+  public static final String ROCKSDB_SST_FILE_WRITER_PIPELINED_ENABLED = "rocksdb.sst.file.writer.pipelined.enabled";
+
+  /**
+   * The max total size of the records handed over to the background writer thread of a partition but not yet written,
+   * which bounds the memory of the pipeline and applies back pressure to the ingestion thread.
+   */
+  public static final String ROCKSDB_SST_FILE_WRITER_PIPELINE_BUFFER_SIZE_IN_BYTES =
+      "rocksdb.sst.file.writer.pipeline.buffer.size.in.bytes";
+
+  /**
+   * The size at which the SST file being written for the sorted batch records is finished and a new one is started,
+   * instead of only rolling the SST files at every sync. 0 means rolling only at sync.
+   */
+  public static final String ROCKSDB_SST_FILE_TARGET_SIZE_IN_BYTES = "rocksdb.sst.file.target.size.in.bytes";
+
+  /**
+   * Whether to ingest the SST files covered by the last persisted checkpoint into the database at every sync during the
+   * batch push, instead of ingesting all of them at the end of the push, which spreads the ingestion cost over the
+   * push and shortens the time between the end of push and ready to serve.
+   */
+  public static final String ROCKSDB_SST_FILE_INCREMENTAL_INGESTION_ENABLED =
+      "rocksdb.sst.file.incremental.ingestion.enabled";
+
   private final boolean rocksDBUseDirectReads;
 
   private final int rocksDBEnvFlushPoolSize;
@@ -353,6 +434,22 @@ public class RocksDBServerConfig {
 
   private final long iteratorReadAheadSizeInBytes;
 
+  private final boolean memoryMappedReadOnlyPartitionEnabled;
+  private final long memoryMappedDataFileSizeInBytes;
+  private final int memoryMappedBlockSizeInBytes;
+
+  private final boolean concurrentWriteEnabled;
+
+  private final boolean perStoreStatisticsEnabled;
+  private final Set<String> perStoreStatisticsStores;
+  private final int perStoreStatisticsMaxStoreVersions;
+  private final long perStoreStatisticsSampleIntervalMs;
+
+  private final boolean sstFileWriterPipelinedEnabled;
+  private final long sstFileWriterPipelineBufferSizeInBytes;
+  private final long sstFileTargetSizeInBytes;
+  private final boolean sstFileIncrementalIngestionEnabled;
+
   public RocksDBServerConfig(VeniceProperties props) {
     // Do not use Direct IO for reads by default
     this.rocksDBUseDirectReads = props.getBoolean(ROCKSDB_OPTIONS_USE_DIRECT_READS, false);
@@ -498,6 +595,28 @@ public class RocksDBServerConfig {
 
     this.iteratorReadAheadSizeInBytes =
         props.getSizeInBytes(ROCKSDB_ITERATOR_READ_AHEAD_SIZE_IN_BYTES, 2 * 1024 * 1024); // default: 2MB
+
+    this.memoryMappedReadOnlyPartitionEnabled =
+        props.getBoolean(ROCKSDB_MEMORY_MAPPED_READ_ONLY_PARTITION_ENABLED, false);
+    this.memoryMappedDataFileSizeInBytes =
+        props.getSizeInBytes(ROCKSDB_MEMORY_MAPPED_DATA_FILE_SIZE_IN_BYTES, 1024 * 1024 * 1024); // default: 1GB
+    this.memoryMappedBlockSizeInBytes =
+        (int) props.getSizeInBytes(ROCKSDB_MEMORY_MAPPED_BLOCK_SIZE_IN_BYTES, 4 * 1024); // default: 4KB
+
+    this.concurrentWriteEnabled = props.getBoolean(ROCKSDB_CONCURRENT_WRITE_ENABLED, false);
+
+    this.perStoreStatisticsEnabled = props.getBoolean(ROCKSDB_PER_STORE_STATISTICS_ENABLED, false);
+    this.perStoreStatisticsStores =
+        new HashSet<>(props.getList(ROCKSDB_PER_STORE_STATISTICS_STORES, Collections.emptyList()));
+    this.perStoreStatisticsMaxStoreVersions = props.getInt(ROCKSDB_PER_STORE_STATISTICS_MAX_STORE_VERSIONS, 100);
+    this.perStoreStatisticsSampleIntervalMs =
+        props.getLong(ROCKSDB_PER_STORE_STATISTICS_SAMPLE_INTERVAL_MS, TimeUnit.MINUTES.toMillis(1));
+
+    this.sstFileWriterPipelinedEnabled = props.getBoolean(ROCKSDB_SST_FILE_WRITER_PIPELINED_ENABLED, false);
+    this.sstFileWriterPipelineBufferSizeInBytes =
+        props.getSizeInBytes(ROCKSDB_SST_FILE_WRITER_PIPELINE_BUFFER_SIZE_IN_BYTES, 32 * 1024 * 1024L); // 32MB
+    this.sstFileTargetSizeInBytes = props.getSizeInBytes(ROCKSDB_SST_FILE_TARGET_SIZE_IN_BYTES, 0L);
+    this.sstFileIncrementalIngestionEnabled = props.getBoolean(ROCKSDB_SST_FILE_INCREMENTAL_INGESTION_ENABLED, false);
   }
 
   public int getLevel0FileNumCompactionTriggerWriteOnlyVersion() {
@@ -750,4 +869,56 @@ public class RocksDBServerConfig {
   public long getIteratorReadAheadSizeInBytes() {
     return iteratorReadAheadSizeInBytes;
   }
+
+  public boolean isMemoryMappedReadOnlyPartitionEnabled() {
+    return memoryMappedReadOnlyPartitionEnabled;
+  }
+
+  public long getMemoryMappedDataFileSizeInBytes() {
+    return memoryMappedDataFileSizeInBytes;
+  }
+
+  public int getMemoryMappedBlockSizeInBytes() {
+    return memoryMappedBlockSizeInBytes;
+  }
+
+  public boolean isConcurrentWriteEnabled() {
+    return concurrentWriteEnabled;
+  }
+
+  public boolean isPerStoreStatisticsEnabled() {
+    return perStoreStatisticsEnabled;
+  }
+
+  /**
+   * @return whether the given store is eligible for the per-store statistics, regardless of the max store versions.
+   */
+  public boolean isPerStoreStatisticsEnabled(String storeName) {
+    return perStoreStatisticsEnabled
+        && (perStoreStatisticsStores.isEmpty() || perStoreStatisticsStores.contains(storeName));
+  }
+
+  public int getPerStoreStatisticsMaxStoreVersions() {
+    return perStoreStatisticsMaxStoreVersions;
+  }
+
+  public long getPerStoreStatisticsSampleIntervalMs() {
+    return perStoreStatisticsSampleIntervalMs;
+  }
+
+  public boolean isSstFileWriterPipelinedEnabled() {
+    return sstFileWriterPipelinedEnabled;
+  }
+
+  public long getSstFileWriterPipelineBufferSizeInBytes() {
+    return sstFileWriterPipelineBufferSizeInBytes;
+  }
+
+  public long getSstFileTargetSizeInBytes() {
+    return sstFileTargetSizeInBytes;
+  }
+
+  public boolean isSstFileIncrementalIngestionEnabled() {
+    return sstFileIncrementalIngestionEnabled;
+  }
 }
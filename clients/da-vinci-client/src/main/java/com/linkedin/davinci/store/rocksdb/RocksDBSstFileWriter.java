@@ -10,6 +10,7 @@ import com.linkedin.venice.kafka.validation.checksum.CheckSum;
 import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.LatencyUtils;
 import java.io.File;
 import java.nio.ByteBuffer;
@@ -19,6 +20,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -36,6 +44,16 @@ import org.rocksdb.SstFileReaderIterator;
 import org.rocksdb.SstFileWriter;
 
 
+/**
+ * Writes the sorted batch records of a partition into temporary SST files, which are ingested into the database at the
+ * end of the batch push, or at every sync when
+ * {@link RocksDBServerConfig#ROCKSDB_SST_FILE_INCREMENTAL_INGESTION_ENABLED} is on.
+ *
+ * When {@link RocksDBServerConfig#ROCKSDB_SST_FILE_WRITER_PIPELINED_ENABLED} is on, the records are handed over to a
+ * background writer thread, so the ingestion thread only pays for copying the records, and the checksum verification
+ * of the finished SST files runs on another background thread. A failure of the background threads is surfaced by the
+ * next {@link #put}, {@link #sync} or {@link #ingestSSTFiles}.
+ */
 public class RocksDBSstFileWriter {
   private static final Logger LOGGER = LogManager.getLogger(RocksDBSstFileWriter.class);
 
@@ -67,6 +85,12 @@ public class RocksDBSstFileWriter {
    */
   protected static final String ROCKSDB_LAST_FINISHED_SST_FILE_NO = "rocksdb_last_finished_sst_file_no";
   protected static final String ROCKSDB_LAST_FINISHED_RMD_SST_FILE_NO = "rocksdb_last_finished_rmd_sst_file_no";
+  /**
+   * The last SST file moved into the database by the incremental ingestion, and the SST files up to it are no longer in
+   * the temp SST file dir.
+   */
+  protected static final String ROCKSDB_LAST_INGESTED_SST_FILE_NO = "rocksdb_last_ingested_sst_file_no";
+  protected static final String ROCKSDB_LAST_INGESTED_RMD_SST_FILE_NO = "rocksdb_last_ingested_rmd_sst_file_no";
   protected static final int DEFAULT_COLUMN_FAMILY_INDEX = 0;
   protected static final int REPLICATION_METADATA_COLUMN_FAMILY_INDEX = 1;
   private static final int REMOVE_ALL_SST_FILES = -1;
@@ -77,7 +101,24 @@ public class RocksDBSstFileWriter {
   private int currentSSTFileNo = 0;
   private SstFileWriter currentSSTFileWriter;
   private long recordNumInCurrentSSTFile = 0;
-  private long recordNumInAllSSTFiles = 0;
+  private volatile long recordNumInAllSSTFiles = 0;
+  /**
+   * The first SST file finished after the last sync, and the number of records handed over since the last sync, which
+   * are verified against the checksum of the next sync.
+   */
+  private int firstUnverifiedSSTFileNo = 0;
+  private long recordNumSinceLastSync = 0;
+  /**
+   * The last finished SST file returned by the last sync, or the one restored from the checkpoint, and the SST files up
+   * to it are covered by the checkpoint once the upper layer persists the checkpointing info of the sync.
+   */
+  private int lastSyncedSSTFileNo = -1;
+  private int lastIngestedSSTFileNo = -1;
+  private ExecutorService writerExecutor;
+  private ExecutorService checksumExecutor;
+  private Semaphore pipelineBufferPermits;
+  private Future<?> lastChecksumVerification;
+  private volatile Throwable pipelineFailure;
   private String fullPathForTempSSTFileDir;
   private Optional<Supplier<byte[]>> expectedChecksumSupplier;
   private final String storeName;
@@ -98,6 +139,7 @@ public class RocksDBSstFileWriter {
   }
 
   private final String lastCheckPointedSSTFileNum;
+  private final String lastIngestedSSTFileNum;
 
   public RocksDBSstFileWriter(
       String storeName,
@@ -115,6 +157,7 @@ public class RocksDBSstFileWriter {
     this.fullPathForTempSSTFileDir = fullPathForTempSSTFileDir;
     this.isRMD = isRMD;
     this.lastCheckPointedSSTFileNum = isRMD ? ROCKSDB_LAST_FINISHED_RMD_SST_FILE_NO : ROCKSDB_LAST_FINISHED_SST_FILE_NO;
+    this.lastIngestedSSTFileNum = isRMD ? ROCKSDB_LAST_INGESTED_RMD_SST_FILE_NO : ROCKSDB_LAST_INGESTED_SST_FILE_NO;
     this.rocksDBServerConfig = rocksDBServerConfig;
   }
 
@@ -124,6 +167,38 @@ public class RocksDBSstFileWriter {
           "currentSSTFileWriter is null for store: " + storeName + ", partition id: " + partitionId
               + ", 'beginBatchWrite' should be invoked before any write");
     }
+    if (writerExecutor == null) {
+      doPut(key, valueBuffer);
+    } else {
+      checkPipelineFailure();
+      // The caller may reuse the key and the value buffer once this function returns.
+      byte[] keyCopy = key.clone();
+      byte[] valueCopy = ByteUtils.copyByteArray(valueBuffer);
+      int permits = (int) Math.min(keyCopy.length + valueCopy.length, getPipelineBufferSizeInBytes());
+      acquirePipelineBuffer(permits);
+      try {
+        writerExecutor.execute(() -> {
+          try {
+            if (pipelineFailure == null) {
+              doPut(keyCopy, ByteBuffer.wrap(valueCopy));
+            }
+          } catch (Throwable e) {
+            pipelineFailure = e;
+          } finally {
+            pipelineBufferPermits.release(permits);
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        pipelineBufferPermits.release(permits);
+        throw new VeniceException(
+            "SST file writer is already closed for store: " + storeName + ", partition id: " + partitionId,
+            e);
+      }
+    }
+    ++recordNumSinceLastSync;
+  }
+
+  private void doPut(byte[] key, ByteBuffer valueBuffer) throws RocksDBException {
     if (rocksDBServerConfig.isPutReuseByteBufferEnabled()) {
       ReusableObjects reusableObjects = threadLocalReusableObjects.get();
       reusableObjects.directKeyBuffer.clear();
@@ -146,6 +221,62 @@ public class RocksDBSstFileWriter {
     }
     ++recordNumInCurrentSSTFile;
     ++recordNumInAllSSTFiles;
+    long targetSSTFileSize = rocksDBServerConfig.getSstFileTargetSizeInBytes();
+    if (targetSSTFileSize > 0 && currentSSTFileWriter.fileSize() >= targetSSTFileSize) {
+      rollCurrentSSTFile();
+    }
+  }
+
+  /**
+   * Finishes the current SST file and starts writing the next one.
+   */
+  private void rollCurrentSSTFile() throws RocksDBException {
+    currentSSTFileWriter.finish();
+    lastFinishedSSTFileNo = currentSSTFileNo;
+    ++currentSSTFileNo;
+    String fullPathForCurrentSSTFile = composeFullPathForSSTFile(currentSSTFileNo);
+    currentSSTFileWriter.open(fullPathForCurrentSSTFile);
+    recordNumInCurrentSSTFile = 0;
+    LOGGER.info(
+        "Finished sst file: {} for store: {}, partition id: {}, current sst file: {}",
+        composeFullPathForSSTFile(lastFinishedSSTFileNo),
+        storeName,
+        partitionId,
+        fullPathForCurrentSSTFile);
+  }
+
+  private long getPipelineBufferSizeInBytes() {
+    return Math.max(1, Math.min(Integer.MAX_VALUE, rocksDBServerConfig.getSstFileWriterPipelineBufferSizeInBytes()));
+  }
+
+  private void acquirePipelineBuffer(int permits) {
+    try {
+      while (!pipelineBufferPermits.tryAcquire(permits, 1, TimeUnit.SECONDS)) {
+        checkPipelineFailure();
+        if (writerExecutor.isShutdown()) {
+          throw new VeniceException(
+              "SST file writer is already closed for store: " + storeName + ", partition id: " + partitionId);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException(
+          "Interrupted while waiting for the SST file writer of store: " + storeName + ", partition id: " + partitionId,
+          e);
+    }
+  }
+
+  private void checkPipelineFailure() {
+    Throwable failure = pipelineFailure;
+    if (failure == null) {
+      return;
+    }
+    if (failure instanceof VeniceException) {
+      throw (VeniceException) failure;
+    }
+    throw new VeniceException(
+        "SST file writer failed for store: " + storeName + ", partition id: " + partitionId,
+        failure);
   }
 
   /**
@@ -169,14 +300,17 @@ public class RocksDBSstFileWriter {
           storeName,
           partitionId);
       lastFinishedSSTFileNo = -1;
+      lastIngestedSSTFileNo = -1;
       currentSSTFileNo = 0;
       // Blindly remove all the temp sst files if found any. Will be recreated.
       removeAllSSTFiles();
     } else {
       lastFinishedSSTFileNo = Integer.parseInt(checkpointedInfo.get(lastCheckPointedSSTFileNum));
+      lastIngestedSSTFileNo = Integer.parseInt(checkpointedInfo.getOrDefault(lastIngestedSSTFileNum, "-1"));
       LOGGER.info(
-          "Received last finished sst file no: {} for store: {}, partition id: {}",
+          "Received last finished sst file no: {}, last ingested sst file no: {} for store: {}, partition id: {}",
           lastFinishedSSTFileNo,
+          lastIngestedSSTFileNo,
           storeName,
           partitionId);
 
@@ -185,6 +319,11 @@ public class RocksDBSstFileWriter {
       if (lastFinishedSSTFileNo < 0) {
         throw new VeniceException("Last finished sst file no: " + lastFinishedSSTFileNo + " shouldn't be negative");
       }
+      if (lastIngestedSSTFileNo > lastFinishedSSTFileNo) {
+        throw new VeniceException(
+            "Last ingested sst file no: " + lastIngestedSSTFileNo
+                + " shouldn't be larger than last finished sst file no: " + lastFinishedSSTFileNo);
+      }
       if (doesAllPreviousSSTFilesBeforeCheckpointingExist()) {
         // remove the unwanted sst files, as flow will continue from the checkpointed info
         removeSSTFilesAfterCheckpointing(this.lastFinishedSSTFileNo);
@@ -195,6 +334,7 @@ public class RocksDBSstFileWriter {
             partitionId);
       } else {
         // remove all the temp sst files if found any as ingestion will be restarted from beginning
+        lastIngestedSSTFileNo = -1;
         removeAllSSTFiles();
         LOGGER.info("Ingestion will restart from the beginning for store: {} partition: {}", storeName, partitionId);
         return false;
@@ -224,61 +364,138 @@ public class RocksDBSstFileWriter {
       throw new VeniceException("Failed to open file: " + fullPathForCurrentSSTFile + " with SstFileWriter");
     }
     this.expectedChecksumSupplier = expectedChecksumSupplier;
+    this.firstUnverifiedSSTFileNo = currentSSTFileNo;
+    this.recordNumSinceLastSync = 0;
+    this.lastSyncedSSTFileNo = lastFinishedSSTFileNo;
+    this.pipelineFailure = null;
+    if (rocksDBServerConfig.isSstFileWriterPipelinedEnabled() && writerExecutor == null) {
+      String threadNamePrefix = "RocksDB-SST-" + (isRMD ? "RMD-" : "") + storeName + "-" + partitionId;
+      this.pipelineBufferPermits = new Semaphore((int) getPipelineBufferSizeInBytes());
+      this.writerExecutor = Executors.newSingleThreadExecutor(new DaemonThreadFactory(threadNamePrefix + "-Writer"));
+      if (!isRMD && expectedChecksumSupplier.isPresent()) {
+        this.checksumExecutor =
+            Executors.newSingleThreadExecutor(new DaemonThreadFactory(threadNamePrefix + "-Checksum"));
+      }
+    }
   }
 
   public void close() {
+    // The writer thread must be stopped before closing the SstFileWriter it is using.
+    shutdownPipeline();
     if (currentSSTFileWriter != null) {
       currentSSTFileWriter.close();
     }
   }
 
+  private void shutdownPipeline() {
+    for (ExecutorService executor: Arrays.asList(writerExecutor, checksumExecutor)) {
+      if (executor == null) {
+        continue;
+      }
+      executor.shutdownNow();
+      try {
+        if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+          LOGGER.warn(
+              "SST file writer threads didn't stop in time for store: {}, partition: {}",
+              storeName,
+              partitionId);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    writerExecutor = null;
+    checksumExecutor = null;
+    lastChecksumVerification = null;
+  }
+
   /**
-   * Closes currentSSTFileWriter, update lastCheckPointedSSTFileNum with the current SST file number,
-   * validates checksum on this SST file and return updated checkpointingInfo with this lastCheckPointedSSTFileNum.
+   * Runs the given task on the writer thread after all the records handed over before, or right away on the calling
+   * thread if the writer is not pipelined.
    */
-  public Map<String, String> sync() {
+  private void runOnWriterThread(RocksDBTask task) {
+    if (writerExecutor == null) {
+      try {
+        task.run();
+      } catch (RocksDBException e) {
+        throw new VeniceException("Failed to sync SstFileWriter", e);
+      }
+      return;
+    }
+    Future<?> future;
     try {
-      /**
-       * {@link SstFileWriter#finish()} will throw exception if the current SST file is empty.
-       */
-      if (recordNumInCurrentSSTFile > 0) {
-        currentSSTFileWriter.finish();
-        lastFinishedSSTFileNo = currentSSTFileNo;
-        ++currentSSTFileNo;
-        String fullPathForLastFinishedSSTFile = composeFullPathForSSTFile(lastFinishedSSTFileNo);
-        String fullPathForCurrentSSTFile = composeFullPathForSSTFile(currentSSTFileNo);
-        currentSSTFileWriter.open(fullPathForCurrentSSTFile);
+      future = writerExecutor.submit(() -> {
+        checkPipelineFailure();
+        task.run();
+        return null;
+      });
+    } catch (RejectedExecutionException e) {
+      throw new VeniceException(
+          "SST file writer is already closed for store: " + storeName + ", partition id: " + partitionId,
+          e);
+    }
+    waitFor(future);
+  }
 
-        LOGGER.info(
-            "Sync gets invoked for store: {}, partition id: {}, last finished sst file: {} current sst file: {}",
-            storeName,
-            partitionId,
-            fullPathForLastFinishedSSTFile,
-            fullPathForCurrentSSTFile);
-        long recordNumInLastSSTFile = recordNumInCurrentSSTFile;
-        recordNumInCurrentSSTFile = 0;
-
-        if (!isRMD && expectedChecksumSupplier.isPresent()) {
-          byte[] checksumToMatch = expectedChecksumSupplier.get().get();
-          long startMs = System.currentTimeMillis();
-          if (!verifyChecksum(fullPathForLastFinishedSSTFile, recordNumInLastSSTFile, checksumToMatch)) {
-            throw new VeniceChecksumException(
-                "verifyChecksum: failure. last sstFile checksum didn't match for store: " + storeName + ", partition: "
-                    + partitionId + ", sstFile: " + fullPathForLastFinishedSSTFile + ", records: "
-                    + recordNumInLastSSTFile + ", latency(ms): " + LatencyUtils.getElapsedTimeFromMsToMs(startMs),
-                partitionId);
-          }
-        }
-      } else if (!isRMD) {
-        LOGGER.warn(
-            "Sync gets invoked for store: {}, partition id: {}, but the last sst file: {} is empty",
-            storeName,
-            partitionId,
-            composeFullPathForSSTFile(currentSSTFileNo));
+  private void waitFor(Future<?> future) {
+    try {
+      future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException(
+          "Interrupted while waiting for the SST file writer of store: " + storeName + ", partition id: " + partitionId,
+          e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof VeniceException) {
+        throw (VeniceException) e.getCause();
       }
-    } catch (RocksDBException e) {
-      throw new VeniceException("Failed to sync SstFileWriter", e);
+      if (e.getCause() instanceof RocksDBException) {
+        throw new VeniceException("Failed to sync SstFileWriter", e.getCause());
+      }
+      throw new VeniceException(
+          "SST file writer failed for store: " + storeName + ", partition id: " + partitionId,
+          e.getCause());
     }
+    checkPipelineFailure();
+  }
+
+  /**
+   * Waits for the checksum verification of all the SST files finished so far.
+   */
+  private void waitForChecksumVerification() {
+    if (lastChecksumVerification != null) {
+      // The checksum executor is single-threaded, so the last verification completes after all the previous ones.
+      waitFor(lastChecksumVerification);
+      lastChecksumVerification = null;
+    }
+    checkPipelineFailure();
+  }
+
+  private interface RocksDBTask {
+    void run() throws RocksDBException;
+  }
+
+  /**
+   * Closes currentSSTFileWriter, update lastCheckPointedSSTFileNum with the current SST file number,
+   * validates checksum on the SST files finished since the last sync and return updated checkpointingInfo with this
+   * lastCheckPointedSSTFileNum.
+   *
+   * In pipelined mode, this function waits for the writer thread to write all the records handed over before, so the
+   * returned checkpointing info only covers the finished SST files, but it doesn't wait for the checksum verification,
+   * which deletes the unverified SST files on failure, so a restart from the returned checkpoint won't pass
+   * {@link #checkDatabaseIntegrity}.
+   */
+  public Map<String, String> sync() {
+    long expectedRecordNum = recordNumSinceLastSync;
+    recordNumSinceLastSync = 0;
+    byte[] checksumToMatch = null;
+    if (expectedRecordNum > 0 && !isRMD && expectedChecksumSupplier.isPresent()) {
+      // The expected checksum is maintained by the calling thread, so it has to be fetched here.
+      checksumToMatch = expectedChecksumSupplier.get().get();
+    }
+    byte[] finalChecksumToMatch = checksumToMatch;
+    runOnWriterThread(() -> doSync(expectedRecordNum, finalChecksumToMatch));
+    lastSyncedSSTFileNo = lastFinishedSSTFileNo;
     /**
      * Return the recovery related info to upper layer to checkpoint.
      */
@@ -286,9 +503,68 @@ public class RocksDBSstFileWriter {
     if (lastFinishedSSTFileNo >= 0) {
       checkpointingInfo.put(lastCheckPointedSSTFileNum, Integer.toString(lastFinishedSSTFileNo));
     }
+    if (lastIngestedSSTFileNo >= 0) {
+      checkpointingInfo.put(lastIngestedSSTFileNum, Integer.toString(lastIngestedSSTFileNo));
+    }
     return checkpointingInfo;
   }
 
+  private void doSync(long expectedRecordNum, byte[] checksumToMatch) throws RocksDBException {
+    /**
+     * {@link SstFileWriter#finish()} will throw exception if the current SST file is empty.
+     */
+    if (recordNumInCurrentSSTFile > 0) {
+      rollCurrentSSTFile();
+    } else if (!isRMD && firstUnverifiedSSTFileNo > lastFinishedSSTFileNo) {
+      LOGGER.warn(
+          "Sync gets invoked for store: {}, partition id: {}, but the last sst file: {} is empty",
+          storeName,
+          partitionId,
+          composeFullPathForSSTFile(currentSSTFileNo));
+    }
+    if (firstUnverifiedSSTFileNo > lastFinishedSSTFileNo) {
+      return;
+    }
+    List<String> unverifiedSSTFilePaths = composeFullPathsForSSTFiles(firstUnverifiedSSTFileNo, lastFinishedSSTFileNo);
+    firstUnverifiedSSTFileNo = lastFinishedSSTFileNo + 1;
+    LOGGER.info(
+        "Sync gets invoked for store: {}, partition id: {}, finished sst files: {}",
+        storeName,
+        partitionId,
+        unverifiedSSTFilePaths);
+    if (checksumToMatch == null) {
+      return;
+    }
+    if (checksumExecutor == null) {
+      verifyChecksumOrThrow(unverifiedSSTFilePaths, expectedRecordNum, checksumToMatch);
+      return;
+    }
+    lastChecksumVerification = checksumExecutor.submit(() -> {
+      try {
+        verifyChecksumOrThrow(unverifiedSSTFilePaths, expectedRecordNum, checksumToMatch);
+      } catch (Throwable e) {
+        // Make sure a restart from the checkpoint covering these files will re-ingest the partition from scratch.
+        for (String path: unverifiedSSTFilePaths) {
+          if (!new File(path).delete()) {
+            LOGGER.warn("Failed to delete the unverified sst file: {}", path);
+          }
+        }
+        pipelineFailure = e;
+      }
+    });
+  }
+
+  private void verifyChecksumOrThrow(List<String> sstFilePaths, long expectedRecordNum, byte[] checksumToMatch) {
+    long startMs = System.currentTimeMillis();
+    if (!verifyChecksum(sstFilePaths, expectedRecordNum, checksumToMatch)) {
+      throw new VeniceChecksumException(
+          "verifyChecksum: failure. last sstFile checksum didn't match for store: " + storeName + ", partition: "
+              + partitionId + ", sstFiles: " + sstFilePaths + ", records: " + expectedRecordNum + ", latency(ms): "
+              + LatencyUtils.getElapsedTimeFromMsToMs(startMs),
+          partitionId);
+    }
+  }
+
   private void removeSSTFilesAfterCheckpointing(int lastFinishedSSTFileNo) {
     File tempSSTFileDir = new File(fullPathForTempSSTFileDir);
     String[] sstFiles = tempSSTFileDir.list((File dir, String name) -> RocksDBUtils.isTempSSTFile(name));
@@ -317,7 +593,8 @@ public class RocksDBSstFileWriter {
       LOGGER.info("Since last finished sst file no is negative, there is nothing to verify");
       return true;
     }
-    int currFileNo = 0;
+    // The files up to the last ingested one have been moved into the database.
+    int currFileNo = lastIngestedSSTFileNo + 1;
     for (; currFileNo <= lastFinishedSSTFileNo; ++currFileNo) {
       String sstFilePath = composeFullPathForSSTFile(currFileNo);
       File sstFile = new File(sstFilePath);
@@ -360,48 +637,62 @@ public class RocksDBSstFileWriter {
     return fullPathForTempSSTFileDir + File.separator + RocksDBUtils.composeTempSSTFileName(sstFileNo);
   }
 
+  private List<String> composeFullPathsForSSTFiles(int fromSSTFileNo, int toSSTFileNo) {
+    List<String> sstFilePaths = new ArrayList<>(toSSTFileNo - fromSSTFileNo + 1);
+    for (int sstFileNo = fromSSTFileNo; sstFileNo <= toSSTFileNo; ++sstFileNo) {
+      sstFilePaths.add(composeFullPathForSSTFile(sstFileNo));
+    }
+    return sstFilePaths;
+  }
+
   /**
-   * This function calculates checksum of all the key/value pair stored in the input sstFilePath. It then
+   * This function calculates checksum of all the key/value pair stored in the input sstFilePaths in order. It then
    * verifies if the checksum matches with the input checksumToMatch and return the result.
    * A SstFileReader handle is used to perform bulk scan through the entire SST file. fillCache option is
    * explicitly disabled to not pollute the rocksdb internal block caches. And also implicit checksum verification
    * is disabled to reduce latency of the entire operation.
    *
-   * @param sstFilePath the full absolute path of the SST file
-   * @param expectedRecordNumInSSTFile expected number of key/value pairs in the SST File
+   * @param sstFilePaths the full absolute paths of the SST files, in the order of the records
+   * @param expectedRecordNumInSSTFiles expected number of key/value pairs in all the SST Files
    * @param checksumToMatch pre-calculated checksum to match against.
-   * @return true if the sstFile checksum matches with the provided checksum.
+   * @return true if the sstFiles checksum matches with the provided checksum.
    */
-  private boolean verifyChecksum(String sstFilePath, long expectedRecordNumInSSTFile, byte[] checksumToMatch) {
+  private boolean verifyChecksum(List<String> sstFilePaths, long expectedRecordNumInSSTFiles, byte[] checksumToMatch) {
     SstFileReader sstFileReader = null;
     SstFileReaderIterator sstFileReaderIterator = null;
 
     try {
-      sstFileReader = new SstFileReader(options);
-      sstFileReader.open(sstFilePath);
       final ReadOptions readOptions = new ReadOptions();
       readOptions.setVerifyChecksums(false);
       readOptions.setFillCache(false);
 
-      long actualRecordCounts = sstFileReader.getTableProperties().getNumEntries();
-      if (actualRecordCounts != expectedRecordNumInSSTFile) {
+      long actualRecordCounts = 0;
+      long recordCount = 0;
+      CheckSum sstFileFinalCheckSum = CheckSum.getInstance(CheckSumType.MD5);
+      for (String sstFilePath: sstFilePaths) {
+        sstFileReader = new SstFileReader(options);
+        sstFileReader.open(sstFilePath);
+        actualRecordCounts += sstFileReader.getTableProperties().getNumEntries();
+        sstFileReaderIterator = sstFileReader.newIterator(readOptions);
+        sstFileReaderIterator.seekToFirst();
+        while (sstFileReaderIterator.isValid()) {
+          sstFileFinalCheckSum.update(sstFileReaderIterator.key());
+          sstFileFinalCheckSum.update(sstFileReaderIterator.value());
+          sstFileReaderIterator.next();
+          recordCount++;
+        }
+        sstFileReaderIterator.close();
+        sstFileReaderIterator = null;
+        sstFileReader.close();
+        sstFileReader = null;
+      }
+      if (actualRecordCounts != expectedRecordNumInSSTFiles) {
         LOGGER.error(
             "verifyChecksum: failure. SSTFile record count does not match expected: {} actual: {}",
-            expectedRecordNumInSSTFile,
+            expectedRecordNumInSSTFiles,
             actualRecordCounts);
         return false;
       }
-
-      long recordCount = 0;
-      CheckSum sstFileFinalCheckSum = CheckSum.getInstance(CheckSumType.MD5);
-      sstFileReaderIterator = sstFileReader.newIterator(readOptions);
-      sstFileReaderIterator.seekToFirst();
-      while (sstFileReaderIterator.isValid()) {
-        sstFileFinalCheckSum.update(sstFileReaderIterator.key());
-        sstFileFinalCheckSum.update(sstFileReaderIterator.value());
-        sstFileReaderIterator.next();
-        recordCount++;
-      }
       final byte[] finalChecksum = sstFileFinalCheckSum.getCheckSum();
       boolean result = Arrays.equals(finalChecksum, checksumToMatch);
       if (!result) {
@@ -466,7 +757,31 @@ public class RocksDBSstFileWriter {
     }
   }
 
+  /**
+   * Moves the SST files covered by the checkpoint of the last sync into the database when
+   * {@link RocksDBServerConfig#ROCKSDB_SST_FILE_INCREMENTAL_INGESTION_ENABLED} is on, and it is a no-op otherwise.
+   *
+   * This function is meant to be invoked right before the next {@link #sync}, at which point the upper layer has
+   * persisted the checkpointing info of the last sync, so a restart never looks for the files moved into the database,
+   * check {@link #doesAllPreviousSSTFilesBeforeCheckpointingExist}.
+   */
+  public void ingestCheckpointedSSTFiles(RocksDB rocksDB, List<ColumnFamilyHandle> columnFamilyHandleList) {
+    if (!rocksDBServerConfig.isSstFileIncrementalIngestionEnabled() || lastSyncedSSTFileNo <= lastIngestedSSTFileNo) {
+      return;
+    }
+    waitForChecksumVerification();
+    ingestSSTFiles(
+        rocksDB,
+        columnFamilyHandleList,
+        composeFullPathsForSSTFiles(lastIngestedSSTFileNo + 1, lastSyncedSSTFileNo));
+    lastIngestedSSTFileNo = lastSyncedSSTFileNo;
+  }
+
   public void ingestSSTFiles(RocksDB rocksDB, List<ColumnFamilyHandle> columnFamilyHandleList) {
+    // Wait for the records handed over to the writer thread, and no more records are expected for this batch push.
+    runOnWriterThread(() -> {});
+    waitForChecksumVerification();
+    shutdownPipeline();
     List<String> sstFilePaths = getTemporarySSTFilePaths();
     if (sstFilePaths.isEmpty()) {
       LOGGER.info(
@@ -475,6 +790,14 @@ public class RocksDBSstFileWriter {
           partitionId);
       return;
     }
+    ingestSSTFiles(rocksDB, columnFamilyHandleList, sstFilePaths);
+    lastIngestedSSTFileNo = lastFinishedSSTFileNo;
+  }
+
+  private void ingestSSTFiles(
+      RocksDB rocksDB,
+      List<ColumnFamilyHandle> columnFamilyHandleList,
+      List<String> sstFilePaths) {
     LOGGER.info(
         "Start ingesting to store: " + storeName + ", partition id: " + partitionId + " from files: " + sstFilePaths);
     try (IngestExternalFileOptions ingestOptions = new IngestExternalFileOptions()) {
@@ -483,7 +806,10 @@ public class RocksDBSstFileWriter {
           ? columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX)
           : columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX);
 
-      deleteOldIngestion(rocksDB, columnFamilyHandle);
+      // The files ingested incrementally before belong to the current ingestion.
+      if (lastIngestedSSTFileNo < 0) {
+        deleteOldIngestion(rocksDB, columnFamilyHandle);
+      }
 
       rocksDB.ingestExternalFile(columnFamilyHandle, sstFilePaths, ingestOptions);
 
@@ -0,0 +1,169 @@
+package com.linkedin.davinci.store.rocksdb;
+
+import com.linkedin.venice.utils.Time;
+import java.io.Closeable;
+import java.util.EnumSet;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.rocksdb.HistogramType;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.Statistics;
+import org.rocksdb.TickerType;
+
+
+/**
+ * Owns the RocksDB {@link Statistics} of a single store version when
+ * {@link RocksDBServerConfig#ROCKSDB_PER_STORE_STATISTICS_ENABLED} is on, and turns the cumulative tickers and
+ * histograms into the values of the last sample interval.
+ *
+ * The sampling is driven by the metric collection: the first read after the interval has elapsed takes a new
+ * {@link Snapshot} and resets the statistics, and the other reads within the interval get the same snapshot, so all the
+ * metrics of the store version emitted in one collection are consistent. The events recorded between reading the
+ * statistics and resetting them are dropped, which is negligible for the ratios and percentiles.
+ */
+public class RocksDBStatisticsSampler implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(RocksDBStatisticsSampler.class);
+  /**
+   * Only the latency histograms of the read path are collected, since every histogram adds overhead to the operations.
+   */
+  private static final EnumSet<HistogramType> IGNORED_HISTOGRAMS =
+      EnumSet.complementOf(EnumSet.of(HistogramType.DB_GET, HistogramType.DB_MULTIGET));
+
+  private final Statistics statistics;
+  private final long sampleIntervalMs;
+  private final Time time;
+
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+  private volatile long lastSampleTimeMs;
+  private boolean closed = false;
+
+  public RocksDBStatisticsSampler(long sampleIntervalMs, Time time) {
+    this(new Statistics(IGNORED_HISTOGRAMS), sampleIntervalMs, time);
+  }
+
+  RocksDBStatisticsSampler(Statistics statistics, long sampleIntervalMs, Time time) {
+    this.statistics = statistics;
+    this.sampleIntervalMs = sampleIntervalMs;
+    this.time = time;
+    this.lastSampleTimeMs = time.getMilliseconds();
+  }
+
+  /**
+   * @return the statistics to be set in the options of every partition of the store version.
+   */
+  public Statistics getStatistics() {
+    return statistics;
+  }
+
+  public Snapshot getSnapshot() {
+    long currentTimeMs = time.getMilliseconds();
+    if (currentTimeMs - lastSampleTimeMs >= sampleIntervalMs) {
+      synchronized (this) {
+        if (!closed && currentTimeMs - lastSampleTimeMs >= sampleIntervalMs) {
+          snapshot = new Snapshot(statistics);
+          lastSampleTimeMs = currentTimeMs;
+          try {
+            statistics.reset();
+          } catch (RocksDBException e) {
+            // The next snapshot covers more than one interval, which is still better than no data.
+            LOGGER.warn("Failed to reset the RocksDB statistics", e);
+          }
+        }
+      }
+    }
+    return snapshot;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (!closed) {
+      closed = true;
+      statistics.close();
+    }
+  }
+
+  /**
+   * The RocksDB statistics of a store version in one sample interval.
+   */
+  public static class Snapshot {
+    static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0, 0);
+
+    private final double blockCacheHitRatio;
+    private final double bloomFilterUsefulRatio;
+    private final double readAmplification;
+    private final double stallTimeMs;
+    private final double getLatencyP99Ms;
+    private final double multiGetLatencyP99Ms;
+
+    Snapshot(Statistics statistics) {
+      this(
+          ratio(
+              statistics.getTickerCount(TickerType.BLOCK_CACHE_HIT),
+              statistics.getTickerCount(TickerType.BLOCK_CACHE_MISS)),
+          ratio(
+              statistics.getTickerCount(TickerType.BLOOM_FILTER_USEFUL),
+              statistics.getTickerCount(TickerType.BLOOM_FILTER_FULL_POSITIVE)),
+          divide(
+              statistics.getTickerCount(TickerType.READ_AMP_TOTAL_READ_BYTES),
+              statistics.getTickerCount(TickerType.READ_AMP_ESTIMATE_USEFUL_BYTES)),
+          statistics.getTickerCount(TickerType.STALL_MICROS) / 1000d,
+          statistics.getHistogramData(HistogramType.DB_GET).getPercentile99() / 1000d,
+          statistics.getHistogramData(HistogramType.DB_MULTIGET).getPercentile99() / 1000d);
+    }
+
+    Snapshot(
+        double blockCacheHitRatio,
+        double bloomFilterUsefulRatio,
+        double readAmplification,
+        double stallTimeMs,
+        double getLatencyP99Ms,
+        double multiGetLatencyP99Ms) {
+      this.blockCacheHitRatio = blockCacheHitRatio;
+      this.bloomFilterUsefulRatio = bloomFilterUsefulRatio;
+      this.readAmplification = readAmplification;
+      this.stallTimeMs = stallTimeMs;
+      this.getLatencyP99Ms = getLatencyP99Ms;
+      this.multiGetLatencyP99Ms = multiGetLatencyP99Ms;
+    }
+
+    private static double ratio(long hits, long misses) {
+      return divide(hits, hits + misses);
+    }
+
+    private static double divide(long dividend, long divisor) {
+      return divisor == 0 ? 0 : dividend / (double) divisor;
+    }
+
+    public double getBlockCacheHitRatio() {
+      return blockCacheHitRatio;
+    }
+
+    /**
+     * @return the ratio of the lookups whose disk reads are avoided by the bloom filters. It is the ratio of the
+     *         bloom filter negatives to all the bloom filter checks.
+     */
+    public double getBloomFilterUsefulRatio() {
+      return bloomFilterUsefulRatio;
+    }
+
+    /**
+     * @return the bytes read from the disk per useful byte, which is only available when
+     *         {@code read_amp_bytes_per_bit} is set in the table options, and 0 otherwise.
+     */
+    public double getReadAmplification() {
+      return readAmplification;
+    }
+
+    public double getStallTimeMs() {
+      return stallTimeMs;
+    }
+
+    public double getGetLatencyP99Ms() {
+      return getLatencyP99Ms;
+    }
+
+    public double getMultiGetLatencyP99Ms() {
+      return multiGetLatencyP99Ms;
+    }
+  }
+}
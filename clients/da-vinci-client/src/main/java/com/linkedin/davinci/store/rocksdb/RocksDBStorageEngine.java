@@ -85,7 +85,11 @@ public class RocksDBStorageEngine extends AbstractStorageEngine<RocksDBStoragePa
       }
     }
 
-    this.stats = new RocksDBStorageEngineStats(storeDbPath, this::getRMDSizeInBytes, this::getKeyCountEstimate);
+    this.stats = new RocksDBStorageEngineStats(
+        storeDbPath,
+        this::getRMDSizeInBytes,
+        this::getKeyCountEstimate,
+        factory.getStatisticsSampler(getStoreVersionName()));
 
     // restoreStoragePartitions will create metadata partition if not exist.
     restoreStoragePartitions(storeConfig.isRestoreMetadataPartition(), storeConfig.isRestoreDataPartitions());
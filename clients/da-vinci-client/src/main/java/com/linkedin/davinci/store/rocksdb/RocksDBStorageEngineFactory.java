@@ -16,10 +16,14 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
@@ -29,6 +33,8 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -69,6 +75,11 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
   private Cache sharedRMDCache;
   private final Map<String, RocksDBStorageEngine> storageEngineMap = new HashMap<>();
   private final Optional<Statistics> aggStatistics;
+  /**
+   * The per-store statistics keyed by the store version name, check
+   * {@link RocksDBServerConfig#ROCKSDB_PER_STORE_STATISTICS_ENABLED}.
+   */
+  private final Map<String, RocksDBStatisticsSampler> statisticsSamplerMap = new VeniceConcurrentHashMap<>();
 
   /**
    * https://github.com/facebook/rocksdb/wiki/Write-Buffer-Manager
@@ -102,6 +113,12 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
 
   private final VeniceServerConfig serverConfig;
 
+  /**
+   * Builds the {@link MemoryMappedImmutablePartition} of the read-only partitions in the background, and a single
+   * thread is used since the build is bounded by the disk throughput.
+   */
+  private final ExecutorService memoryMappedPartitionBuildExecutor;
+
   public RocksDBStorageEngineFactory(VeniceServerConfig serverConfig) {
     this(
         serverConfig,
@@ -221,6 +238,9 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
         && !rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
       rocksDBMemoryStats.setRMDBlockCache(sharedRMDCache, rocksDBServerConfig.getRocksDBRMDBlockCacheSizeInBytes());
     }
+    this.memoryMappedPartitionBuildExecutor = rocksDBServerConfig.isMemoryMappedReadOnlyPartitionEnabled()
+        ? Executors.newSingleThreadExecutor(new DaemonThreadFactory("RocksDB-MemoryMappedPartitionBuild"))
+        : null;
   }
 
   public long getMemtableSize() {
@@ -231,10 +251,60 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
     return aggStatistics;
   }
 
+  /**
+   * @return the per-store statistics of the given store version if any, otherwise the host-level statistics.
+   */
+  public Optional<Statistics> getStatistics(String storeVersionName) {
+    RocksDBStatisticsSampler sampler = statisticsSamplerMap.get(storeVersionName);
+    return sampler == null ? aggStatistics : Optional.of(sampler.getStatistics());
+  }
+
+  /**
+   * @return null if the given store version doesn't have its own statistics.
+   */
+  public RocksDBStatisticsSampler getStatisticsSampler(String storeVersionName) {
+    return statisticsSamplerMap.get(storeVersionName);
+  }
+
+  private void maybeCreateStatisticsSampler(String storeVersionName) {
+    if (!Version.isVersionTopic(storeVersionName)
+        || !rocksDBServerConfig.isPerStoreStatisticsEnabled(Version.parseStoreFromVersionTopic(storeVersionName))) {
+      return;
+    }
+    if (statisticsSamplerMap.size() >= rocksDBServerConfig.getPerStoreStatisticsMaxStoreVersions()) {
+      LOGGER.warn(
+          "Reached the max number of store versions: {} with per-store RocksDB statistics, and store version: {} will"
+              + " use the host-level statistics",
+          rocksDBServerConfig.getPerStoreStatisticsMaxStoreVersions(),
+          storeVersionName);
+      return;
+    }
+    statisticsSamplerMap.put(
+        storeVersionName,
+        new RocksDBStatisticsSampler(rocksDBServerConfig.getPerStoreStatisticsSampleIntervalMs(), SystemTime.INSTANCE));
+  }
+
+  /**
+   * Must be called after the storage engine is closed, since its databases keep using the statistics until then.
+   */
+  private void closeStatisticsSampler(String storeVersionName) {
+    RocksDBStatisticsSampler sampler = statisticsSamplerMap.remove(storeVersionName);
+    if (sampler != null) {
+      sampler.close();
+    }
+  }
+
   public WriteBufferManager getWriteBufferManager() {
     return writeBufferManager;
   }
 
+  /**
+   * @return null if {@link RocksDBServerConfig#ROCKSDB_MEMORY_MAPPED_READ_ONLY_PARTITION_ENABLED} is off.
+   */
+  public ExecutorService getMemoryMappedPartitionBuildExecutor() {
+    return memoryMappedPartitionBuildExecutor;
+  }
+
   public RateLimiter getRateLimiter() {
     return rateLimiter;
   }
@@ -264,19 +334,21 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
     verifyPersistenceType(storeConfig);
     final String storeName = storeConfig.getStoreVersionName();
     try {
-      return storageEngineMap.computeIfAbsent(
-          storeName,
-          ignored -> new RocksDBStorageEngine(
-              storeConfig,
-              this,
-              rocksDBPath,
-              rocksDBMemoryStats,
-              rocksDBThrottler,
-              rocksDBServerConfig,
-              storeVersionStateSerializer,
-              partitionStateSerializer,
-              replicationMetadataEnabled));
+      return storageEngineMap.computeIfAbsent(storeName, ignored -> {
+        maybeCreateStatisticsSampler(storeName);
+        return new RocksDBStorageEngine(
+            storeConfig,
+            this,
+            rocksDBPath,
+            rocksDBMemoryStats,
+            rocksDBThrottler,
+            rocksDBServerConfig,
+            storeVersionStateSerializer,
+            partitionStateSerializer,
+            replicationMetadataEnabled);
+      });
     } catch (Exception e) {
+      closeStatisticsSampler(storeName);
       throw new StorageInitializationException(e);
     }
   }
@@ -299,10 +371,15 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
   @Override
   public synchronized void close() {
     LOGGER.info("Closing RocksDBStorageEngineFactory");
+    if (memoryMappedPartitionBuildExecutor != null) {
+      memoryMappedPartitionBuildExecutor.shutdownNow();
+    }
     storageEngineMap.forEach((storeName, storageEngine) -> {
       storageEngine.close();
     });
     storageEngineMap.clear();
+    statisticsSamplerMap.values().forEach(RocksDBStatisticsSampler::close);
+    statisticsSamplerMap.clear();
     sharedCache.close();
     if (sharedRMDCache != null) {
       sharedRMDCache.close();
@@ -324,6 +401,7 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
       LOGGER.info("Started removing RocksDB storage engine for store: {}", storeName);
       storageEngineMap.get(storeName).drop();
       storageEngineMap.remove(storeName);
+      closeStatisticsSampler(storeName);
       LOGGER.info("Finished removing RocksDB storage engine for store: {}", storeName);
     } else {
       LOGGER.info("RocksDB store: {} doesn't exist", storeName);
@@ -378,6 +456,7 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
       LOGGER.info("Started closing RocksDB storage engine for store: {}", storeName);
       storageEngineMap.get(storeName).close();
       storageEngineMap.remove(storeName);
+      closeStatisticsSampler(storeName);
       LOGGER.info("Finished closing RocksDB storage engine for store: {}", storeName);
     } else {
       LOGGER.info("RocksDB store: {} doesn't exist", storeName);
@@ -10,6 +10,7 @@ public class RocksDBStorageEngineStats implements StorageEngineStats {
   private final String storeDbPath;
   private final LongSupplier getRMDSizeInBytes;
   private final LongSupplier getKeyCountEstimate;
+  private final RocksDBStatisticsSampler statisticsSampler;
 
   /**
    * The cached value will be refreshed by {@link #getStoreSizeInBytes()}.
@@ -24,9 +25,18 @@ public class RocksDBStorageEngineStats implements StorageEngineStats {
       String storeDbPath,
       LongSupplier getRMDSizeInBytes,
       LongSupplier getKeyCountEstimate) {
+    this(storeDbPath, getRMDSizeInBytes, getKeyCountEstimate, null);
+  }
+
+  public RocksDBStorageEngineStats(
+      String storeDbPath,
+      LongSupplier getRMDSizeInBytes,
+      LongSupplier getKeyCountEstimate,
+      RocksDBStatisticsSampler statisticsSampler) {
     this.storeDbPath = storeDbPath;
     this.getRMDSizeInBytes = getRMDSizeInBytes;
     this.getKeyCountEstimate = getKeyCountEstimate;
+    this.statisticsSampler = statisticsSampler;
   }
 
   @Override
@@ -64,4 +74,11 @@ public class RocksDBStorageEngineStats implements StorageEngineStats {
     return this.getKeyCountEstimate.getAsLong();
   }
 
+  /**
+   * @return the RocksDB statistics of the last sample interval, or {@link RocksDBStatisticsSampler.Snapshot#EMPTY} if
+   *         the store version doesn't have its own statistics.
+   */
+  public RocksDBStatisticsSampler.Snapshot getRocksDBStatistics() {
+    return statisticsSampler == null ? RocksDBStatisticsSampler.Snapshot.EMPTY : statisticsSampler.getSnapshot();
+  }
 }
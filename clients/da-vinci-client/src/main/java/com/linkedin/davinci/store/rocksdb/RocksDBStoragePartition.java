@@ -11,6 +11,7 @@ import com.linkedin.venice.exceptions.DiskLimitExhaustedException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.ArrayUtils;
 import com.linkedin.venice.utils.ConfigCommonUtils.ActivationState;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Utils;
@@ -26,6 +27,8 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -41,6 +44,7 @@ import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.EnvOptions;
 import org.rocksdb.FlushOptions;
+import org.rocksdb.LiveFileMetaData;
 import org.rocksdb.MemoryUsageType;
 import org.rocksdb.MemoryUtil;
 import org.rocksdb.Options;
@@ -70,7 +74,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   private static final Logger LOGGER = LogManager.getLogger(RocksDBStoragePartition.class);
   protected static final String ROCKSDB_ERROR_MESSAGE_FOR_RUNNING_OUT_OF_DISK_QUOTA = "No space left on device";
   protected static final ReadOptions READ_OPTIONS_DEFAULT = new ReadOptions();
-  static final byte[] REPLICATION_METADATA_COLUMN_FAMILY = "timestamp_metadata".getBytes();
+  public static final byte[] REPLICATION_METADATA_COLUMN_FAMILY = "timestamp_metadata".getBytes();
 
   private static final FlushOptions WAIT_FOR_FLUSH_OPTIONS = new FlushOptions().setWaitForFlush(true);
 
@@ -102,6 +106,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
    * Since all the modification functions are synchronized, we don't need any other synchronization for the update path
    * to guard RocksDB closing behavior.
    * The following {@link #readCloseRWLock} is only used to guard {@link #get} since we don't want to synchronize get requests.
+   * When {@link #concurrentWriteEnabled} is on, the single-key writes aren't synchronized either, and they are guarded
+   * by the read lock as well, see {@link #executeWrite}.
    */
   protected final ReentrantReadWriteLock readCloseRWLock = new ReentrantReadWriteLock();
 
@@ -130,6 +136,12 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
    */
   protected final boolean deferredWrite;
 
+  /**
+   * Whether the single-key writes could run concurrently, see
+   * {@link RocksDBServerConfig#ROCKSDB_CONCURRENT_WRITE_ENABLED}.
+   */
+  protected final boolean concurrentWriteEnabled;
+
   /**
    * Whether the database is read only or not.
    */
@@ -140,11 +152,18 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   protected final boolean readWriteLeaderForRMDCF;
   protected final ActivationState blobDbEnabled;
 
-  private final Optional<Statistics> aggStatistics;
+  private final Optional<Statistics> statistics;
   private final RocksDBMemoryStats rocksDBMemoryStats;
 
   private Optional<Supplier<byte[]>> expectedChecksumSupplier;
 
+  /**
+   * The memory-mapped copy of the default column family, which serves the point lookups of the read-only partition
+   * once it has been loaded. It stays null for the writable partitions or if the feature is disabled.
+   */
+  private final String fullPathForMemoryMappedFiles;
+  private volatile MemoryMappedImmutablePartition memoryMappedPartition;
+
   /**
    * Column Family is the concept in RocksDB to create isolation between different value for the same key. All KVs are
    * stored in `DEFAULT` column family, if no column family is specified.
@@ -173,7 +192,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     this.storeVersion = Version.parseVersionFromVersionTopicPartition(storeNameAndVersion);
     this.partitionId = storagePartitionConfig.getPartitionId();
     this.replicaId = Utils.getReplicaId(storagePartitionConfig.getStoreName(), partitionId);
-    this.aggStatistics = factory.getAggStatistics();
+    this.statistics = factory.getStatistics(storeNameAndVersion);
 
     // If writing to offset metadata partition METADATA_PARTITION_ID enable WAL write to sync up offset on server
     // restart,
@@ -211,6 +230,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     } else {
       this.deferredWrite = storagePartitionConfig.isDeferredWrite();
     }
+    this.concurrentWriteEnabled = rocksDBServerConfig.isConcurrentWriteEnabled() && !deferredWrite;
     this.readOnly = storagePartitionConfig.isReadOnly();
     this.writeOnly = storagePartitionConfig.isWriteOnlyConfig();
     this.blobTransferInProgress = storagePartitionConfig.isBlobTransferInProgress();
@@ -230,6 +250,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     this.rocksDBThrottler = rocksDbThrottler;
     this.fullPathForTempSSTFileDir = RocksDBUtils.composeTempSSTFileDir(dbDir, storeNameAndVersion, partitionId);
     this.fullPathForPartitionDBSnapshot = RocksDBUtils.composeSnapshotDir(dbDir, storeNameAndVersion, partitionId);
+    this.fullPathForMemoryMappedFiles =
+        RocksDBUtils.composeMemoryMappedFileDir(dbDir, storeNameAndVersion, partitionId);
 
     if (deferredWrite) {
       this.rocksDBSstFileWriter = new RocksDBSstFileWriter(
@@ -285,6 +307,15 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
         replicaId,
         this.readOnly ? "read-only" : "read-write",
         this.deferredWrite ? "deferred write" : "non-deferred write");
+
+    ExecutorService memoryMappedPartitionBuildExecutor = factory.getMemoryMappedPartitionBuildExecutor();
+    if (this.readOnly && partitionId != METADATA_PARTITION_ID && memoryMappedPartitionBuildExecutor != null) {
+      try {
+        memoryMappedPartitionBuildExecutor.execute(this::loadMemoryMappedPartition);
+      } catch (RejectedExecutionException e) {
+        LOGGER.warn("Skip loading the memory-mapped partition for replica: {} since the factory is closed", replicaId);
+      }
+    }
   }
 
   public RocksDBStoragePartition(
@@ -313,6 +344,92 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * Load the memory-mapped copy of the read-only database, and (re)build it if it is absent or stale.
+   * The build holds the read lock to keep the database open, and it gives up as soon as the partition is about to be
+   * closed or reopened, since those operations need the write lock, which also blocks the new lookups while pending.
+   */
+  void loadMemoryMappedPartition() {
+    long startTimeInMs = System.currentTimeMillis();
+    readCloseRWLock.readLock().lock();
+    try {
+      if (isClosed) {
+        return;
+      }
+      long sequenceNumber = rocksDB.getLatestSequenceNumber();
+      MemoryMappedImmutablePartition partition = null;
+      try {
+        partition = MemoryMappedImmutablePartition.open(fullPathForMemoryMappedFiles);
+      } catch (Exception e) {
+        LOGGER.warn("Failed to open the memory-mapped partition for replica: {}, will rebuild it", replicaId, e);
+      }
+      if (partition != null && partition.getSequenceNumber() != sequenceNumber) {
+        LOGGER.info(
+            "Memory-mapped partition for replica: {} is stale with sequence number: {}, expected: {}",
+            replicaId,
+            partition.getSequenceNumber(),
+            sequenceNumber);
+        partition.close();
+        partition = null;
+      }
+      if (partition == null) {
+        partition = buildMemoryMappedPartition(sequenceNumber);
+        if (partition == null) {
+          LOGGER.info("Aborted building the memory-mapped partition for replica: {}", replicaId);
+          return;
+        }
+      }
+      memoryMappedPartition = partition;
+      LOGGER.info(
+          "Loaded memory-mapped partition with {} records for replica: {} in {} ms",
+          partition.getRecordCount(),
+          replicaId,
+          LatencyUtils.getElapsedTimeFromMsToMs(startTimeInMs));
+    } catch (Exception e) {
+      LOGGER.error(
+          "Failed to load the memory-mapped partition for replica: {}, lookups will be served by RocksDB",
+          replicaId,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * @return null if the build was aborted.
+   */
+  private MemoryMappedImmutablePartition buildMemoryMappedPartition(long sequenceNumber)
+      throws IOException, RocksDBException {
+    try (MemoryMappedImmutablePartition.Writer writer = new MemoryMappedImmutablePartition.Writer(
+        fullPathForMemoryMappedFiles,
+        rocksDBServerConfig.getMemoryMappedDataFileSizeInBytes(),
+        rocksDBServerConfig.getMemoryMappedBlockSizeInBytes());
+        RocksIterator iterator = rocksDB.newIterator(iteratorReadOptions)) {
+      for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+        if (readCloseRWLock.hasQueuedThreads() || Thread.currentThread().isInterrupted()) {
+          return null;
+        }
+        writer.add(iterator.key(), iterator.value());
+      }
+      iterator.status();
+      writer.finish(sequenceNumber);
+    }
+    return MemoryMappedImmutablePartition.open(fullPathForMemoryMappedFiles);
+  }
+
+  boolean isMemoryMappedPartitionLoaded() {
+    return memoryMappedPartition != null;
+  }
+
+  private static byte[] toByteArray(ByteBuffer buffer) {
+    if (buffer == null) {
+      return null;
+    }
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
   protected EnvOptions getEnvOptions() {
     return envOptions;
   }
@@ -345,7 +462,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     options.setKeepLogFileNum(rocksDBServerConfig.getMaxLogFileNum());
     options.setMaxLogFileSize(rocksDBServerConfig.getMaxLogFileSize());
 
-    aggStatistics.ifPresent(options::setStatistics);
+    statistics.ifPresent(options::setStatistics);
 
     if (rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
       PlainTableConfig tableConfig = new PlainTableConfig();
@@ -421,6 +538,13 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     options.setMaxTotalWalSize(rocksDBServerConfig.getRocksDBMaxTotalWalSizeInBytes());
     options.setMaxBytesForLevelBase(rocksDBServerConfig.getRocksDBMaxBytesForLevelBase());
     options.setMemtableHugePageSize(rocksDBServerConfig.getMemTableHugePageSize());
+    if (rocksDBServerConfig.isConcurrentWriteEnabled()) {
+      // Let the concurrent writers insert into the memtable in parallel, and the next write group start the WAL write
+      // while the previous one is still writing the memtable.
+      options.setAllowConcurrentMemtableWrite(true);
+      options.setEnableWriteThreadAdaptiveYield(true);
+      options.setEnablePipelinedWrite(true);
+    }
 
     options.setCreateMissingColumnFamilies(true); // This config allows to create new column family automatically.
     return options;
@@ -497,35 +621,59 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * Run a single-key write. By default, the writes are serialized by the partition monitor like the other modification
+   * functions. If {@link #concurrentWriteEnabled} is on, the writes only share the read lock of
+   * {@link #readCloseRWLock} to keep the database open, and RocksDB takes care of the concurrent writes. The lifecycle
+   * operations, such as {@link #close()} and {@link #reopen()}, take the write lock, so they still wait for the
+   * in-flight writes.
+   */
+  protected final void executeWrite(Runnable writeOperation) {
+    if (concurrentWriteEnabled) {
+      readCloseRWLock.readLock().lock();
+      try {
+        writeOperation.run();
+      } finally {
+        readCloseRWLock.readLock().unlock();
+      }
+    } else {
+      synchronized (this) {
+        writeOperation.run();
+      }
+    }
+  }
+
   @Override
-  public synchronized void put(byte[] key, byte[] value) {
+  public void put(byte[] key, byte[] value) {
     put(key, ByteBuffer.wrap(value));
   }
 
   @Override
-  public synchronized void put(byte[] key, ByteBuffer valueBuffer) {
-    makeSureRocksDBIsStillOpen();
-    if (readOnly) {
-      throw new VeniceException(
-          "Cannot make writes while database is opened in read-only mode for replica: " + replicaId);
-    }
-    try {
-      if (deferredWrite) {
-        rocksDBSstFileWriter.put(key, valueBuffer);
-      } else {
-        rocksDB.put(
-            writeOptions,
-            key,
-            0,
-            key.length,
-            valueBuffer.array(),
-            valueBuffer.position(),
-            valueBuffer.remaining());
+  public void put(byte[] key, ByteBuffer valueBuffer) {
+    executeWrite(() -> {
+      makeSureRocksDBIsStillOpen();
+      if (readOnly) {
+        throw new VeniceException(
+            "Cannot make writes while database is opened in read-only mode for replica: " + replicaId);
       }
-    } catch (RocksDBException e) {
-      checkAndThrowDiskLimitException(e);
-      throw new VeniceException("Failed to store the key/value pair in the RocksDB: " + replicaId, e);
-    }
+      try {
+        if (deferredWrite) {
+          rocksDBSstFileWriter.put(key, valueBuffer);
+        } else {
+          rocksDB.put(
+              writeOptions,
+              key,
+              0,
+              key.length,
+              valueBuffer.array(),
+              valueBuffer.position(),
+              valueBuffer.remaining());
+        }
+      } catch (RocksDBException e) {
+        checkAndThrowDiskLimitException(e);
+        throw new VeniceException("Failed to store the key/value pair in the RocksDB: " + replicaId, e);
+      }
+    });
   }
 
   @Override
@@ -538,6 +686,10 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
+      MemoryMappedImmutablePartition mmapPartition = memoryMappedPartition;
+      if (mmapPartition != null) {
+        return toByteArray(mmapPartition.get(key));
+      }
       return rocksDB.get(key);
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to get value from RocksDB: " + replicaId, e);
@@ -551,6 +703,20 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
+      MemoryMappedImmutablePartition mmapPartition = memoryMappedPartition;
+      if (mmapPartition != null) {
+        ByteBuffer value = mmapPartition.get(key);
+        if (value == null) {
+          return null;
+        }
+        if (value.remaining() > valueToBePopulated.capacity()) {
+          valueToBePopulated = ByteBuffer.allocate(value.remaining());
+        }
+        valueToBePopulated.clear();
+        valueToBePopulated.put(value);
+        valueToBePopulated.flip();
+        return valueToBePopulated;
+      }
       int size = rocksDB.get(key, valueToBePopulated.array());
       if (size == RocksDB.NOT_FOUND) {
         return null;
@@ -582,6 +748,10 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
+      MemoryMappedImmutablePartition mmapPartition = memoryMappedPartition;
+      if (mmapPartition != null) {
+        return toByteArray(mmapPartition.get(keyBuffer.array(), keyBuffer.position(), keyBuffer.remaining()));
+      }
       return rocksDB.get(keyBuffer.array(), keyBuffer.position(), keyBuffer.remaining());
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to get value from RocksDB: " + replicaId, e);
@@ -594,6 +764,14 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     readCloseRWLock.readLock().lock();
     try {
       makeSureRocksDBIsStillOpen();
+      MemoryMappedImmutablePartition mmapPartition = memoryMappedPartition;
+      if (mmapPartition != null) {
+        List<byte[]> resultList = new ArrayList<>(keys.size());
+        for (byte[] key: keys) {
+          resultList.add(toByteArray(mmapPartition.get(key)));
+        }
+        return resultList;
+      }
       return rocksDB.multiGetAsList(keys);
     } catch (RocksDBException e) {
       throw new VeniceException("Failed to get value from RocksDB: " + replicaId, e);
@@ -607,6 +785,10 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
 
     try {
       makeSureRocksDBIsStillOpen();
+      MemoryMappedImmutablePartition mmapPartition = memoryMappedPartition;
+      if (mmapPartition != null) {
+        return multiGet(mmapPartition, keys, values);
+      }
       List<ByteBufferGetStatus> statusList = rocksDB.multiGetByteBuffers(keys, values);
       int keyCnt = keys.size();
       int statusCnt = statusList.size();
@@ -669,6 +851,46 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * Same contract as {@link #multiGet(List, List)}: the values are copied into the passed value buffers if they are
+   * large enough, otherwise into new direct buffers, which replace the passed ones in the value list.
+   */
+  private List<ByteBuffer> multiGet(
+      MemoryMappedImmutablePartition mmapPartition,
+      List<ByteBuffer> keys,
+      List<ByteBuffer> values) {
+    if (keys.size() != values.size()) {
+      throw new VeniceException(
+          "Inconsistent number of keys: " + keys.size() + " and values: " + values.size() + " for: " + replicaId);
+    }
+    List<ByteBuffer> resultList = new ArrayList<>(keys.size());
+    ListIterator<ByteBuffer> valueIter = values.listIterator();
+    for (ByteBuffer key: keys) {
+      ByteBuffer valueBuffer = valueIter.next();
+      ByteBuffer value;
+      if (key.hasArray()) {
+        value = mmapPartition.get(key.array(), key.arrayOffset() + key.position(), key.remaining());
+      } else {
+        byte[] keyBytes = new byte[key.remaining()];
+        key.duplicate().get(keyBytes);
+        value = mmapPartition.get(keyBytes);
+      }
+      if (value == null) {
+        resultList.add(null);
+        continue;
+      }
+      if (value.remaining() > valueBuffer.capacity()) {
+        valueBuffer = ByteBuffer.allocateDirect(value.remaining());
+        valueIter.set(valueBuffer);
+      }
+      valueBuffer.clear();
+      valueBuffer.put(value);
+      valueBuffer.flip();
+      resultList.add(valueBuffer);
+    }
+    return resultList;
+  }
+
   @Override
   public void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback) {
     if (keyPrefix != null && rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
@@ -731,22 +953,24 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   }
 
   @Override
-  public synchronized void delete(byte[] key) {
-    makeSureRocksDBIsStillOpen();
-    if (readOnly) {
-      throw new VeniceException(
-          "Cannot make deletion while database is opened in read-only mode for replica: " + replicaId);
-    }
-    try {
-      if (deferredWrite) {
-        throw new VeniceException("Deletion is unexpected in 'deferredWrite' mode");
-      } else {
-        rocksDB.delete(key);
+  public void delete(byte[] key) {
+    executeWrite(() -> {
+      makeSureRocksDBIsStillOpen();
+      if (readOnly) {
+        throw new VeniceException(
+            "Cannot make deletion while database is opened in read-only mode for replica: " + replicaId);
       }
-    } catch (RocksDBException e) {
-      checkAndThrowDiskLimitException(e);
-      throw new VeniceException("Failed to delete entry from RocksDB: " + replicaId, e);
-    }
+      try {
+        if (deferredWrite) {
+          throw new VeniceException("Deletion is unexpected in 'deferredWrite' mode");
+        } else {
+          rocksDB.delete(key);
+        }
+      } catch (RocksDBException e) {
+        checkAndThrowDiskLimitException(e);
+        throw new VeniceException("Failed to delete entry from RocksDB: " + replicaId, e);
+      }
+    });
   }
 
   @Override
@@ -777,6 +1001,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       }
       return Collections.emptyMap();
     }
+    rocksDBSstFileWriter.ingestCheckpointedSSTFiles(rocksDB, columnFamilyHandleList);
     return rocksDBSstFileWriter.sync();
   }
 
@@ -822,6 +1047,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     deleteFilesInDirectory(fullPathForTempSSTFileDir);
     // remove snapshots files
     deleteFilesInDirectory(fullPathForPartitionDBSnapshot);
+    // remove memory-mapped files
+    deleteFilesInDirectory(fullPathForMemoryMappedFiles);
     try {
       Options storeOptions = getStoreOptions(new StoragePartitionConfig(storeNameAndVersion, partitionId), false);
       RocksDB.destroyDB(fullPathForPartitionDB, storeOptions);
@@ -849,6 +1076,10 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       if (rocksDB != null) {
         rocksDB.close();
       }
+      if (memoryMappedPartition != null) {
+        memoryMappedPartition.close();
+        memoryMappedPartition = null;
+      }
     } finally {
       isClosed = true;
       readCloseRWLock.writeLock().unlock();
@@ -1001,6 +1232,50 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     return new RocksDBStorageIterator(rocksDB.newIterator(iteratorReadOptions));
   }
 
+  /**
+   * The split keys are picked from the smallest keys of the SST files in the default column family, so that each key
+   * range covers a similar amount of SST data. No key needs to be read to find them.
+   */
+  @Override
+  public List<byte[]> getKeyRangeSplitPoints(int maxRangeCount) {
+    if (maxRangeCount <= 1) {
+      return Collections.emptyList();
+    }
+    List<LiveFileMetaData> sstFiles = new ArrayList<>();
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      for (LiveFileMetaData sstFile: rocksDB.getLiveFilesMetaData()) {
+        if (Arrays.equals(sstFile.columnFamilyName(), RocksDB.DEFAULT_COLUMN_FAMILY)) {
+          sstFiles.add(sstFile);
+        }
+      }
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+    sstFiles.sort((f1, f2) -> ArrayUtils.compareUnsigned(f1.smallestKey(), f2.smallestKey()));
+    long totalSize = 0;
+    for (LiveFileMetaData sstFile: sstFiles) {
+      totalSize += sstFile.size();
+    }
+    List<byte[]> splitPoints = new ArrayList<>(maxRangeCount - 1);
+    long accumulatedSize = 0;
+    for (LiveFileMetaData sstFile: sstFiles) {
+      long nextSplitSize = totalSize * (splitPoints.size() + 1) / maxRangeCount;
+      byte[] smallestKey = sstFile.smallestKey();
+      if (accumulatedSize >= nextSplitSize && accumulatedSize > 0
+          && (splitPoints.isEmpty()
+              || ArrayUtils.compareUnsigned(splitPoints.get(splitPoints.size() - 1), smallestKey) < 0)) {
+        splitPoints.add(smallestKey);
+        if (splitPoints.size() == maxRangeCount - 1) {
+          break;
+        }
+      }
+      accumulatedSize += sstFile.size();
+    }
+    return splitPoints;
+  }
+
   /**
    * util method to create a snapshot
    * It will check the snapshot directory and delete it if it exists, then generate a new snapshot
@@ -0,0 +1,154 @@
+package com.linkedin.davinci.store.tiered;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+
+/**
+ * The in-memory tier shared by all the {@link TieredStorageEngine}s of the host, which keeps the raw values of the
+ * hottest keys in front of the on-disk storage engines.
+ *
+ * The tier is bounded by the total size of the cached keys and values, and the admission and eviction are done by the
+ * W-TinyLFU policy of Caffeine, so a one-off scan won't flush the frequently read entries.
+ *
+ * The tier is kept consistent with the storage engines by updating it after every write to the storage engine, see
+ * {@link #update} and {@link #invalidate}. A read miss loads the value within the atomic compute of the key, and an
+ * update of the same key waits for the in-flight load, so a stale value loaded before a write won't outlive the write.
+ */
+public class HotTierCache {
+  /**
+   * The estimated memory overhead of an entry besides the key and value bytes, such as the {@link Key} object, the
+   * array headers and the Caffeine node.
+   */
+  static final int ENTRY_OVERHEAD_IN_BYTES = 96;
+
+  private final Cache<Key, byte[]> cache;
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private volatile long capacityInBytes;
+
+  public HotTierCache(long capacityInBytes) {
+    if (capacityInBytes <= 0) {
+      throw new IllegalArgumentException("The capacity of the hot tier must be positive, but got: " + capacityInBytes);
+    }
+    this.capacityInBytes = capacityInBytes;
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(capacityInBytes)
+        .weigher((Key key, byte[] value) -> ENTRY_OVERHEAD_IN_BYTES + key.key.length + value.length)
+        .build();
+  }
+
+  /**
+   * @return the value from the hot tier, or the value loaded by the given loader in case of a miss, which is admitted
+   *         into the hot tier if it is not null.
+   */
+  byte[] get(String storeVersionName, int partitionId, byte[] key, Supplier<byte[]> loader) {
+    byte[] value = cache.asMap().get(new Key(storeVersionName, partitionId, key));
+    if (value != null) {
+      hitCount.increment();
+      return value;
+    }
+    // The caller may reuse the key array, so the admitted key needs its own copy.
+    return cache.get(new Key(storeVersionName, partitionId, key.clone()), ignored -> {
+      missCount.increment();
+      return loader.get();
+    });
+  }
+
+  /**
+   * Replaces the value of the key if it is in the hot tier. Writes don't admit keys, since the hot tier is meant for
+   * the hot keys of the read path, and most of the ingested keys are never read.
+   */
+  void update(String storeVersionName, int partitionId, byte[] key, Function<byte[], byte[]> valueFunction) {
+    cache.asMap()
+        .computeIfPresent(new Key(storeVersionName, partitionId, key), (ignored, old) -> valueFunction.apply(old));
+  }
+
+  void invalidate(String storeVersionName, int partitionId, byte[] key) {
+    cache.invalidate(new Key(storeVersionName, partitionId, key));
+  }
+
+  /**
+   * Removes all the entries of the given partition, which takes a full pass over the hot tier, so it is only meant for
+   * the partition lifecycle changes.
+   */
+  void invalidatePartition(String storeVersionName, int partitionId) {
+    cache.asMap()
+        .keySet()
+        .removeIf(key -> key.partitionId == partitionId && key.storeVersionName.equals(storeVersionName));
+  }
+
+  void invalidateStoreVersion(String storeVersionName) {
+    cache.asMap().keySet().removeIf(key -> key.storeVersionName.equals(storeVersionName));
+  }
+
+  /**
+   * Resizes the hot tier at runtime. Shrinking evicts the excess entries right away.
+   */
+  public void setCapacityInBytes(long capacityInBytes) {
+    if (capacityInBytes <= 0) {
+      throw new IllegalArgumentException("The capacity of the hot tier must be positive, but got: " + capacityInBytes);
+    }
+    cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(capacityInBytes));
+    this.capacityInBytes = capacityInBytes;
+  }
+
+  public long getCapacityInBytes() {
+    return capacityInBytes;
+  }
+
+  public long getSizeInBytes() {
+    return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+  }
+
+  public long getEntryCount() {
+    return cache.estimatedSize();
+  }
+
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * @return the number of the reads served by the disk tier.
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  static final class Key {
+    private final String storeVersionName;
+    private final int partitionId;
+    private final byte[] key;
+    private final int hashCode;
+
+    Key(String storeVersionName, int partitionId, byte[] key) {
+      this.storeVersionName = storeVersionName;
+      this.partitionId = partitionId;
+      this.key = key;
+      this.hashCode = 31 * (31 * storeVersionName.hashCode() + partitionId) + Arrays.hashCode(key);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return hashCode == other.hashCode && partitionId == other.partitionId && Arrays.equals(key, other.key)
+          && storeVersionName.equals(other.storeVersionName);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
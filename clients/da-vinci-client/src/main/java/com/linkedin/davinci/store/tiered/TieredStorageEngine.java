@@ -0,0 +1,160 @@
+package com.linkedin.davinci.store.tiered;
+
+import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.DelegatingStorageEngine;
+import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.davinci.store.StoragePartitionAdjustmentTrigger;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+
+
+/**
+ * A {@link DelegatingStorageEngine} which serves the hot keys from the in-memory {@link HotTierCache} and the rest from
+ * the on-disk delegate, check {@link com.linkedin.davinci.client.StorageClass#TIERED}.
+ *
+ * All the writes go to the delegate first and then to the hot tier, so the hot tier never serves a value which is
+ * older than the one on disk. Any change which replaces the data of a partition without going through the writes of
+ * this class, such as a partition drop, re-open or batch ingestion, invalidates the entries of the partition.
+ *
+ * The values handed out are always copies, since the callers may reuse or mutate the returned buffers.
+ */
+public class TieredStorageEngine<P extends AbstractStoragePartition> extends DelegatingStorageEngine<P> {
+  private final HotTierCache hotTier;
+  private final String storeVersionName;
+
+  public TieredStorageEngine(@Nonnull StorageEngine<P> delegate, @Nonnull HotTierCache hotTier) {
+    super(delegate);
+    this.hotTier = hotTier;
+    this.storeVersionName = delegate.getStoreVersionName();
+  }
+
+  @Override
+  public void setDelegate(@Nonnull StorageEngine<P> delegate) {
+    super.setDelegate(delegate);
+    hotTier.invalidateStoreVersion(storeVersionName);
+  }
+
+  @Override
+  public byte[] get(int partitionId, byte[] key) throws VeniceException {
+    byte[] value = hotTier.get(storeVersionName, partitionId, key, () -> super.get(partitionId, key));
+    return value == null ? null : value.clone();
+  }
+
+  @Override
+  public ByteBuffer get(int partitionId, byte[] key, ByteBuffer valueToBePopulated) throws VeniceException {
+    byte[] value = hotTier.get(storeVersionName, partitionId, key, () -> super.get(partitionId, key));
+    if (value == null) {
+      return null;
+    }
+    if (value.length > valueToBePopulated.capacity()) {
+      valueToBePopulated = ByteBuffer.allocate(value.length);
+    }
+    valueToBePopulated.clear();
+    valueToBePopulated.put(value);
+    valueToBePopulated.flip();
+    return valueToBePopulated;
+  }
+
+  @Override
+  public byte[] get(int partitionId, ByteBuffer keyBuffer) throws VeniceException {
+    return get(partitionId, ByteUtils.extractByteArray(keyBuffer));
+  }
+
+  @Override
+  public void put(int partitionId, byte[] key, byte[] value) throws VeniceException {
+    super.put(partitionId, key, value);
+    hotTier.update(storeVersionName, partitionId, key, ignored -> value.clone());
+  }
+
+  @Override
+  public void put(int partitionId, byte[] key, ByteBuffer value) throws VeniceException {
+    super.put(partitionId, key, value);
+    hotTier.update(storeVersionName, partitionId, key, ignored -> ByteUtils.copyByteArray(value));
+  }
+
+  @Override
+  public void putWithReplicationMetadata(int partitionId, byte[] key, ByteBuffer value, byte[] replicationMetadata)
+      throws VeniceException {
+    super.putWithReplicationMetadata(partitionId, key, value, replicationMetadata);
+    hotTier.update(storeVersionName, partitionId, key, ignored -> ByteUtils.copyByteArray(value));
+  }
+
+  @Override
+  public void delete(int partitionId, byte[] key) throws VeniceException {
+    super.delete(partitionId, key);
+    hotTier.invalidate(storeVersionName, partitionId, key);
+  }
+
+  @Override
+  public void deleteWithReplicationMetadata(int partitionId, byte[] key, byte[] replicationMetadata)
+      throws VeniceException {
+    super.deleteWithReplicationMetadata(partitionId, key, replicationMetadata);
+    hotTier.invalidate(storeVersionName, partitionId, key);
+  }
+
+  @Override
+  public void adjustStoragePartition(
+      int partitionId,
+      StoragePartitionAdjustmentTrigger mode,
+      StoragePartitionConfig partitionConfig) {
+    super.adjustStoragePartition(partitionId, mode, partitionConfig);
+    hotTier.invalidatePartition(storeVersionName, partitionId);
+  }
+
+  @Override
+  public void beginBatchWrite(
+      StoragePartitionConfig storagePartitionConfig,
+      Map<String, String> checkpointedInfo,
+      Optional<Supplier<byte[]>> checksumSupplier) {
+    super.beginBatchWrite(storagePartitionConfig, checkpointedInfo, checksumSupplier);
+    hotTier.invalidatePartition(storeVersionName, storagePartitionConfig.getPartitionId());
+  }
+
+  @Override
+  public void endBatchWrite(StoragePartitionConfig storagePartitionConfig) {
+    super.endBatchWrite(storagePartitionConfig);
+    hotTier.invalidatePartition(storeVersionName, storagePartitionConfig.getPartitionId());
+  }
+
+  @Override
+  public void reopenStoragePartition(int partitionId) {
+    super.reopenStoragePartition(partitionId);
+    hotTier.invalidatePartition(storeVersionName, partitionId);
+  }
+
+  @Override
+  public void closePartition(int partitionId) {
+    super.closePartition(partitionId);
+    hotTier.invalidatePartition(storeVersionName, partitionId);
+  }
+
+  @Override
+  public void dropPartition(int partitionId) {
+    super.dropPartition(partitionId);
+    hotTier.invalidatePartition(storeVersionName, partitionId);
+  }
+
+  @Override
+  public void dropPartition(int partitionId, boolean dropMetadataPartitionWhenEmpty) {
+    super.dropPartition(partitionId, dropMetadataPartitionWhenEmpty);
+    hotTier.invalidatePartition(storeVersionName, partitionId);
+  }
+
+  @Override
+  public void drop() {
+    super.drop();
+    hotTier.invalidateStoreVersion(storeVersionName);
+  }
+
+  @Override
+  public void close() throws VeniceException {
+    super.close();
+    hotTier.invalidateStoreVersion(storeVersionName);
+  }
+}
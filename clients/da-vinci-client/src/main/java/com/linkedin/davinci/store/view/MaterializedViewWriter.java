@@ -52,6 +52,10 @@ public class MaterializedViewWriter extends VeniceViewWriter {
     this.veniceWriter = Lazy.of(() -> veniceWriter);
   }
 
+  protected ComplexVeniceWriter getVeniceWriter() {
+    return veniceWriter.get();
+  }
+
   @Override
   public CompletableFuture<Void> processRecord(
       ByteBuffer newValue,
@@ -0,0 +1,134 @@
+package com.linkedin.davinci.store.view;
+
+import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.lazy.Lazy;
+import com.linkedin.venice.views.SecondaryIndexView;
+import com.linkedin.venice.writer.VeniceWriterFactory;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Secondary index view writer maintains the entries of a {@link SecondaryIndexView} from the records of the version
+ * topic. The entry of a record is keyed by the index value and the primary key, so on every write the entry of the old
+ * value is deleted if the index value has changed, and the entry of the new value is written.
+ */
+public class SecondaryIndexViewWriter extends MaterializedViewWriter {
+  private final SecondaryIndexView indexView;
+
+  public SecondaryIndexViewWriter(
+      VeniceConfigLoader props,
+      Version version,
+      Map<String, String> extraViewParameters,
+      VeniceWriterFactory veniceWriterFactory) {
+    super(props, version, extraViewParameters, veniceWriterFactory);
+    indexView = new SecondaryIndexView(
+        props.getCombinedProperties().toProperties(),
+        version.getStoreName(),
+        extraViewParameters);
+  }
+
+  @Override
+  public CompletableFuture<Void> processRecord(
+      ByteBuffer newValue,
+      ByteBuffer oldValue,
+      byte[] key,
+      int newValueSchemaId,
+      int oldValueSchemaId,
+      GenericRecord replicationMetadataRecord,
+      Lazy<GenericRecord> valueProvider) {
+    // The value provider has the old value for a delete, and the old value isn't known otherwise.
+    return processRecord(
+        newValue,
+        oldValue,
+        key,
+        newValueSchemaId,
+        oldValueSchemaId,
+        replicationMetadataRecord,
+        valueProvider,
+        newValue == null ? valueProvider : Lazy.of(() -> null));
+  }
+
+  /**
+   * Active/active ingestion provides both the old and the new value, so the stale entry of the old value is deleted
+   * before the entry of the new value is written. A delete only removes the entry of the old value.
+   */
+  @Override
+  public CompletableFuture<Void> processRecord(
+      ByteBuffer newValue,
+      ByteBuffer oldValue,
+      byte[] key,
+      int newValueSchemaId,
+      int oldValueSchemaId,
+      GenericRecord replicationMetadataRecord,
+      Lazy<GenericRecord> valueProvider,
+      Lazy<GenericRecord> oldValueProvider) {
+    String oldIndexValue = indexView.getIndexValue(oldValueProvider.get());
+    String newIndexValue = newValue == null ? null : indexView.getIndexValue(valueProvider.get());
+    CompletableFuture<Void> deleteFuture = null;
+    if (oldIndexValue != null && !oldIndexValue.equals(newIndexValue)) {
+      deleteFuture =
+          getVeniceWriter().complexDelete(SecondaryIndexView.getIndexKey(oldIndexValue, key), Lazy.of(() -> null));
+    }
+    CompletableFuture<Void> putFuture = null;
+    if (newIndexValue != null) {
+      putFuture = getVeniceWriter().complexPut(
+          SecondaryIndexView.getIndexKey(newIndexValue, key),
+          ByteUtils.extractByteArray(newValue),
+          newValueSchemaId,
+          Lazy.of(() -> null));
+    }
+    return allOf(deleteFuture, putFuture);
+  }
+
+  /**
+   * This is only called by leader/follower ingestion, which doesn't have the old value. It's either the NR
+   * pass-through of the batch records, where the view partition set was computed by the push job from the same index
+   * key, or a write to a batch only store where there are no old entries to remove.
+   */
+  @Override
+  public CompletableFuture<Void> processRecord(
+      ByteBuffer newValue,
+      byte[] key,
+      int newValueSchemaId,
+      Set<Integer> viewPartitionSet,
+      Lazy<GenericRecord> newValueProvider) {
+    if (newValue == null) {
+      // A delete without the old value, there is no way to find the entry to delete.
+      return CompletableFuture.completedFuture(null);
+    }
+    String indexValue = indexView.getIndexValue(newValueProvider.get());
+    if (indexValue == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    byte[] indexKey = SecondaryIndexView.getIndexKey(indexValue, key);
+    byte[] newValueBytes = ByteUtils.extractByteArray(newValue);
+    if (viewPartitionSet != null) {
+      return getVeniceWriter().forwardPut(indexKey, newValueBytes, newValueSchemaId, viewPartitionSet);
+    }
+    return getVeniceWriter().complexPut(indexKey, newValueBytes, newValueSchemaId, Lazy.of(() -> null));
+  }
+
+  @Override
+  public String getWriterClassName() {
+    return indexView.getWriterClassName();
+  }
+
+  @Override
+  public void close(boolean gracefulClose) {
+    indexView.close(gracefulClose);
+    super.close(gracefulClose);
+  }
+
+  private static CompletableFuture<Void> allOf(CompletableFuture<Void> first, CompletableFuture<Void> second) {
+    if (first == null) {
+      return second == null ? CompletableFuture.completedFuture(null) : second;
+    }
+    return second == null ? first : CompletableFuture.allOf(first, second);
+  }
+}
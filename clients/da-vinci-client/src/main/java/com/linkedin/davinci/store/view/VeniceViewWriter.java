@@ -75,6 +75,33 @@ public abstract class VeniceViewWriter extends VeniceView {
       GenericRecord replicationMetadataRecord,
       Lazy<GenericRecord> valueProvider);
 
+  /**
+   * Same as {@link #processRecord(ByteBuffer, ByteBuffer, byte[], int, int, GenericRecord, Lazy)}, with the
+   * deserialized old value for the view writers which need it, e.g. to remove the stale entries of the old value. By
+   * default, the old value provider is ignored.
+   *
+   * @param oldValueProvider to provide the deserialized old value for the given key, which is null for a non-existing
+   *                         key.
+   */
+  public CompletableFuture<Void> processRecord(
+      ByteBuffer newValue,
+      ByteBuffer oldValue,
+      byte[] key,
+      int newValueSchemaId,
+      int oldValueSchemaId,
+      GenericRecord replicationMetadataRecord,
+      Lazy<GenericRecord> valueProvider,
+      Lazy<GenericRecord> oldValueProvider) {
+    return processRecord(
+        newValue,
+        oldValue,
+        key,
+        newValueSchemaId,
+        oldValueSchemaId,
+        replicationMetadataRecord,
+        valueProvider);
+  }
+
   /**
    * To be called as a given ingestion task consumes each record. This is called prior to writing to a
    * VT or to persistent storage.
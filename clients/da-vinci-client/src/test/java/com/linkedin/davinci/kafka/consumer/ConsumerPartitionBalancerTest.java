@@ -0,0 +1,158 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.davinci.utils.IndexedHashMap;
+import com.linkedin.davinci.utils.IndexedMap;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubPosition;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.utils.LogContext;
+import com.linkedin.venice.utils.TestMockTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class ConsumerPartitionBalancerTest {
+  private static final long LAG_THRESHOLD = 1000;
+  private static final long COOLDOWN_SECONDS = 600;
+
+  private final PubSubTopicRepository topicRepository = new PubSubTopicRepository();
+  private final PubSubTopic versionTopic = topicRepository.getTopic("test_store_v1");
+  private final PubSubTopicPartition partition0 = new PubSubTopicPartitionImpl(versionTopic, 0);
+  private final PubSubTopicPartition partition1 = new PubSubTopicPartitionImpl(versionTopic, 1);
+  private final PubSubTopicPartition partition2 = new PubSubTopicPartitionImpl(versionTopic, 2);
+
+  private KafkaConsumerService consumerService;
+  private SharedKafkaConsumer busyConsumer;
+  private SharedKafkaConsumer idleConsumer;
+  private ConsumptionTask busyTask;
+  private ConsumptionTask idleTask;
+  private TestMockTime time;
+
+  @BeforeMethod
+  public void setUp() {
+    consumerService = mock(KafkaConsumerService.class);
+    busyConsumer = mock(SharedKafkaConsumer.class);
+    idleConsumer = mock(SharedKafkaConsumer.class);
+    busyTask = mock(ConsumptionTask.class);
+    idleTask = mock(ConsumptionTask.class);
+    IndexedMap<SharedKafkaConsumer, ConsumptionTask> consumerToConsumptionTask = new IndexedHashMap<>(2);
+    consumerToConsumptionTask.putByIndex(busyConsumer, busyTask, 0);
+    consumerToConsumptionTask.putByIndex(idleConsumer, idleTask, 1);
+    doReturn(consumerToConsumptionTask).when(consumerService).getConsumerToConsumptionTask();
+    doReturn(true).when(consumerService).migratePartition(any(), any(), any(), any());
+
+    // The busy consumer has 3 partitions with 100, 300 and 1000 bytes per second, and the idle consumer has none.
+    doReturn(new HashSet<>(Arrays.asList(partition0, partition1, partition2))).when(busyConsumer).getAssignment();
+    doReturn(new HashSet<>()).when(idleConsumer).getAssignment();
+    mockPartitionStats(partition0, 100);
+    mockPartitionStats(partition1, 300);
+    mockPartitionStats(partition2, 1000);
+    doReturn(versionTopic).when(busyTask).getDestinationIdentifier(any());
+    doReturn(0L).when(busyConsumer).getOffsetLag(any());
+    doReturn(LAG_THRESHOLD + 1).when(busyConsumer).getOffsetLag(partition0);
+
+    time = new TestMockTime();
+  }
+
+  private void mockPartitionStats(PubSubTopicPartition topicPartition, double bytesRate) {
+    ConsumptionTask.PartitionStats partitionStats = mock(ConsumptionTask.PartitionStats.class);
+    doReturn(bytesRate).when(partitionStats).getBytesRate();
+    doReturn(mock(PubSubPosition.class)).when(partitionStats).getLastDeliveredPosition();
+    doReturn(partitionStats).when(busyTask).getPartitionStats(topicPartition);
+  }
+
+  private ConsumerPartitionBalancer createBalancer(int maxMigrationsPerRun) {
+    return new ConsumerPartitionBalancer(
+        consumerService,
+        60,
+        0.5,
+        LAG_THRESHOLD,
+        COOLDOWN_SECONDS,
+        maxMigrationsPerRun,
+        time,
+        LogContext.EMPTY);
+  }
+
+  @Test
+  public void testMigrateLaggingPartitionFirst() {
+    ConsumerPartitionBalancer balancer = createBalancer(1);
+    balancer.balance();
+    // Partition 2 is too busy to move, and the lagging partition 0 is preferred over the busier partition 1.
+    verify(consumerService).migratePartition(versionTopic, partition0, busyConsumer, idleConsumer);
+    verify(consumerService, times(1)).migratePartition(any(), any(), any(), any());
+    Assert.assertTrue(balancer.getLastMigrationTimeMap().containsKey(partition0));
+  }
+
+  @Test
+  public void testMigrateMultiplePartitionsWithCooldown() {
+    ConsumerPartitionBalancer balancer = createBalancer(3);
+    balancer.balance();
+    // After moving partition 0, the loads are 1300 and 100, so partition 1 is moved as well, and then the loads are
+    // 1000 and 400, which is balanced enough.
+    verify(consumerService).migratePartition(versionTopic, partition0, busyConsumer, idleConsumer);
+    verify(consumerService).migratePartition(versionTopic, partition1, busyConsumer, idleConsumer);
+    verify(consumerService, times(2)).migratePartition(any(), any(), any(), any());
+
+    // The moved partitions are still reported by the mocked busy consumer, but they are within the cooldown period.
+    balancer.balance();
+    verify(consumerService, times(2)).migratePartition(any(), any(), any(), any());
+
+    time.sleep(TimeUnit.SECONDS.toMillis(COOLDOWN_SECONDS));
+    balancer.balance();
+    verify(consumerService, times(4)).migratePartition(any(), any(), any(), any());
+  }
+
+  @Test
+  public void testNoMigrationWithoutLag() {
+    doReturn(0L).when(busyConsumer).getOffsetLag(partition0);
+    createBalancer(1).balance();
+    verify(consumerService, never()).migratePartition(any(), any(), any(), any());
+  }
+
+  @Test
+  public void testNoMigrationWhenBalanced() {
+    doReturn(new HashSet<>(Arrays.asList(partition0, partition1))).when(busyConsumer).getAssignment();
+    doReturn(new HashSet<>(Arrays.asList(partition2))).when(idleConsumer).getAssignment();
+    ConsumptionTask.PartitionStats partitionStats = mock(ConsumptionTask.PartitionStats.class);
+    doReturn(350d).when(partitionStats).getBytesRate();
+    doReturn(partitionStats).when(idleTask).getPartitionStats(partition2);
+    createBalancer(1).balance();
+    verify(consumerService, never()).migratePartition(any(), any(), any(), any());
+  }
+
+  @Test
+  public void testSkipPartitionsWhichCannotMove() {
+    // The target already subscribes the same topic-partition, e.g. the same real-time partition for another version.
+    doReturn(true).when(idleConsumer).hasSubscription(partition0);
+    // Nothing has been delivered yet, so there is no position to resume from.
+    ConsumptionTask.PartitionStats partitionStats = mock(ConsumptionTask.PartitionStats.class);
+    doReturn(300d).when(partitionStats).getBytesRate();
+    doReturn(partitionStats).when(busyTask).getPartitionStats(partition1);
+    createBalancer(1).balance();
+    verify(consumerService, never()).migratePartition(any(), any(), any(), any());
+  }
+
+  @Test
+  public void testFailedMigrationIsInCooldown() {
+    doReturn(false).when(consumerService).migratePartition(any(), any(), any(), any());
+    ConsumerPartitionBalancer balancer = createBalancer(3);
+    balancer.balance();
+    verify(consumerService, times(1)).migratePartition(versionTopic, partition0, busyConsumer, idleConsumer);
+    balancer.balance();
+    verify(consumerService).migratePartition(versionTopic, partition1, busyConsumer, idleConsumer);
+    verify(consumerService, times(1)).migratePartition(versionTopic, partition0, busyConsumer, idleConsumer);
+  }
+}
@@ -16,6 +16,7 @@ import com.linkedin.davinci.stats.KafkaConsumerServiceStats;
 import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
 import com.linkedin.venice.pubsub.PubSubTopicRepository;
 import com.linkedin.venice.pubsub.api.DefaultPubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubPosition;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.DaemonThreadFactory;
@@ -201,6 +202,48 @@ public class ConsumptionTaskTest {
     verify(receiver, times(1)).write(messages);
   }
 
+  @Test
+  public void testLastDeliveredPosition() throws Exception {
+    CountDownLatch firstPollComplete = new CountDownLatch(1);
+    AtomicInteger pollCount = new AtomicInteger(0);
+
+    PubSubTopic topic = pubSubTopicRepository.getTopic("test_store_v1");
+    PubSubTopicPartition tp1 = new PubSubTopicPartitionImpl(topic, 0);
+    PubSubTopicPartition tp2 = new PubSubTopicPartitionImpl(topic, 1);
+
+    List<DefaultPubSubMessage> messages1 = createMockMessages(3);
+    PubSubPosition lastPosition = mock(PubSubPosition.class);
+    when(messages1.get(2).getPosition()).thenReturn(lastPosition);
+    List<DefaultPubSubMessage> messages2 = createMockMessages(2);
+    Map<PubSubTopicPartition, List<DefaultPubSubMessage>> pollResult = createPollResult(tp1, messages1, tp2, messages2);
+
+    ConsumedDataReceiver<List<DefaultPubSubMessage>> receiver1 = createMockReceiver(topic);
+    ConsumedDataReceiver<List<DefaultPubSubMessage>> receiver2 = createMockReceiver(topic);
+    // The messages which fail to be written are not delivered
+    doAnswer(invocation -> {
+      throw new RuntimeException("Failed to write");
+    }).when(receiver2).write(any());
+
+    ConsumptionTask task = createTask(
+        createOneShotPollFunction(pollCount, pollResult, firstPollComplete),
+        bytes -> {},
+        records -> {},
+        null);
+    Assert.assertNull(task.getPartitionStats(tp1).getLastDeliveredPosition());
+
+    task.setDataReceiver(tp1, receiver1);
+    task.setDataReceiver(tp2, receiver2);
+    runTaskUntilLatch(task, firstPollComplete);
+
+    Assert.assertSame(task.getPartitionStats(tp1).getLastDeliveredPosition(), lastPosition);
+    Assert.assertNull(task.getPartitionStats(tp2).getLastDeliveredPosition());
+    Assert.assertSame(task.getDataReceiver(tp1), receiver1);
+
+    task.removeDataReceiver(tp1);
+    Assert.assertNull(task.getPartitionStats(tp1).getLastDeliveredPosition());
+    Assert.assertNull(task.getDataReceiver(tp1));
+  }
+
   /**
    * Tests missing receiver handling with metrics (parallel mode).
    * Verifies: graceful handling, missing receiver metric, cleaner.unsubscribe called.
@@ -1,6 +1,7 @@
 package com.linkedin.davinci.kafka.consumer;
 
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
@@ -11,6 +12,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -33,6 +35,7 @@ import com.linkedin.venice.pubsub.adapter.kafka.consumer.ApacheKafkaConsumerAdap
 import com.linkedin.venice.pubsub.api.DefaultPubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
 import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
+import com.linkedin.venice.pubsub.api.PubSubPosition;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.server.VersionRole;
@@ -51,6 +54,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -534,6 +538,52 @@ public class KafkaConsumerServiceTest {
     }
   }
 
+  @Test
+  public void testMigratePartition() {
+    PubSubTopic versionTopic =
+        pubSubTopicRepository.getTopic(Version.composeKafkaTopic(Utils.getUniqueString("migrate_store"), 1));
+    PubSubTopicPartition tp = new PubSubTopicPartitionImpl(versionTopic, 0);
+    SharedKafkaConsumer sourceConsumer = mock(SharedKafkaConsumer.class);
+    SharedKafkaConsumer targetConsumer = mock(SharedKafkaConsumer.class);
+    Map<SharedKafkaConsumer, Set<PubSubTopicPartition>> consumerToPartitions = new HashMap<>();
+    consumerToPartitions.put(sourceConsumer, Collections.singleton(tp));
+    consumerToPartitions.put(targetConsumer, Collections.emptySet());
+    KafkaConsumerService service = createServiceWithConsumers(consumerToPartitions, versionTopic);
+
+    ConsumptionTask sourceTask = mock(ConsumptionTask.class);
+    ConsumptionTask targetTask = mock(ConsumptionTask.class);
+    service.consumerToConsumptionTask.put(sourceConsumer, sourceTask);
+    service.consumerToConsumptionTask.put(targetConsumer, targetTask);
+    ConsumedDataReceiver<List<DefaultPubSubMessage>> receiver = mock(ConsumedDataReceiver.class);
+    doReturn(receiver).when(sourceTask).getDataReceiver(tp);
+    PubSubPosition lastDeliveredPosition = ApacheKafkaOffsetPosition.of(100);
+    ConsumptionTask.PartitionStats partitionStats = mock(ConsumptionTask.PartitionStats.class);
+    doReturn(lastDeliveredPosition).when(partitionStats).getLastDeliveredPosition();
+    doReturn(partitionStats).when(sourceTask).getPartitionStats(tp);
+    doReturn(true).when(sourceConsumer).hasSubscription(tp);
+
+    // The source consumer doesn't poll after the unsubscription, so the partition stays with it.
+    doReturn(5L).when(sourceConsumer).getPollTimes();
+    Assert.assertFalse(service.migratePartition(versionTopic, tp, sourceConsumer, targetConsumer));
+    verify(sourceConsumer).unSubscribe(tp);
+    verify(sourceConsumer).subscribe(versionTopic, tp, lastDeliveredPosition, false);
+    verify(sourceTask, never()).removeDataReceiver(tp);
+    verify(targetConsumer, never()).subscribe(any(), any(), any(), anyBoolean());
+    Assert.assertEquals(service.getConsumerAssignedToVersionTopicPartition(versionTopic, tp), sourceConsumer);
+
+    // The source consumer polls after the unsubscription, so the partition resumes on the target consumer.
+    doReturn(5L, 6L).when(sourceConsumer).getPollTimes();
+    Assert.assertTrue(service.migratePartition(versionTopic, tp, sourceConsumer, targetConsumer));
+    verify(sourceTask).removeDataReceiver(tp);
+    verify(targetTask).setDataReceiver(tp, receiver);
+    verify(targetConsumer).subscribe(versionTopic, tp, lastDeliveredPosition, false);
+    Assert.assertEquals(service.getConsumerAssignedToVersionTopicPartition(versionTopic, tp), targetConsumer);
+
+    // The partition is no longer with the source consumer.
+    Assert.assertFalse(service.migratePartition(versionTopic, tp, sourceConsumer, targetConsumer));
+    verify(sourceConsumer, times(2)).unSubscribe(tp);
+  }
+
   @Test(timeOut = 30000)
   public void testBatchUnsubscribeRunsConsumersInParallel() {
     PubSubTopic versionTopic =
@@ -704,6 +754,83 @@ public class KafkaConsumerServiceTest {
         () -> service.batchUnsubscribe(versionTopic, Collections.singleton(tp)));
   }
 
+  @Test
+  public void testMigratePausedPartition() {
+    PubSubTopic versionTopic =
+        pubSubTopicRepository.getTopic(Version.composeKafkaTopic(Utils.getUniqueString("migrate_store"), 1));
+    PubSubTopicPartition tp = new PubSubTopicPartitionImpl(versionTopic, 0);
+    SharedKafkaConsumer sourceConsumer = mock(SharedKafkaConsumer.class);
+    SharedKafkaConsumer targetConsumer = mock(SharedKafkaConsumer.class);
+    Map<SharedKafkaConsumer, Set<PubSubTopicPartition>> consumerToPartitions = new HashMap<>();
+    consumerToPartitions.put(sourceConsumer, Collections.singleton(tp));
+    consumerToPartitions.put(targetConsumer, new HashSet<>());
+    KafkaConsumerService service = createServiceWithConsumers(consumerToPartitions, versionTopic);
+
+    ConsumedDataReceiver<List<DefaultPubSubMessage>> dataReceiver = mock(ConsumedDataReceiver.class);
+    PubSubPosition lastDeliveredPosition = ApacheKafkaOffsetPosition.of(10);
+    ConsumptionTask.PartitionStats partitionStats = mock(ConsumptionTask.PartitionStats.class);
+    doReturn(lastDeliveredPosition).when(partitionStats).getLastDeliveredPosition();
+    ConsumptionTask sourceTask = mock(ConsumptionTask.class);
+    doReturn(dataReceiver).when(sourceTask).getDataReceiver(tp);
+    doReturn(partitionStats).when(sourceTask).getPartitionStats(tp);
+    ConsumptionTask targetTask = mock(ConsumptionTask.class);
+    service.consumerToConsumptionTask.put(sourceConsumer, sourceTask);
+    service.consumerToConsumptionTask.put(targetConsumer, targetTask);
+    doReturn(true).when(sourceConsumer).hasSubscription(tp);
+    doReturn(5L).when(sourceConsumer).unSubscribeWithoutWaitingForPoll(tp);
+    doReturn(true).when(sourceConsumer).waitForPoll(eq(5L), eq(tp), anyLong());
+
+    service.pause(versionTopic, tp);
+    verify(sourceConsumer).pause(tp);
+
+    // The pause is applied again on the target consumer, since it doesn't survive the unsubscription
+    Assert.assertTrue(service.migratePartition(versionTopic, tp, sourceConsumer, targetConsumer));
+    verify(sourceTask).removeDataReceiver(tp);
+    verify(targetTask).setDataReceiver(tp, dataReceiver);
+    verify(targetConsumer).subscribe(versionTopic, tp, lastDeliveredPosition, false);
+    verify(targetConsumer).pause(tp);
+    Assert.assertSame(service.getConsumerAssignedToVersionTopicPartition(versionTopic, tp), targetConsumer);
+
+    service.resume(versionTopic, tp);
+    verify(targetConsumer).resume(tp);
+    verify(sourceConsumer, never()).resume(tp);
+  }
+
+  @Test
+  public void testMigratePartitionUnsubscribedWhileWaitingForPoll() {
+    PubSubTopic versionTopic =
+        pubSubTopicRepository.getTopic(Version.composeKafkaTopic(Utils.getUniqueString("migrate_store"), 1));
+    PubSubTopicPartition tp = new PubSubTopicPartitionImpl(versionTopic, 0);
+    SharedKafkaConsumer sourceConsumer = mock(SharedKafkaConsumer.class);
+    SharedKafkaConsumer targetConsumer = mock(SharedKafkaConsumer.class);
+    Map<SharedKafkaConsumer, Set<PubSubTopicPartition>> consumerToPartitions = new HashMap<>();
+    consumerToPartitions.put(sourceConsumer, Collections.singleton(tp));
+    consumerToPartitions.put(targetConsumer, new HashSet<>());
+    KafkaConsumerService service = createServiceWithConsumers(consumerToPartitions, versionTopic);
+
+    ConsumptionTask.PartitionStats partitionStats = mock(ConsumptionTask.PartitionStats.class);
+    doReturn(ApacheKafkaOffsetPosition.of(10)).when(partitionStats).getLastDeliveredPosition();
+    ConsumptionTask sourceTask = mock(ConsumptionTask.class);
+    doReturn(mock(ConsumedDataReceiver.class)).when(sourceTask).getDataReceiver(tp);
+    doReturn(partitionStats).when(sourceTask).getPartitionStats(tp);
+    ConsumptionTask targetTask = mock(ConsumptionTask.class);
+    service.consumerToConsumptionTask.put(sourceConsumer, sourceTask);
+    service.consumerToConsumptionTask.put(targetConsumer, targetTask);
+    doReturn(true).when(sourceConsumer).hasSubscription(tp);
+    doReturn(5L).when(sourceConsumer).unSubscribeWithoutWaitingForPoll(tp);
+
+    // The subscription lock is not held while waiting for the poll, so the ingestion task can unsubscribe meanwhile
+    doAnswer(invocation -> {
+      CompletableFuture.runAsync(() -> service.unSubscribe(versionTopic, tp)).get(10, TimeUnit.SECONDS);
+      return true;
+    }).when(sourceConsumer).waitForPoll(eq(5L), eq(tp), anyLong());
+
+    Assert.assertFalse(service.migratePartition(versionTopic, tp, sourceConsumer, targetConsumer));
+    verify(targetConsumer, never()).subscribe(any(), any(), any(), anyBoolean());
+    verify(sourceConsumer, never()).subscribe(any(), any(), any(), anyBoolean());
+    Assert.assertNull(service.getConsumerAssignedToVersionTopicPartition(versionTopic, tp));
+  }
+
   private KafkaConsumerService createServiceWithConsumers(
       Map<SharedKafkaConsumer, Set<PubSubTopicPartition>> consumerToPartitions,
       PubSubTopic versionTopic) {
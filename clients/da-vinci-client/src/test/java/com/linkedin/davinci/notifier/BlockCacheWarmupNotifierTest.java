@@ -0,0 +1,86 @@
+package com.linkedin.davinci.notifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.davinci.stats.BlockCacheWarmupStats;
+import com.linkedin.davinci.storage.HotKeySampler;
+import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import java.nio.ByteBuffer;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class BlockCacheWarmupNotifierTest {
+  private static final String STORE_NAME = "test_store";
+  private static final String FUTURE_VERSION_TOPIC = Version.composeKafkaTopic(STORE_NAME, 2);
+
+  private HotKeySampler hotKeySampler;
+  private StorageEngine storageEngine;
+  private Store store;
+  private BlockCacheWarmupStats stats;
+  private BlockCacheWarmupNotifier notifier;
+
+  @BeforeMethod
+  public void setUp() {
+    hotKeySampler = new HotKeySampler(100, 1);
+    for (int i = 0; i < 10; i++) {
+      hotKeySampler.sample(STORE_NAME, ("key_" + i).getBytes());
+    }
+
+    Version version = mock(Version.class);
+    doReturn(1).when(version).getPartitionCount();
+    store = mock(Store.class);
+    doReturn(1).when(store).getCurrentVersion();
+    doReturn(version).when(store).getVersion(2);
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    doReturn(store).when(storeRepository).getStore(STORE_NAME);
+
+    storageEngine = mock(StorageEngine.class);
+    doReturn(true).when(storageEngine).containsPartition(0);
+    StorageEngineRepository storageEngineRepository = mock(StorageEngineRepository.class);
+    doReturn(storageEngine).when(storageEngineRepository).getLocalStorageEngine(FUTURE_VERSION_TOPIC);
+
+    stats = mock(BlockCacheWarmupStats.class);
+    notifier = new BlockCacheWarmupNotifier(hotKeySampler, storageEngineRepository, storeRepository, 10000, stats);
+  }
+
+  @Test
+  public void testWarmUpFutureVersion() {
+    notifier.warmUpPartition(FUTURE_VERSION_TOPIC, 0);
+    verify(storageEngine, times(10)).get(eq(0), any(ByteBuffer.class));
+    verify(stats).recordPartitionWarmup(eq(1.0), anyDouble(), eq(10));
+    notifier.close();
+  }
+
+  @Test
+  public void testSkipCurrentVersion() {
+    doReturn(2).when(store).getCurrentVersion();
+    notifier.warmUpPartition(FUTURE_VERSION_TOPIC, 0);
+    verify(storageEngine, never()).get(anyInt(), any(ByteBuffer.class));
+    verify(stats, never()).recordPartitionWarmup(anyDouble(), anyDouble(), anyInt());
+    notifier.close();
+  }
+
+  @Test
+  public void testWarmUpFailure() {
+    doThrow(new VeniceException("Read failure")).when(storageEngine).get(anyInt(), any(ByteBuffer.class));
+    notifier.warmUpPartition(FUTURE_VERSION_TOPIC, 0);
+    verify(stats).recordWarmupFailure();
+    verify(stats).recordPartitionWarmup(eq(0.0), anyDouble(), eq(0));
+    notifier.close();
+  }
+}
@@ -0,0 +1,21 @@
+package com.linkedin.davinci.stats;
+
+import static org.testng.Assert.assertEquals;
+
+import io.tehuti.metrics.MetricsRepository;
+import org.testng.annotations.Test;
+
+
+public class BlockCacheWarmupStatsTest {
+  @Test
+  public void testRepeatedConstruction() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    new BlockCacheWarmupStats(metricsRepository);
+    // e.g. when the storage service is restarted, the sensors which are already registered are reused
+    BlockCacheWarmupStats stats = new BlockCacheWarmupStats(metricsRepository);
+    stats.recordPartitionWarmup(0.5, 100, 10);
+    stats.recordPartitionWarmup(0.25, 200, 10);
+    assertEquals(metricsRepository.getMetric(".BlockCacheWarmup--warmup_key_coverage.Min").value(), 0.25);
+    assertEquals(metricsRepository.getMetric(".BlockCacheWarmup--warmup_duration_ms.Max").value(), 200.0);
+  }
+}
@@ -48,6 +48,14 @@ public class DaVinciRecordTransformerStatsTest {
     Assert.assertEquals(stats.getDeleteErrorCount(), 2.0);
   }
 
+  @Test
+  public void testRecoveryRecordCount() {
+    DaVinciRecordTransformerStats stats = new DaVinciRecordTransformerStats();
+    stats.recordRecoveryRecords(100, timestamp);
+    stats.recordRecoveryRecords(20, timestamp);
+    Assert.assertEquals(stats.getRecoveryRecordCount(), 120.0);
+  }
+
   @Test
   public void testDaVinciRecordTransformerStatsReporterCanReportForGauge() {
     MetricsRepository metricsRepository = new MetricsRepository();
@@ -559,6 +559,16 @@ public class KafkaConsumerServiceStatsOtelTest {
     assertEquals(getTehutiMetricValue(TOTAL_STATS_NAME, "subscribed_partitions_num", "Gauge"), 50.0);
   }
 
+  @Test
+  public void testTehutiOnlyPartitionMigrationSensors() {
+    totalStats.recordPartitionMigration();
+    totalStats.recordPartitionMigration();
+    totalStats.recordPartitionMigrationFailure();
+
+    assertEquals(getTehutiMetricValue(TOTAL_STATS_NAME, "partition_migration", "Total"), 2.0);
+    assertEquals(getTehutiMetricValue(TOTAL_STATS_NAME, "partition_migration_failure", "Total"), 1.0);
+  }
+
   // OTel-only metric
 
   @Test
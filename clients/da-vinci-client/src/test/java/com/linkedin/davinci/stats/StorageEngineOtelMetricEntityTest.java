@@ -47,6 +47,54 @@ public class StorageEngineOtelMetricEntityTest {
             MetricUnit.NUMBER,
             "Estimated key count in the storage engine",
             setOf(VENICE_CLUSTER_NAME, VENICE_STORE_NAME, VENICE_VERSION_ROLE)));
+    map.put(
+        StorageEngineOtelMetricEntity.ROCKSDB_BLOCK_CACHE_HIT_RATIO,
+        new MetricEntityExpectation(
+            "rocksdb.block_cache.hit_ratio",
+            MetricType.ASYNC_DOUBLE_GAUGE,
+            MetricUnit.RATIO,
+            "Block cache hit ratio of the store version in the last sample interval",
+            setOf(VENICE_CLUSTER_NAME, VENICE_STORE_NAME, VENICE_VERSION_ROLE)));
+    map.put(
+        StorageEngineOtelMetricEntity.ROCKSDB_BLOOM_FILTER_USEFUL_RATIO,
+        new MetricEntityExpectation(
+            "rocksdb.bloom_filter.useful_ratio",
+            MetricType.ASYNC_DOUBLE_GAUGE,
+            MetricUnit.RATIO,
+            "Ratio of the bloom filter checks avoiding disk reads in the last sample interval",
+            setOf(VENICE_CLUSTER_NAME, VENICE_STORE_NAME, VENICE_VERSION_ROLE)));
+    map.put(
+        StorageEngineOtelMetricEntity.ROCKSDB_READ_AMPLIFICATION,
+        new MetricEntityExpectation(
+            "rocksdb.read.amplification",
+            MetricType.ASYNC_DOUBLE_GAUGE,
+            MetricUnit.NUMBER,
+            "Bytes read from disk per useful byte in the last sample interval",
+            setOf(VENICE_CLUSTER_NAME, VENICE_STORE_NAME, VENICE_VERSION_ROLE)));
+    map.put(
+        StorageEngineOtelMetricEntity.ROCKSDB_WRITE_STALL_TIME,
+        new MetricEntityExpectation(
+            "rocksdb.write.stall_time",
+            MetricType.ASYNC_DOUBLE_GAUGE,
+            MetricUnit.MILLISECOND,
+            "Write stall time of the store version in the last sample interval",
+            setOf(VENICE_CLUSTER_NAME, VENICE_STORE_NAME, VENICE_VERSION_ROLE)));
+    map.put(
+        StorageEngineOtelMetricEntity.ROCKSDB_GET_P99_LATENCY,
+        new MetricEntityExpectation(
+            "rocksdb.get.p99_latency",
+            MetricType.ASYNC_DOUBLE_GAUGE,
+            MetricUnit.MILLISECOND,
+            "P99 latency of the RocksDB single gets in the last sample interval",
+            setOf(VENICE_CLUSTER_NAME, VENICE_STORE_NAME, VENICE_VERSION_ROLE)));
+    map.put(
+        StorageEngineOtelMetricEntity.ROCKSDB_MULTI_GET_P99_LATENCY,
+        new MetricEntityExpectation(
+            "rocksdb.multi_get.p99_latency",
+            MetricType.ASYNC_DOUBLE_GAUGE,
+            MetricUnit.MILLISECOND,
+            "P99 latency of the RocksDB multi-gets in the last sample interval",
+            setOf(VENICE_CLUSTER_NAME, VENICE_STORE_NAME, VENICE_VERSION_ROLE)));
     return map;
   }
 }
@@ -5,10 +5,16 @@ import static com.linkedin.venice.stats.dimensions.VeniceMetricsDimensions.VENIC
 import static com.linkedin.venice.stats.dimensions.VeniceMetricsDimensions.VENICE_RECORD_TYPE;
 import static com.linkedin.venice.stats.dimensions.VeniceMetricsDimensions.VENICE_STORE_NAME;
 import static com.linkedin.venice.stats.dimensions.VeniceMetricsDimensions.VENICE_VERSION_ROLE;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
 
+import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.davinci.store.StorageEngineStats;
+import com.linkedin.davinci.store.rocksdb.RocksDBStatisticsSampler;
+import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineStats;
 import com.linkedin.venice.server.VersionRole;
 import com.linkedin.venice.stats.VeniceMetricsConfig;
 import com.linkedin.venice.stats.VeniceMetricsRepository;
@@ -36,6 +42,10 @@ public class StorageEngineOtelStatsTest {
       StorageEngineOtelMetricEntity.KEY_COUNT_ESTIMATE.getMetricEntity().getMetricName();
   private static final String OPEN_FAILURE_METRIC =
       StorageEngineOtelMetricEntity.ROCKSDB_OPEN_FAILURE_COUNT.getMetricEntity().getMetricName();
+  private static final String BLOCK_CACHE_HIT_RATIO_METRIC =
+      StorageEngineOtelMetricEntity.ROCKSDB_BLOCK_CACHE_HIT_RATIO.getMetricEntity().getMetricName();
+  private static final String GET_P99_LATENCY_METRIC =
+      StorageEngineOtelMetricEntity.ROCKSDB_GET_P99_LATENCY.getMetricEntity().getMetricName();
 
   private InMemoryMetricReader inMemoryMetricReader;
   private VeniceMetricsRepository metricsRepository;
@@ -216,6 +226,57 @@ public class StorageEngineOtelStatsTest {
         METRIC_PREFIX);
   }
 
+  // --- ASYNC_DOUBLE_GAUGE tests for per-store RocksDB statistics ---
+
+  @Test
+  public void testRocksDBStatisticsCurrentVersion() {
+    RocksDBStatisticsSampler.Snapshot snapshot = mock(RocksDBStatisticsSampler.Snapshot.class);
+    doReturn(0.9).when(snapshot).getBlockCacheHitRatio();
+    doReturn(2.5).when(snapshot).getGetLatencyP99Ms();
+    RocksDBStorageEngineStats engineStats = mock(RocksDBStorageEngineStats.class);
+    doReturn(snapshot).when(engineStats).getRocksDBStatistics();
+    StorageEngine storageEngine = mock(StorageEngine.class);
+    doReturn(engineStats).when(storageEngine).getStats();
+    AggVersionedStorageEngineStats.StorageEngineStatsWrapper wrapper =
+        new AggVersionedStorageEngineStats.StorageEngineStatsWrapper();
+    wrapper.setStorageEngine(storageEngine);
+    stats.setStatsWrapper(1, wrapper);
+
+    OpenTelemetryDataTestUtils.validateDoublePointDataFromGauge(
+        inMemoryMetricReader,
+        0.9,
+        0.0001,
+        buildVersionRoleAttributes(VersionRole.CURRENT),
+        BLOCK_CACHE_HIT_RATIO_METRIC,
+        METRIC_PREFIX);
+    OpenTelemetryDataTestUtils.validateDoublePointDataFromGauge(
+        inMemoryMetricReader,
+        2.5,
+        0.0001,
+        buildVersionRoleAttributes(VersionRole.CURRENT),
+        GET_P99_LATENCY_METRIC,
+        METRIC_PREFIX);
+  }
+
+  @Test
+  public void testRocksDBStatisticsReturnsZeroWithoutPerStoreStatistics() {
+    // The storage engine stats are not RocksDB ones, e.g. a non-RocksDB storage engine
+    StorageEngine storageEngine = mock(StorageEngine.class);
+    doReturn(mock(StorageEngineStats.class)).when(storageEngine).getStats();
+    AggVersionedStorageEngineStats.StorageEngineStatsWrapper wrapper =
+        new AggVersionedStorageEngineStats.StorageEngineStatsWrapper();
+    wrapper.setStorageEngine(storageEngine);
+    stats.setStatsWrapper(1, wrapper);
+
+    OpenTelemetryDataTestUtils.validateDoublePointDataFromGauge(
+        inMemoryMetricReader,
+        0,
+        0.0001,
+        buildVersionRoleAttributes(VersionRole.CURRENT),
+        BLOCK_CACHE_HIT_RATIO_METRIC,
+        METRIC_PREFIX);
+  }
+
   // --- COUNTER tests for RocksDB open failure ---
 
   @Test
@@ -0,0 +1,95 @@
+package com.linkedin.davinci.storage;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.testng.annotations.Test;
+
+
+public class HotKeySamplerTest {
+  private static byte[] key(int i) {
+    return ("key_" + i).getBytes();
+  }
+
+  @Test
+  public void testHotKeyOrder() {
+    HotKeySampler sampler = new HotKeySampler(10, 1);
+    for (int i = 0; i < 5; i++) {
+      // key_i is read (i + 1) times
+      for (int j = 0; j <= i; j++) {
+        sampler.sample("test_store", key(i));
+      }
+    }
+    List<byte[]> hotKeys = sampler.getHotKeys("test_store");
+    assertEquals(hotKeys.size(), 5);
+    for (int i = 0; i < 5; i++) {
+      assertEquals(hotKeys.get(i), key(4 - i));
+    }
+    assertTrue(sampler.getHotKeys("other_store").isEmpty());
+
+    sampler.removeStore("test_store");
+    assertTrue(sampler.getHotKeys("test_store").isEmpty());
+  }
+
+  @Test
+  public void testBoundedSketch() {
+    HotKeySampler sampler = new HotKeySampler(5, 1);
+    // A few hot keys read along with a long tail of cold keys
+    for (int i = 100; i < 1000; i++) {
+      for (int j = 0; j < 3; j++) {
+        sampler.sample("test_store", key(j));
+      }
+      sampler.sample("test_store", key(i));
+    }
+    List<byte[]> hotKeys = sampler.getHotKeys("test_store");
+    assertEquals(hotKeys.size(), 5);
+    Set<String> topKeys = new HashSet<>();
+    for (int i = 0; i < 3; i++) {
+      topKeys.add(new String(hotKeys.get(i)));
+    }
+    assertEquals(topKeys, new HashSet<>(Arrays.asList("key_0", "key_1", "key_2")));
+  }
+
+  @Test
+  public void testAging() {
+    HotKeySampler sampler = new HotKeySampler(2, 1);
+    for (int i = 0; i < 1000; i++) {
+      sampler.sample("test_store", key(0));
+    }
+    // key_0 is no longer read, so it should be taken over by the keys which are hot now
+    for (int i = 0; i < 100; i++) {
+      sampler.sample("test_store", key(1));
+      sampler.sample("test_store", key(2));
+    }
+    List<byte[]> hotKeys = sampler.getHotKeys("test_store");
+    assertEquals(hotKeys.size(), 2);
+    Set<String> topKeys = new HashSet<>();
+    for (byte[] hotKey: hotKeys) {
+      topKeys.add(new String(hotKey));
+    }
+    assertEquals(topKeys, new HashSet<>(Arrays.asList("key_1", "key_2")));
+  }
+
+  @Test
+  public void testSampleByteBuffer() {
+    HotKeySampler sampler = new HotKeySampler(10, 1);
+    byte[] requestBuffer = "prefix_key_0".getBytes();
+    ByteBuffer keyBuffer = ByteBuffer.wrap(requestBuffer, 7, 5);
+    sampler.sample("test_store", keyBuffer);
+    // The sampled key should not be affected by the reuse of the request buffer
+    requestBuffer[7] = 'x';
+    assertEquals(keyBuffer.remaining(), 5);
+    assertEquals(sampler.getHotKeys("test_store").get(0), key(0));
+  }
+
+  @Test
+  public void testInvalidMaxKeyCount() {
+    assertThrows(IllegalArgumentException.class, () -> new HotKeySampler(0, 1));
+  }
+}
@@ -0,0 +1,109 @@
+package com.linkedin.davinci.store.rocksdb;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.Utils;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class MemoryMappedImmutablePartitionTest {
+  private File dir;
+
+  @BeforeMethod
+  public void setUp() {
+    dir = new File(Utils.getTempDataDirectory(), "mmap");
+  }
+
+  @AfterMethod
+  public void cleanUp() throws IOException {
+    FileUtils.deleteDirectory(dir.getParentFile());
+  }
+
+  private static byte[] key(int i) {
+    return String.format("key_%05d", i).getBytes();
+  }
+
+  private static byte[] value(int i) {
+    return ("value_" + i).getBytes();
+  }
+
+  @Test
+  public void testLookup() throws IOException {
+    int recordCount = 1000;
+    // Small data files and blocks to cover the lookups across blocks and files
+    try (MemoryMappedImmutablePartition.Writer writer =
+        new MemoryMappedImmutablePartition.Writer(dir.getAbsolutePath(), 4 * 1024, 128)) {
+      for (int i = 1; i < recordCount; i += 2) {
+        writer.add(key(i), value(i));
+      }
+      writer.finish(123L);
+    }
+    assertTrue(new File(dir, "data_1").exists());
+
+    MemoryMappedImmutablePartition partition = MemoryMappedImmutablePartition.open(dir.getAbsolutePath());
+    assertEquals(partition.getSequenceNumber(), 123L);
+    assertEquals(partition.getRecordCount(), recordCount / 2);
+    for (int i = 0; i <= recordCount; i++) {
+      ByteBuffer value = partition.get(key(i));
+      if (i % 2 == 1) {
+        assertEquals(ByteUtils.extractByteArray(value), value(i));
+      } else {
+        assertNull(value, "Unexpected value for key: " + i);
+      }
+    }
+    // Lookup with a key in the middle of a larger array
+    byte[] key = key(501);
+    byte[] paddedKey = new byte[key.length + 4];
+    System.arraycopy(key, 0, paddedKey, 2, key.length);
+    assertEquals(ByteUtils.extractByteArray(partition.get(paddedKey, 2, key.length)), value(501));
+    assertNull(partition.get(new byte[0]));
+
+    partition.close();
+    assertThrows(VeniceException.class, () -> partition.get(key(1)));
+  }
+
+  @Test
+  public void testEmptyPartition() throws IOException {
+    try (MemoryMappedImmutablePartition.Writer writer =
+        new MemoryMappedImmutablePartition.Writer(dir.getAbsolutePath(), 4 * 1024, 128)) {
+      writer.finish(0L);
+    }
+    MemoryMappedImmutablePartition partition = MemoryMappedImmutablePartition.open(dir.getAbsolutePath());
+    assertEquals(partition.getRecordCount(), 0);
+    assertNull(partition.get(key(1)));
+  }
+
+  @Test
+  public void testIncompleteFiles() throws IOException {
+    try (MemoryMappedImmutablePartition.Writer writer =
+        new MemoryMappedImmutablePartition.Writer(dir.getAbsolutePath(), 4 * 1024, 128)) {
+      writer.add(key(2), value(2));
+      // Keys must be sorted
+      assertThrows(VeniceException.class, () -> writer.add(key(1), value(1)));
+      assertThrows(VeniceException.class, () -> writer.add(key(2), value(2)));
+    }
+    // The files without the index are ignored
+    assertNull(MemoryMappedImmutablePartition.open(dir.getAbsolutePath()));
+
+    // The leftover of the previous attempt is removed
+    try (MemoryMappedImmutablePartition.Writer writer =
+        new MemoryMappedImmutablePartition.Writer(dir.getAbsolutePath(), 4 * 1024, 128)) {
+      writer.add(key(1), value(1));
+      writer.finish(1L);
+    }
+    MemoryMappedImmutablePartition partition = MemoryMappedImmutablePartition.open(dir.getAbsolutePath());
+    assertEquals(partition.getRecordCount(), 1);
+    assertNull(partition.get(key(2)));
+  }
+}
@@ -109,4 +109,22 @@ public class RocksDBServerConfigTest {
         expectedRatio,
         "Max trash DB ratio should be configured correctly when both configs are set");
   }
+
+  @Test
+  public void testPerStoreStatisticsConfig() {
+    RocksDBServerConfig config = new RocksDBServerConfig(new PropertyBuilder().build());
+    Assert.assertFalse(config.isPerStoreStatisticsEnabled("store_a"));
+
+    config = new RocksDBServerConfig(
+        new PropertyBuilder().put(RocksDBServerConfig.ROCKSDB_PER_STORE_STATISTICS_ENABLED, "true").build());
+    Assert.assertTrue(config.isPerStoreStatisticsEnabled("store_a"));
+    Assert.assertTrue(config.isPerStoreStatisticsEnabled("store_b"));
+
+    config = new RocksDBServerConfig(
+        new PropertyBuilder().put(RocksDBServerConfig.ROCKSDB_PER_STORE_STATISTICS_ENABLED, "true")
+            .put(RocksDBServerConfig.ROCKSDB_PER_STORE_STATISTICS_STORES, "store_a")
+            .build());
+    Assert.assertTrue(config.isPerStoreStatisticsEnabled("store_a"));
+    Assert.assertFalse(config.isPerStoreStatisticsEnabled("store_b"));
+  }
 }
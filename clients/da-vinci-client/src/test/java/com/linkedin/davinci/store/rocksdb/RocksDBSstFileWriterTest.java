@@ -3,17 +3,22 @@ package com.linkedin.davinci.store.rocksdb;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.validation.checksum.CheckSum;
 import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.commons.io.FileUtils;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.EnvOptions;
 import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -385,6 +390,182 @@ public class RocksDBSstFileWriterTest {
     }
   }
 
+  @Test
+  public void testCheckDatabaseIntegrityWithIngestedFiles() throws IOException {
+    RocksDBSstFileWriter rocksDBSstFileWriter = null;
+    try {
+      rocksDBSstFileWriter = new RocksDBSstFileWriter(
+          STORE_NAME,
+          PARTITION_ID,
+          "",
+          new EnvOptions(),
+          new Options(),
+          DB_DIR,
+          IS_RMD,
+          ROCKS_DB_SERVER_CONFIG);
+      Map<String, String> checkpointedInfo = new HashMap<>();
+      checkpointedInfo.put(rocksDBSstFileWriter.getLastCheckPointedSSTFileNum(), "2");
+      // "0" has been moved into the database by the incremental ingestion
+      createSstFiles(3);
+      deleteSstFile(0);
+      Assert.assertFalse(rocksDBSstFileWriter.checkDatabaseIntegrity(checkpointedInfo));
+
+      createSstFiles(3);
+      deleteSstFile(0);
+      checkpointedInfo.put(RocksDBSstFileWriter.ROCKSDB_LAST_INGESTED_SST_FILE_NO, "0");
+      Assert.assertTrue(rocksDBSstFileWriter.checkDatabaseIntegrity(checkpointedInfo));
+      Assert.assertEquals(getNumberOfFilesInTempDirectory(), 2);
+
+      checkpointedInfo.put(RocksDBSstFileWriter.ROCKSDB_LAST_INGESTED_SST_FILE_NO, "3");
+      RocksDBSstFileWriter writer = rocksDBSstFileWriter;
+      Assert.assertThrows(VeniceException.class, () -> writer.checkDatabaseIntegrity(checkpointedInfo));
+    } finally {
+      if (rocksDBSstFileWriter != null) {
+        rocksDBSstFileWriter.close();
+      }
+      deleteTempDatabaseDir();
+    }
+  }
+
+  @Test
+  public void testPipelinedWriteWithSizeBasedRoll() throws IOException, RocksDBException {
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(
+        new PropertyBuilder().put(RocksDBServerConfig.ROCKSDB_SST_FILE_WRITER_PIPELINED_ENABLED, true)
+            .put(RocksDBServerConfig.ROCKSDB_SST_FILE_WRITER_PIPELINE_BUFFER_SIZE_IN_BYTES, 8 * 1024)
+            .put(RocksDBServerConfig.ROCKSDB_SST_FILE_TARGET_SIZE_IN_BYTES, 64 * 1024)
+            .build());
+    String dbPath = Utils.getUniqueTempPath("sstTestDB");
+    RocksDBSstFileWriter rocksDBSstFileWriter = null;
+    try (Options options = new Options().setCreateIfMissing(true); RocksDB rocksDB = RocksDB.open(options, dbPath)) {
+      rocksDBSstFileWriter = new RocksDBSstFileWriter(
+          STORE_NAME,
+          PARTITION_ID,
+          "",
+          new EnvOptions(),
+          new Options(),
+          DB_DIR,
+          IS_RMD,
+          rocksDBServerConfig);
+      CheckSum expectedCheckSum = CheckSum.getInstance(CheckSumType.MD5);
+      rocksDBSstFileWriter.open(new HashMap<>(), Optional.of(expectedCheckSum::getCheckSum));
+
+      byte[] value = new byte[1024];
+      int recordCount = 1000;
+      for (int i = 0; i < recordCount; i++) {
+        byte[] key = String.format("key_%05d", i).getBytes();
+        value[0] = (byte) i;
+        expectedCheckSum.update(key);
+        expectedCheckSum.update(value);
+        rocksDBSstFileWriter.put(key, ByteBuffer.wrap(value));
+      }
+      // The value buffer is reused by the caller, so the writer must have copied it
+      value[0] = -1;
+
+      Map<String, String> checkpointingInfo = rocksDBSstFileWriter.sync();
+      Assert.assertEquals(rocksDBSstFileWriter.getRecordNumInAllSSTFiles(), recordCount);
+      // ~1MB of records are rolled into multiple files of the target size
+      int lastFinishedSSTFileNo =
+          Integer.parseInt(checkpointingInfo.get(rocksDBSstFileWriter.getLastCheckPointedSSTFileNum()));
+      Assert.assertTrue(lastFinishedSSTFileNo > 1, "Unexpected last finished sst file no: " + lastFinishedSSTFileNo);
+
+      rocksDBSstFileWriter.ingestSSTFiles(rocksDB, Collections.singletonList(rocksDB.getDefaultColumnFamily()));
+      for (int i = 0; i < recordCount; i++) {
+        byte[] storedValue = rocksDB.get(String.format("key_%05d", i).getBytes());
+        Assert.assertNotNull(storedValue);
+        Assert.assertEquals(storedValue[0], (byte) i);
+      }
+    } finally {
+      if (rocksDBSstFileWriter != null) {
+        rocksDBSstFileWriter.close();
+      }
+      deleteTempDatabaseDir();
+      FileUtils.deleteDirectory(new File(dbPath));
+    }
+  }
+
+  @Test
+  public void testPipelinedWriteWithInCorrectChecksum() throws IOException, RocksDBException {
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(
+        new PropertyBuilder().put(RocksDBServerConfig.ROCKSDB_SST_FILE_WRITER_PIPELINED_ENABLED, true).build());
+    RocksDBSstFileWriter rocksDBSstFileWriter = null;
+    try {
+      rocksDBSstFileWriter = new RocksDBSstFileWriter(
+          STORE_NAME,
+          PARTITION_ID,
+          "",
+          new EnvOptions(),
+          new Options(),
+          DB_DIR,
+          IS_RMD,
+          rocksDBServerConfig);
+      rocksDBSstFileWriter.open(new HashMap<>(), Optional.of(() -> "wrong_checksum".getBytes()));
+      rocksDBSstFileWriter.put("key".getBytes(), ByteBuffer.wrap("value".getBytes()));
+      // The checksum is verified in the background, so the sync doesn't fail
+      rocksDBSstFileWriter.sync();
+      RocksDBSstFileWriter writer = rocksDBSstFileWriter;
+      VeniceException e = Assert.expectThrows(VeniceException.class, () -> writer.ingestSSTFiles(null, null));
+      Assert.assertTrue(e.getMessage().startsWith("verifyChecksum: failure."), e.getMessage());
+      // The unverified file is deleted, so a restart from the checkpoint won't pass the integrity check
+      Assert.assertFalse(new File(DB_DIR + "/sst_file_0").exists());
+    } finally {
+      if (rocksDBSstFileWriter != null) {
+        rocksDBSstFileWriter.close();
+      }
+      deleteTempDatabaseDir();
+    }
+  }
+
+  @Test
+  public void testIncrementalIngestion() throws IOException, RocksDBException {
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(
+        new PropertyBuilder().put(RocksDBServerConfig.ROCKSDB_SST_FILE_INCREMENTAL_INGESTION_ENABLED, true).build());
+    String dbPath = Utils.getUniqueTempPath("sstTestDB");
+    RocksDBSstFileWriter rocksDBSstFileWriter = null;
+    try (Options options = new Options().setCreateIfMissing(true); RocksDB rocksDB = RocksDB.open(options, dbPath)) {
+      rocksDBSstFileWriter = new RocksDBSstFileWriter(
+          STORE_NAME,
+          PARTITION_ID,
+          "",
+          new EnvOptions(),
+          new Options(),
+          DB_DIR,
+          IS_RMD,
+          rocksDBServerConfig);
+      rocksDBSstFileWriter.open(new HashMap<>(), Optional.empty());
+      List<ColumnFamilyHandle> columnFamilyHandles = Collections.singletonList(rocksDB.getDefaultColumnFamily());
+      String lastIngestedSSTFileNum = RocksDBSstFileWriter.ROCKSDB_LAST_INGESTED_SST_FILE_NO;
+
+      rocksDBSstFileWriter.put("key_0".getBytes(), ByteBuffer.wrap("value_0".getBytes()));
+      // Nothing is checkpointed before the first sync
+      rocksDBSstFileWriter.ingestCheckpointedSSTFiles(rocksDB, columnFamilyHandles);
+      Assert.assertNull(rocksDB.get("key_0".getBytes()));
+      Map<String, String> checkpointingInfo = rocksDBSstFileWriter.sync();
+      Assert.assertEquals(checkpointingInfo.get(rocksDBSstFileWriter.getLastCheckPointedSSTFileNum()), "0");
+      Assert.assertNull(checkpointingInfo.get(lastIngestedSSTFileNum));
+
+      rocksDBSstFileWriter.put("key_1".getBytes(), ByteBuffer.wrap("value_1".getBytes()));
+      // The files covered by the last checkpoint are ingested before the next sync
+      rocksDBSstFileWriter.ingestCheckpointedSSTFiles(rocksDB, columnFamilyHandles);
+      Assert.assertEquals(rocksDB.get("key_0".getBytes()), "value_0".getBytes());
+      Assert.assertNull(rocksDB.get("key_1".getBytes()));
+      Assert.assertFalse(new File(DB_DIR + "/sst_file_0").exists());
+      checkpointingInfo = rocksDBSstFileWriter.sync();
+      Assert.assertEquals(checkpointingInfo.get(rocksDBSstFileWriter.getLastCheckPointedSSTFileNum()), "1");
+      Assert.assertEquals(checkpointingInfo.get(lastIngestedSSTFileNum), "0");
+
+      rocksDBSstFileWriter.ingestSSTFiles(rocksDB, columnFamilyHandles);
+      // The incrementally ingested files are kept by the final ingestion
+      Assert.assertEquals(rocksDB.get("key_0".getBytes()), "value_0".getBytes());
+      Assert.assertEquals(rocksDB.get("key_1".getBytes()), "value_1".getBytes());
+    } finally {
+      if (rocksDBSstFileWriter != null) {
+        rocksDBSstFileWriter.close();
+      }
+      deleteTempDatabaseDir();
+      FileUtils.deleteDirectory(new File(dbPath));
+    }
+  }
+
   private String getTempDatabaseDir() {
     File storeDir = new File(DB_DIR).getAbsoluteFile();
     if (!storeDir.mkdirs()) {
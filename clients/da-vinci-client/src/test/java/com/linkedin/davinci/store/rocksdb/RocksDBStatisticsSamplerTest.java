@@ -0,0 +1,97 @@
+package com.linkedin.davinci.store.rocksdb;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.utils.TestMockTime;
+import org.rocksdb.HistogramData;
+import org.rocksdb.HistogramType;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.Statistics;
+import org.rocksdb.TickerType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class RocksDBStatisticsSamplerTest {
+  private static final long SAMPLE_INTERVAL_MS = 1000;
+
+  private static Statistics mockStatistics() {
+    Statistics statistics = mock(Statistics.class);
+    doReturn(90L).when(statistics).getTickerCount(TickerType.BLOCK_CACHE_HIT);
+    doReturn(10L).when(statistics).getTickerCount(TickerType.BLOCK_CACHE_MISS);
+    doReturn(30L).when(statistics).getTickerCount(TickerType.BLOOM_FILTER_USEFUL);
+    doReturn(10L).when(statistics).getTickerCount(TickerType.BLOOM_FILTER_FULL_POSITIVE);
+    doReturn(4000L).when(statistics).getTickerCount(TickerType.READ_AMP_TOTAL_READ_BYTES);
+    doReturn(1000L).when(statistics).getTickerCount(TickerType.READ_AMP_ESTIMATE_USEFUL_BYTES);
+    doReturn(5000L).when(statistics).getTickerCount(TickerType.STALL_MICROS);
+    HistogramData getHistogram = mock(HistogramData.class);
+    doReturn(1500d).when(getHistogram).getPercentile99();
+    doReturn(getHistogram).when(statistics).getHistogramData(HistogramType.DB_GET);
+    HistogramData multiGetHistogram = mock(HistogramData.class);
+    doReturn(3000d).when(multiGetHistogram).getPercentile99();
+    doReturn(multiGetHistogram).when(statistics).getHistogramData(HistogramType.DB_MULTIGET);
+    return statistics;
+  }
+
+  @Test
+  public void testSnapshotPerInterval() throws RocksDBException {
+    Statistics statistics = mockStatistics();
+    TestMockTime time = new TestMockTime();
+    RocksDBStatisticsSampler sampler = new RocksDBStatisticsSampler(statistics, SAMPLE_INTERVAL_MS, time);
+
+    // No full interval yet
+    Assert.assertSame(sampler.getSnapshot(), RocksDBStatisticsSampler.Snapshot.EMPTY);
+
+    time.addMilliseconds(SAMPLE_INTERVAL_MS);
+    RocksDBStatisticsSampler.Snapshot snapshot = sampler.getSnapshot();
+    Assert.assertEquals(snapshot.getBlockCacheHitRatio(), 0.9, 0.0001);
+    Assert.assertEquals(snapshot.getBloomFilterUsefulRatio(), 0.75, 0.0001);
+    Assert.assertEquals(snapshot.getReadAmplification(), 4.0, 0.0001);
+    Assert.assertEquals(snapshot.getStallTimeMs(), 5.0, 0.0001);
+    Assert.assertEquals(snapshot.getGetLatencyP99Ms(), 1.5, 0.0001);
+    Assert.assertEquals(snapshot.getMultiGetLatencyP99Ms(), 3.0, 0.0001);
+    verify(statistics).reset();
+
+    // Within the same interval, the same snapshot is returned without resetting the statistics again
+    time.addMilliseconds(SAMPLE_INTERVAL_MS / 2);
+    Assert.assertSame(sampler.getSnapshot(), snapshot);
+    verify(statistics).reset();
+
+    time.addMilliseconds(SAMPLE_INTERVAL_MS);
+    Assert.assertNotSame(sampler.getSnapshot(), snapshot);
+    verify(statistics, times(2)).reset();
+  }
+
+  @Test
+  public void testSnapshotWithoutEvents() throws RocksDBException {
+    Statistics statistics = mock(Statistics.class);
+    doReturn(mock(HistogramData.class)).when(statistics).getHistogramData(HistogramType.DB_GET);
+    doReturn(mock(HistogramData.class)).when(statistics).getHistogramData(HistogramType.DB_MULTIGET);
+    doThrow(new RocksDBException("reset failure")).when(statistics).reset();
+    TestMockTime time = new TestMockTime();
+    RocksDBStatisticsSampler sampler = new RocksDBStatisticsSampler(statistics, SAMPLE_INTERVAL_MS, time);
+
+    time.addMilliseconds(SAMPLE_INTERVAL_MS);
+    RocksDBStatisticsSampler.Snapshot snapshot = sampler.getSnapshot();
+    Assert.assertEquals(snapshot.getBlockCacheHitRatio(), 0d);
+    Assert.assertEquals(snapshot.getBloomFilterUsefulRatio(), 0d);
+    Assert.assertEquals(snapshot.getReadAmplification(), 0d);
+  }
+
+  @Test
+  public void testNoSnapshotAfterClose() {
+    Statistics statistics = mockStatistics();
+    TestMockTime time = new TestMockTime();
+    RocksDBStatisticsSampler sampler = new RocksDBStatisticsSampler(statistics, SAMPLE_INTERVAL_MS, time);
+    sampler.close();
+    sampler.close();
+    verify(statistics).close();
+
+    time.addMilliseconds(SAMPLE_INTERVAL_MS);
+    Assert.assertSame(sampler.getSnapshot(), RocksDBStatisticsSampler.Snapshot.EMPTY);
+  }
+}
@@ -4,6 +4,7 @@ import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_BLO
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_BLOB_FILE_SIZE_IN_BYTES;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_BLOB_FILE_STARTING_LEVEL;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_BLOCK_CACHE_IMPLEMENTATION;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_CONCURRENT_WRITE_ENABLED;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_COMPACTION_TUNING_FOR_READ_WRITE_LEADER_ENABLED;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER_FOR_READ_WRITE_LEADER;
@@ -14,6 +15,8 @@ import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEV
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_STOPS_WRITES_TRIGGER;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_STOPS_WRITES_TRIGGER_FOR_READ_WRITE_LEADER;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_STOPS_WRITES_TRIGGER_WRITE_ONLY_VERSION;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MEMORY_MAPPED_BLOCK_SIZE_IN_BYTES;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MEMORY_MAPPED_READ_ONLY_PARTITION_ENABLED;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MEMTABLE_SIZE_IN_BYTES;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MIN_BLOB_SIZE_IN_BYTES;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED;
@@ -38,6 +41,7 @@ import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.ConfigCommonUtils.ActivationState;
 import com.linkedin.venice.utils.DataProviderUtils;
+import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
@@ -51,6 +55,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.RandomStringUtils;
@@ -1256,4 +1264,189 @@ public class RocksDBStoragePartitionTest {
     storagePartition.drop();
     removeDir(storeDir);
   }
+
+  @Test
+  public void testGetKeyRangeSplitPoints() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    // An empty partition can't be split
+    assertTrue(storagePartition.getKeyRangeSplitPoints(4).isEmpty());
+
+    // Each batch of keys is flushed into its own SST file
+    int batchCount = 4;
+    int batchSize = 100;
+    List<String> batchStartKeys = new ArrayList<>();
+    for (int batch = 0; batch < batchCount; batch++) {
+      batchStartKeys.add(String.format("%s%05d", KEY_PREFIX, batch * batchSize));
+      for (int i = batch * batchSize; i < (batch + 1) * batchSize; i++) {
+        storagePartition.put(String.format("%s%05d", KEY_PREFIX, i).getBytes(), (VALUE_PREFIX + i).getBytes());
+      }
+      storagePartition.sync();
+    }
+
+    assertTrue(storagePartition.getKeyRangeSplitPoints(1).isEmpty());
+    List<byte[]> splitPoints = storagePartition.getKeyRangeSplitPoints(batchCount);
+    assertFalse(splitPoints.isEmpty());
+    assertTrue(splitPoints.size() < batchCount);
+    String previousSplitPoint = null;
+    for (byte[] splitPoint: splitPoints) {
+      String splitKey = new String(splitPoint);
+      assertTrue(batchStartKeys.contains(splitKey), "Unexpected split point: " + splitKey);
+      assertTrue(previousSplitPoint == null || previousSplitPoint.compareTo(splitKey) < 0);
+      previousSplitPoint = splitKey;
+    }
+
+    storagePartition.close();
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testMemoryMappedReadOnlyPartition() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    Properties extraProps = new Properties();
+    extraProps.put(ROCKSDB_MEMORY_MAPPED_READ_ONLY_PARTITION_ENABLED, "true");
+    extraProps.put(ROCKSDB_MEMORY_MAPPED_BLOCK_SIZE_IN_BYTES, "256");
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, extraProps);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+    int keyCount = 1000;
+    for (int i = 0; i < keyCount; i += 2) {
+      storagePartition.put((KEY_PREFIX + i).getBytes(), (VALUE_PREFIX + i).getBytes());
+    }
+    storagePartition.sync();
+    // The writable partition is served by RocksDB
+    assertFalse(storagePartition.isMemoryMappedPartitionLoaded());
+    storagePartition.close();
+
+    partitionConfig.setReadOnly(true);
+    for (int round = 0; round < 2; round++) {
+      // The files are built in the first round, and reused in the second round
+      RocksDBStoragePartition readOnlyPartition = new RocksDBStoragePartition(
+          partitionConfig,
+          factory,
+          DATA_BASE_DIR,
+          null,
+          ROCKSDB_THROTTLER,
+          rocksDBServerConfig);
+      TestUtils.waitForNonDeterministicAssertion(
+          10,
+          TimeUnit.SECONDS,
+          () -> assertTrue(readOnlyPartition.isMemoryMappedPartitionLoaded()));
+
+      List<byte[]> keys = new ArrayList<>();
+      List<ByteBuffer> keyBuffers = new ArrayList<>();
+      List<ByteBuffer> valueBuffers = new ArrayList<>();
+      for (int i = 0; i < keyCount; i++) {
+        byte[] key = (KEY_PREFIX + i).getBytes();
+        byte[] expectedValue = i % 2 == 0 ? (VALUE_PREFIX + i).getBytes() : null;
+        Assert.assertEquals(readOnlyPartition.get(key), expectedValue);
+        Assert.assertEquals(readOnlyPartition.get(ByteBuffer.wrap(key)), expectedValue);
+        ByteBuffer value = readOnlyPartition.get(key, ByteBuffer.allocate(1));
+        Assert.assertEquals(ByteUtils.extractByteArray(value), expectedValue);
+        keys.add(key);
+        ByteBuffer keyBuffer = ByteBuffer.allocateDirect(key.length);
+        keyBuffer.put(key);
+        keyBuffer.flip();
+        keyBuffers.add(keyBuffer);
+        valueBuffers.add(ByteBuffer.allocateDirect(4));
+      }
+      List<byte[]> values = readOnlyPartition.multiGet(keys);
+      List<ByteBuffer> valueBufferResults = readOnlyPartition.multiGet(keyBuffers, valueBuffers);
+      for (int i = 0; i < keyCount; i++) {
+        byte[] expectedValue = i % 2 == 0 ? (VALUE_PREFIX + i).getBytes() : null;
+        Assert.assertEquals(values.get(i), expectedValue);
+        ByteBuffer value = valueBufferResults.get(i);
+        Assert.assertEquals(ByteUtils.extractByteArray(value), expectedValue);
+      }
+      readOnlyPartition.close();
+      if (round == 1) {
+        readOnlyPartition.drop();
+      }
+    }
+    assertFalse(new File(RocksDBUtils.composeMemoryMappedFileDir(DATA_BASE_DIR, storeName, partitionId)).exists());
+    factory.close();
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testConcurrentWrite() throws Exception {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    Properties extraProps = new Properties();
+    extraProps.put(ROCKSDB_CONCURRENT_WRITE_ENABLED, "true");
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, extraProps);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+    assertTrue(storagePartition.getOptions().enablePipelinedWrite());
+
+    int threadCount = 4;
+    int keyCountPerThread = 1000;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      CompletableFuture[] futures = new CompletableFuture[threadCount];
+      for (int t = 0; t < threadCount; t++) {
+        int threadId = t;
+        futures[t] = CompletableFuture.runAsync(() -> {
+          for (int i = threadId; i < threadCount * keyCountPerThread; i += threadCount) {
+            storagePartition.put((KEY_PREFIX + i).getBytes(), (VALUE_PREFIX + i).getBytes());
+            if (i % 10 == 0) {
+              storagePartition.delete((KEY_PREFIX + i).getBytes());
+            }
+          }
+        }, executor);
+      }
+      CompletableFuture.allOf(futures).get(60, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+    storagePartition.sync();
+    for (int i = 0; i < threadCount * keyCountPerThread; i++) {
+      byte[] expectedValue = i % 10 == 0 ? null : (VALUE_PREFIX + i).getBytes();
+      Assert.assertEquals(storagePartition.get((KEY_PREFIX + i).getBytes()), expectedValue);
+    }
+
+    storagePartition.close();
+    Assert.assertThrows(VeniceException.class, () -> storagePartition.put(KEY_PREFIX.getBytes(), new byte[1]));
+    storagePartition.drop();
+    factory.close();
+    removeDir(storeDir);
+  }
 }
@@ -0,0 +1,136 @@
+package com.linkedin.davinci.store.tiered;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Optional;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TieredStorageEngineTest {
+  private static final String STORE_VERSION_NAME = "test_store_v1";
+  private static final int PARTITION = 1;
+
+  private static StorageEngine<AbstractStoragePartition> mockDiskTier() {
+    StorageEngine<AbstractStoragePartition> diskTier = mock(StorageEngine.class);
+    doReturn(STORE_VERSION_NAME).when(diskTier).getStoreVersionName();
+    return diskTier;
+  }
+
+  @Test
+  public void testReadsAreServedFromMemoryTier() {
+    StorageEngine<AbstractStoragePartition> diskTier = mockDiskTier();
+    byte[] key = "key".getBytes();
+    doReturn("value".getBytes()).when(diskTier).get(PARTITION, key);
+    HotTierCache hotTier = new HotTierCache(1024 * 1024);
+    TieredStorageEngine<AbstractStoragePartition> engine = new TieredStorageEngine<>(diskTier, hotTier);
+
+    Assert.assertEquals(engine.get(PARTITION, key), "value".getBytes());
+    Assert.assertEquals(engine.get(PARTITION, "key".getBytes()), "value".getBytes());
+    ByteBuffer value = engine.get(PARTITION, "key".getBytes(), ByteBuffer.allocate(2));
+    Assert.assertEquals(value.remaining(), 5);
+    Assert.assertEquals(engine.get(PARTITION, ByteBuffer.wrap("key".getBytes())), "value".getBytes());
+    verify(diskTier, times(1)).get(anyInt(), any(byte[].class));
+    Assert.assertEquals(hotTier.getMissCount(), 1);
+    Assert.assertEquals(hotTier.getHitCount(), 3);
+
+    // Mutating the returned value doesn't affect the memory tier
+    engine.get(PARTITION, key)[0] = 'x';
+    Assert.assertEquals(engine.get(PARTITION, key), "value".getBytes());
+
+    // Missing keys are not cached
+    Assert.assertNull(engine.get(PARTITION, "missing".getBytes()));
+    Assert.assertNull(engine.get(PARTITION, "missing".getBytes()));
+    verify(diskTier, times(2)).get(PARTITION, "missing".getBytes());
+  }
+
+  @Test
+  public void testWritesAreAppliedToBothTiers() {
+    StorageEngine<AbstractStoragePartition> diskTier = mockDiskTier();
+    byte[] key = "key".getBytes();
+    doReturn("value".getBytes()).when(diskTier).get(PARTITION, key);
+    TieredStorageEngine<AbstractStoragePartition> engine =
+        new TieredStorageEngine<>(diskTier, new HotTierCache(1024 * 1024));
+    Assert.assertEquals(engine.get(PARTITION, key), "value".getBytes());
+
+    engine.put(PARTITION, key, "value2".getBytes());
+    verify(diskTier).put(PARTITION, key, "value2".getBytes());
+    Assert.assertEquals(engine.get(PARTITION, key), "value2".getBytes());
+
+    engine.put(PARTITION, key, ByteBuffer.wrap("__value3__".getBytes(), 2, 6));
+    Assert.assertEquals(engine.get(PARTITION, key), "value3".getBytes());
+
+    // Writes don't admit new keys
+    engine.put(PARTITION, "key2".getBytes(), "value".getBytes());
+    Assert.assertNull(engine.get(PARTITION, "key2".getBytes()));
+
+    engine.delete(PARTITION, key);
+    verify(diskTier).delete(PARTITION, key);
+    doReturn(null).when(diskTier).get(PARTITION, key);
+    Assert.assertNull(engine.get(PARTITION, key));
+  }
+
+  @Test
+  public void testPartitionLifecycleInvalidatesMemoryTier() {
+    StorageEngine<AbstractStoragePartition> diskTier = mockDiskTier();
+    byte[] key = "key".getBytes();
+    doReturn("value".getBytes()).when(diskTier).get(anyInt(), any(byte[].class));
+    HotTierCache hotTier = new HotTierCache(1024 * 1024);
+    TieredStorageEngine<AbstractStoragePartition> engine = new TieredStorageEngine<>(diskTier, hotTier);
+
+    engine.get(PARTITION, key);
+    engine.get(PARTITION + 1, key);
+    Assert.assertEquals(hotTier.getEntryCount(), 2);
+
+    engine.dropPartition(PARTITION);
+    Assert.assertEquals(hotTier.getEntryCount(), 1);
+
+    engine.get(PARTITION, key);
+    engine.endBatchWrite(new StoragePartitionConfig(STORE_VERSION_NAME, PARTITION));
+    Assert.assertEquals(hotTier.getEntryCount(), 1);
+
+    engine.beginBatchWrite(
+        new StoragePartitionConfig(STORE_VERSION_NAME, PARTITION + 1),
+        Collections.emptyMap(),
+        Optional.empty());
+    Assert.assertEquals(hotTier.getEntryCount(), 0);
+
+    // Swapping the disk tier only invalidates the entries of the same store version
+    StorageEngine<AbstractStoragePartition> otherDiskTier = mock(StorageEngine.class);
+    doReturn("other_store_v1").when(otherDiskTier).getStoreVersionName();
+    doReturn("value".getBytes()).when(otherDiskTier).get(anyInt(), any(byte[].class));
+    new TieredStorageEngine<>(otherDiskTier, hotTier).get(PARTITION, key);
+    engine.get(PARTITION, key);
+    Assert.assertEquals(hotTier.getEntryCount(), 2);
+    engine.setDelegate(mockDiskTier());
+    Assert.assertEquals(hotTier.getEntryCount(), 1);
+  }
+
+  @Test
+  public void testResize() {
+    StorageEngine<AbstractStoragePartition> diskTier = mockDiskTier();
+    byte[] value = new byte[1000];
+    doReturn(value).when(diskTier).get(anyInt(), any(byte[].class));
+    HotTierCache hotTier = new HotTierCache(1024 * 1024);
+    TieredStorageEngine<AbstractStoragePartition> engine = new TieredStorageEngine<>(diskTier, hotTier);
+    for (int i = 0; i < 100; i++) {
+      engine.get(PARTITION, ("key" + i).getBytes());
+    }
+    Assert.assertEquals(hotTier.getEntryCount(), 100);
+
+    hotTier.setCapacityInBytes(10 * 1024);
+    Assert.assertEquals(hotTier.getCapacityInBytes(), 10 * 1024);
+    Assert.assertTrue(hotTier.getSizeInBytes() <= 10 * 1024);
+    Assert.assertThrows(IllegalArgumentException.class, () -> hotTier.setCapacityInBytes(0));
+  }
+}
@@ -0,0 +1,154 @@
+package com.linkedin.davinci.store.view;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.venice.meta.MaterializedViewParameters;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.partitioner.SecondaryIndexPartitioner;
+import com.linkedin.venice.pubsub.PubSubClientsFactory;
+import com.linkedin.venice.pubsub.PubSubProducerAdapterFactory;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.lazy.Lazy;
+import com.linkedin.venice.views.SecondaryIndexView;
+import com.linkedin.venice.writer.ComplexVeniceWriter;
+import com.linkedin.venice.writer.VeniceWriterFactory;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class SecondaryIndexViewWriterTest {
+  private static final Schema VALUE_SCHEMA = AvroCompatibilityHelper.parse(
+      "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"country\",\"type\":[\"null\",\"string\"],"
+          + "\"default\":null}]}");
+  private static final byte[] KEY_BYTES = new byte[] { 1, 2, 3 };
+  private static final byte[] VALUE_BYTES = new byte[] { 4, 5, 6 };
+
+  private ComplexVeniceWriter veniceWriter;
+  private SecondaryIndexViewWriter viewWriter;
+
+  @BeforeMethod
+  public void setUp() {
+    Version version = mock(Version.class);
+    doReturn("testStore").when(version).getStoreName();
+    doReturn(1).when(version).getNumber();
+    VeniceConfigLoader props = mock(VeniceConfigLoader.class);
+    VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+    PubSubClientsFactory pubSubClientsFactory = mock(PubSubClientsFactory.class);
+    doReturn(mock(PubSubProducerAdapterFactory.class)).when(pubSubClientsFactory).getProducerAdapterFactory();
+    doReturn(pubSubClientsFactory).when(serverConfig).getPubSubClientsFactory();
+    doReturn(serverConfig).when(props).getVeniceServerConfig();
+    doReturn(new VeniceProperties(new Properties())).when(props).getCombinedProperties();
+    viewWriter = new SecondaryIndexViewWriter(
+        props,
+        version,
+        new MaterializedViewParameters.Builder("byCountry").setPartitionCount(6)
+            .setPartitioner(SecondaryIndexPartitioner.class.getCanonicalName())
+            .setSecondaryIndexFields(Collections.singletonList("country"))
+            .build(),
+        mock(VeniceWriterFactory.class));
+    veniceWriter = mock(ComplexVeniceWriter.class);
+    CompletableFuture<Void> completedFuture = CompletableFuture.completedFuture(null);
+    doReturn(completedFuture).when(veniceWriter).complexPut(any(), any(), anyInt(), any());
+    doReturn(completedFuture).when(veniceWriter).complexDelete(any(), any());
+    doReturn(completedFuture).when(veniceWriter).forwardPut(any(), any(), anyInt(), any());
+    viewWriter.setVeniceWriter(veniceWriter);
+  }
+
+  private static Lazy<GenericRecord> getValueProvider(String country) {
+    GenericRecord value = new GenericData.Record(VALUE_SCHEMA);
+    value.put("country", country);
+    return Lazy.of(() -> value);
+  }
+
+  private CompletableFuture<Void> processRecord(String newCountry, String oldCountry) {
+    ByteBuffer newValue = newCountry == null ? null : ByteBuffer.wrap(VALUE_BYTES);
+    Lazy<GenericRecord> oldValueProvider = oldCountry == null ? Lazy.of(() -> null) : getValueProvider(oldCountry);
+    Lazy<GenericRecord> valueProvider = newCountry == null ? oldValueProvider : getValueProvider(newCountry);
+    return viewWriter.processRecord(newValue, null, KEY_BYTES, 1, 1, null, valueProvider, oldValueProvider);
+  }
+
+  private void verifyPut(String indexValue) {
+    verify(veniceWriter)
+        .complexPut(eq(SecondaryIndexView.getIndexKey(indexValue, KEY_BYTES)), eq(VALUE_BYTES), eq(1), any());
+  }
+
+  @Test
+  public void testWriterClassName() {
+    Assert.assertEquals(viewWriter.getWriterClassName(), SecondaryIndexView.SECONDARY_INDEX_VIEW_WRITER_CLASS_NAME);
+    Assert.assertEquals(viewWriter.getViewWriterType(), VeniceViewWriter.ViewWriterType.MATERIALIZED_VIEW);
+  }
+
+  @Test
+  public void testPutNewKey() {
+    processRecord("US", null).join();
+    verifyPut("US");
+    verify(veniceWriter, never()).complexDelete(any(), any());
+  }
+
+  @Test
+  public void testIndexValueChanged() {
+    processRecord("CA", "US").join();
+    verify(veniceWriter).complexDelete(eq(SecondaryIndexView.getIndexKey("US", KEY_BYTES)), any());
+    verifyPut("CA");
+  }
+
+  @Test
+  public void testIndexValueUnchanged() {
+    processRecord("US", "US").join();
+    // The entry is overwritten with the new value
+    verifyPut("US");
+    verify(veniceWriter, never()).complexDelete(any(), any());
+  }
+
+  @Test
+  public void testIndexFieldCleared() {
+    processRecord(null, "US").join();
+    verify(veniceWriter).complexDelete(eq(SecondaryIndexView.getIndexKey("US", KEY_BYTES)), any());
+    verify(veniceWriter, never()).complexPut(any(), any(), anyInt(), any());
+
+    // A value without the index field is not indexed
+    viewWriter.processRecord(
+        ByteBuffer.wrap(VALUE_BYTES),
+        null,
+        KEY_BYTES,
+        1,
+        1,
+        null,
+        getValueProvider(null),
+        getValueProvider("US")).join();
+    verify(veniceWriter, never()).complexPut(any(), any(), anyInt(), any());
+  }
+
+  @Test
+  public void testPassThroughForwardsIndexKey() {
+    Set<Integer> viewPartitionSet = Collections.singleton(2);
+    viewWriter.processRecord(ByteBuffer.wrap(VALUE_BYTES), KEY_BYTES, 1, viewPartitionSet, getValueProvider("US"))
+        .join();
+    verify(veniceWriter).forwardPut(
+        eq(SecondaryIndexView.getIndexKey("US", KEY_BYTES)),
+        eq(VALUE_BYTES),
+        eq(1),
+        eq(viewPartitionSet));
+    // A delete without the old value can't be applied
+    Assert.assertNull(viewWriter.processRecord(null, KEY_BYTES, 1, null, Lazy.of(() -> null)).join());
+    verify(veniceWriter, never()).complexDelete(any(), any());
+  }
+}
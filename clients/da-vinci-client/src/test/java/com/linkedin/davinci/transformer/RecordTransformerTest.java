@@ -4,6 +4,7 @@ import static com.linkedin.venice.utils.TestUtils.DEFAULT_PUBSUB_CONTEXT_FOR_UNI
 import static org.apache.avro.Schema.Type.STRING;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -21,6 +22,7 @@ import static org.testng.Assert.assertTrue;
 
 import com.linkedin.davinci.client.DaVinciRecordTransformer;
 import com.linkedin.davinci.client.DaVinciRecordTransformerConfig;
+import com.linkedin.davinci.client.DaVinciRecordTransformerRecordMetadata;
 import com.linkedin.davinci.client.DaVinciRecordTransformerResult;
 import com.linkedin.davinci.client.DaVinciRecordTransformerUtility;
 import com.linkedin.davinci.client.InternalDaVinciRecordTransformer;
@@ -32,6 +34,8 @@ import com.linkedin.davinci.store.StorageEngine;
 import com.linkedin.davinci.store.StoragePartitionAdjustmentTrigger;
 import com.linkedin.venice.compression.NoopCompressor;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.kafka.protocol.ControlMessage;
+import com.linkedin.venice.kafka.protocol.enums.ControlMessageType;
 import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.offsets.OffsetRecord;
@@ -40,12 +44,22 @@ import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.serializer.AvroGenericDeserializer;
 import com.linkedin.venice.serializer.AvroSpecificDeserializer;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.ArrayUtils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.lazy.Lazy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
+import org.mockito.ArgumentCaptor;
 import org.testng.annotations.Test;
 
 
@@ -412,6 +426,104 @@ public class RecordTransformerTest {
         null);
   }
 
+  @Test
+  public void testOnEndOfPush() {
+    DaVinciRecordTransformerConfig dummyRecordTransformerConfig =
+        new DaVinciRecordTransformerConfig.Builder().setRecordTransformerFunction(TestStringRecordTransformer::new)
+            .build();
+    InternalDaVinciRecordTransformerConfig internalRecordTransformerConfig = new InternalDaVinciRecordTransformerConfig(
+        dummyRecordTransformerConfig,
+        mock(AggVersionedDaVinciRecordTransformerStats.class));
+    DaVinciRecordTransformer<Integer, String, String> clientRecordTransformer = spy(
+        new TestStringRecordTransformer(
+            storeName,
+            storeVersion,
+            keySchema,
+            valueSchema,
+            valueSchema,
+            dummyRecordTransformerConfig));
+    InternalDaVinciRecordTransformer<Integer, String, String> internalRecordTransformer =
+        new InternalDaVinciRecordTransformer<>(
+            clientRecordTransformer,
+            keySchema,
+            valueSchema,
+            valueSchema,
+            internalRecordTransformerConfig);
+
+    ControlMessage startOfPush = new ControlMessage();
+    startOfPush.setControlMessageType(ControlMessageType.START_OF_PUSH.getValue());
+    internalRecordTransformer.onControlMessage(partitionId, null, startOfPush, 0L);
+    verify(clientRecordTransformer, never()).onEndOfPush(anyInt());
+
+    ControlMessage endOfPush = new ControlMessage();
+    endOfPush.setControlMessageType(ControlMessageType.END_OF_PUSH.getValue());
+    internalRecordTransformer.onControlMessage(partitionId, null, endOfPush, 0L);
+    verify(clientRecordTransformer, times(1)).onEndOfPush(partitionId);
+
+    ControlMessage endOfSegment = new ControlMessage();
+    endOfSegment.setControlMessageType(ControlMessageType.END_OF_SEGMENT.getValue());
+    internalRecordTransformer.onControlMessage(partitionId, null, endOfSegment, 0L);
+    verify(clientRecordTransformer, times(1)).onEndOfPush(anyInt());
+  }
+
+  @Test
+  public void testOnEndOfPushOnRecovery() {
+    DaVinciRecordTransformerConfig dummyRecordTransformerConfig =
+        new DaVinciRecordTransformerConfig.Builder().setRecordTransformerFunction(TestStringRecordTransformer::new)
+            .setStoreRecordsInDaVinci(false)
+            .build();
+    DaVinciRecordTransformer<Integer, String, String> recordTransformer = spy(
+        new TestStringRecordTransformer(
+            storeName,
+            storeVersion,
+            keySchema,
+            valueSchema,
+            valueSchema,
+            dummyRecordTransformerConfig));
+    StorageEngine storageEngine = mock(StorageEngine.class);
+    Lazy<VeniceCompressor> compressor = Lazy.of(() -> mock(VeniceCompressor.class));
+
+    // The end of push hasn't been received yet, so it will be consumed
+    OffsetRecord offsetRecord = new OffsetRecord(partitionStateSerializer, DEFAULT_PUBSUB_CONTEXT_FOR_UNIT_TESTING);
+    offsetRecord.setRecordTransformerClassHash(recordTransformer.getClassHash());
+    when(storageEngine.getPartitionOffset(partitionId, DEFAULT_PUBSUB_CONTEXT_FOR_UNIT_TESTING))
+        .thenReturn(Optional.of(offsetRecord));
+    recordTransformer.onRecovery(
+        storageEngine,
+        partitionId,
+        partitionStateSerializer,
+        compressor,
+        DEFAULT_PUBSUB_CONTEXT_FOR_UNIT_TESTING,
+        null,
+        null);
+    verify(recordTransformer, never()).onEndOfPush(anyInt());
+
+    // The end of push has already been received, and it won't be consumed again
+    offsetRecord.endOfPushReceived();
+    recordTransformer.onRecovery(
+        storageEngine,
+        partitionId,
+        partitionStateSerializer,
+        compressor,
+        DEFAULT_PUBSUB_CONTEXT_FOR_UNIT_TESTING,
+        null,
+        null);
+    verify(recordTransformer, times(1)).onEndOfPush(partitionId);
+
+    // The transformer logic has changed, so the partition is bootstrapped from the version topic again
+    offsetRecord.setRecordTransformerClassHash(recordTransformer.getClassHash() + 1);
+    recordTransformer.onRecovery(
+        storageEngine,
+        partitionId,
+        partitionStateSerializer,
+        compressor,
+        DEFAULT_PUBSUB_CONTEXT_FOR_UNIT_TESTING,
+        null,
+        null);
+    verify(storageEngine).clearPartitionOffset(partitionId);
+    verify(recordTransformer, times(1)).onEndOfPush(anyInt());
+  }
+
   @Test
   public void testInternalRecordTransformerVersionSwap() {
     int currentVersion = 1;
@@ -519,4 +631,139 @@ public class RecordTransformerTest {
 
     assertTrue(internalRecordTransformer.useUniformInputValueSchema());
   }
+
+  @Test
+  public void testParallelRecovery() throws InterruptedException {
+    DaVinciRecordTransformerConfig recordTransformerConfig =
+        new DaVinciRecordTransformerConfig.Builder().setRecordTransformerFunction(TestStringRecordTransformer::new)
+            .setOutputValueSchema(Schema.create(STRING))
+            .setOutputValueClass(String.class)
+            .setRecoveryScanParallelism(3)
+            .build();
+    Map<Integer, Integer> processedKeyCounts = new VeniceConcurrentHashMap<>();
+    Set<Thread> scanThreads = VeniceConcurrentHashMap.newKeySet();
+    DaVinciRecordTransformer<Integer, String, String> recordTransformer = new TestStringRecordTransformer(
+        storeName,
+        storeVersion,
+        keySchema,
+        valueSchema,
+        valueSchema,
+        recordTransformerConfig) {
+      @Override
+      public void processPut(
+          Lazy<Integer> key,
+          Lazy<String> value,
+          int partitionId,
+          DaVinciRecordTransformerRecordMetadata recordMetadata) {
+        value.get();
+        processedKeyCounts.merge(key.get(), 1, Integer::sum);
+        scanThreads.add(Thread.currentThread());
+      }
+    };
+    AggVersionedDaVinciRecordTransformerStats stats = mock(AggVersionedDaVinciRecordTransformerStats.class);
+    recordTransformer.getRecordTransformerUtility().setRecordTransformerStats(stats);
+
+    // Records sorted by the serialized keys, the same as the order in the storage engine
+    int recordCount = 12;
+    VeniceCompressor compressor = new NoopCompressor();
+    RecordSerializer<Integer> keySerializer = FastSerializerDeserializerFactory.getFastAvroGenericSerializer(keySchema);
+    TreeMap<byte[], byte[]> records = new TreeMap<>(ArrayUtils::compareUnsigned);
+    for (int i = 0; i < recordCount; i++) {
+      records.put(
+          keySerializer.serialize(i),
+          recordTransformer.prependSchemaIdToHeader("value_" + i, 1, compressor).array());
+    }
+    List<byte[]> sortedKeys = new ArrayList<>(records.keySet());
+    List<byte[]> splitPoints = Arrays.asList(sortedKeys.get(4), sortedKeys.get(8));
+
+    StorageEngine storageEngine = mock(StorageEngine.class);
+    OffsetRecord offsetRecord = new OffsetRecord(partitionStateSerializer, DEFAULT_PUBSUB_CONTEXT_FOR_UNIT_TESTING);
+    offsetRecord.setRecordTransformerClassHash(recordTransformer.getClassHash());
+    when(storageEngine.getPartitionOffset(partitionId, DEFAULT_PUBSUB_CONTEXT_FOR_UNIT_TESTING))
+        .thenReturn(Optional.of(offsetRecord));
+    when(storageEngine.getKeyRangeSplitPoints(partitionId, 3)).thenReturn(splitPoints);
+    when(storageEngine.getIterator(partitionId)).thenAnswer(invocation -> new InMemoryStorageIterator(records));
+    ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class);
+    when(schemaRepository.getValueSchema(anyString(), anyInt())).thenReturn(new SchemaEntry(1, valueSchema));
+
+    recordTransformer.onRecovery(
+        storageEngine,
+        partitionId,
+        partitionStateSerializer,
+        Lazy.of(() -> compressor),
+        DEFAULT_PUBSUB_CONTEXT_FOR_UNIT_TESTING,
+        new VeniceConcurrentHashMap<>(),
+        schemaRepository);
+
+    // One iterator per key range, and every key is processed exactly once
+    verify(storageEngine, times(3)).getIterator(partitionId);
+    assertEquals(processedKeyCounts.size(), recordCount);
+    for (int i = 0; i < recordCount; i++) {
+      assertEquals((int) processedKeyCounts.get(i), 1);
+    }
+    ArgumentCaptor<Long> recordCountCaptor = ArgumentCaptor.forClass(Long.class);
+    verify(stats, times(3))
+        .recordRecoveryRecords(eq(storeName), eq(storeVersion), recordCountCaptor.capture(), anyLong());
+    assertEquals(recordCountCaptor.getAllValues().stream().mapToLong(Long::longValue).sum(), recordCount);
+
+    // The scan threads are shared by the recoveries, and stopped once the transformer is closed
+    recordTransformer.onRecovery(
+        storageEngine,
+        partitionId,
+        partitionStateSerializer,
+        Lazy.of(() -> compressor),
+        DEFAULT_PUBSUB_CONTEXT_FOR_UNIT_TESTING,
+        new VeniceConcurrentHashMap<>(),
+        schemaRepository);
+    assertEquals((int) processedKeyCounts.get(0), 2);
+    assertTrue(scanThreads.size() <= 3, "Scan threads: " + scanThreads);
+    recordTransformer.getRecordTransformerUtility().close();
+    for (Thread scanThread: scanThreads) {
+      scanThread.join(TimeUnit.SECONDS.toMillis(10));
+      assertFalse(scanThread.isAlive());
+    }
+  }
+
+  private static class InMemoryStorageIterator extends AbstractStorageIterator {
+    private final TreeMap<byte[], byte[]> records;
+    private Map.Entry<byte[], byte[]> current;
+
+    InMemoryStorageIterator(TreeMap<byte[], byte[]> records) {
+      this.records = records;
+    }
+
+    @Override
+    public boolean isValid() {
+      return current != null;
+    }
+
+    @Override
+    public byte[] key() {
+      return current.getKey();
+    }
+
+    @Override
+    public byte[] value() {
+      return current.getValue();
+    }
+
+    @Override
+    public void next() {
+      current = records.higherEntry(current.getKey());
+    }
+
+    @Override
+    public void seek(byte[] key) {
+      current = records.ceilingEntry(key);
+    }
+
+    @Override
+    public void seekToFirst() {
+      current = records.firstEntry();
+    }
+
+    @Override
+    public void close() {
+    }
+  }
 }
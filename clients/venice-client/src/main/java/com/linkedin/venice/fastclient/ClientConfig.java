@@ -108,6 +108,21 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
   private final double storeLoadControllerMaxRejectionRatio;
   private final double storeLoadControllerAcceptMultiplier;
 
+  /**
+   * Adaptive hedging for multi-key requests: instead of retrying all the outstanding keys of the whole request after a
+   * static threshold, each route is hedged independently once it is slower than the configured latency percentile of
+   * the chosen instance, and only the keys of that route are re-sent to another replica.
+   */
+  private final boolean multiKeyHedgingEnabled;
+  private final double multiKeyHedgingLatencyPercentile;
+  private final double multiKeyHedgingBudgetPercentage;
+
+  /**
+   * The time budget of each request, which is sent to the storage nodes as an absolute deadline, so that they could
+   * stop working on the requests past the deadline. 0 means no deadline.
+   */
+  private final long requestTimeoutInMs;
+
   /**
    * Optional factory for creating custom key serializers (e.g., for Protocol Buffers).
    * If not provided, the default Avro serializer will be used.
@@ -236,6 +251,24 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
         builder.longTailRangeBasedRetryThresholdForComputeInMilliSeconds;
     this.keySerializerFactory = Optional.ofNullable(builder.keySerializerFactory);
     this.valueDeserializerFactory = Optional.ofNullable(builder.valueDeserializerFactory);
+    this.multiKeyHedgingEnabled = builder.multiKeyHedgingEnabled;
+    this.multiKeyHedgingLatencyPercentile = builder.multiKeyHedgingLatencyPercentile;
+    if (multiKeyHedgingLatencyPercentile <= 0.0 || multiKeyHedgingLatencyPercentile > 1.0) {
+      throw new VeniceClientException(
+          "Invalid multiKeyHedgingLatencyPercentile value: " + multiKeyHedgingLatencyPercentile
+              + ", should be in (0.0, 1.0]");
+    }
+    this.multiKeyHedgingBudgetPercentage = builder.multiKeyHedgingBudgetPercentage;
+    if (multiKeyHedgingBudgetPercentage > 1.0 || multiKeyHedgingBudgetPercentage < 0.0) {
+      throw new VeniceClientException(
+          "Invalid multiKeyHedgingBudgetPercentage value: " + multiKeyHedgingBudgetPercentage
+              + ", should be in [0.0, 1.0]");
+    }
+    this.requestTimeoutInMs = builder.requestTimeoutInMs;
+    if (requestTimeoutInMs < 0) {
+      throw new VeniceClientException(
+          "Invalid requestTimeoutInMs value: " + requestTimeoutInMs + ", should be non-negative");
+    }
   }
 
   public String getStoreName() {
@@ -376,6 +409,22 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return retryBudgetPercentage;
   }
 
+  public boolean isMultiKeyHedgingEnabled() {
+    return multiKeyHedgingEnabled;
+  }
+
+  public double getMultiKeyHedgingLatencyPercentile() {
+    return multiKeyHedgingLatencyPercentile;
+  }
+
+  public double getMultiKeyHedgingBudgetPercentage() {
+    return multiKeyHedgingBudgetPercentage;
+  }
+
+  public long getRequestTimeoutInMs() {
+    return requestTimeoutInMs;
+  }
+
   public boolean isEnableLeastLoadedRoutingStrategyForHelixGroupRouting() {
     return enableLeastLoadedRoutingStrategyForHelixGroupRouting;
   }
@@ -479,6 +528,12 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     private SerializerFactory<K> keySerializerFactory = null;
     private DeserializerFactory<V> valueDeserializerFactory = null;
 
+    private boolean multiKeyHedgingEnabled = false;
+    private double multiKeyHedgingLatencyPercentile = 0.95d;
+    // Default value of 0.05 meaning at most 5 percent of the requested keys are allowed to be hedged
+    private double multiKeyHedgingBudgetPercentage = 0.05d;
+    private long requestTimeoutInMs = 0;
+
     public ClientConfigBuilder<K, V, T> setStoreName(String storeName) {
       this.storeName = storeName;
       return this;
@@ -723,6 +778,26 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    public ClientConfigBuilder<K, V, T> setMultiKeyHedgingEnabled(boolean multiKeyHedgingEnabled) {
+      this.multiKeyHedgingEnabled = multiKeyHedgingEnabled;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setMultiKeyHedgingLatencyPercentile(double multiKeyHedgingLatencyPercentile) {
+      this.multiKeyHedgingLatencyPercentile = multiKeyHedgingLatencyPercentile;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setMultiKeyHedgingBudgetPercentage(double multiKeyHedgingBudgetPercentage) {
+      this.multiKeyHedgingBudgetPercentage = multiKeyHedgingBudgetPercentage;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setRequestTimeoutInMs(long requestTimeoutInMs) {
+      this.requestTimeoutInMs = requestTimeoutInMs;
+      return this;
+    }
+
     public ClientConfigBuilder<K, V, T> clone() {
       return new ClientConfigBuilder().setStoreName(storeName)
           .setR2Client(r2Client)
@@ -768,7 +843,11 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
               longTailRangeBasedRetryThresholdForComputeInMilliSeconds)
           .setStoreLoadControllerAcceptMultiplier(storeLoadControllerAcceptMultiplier)
           .setKeySerializerFactory(keySerializerFactory)
-          .setValueDeserializerFactory(valueDeserializerFactory);
+          .setValueDeserializerFactory(valueDeserializerFactory)
+          .setMultiKeyHedgingEnabled(multiKeyHedgingEnabled)
+          .setMultiKeyHedgingLatencyPercentile(multiKeyHedgingLatencyPercentile)
+          .setMultiKeyHedgingBudgetPercentage(multiKeyHedgingBudgetPercentage)
+          .setRequestTimeoutInMs(requestTimeoutInMs);
     }
 
     public ClientConfig<K, V, T> build() {
@@ -44,6 +44,7 @@ import com.linkedin.venice.utils.concurrent.ChainedCompletableFuture;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -216,7 +217,14 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     try {
       requestContext.requestSentTimestampNS = System.nanoTime();
       String url = requestContext.route + composeURIForSingleGet(requestContext);
-      CompletableFuture<TransportClientResponse> transportFuture = transportClient.get(url);
+      long requestTimeoutInMs = config.getRequestTimeoutInMs();
+      CompletableFuture<TransportClientResponse> transportFuture;
+      if (requestTimeoutInMs > 0) {
+        Map<String, String> headers = RequestHeadersProvider.addRequestDeadlineHeader(new HashMap<>(), requestTimeoutInMs);
+        transportFuture = transportClient.get(url, headers);
+      } else {
+        transportFuture = transportClient.get(url);
+      }
       routeRequestFuture =
           metadata
               .trackHealthBasedOnRequestToInstance(
@@ -300,7 +308,9 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
         keys,
         callback,
         requestContext,
-        RequestHeadersProvider.getStreamingBatchGetHeaders(keys.size()),
+        RequestHeadersProvider.addRequestDeadlineHeader(
+            RequestHeadersProvider.getStreamingBatchGetHeaders(keys.size()),
+            config.getRequestTimeoutInMs()),
         this::serializeMultiGetRequest,
         (MultiKeyStreamingRouteResponseHandler<K>) (
             keysForRoutes,
@@ -536,7 +546,9 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
         keys,
         callback,
         requestContext,
-        RequestHeadersProvider.getStreamingComputeHeaderMap(keys.size(), computeRequest.getValueSchemaID(), true),
+        RequestHeadersProvider.addRequestDeadlineHeader(
+            RequestHeadersProvider.getStreamingComputeHeaderMap(keys.size(), computeRequest.getValueSchemaID(), true),
+            config.getRequestTimeoutInMs()),
         (keysForRoutes) -> serializeComputeRequest(computeRequest, keysForRoutes),
         (MultiKeyStreamingRouteResponseHandler<K>) (keysForRoutes, response, throwable) -> {
           ComputeRecordStreamDecoder decoder = getComputeDecoderForRoute(
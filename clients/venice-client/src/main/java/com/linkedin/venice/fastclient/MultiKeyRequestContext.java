@@ -10,6 +10,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -271,10 +272,27 @@ public abstract class MultiKeyRequestContext<K, V> extends RequestContext {
 
   static class RetryContext<K, V> {
     MultiKeyRequestContext<K, V> retryRequestContext;
+    /**
+     * With adaptive per-route hedging, each slow route is hedged with its own request context.
+     */
+    final List<MultiKeyRequestContext<K, V>> hedgeRequestContexts = new CopyOnWriteArrayList<>();
 
     RetryContext() {
       retryRequestContext = null;
     }
+
+    /**
+     * @return the request contexts of the long-tail retry and of all the per-route hedges of this request
+     */
+    List<MultiKeyRequestContext<K, V>> getRetryRequestContexts() {
+      if (retryRequestContext == null) {
+        return hedgeRequestContexts;
+      }
+      List<MultiKeyRequestContext<K, V>> retryRequestContexts = new ArrayList<>(hedgeRequestContexts.size() + 1);
+      retryRequestContexts.add(retryRequestContext);
+      retryRequestContexts.addAll(hedgeRequestContexts);
+      return retryRequestContexts;
+    }
   }
 
   private boolean isCompletedWithoutErrors() {
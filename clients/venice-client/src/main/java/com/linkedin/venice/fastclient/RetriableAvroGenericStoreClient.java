@@ -7,6 +7,7 @@ import com.linkedin.venice.client.exceptions.VeniceClientRateExceededException;
 import com.linkedin.venice.client.store.ComputeGenericRecord;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
+import com.linkedin.venice.fastclient.meta.InstanceHealthMonitor;
 import com.linkedin.venice.meta.RetryManager;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.utils.BatchGetConfigUtils;
@@ -14,6 +15,7 @@ import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.ExceptionUtils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -22,6 +24,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.avro.Schema;
 import org.apache.logging.log4j.LogManager;
@@ -42,6 +46,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
 
   public static final String SINGLE_KEY_LONG_TAIL_RETRY_STATS_PREFIX = "single-key-long-tail-retry-manager-";
   public static final String MULTI_KEY_LONG_TAIL_RETRY_STATS_PREFIX = "multi-key-long-tail-retry-manager-";
+  public static final String MULTI_KEY_HEDGING_RETRY_STATS_PREFIX = "multi-key-hedging-retry-manager-";
   private static final String FAST_CLIENT_RETRY_MANAGER_THREAD_PREFIX = "Fast-client-retry-manager-thread";
 
   private final int longTailRetryThresholdForSingleGetInMicroSeconds;
@@ -61,6 +66,14 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
   private final TreeMap<Integer, Integer> batchGetLongTailRetryThresholdMap;
   private final TreeMap<Integer, Integer> computeLongTailRetryThresholdMap;
 
+  /**
+   * Adaptive per-route hedging for multi-key requests, check {@link #hedgeStreamingMultiKeyRequest} for more details.
+   */
+  private final boolean multiKeyHedgingEnabled;
+  private final double multiKeyHedgingLatencyPercentile;
+  private final RetryManager multiKeyHedgingRetryManager;
+  private final InstanceHealthMonitor instanceHealthMonitor;
+
   public RetriableAvroGenericStoreClient(
       InternalAvroStoreClient<K, V> delegate,
       ClientConfig clientConfig,
@@ -110,6 +123,22 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     // Use range-based config
     computeLongTailRetryThresholdMap =
         BatchGetConfigUtils.parseRetryThresholdForBatchGet(longTailComputeRangeBasedRetryThresholdInMilliSeconds);
+
+    this.multiKeyHedgingEnabled = clientConfig.isMultiKeyHedgingEnabled();
+    this.multiKeyHedgingLatencyPercentile = clientConfig.getMultiKeyHedgingLatencyPercentile();
+    this.instanceHealthMonitor = clientConfig.getInstanceHealthMonitor();
+    if (this.multiKeyHedgingEnabled) {
+      this.multiKeyHedgingRetryManager = new RetryManager(
+          clientConfig.getClusterStats().getMetricsRepository(),
+          MULTI_KEY_HEDGING_RETRY_STATS_PREFIX + clientConfig.getStoreName(),
+          clientConfig.getLongTailRetryBudgetEnforcementWindowInMs(),
+          clientConfig.getMultiKeyHedgingBudgetPercentage(),
+          retryManagerExecutorService,
+          clientConfig.getStoreName(),
+          RequestType.MULTI_GET);
+    } else {
+      this.multiKeyHedgingRetryManager = null;
+    }
   }
 
   @VisibleForTesting
@@ -310,6 +339,16 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       int longTailRetryThresholdInMicroSeconds,
       RequestContextConstructor<K, V, R> requestContextConstructor,
       StreamingRequestExecutor<K, V, R, RESPONSE> streamingRequestExecutor) throws VeniceClientException {
+    if (multiKeyHedgingEnabled) {
+      hedgeStreamingMultiKeyRequest(
+          requestContext,
+          keys,
+          callback,
+          longTailRetryThresholdInMicroSeconds,
+          requestContextConstructor,
+          streamingRequestExecutor);
+      return;
+    }
     requestContext.retryContext = new MultiKeyRequestContext.RetryContext<K, V>();
 
     /** Track the final completion of the request. It will be completed normally if
@@ -395,28 +434,259 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       if (!scheduledRetryTask.isDone()) {
         scheduledRetryTask.cancel();
       }
-      requestContext.complete();
+      completeStreamingMultiKeyRequest(requestContext, callback, finalException);
+    });
+  }
 
-      // check and update the partial response exception before completing the callback
-      // for the metrics to be updated accordingly
-      if (finalException == null) {
-        requestContext.setPartialResponseException(null);
-        callback.onCompletion(Optional.empty());
-      } else {
-        R retryRequestContext = (R) requestContext.retryContext.retryRequestContext;
-        if (requestContext.isCompletedAcceptably()
-            && (retryRequestContext == null || retryRequestContext.isCompletedAcceptably())) {
-          requestContext.setPartialResponseExceptionIfNull(finalException);
-          callback.onCompletion(Optional.empty());
+  /**
+   * Adaptive hedging for streaming multi-key requests. Different from the default mode, which retries all the
+   * incomplete keys of the whole request after a static threshold, each route of the original request is hedged
+   * independently:
+   * 1. The hedging delay of a route is the configured latency percentile of the chosen instance tracked by
+   *    {@link InstanceHealthMonitor}, capped by the static long-tail retry threshold, which is also used when there are
+   *    not enough latency samples for this instance yet.
+   * 2. Only the incomplete keys of the slow route will be re-sent, and since the hedge request context excludes the
+   *    routes used by the original request, the routing strategy will pick the next-best replica for those partitions.
+   * 3. Hedging is bounded by a per-store budget, and any 429 response will abort all the pending hedges.
+   *
+   * The final request completes successfully once all the keys are received or the original request succeeds, and it
+   * fails only when the original request fails and there is no pending hedge left to complete the remaining keys.
+   */
+  private <R extends MultiKeyRequestContext<K, V>, RESPONSE> void hedgeStreamingMultiKeyRequest(
+      R requestContext,
+      Set<K> keys,
+      StreamingCallback<K, RESPONSE> callback,
+      int longTailRetryThresholdInMicroSeconds,
+      RequestContextConstructor<K, V, R> requestContextConstructor,
+      StreamingRequestExecutor<K, V, R, RESPONSE> streamingRequestExecutor) throws VeniceClientException {
+    requestContext.retryContext = new MultiKeyRequestContext.RetryContext<K, V>();
+
+    CompletableFuture<Void> finalRequestCompletionFuture = new CompletableFuture<>();
+    AtomicReference<Throwable> savedException = new AtomicReference<>();
+    VeniceConcurrentHashMap<K, CompletableFuture<RESPONSE>> pendingKeysFuture = new VeniceConcurrentHashMap<>();
+    for (K key: keys) {
+      CompletableFuture<RESPONSE> originalCompletion = new CompletableFuture<>();
+      originalCompletion.whenComplete((value, throwable) -> {
+        callback.onRecordReceived(key, value);
+      });
+      pendingKeysFuture.put(key, originalCompletion);
+    }
+    AtomicBoolean originalRequestFailed = new AtomicBoolean(false);
+    /**
+     * Number of hedges which are either scheduled or in flight. It starts from 1 to guard the scheduling phase, so that
+     * the final request won't be completed exceptionally before all the hedges are scheduled.
+     */
+    AtomicInteger outstandingHedgeCount = new AtomicInteger(1);
+    /**
+     * A route is armed once its hedge is scheduled, and whoever removes the route from this set (the hedge task itself
+     * or the cancellation) owns the decrement of {@code outstandingHedgeCount}.
+     */
+    Set<String> armedRoutes = VeniceConcurrentHashMap.newKeySet();
+    Map<String, TimeoutProcessor.TimeoutFuture> scheduledHedges = new VeniceConcurrentHashMap<>();
+
+    Runnable completeIfNoHedgeLeft = () -> {
+      if (originalRequestFailed.get() && outstandingHedgeCount.get() == 0 && !finalRequestCompletionFuture.isDone()) {
+        if (pendingKeysFuture.isEmpty()) {
+          finalRequestCompletionFuture.complete(null);
         } else {
-          requestContext.setPartialResponseExceptionIfNull(finalException);
-          callback
-              .onCompletion(Optional.of(new VeniceClientException("Request failed with exception", finalException)));
+          finalRequestCompletionFuture.completeExceptionally(savedException.get());
         }
       }
+    };
+    Runnable cancelAllHedges = () -> {
+      for (String route: scheduledHedges.keySet()) {
+        if (armedRoutes.remove(route)) {
+          TimeoutProcessor.TimeoutFuture scheduledHedge = scheduledHedges.get(route);
+          if (scheduledHedge != null && !scheduledHedge.isDone()) {
+            scheduledHedge.cancel();
+          }
+          outstandingHedgeCount.decrementAndGet();
+        }
+      }
+    };
+
+    StreamingCallback<K, RESPONSE> originalCallback = new StreamingCallback<K, RESPONSE>() {
+      @Override
+      public void onRecordReceived(K key, RESPONSE value) {
+        completePendingKey(requestContext, finalRequestCompletionFuture, pendingKeysFuture, key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        if (finalRequestCompletionFuture.isDone()) {
+          return;
+        }
+        exception.ifPresent(requestContext::setPartialResponseExceptionIfNull);
+        Optional<Throwable> exceptionToSave = requestContext.getPartialResponseException();
+        if (!exceptionToSave.isPresent()) {
+          finalRequestCompletionFuture.complete(null);
+          return;
+        }
+        savedException.compareAndSet(null, exceptionToSave.get());
+        if (isExceptionCausedByTooManyRequests(exceptionToSave.get())) {
+          cancelAllHedges.run();
+          finalRequestCompletionFuture.completeExceptionally(exceptionToSave.get());
+          return;
+        }
+        originalRequestFailed.set(true);
+        completeIfNoHedgeLeft.run();
+      }
+    };
+
+    streamingRequestExecutor.trigger(requestContext, keys, originalCallback);
+    if (multiKeyHedgingRetryManager != null) {
+      multiKeyHedgingRetryManager.recordRequests(requestContext.numKeysInRequest);
+    }
+
+    // The routes of the original request are decided synchronously while triggering the request.
+    for (String route: requestContext.getRoutes()) {
+      Runnable hedgeTask = () -> {
+        if (!armedRoutes.remove(route)) {
+          // Cancelled
+          return;
+        }
+        boolean hedgeTriggered = false;
+        try {
+          Set<K> pendingKeysForRoute = new HashSet<>();
+          for (MultiKeyRequestContext.KeyInfo<K> keyInfo: requestContext.keysForRoutes(route)) {
+            if (pendingKeysFuture.containsKey(keyInfo.getKey())) {
+              pendingKeysForRoute.add(keyInfo.getKey());
+            }
+          }
+          if (pendingKeysForRoute.isEmpty() || finalRequestCompletionFuture.isDone()
+              || isExceptionCausedByTooManyRequests(savedException.get())
+              || !multiKeyHedgingRetryManager.isRetryAllowed(pendingKeysForRoute.size())) {
+            return;
+          }
+          R hedgeRequestContext = requestContextConstructor.construct(pendingKeysForRoute.size());
+          requestContext.retryContext.hedgeRequestContexts.add(hedgeRequestContext);
+          LOGGER.debug("Hedging {} incomplete keys of route: {}", pendingKeysForRoute.size(), route);
+          hedgeTriggered = true;
+          streamingRequestExecutor.trigger(
+              hedgeRequestContext,
+              Collections.unmodifiableSet(pendingKeysForRoute),
+              getHedgeStreamingCallback(
+                  hedgeRequestContext,
+                  finalRequestCompletionFuture,
+                  savedException,
+                  pendingKeysFuture,
+                  () -> {
+                    outstandingHedgeCount.decrementAndGet();
+                    completeIfNoHedgeLeft.run();
+                  },
+                  cancelAllHedges));
+        } finally {
+          if (!hedgeTriggered) {
+            outstandingHedgeCount.decrementAndGet();
+            completeIfNoHedgeLeft.run();
+          }
+        }
+      };
+      outstandingHedgeCount.incrementAndGet();
+      armedRoutes.add(route);
+      scheduledHedges.put(
+          route,
+          timeoutProcessor.schedule(
+              hedgeTask,
+              getHedgingDelayInMicroSeconds(route, longTailRetryThresholdInMicroSeconds),
+              TimeUnit.MICROSECONDS));
+    }
+    // Release the guard of the scheduling phase
+    outstandingHedgeCount.decrementAndGet();
+    completeIfNoHedgeLeft.run();
+
+    finalRequestCompletionFuture.whenComplete((ignore, finalException) -> {
+      cancelAllHedges.run();
+      completeStreamingMultiKeyRequest(requestContext, callback, finalException);
     });
   }
 
+  private <RESPONSE> StreamingCallback<K, RESPONSE> getHedgeStreamingCallback(
+      MultiKeyRequestContext<K, V> hedgeRequestContext,
+      CompletableFuture<Void> finalRequestCompletionFuture,
+      AtomicReference<Throwable> savedException,
+      VeniceConcurrentHashMap<K, CompletableFuture<RESPONSE>> pendingKeysFuture,
+      Runnable onHedgeCompletion,
+      Runnable cancelAllHedges) {
+    return new StreamingCallback<K, RESPONSE>() {
+      @Override
+      public void onRecordReceived(K key, RESPONSE value) {
+        completePendingKey(hedgeRequestContext, finalRequestCompletionFuture, pendingKeysFuture, key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        /**
+         * A hedge request only covers the keys of a single route, so a successful completion doesn't mean the whole
+         * request is done, which is tracked by {@code pendingKeysFuture} instead.
+         */
+        if (exception.isPresent()) {
+          hedgeRequestContext.setPartialResponseExceptionIfNull(exception.get());
+          if (isExceptionCausedByTooManyRequests(exception.get())) {
+            savedException.compareAndSet(null, exception.get());
+            cancelAllHedges.run();
+          }
+        }
+        onHedgeCompletion.run();
+      }
+    };
+  }
+
+  private <RESPONSE> void completePendingKey(
+      MultiKeyRequestContext<K, V> requestContext,
+      CompletableFuture<Void> finalRequestCompletionFuture,
+      VeniceConcurrentHashMap<K, CompletableFuture<RESPONSE>> pendingKeysFuture,
+      K key,
+      RESPONSE value) {
+    CompletableFuture<RESPONSE> removed = pendingKeysFuture.remove(key);
+    if (removed != null) {
+      removed.complete(value); // This will invoke the onRecordReceived callback of the original request
+      requestContext.numKeysCompleted.incrementAndGet();
+    }
+    if (pendingKeysFuture.isEmpty() && !finalRequestCompletionFuture.isDone()) {
+      // No more pending keys, so complete the finalRequest
+      finalRequestCompletionFuture.complete(null);
+    }
+  }
+
+  private long getHedgingDelayInMicroSeconds(String route, int longTailRetryThresholdInMicroSeconds) {
+    if (instanceHealthMonitor == null) {
+      return longTailRetryThresholdInMicroSeconds;
+    }
+    long latencyPercentileInMicroSeconds =
+        instanceHealthMonitor.getLatencyPercentileInMicros(route, multiKeyHedgingLatencyPercentile);
+    if (latencyPercentileInMicroSeconds <= 0) {
+      return longTailRetryThresholdInMicroSeconds;
+    }
+    return Math.min(latencyPercentileInMicroSeconds, longTailRetryThresholdInMicroSeconds);
+  }
+
+  private <R extends MultiKeyRequestContext<K, V>, RESPONSE> void completeStreamingMultiKeyRequest(
+      R requestContext,
+      StreamingCallback<K, RESPONSE> callback,
+      Throwable finalException) {
+    requestContext.complete();
+
+    // check and update the partial response exception before completing the callback
+    // for the metrics to be updated accordingly
+    if (finalException == null) {
+      requestContext.setPartialResponseException(null);
+      callback.onCompletion(Optional.empty());
+    } else {
+      boolean retriesCompletedAcceptably = true;
+      for (MultiKeyRequestContext<K, V> retryRequestContext: requestContext.retryContext.getRetryRequestContexts()) {
+        retriesCompletedAcceptably &= retryRequestContext.isCompletedAcceptably();
+      }
+      if (requestContext.isCompletedAcceptably() && retriesCompletedAcceptably) {
+        requestContext.setPartialResponseExceptionIfNull(finalException);
+        callback.onCompletion(Optional.empty());
+      } else {
+        requestContext.setPartialResponseExceptionIfNull(finalException);
+        callback.onCompletion(Optional.of(new VeniceClientException("Request failed with exception", finalException)));
+      }
+    }
+  }
+
   private <RESPONSE> StreamingCallback<K, RESPONSE> getStreamingCallback(
       MultiKeyRequestContext<K, V> requestContext,
       CompletableFuture<Void> finalRequestCompletionFuture,
@@ -427,15 +697,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       @Override
       public void onRecordReceived(K key, RESPONSE value) {
         // Remove the key and if successful , mark it as complete
-        CompletableFuture<RESPONSE> removed = pendingKeysFuture.remove(key);
-        if (removed != null) {
-          removed.complete(value); // This will invoke the onRecordReceived callback of the original request
-          requestContext.numKeysCompleted.incrementAndGet();
-        }
-        if (pendingKeysFuture.isEmpty() && !finalRequestCompletionFuture.isDone()) {
-          // No more pending keys, so complete the finalRequest
-          finalRequestCompletionFuture.complete(null);
-        }
+        completePendingKey(requestContext, finalRequestCompletionFuture, pendingKeysFuture, key, value);
       }
 
       @Override
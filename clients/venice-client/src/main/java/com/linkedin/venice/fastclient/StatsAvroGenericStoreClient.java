@@ -213,18 +213,22 @@ public class StatsAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient
         // MultiKeyRequestContext is the superclass for ComputeRequestContext and BatchGetRequestContext
         MultiKeyRequestContext<K, V> multiKeyRequestContext = (MultiKeyRequestContext<K, V>) requestContext;
         clientStats.recordFanoutSize(multiKeyRequestContext.getFanoutSize());
-        if (multiKeyRequestContext.retryContext != null
-            && multiKeyRequestContext.retryContext.retryRequestContext != null) {
-          MultiKeyRequestContext retryRequestContext = multiKeyRequestContext.retryContext.retryRequestContext;
-          clientStats.recordLongTailRetryRequest();
-          clientStats.recordRetryRequestKeyCount(retryRequestContext.numKeysInRequest);
-          clientStats.recordRetryFanoutSize(retryRequestContext.getFanoutSize());
-          if (!exceptionReceived) {
-            clientStats.recordRetryRequestSuccessKeyCount(retryRequestContext.numKeysCompleted.get());
-            if (retryRequestContext.numKeysCompleted.get() > 0) {
-              clientStats.recordRetryRequestWin();
+        if (multiKeyRequestContext.retryContext != null) {
+          // A request has at most one long-tail retry, but can have a hedge per route with adaptive hedging
+          boolean retryWin = false;
+          for (MultiKeyRequestContext<K, V> retryRequestContext: multiKeyRequestContext.retryContext
+              .getRetryRequestContexts()) {
+            clientStats.recordLongTailRetryRequest();
+            clientStats.recordRetryRequestKeyCount(retryRequestContext.numKeysInRequest);
+            clientStats.recordRetryFanoutSize(retryRequestContext.getFanoutSize());
+            if (!exceptionReceived) {
+              clientStats.recordRetryRequestSuccessKeyCount(retryRequestContext.numKeysCompleted.get());
+              retryWin |= retryRequestContext.numKeysCompleted.get() > 0;
             }
           }
+          if (retryWin) {
+            clientStats.recordRetryRequestWin();
+          }
         }
       }
 
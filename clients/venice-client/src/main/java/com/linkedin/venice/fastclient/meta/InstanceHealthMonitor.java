@@ -1,6 +1,8 @@
 package com.linkedin.venice.fastclient.meta;
 
 import static org.apache.hc.core5.http.HttpStatus.SC_GONE;
+import static org.apache.hc.core5.http.HttpStatus.SC_NOT_FOUND;
+import static org.apache.hc.core5.http.HttpStatus.SC_OK;
 import static org.apache.hc.core5.http.HttpStatus.SC_SERVICE_UNAVAILABLE;
 
 import com.linkedin.alpini.base.concurrency.Executors;
@@ -10,6 +12,7 @@ import com.linkedin.venice.client.exceptions.VeniceClientHttpException;
 import com.linkedin.venice.client.store.transport.TransportClientResponse;
 import com.linkedin.venice.fastclient.transport.R2TransportClient;
 import com.linkedin.venice.meta.QueryAction;
+import com.linkedin.venice.reliability.LatencyAwareReplicaSelector;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
 import com.linkedin.venice.utils.concurrent.ChainedCompletableFuture;
@@ -39,6 +42,10 @@ import org.apache.logging.log4j.Logger;
  *    will be put into the unhealthy instance set. Otherwise, the instance will be removed from the suspicious
  *    and unhealthy instance set.
  * 5. Fast Client won't send user requests to the blocked instances and unhealthy instances.
+ * 6. It is maintaining a {@link LatencySketch} per instance based on the observed response latency, which is used
+ *    to derive the per-route hedging threshold for multi-key requests.
+ * 7. It is feeding the response latency and status of every request to a {@link LatencyAwareReplicaSelector}, which is
+ *    used by {@link LatencyAwareClientRoutingStrategy}.
  */
 public class InstanceHealthMonitor implements Closeable {
   private static final RedundantExceptionFilter REDUNDANT_EXCEPTION_FILTER =
@@ -49,6 +56,7 @@ public class InstanceHealthMonitor implements Closeable {
   private final Map<String, Integer> pendingRequestCounterMap = new VeniceConcurrentHashMap<>();
   private final Set<String> unhealthyInstanceSet = new ConcurrentSkipListSet<>();
   private final Set<String> suspiciousInstanceSet = new ConcurrentSkipListSet<>();
+  private final Map<String, LatencySketch> latencySketchMap = new VeniceConcurrentHashMap<>();
 
   private final TimeoutProcessor timeoutProcessor;
 
@@ -60,6 +68,8 @@ public class InstanceHealthMonitor implements Closeable {
 
   private final InstanceLoadController loadController;
 
+  private final LatencyAwareReplicaSelector latencyAwareReplicaSelector;
+
   public InstanceHealthMonitor(InstanceHealthMonitorConfig config) {
     this.config = config;
     this.timeoutProcessor = new TimeoutProcessor(null, true, 1);
@@ -84,6 +94,8 @@ public class InstanceHealthMonitor implements Closeable {
       });
     };
     this.loadController = new InstanceLoadController(config);
+    this.latencyAwareReplicaSelector =
+        LatencyAwareReplicaSelector.newBuilder().setPendingRequestCounter(this::getPendingRequestCounter).build();
   }
 
   private void heartBeat() {
@@ -156,6 +168,7 @@ public class InstanceHealthMonitor implements Closeable {
       String instance,
       CompletableFuture<TransportClientResponse> transportFuture) {
     CompletableFuture<Integer> requestFuture = new CompletableFuture<>();
+    long requestStartTimeInNS = System.nanoTime();
     pendingRequestCounterMap.compute(instance, (k, v) -> {
       // currently tracking the number of requests as 1 for single get
       // and 1 for each route requests in batchGet scatter.
@@ -196,6 +209,16 @@ public class InstanceHealthMonitor implements Closeable {
             : SC_SERVICE_UNAVAILABLE;
       }
 
+      /**
+       * Timed-out requests are recorded as well since they are the strongest signal of a slow instance.
+       */
+      long latencyInMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - requestStartTimeInNS);
+      if (httpStatus == SC_OK || httpStatus == SC_NOT_FOUND || httpStatus == SC_GONE) {
+        recordLatency(instance, latencyInMicros);
+      }
+      latencyAwareReplicaSelector
+          .recordResponse(instance, latencyInMicros / 1000.0, httpStatus == SC_OK || httpStatus == SC_NOT_FOUND);
+
       if (httpStatus.equals(SC_GONE)) {
         /**
          * For timeout cases, we would like to delay the pending request counter reset to reduce the traffic
@@ -265,6 +288,30 @@ public class InstanceHealthMonitor implements Closeable {
     return unhealthyInstanceSet.size();
   }
 
+  void recordLatency(String instance, long latencyInMicros) {
+    if (config.getLatencySketchWindowMS() <= 0) {
+      return;
+    }
+    latencySketchMap
+        .computeIfAbsent(
+            instance,
+            k -> new LatencySketch(config.getLatencySketchWindowMS(), config.getLatencySketchMinSampleCount()))
+        .record(latencyInMicros);
+  }
+
+  /**
+   * @return the estimated latency percentile of the given instance in microseconds, or -1 if there are not enough
+   *         samples for this instance yet.
+   */
+  public long getLatencyPercentileInMicros(String instance, double percentile) {
+    LatencySketch latencySketch = latencySketchMap.get(instance);
+    return latencySketch == null ? -1 : latencySketch.getPercentileInMicros(percentile);
+  }
+
+  public LatencyAwareReplicaSelector getLatencyAwareReplicaSelector() {
+    return latencyAwareReplicaSelector;
+  }
+
   public int getPendingRequestCounter(String instance) {
     Integer pendingRequestCounter = pendingRequestCounterMap.get(instance);
     return pendingRequestCounter == null ? 0 : pendingRequestCounter;
@@ -17,6 +17,9 @@ public class InstanceHealthMonitorConfig {
   private final double loadControllerAcceptMultiplier;
   private final boolean loadControllerEnabled;
 
+  private final long latencySketchWindowMS;
+  private final long latencySketchMinSampleCount;
+
   private final Client client;
 
   public InstanceHealthMonitorConfig(Builder builder) {
@@ -32,6 +35,8 @@ public class InstanceHealthMonitorConfig {
     this.loadControllerMaxRejectionRatio = builder.loadControllerMaxRejectionRatio;
     this.loadControllerAcceptMultiplier = builder.loadControllerAcceptMultiplier;
     this.loadControllerEnabled = builder.loadControllerEnabled;
+    this.latencySketchWindowMS = builder.latencySketchWindowMS;
+    this.latencySketchMinSampleCount = builder.latencySketchMinSampleCount;
   }
 
   public long getRoutingRequestDefaultTimeoutMS() {
@@ -78,6 +83,14 @@ public class InstanceHealthMonitorConfig {
     return loadControllerEnabled;
   }
 
+  public long getLatencySketchWindowMS() {
+    return latencySketchWindowMS;
+  }
+
+  public long getLatencySketchMinSampleCount() {
+    return latencySketchMinSampleCount;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -100,6 +113,12 @@ public class InstanceHealthMonitorConfig {
     private double loadControllerAcceptMultiplier = 2.0;
     private boolean loadControllerEnabled = false;
 
+    /**
+     * The per-instance latency sketch keeps two windows, so the percentiles reflect the latency of the last 1-2 windows.
+     */
+    private long latencySketchWindowMS = 30000; // 30s
+    private long latencySketchMinSampleCount = 50;
+
     private Client client;
 
     public Builder setRoutingRequestDefaultTimeoutMS(long routingRequestDefaultTimeoutMS) {
@@ -159,6 +178,16 @@ public class InstanceHealthMonitorConfig {
       return this;
     }
 
+    public Builder setLatencySketchWindowMS(long latencySketchWindowMS) {
+      this.latencySketchWindowMS = latencySketchWindowMS;
+      return this;
+    }
+
+    public Builder setLatencySketchMinSampleCount(long latencySketchMinSampleCount) {
+      this.latencySketchMinSampleCount = latencySketchMinSampleCount;
+      return this;
+    }
+
     public InstanceHealthMonitorConfig build() {
       return new InstanceHealthMonitorConfig(this);
     }
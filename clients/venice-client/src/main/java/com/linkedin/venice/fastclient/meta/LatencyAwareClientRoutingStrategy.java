@@ -0,0 +1,38 @@
+package com.linkedin.venice.fastclient.meta;
+
+import com.linkedin.venice.reliability.LatencyAwareReplicaSelector;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * This strategy is routing the request by {@link LatencyAwareReplicaSelector}, which is fed by
+ * {@link InstanceHealthMonitor} with the latency and status of every response:
+ * 1. This strategy will skip any blocked/unhealthy/overloaded instance.
+ * 2. Among the remaining instances, two of them will be picked randomly, and the one with the lower cost will be
+ *    selected, where the cost is derived from the decaying latency, error rate and pending request count.
+ * 3. The instances which just joined or restarted will ramp up slowly, so they won't be flooded while warming up.
+ */
+public class LatencyAwareClientRoutingStrategy extends AbstractClientRoutingStrategy {
+  private final InstanceHealthMonitor instanceHealthMonitor;
+  private final LatencyAwareReplicaSelector replicaSelector;
+
+  public LatencyAwareClientRoutingStrategy(InstanceHealthMonitor instanceHealthMonitor) {
+    this.instanceHealthMonitor = instanceHealthMonitor;
+    this.replicaSelector = instanceHealthMonitor.getLatencyAwareReplicaSelector();
+  }
+
+  @Override
+  public String getReplicas(long requestId, int groupId, List<String> replicas) {
+    if (replicas.isEmpty()) {
+      return null;
+    }
+    List<String> availReplicas = new ArrayList<>(replicas.size());
+    for (String replica: replicas) {
+      if (instanceHealthMonitor.isRequestAllowed(replica)) {
+        availReplicas.add(replica);
+      }
+    }
+    return replicaSelector.select(availReplicas);
+  }
+}
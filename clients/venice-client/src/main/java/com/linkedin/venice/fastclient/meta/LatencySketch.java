@@ -0,0 +1,138 @@
+package com.linkedin.venice.fastclient.meta;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * A lightweight, lock-free latency sketch used to estimate the latency percentiles of a single instance.
+ *
+ * The sketch is a log-linear histogram: values are grouped by their power of two, and each power of two is split into
+ * {@link #SUB_BUCKET_COUNT} linear sub-buckets, which bounds the relative error of any reported percentile to ~12.5%.
+ * To adapt to latency shifts (GC, compaction, warm-up, etc.), the sketch keeps two windows: the current one and the
+ * previous one, and percentiles are computed across both of them. Windows are rotated lazily when recording or
+ * querying.
+ */
+public class LatencySketch {
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  /**
+   * 2^35 us is more than 9 hours, which is way above any meaningful request latency.
+   */
+  private static final int MAX_EXPONENT = 35;
+  static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+  private final long windowMs;
+  private final long minSampleCount;
+
+  private volatile Window currentWindow;
+  private volatile Window previousWindow;
+
+  public LatencySketch(long windowMs, long minSampleCount) {
+    if (windowMs <= 0) {
+      throw new IllegalArgumentException("windowMs must be positive, but got: " + windowMs);
+    }
+    this.windowMs = windowMs;
+    this.minSampleCount = Math.max(1, minSampleCount);
+    long now = System.currentTimeMillis();
+    this.currentWindow = new Window(now);
+    this.previousWindow = new Window(now - windowMs);
+  }
+
+  public void record(long latencyInMicros) {
+    record(latencyInMicros, System.currentTimeMillis());
+  }
+
+  void record(long latencyInMicros, long nowMs) {
+    maybeRotate(nowMs);
+    currentWindow.record(bucketIndex(Math.max(0, latencyInMicros)));
+  }
+
+  /**
+   * @param percentile in the range of (0, 1], such as 0.99 for p99.
+   * @return the estimated latency in microseconds for the given percentile, or -1 if there are not enough samples to
+   *         give a meaningful estimation.
+   */
+  public long getPercentileInMicros(double percentile) {
+    return getPercentileInMicros(percentile, System.currentTimeMillis());
+  }
+
+  long getPercentileInMicros(double percentile, long nowMs) {
+    if (percentile <= 0 || percentile > 1) {
+      throw new IllegalArgumentException("percentile must be in (0, 1], but got: " + percentile);
+    }
+    maybeRotate(nowMs);
+    Window current = currentWindow;
+    Window previous = previousWindow;
+    long totalCount = current.count.get() + previous.count.get();
+    if (totalCount < minSampleCount) {
+      return -1;
+    }
+    long targetCount = (long) Math.ceil(percentile * totalCount);
+    long accumulatedCount = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      accumulatedCount += current.buckets.get(i) + previous.buckets.get(i);
+      if (accumulatedCount >= targetCount) {
+        return bucketUpperBound(i);
+      }
+    }
+    return bucketUpperBound(BUCKET_COUNT - 1);
+  }
+
+  public long getSampleCount() {
+    return currentWindow.count.get() + previousWindow.count.get();
+  }
+
+  private void maybeRotate(long nowMs) {
+    if (nowMs - currentWindow.startMs < windowMs) {
+      return;
+    }
+    synchronized (this) {
+      Window current = currentWindow;
+      if (nowMs - current.startMs < windowMs) {
+        return;
+      }
+      /**
+       * If there is no traffic for more than two windows, the samples in the current window are stale as well.
+       */
+      previousWindow = nowMs - current.startMs < 2 * windowMs ? current : new Window(nowMs - windowMs);
+      currentWindow = new Window(nowMs);
+    }
+  }
+
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    if (exponent > MAX_EXPONENT) {
+      return BUCKET_COUNT - 1;
+    }
+    int subBucket = (int) ((value >> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1));
+    return SUB_BUCKET_COUNT + (exponent - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  static long bucketUpperBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int exponent = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT + SUB_BUCKET_BITS;
+    int subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+    return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+  }
+
+  private static class Window {
+    private final long startMs;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+
+    Window(long startMs) {
+      this.startMs = startMs;
+    }
+
+    void record(int bucketIndex) {
+      buckets.incrementAndGet(bucketIndex);
+      count.incrementAndGet();
+    }
+  }
+}
@@ -49,6 +49,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -1061,4 +1062,185 @@ public class RetriableAvroGenericStoreClientTest {
       assertTrue(e.getCause() instanceof VeniceClientException);
     }
   }
+
+  private ClientConfig getMultiKeyHedgingClientConfig() {
+    return new ClientConfig.ClientConfigBuilder<>().setStoreName(STORE_NAME)
+        .setR2Client(mock(Client.class))
+        .setD2Client(mock(D2Client.class))
+        .setClusterDiscoveryD2Service("test_server_discovery")
+        // 2 keys -> 15ms, which is the hedging delay of the routes without enough latency samples
+        .setLongTailRangeBasedRetryThresholdForBatchGetInMilliSeconds("1-5:15,6-20:30,21-150:50,151-500:100,501-:500")
+        .setMultiKeyHedgingEnabled(true)
+        .setMetricsRepository(getVeniceMetricsRepository(FAST_CLIENT, CLIENT_METRIC_ENTITIES, true))
+        .build();
+  }
+
+  /**
+   * The original streaming batch get sends each key over its own route ("route_" + key), which responds after the
+   * configured delay, or fails if the key is part of {@code failedKeys}. Each hedge responds after
+   * {@code hedgeDelayMs}.
+   */
+  private InternalAvroStoreClient getHedgingDispatchingClient(
+      ClientConfig clientConfig,
+      Map<String, Long> originalRouteDelaysMs,
+      Set<String> failedKeys,
+      long hedgeDelayMs) {
+    StoreMetadata mockMetadata = mock(StoreMetadata.class);
+    doReturn(STORE_NAME).when(mockMetadata).getStoreName();
+    doReturn(1).when(mockMetadata).getLatestValueSchemaId();
+    doReturn(STORE_VALUE_SCHEMA).when(mockMetadata).getValueSchema(1);
+    return new DispatchingAvroGenericStoreClient<Object, Object>(mockMetadata, clientConfig) {
+      private final AtomicInteger requestCnt = new AtomicInteger();
+
+      @Override
+      protected void streamingBatchGet(BatchGetRequestContext requestContext, Set keys, StreamingCallback callback) {
+        if (requestCnt.incrementAndGet() == 1) {
+          // Mock the original request, the routes need to be added synchronously like the real routing
+          int partitionId = 0;
+          for (Object key: keys) {
+            requestContext.addKey("route_" + key, key, new byte[0], partitionId++);
+          }
+          AtomicInteger pendingRouteCount = new AtomicInteger(keys.size());
+          for (Object key: keys) {
+            scheduledExecutor.schedule(() -> {
+              if (!failedKeys.contains(key)) {
+                callback.onRecordReceived(key, BATCH_GET_VALUE_RESPONSE.get(key));
+              }
+              if (pendingRouteCount.decrementAndGet() == 0) {
+                requestContext.complete();
+                callback.onCompletion(
+                    failedKeys.isEmpty()
+                        ? Optional.empty()
+                        : Optional.of(new VeniceClientException("At least one route did not complete")));
+              }
+            }, originalRouteDelaysMs.get(key), TimeUnit.MILLISECONDS);
+          }
+        } else {
+          // Mock a hedge request of a single route
+          scheduledExecutor.schedule(() -> {
+            for (Object key: keys) {
+              callback.onRecordReceived(key, BATCH_GET_VALUE_RESPONSE.get(key));
+            }
+            requestContext.complete();
+            callback.onCompletion(Optional.empty());
+          }, hedgeDelayMs, TimeUnit.MILLISECONDS);
+        }
+      }
+    };
+  }
+
+  private VeniceResponseMap<String, GenericRecord> hedgedStreamingBatchGet(
+      InternalAvroStoreClient<String, GenericRecord> client,
+      BatchGetRequestContext<String, GenericRecord> requestContext) throws Exception {
+    return client.streamingBatchGet(requestContext, BATCH_GET_KEYS).get(TEST_TIMEOUT, TimeUnit.MILLISECONDS);
+  }
+
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testMultiKeyHedgeWinsForSlowRoute() throws Exception {
+    clientConfig = getMultiKeyHedgingClientConfig();
+    Map<String, Long> originalRouteDelaysMs = new HashMap<>();
+    originalRouteDelaysMs.put("test_key_1", 1L);
+    originalRouteDelaysMs.put("test_key_2", 2000L);
+    retriableClient = new RetriableAvroGenericStoreClient<>(
+        getHedgingDispatchingClient(clientConfig, originalRouteDelaysMs, Collections.emptySet(), 5),
+        clientConfig,
+        timeoutProcessor);
+
+    BatchGetRequestContext<String, GenericRecord> requestContext = new BatchGetRequestContext<>(2, true);
+    VeniceResponseMap<String, GenericRecord> value = hedgedStreamingBatchGet(retriableClient, requestContext);
+    assertEquals(value, BATCH_GET_VALUE_RESPONSE);
+    assertTrue(value.isFullResponse());
+
+    // Only the slow route is hedged, and the hedge completes its key
+    assertEquals(requestContext.numKeysCompleted.get(), 1);
+    assertEquals(requestContext.retryContext.hedgeRequestContexts.size(), 1);
+    MultiKeyRequestContext<String, GenericRecord> hedgeRequestContext =
+        requestContext.retryContext.hedgeRequestContexts.get(0);
+    assertEquals(hedgeRequestContext.numKeysInRequest, 1);
+    assertEquals(hedgeRequestContext.numKeysCompleted.get(), 1);
+  }
+
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testMultiKeyOriginalWinsOverHedge() throws Exception {
+    clientConfig = getMultiKeyHedgingClientConfig();
+    Map<String, Long> originalRouteDelaysMs = new HashMap<>();
+    originalRouteDelaysMs.put("test_key_1", 1L);
+    originalRouteDelaysMs.put("test_key_2", 50L);
+    retriableClient = new RetriableAvroGenericStoreClient<>(
+        getHedgingDispatchingClient(clientConfig, originalRouteDelaysMs, Collections.emptySet(), 2000),
+        clientConfig,
+        timeoutProcessor);
+
+    BatchGetRequestContext<String, GenericRecord> requestContext = new BatchGetRequestContext<>(2, true);
+    VeniceResponseMap<String, GenericRecord> value = hedgedStreamingBatchGet(retriableClient, requestContext);
+    assertEquals(value, BATCH_GET_VALUE_RESPONSE);
+
+    // The slow route is hedged after 15ms, but the original request still completes all the keys first
+    assertEquals(requestContext.numKeysCompleted.get(), 2);
+    assertEquals(requestContext.retryContext.hedgeRequestContexts.size(), 1);
+    assertEquals(requestContext.retryContext.hedgeRequestContexts.get(0).numKeysCompleted.get(), 0);
+  }
+
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testMultiKeyHedgeCompletesKeysOfFailedRoute() throws Exception {
+    clientConfig = getMultiKeyHedgingClientConfig();
+    Map<String, Long> originalRouteDelaysMs = new HashMap<>();
+    originalRouteDelaysMs.put("test_key_1", 1L);
+    originalRouteDelaysMs.put("test_key_2", 1L);
+    retriableClient = new RetriableAvroGenericStoreClient<>(
+        getHedgingDispatchingClient(
+            clientConfig,
+            originalRouteDelaysMs,
+            Collections.singleton("test_key_2"),
+            5),
+        clientConfig,
+        timeoutProcessor);
+
+    // The failure of one route doesn't fail the request, since the pending hedge of that route completes its key
+    BatchGetRequestContext<String, GenericRecord> requestContext = new BatchGetRequestContext<>(2, true);
+    VeniceResponseMap<String, GenericRecord> value = hedgedStreamingBatchGet(retriableClient, requestContext);
+    assertEquals(value, BATCH_GET_VALUE_RESPONSE);
+    assertTrue(value.isFullResponse());
+    assertFalse(requestContext.getPartialResponseException().isPresent());
+    assertEquals(requestContext.numKeysCompleted.get(), 1);
+    assertEquals(requestContext.retryContext.hedgeRequestContexts.size(), 1);
+    assertEquals(requestContext.retryContext.hedgeRequestContexts.get(0).numKeysCompleted.get(), 1);
+  }
+
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testMultiKeyHedgeAccountingPerRoute() throws Exception {
+    clientConfig = getMultiKeyHedgingClientConfig();
+    Map<String, Long> originalRouteDelaysMs = new HashMap<>();
+    originalRouteDelaysMs.put("test_key_1", 2000L);
+    originalRouteDelaysMs.put("test_key_2", 2000L);
+    retriableClient = new RetriableAvroGenericStoreClient<>(
+        getHedgingDispatchingClient(clientConfig, originalRouteDelaysMs, Collections.emptySet(), 5),
+        clientConfig,
+        timeoutProcessor);
+    statsAvroGenericStoreClient = new StatsAvroGenericStoreClient(retriableClient, clientConfig);
+
+    BatchGetRequestContext<String, GenericRecord> requestContext = new BatchGetRequestContext<>(2, true);
+    VeniceResponseMap<String, GenericRecord> value =
+        hedgedStreamingBatchGet(statsAvroGenericStoreClient, requestContext);
+    assertEquals(value, BATCH_GET_VALUE_RESPONSE);
+
+    // Both routes are hedged independently, and every hedge is kept instead of the last one overwriting the others
+    assertEquals(requestContext.numKeysCompleted.get(), 0);
+    assertEquals(requestContext.retryContext.hedgeRequestContexts.size(), 2);
+    assertEquals(requestContext.retryContext.getRetryRequestContexts().size(), 2);
+    for (MultiKeyRequestContext<String, GenericRecord> hedgeRequestContext: requestContext.retryContext
+        .getRetryRequestContexts()) {
+      assertEquals(hedgeRequestContext.numKeysInRequest, 1);
+      assertEquals(hedgeRequestContext.numKeysCompleted.get(), 1);
+    }
+
+    String metricsPrefix = ClientTestUtils.getMetricPrefix(STORE_NAME, RequestType.MULTI_GET_STREAMING);
+    metrics = getStats(clientConfig, RequestType.MULTI_GET_STREAMING);
+    TestUtils.waitForNonDeterministicAssertion(3, TimeUnit.SECONDS, () -> {
+      assertTrue(metrics.get(metricsPrefix + "long_tail_retry_request.OccurrenceRate").value() > 0);
+      assertEquals(metrics.get(metricsPrefix + "retry_request_key_count.Max").value(), 1.0);
+      assertEquals(metrics.get(metricsPrefix + "retry_request_success_key_count.Max").value(), 1.0);
+      assertTrue(metrics.get(metricsPrefix + "retry_request_win.OccurrenceRate").value() > 0);
+    });
+  }
 }
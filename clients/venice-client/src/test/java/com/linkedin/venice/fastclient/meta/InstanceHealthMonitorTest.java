@@ -34,6 +34,57 @@ import org.testng.annotations.Test;
 public class InstanceHealthMonitorTest {
   private final static String instance = "https://test.host:1234";
 
+  @Test
+  public void testLatencyPercentile() throws Exception {
+    InstanceHealthMonitorConfig config = InstanceHealthMonitorConfig.builder()
+        .setRoutingRequestDefaultTimeoutMS(10000l)
+        .setLatencySketchMinSampleCount(10)
+        .build();
+    String otherInstance = "https://test.host:5678";
+
+    try (InstanceHealthMonitor healthMonitor = new InstanceHealthMonitor(config)) {
+      assertEquals(healthMonitor.getLatencyPercentileInMicros(instance, 0.5), -1);
+      for (int i = 0; i < 9; i++) {
+        healthMonitor.recordLatency(instance, 1000);
+      }
+      // Not enough samples yet
+      assertEquals(healthMonitor.getLatencyPercentileInMicros(instance, 0.5), -1);
+      healthMonitor.recordLatency(instance, 1000);
+      assertTrue(healthMonitor.getLatencyPercentileInMicros(instance, 0.5) >= 1000);
+      assertTrue(healthMonitor.getLatencyPercentileInMicros(instance, 0.5) <= 1125);
+
+      // 10% of slow requests only shift the tail
+      for (int i = 0; i < 90; i++) {
+        healthMonitor.recordLatency(instance, i < 80 ? 1000 : 100000);
+      }
+      assertTrue(healthMonitor.getLatencyPercentileInMicros(instance, 0.5) <= 1125);
+      assertTrue(healthMonitor.getLatencyPercentileInMicros(instance, 0.95) >= 100000);
+      assertTrue(healthMonitor.getLatencyPercentileInMicros(instance, 0.95) <= 112500);
+
+      // The latency of each instance is tracked separately
+      assertEquals(healthMonitor.getLatencyPercentileInMicros(otherInstance, 0.5), -1);
+      for (int i = 0; i < 10; i++) {
+        healthMonitor.recordLatency(otherInstance, 50000);
+      }
+      assertTrue(healthMonitor.getLatencyPercentileInMicros(otherInstance, 0.5) >= 50000);
+      assertTrue(healthMonitor.getLatencyPercentileInMicros(instance, 0.5) <= 1125);
+    }
+  }
+
+  @Test
+  public void testLatencyPercentileWithSketchDisabled() throws Exception {
+    InstanceHealthMonitorConfig config = InstanceHealthMonitorConfig.builder()
+        .setRoutingRequestDefaultTimeoutMS(10000l)
+        .setLatencySketchWindowMS(0)
+        .setLatencySketchMinSampleCount(1)
+        .build();
+
+    try (InstanceHealthMonitor healthMonitor = new InstanceHealthMonitor(config)) {
+      healthMonitor.recordLatency(instance, 1000);
+      assertEquals(healthMonitor.getLatencyPercentileInMicros(instance, 0.5), -1);
+    }
+  }
+
   @Test
   public void testPendingRequestCounterWithSuccessfulRequest() throws Exception {
     InstanceHealthMonitorConfig config =
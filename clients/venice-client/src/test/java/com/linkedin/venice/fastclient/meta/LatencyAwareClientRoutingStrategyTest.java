@@ -0,0 +1,63 @@
+package com.linkedin.venice.fastclient.meta;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import com.linkedin.venice.reliability.LatencyAwareReplicaSelector;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.testng.annotations.Test;
+
+
+public class LatencyAwareClientRoutingStrategyTest {
+  private final static String instance1 = "https://instance1:1234";
+  private final static String instance2 = "https://instance2:1234";
+  private final static String instance3 = "https://instance3:1234";
+
+  private InstanceHealthMonitor mockInstanceHealthMonitor(
+      LatencyAwareReplicaSelector selector,
+      String[] instances,
+      boolean[] allowed) {
+    InstanceHealthMonitor instanceHealthMonitor = mock(InstanceHealthMonitor.class);
+    doReturn(selector).when(instanceHealthMonitor).getLatencyAwareReplicaSelector();
+    for (int i = 0; i < instances.length; ++i) {
+      doReturn(allowed[i]).when(instanceHealthMonitor).isRequestAllowed(instances[i]);
+    }
+    return instanceHealthMonitor;
+  }
+
+  @Test
+  public void testGetReplicas() {
+    LatencyAwareReplicaSelector selector = LatencyAwareReplicaSelector.newBuilder().setSlowStartWindowMs(0).build();
+    selector.recordResponse(instance1, 50, true);
+    selector.recordResponse(instance2, 1, true);
+    selector.recordResponse(instance3, 1, false);
+    String[] instances = new String[] { instance1, instance2, instance3 };
+    List<String> replicas = Arrays.asList(instances);
+
+    LatencyAwareClientRoutingStrategy strategy = new LatencyAwareClientRoutingStrategy(
+        mockInstanceHealthMonitor(selector, instances, new boolean[] { true, true, true }));
+    assertNull(strategy.getReplicas(0, -1, Collections.emptyList()));
+    for (int i = 0; i < 100; i++) {
+      // instance2 always wins when being picked, and instance1 is slower than the failing instance3
+      String replica = strategy.getReplicas(i, -1, replicas);
+      if (!replica.equals(instance2)) {
+        assertEquals(replica, instance3);
+      }
+    }
+
+    // Blocked instances are skipped
+    strategy = new LatencyAwareClientRoutingStrategy(
+        mockInstanceHealthMonitor(selector, instances, new boolean[] { true, false, true }));
+    for (int i = 0; i < 100; i++) {
+      assertEquals(strategy.getReplicas(i, -1, replicas), instance3);
+    }
+
+    strategy = new LatencyAwareClientRoutingStrategy(
+        mockInstanceHealthMonitor(selector, instances, new boolean[] { false, false, false }));
+    assertNull(strategy.getReplicas(0, -1, replicas));
+  }
+}
@@ -0,0 +1,61 @@
+package com.linkedin.venice.fastclient.meta;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+
+public class LatencySketchTest {
+  @Test
+  public void testBucketBoundaries() {
+    for (long value = 0; value < 100_000; value++) {
+      int index = LatencySketch.bucketIndex(value);
+      assertTrue(LatencySketch.bucketUpperBound(index) >= value, "Upper bound is too small for value: " + value);
+      if (index > 0) {
+        assertTrue(LatencySketch.bucketUpperBound(index - 1) < value, "Value: " + value + " is in the wrong bucket");
+      }
+    }
+    assertEquals(LatencySketch.bucketIndex(Long.MAX_VALUE), LatencySketch.BUCKET_COUNT - 1);
+  }
+
+  @Test
+  public void testPercentile() {
+    LatencySketch sketch = new LatencySketch(10000, 100);
+    long now = System.currentTimeMillis();
+    for (int i = 1; i <= 99; i++) {
+      sketch.record(1000, now);
+    }
+    // Not enough samples
+    assertEquals(sketch.getPercentileInMicros(0.5, now), -1);
+    sketch.record(100000, now);
+
+    long p50 = sketch.getPercentileInMicros(0.5, now);
+    assertTrue(p50 >= 1000 && p50 <= 1000 * 1.125, "Unexpected p50: " + p50);
+    long p99 = sketch.getPercentileInMicros(0.99, now);
+    assertTrue(p99 >= 1000 && p99 <= 1000 * 1.125, "Unexpected p99: " + p99);
+    long p100 = sketch.getPercentileInMicros(1.0, now);
+    assertTrue(p100 >= 100000 && p100 <= 100000 * 1.125, "Unexpected p100: " + p100);
+  }
+
+  @Test
+  public void testWindowRotation() {
+    LatencySketch sketch = new LatencySketch(1000, 1);
+    long now = System.currentTimeMillis();
+    sketch.record(1000, now);
+    assertEquals(sketch.getSampleCount(), 1);
+
+    // The samples of the previous window are still considered
+    sketch.record(5000, now + 1000);
+    assertEquals(sketch.getSampleCount(), 2);
+    assertTrue(sketch.getPercentileInMicros(0.5, now + 1000) < 5000);
+
+    // The first sample expires after two windows
+    sketch.record(5000, now + 2000);
+    assertEquals(sketch.getSampleCount(), 2);
+    assertTrue(sketch.getPercentileInMicros(0.5, now + 2000) >= 5000);
+
+    // All the samples expire without traffic
+    assertEquals(sketch.getPercentileInMicros(0.5, now + 10000), -1);
+  }
+}
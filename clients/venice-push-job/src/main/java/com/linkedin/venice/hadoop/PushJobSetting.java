@@ -11,6 +11,7 @@ import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.schema.vson.VsonSchema;
 import com.linkedin.venice.vpj.VenicePushJobConstants;
 import java.io.Serializable;
+import java.util.List;
 import java.util.Map;
 import org.apache.avro.Schema;
 
@@ -43,6 +44,7 @@ public class PushJobSetting implements Serializable {
   public int controllerRetries;
   public int controllerStatusPollRetries;
   public long pollJobStatusIntervalMs;
+  public boolean jobStatusLongPollEnabled;
   public long jobStatusInUnknownStateTimeoutMs;
   public long pushJobTimeoutOverrideMs;
   public boolean sendControlMessagesDirectly;
@@ -192,6 +194,9 @@ public class PushJobSetting implements Serializable {
   public transient Version sourceKafkaInputVersionInfo;
   public CompressionStrategy sourceVersionCompressionStrategy;
   public boolean sourceVersionChunkingEnabled;
+  public boolean repushFromSnapshotEnabled;
+  public int repushSnapshotBlobTransferPort;
+  public Map<Integer, List<String>> repushSnapshotPartitionHosts;
 
   public byte[] sourceDictionary;
   public byte[] topicDictionary;
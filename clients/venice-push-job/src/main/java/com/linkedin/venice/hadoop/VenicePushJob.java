@@ -45,6 +45,7 @@ import static com.linkedin.venice.vpj.VenicePushJobConstants.JOB_EXEC_ID;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.JOB_EXEC_URL;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.JOB_SERVER_NAME;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.JOB_STATUS_IN_UNKNOWN_STATE_TIMEOUT_MS;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.JOB_STATUS_LONG_POLL_ENABLED;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.KAFKA_INPUT_BROKER_URL;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.KAFKA_INPUT_COMBINER_ENABLED;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.KAFKA_INPUT_COMPRESSION_BUILD_NEW_DICT_ENABLED;
@@ -63,6 +64,8 @@ import static com.linkedin.venice.vpj.VenicePushJobConstants.POLL_JOB_STATUS_INT
 import static com.linkedin.venice.vpj.VenicePushJobConstants.POLL_STATUS_RETRY_ATTEMPTS;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.PUSH_JOB_TIMEOUT_OVERRIDE_MS;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.PUSH_TO_SEPARATE_REALTIME_TOPIC;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_SOURCE_SNAPSHOT_BLOB_TRANSFER_PORT;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_SOURCE_SNAPSHOT_ENABLED;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_TTL_ENABLE;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_TTL_SECONDS;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_TTL_START_TIMESTAMP;
@@ -99,6 +102,7 @@ import com.linkedin.venice.controllerapi.ControllerClientFactory;
 import com.linkedin.venice.controllerapi.ControllerResponse;
 import com.linkedin.venice.controllerapi.D2ControllerClientFactory;
 import com.linkedin.venice.controllerapi.JobStatusQueryResponse;
+import com.linkedin.venice.controllerapi.MultiReplicaResponse;
 import com.linkedin.venice.controllerapi.MultiSchemaResponse;
 import com.linkedin.venice.controllerapi.RepushInfo;
 import com.linkedin.venice.controllerapi.RepushInfoResponse;
@@ -129,6 +133,8 @@ import com.linkedin.venice.heartbeat.NoOpPushJobHeartbeatSender;
 import com.linkedin.venice.heartbeat.NoOpPushJobHeartbeatSenderFactory;
 import com.linkedin.venice.heartbeat.PushJobHeartbeatSender;
 import com.linkedin.venice.heartbeat.PushJobHeartbeatSenderFactory;
+import com.linkedin.venice.helix.HelixState;
+import com.linkedin.venice.helix.Replica;
 import com.linkedin.venice.jobs.ComputeJob;
 import com.linkedin.venice.jobs.DataWriterComputeJob;
 import com.linkedin.venice.message.KafkaKey;
@@ -153,6 +159,7 @@ import com.linkedin.venice.status.protocol.PushJobDetails;
 import com.linkedin.venice.status.protocol.PushJobDetailsStatusTuple;
 import com.linkedin.venice.utils.AvroSupersetSchemaUtils;
 import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.ConfigCommonUtils.ActivationState;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.DictionaryUtils;
 import com.linkedin.venice.utils.EncodingUtils;
@@ -165,7 +172,6 @@ import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.lazy.Lazy;
-import com.linkedin.venice.views.MaterializedView;
 import com.linkedin.venice.views.ViewUtils;
 import com.linkedin.venice.writer.VeniceWriter;
 import com.linkedin.venice.writer.VeniceWriterFactory;
@@ -404,6 +410,7 @@ public class VenicePushJob implements AutoCloseable {
     pushJobSettingToReturn.controllerStatusPollRetries = props.getInt(POLL_STATUS_RETRY_ATTEMPTS, 15);
     pushJobSettingToReturn.pollJobStatusIntervalMs =
         props.getLong(POLL_JOB_STATUS_INTERVAL_MS, DEFAULT_POLL_STATUS_INTERVAL_MS);
+    pushJobSettingToReturn.jobStatusLongPollEnabled = props.getBoolean(JOB_STATUS_LONG_POLL_ENABLED, false);
     pushJobSettingToReturn.jobStatusInUnknownStateTimeoutMs =
         props.getLong(JOB_STATUS_IN_UNKNOWN_STATE_TIMEOUT_MS, DEFAULT_JOB_STATUS_IN_UNKNOWN_STATE_TIMEOUT_MS);
     pushJobSettingToReturn.pushJobTimeoutOverrideMs = props.getLong(PUSH_JOB_TIMEOUT_OVERRIDE_MS, -1L);
@@ -419,6 +426,11 @@ public class VenicePushJob implements AutoCloseable {
     pushJobSettingToReturn.suppressEndOfPushMessage = props.getBoolean(SUPPRESS_END_OF_PUSH_MESSAGE, false);
     pushJobSettingToReturn.deferVersionSwap = props.getBoolean(DEFER_VERSION_SWAP, false);
     pushJobSettingToReturn.repushTTLEnabled = props.getBoolean(REPUSH_TTL_ENABLE, false);
+    pushJobSettingToReturn.repushFromSnapshotEnabled =
+        pushJobSettingToReturn.isSourceKafka && props.getBoolean(REPUSH_SOURCE_SNAPSHOT_ENABLED, false);
+    if (pushJobSettingToReturn.repushFromSnapshotEnabled) {
+      pushJobSettingToReturn.repushSnapshotBlobTransferPort = props.getInt(REPUSH_SOURCE_SNAPSHOT_BLOB_TRANSFER_PORT);
+    }
     pushJobSettingToReturn.repushUseFallbackValueSchemaId =
         props.getBoolean(REPUSH_USE_FALLBACK_VALUE_SCHEMA_ID, false);
     pushJobSettingToReturn.isCompliancePush = props.getBoolean(COMPLIANCE_PUSH, false);
@@ -1306,7 +1318,7 @@ public class VenicePushJob implements AutoCloseable {
       boolean isFlinkVeniceViewsEnabled = storeResponse.getStore().isFlinkVeniceViewsEnabled();
       viewConfigMap = viewConfigMap.entrySet()
           .stream()
-          .filter(vc -> Objects.equals(vc.getValue().getViewClassName(), MaterializedView.class.getCanonicalName()))
+          .filter(vc -> ViewUtils.isMaterializedView(vc.getValue().getViewClassName()))
           .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
       if (!viewConfigMap.isEmpty() && !isFlinkVeniceViewsEnabled) {
         pushJobSetting.materializedViewConfigFlatMap = ViewUtils.flatViewConfigMapString(viewConfigMap);
@@ -2519,6 +2531,59 @@ public class VenicePushJob implements AutoCloseable {
       if (sourceVersion.get().isChunkingEnabled() && !storeResponse.getStore().isChunkingEnabled()) {
         throw new VeniceException("Source version has chunking enabled while chunking is disabled in store config.");
       }
+      if (jobSetting.repushFromSnapshotEnabled) {
+        initRepushSnapshotDetails(controllerClient, jobSetting, storeResponse.getStore());
+      }
+    }
+  }
+
+  /**
+   * Looks up the hosts of the ready replicas of each partition of the source version, so that the data writer can read
+   * the snapshots of the partitions instead of the version topic. Snapshots are not used, and the version topic is read
+   * instead, if blob transfer isn't enabled in the servers for the store, if the source version is chunked, if TTL
+   * repush is enabled or if some partition has no ready replica.
+   */
+  void initRepushSnapshotDetails(ControllerClient controllerClient, PushJobSetting jobSetting, StoreInfo storeInfo) {
+    Version sourceVersion = jobSetting.sourceKafkaInputVersionInfo;
+    String fallbackReason = null;
+    /**
+     * The servers only serve the snapshots of the stores they're allowed to transfer. The server level policy isn't
+     * known here, so it must be enabled at the store level.
+     */
+    if (!ActivationState.ENABLED.name().equals(storeInfo.getBlobTransferInServerEnabled())) {
+      fallbackReason = "blob transfer isn't enabled in the servers for the store";
+    } else if (sourceVersion.isChunkingEnabled()) {
+      fallbackReason = "the source version is chunked";
+    } else if (jobSetting.repushTTLEnabled) {
+      fallbackReason = "TTL repush is enabled";
+    } else {
+      MultiReplicaResponse replicaResponse = ControllerClient.retryableRequest(
+          controllerClient,
+          jobSetting.controllerRetries,
+          c -> c.listReplicas(jobSetting.storeName, sourceVersion.getNumber()));
+      if (replicaResponse.isError()) {
+        fallbackReason = "the replicas of the source version can't be listed: " + replicaResponse.getError();
+      } else {
+        Map<Integer, List<String>> partitionHosts = new HashMap<>();
+        for (Replica replica: replicaResponse.getReplicas()) {
+          if (replica.getStatus() == HelixState.LEADER || replica.getStatus() == HelixState.STANDBY) {
+            partitionHosts.computeIfAbsent(replica.getPartitionId(), p -> new ArrayList<>())
+                .add(replica.getInstance().getHost());
+          }
+        }
+        if (partitionHosts.size() < sourceVersion.getPartitionCount()) {
+          fallbackReason = "some partitions of the source version have no ready replica";
+        } else {
+          jobSetting.repushSnapshotPartitionHosts = partitionHosts;
+        }
+      }
+    }
+    if (fallbackReason != null) {
+      LOGGER.warn(
+          "Repushing from version topic {} instead of the partition snapshots, as {}.",
+          jobSetting.kafkaInputTopic,
+          fallbackReason);
+      jobSetting.repushFromSnapshotEnabled = false;
     }
   }
 
@@ -2798,6 +2863,9 @@ public class VenicePushJob implements AutoCloseable {
     List<ExecutionStatus> successfulStatuses =
         Arrays.asList(ExecutionStatus.COMPLETED, ExecutionStatus.END_OF_INCREMENTAL_PUSH_RECEIVED);
     int fetchParentVersionRetryCount = 0;
+    // Whether to wait on the controller for the next status change, disabled if the controller doesn't support it
+    boolean longPollJobStatus = pushJobSetting.jobStatusLongPollEnabled;
+    String previousStatusDigest = null;
     for (;;) {
       long currentTime = System.currentTimeMillis();
       if (currentTime < nextPollingTime) {
@@ -2807,14 +2875,43 @@ public class VenicePushJob implements AutoCloseable {
       }
       nextPollingTime = currentTime + pushJobSetting.pollJobStatusIntervalMs;
 
-      JobStatusQueryResponse response = ControllerClient.retryableRequest(
-          controllerClient,
-          pushJobSetting.controllerStatusPollRetries,
-          client -> client.queryOverallJobStatus(
-              topicToMonitor,
-              Optional.ofNullable(incrementalPushVersion),
-              targetedRegions,
-              isTargetRegionPushWithDeferredSwap));
+      JobStatusQueryResponse response = null;
+      if (longPollJobStatus) {
+        response = controllerClient.waitForOverallJobStatusChange(
+            topicToMonitor,
+            Optional.ofNullable(incrementalPushVersion),
+            targetedRegions,
+            isTargetRegionPushWithDeferredSwap,
+            previousStatusDigest,
+            pushJobSetting.pollJobStatusIntervalMs);
+        if (response.isError()) {
+          // Controllers which don't support the route, or have disabled it, respond with a 4xx status
+          if (response.getErrorType() == ErrorType.BAD_REQUEST) {
+            LOGGER.warn(
+                "Failed to wait for the next job status of {}, falling back to polling it every {} ms. Error: {}",
+                topicToMonitor,
+                pushJobSetting.pollJobStatusIntervalMs,
+                response.getError());
+            longPollJobStatus = false;
+          } else {
+            LOGGER.warn(
+                "Failed to wait for the next job status of {}, polling it instead this time. Error: {}",
+                topicToMonitor,
+                response.getError());
+          }
+          response = null;
+        }
+      }
+      if (response == null) {
+        response = ControllerClient.retryableRequest(
+            controllerClient,
+            pushJobSetting.controllerStatusPollRetries,
+            client -> client.queryOverallJobStatus(
+                topicToMonitor,
+                Optional.ofNullable(incrementalPushVersion),
+                targetedRegions,
+                isTargetRegionPushWithDeferredSwap));
+      }
 
       if (response.isError()) {
         // status could not be queried which could be due to a communication error.
@@ -2823,6 +2920,15 @@ public class VenicePushJob implements AutoCloseable {
                 + pushJobSetting.controllerStatusPollRetries + " attempts. Error: " + response.getError());
       }
 
+      if (longPollJobStatus) {
+        String statusDigest = response.getStatusDigest();
+        if (!statusDigest.equals(previousStatusDigest)) {
+          // Wait for the next status change right away, the controller only responds once the status changes again
+          nextPollingTime = 0;
+        }
+        previousStatusDigest = statusDigest;
+      }
+
       previousOverallDetails = printJobStatus(response, previousOverallDetails, previousExtraDetails);
       ExecutionStatus overallStatus = getExecutionStatusFromControllerResponse(response);
       Map<String, String> regionSpecificInfo = response.getExtraInfo();
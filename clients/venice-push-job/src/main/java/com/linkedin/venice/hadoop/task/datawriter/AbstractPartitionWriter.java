@@ -69,6 +69,7 @@ import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.lazy.Lazy;
 import com.linkedin.venice.views.MaterializedView;
+import com.linkedin.venice.views.SecondaryIndexView;
 import com.linkedin.venice.views.VeniceView;
 import com.linkedin.venice.views.ViewUtils;
 import com.linkedin.venice.writer.AbstractVeniceWriter;
@@ -83,6 +84,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Properties;
@@ -579,9 +581,10 @@ public abstract class AbstractPartitionWriter extends AbstractDataWriterTask imp
 
   /**
    * Create {@link CompositeVeniceWriter} for writing to materialized views. If a
-   * {@link com.linkedin.venice.partitioner.ComplexVenicePartitioner} is involved we will also initialize schema, deser,
-   * and compressor in order to provide the appropriate value extractor. Calling compressor.get() eagerly to force out
-   * any potential issues early and protect against property/config changes later.
+   * {@link com.linkedin.venice.partitioner.ComplexVenicePartitioner} or a {@link SecondaryIndexView} is involved we
+   * will also initialize schema, deser, and compressor in order to provide the appropriate value extractor. Calling
+   * compressor.get() eagerly to force out any potential issues early and protect against property/config changes
+   * later.
    */
   private AbstractVeniceWriter<byte[], byte[], byte[]> createCompositeVeniceWriter(
       VeniceWriterFactory factory,
@@ -602,7 +605,8 @@ public abstract class AbstractPartitionWriter extends AbstractDataWriterTask imp
       version.setRmdChunkingEnabled(rmdChunkingEnabled);
       // Default deser and decompress function for simple partitioner where value provider is never going to be used.
       BiFunction<byte[], Integer, GenericRecord> valueExtractor = (valueBytes, valueSchemaId) -> null;
-      boolean complexPartitionerConfigured = false;
+      boolean valueExtractorConfigured = false;
+      Map<String, BiFunction<byte[], GenericRecord, byte[]>> viewKeyMappers = new HashMap<>();
       int index = 0;
       for (ViewConfig viewConfig: viewConfigMap.values()) {
         VeniceView view = ViewUtils
@@ -610,10 +614,19 @@ public abstract class AbstractPartitionWriter extends AbstractDataWriterTask imp
         String viewTopic = view.getTopicNamesAndConfigsForVersion(versionNumber).keySet().stream().findAny().get();
         if (view instanceof MaterializedView) {
           MaterializedView materializedView = (MaterializedView) view;
-          if (materializedView.getViewPartitioner()
+          if (view instanceof SecondaryIndexView) {
+            // The index view is keyed by the index value of the record and the primary key
+            SecondaryIndexView indexView = (SecondaryIndexView) view;
+            viewKeyMappers.put(indexView.getViewName(), (key, value) -> {
+              String indexValue = indexView.getIndexValue(value);
+              return indexValue == null ? null : SecondaryIndexView.getIndexKey(indexValue, key);
+            });
+          }
+          if ((materializedView.getViewPartitioner()
               .getPartitionerType() == VenicePartitioner.VenicePartitionerType.COMPLEX
-              && !complexPartitionerConfigured) {
-            // Initialize value schemas, deser cache and other variables needed by ComplexVenicePartitioner
+              || view instanceof SecondaryIndexView) && !valueExtractorConfigured) {
+            // Initialize value schemas, deser cache and other variables needed by ComplexVenicePartitioner and
+            // SecondaryIndexView
             initializeSchemaSourceAndDeserCache();
             compressor.get();
             valueExtractor = (valueBytes, valueSchemaId) -> {
@@ -632,7 +645,7 @@ public abstract class AbstractPartitionWriter extends AbstractDataWriterTask imp
                   .deserialize(decompressedBytes);
             };
             // We only need to configure these variables once per CompositeVeniceWriter
-            complexPartitionerConfigured = true;
+            valueExtractorConfigured = true;
           }
           childWriters[index++] =
               factory.createComplexVeniceWriter(view.getWriterOptionsBuilder(viewTopic, version).build());
@@ -645,7 +658,8 @@ public abstract class AbstractPartitionWriter extends AbstractDataWriterTask imp
           mainWriter,
           childWriters,
           new ChildWriterProducerCallback(),
-          valueExtractor);
+          valueExtractor,
+          viewKeyMappers);
     } catch (Exception e) {
       String errorMessage = String.format("Failed to create composite writer for push to store version: %s", topicName);
       LOGGER.error(errorMessage, e);
@@ -18,6 +18,7 @@ import com.linkedin.venice.writer.PutMetadata;
 import com.linkedin.venice.writer.VeniceWriter;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -45,12 +46,26 @@ public class CompositeVeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U
   // the extractor should be capable of extracting the value from bytes even if it's compressed.
   private final BiFunction<V, Integer, GenericRecord> valueExtractor;
 
+  // View name to the function which maps the key and the value to the key of the view, for the views which are not
+  // keyed by the store key. The function returns null if the record shouldn't be written to the view.
+  private final Map<String, BiFunction<K, GenericRecord, K>> viewKeyMappers;
+
   public CompositeVeniceWriter(
       String topicName,
       VeniceWriter<K, V, U> mainWriter,
       ComplexVeniceWriter<K, V, U>[] childWriters,
       PubSubProducerCallback childCallback,
       BiFunction<V, Integer, GenericRecord> valueExtractor) {
+    this(topicName, mainWriter, childWriters, childCallback, valueExtractor, Collections.emptyMap());
+  }
+
+  public CompositeVeniceWriter(
+      String topicName,
+      VeniceWriter<K, V, U> mainWriter,
+      ComplexVeniceWriter<K, V, U>[] childWriters,
+      PubSubProducerCallback childCallback,
+      BiFunction<V, Integer, GenericRecord> valueExtractor,
+      Map<String, BiFunction<K, GenericRecord, K>> viewKeyMappers) {
     super(topicName);
     if (childWriters.length < 1) {
       throw new IllegalArgumentException("A composite writer is not needed if there are no child writers");
@@ -59,6 +74,7 @@ public class CompositeVeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U
     this.childWriters = childWriters;
     this.childCallback = childCallback;
     this.valueExtractor = valueExtractor;
+    this.viewKeyMappers = viewKeyMappers;
   }
 
   @Override
@@ -186,10 +202,20 @@ public class CompositeVeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U
     Map<String, Set<Integer>> viewPartitionMap = new HashMap<>();
     int index = 0;
     for (ComplexVeniceWriter<K, V, U> writer: childWriters) {
+      K viewKey = key;
+      BiFunction<K, GenericRecord, K> viewKeyMapper = viewKeyMappers.get(writer.getViewName());
+      if (viewKeyMapper != null) {
+        viewKey = viewKeyMapper.apply(key, valueProvider.get());
+        if (viewKey == null) {
+          viewPartitionMap.put(writer.getViewName(), new HashSet<>());
+          childFutures[index++] = CompletableFuture.completedFuture(null);
+          continue;
+        }
+      }
       // There should be an entry for every materialized view, even if the partition set is empty. This way we can
       // differentiate between skipped view write and missing view partition info unexpectedly.
       childFutures[index++] = writer.complexPut(
-          key,
+          viewKey,
           value,
           valueSchemaId,
           valueProvider,
@@ -47,6 +47,9 @@ import static com.linkedin.venice.vpj.VenicePushJobConstants.KAFKA_INPUT_SOURCE_
 import static com.linkedin.venice.vpj.VenicePushJobConstants.KAFKA_INPUT_TOPIC;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.PARTITION_COUNT;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.PUSH_TO_SEPARATE_REALTIME_TOPIC;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_SOURCE_SNAPSHOT_BLOB_TRANSFER_PORT;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_SOURCE_SNAPSHOT_PARTITION_HOSTS;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_SOURCE_SNAPSHOT_RMD_VERSION_ID;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_TTL_ENABLE;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_TTL_POLICY;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_TTL_START_TIMESTAMP;
@@ -96,6 +99,7 @@ import com.linkedin.venice.spark.datawriter.task.DataWriterAccumulators;
 import com.linkedin.venice.spark.datawriter.task.SparkDataWriterTaskTracker;
 import com.linkedin.venice.spark.datawriter.writer.SparkPartitionWriterFactory;
 import com.linkedin.venice.spark.input.kafka.ttl.SparkKafkaInputTTLFilter;
+import com.linkedin.venice.spark.input.snapshot.VeniceSnapshotSource;
 import com.linkedin.venice.spark.utils.RmdPushUtils;
 import com.linkedin.venice.spark.utils.SparkPartitionUtils;
 import com.linkedin.venice.spark.utils.SparkScalaUtils;
@@ -386,6 +390,13 @@ public abstract class AbstractDataWriterSparkJob extends DataWriterComputeJob {
 
   private Dataset<Row> getInputDataFrame() {
     if (pushJobSetting.isSourceKafka) {
+      if (pushJobSetting.repushFromSnapshotEnabled) {
+        // The snapshots only hold the latest record of each key, so they don't need to be compacted
+        LOGGER.info(
+            "Reading the snapshots of the source partitions instead of topic: {}",
+            pushJobSetting.kafkaInputTopic);
+        return getSnapshotInputDataFrame();
+      }
       Dataset<Row> rawKafkaInput = getKafkaInputDataFrame();
 
       // Apply TTL filter first on RAW_PUBSUB_INPUT_TABLE_SCHEMA (if enabled)
@@ -429,6 +440,46 @@ public abstract class AbstractDataWriterSparkJob extends DataWriterComputeJob {
     }
   }
 
+  /**
+   * Get the input DataFrame for repush workloads from the RocksDB snapshots of the partitions of the source version,
+   * fetched from the storage nodes through blob transfer. Only non-chunked source versions are supported, see
+   * {@link VeniceSnapshotSource}.
+   *
+   * @return DataFrame with DEFAULT_SCHEMA_WITH_SCHEMA_ID, holding the latest record of each key
+   */
+  protected Dataset<Row> getSnapshotInputDataFrame() {
+    DataFrameReader dataFrameReader = sparkSession.read();
+    dataFrameReader.format(VeniceSnapshotSource.class.getCanonicalName());
+    // Forward the job props first, so that SSL and transfer configs are available on the executors
+    for (String key: props.keySet()) {
+      setInputConf(sparkSession, dataFrameReader, key, props.getString(key));
+    }
+    setInputConf(sparkSession, dataFrameReader, KAFKA_INPUT_TOPIC, pushJobSetting.kafkaInputTopic);
+    setInputConf(
+        sparkSession,
+        dataFrameReader,
+        REPUSH_SOURCE_SNAPSHOT_BLOB_TRANSFER_PORT,
+        String.valueOf(pushJobSetting.repushSnapshotBlobTransferPort));
+    setInputConf(
+        sparkSession,
+        dataFrameReader,
+        REPUSH_SOURCE_SNAPSHOT_PARTITION_HOSTS,
+        VeniceSnapshotSource.encodePartitionHosts(pushJobSetting.repushSnapshotPartitionHosts));
+    setInputConf(
+        sparkSession,
+        dataFrameReader,
+        REPUSH_SOURCE_SNAPSHOT_RMD_VERSION_ID,
+        String.valueOf(pushJobSetting.sourceKafkaInputVersionInfo.getRmdVersionId()));
+    if (pushJobSetting.enableSSL) {
+      setInputConf(
+          sparkSession,
+          dataFrameReader,
+          SSL_CONFIGURATOR_CLASS_CONFIG,
+          props.getString(SSL_CONFIGURATOR_CLASS_CONFIG, TempFileSSLConfigurator.class.getName()));
+    }
+    return dataFrameReader.load();
+  }
+
   /**
    * Get the input DataFrame from Kafka/PubSub source for repush workloads.
    * This method reads from a Venice version topic (Kafka) and returns a DataFrame
@@ -0,0 +1,188 @@
+package com.linkedin.venice.spark.input.snapshot;
+
+import com.linkedin.davinci.blobtransfer.BlobTransferGlobalTrafficShapingHandlerHolder;
+import com.linkedin.davinci.blobtransfer.BlobTransferUtils.BlobTransferTableFormat;
+import com.linkedin.davinci.blobtransfer.client.NettyFileTransferClient;
+import com.linkedin.davinci.stats.AggBlobTransferStats;
+import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.venice.annotation.VisibleForTesting;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.pubsub.PubSubContext;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import java.io.Closeable;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Fetches the RocksDB snapshot of a partition of the source version from the blob transfer server of one of its
+ * replicas, which creates the snapshot through {@code BlobSnapshotManager} unless it has a recent enough one already.
+ * The hosts are tried in order until a transfer succeeds. If all of them fail, e.g. because they are busy serving other
+ * snapshots or unreachable, they are all tried again after an exponential backoff, up to the configured attempts.
+ */
+class VeniceSnapshotFetcher implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(VeniceSnapshotFetcher.class);
+  private static final int PEERS_CONNECTIVITY_FRESHNESS_IN_SECONDS = 30;
+  private static final int BLOB_RECEIVE_READER_IDLE_TIME_IN_SECONDS = 300;
+
+  private final String baseDir;
+  private final int transferTimeoutInMin;
+  private final int fetchAttempts;
+  private final long fetchRetryBackoffMs;
+  private final NettyFileTransferClient transferClient;
+
+  VeniceSnapshotFetcher(
+      String baseDir,
+      int blobTransferPort,
+      int transferTimeoutInMin,
+      int fetchAttempts,
+      long fetchRetryBackoffMs,
+      Optional<SSLFactory> sslFactory) {
+    this(
+        baseDir,
+        transferTimeoutInMin,
+        fetchAttempts,
+        fetchRetryBackoffMs,
+        new NettyFileTransferClient(
+            blobTransferPort,
+            baseDir,
+            new NoOpStorageMetadataService(),
+            PEERS_CONNECTIVITY_FRESHNESS_IN_SECONDS,
+            transferTimeoutInMin,
+            BLOB_RECEIVE_READER_IDLE_TIME_IN_SECONDS,
+            BlobTransferGlobalTrafficShapingHandlerHolder.getGlobalChannelTrafficShapingHandlerInstance(0, 0),
+            new NoOpBlobTransferStats(),
+            sslFactory,
+            null,
+            null));
+  }
+
+  @VisibleForTesting
+  VeniceSnapshotFetcher(
+      String baseDir,
+      int transferTimeoutInMin,
+      int fetchAttempts,
+      long fetchRetryBackoffMs,
+      NettyFileTransferClient transferClient) {
+    this.baseDir = baseDir;
+    this.transferTimeoutInMin = transferTimeoutInMin;
+    this.fetchAttempts = Math.max(1, fetchAttempts);
+    this.fetchRetryBackoffMs = fetchRetryBackoffMs;
+    this.transferClient = transferClient;
+  }
+
+  /**
+   * @return the directory of the RocksDB database of the fetched snapshot
+   */
+  String fetch(String storeName, int version, int partition, List<String> hosts) {
+    String topic = Version.composeKafkaTopic(storeName, version);
+    Exception lastException = null;
+    for (int attempt = 1; attempt <= fetchAttempts; attempt++) {
+      if (attempt > 1) {
+        long backoffMs = fetchRetryBackoffMs << Math.min(attempt - 2, 10);
+        LOGGER.info(
+            "Retrying to fetch the snapshot of partition {} of {} in {} ms, attempt {}/{}",
+            partition,
+            topic,
+            backoffMs,
+            attempt,
+            fetchAttempts);
+        try {
+          Thread.sleep(backoffMs);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new VeniceException(
+              "Interrupted while fetching the snapshot of partition " + partition + " of " + topic);
+        }
+      }
+      for (String host: hosts) {
+        long startTime = System.currentTimeMillis();
+        try {
+          transferClient.get(host, storeName, version, partition, BlobTransferTableFormat.BLOCK_BASED_TABLE)
+              .toCompletableFuture()
+              .get(transferTimeoutInMin, TimeUnit.MINUTES);
+          LOGGER.info(
+              "Fetched the snapshot of partition {} of {} from host {} in {} ms",
+              partition,
+              topic,
+              host,
+              System.currentTimeMillis() - startTime);
+          return RocksDBUtils.composePartitionDbDir(baseDir, topic, partition);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new VeniceException(
+              "Interrupted while fetching the snapshot of partition " + partition + " of " + topic);
+        } catch (Exception e) {
+          LOGGER.warn("Failed to fetch the snapshot of partition {} of {} from host {}", partition, topic, host, e);
+          lastException = e;
+          RocksDBUtils.cleanupBothPartitionDirAndTempTransferredDir(storeName, version, partition, baseDir);
+        }
+      }
+    }
+    throw new VeniceException(
+        "Failed to fetch the snapshot of partition " + partition + " of " + topic + " from hosts: " + hosts + " after "
+            + fetchAttempts + " attempts",
+        lastException);
+  }
+
+  @Override
+  public void close() {
+    transferClient.close();
+  }
+
+  /**
+   * The partition metadata sent along with the snapshot is not needed to read it.
+   */
+  private static class NoOpStorageMetadataService implements StorageMetadataService {
+    @Override
+    public StoreVersionState computeStoreVersionState(
+        String topicName,
+        Function<StoreVersionState, StoreVersionState> mapFunction) {
+      return mapFunction.apply(null);
+    }
+
+    @Override
+    public void clearStoreVersionState(String topicName) {
+    }
+
+    @Override
+    public StoreVersionState getStoreVersionState(String topicName) {
+      return null;
+    }
+
+    @Override
+    public void put(String topicName, int partitionId, OffsetRecord record) {
+    }
+
+    @Override
+    public void clearOffset(String topicName, int partitionId) {
+    }
+
+    @Override
+    public OffsetRecord getLastOffset(String topicName, int partitionId, PubSubContext pubSubContext) {
+      return null;
+    }
+  }
+
+  private static class NoOpBlobTransferStats extends AggBlobTransferStats {
+    NoOpBlobTransferStats() {
+      super(null, null);
+    }
+
+    @Override
+    public void recordBlobTransferBytesSent(String storeName, int version, long value) {
+    }
+
+    @Override
+    public void recordBlobTransferBytesReceived(String storeName, int version, long value) {
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.linkedin.venice.spark.input.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.spark.sql.connector.read.InputPartition;
+
+
+public class VeniceSnapshotInputPartition implements InputPartition {
+  private static final long serialVersionUID = 1L;
+
+  private final int partitionId;
+  private final ArrayList<String> hosts;
+
+  public VeniceSnapshotInputPartition(int partitionId, List<String> hosts) {
+    this.partitionId = partitionId;
+    this.hosts = new ArrayList<>(hosts);
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  /**
+   * @return the hosts of the ready replicas of the partition, in the order they should be tried
+   */
+  public List<String> getHosts() {
+    return hosts;
+  }
+
+  @Override
+  public String toString() {
+    return "VeniceSnapshotInputPartition{partitionId=" + partitionId + ", hosts=" + hosts + "}";
+  }
+}
@@ -0,0 +1,71 @@
+package com.linkedin.venice.spark.input.snapshot;
+
+import static com.linkedin.venice.spark.SparkConstants.DEFAULT_SCHEMA_WITH_SCHEMA_ID;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.KAFKA_INPUT_TOPIC;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_SOURCE_SNAPSHOT_PARTITION_HOSTS;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.spark.sql.connector.read.Batch;
+import org.apache.spark.sql.connector.read.InputPartition;
+import org.apache.spark.sql.connector.read.PartitionReaderFactory;
+import org.apache.spark.sql.connector.read.Scan;
+import org.apache.spark.sql.types.StructType;
+
+
+/**
+ * Plans one Spark input partition per partition of the source version, each of which reads the snapshot of the
+ * partition from one of its replicas.
+ */
+public class VeniceSnapshotInputScan implements Scan, Batch {
+  private static final Logger LOGGER = LogManager.getLogger(VeniceSnapshotInputScan.class);
+
+  private final VeniceProperties jobConfig;
+
+  public VeniceSnapshotInputScan(VeniceProperties jobConfig) {
+    this.jobConfig = jobConfig;
+  }
+
+  @Override
+  public InputPartition[] planInputPartitions() {
+    Map<Integer, List<String>> partitionHosts =
+        VeniceSnapshotSource.decodePartitionHosts(jobConfig.getString(REPUSH_SOURCE_SNAPSHOT_PARTITION_HOSTS, ""));
+    if (partitionHosts.isEmpty()) {
+      throw new VeniceException("Missing the hosts of the source partitions: " + REPUSH_SOURCE_SNAPSHOT_PARTITION_HOSTS);
+    }
+    InputPartition[] partitions = new InputPartition[partitionHosts.size()];
+    int index = 0;
+    for (Map.Entry<Integer, List<String>> entry: partitionHosts.entrySet()) {
+      // Spread the snapshot creation of concurrent repush jobs over the replicas
+      List<String> hosts = new ArrayList<>(entry.getValue());
+      Collections.shuffle(hosts);
+      partitions[index++] = new VeniceSnapshotInputPartition(entry.getKey(), hosts);
+    }
+    LOGGER.info(
+        "Created {} Spark input partitions for the snapshots of topic: {}",
+        partitions.length,
+        jobConfig.getString(KAFKA_INPUT_TOPIC));
+    return partitions;
+  }
+
+  @Override
+  public PartitionReaderFactory createReaderFactory() {
+    return new VeniceSnapshotPartitionReaderFactory(jobConfig);
+  }
+
+  @Override
+  public StructType readSchema() {
+    return DEFAULT_SCHEMA_WITH_SCHEMA_ID;
+  }
+
+  @Override
+  public Batch toBatch() {
+    return this;
+  }
+}
@@ -0,0 +1,19 @@
+package com.linkedin.venice.spark.input.snapshot;
+
+import com.linkedin.venice.utils.VeniceProperties;
+import org.apache.spark.sql.connector.read.Scan;
+import org.apache.spark.sql.connector.read.ScanBuilder;
+
+
+public class VeniceSnapshotInputScanBuilder implements ScanBuilder {
+  private final VeniceProperties jobConfig;
+
+  public VeniceSnapshotInputScanBuilder(VeniceProperties properties) {
+    this.jobConfig = properties;
+  }
+
+  @Override
+  public Scan build() {
+    return new VeniceSnapshotInputScan(jobConfig);
+  }
+}
@@ -0,0 +1,144 @@
+package com.linkedin.venice.spark.input.snapshot;
+
+import static com.linkedin.davinci.store.rocksdb.RocksDBStoragePartition.REPLICATION_METADATA_COLUMN_FAMILY;
+
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.catalyst.expressions.GenericInternalRow;
+import org.apache.spark.sql.connector.read.PartitionReader;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.DBOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+
+
+/**
+ * Reads the RocksDB snapshot of a partition of a non-chunked version, in key order.
+ * <p>
+ * The default column family holds the latest value of each key and the RMD column family, which only exists for
+ * active/active stores, holds its RMD, both prefixed with the value schema id. As both column families are sorted by
+ * key, they are merged into a single row per key. A key which only has an RMD has been deleted, so it's returned with
+ * a null value, like a DELETE message of the version topic, to carry its RMD over to the new version.
+ * <p>
+ * The rows have the {@link com.linkedin.venice.spark.SparkConstants#DEFAULT_SCHEMA_WITH_SCHEMA_ID} schema.
+ */
+public class VeniceSnapshotPartitionReader implements PartitionReader<InternalRow> {
+  private static final Logger LOGGER = LogManager.getLogger(VeniceSnapshotPartitionReader.class);
+
+  private final String snapshotDir;
+  private final int rmdVersionId;
+  private final Runnable cleanup;
+  private final DBOptions options;
+  private final List<ColumnFamilyHandle> columnFamilyHandles = new ArrayList<>();
+  private final RocksDB db;
+  private final RocksIterator valueIterator;
+  private final RocksIterator rmdIterator;
+
+  private InternalRow currentRow;
+  private long rowCount;
+
+  /**
+   * @param snapshotDir the directory of the RocksDB database of the snapshot
+   * @param rmdVersionId the RMD protocol version id of the source version, or -1 if it has no RMD
+   * @param cleanup called once the reader is closed, to delete the snapshot
+   */
+  public VeniceSnapshotPartitionReader(String snapshotDir, int rmdVersionId, Runnable cleanup) {
+    this.snapshotDir = snapshotDir;
+    this.rmdVersionId = rmdVersionId;
+    this.cleanup = cleanup;
+    this.options = new DBOptions();
+    try (Options listOptions = new Options()) {
+      boolean hasRmd = RocksDB.listColumnFamilies(listOptions, snapshotDir)
+          .stream()
+          .anyMatch(name -> Arrays.equals(name, REPLICATION_METADATA_COLUMN_FAMILY));
+      List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
+      columnFamilyDescriptors.add(new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY));
+      if (hasRmd) {
+        columnFamilyDescriptors.add(new ColumnFamilyDescriptor(REPLICATION_METADATA_COLUMN_FAMILY));
+      }
+      this.db = RocksDB.openReadOnly(options, snapshotDir, columnFamilyDescriptors, columnFamilyHandles);
+    } catch (RocksDBException e) {
+      options.close();
+      cleanup.run();
+      throw new VeniceException("Failed to open the snapshot in: " + snapshotDir, e);
+    }
+    this.valueIterator = db.newIterator(columnFamilyHandles.get(0));
+    this.valueIterator.seekToFirst();
+    if (columnFamilyHandles.size() > 1) {
+      this.rmdIterator = db.newIterator(columnFamilyHandles.get(1));
+      this.rmdIterator.seekToFirst();
+    } else {
+      this.rmdIterator = null;
+    }
+  }
+
+  @Override
+  public boolean next() {
+    boolean hasValue = valueIterator.isValid();
+    boolean hasRmd = rmdIterator != null && rmdIterator.isValid();
+    if (!hasValue && !hasRmd) {
+      return false;
+    }
+    int comparison = !hasRmd ? -1 : !hasValue ? 1 : ByteUtils.compare(valueIterator.key(), rmdIterator.key());
+    byte[] key = null;
+    byte[] value = null;
+    byte[] rmd = null;
+    if (comparison <= 0) {
+      key = valueIterator.key();
+      value = valueIterator.value();
+      valueIterator.next();
+    }
+    if (comparison >= 0) {
+      key = rmdIterator.key();
+      rmd = rmdIterator.value();
+      rmdIterator.next();
+    }
+    currentRow = toRow(key, value, rmd, rmdVersionId);
+    rowCount++;
+    return true;
+  }
+
+  /**
+   * Strips the value schema id header of the stored value and RMD, and moves it to its own column.
+   */
+  static InternalRow toRow(byte[] key, byte[] storedValue, byte[] storedRmd, int rmdVersionId) {
+    int schemaId = ValueRecord.parseSchemaId(storedValue != null ? storedValue : storedRmd);
+    return new GenericInternalRow(
+        new Object[] { key, stripSchemaHeader(storedValue), stripSchemaHeader(storedRmd), schemaId, rmdVersionId });
+  }
+
+  private static byte[] stripSchemaHeader(byte[] storedBytes) {
+    if (storedBytes == null) {
+      return null;
+    }
+    return Arrays.copyOfRange(storedBytes, ValueRecord.SCHEMA_HEADER_LENGTH, storedBytes.length);
+  }
+
+  @Override
+  public InternalRow get() {
+    return currentRow;
+  }
+
+  @Override
+  public void close() {
+    valueIterator.close();
+    if (rmdIterator != null) {
+      rmdIterator.close();
+    }
+    columnFamilyHandles.forEach(ColumnFamilyHandle::close);
+    db.close();
+    options.close();
+    cleanup.run();
+    LOGGER.info("Read {} rows from the snapshot in: {}", rowCount, snapshotDir);
+  }
+}
@@ -0,0 +1,113 @@
+package com.linkedin.venice.spark.input.snapshot;
+
+import static com.linkedin.venice.CommonConfigKeys.SSL_FACTORY_CLASS_NAME;
+import static com.linkedin.venice.VeniceConstants.DEFAULT_SSL_FACTORY_CLASS_NAME;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.DEFAULT_REPUSH_SOURCE_SNAPSHOT_FETCH_ATTEMPTS;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.DEFAULT_REPUSH_SOURCE_SNAPSHOT_FETCH_RETRY_BACKOFF_MS;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.DEFAULT_REPUSH_SOURCE_SNAPSHOT_TRANSFER_TIMEOUT_MINUTES;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.KAFKA_INPUT_TOPIC;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_SOURCE_SNAPSHOT_BLOB_TRANSFER_PORT;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_SOURCE_SNAPSHOT_FETCH_ATTEMPTS;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_SOURCE_SNAPSHOT_FETCH_RETRY_BACKOFF_MS;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_SOURCE_SNAPSHOT_RMD_VERSION_ID;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.REPUSH_SOURCE_SNAPSHOT_TRANSFER_TIMEOUT_MINUTES;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.SSL_CONFIGURATOR_CLASS_CONFIG;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.hadoop.utils.VPJSSLUtils;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.lazy.Lazy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.Properties;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.connector.read.InputPartition;
+import org.apache.spark.sql.connector.read.PartitionReader;
+import org.apache.spark.sql.connector.read.PartitionReaderFactory;
+
+
+public class VeniceSnapshotPartitionReaderFactory implements PartitionReaderFactory {
+  private static final Logger LOGGER = LogManager.getLogger(VeniceSnapshotPartitionReaderFactory.class);
+
+  private static final long serialVersionUID = 1L;
+
+  private final VeniceProperties jobConfig;
+
+  public VeniceSnapshotPartitionReaderFactory(VeniceProperties jobConfig) {
+    this.jobConfig = jobConfig;
+  }
+
+  @Override
+  public PartitionReader<InternalRow> createReader(InputPartition genericInputPartition) {
+    if (!(genericInputPartition instanceof VeniceSnapshotInputPartition)) {
+      throw new IllegalArgumentException(
+          "VeniceSnapshotPartitionReaderFactory can only create readers for VeniceSnapshotInputPartition");
+    }
+    VeniceSnapshotInputPartition inputPartition = (VeniceSnapshotInputPartition) genericInputPartition;
+    String topic = jobConfig.getString(KAFKA_INPUT_TOPIC);
+    String storeName = Version.parseStoreFromKafkaTopicName(topic);
+    int version = Version.parseVersionFromKafkaTopicName(topic);
+
+    String baseDir;
+    try {
+      baseDir = Files.createTempDirectory("venice-repush-snapshot-").toString();
+    } catch (IOException e) {
+      throw new VeniceException("Failed to create a directory for the snapshot of: " + inputPartition, e);
+    }
+    String snapshotDir;
+    try (VeniceSnapshotFetcher fetcher = new VeniceSnapshotFetcher(
+        baseDir,
+        jobConfig.getInt(REPUSH_SOURCE_SNAPSHOT_BLOB_TRANSFER_PORT),
+        jobConfig.getInt(
+            REPUSH_SOURCE_SNAPSHOT_TRANSFER_TIMEOUT_MINUTES,
+            DEFAULT_REPUSH_SOURCE_SNAPSHOT_TRANSFER_TIMEOUT_MINUTES),
+        jobConfig.getInt(REPUSH_SOURCE_SNAPSHOT_FETCH_ATTEMPTS, DEFAULT_REPUSH_SOURCE_SNAPSHOT_FETCH_ATTEMPTS),
+        jobConfig.getLong(
+            REPUSH_SOURCE_SNAPSHOT_FETCH_RETRY_BACKOFF_MS,
+            DEFAULT_REPUSH_SOURCE_SNAPSHOT_FETCH_RETRY_BACKOFF_MS),
+        getSslFactory())) {
+      snapshotDir = fetcher.fetch(storeName, version, inputPartition.getPartitionId(), inputPartition.getHosts());
+    } catch (RuntimeException e) {
+      RocksDBUtils.deleteDirectory(baseDir);
+      throw e;
+    }
+    LOGGER.info("Created VeniceSnapshotPartitionReader for {} from snapshot: {}", inputPartition, snapshotDir);
+    return new VeniceSnapshotPartitionReader(
+        snapshotDir,
+        jobConfig.getInt(REPUSH_SOURCE_SNAPSHOT_RMD_VERSION_ID, -1),
+        () -> RocksDBUtils.deleteDirectory(baseDir));
+  }
+
+  /**
+   * Sets up SSL on the executor side, if it's enabled, to connect to the blob transfer servers.
+   */
+  private Optional<SSLFactory> getSslFactory() {
+    if (!jobConfig.containsKey(SSL_CONFIGURATOR_CLASS_CONFIG)) {
+      return Optional.empty();
+    }
+    try {
+      Properties sslProps = VPJSSLUtils.getSslProperties(jobConfig);
+      return VPJSSLUtils.createSSLFactory(
+          true,
+          jobConfig.getString(SSL_FACTORY_CLASS_NAME, DEFAULT_SSL_FACTORY_CLASS_NAME),
+          Lazy.of(() -> sslProps));
+    } catch (IOException e) {
+      throw new VeniceException(
+          "Failed to setup SSL for executor-side snapshot transfer. SSL configurator class: "
+              + jobConfig.getString(SSL_CONFIGURATOR_CLASS_CONFIG),
+          e);
+    }
+  }
+
+  // Make it explicit that this reader does not support columnar reads.
+  @Override
+  public boolean supportColumnarReads(InputPartition partition) {
+    return false;
+  }
+}
@@ -0,0 +1,68 @@
+package com.linkedin.venice.spark.input.snapshot;
+
+import static com.linkedin.venice.spark.SparkConstants.DEFAULT_SCHEMA_WITH_SCHEMA_ID;
+
+import com.linkedin.venice.utils.VeniceProperties;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.apache.spark.sql.connector.catalog.Table;
+import org.apache.spark.sql.connector.catalog.TableProvider;
+import org.apache.spark.sql.connector.expressions.Transform;
+import org.apache.spark.sql.types.StructType;
+import org.apache.spark.sql.util.CaseInsensitiveStringMap;
+
+
+/**
+ * This is the entrypoint of the snapshot input source, used by repush to read the RocksDB snapshots of the partitions
+ * of the source version instead of its version topic. The snapshots are fetched from the storage nodes through blob
+ * transfer. Since a snapshot only holds the latest value and RMD of each key, the rows of this source don't need to be
+ * compacted before being written to the new version.
+ * This source does not support chunked source versions at this point.
+ */
+@SuppressWarnings("unused")
+public class VeniceSnapshotSource implements TableProvider {
+  private static final String PARTITION_SEPARATOR = ";";
+  private static final String PARTITION_HOSTS_SEPARATOR = "=";
+  private static final String HOST_SEPARATOR = ",";
+
+  @Override
+  public StructType inferSchema(CaseInsensitiveStringMap options) {
+    return DEFAULT_SCHEMA_WITH_SCHEMA_ID;
+  }
+
+  @Override
+  public Table getTable(StructType schema, Transform[] partitioning, Map<String, String> configs) {
+    Properties properties = new Properties();
+    properties.putAll(configs);
+    return new VeniceSnapshotInputTable(new VeniceProperties(properties));
+  }
+
+  /**
+   * Encodes the hosts of each partition into a config value, e.g. "0=host1,host2;1=host3".
+   */
+  public static String encodePartitionHosts(Map<Integer, List<String>> partitionHosts) {
+    return new TreeMap<>(partitionHosts).entrySet()
+        .stream()
+        .map(entry -> entry.getKey() + PARTITION_HOSTS_SEPARATOR + String.join(HOST_SEPARATOR, entry.getValue()))
+        .collect(Collectors.joining(PARTITION_SEPARATOR));
+  }
+
+  static Map<Integer, List<String>> decodePartitionHosts(String encodedPartitionHosts) {
+    Map<Integer, List<String>> partitionHosts = new TreeMap<>();
+    if (encodedPartitionHosts == null || encodedPartitionHosts.isEmpty()) {
+      return partitionHosts;
+    }
+    for (String encodedPartition: encodedPartitionHosts.split(PARTITION_SEPARATOR)) {
+      String[] partitionAndHosts = encodedPartition.split(PARTITION_HOSTS_SEPARATOR, 2);
+      partitionHosts.put(
+          Integer.parseInt(partitionAndHosts[0]),
+          new ArrayList<>(Arrays.asList(partitionAndHosts[1].split(HOST_SEPARATOR))));
+    }
+    return partitionHosts;
+  }
+}
@@ -56,6 +56,11 @@ public final class VenicePushJobConstants {
   public static final String CONTROLLER_REQUEST_RETRY_ATTEMPTS = "controller.request.retry.attempts";
   public static final String POLL_JOB_STATUS_INTERVAL_MS = "poll.job.status.interval.ms";
   public static final String JOB_STATUS_IN_UNKNOWN_STATE_TIMEOUT_MS = "job.status.in.unknown.state.timeout.ms";
+  /**
+   * Whether to wait on the controller for the next job status change, instead of polling the job status every
+   * {@link #POLL_JOB_STATUS_INTERVAL_MS}. Polling is used as a fallback if the controller doesn't support it.
+   */
+  public static final String JOB_STATUS_LONG_POLL_ENABLED = "job.status.long.poll.enabled";
   public static final String PUSH_JOB_TIMEOUT_OVERRIDE_MS = "push.job.timeout.override.ms";
   public static final String SEND_CONTROL_MESSAGES_DIRECTLY = "send.control.messages.directly";
   public static final String SOURCE_ETL = "source.etl";
@@ -243,6 +248,49 @@ public final class VenicePushJobConstants {
       "kafka.input.compression.build.new.dict.enabled";
 
   public static final String KAFKA_INPUT_SOURCE_TOPIC_CHUNKING_ENABLED = "kafka.input.source.topic.chunking.enabled";
+
+  /**
+   * Optional, only honored by the Spark data writer.
+   * If enabled, a repush of a non-chunked source version reads the RocksDB snapshots of the source partitions, fetched
+   * from the storage nodes through blob transfer, instead of replaying the source version topic. A snapshot only holds
+   * the latest value and RMD of each key, so the input doesn't need to be compacted before being written. The job falls
+   * back to the version topic if blob transfer isn't enabled in the servers for the store, if the source version is
+   * chunked, if TTL repush is enabled, or if some partition has no ready replica.
+   */
+  public static final String REPUSH_SOURCE_SNAPSHOT_ENABLED = "repush.source.snapshot.enabled";
+
+  /**
+   * Port of the blob transfer server of the storage nodes, required if {@link #REPUSH_SOURCE_SNAPSHOT_ENABLED} is set.
+   */
+  public static final String REPUSH_SOURCE_SNAPSHOT_BLOB_TRANSFER_PORT = "repush.source.snapshot.blob.transfer.port";
+
+  /**
+   * Timeout of the transfer of the snapshot of one partition from one host, before trying the next host.
+   */
+  public static final String REPUSH_SOURCE_SNAPSHOT_TRANSFER_TIMEOUT_MINUTES =
+      "repush.source.snapshot.transfer.timeout.minutes";
+  public static final int DEFAULT_REPUSH_SOURCE_SNAPSHOT_TRANSFER_TIMEOUT_MINUTES = 60;
+
+  /**
+   * Number of times all the hosts of a partition are tried, e.g. while they are busy serving other snapshots, before
+   * failing the task which reads the partition.
+   */
+  public static final String REPUSH_SOURCE_SNAPSHOT_FETCH_ATTEMPTS = "repush.source.snapshot.fetch.attempts";
+  public static final int DEFAULT_REPUSH_SOURCE_SNAPSHOT_FETCH_ATTEMPTS = 3;
+
+  /**
+   * Backoff before trying all the hosts of a partition again, doubled after each attempt.
+   */
+  public static final String REPUSH_SOURCE_SNAPSHOT_FETCH_RETRY_BACKOFF_MS =
+      "repush.source.snapshot.fetch.retry.backoff.ms";
+  public static final long DEFAULT_REPUSH_SOURCE_SNAPSHOT_FETCH_RETRY_BACKOFF_MS = 30000;
+
+  /**
+   * Set internally by VPJ: the hosts of the ready replicas of each source partition, and the RMD protocol version id of
+   * the source version.
+   */
+  public static final String REPUSH_SOURCE_SNAPSHOT_PARTITION_HOSTS = "repush.source.snapshot.partition.hosts";
+  public static final String REPUSH_SOURCE_SNAPSHOT_RMD_VERSION_ID = "repush.source.snapshot.rmd.version.id";
   /**
    * Optional.
    * If we want to use a different rewind time from the default store-level rewind time config for Kafka Input re-push,
@@ -17,6 +17,7 @@ import static com.linkedin.venice.vpj.VenicePushJobConstants.DEFAULT_VALUE_FIELD
 import static com.linkedin.venice.vpj.VenicePushJobConstants.DEFER_VERSION_SWAP;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.INCREMENTAL_PUSH;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.INPUT_PATH_PROP;
+import static com.linkedin.venice.vpj.VenicePushJobConstants.JOB_STATUS_LONG_POLL_ENABLED;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.KAFKA_INPUT_MAX_RECORDS_PER_MAPPER;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.KAFKA_INPUT_TOPIC;
 import static com.linkedin.venice.vpj.VenicePushJobConstants.KEY_FIELD_PROP;
@@ -70,12 +71,14 @@ import com.linkedin.venice.controllerapi.ControllerClient;
 import com.linkedin.venice.controllerapi.ControllerResponse;
 import com.linkedin.venice.controllerapi.D2ServiceDiscoveryResponse;
 import com.linkedin.venice.controllerapi.JobStatusQueryResponse;
+import com.linkedin.venice.controllerapi.MultiReplicaResponse;
 import com.linkedin.venice.controllerapi.MultiSchemaResponse;
 import com.linkedin.venice.controllerapi.SchemaResponse;
 import com.linkedin.venice.controllerapi.StoreResponse;
 import com.linkedin.venice.controllerapi.VersionCreationResponse;
 import com.linkedin.venice.etl.ETLValueSchemaTransformation;
 import com.linkedin.venice.exceptions.ConcurrentBatchPushException;
+import com.linkedin.venice.exceptions.ErrorType;
 import com.linkedin.venice.exceptions.UndefinedPropertyException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceStoreAclException;
@@ -83,9 +86,12 @@ import com.linkedin.venice.hadoop.exceptions.VeniceSchemaMismatchException;
 import com.linkedin.venice.hadoop.exceptions.VeniceValidationException;
 import com.linkedin.venice.hadoop.mapreduce.datawriter.jobs.DataWriterMRJob;
 import com.linkedin.venice.hadoop.task.datawriter.DataWriterTaskTracker;
+import com.linkedin.venice.helix.HelixState;
+import com.linkedin.venice.helix.Replica;
 import com.linkedin.venice.jobs.DataWriterComputeJob;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.meta.HybridStoreConfigImpl;
+import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.MaterializedViewParameters;
 import com.linkedin.venice.meta.StoreInfo;
 import com.linkedin.venice.meta.Version;
@@ -101,6 +107,7 @@ import com.linkedin.venice.spark.datawriter.jobs.DataWriterSparkJob;
 import com.linkedin.venice.status.PushJobDetailsStatus;
 import com.linkedin.venice.status.protocol.PushJobDetails;
 import com.linkedin.venice.status.protocol.PushJobDetailsStatusTuple;
+import com.linkedin.venice.utils.ConfigCommonUtils.ActivationState;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.TestWriteUtils;
 import com.linkedin.venice.utils.Time;
@@ -109,8 +116,10 @@ import com.linkedin.venice.views.MaterializedView;
 import com.linkedin.venice.views.ViewUtils;
 import com.linkedin.venice.writer.VeniceWriter;
 import java.io.File;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -343,6 +352,82 @@ public class VenicePushJobTest {
     vpj.validateAndSetRmdSchemas(mockClient, setting);
   }
 
+  @Test
+  public void testInitRepushSnapshotDetails() {
+    Version sourceVersion = new VersionImpl(TEST_STORE, 1, "test-push-id");
+    sourceVersion.setPartitionCount(2);
+    StoreInfo storeInfo = new StoreInfo();
+    storeInfo.setBlobTransferInServerEnabled(ActivationState.ENABLED.name());
+    ControllerClient client = mock(ControllerClient.class);
+    MultiReplicaResponse replicaResponse = new MultiReplicaResponse();
+    replicaResponse.setReplicas(
+        new Replica[] { getReplica("host1", 0, HelixState.LEADER), getReplica("host2", 0, HelixState.STANDBY),
+            getReplica("host3", 1, HelixState.LEADER), getReplica("host4", 1, HelixState.OFFLINE) });
+    when(client.listReplicas(TEST_STORE, 1)).thenReturn(replicaResponse);
+    VenicePushJob vpj = mock(VenicePushJob.class);
+    doCallRealMethod().when(vpj).initRepushSnapshotDetails(any(), any(), any());
+
+    PushJobSetting setting = getRepushSnapshotSetting(sourceVersion);
+    vpj.initRepushSnapshotDetails(client, setting, storeInfo);
+    assertTrue(setting.repushFromSnapshotEnabled);
+    Map<Integer, List<String>> expectedPartitionHosts = new HashMap<>();
+    expectedPartitionHosts.put(0, Arrays.asList("host1", "host2"));
+    expectedPartitionHosts.put(1, Collections.singletonList("host3"));
+    assertEquals(setting.repushSnapshotPartitionHosts, expectedPartitionHosts);
+
+    // A partition without any ready replica
+    replicaResponse.setReplicas(new Replica[] { getReplica("host1", 0, HelixState.LEADER) });
+    setting = getRepushSnapshotSetting(sourceVersion);
+    vpj.initRepushSnapshotDetails(client, setting, storeInfo);
+    assertFalse(setting.repushFromSnapshotEnabled);
+
+    // The replicas can't be listed
+    replicaResponse.setError("error");
+    setting = getRepushSnapshotSetting(sourceVersion);
+    vpj.initRepushSnapshotDetails(client, setting, storeInfo);
+    assertFalse(setting.repushFromSnapshotEnabled);
+
+    // TTL repush
+    setting = getRepushSnapshotSetting(sourceVersion);
+    setting.repushTTLEnabled = true;
+    vpj.initRepushSnapshotDetails(client, setting, storeInfo);
+    assertFalse(setting.repushFromSnapshotEnabled);
+
+    // Chunked source version
+    Version chunkedSourceVersion = new VersionImpl(TEST_STORE, 1, "test-push-id");
+    chunkedSourceVersion.setPartitionCount(2);
+    chunkedSourceVersion.setChunkingEnabled(true);
+    setting = getRepushSnapshotSetting(chunkedSourceVersion);
+    vpj.initRepushSnapshotDetails(client, setting, storeInfo);
+    assertFalse(setting.repushFromSnapshotEnabled);
+
+    // Blob transfer not enabled in the servers for the store
+    for (ActivationState state: Arrays.asList(ActivationState.NOT_SPECIFIED, ActivationState.DISABLED)) {
+      storeInfo.setBlobTransferInServerEnabled(state.name());
+      setting = getRepushSnapshotSetting(sourceVersion);
+      vpj.initRepushSnapshotDetails(client, setting, storeInfo);
+      assertFalse(setting.repushFromSnapshotEnabled);
+    }
+    verify(client, times(3)).listReplicas(TEST_STORE, 1);
+  }
+
+  private PushJobSetting getRepushSnapshotSetting(Version sourceVersion) {
+    PushJobSetting setting = new PushJobSetting();
+    setting.storeName = TEST_STORE;
+    setting.controllerRetries = 1;
+    setting.kafkaInputTopic = sourceVersion.kafkaTopicName();
+    setting.sourceKafkaInputVersionInfo = sourceVersion;
+    setting.repushFromSnapshotEnabled = true;
+    return setting;
+  }
+
+  private Replica getReplica(String host, int partition, HelixState state) {
+    Replica replica =
+        new Replica(Instance.fromHostAndPort(host, 1234), partition, Version.composeKafkaTopic(TEST_STORE, 1));
+    replica.setStatus(state);
+    return replica;
+  }
+
   @Test(expectedExceptions = VeniceException.class, expectedExceptionsMessageRegExp = ".*Repush with TTL is only supported while using Kafka Input Format.*")
   public void testRepushTTLJobWithNonKafkaInput() {
     Properties repushProps = new Properties();
@@ -1512,6 +1597,57 @@ public class VenicePushJobTest {
     getSpyVenicePushJob(props, getClient());
   }
 
+  @Test
+  public void testPollJobStatusWithLongPoll() throws Exception {
+    Properties properties = getVpjRequiredProperties();
+    properties.put(KEY_FIELD_PROP, "id");
+    properties.put(VALUE_FIELD_PROP, "name");
+    properties.put(JOB_STATUS_LONG_POLL_ENABLED, true);
+    JobStatusQueryResponse response = mockJobStatusQuery();
+    ControllerClient client = getClient();
+    doReturn(response).when(client)
+        .waitForOverallJobStatusChange(anyString(), any(), eq(null), anyBoolean(), eq(null), anyLong());
+    try (final VenicePushJob vpj = getSpyVenicePushJob(properties, client)) {
+      skipVPJValidation(vpj);
+      vpj.run();
+    }
+    verify(client, never()).queryOverallJobStatus(anyString(), any(), any(), anyBoolean());
+
+    // Polls the job status instead when waiting for its next change fails, and keeps waiting for the next changes
+    JobStatusQueryResponse startedResponse = mockJobStatusQuery();
+    startedResponse.setStatus(ExecutionStatus.STARTED.toString());
+    startedResponse.getExtraInfo().replaceAll((region, regionStatus) -> ExecutionStatus.STARTED.toString());
+    JobStatusQueryResponse transientErrorResponse = new JobStatusQueryResponse();
+    transientErrorResponse.setError("Timed out");
+    client = getClient();
+    doReturn(response).when(client)
+        .waitForOverallJobStatusChange(anyString(), any(), eq(null), anyBoolean(), anyString(), anyLong());
+    doReturn(transientErrorResponse).when(client)
+        .waitForOverallJobStatusChange(anyString(), any(), eq(null), anyBoolean(), eq(null), anyLong());
+    doReturn(startedResponse).when(client).queryOverallJobStatus(anyString(), any(), eq(null), anyBoolean());
+    try (final VenicePushJob vpj = getSpyVenicePushJob(properties, client)) {
+      skipVPJValidation(vpj);
+      vpj.run();
+    }
+    verify(client, times(2)).waitForOverallJobStatusChange(anyString(), any(), any(), anyBoolean(), any(), anyLong());
+    verify(client, times(1)).queryOverallJobStatus(anyString(), any(), any(), anyBoolean());
+
+    // Falls back to polling the job status if the controller doesn't support waiting for job status changes
+    JobStatusQueryResponse errorResponse = new JobStatusQueryResponse();
+    errorResponse.setError("Not found");
+    errorResponse.setErrorType(ErrorType.BAD_REQUEST);
+    client = getClient();
+    doReturn(errorResponse).when(client)
+        .waitForOverallJobStatusChange(anyString(), any(), eq(null), anyBoolean(), eq(null), anyLong());
+    doReturn(response).when(client).queryOverallJobStatus(anyString(), any(), eq(null), anyBoolean());
+    try (final VenicePushJob vpj = getSpyVenicePushJob(properties, client)) {
+      skipVPJValidation(vpj);
+      vpj.run();
+    }
+    verify(client, times(1)).waitForOverallJobStatusChange(anyString(), any(), any(), anyBoolean(), any(), anyLong());
+    verify(client, times(1)).queryOverallJobStatus(anyString(), any(), any(), anyBoolean());
+  }
+
   @Test
   public void testConfigureWithMaterializedViewConfigs() throws Exception {
     Properties properties = getVpjRequiredProperties();
@@ -0,0 +1,79 @@
+package com.linkedin.venice.spark.input.snapshot;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.expectThrows;
+
+import com.linkedin.davinci.blobtransfer.client.NettyFileTransferClient;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.Utils;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.testng.annotations.Test;
+
+
+public class VeniceSnapshotFetcherTest {
+  private static final String STORE_NAME = "test_store";
+  private static final int VERSION = 1;
+  private static final int PARTITION = 2;
+  private static final List<String> HOSTS = Arrays.asList("host1", "host2");
+
+  @Test
+  public void testFetchFromNextHost() {
+    String baseDir = Utils.getTempDataDirectory().getAbsolutePath();
+    NettyFileTransferClient transferClient = mock(NettyFileTransferClient.class);
+    when(transferClient.get(eq("host1"), anyString(), anyInt(), anyInt(), any())).thenReturn(failedTransfer());
+    when(transferClient.get(eq("host2"), anyString(), anyInt(), anyInt(), any()))
+        .thenReturn(CompletableFuture.completedFuture(mock(InputStream.class)));
+
+    VeniceSnapshotFetcher fetcher = new VeniceSnapshotFetcher(baseDir, 1, 3, 1, transferClient);
+    assertEquals(
+        fetcher.fetch(STORE_NAME, VERSION, PARTITION, HOSTS),
+        RocksDBUtils.composePartitionDbDir(baseDir, Version.composeKafkaTopic(STORE_NAME, VERSION), PARTITION));
+    verify(transferClient, times(1)).get(eq("host1"), anyString(), anyInt(), anyInt(), any());
+  }
+
+  @Test
+  public void testFetchRetriesAllHosts() {
+    String baseDir = Utils.getTempDataDirectory().getAbsolutePath();
+    NettyFileTransferClient transferClient = mock(NettyFileTransferClient.class);
+    // Both hosts are busy serving other snapshots on the first attempt
+    when(transferClient.get(anyString(), anyString(), anyInt(), anyInt(), any())).thenReturn(failedTransfer())
+        .thenReturn(failedTransfer())
+        .thenReturn(CompletableFuture.completedFuture(mock(InputStream.class)));
+
+    VeniceSnapshotFetcher fetcher = new VeniceSnapshotFetcher(baseDir, 1, 3, 1, transferClient);
+    fetcher.fetch(STORE_NAME, VERSION, PARTITION, HOSTS);
+    verify(transferClient, times(2)).get(eq("host1"), anyString(), anyInt(), anyInt(), any());
+    verify(transferClient, times(1)).get(eq("host2"), anyString(), anyInt(), anyInt(), any());
+  }
+
+  @Test
+  public void testFetchFailsAfterAllAttempts() {
+    String baseDir = Utils.getTempDataDirectory().getAbsolutePath();
+    NettyFileTransferClient transferClient = mock(NettyFileTransferClient.class);
+    when(transferClient.get(anyString(), anyString(), anyInt(), anyInt(), any())).thenAnswer(i -> failedTransfer());
+
+    VeniceSnapshotFetcher fetcher = new VeniceSnapshotFetcher(baseDir, 1, 2, 1, transferClient);
+    expectThrows(VeniceException.class, () -> fetcher.fetch(STORE_NAME, VERSION, PARTITION, HOSTS));
+    verify(transferClient, times(2)).get(eq("host1"), anyString(), anyInt(), anyInt(), any());
+    verify(transferClient, times(2)).get(eq("host2"), anyString(), anyInt(), anyInt(), any());
+  }
+
+  private static CompletableFuture<InputStream> failedTransfer() {
+    CompletableFuture<InputStream> future = new CompletableFuture<>();
+    future.completeExceptionally(new VeniceException("Failed to fetch file from remote peer. Response: 429"));
+    return future;
+  }
+}
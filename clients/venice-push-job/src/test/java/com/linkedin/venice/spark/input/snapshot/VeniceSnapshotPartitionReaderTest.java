@@ -0,0 +1,107 @@
+package com.linkedin.venice.spark.input.snapshot;
+
+import static com.linkedin.davinci.store.rocksdb.RocksDBStoragePartition.REPLICATION_METADATA_COLUMN_FAMILY;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.utils.Utils;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.DBOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.testng.annotations.Test;
+
+
+public class VeniceSnapshotPartitionReaderTest {
+  private static final int RMD_VERSION_ID = 3;
+
+  @Test
+  public void testReadMergesValuesAndRmd() throws Exception {
+    String snapshotDir = new File(Utils.getTempDataDirectory(), "snapshot").getAbsolutePath();
+    try (DBOptions options = new DBOptions().setCreateIfMissing(true).setCreateMissingColumnFamilies(true)) {
+      List<ColumnFamilyHandle> handles = new ArrayList<>();
+      try (RocksDB db = RocksDB.open(
+          options,
+          snapshotDir,
+          Arrays.asList(
+              new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY),
+              new ColumnFamilyDescriptor(REPLICATION_METADATA_COLUMN_FAMILY)),
+          handles)) {
+        // key1 has a value and an RMD, key2 only has a value and key3 has been deleted
+        db.put(handles.get(0), "key1".getBytes(), ValueRecord.create(1, "value1".getBytes()).serialize());
+        db.put(handles.get(1), "key1".getBytes(), ValueRecord.create(1, "rmd1".getBytes()).serialize());
+        db.put(handles.get(0), "key2".getBytes(), ValueRecord.create(2, "value2".getBytes()).serialize());
+        db.put(handles.get(1), "key3".getBytes(), ValueRecord.create(2, "rmd3".getBytes()).serialize());
+        handles.forEach(ColumnFamilyHandle::close);
+      }
+    }
+
+    AtomicBoolean cleanedUp = new AtomicBoolean(false);
+    VeniceSnapshotPartitionReader reader =
+        new VeniceSnapshotPartitionReader(snapshotDir, RMD_VERSION_ID, () -> cleanedUp.set(true));
+    assertTrue(reader.next());
+    assertRow(reader.get(), "key1", "value1", "rmd1", 1);
+    assertTrue(reader.next());
+    assertRow(reader.get(), "key2", "value2", null, 2);
+    assertTrue(reader.next());
+    assertRow(reader.get(), "key3", null, "rmd3", 2);
+    assertFalse(reader.next());
+    reader.close();
+    assertTrue(cleanedUp.get());
+  }
+
+  @Test
+  public void testReadWithoutRmdColumnFamily() throws Exception {
+    String snapshotDir = new File(Utils.getTempDataDirectory(), "snapshot").getAbsolutePath();
+    try (Options options = new Options().setCreateIfMissing(true);
+        RocksDB db = RocksDB.open(options, snapshotDir)) {
+      db.put("key1".getBytes(), ValueRecord.create(1, "value1".getBytes()).serialize());
+    }
+
+    VeniceSnapshotPartitionReader reader = new VeniceSnapshotPartitionReader(snapshotDir, -1, () -> {});
+    assertTrue(reader.next());
+    assertRow(reader.get(), "key1", "value1", null, 1);
+    assertEquals(reader.get().getInt(4), -1);
+    assertFalse(reader.next());
+    reader.close();
+  }
+
+  @Test
+  public void testEncodeAndDecodePartitionHosts() {
+    Map<Integer, List<String>> partitionHosts = new HashMap<>();
+    partitionHosts.put(1, Collections.singletonList("host2"));
+    partitionHosts.put(0, Arrays.asList("host1", "host2"));
+    String encoded = VeniceSnapshotSource.encodePartitionHosts(partitionHosts);
+    assertEquals(encoded, "0=host1,host2;1=host2");
+    assertEquals(VeniceSnapshotSource.decodePartitionHosts(encoded), partitionHosts);
+    assertTrue(VeniceSnapshotSource.decodePartitionHosts("").isEmpty());
+  }
+
+  private static void assertRow(InternalRow row, String key, String value, String rmd, int schemaId) {
+    assertEquals(new String(row.getBinary(0)), key);
+    if (value == null) {
+      assertNull(row.getBinary(1));
+    } else {
+      assertEquals(new String(row.getBinary(1)), value);
+    }
+    if (rmd == null) {
+      assertNull(row.getBinary(2));
+    } else {
+      assertEquals(new String(row.getBinary(2)), rmd);
+    }
+    assertEquals(row.getInt(3), schemaId);
+  }
+}
@@ -11,6 +11,7 @@ import com.linkedin.venice.client.store.InternalAvroStoreClient;
 import com.linkedin.venice.controllerapi.MultiSchemaIdResponse;
 import com.linkedin.venice.controllerapi.MultiSchemaResponse;
 import com.linkedin.venice.controllerapi.SchemaResponse;
+import com.linkedin.venice.routerapi.BatchStoreMetadataResponse;
 import com.linkedin.venice.schema.AvroSchemaParseUtils;
 import com.linkedin.venice.schema.SchemaData;
 import com.linkedin.venice.schema.SchemaEntry;
@@ -37,6 +38,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -86,6 +88,11 @@ public class RouterBackedSchemaReader implements SchemaReader {
   private final ScheduledExecutorService refreshSchemaExecutor;
   private final ScheduledFuture schemaRefreshFuture;
   private final ICProvider icProvider;
+  /**
+   * Refreshes the schemas along with the metadata of other stores instead of {@link #refreshSchemaExecutor}, if any.
+   */
+  private final RouterBasedBatchStoreMetadataFetcher storeMetadataFetcher;
+  private final Consumer<BatchStoreMetadataResponse.StoreMetadata> storeMetadataListener = this::applyStoreMetadata;
 
   RouterBackedSchemaReader(Supplier<InternalAvroStoreClient> clientSupplier) throws VeniceClientException {
     this(clientSupplier, Optional.empty(), Optional.empty());
@@ -120,7 +127,27 @@ public class RouterBackedSchemaReader implements SchemaReader {
       Optional<Predicate<Schema>> preferredSchemaFilter,
       Duration valueSchemaRefreshPeriod,
       ICProvider icProvider) {
-    this(clientSupplier.get(), false, readerSchema, preferredSchemaFilter, valueSchemaRefreshPeriod, icProvider);
+    this(clientSupplier, readerSchema, preferredSchemaFilter, valueSchemaRefreshPeriod, icProvider, null);
+  }
+
+  /**
+   * @param storeMetadataFetcher if not null, refreshes the schemas in place of the periodic refresh of this reader
+   */
+  public RouterBackedSchemaReader(
+      Supplier<InternalAvroStoreClient> clientSupplier,
+      Optional<Schema> readerSchema,
+      Optional<Predicate<Schema>> preferredSchemaFilter,
+      Duration valueSchemaRefreshPeriod,
+      ICProvider icProvider,
+      RouterBasedBatchStoreMetadataFetcher storeMetadataFetcher) {
+    this(
+        clientSupplier.get(),
+        false,
+        readerSchema,
+        preferredSchemaFilter,
+        valueSchemaRefreshPeriod,
+        icProvider,
+        storeMetadataFetcher);
   }
 
   public RouterBackedSchemaReader(
@@ -129,7 +156,7 @@ public class RouterBackedSchemaReader implements SchemaReader {
       Optional<Predicate<Schema>> preferredSchemaFilter,
       Duration valueSchemaRefreshPeriod,
       ICProvider icProvider) {
-    this(storeClient, true, readerSchema, preferredSchemaFilter, valueSchemaRefreshPeriod, icProvider);
+    this(storeClient, true, readerSchema, preferredSchemaFilter, valueSchemaRefreshPeriod, icProvider, null);
   }
 
   private RouterBackedSchemaReader(
@@ -138,7 +165,8 @@ public class RouterBackedSchemaReader implements SchemaReader {
       Optional<Schema> readerSchema,
       Optional<Predicate<Schema>> preferredSchemaFilter,
       Duration valueSchemaRefreshPeriod,
-      ICProvider icProvider) {
+      ICProvider icProvider,
+      RouterBasedBatchStoreMetadataFetcher storeMetadataFetcher) {
     this.storeClient = storeClient;
     this.externalClient = externalClient;
     this.storeName = this.storeClient.getStoreName();
@@ -146,8 +174,14 @@ public class RouterBackedSchemaReader implements SchemaReader {
     this.preferredSchemaFilter = preferredSchemaFilter.orElse(schema -> false);
     readerSchema.ifPresent(AvroSchemaUtils::validateAvroSchemaStr);
     this.icProvider = icProvider;
+    this.storeMetadataFetcher = storeMetadataFetcher;
 
-    if (valueSchemaRefreshPeriod.toMillis() > 0) {
+    if (storeMetadataFetcher != null) {
+      this.refreshSchemaExecutor = null;
+      this.schemaRefreshFuture = null;
+      // Applies the schemas known to the fetcher right away, the missing ones are fetched on demand
+      storeMetadataFetcher.subscribe(storeName, storeMetadataListener);
+    } else if (valueSchemaRefreshPeriod.toMillis() > 0) {
       this.refreshSchemaExecutor =
           Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("schema-refresh"));
       Runnable schemaRefresher = this::refreshAllSchemas;
@@ -269,6 +303,9 @@ public class RouterBackedSchemaReader implements SchemaReader {
 
   @Override
   public void close() throws IOException {
+    if (storeMetadataFetcher != null) {
+      storeMetadataFetcher.unsubscribe(storeName, storeMetadataListener);
+    }
     if (schemaRefreshFuture != null) {
       schemaRefreshFuture.cancel(true);
     }
@@ -385,7 +422,10 @@ public class RouterBackedSchemaReader implements SchemaReader {
   private void updateAllValueSchemaEntriesAndLatestValueSchemaEntry(boolean forceRefresh) {
     // This means all value schemas are refreshed, and we can derive latest value schema ID from local data.
     updateAllValueSchemas(forceRefresh);
+    updateLatestValueSchemaEntry();
+  }
 
+  private void updateLatestValueSchemaEntry() {
     /**
      * All the below logics are to derive the latest value schema ID.
      * It would be great to move the work into controller and ZK storage.
@@ -700,6 +740,38 @@ public class RouterBackedSchemaReader implements SchemaReader {
     return fetchSingleSchema(requestPath, false);
   }
 
+  /**
+   * Applies the schemas of the metadata refreshed by {@link #storeMetadataFetcher}. Schemas are immutable once
+   * registered, so only the new ones are cached.
+   */
+  private void applyStoreMetadata(BatchStoreMetadataResponse.StoreMetadata storeMetadata) {
+    if (keySchema == null && storeMetadata.getKeySchema() != null) {
+      keySchema = AvroCompatibilityHelper.parse(storeMetadata.getKeySchema().getSchemaStr());
+    }
+    for (MultiSchemaResponse.Schema schema: storeMetadata.getValueSchemas()) {
+      SchemaEntry oldEntry = valueSchemaEntryMap.get(schema.getId());
+      if (oldEntry != null && isValidSchemaEntry(oldEntry)) {
+        continue;
+      }
+      Schema writerSchema = preemptiveSchemaVerification(
+          AvroCompatibilityHelper.parse(schema.getSchemaStr()),
+          schema.getSchemaStr(),
+          schema.getId());
+      valueSchemaEntryMap.put(schema.getId(), new SchemaEntry(schema.getId(), writerSchema));
+      cacheValueAndCanonicalSchemas(writerSchema, schema.getId());
+    }
+    supersetSchemaIdAtomic.set(storeMetadata.getSuperSetSchemaId());
+    // Sorted by derived schema id, so that the latest update schema of each value schema is kept
+    for (MultiSchemaResponse.Schema schema: storeMetadata.getUpdateSchemas()) {
+      valueSchemaIdToUpdateSchemaEntryMap.put(
+          schema.getId(),
+          new DerivedSchemaEntry(schema.getId(), schema.getDerivedSchemaId(), schema.getSchemaStr()));
+    }
+    synchronized (this) {
+      updateLatestValueSchemaEntry();
+    }
+  }
+
   private void refreshAllSchemas() throws VeniceClientException {
     updateAllValueSchemaEntriesAndLatestValueSchemaEntry(true);
     if (!valueSchemaIdToUpdateSchemaEntryMap.isEmpty()) {
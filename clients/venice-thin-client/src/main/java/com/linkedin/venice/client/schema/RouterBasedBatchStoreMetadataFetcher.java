@@ -0,0 +1,286 @@
+package com.linkedin.venice.client.schema;
+
+import static com.linkedin.venice.VeniceConstants.TYPE_BATCH_STORE_METADATA;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.venice.client.store.AbstractAvroStoreClient;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.routerapi.BatchStoreMetadataResponse;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.ObjectMapperFactory;
+import com.linkedin.venice.utils.RetryUtils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.commons.io.IOUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Router based fetcher of the metadata of multiple stores, i.e. their schemas, current version, partitioner config and
+ * routing info, in a single request instead of a request per store and per schema.
+ *
+ * The last metadata received for each store is kept along with its etag, which is sent back to the router on the next
+ * {@link #refresh} so that only the metadata of the stores which have changed since is transferred. All the stores
+ * need to be in the same cluster as the store of the provided client, since its routers are used for the requests.
+ * The stores are split across several requests when needed to keep the request line within the limit of the router.
+ *
+ * A fetcher shared by all the clients of the same routers is given by {@link #getSharedFetcher}. The stores subscribed
+ * to it are refreshed together in the background, and their listeners are notified of the new metadata.
+ */
+public class RouterBasedBatchStoreMetadataFetcher implements Closeable {
+  /**
+   * Max length of the stores param of a request, which keeps the request line well below the max initial line length
+   * of the router (4096 bytes by default).
+   */
+  static final int MAX_STORES_PARAM_LENGTH = 2048;
+  private static final Logger LOGGER = LogManager.getLogger(RouterBasedBatchStoreMetadataFetcher.class);
+  private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getInstance();
+  /**
+   * Shared fetchers by the routers they send their requests to, see {@link #getSharedFetcher}.
+   */
+  private static final Map<String, RouterBasedBatchStoreMetadataFetcher> SHARED_FETCHERS = new HashMap<>();
+
+  // Ignore the unknown field while parsing the json response.
+  static {
+    OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+  }
+
+  private final AbstractAvroStoreClient storeClient;
+  private final Map<String, BatchStoreMetadataResponse.StoreMetadata> storeMetadataMap =
+      new VeniceConcurrentHashMap<>();
+  private final Map<String, Set<Consumer<BatchStoreMetadataResponse.StoreMetadata>>> storeListeners =
+      new VeniceConcurrentHashMap<>();
+  /**
+   * The key of the fetcher in {@link #SHARED_FETCHERS}, or null if it isn't shared.
+   */
+  private final String sharedFetcherKey;
+  // Guarded by SHARED_FETCHERS
+  private int referenceCount = 0;
+  private final ScheduledExecutorService refreshExecutor;
+
+  public RouterBasedBatchStoreMetadataFetcher(AbstractAvroStoreClient client) {
+    this.storeClient = client;
+    this.sharedFetcherKey = null;
+    this.refreshExecutor = null;
+  }
+
+  private RouterBasedBatchStoreMetadataFetcher(
+      AbstractAvroStoreClient client,
+      String sharedFetcherKey,
+      Duration refreshPeriod) {
+    this.storeClient = client;
+    this.sharedFetcherKey = sharedFetcherKey;
+    this.refreshExecutor =
+        Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("batch-store-metadata-refresh"));
+    this.refreshExecutor.scheduleWithFixedDelay(
+        this::refreshSubscribedStores,
+        refreshPeriod.toMillis(),
+        refreshPeriod.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Gets the fetcher shared by all the clients of the given routers, which is created on the first call. Each call
+   * needs to be matched by a {@link #release}.
+   *
+   * @param routerKey identifies the routers of a cluster, e.g. their D2 service or URL
+   * @param clientSupplier supplies the client of the fetcher if it's created, which is then owned by the fetcher
+   * @param refreshPeriod the period of the refresh of the subscribed stores if the fetcher is created
+   */
+  public static RouterBasedBatchStoreMetadataFetcher getSharedFetcher(
+      String routerKey,
+      Supplier<AbstractAvroStoreClient> clientSupplier,
+      Duration refreshPeriod) {
+    synchronized (SHARED_FETCHERS) {
+      RouterBasedBatchStoreMetadataFetcher fetcher = SHARED_FETCHERS.get(routerKey);
+      if (fetcher == null) {
+        fetcher = new RouterBasedBatchStoreMetadataFetcher(clientSupplier.get(), routerKey, refreshPeriod);
+        SHARED_FETCHERS.put(routerKey, fetcher);
+      }
+      fetcher.referenceCount++;
+      return fetcher;
+    }
+  }
+
+  /**
+   * Releases a fetcher given by {@link #getSharedFetcher}, which is closed once released by all its users.
+   */
+  public void release() {
+    if (sharedFetcherKey == null) {
+      throw new IllegalStateException("Only a shared fetcher can be released");
+    }
+    synchronized (SHARED_FETCHERS) {
+      if (--referenceCount > 0) {
+        return;
+      }
+      SHARED_FETCHERS.remove(sharedFetcherKey, this);
+    }
+    IOUtils.closeQuietly(this, LOGGER::error);
+  }
+
+  /**
+   * Subscribes the listener to the metadata of the store, which is refreshed along with the other subscribed stores
+   * from now on. The listener is called with the current metadata of the store, if any, before returning.
+   */
+  public void subscribe(String storeName, Consumer<BatchStoreMetadataResponse.StoreMetadata> listener) {
+    storeListeners.compute(storeName, (store, listeners) -> {
+      Set<Consumer<BatchStoreMetadataResponse.StoreMetadata>> newListeners =
+          listeners == null ? new CopyOnWriteArraySet<>() : listeners;
+      newListeners.add(listener);
+      return newListeners;
+    });
+    BatchStoreMetadataResponse.StoreMetadata storeMetadata = storeMetadataMap.get(storeName);
+    if (storeMetadata == null) {
+      try {
+        storeMetadata = refresh(Collections.singletonList(storeName)).get(storeName);
+      } catch (Exception e) {
+        // The store is fetched again on the next refresh
+        LOGGER.warn("Failed to fetch the metadata of store: {}", storeName, e);
+      }
+    }
+    if (storeMetadata != null) {
+      listener.accept(storeMetadata);
+    }
+  }
+
+  public void unsubscribe(String storeName, Consumer<BatchStoreMetadataResponse.StoreMetadata> listener) {
+    storeListeners.computeIfPresent(storeName, (store, listeners) -> {
+      listeners.remove(listener);
+      if (listeners.isEmpty()) {
+        storeMetadataMap.remove(storeName);
+        return null;
+      }
+      return listeners;
+    });
+  }
+
+  /**
+   * Refreshes all the subscribed stores, and notifies the listeners of the stores which have changed.
+   */
+  void refreshSubscribedStores() {
+    Map<String, BatchStoreMetadataResponse.StoreMetadata> changedStoreMetadata;
+    try {
+      changedStoreMetadata = refresh(new ArrayList<>(storeListeners.keySet()));
+    } catch (Exception e) {
+      LOGGER.warn("Failed to refresh the metadata of {} stores", storeListeners.size(), e);
+      return;
+    }
+    for (Map.Entry<String, BatchStoreMetadataResponse.StoreMetadata> entry: changedStoreMetadata.entrySet()) {
+      for (Consumer<BatchStoreMetadataResponse.StoreMetadata> listener: storeListeners
+          .getOrDefault(entry.getKey(), Collections.emptySet())) {
+        try {
+          listener.accept(entry.getValue());
+        } catch (Exception e) {
+          LOGGER.warn("Failed to apply the new metadata of store: {}", entry.getKey(), e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Fetches the metadata of the given stores which has changed since the previous refresh.
+   *
+   * @return the new metadata of the stores which have changed, or which weren't fetched before, by store name
+   */
+  public Map<String, BatchStoreMetadataResponse.StoreMetadata> refresh(Collection<String> storeNames) {
+    if (storeNames.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    Map<String, BatchStoreMetadataResponse.StoreMetadata> changedStoreMetadata = new HashMap<>();
+    StringBuilder stores = new StringBuilder();
+    for (String storeName: storeNames) {
+      String store = storeName;
+      BatchStoreMetadataResponse.StoreMetadata storeMetadata = storeMetadataMap.get(storeName);
+      if (storeMetadata != null) {
+        store += BatchStoreMetadataResponse.ETAG_SEPARATOR + storeMetadata.getEtag();
+      }
+      if (stores.length() > 0) {
+        if (stores.length() + BatchStoreMetadataResponse.STORE_SEPARATOR.length() + store.length()
+            > MAX_STORES_PARAM_LENGTH) {
+          changedStoreMetadata.putAll(fetchStoreMetadata(stores.toString()));
+          stores.setLength(0);
+        } else {
+          stores.append(BatchStoreMetadataResponse.STORE_SEPARATOR);
+        }
+      }
+      stores.append(store);
+    }
+    changedStoreMetadata.putAll(fetchStoreMetadata(stores.toString()));
+    return changedStoreMetadata;
+  }
+
+  /**
+   * Fetches the metadata of the stores of a single request.
+   *
+   * @param stores the value of the stores param of the request
+   */
+  private Map<String, BatchStoreMetadataResponse.StoreMetadata> fetchStoreMetadata(String stores) {
+    String requestPath = TYPE_BATCH_STORE_METADATA + "?" + BatchStoreMetadataResponse.STORES + "=" + stores;
+    BatchStoreMetadataResponse batchStoreMetadataResponse;
+    byte[] response = executeRequest(requestPath);
+    try {
+      batchStoreMetadataResponse = OBJECT_MAPPER.readValue(response, BatchStoreMetadataResponse.class);
+    } catch (Exception e) {
+      throw new VeniceException("Got exception while deserializing response", e);
+    }
+    if (batchStoreMetadataResponse.isError()) {
+      throw new VeniceException(
+          "Received an error while fetching store metadata from path: " + requestPath + ", error message: "
+              + batchStoreMetadataResponse.getError());
+    }
+    storeMetadataMap.putAll(batchStoreMetadataResponse.getStoreMetadata());
+    batchStoreMetadataResponse.getMissingStores().forEach(storeMetadataMap::remove);
+    return batchStoreMetadataResponse.getStoreMetadata();
+  }
+
+  /**
+   * @return the metadata of the given store as of the last {@link #refresh}, or null if it hasn't been fetched
+   */
+  public BatchStoreMetadataResponse.StoreMetadata getStoreMetadata(String storeName) {
+    return storeMetadataMap.get(storeName);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (refreshExecutor != null) {
+      refreshExecutor.shutdownNow();
+    }
+    storeClient.close();
+  }
+
+  private byte[] executeRequest(String requestPath) {
+    byte[] response;
+    try {
+      response = RetryUtils.executeWithMaxAttempt(
+          () -> ((CompletableFuture<byte[]>) storeClient.getRaw(requestPath)).get(),
+          3,
+          Duration.ofSeconds(5),
+          Collections.singletonList(ExecutionException.class));
+    } catch (Exception e) {
+      throw new VeniceException("Failed to fetch store metadata from path " + requestPath, e);
+    }
+
+    if (response == null) {
+      throw new VeniceException("Requested store metadata doesn't exist for request path: " + requestPath);
+    }
+    return response;
+  }
+}
@@ -3,6 +3,7 @@ package com.linkedin.venice.client.store;
 import com.linkedin.venice.client.exceptions.ServiceDiscoveryException;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.schema.RouterBackedSchemaReader;
+import com.linkedin.venice.client.schema.RouterBasedBatchStoreMetadataFetcher;
 import com.linkedin.venice.client.stats.ClientStats;
 import com.linkedin.venice.client.stats.Reporter;
 import com.linkedin.venice.client.store.streaming.ClientComputeRecordStreamDecoder;
@@ -68,6 +69,8 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
   protected final boolean needSchemaReader;
   /** Used to communicate with Venice backend to retrieve necessary store schemas */
   private SchemaReader schemaReader;
+  /** Refreshes the schemas along with the ones of other stores, if enabled */
+  private RouterBasedBatchStoreMetadataFetcher storeMetadataFetcher;
   // Key serializer
   protected volatile RecordSerializer<K> keySerializer;
   // Multi-get request serializer
@@ -247,7 +250,11 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
         stats,
         preRequestTimeInNS,
         true,
-        () -> transportClient.get(requestPath, RequestHeadersProvider.getThinClientGetHeaderMap()),
+        () -> transportClient.get(
+            requestPath,
+            RequestHeadersProvider.addRequestDeadlineHeader(
+                RequestHeadersProvider.getThinClientGetHeaderMap(),
+                clientConfig.getRequestTimeoutInMs())),
         (response, throwable, responseCompleteReporter) -> {
           try {
             if (throwable != null) {
@@ -511,10 +518,12 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
     byte[] serializedRequest = serializeComputeRequest(computeRequest, keyList, stats);
     transportClient.streamPost(
         getComputeRequestPath(),
-        RequestHeadersProvider.getStreamingComputeHeaderMap(
-            keyList.size(),
-            computeRequest.getValueSchemaID(),
-            clientConfig.isRemoteComputationOnly()),
+        RequestHeadersProvider.addRequestDeadlineHeader(
+            RequestHeadersProvider.getStreamingComputeHeaderMap(
+                keyList.size(),
+                computeRequest.getValueSchemaID(),
+                clientConfig.isRemoteComputationOnly()),
+            clientConfig.getRequestTimeoutInMs()),
         serializedRequest,
         callback,
         keyList.size());
@@ -586,12 +595,14 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
        * When the schema reader is disabled, we shouldn't try to initialize the serializers or refresh key/value schemas
        * since it might cause a deadlock.
        */
+      this.storeMetadataFetcher = getSharedStoreMetadataFetcher();
       this.schemaReader = new RouterBackedSchemaReader(
           this::getStoreClientForSchemaReader,
           getReaderSchema(),
           clientConfig.getPreferredSchemaFilter(),
           clientConfig.getSchemaRefreshPeriod(),
-          null);
+          null,
+          storeMetadataFetcher);
 
       Throwable lastException;
       int retryCount = 0;
@@ -631,6 +642,28 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
     }
   }
 
+  /**
+   * @return the store metadata fetcher shared with the other clients of the same routers if the batch refresh is
+   *         enabled, or null
+   */
+  private RouterBasedBatchStoreMetadataFetcher getSharedStoreMetadataFetcher() {
+    if (!clientConfig.isBatchStoreMetadataRefreshEnabled() || clientConfig.getSchemaRefreshPeriod().toMillis() <= 0) {
+      return null;
+    }
+    String routerKey;
+    if (transportClient instanceof D2TransportClient) {
+      if (clientConfig.getD2Client() == null) {
+        // The private D2 client of this client is shut down along with it, so it can't be shared
+        return null;
+      }
+      routerKey = ((D2TransportClient) transportClient).getServiceName();
+    } else {
+      routerKey = clientConfig.getVeniceURL();
+    }
+    return RouterBasedBatchStoreMetadataFetcher
+        .getSharedFetcher(routerKey, this::getStoreClientForSchemaReader, clientConfig.getSchemaRefreshPeriod());
+  }
+
   /**
    * The behavior of READ apis will be non-deterministic after `close` function is called.
    */
@@ -638,6 +671,9 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
   public void close() {
     IOUtils.closeQuietly(transportClient, LOGGER::error);
     IOUtils.closeQuietly(schemaReader, LOGGER::error);
+    if (storeMetadataFetcher != null) {
+      storeMetadataFetcher.release();
+    }
     IOUtils.closeQuietly(compressorFactory, LOGGER::error);
   }
 
@@ -714,7 +750,9 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
     byte[] serializedRequest = serializeMultiGetRequest(keyList, stats);
     transportClient.streamPost(
         getStorageRequestPath(),
-        RequestHeadersProvider.getThinClientStreamingBatchGetHeaders(keyList.size()),
+        RequestHeadersProvider.addRequestDeadlineHeader(
+            RequestHeadersProvider.getThinClientStreamingBatchGetHeaders(keyList.size()),
+            clientConfig.getRequestTimeoutInMs()),
         serializedRequest,
         callback,
         keyList.size());
@@ -54,11 +54,13 @@ public class ClientConfig<T extends SpecificRecord> {
   private int retryCount = 1;
   private long retryBackOffInMs = 0;
   private Executor retryExecutor = null;
+  private long requestTimeoutInMs = 0;
   private boolean useBlackHoleDeserializer = false;
   private boolean forceClusterDiscoveryAtStartTime = false;
   private boolean projectionFieldValidation = true;
   private boolean remoteComputationOnly = false;
   private Duration schemaRefreshPeriod = DEFAULT_SCHEMA_REFRESH_PERIOD;
+  private boolean batchStoreMetadataRefreshEnabled = false;
   private Optional<Predicate<Schema>> preferredSchemaFilter = Optional.empty();
 
   // Security settings
@@ -122,6 +124,7 @@ public class ClientConfig<T extends SpecificRecord> {
         .setRetryCount(config.getRetryCount())
         .setRetryBackOffInMs(config.getRetryBackOffInMs())
         .setRetryExecutor(config.getRetryExecutor())
+        .setRequestTimeoutInMs(config.getRequestTimeoutInMs())
         .setUseBlackHoleDeserializer(config.isUseBlackHoleDeserializer())
         // Security settings
         .setHttps(config.isHttps())
@@ -130,6 +133,7 @@ public class ClientConfig<T extends SpecificRecord> {
         .setProjectionFieldValidationEnabled(config.isProjectionFieldValidationEnabled())
         .setPreferredSchemaFilter(config.getPreferredSchemaFilter().orElse(null))
         .setSchemaRefreshPeriod(config.getSchemaRefreshPeriod())
+        .setBatchStoreMetadataRefreshEnabled(config.isBatchStoreMetadataRefreshEnabled())
 
         // HttpTransport settings
         .setMaxConnectionsPerRoute(config.getMaxConnectionsPerRoute())
@@ -464,6 +468,19 @@ public class ClientConfig<T extends SpecificRecord> {
     return retryBackOffInMs;
   }
 
+  /**
+   * The time budget of each request, which is propagated to Router and storage nodes as an absolute deadline, so that
+   * the backend could stop working on the requests past the deadline. 0 means no deadline.
+   */
+  public ClientConfig<T> setRequestTimeoutInMs(long requestTimeoutInMs) {
+    this.requestTimeoutInMs = requestTimeoutInMs;
+    return this;
+  }
+
+  public long getRequestTimeoutInMs() {
+    return requestTimeoutInMs;
+  }
+
   public Executor getRetryExecutor() {
     return retryExecutor;
   }
@@ -518,6 +535,19 @@ public class ClientConfig<T extends SpecificRecord> {
     return this;
   }
 
+  public boolean isBatchStoreMetadataRefreshEnabled() {
+    return batchStoreMetadataRefreshEnabled;
+  }
+
+  /**
+   * When enabled, the schemas are refreshed together with the ones of the other stores of the same routers, in a few
+   * batch requests per {@link #getSchemaRefreshPeriod()}, instead of several requests per store.
+   */
+  public ClientConfig<T> setBatchStoreMetadataRefreshEnabled(boolean batchStoreMetadataRefreshEnabled) {
+    this.batchStoreMetadataRefreshEnabled = batchStoreMetadataRefreshEnabled;
+    return this;
+  }
+
   public Time getTime() {
     return time;
   }
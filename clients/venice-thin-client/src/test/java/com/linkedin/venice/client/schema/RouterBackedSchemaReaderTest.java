@@ -26,6 +26,7 @@ import com.linkedin.venice.meta.RoutingStrategy;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.meta.VersionImpl;
 import com.linkedin.venice.meta.ZKStore;
+import com.linkedin.venice.routerapi.BatchStoreMetadataResponse;
 import com.linkedin.venice.schema.SchemaData;
 import com.linkedin.venice.schema.SchemaReader;
 import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
@@ -36,6 +37,7 @@ import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Utils;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -46,6 +48,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import org.apache.avro.Schema;
 import org.mockito.Mockito;
 import org.testng.Assert;
@@ -522,6 +525,62 @@ public class RouterBackedSchemaReaderTest {
     }
   }
 
+  @Test
+  public void testSchemasRefreshedByStoreMetadataFetcher() throws IOException {
+    AbstractAvroStoreClient mockClient = mock(AbstractAvroStoreClient.class);
+    Mockito.doReturn(storeName).when(mockClient).getStoreName();
+    BatchStoreMetadataResponse.StoreMetadata storeMetadata = new BatchStoreMetadataResponse.StoreMetadata();
+    storeMetadata.setKeySchema(toMultiSchemaResponseSchema(1, KEY_SCHEMA.toString()));
+    storeMetadata.setValueSchemas(
+        new MultiSchemaResponse.Schema[] { toMultiSchemaResponseSchema(1, VALUE_SCHEMA_1.toString()) });
+    storeMetadata.setSuperSetSchemaId(SchemaData.INVALID_VALUE_SCHEMA_ID);
+    MultiSchemaResponse.Schema updateSchema = toMultiSchemaResponseSchema(1, UPDATE_SCHEMA_1.toString());
+    updateSchema.setDerivedSchemaId(1);
+    storeMetadata.setUpdateSchemas(new MultiSchemaResponse.Schema[] { updateSchema });
+
+    RouterBasedBatchStoreMetadataFetcher storeMetadataFetcher = mock(RouterBasedBatchStoreMetadataFetcher.class);
+    List<Consumer<BatchStoreMetadataResponse.StoreMetadata>> listeners = new ArrayList<>();
+    doAnswer(invocation -> {
+      Consumer<BatchStoreMetadataResponse.StoreMetadata> listener = invocation.getArgument(1);
+      listeners.add(listener);
+      listener.accept(storeMetadata);
+      return null;
+    }).when(storeMetadataFetcher).subscribe(eq(storeName), Mockito.any());
+
+    try (SchemaReader schemaReader = new RouterBackedSchemaReader(
+        () -> mockClient,
+        Optional.empty(),
+        Optional.empty(),
+        Duration.ofSeconds(1),
+        null,
+        storeMetadataFetcher)) {
+      Assert.assertEquals(listeners.size(), 1);
+      Assert.assertEquals(schemaReader.getKeySchema(), KEY_SCHEMA);
+      Assert.assertEquals(schemaReader.getLatestValueSchemaId().intValue(), 1);
+      Assert.assertEquals(schemaReader.getValueSchema(1), VALUE_SCHEMA_1);
+      Assert.assertEquals(schemaReader.getLatestUpdateSchema().getSchema(), UPDATE_SCHEMA_1);
+
+      // A new value schema is picked up from the refreshed metadata
+      MultiSchemaResponse.Schema valueSchema1 = toMultiSchemaResponseSchema(1, VALUE_SCHEMA_1.toString());
+      MultiSchemaResponse.Schema valueSchema2 = toMultiSchemaResponseSchema(2, VALUE_SCHEMA_2.toString());
+      storeMetadata.setValueSchemas(new MultiSchemaResponse.Schema[] { valueSchema1, valueSchema2 });
+      listeners.get(0).accept(storeMetadata);
+      Assert.assertEquals(schemaReader.getLatestValueSchemaId().intValue(), 2);
+      Assert.assertEquals(schemaReader.getValueSchemaId(VALUE_SCHEMA_2), 2);
+      // Everything came from the fetcher, and the reader doesn't refresh the schemas by itself
+      Utils.sleep(1500);
+      Mockito.verify(mockClient, Mockito.never()).getRaw(Mockito.anyString());
+    }
+    Mockito.verify(storeMetadataFetcher).unsubscribe(eq(storeName), eq(listeners.get(0)));
+  }
+
+  private static MultiSchemaResponse.Schema toMultiSchemaResponseSchema(int id, String schemaStr) {
+    MultiSchemaResponse.Schema schema = new MultiSchemaResponse.Schema();
+    schema.setId(id);
+    schema.setSchemaStr(schemaStr);
+    return schema;
+  }
+
   private AbstractAvroStoreClient getMockStoreClient(boolean updateEnabled)
       throws IOException, ExecutionException, InterruptedException {
     return getMockStoreClient(updateEnabled, 0);
@@ -0,0 +1,174 @@
+package com.linkedin.venice.client.schema;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.venice.client.store.AbstractAvroStoreClient;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.routerapi.BatchStoreMetadataResponse;
+import com.linkedin.venice.utils.ObjectMapperFactory;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class RouterBasedBatchStoreMetadataFetcherTest {
+  private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getInstance();
+
+  @Test
+  public void testRefresh() throws IOException {
+    AbstractAvroStoreClient mockClient = Mockito.mock(AbstractAvroStoreClient.class);
+    BatchStoreMetadataResponse.StoreMetadata storeMetadata1 = createStoreMetadata("etag1", 1);
+    BatchStoreMetadataResponse.StoreMetadata storeMetadata2 = createStoreMetadata("etag2", 3);
+
+    BatchStoreMetadataResponse initialResponse = new BatchStoreMetadataResponse();
+    initialResponse.getStoreMetadata().put("store1", storeMetadata1);
+    initialResponse.getStoreMetadata().put("store2", storeMetadata2);
+    initialResponse.getMissingStores().add("store3");
+    Mockito.doReturn(CompletableFuture.completedFuture(OBJECT_MAPPER.writeValueAsBytes(initialResponse)))
+        .when(mockClient)
+        .getRaw("batch_store_metadata?stores=store1,store2,store3");
+
+    RouterBasedBatchStoreMetadataFetcher fetcher = new RouterBasedBatchStoreMetadataFetcher(mockClient);
+    Map<String, BatchStoreMetadataResponse.StoreMetadata> changedStoreMetadata =
+        fetcher.refresh(Arrays.asList("store1", "store2", "store3"));
+    Assert.assertEquals(changedStoreMetadata.size(), 2);
+    Assert.assertEquals(changedStoreMetadata.get("store1").getCurrentVersion(), 1);
+    Assert.assertEquals(fetcher.getStoreMetadata("store2").getCurrentVersion(), 3);
+    Assert.assertNull(fetcher.getStoreMetadata("store3"));
+
+    // The etags of the known stores are sent along, and only the changed stores are returned
+    BatchStoreMetadataResponse refreshResponse = new BatchStoreMetadataResponse();
+    refreshResponse.getStoreMetadata().put("store2", createStoreMetadata("etag3", 4));
+    Mockito.doReturn(CompletableFuture.completedFuture(OBJECT_MAPPER.writeValueAsBytes(refreshResponse)))
+        .when(mockClient)
+        .getRaw("batch_store_metadata?stores=store1:etag1,store2:etag2");
+    changedStoreMetadata = fetcher.refresh(Arrays.asList("store1", "store2"));
+    Assert.assertEquals(changedStoreMetadata.keySet(), Collections.singleton("store2"));
+    Assert.assertEquals(fetcher.getStoreMetadata("store1").getCurrentVersion(), 1);
+    Assert.assertEquals(fetcher.getStoreMetadata("store2").getCurrentVersion(), 4);
+    Assert.assertEquals(fetcher.getStoreMetadata("store2").getEtag(), "etag3");
+  }
+
+  @Test
+  public void testRefreshWithErrorResponse() throws IOException {
+    AbstractAvroStoreClient mockClient = Mockito.mock(AbstractAvroStoreClient.class);
+    BatchStoreMetadataResponse errorResponse = new BatchStoreMetadataResponse();
+    errorResponse.setError("Resource name required");
+    Mockito.doReturn(CompletableFuture.completedFuture(OBJECT_MAPPER.writeValueAsBytes(errorResponse)))
+        .when(mockClient)
+        .getRaw("batch_store_metadata?stores=store1");
+
+    RouterBasedBatchStoreMetadataFetcher fetcher = new RouterBasedBatchStoreMetadataFetcher(mockClient);
+    Assert.assertThrows(VeniceException.class, () -> fetcher.refresh(Collections.singletonList("store1")));
+    Assert.assertNull(fetcher.getStoreMetadata("store1"));
+  }
+
+  @Test
+  public void testRefreshInMultipleRequests() throws IOException {
+    AbstractAvroStoreClient mockClient = Mockito.mock(AbstractAvroStoreClient.class);
+    String requestPathPrefix = "batch_store_metadata?stores=";
+    List<String> requestPaths = new ArrayList<>();
+    Mockito.doAnswer(invocation -> {
+      String requestPath = invocation.getArgument(0);
+      requestPaths.add(requestPath);
+      BatchStoreMetadataResponse response = new BatchStoreMetadataResponse();
+      for (String store: requestPath.substring(requestPathPrefix.length()).split(",")) {
+        response.getStoreMetadata().put(store, createStoreMetadata("etag", 1));
+      }
+      return CompletableFuture.completedFuture(OBJECT_MAPPER.writeValueAsBytes(response));
+    }).when(mockClient).getRaw(Mockito.anyString());
+
+    List<String> storeNames = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      storeNames.add(String.format("store_with_a_rather_long_name_%03d", i));
+    }
+    RouterBasedBatchStoreMetadataFetcher fetcher = new RouterBasedBatchStoreMetadataFetcher(mockClient);
+    Map<String, BatchStoreMetadataResponse.StoreMetadata> changedStoreMetadata = fetcher.refresh(storeNames);
+    Assert.assertEquals(changedStoreMetadata.keySet(), new HashSet<>(storeNames));
+    Assert.assertTrue(requestPaths.size() > 1);
+    int maxRequestPathLength =
+        requestPathPrefix.length() + RouterBasedBatchStoreMetadataFetcher.MAX_STORES_PARAM_LENGTH;
+    for (String requestPath: requestPaths) {
+      Assert.assertTrue(requestPath.length() <= maxRequestPathLength, requestPath);
+    }
+  }
+
+  @Test
+  public void testSubscribe() throws IOException {
+    AbstractAvroStoreClient mockClient = Mockito.mock(AbstractAvroStoreClient.class);
+    BatchStoreMetadataResponse initialResponse = new BatchStoreMetadataResponse();
+    initialResponse.getStoreMetadata().put("store1", createStoreMetadata("etag1", 1));
+    Mockito.doReturn(CompletableFuture.completedFuture(OBJECT_MAPPER.writeValueAsBytes(initialResponse)))
+        .when(mockClient)
+        .getRaw("batch_store_metadata?stores=store1");
+
+    RouterBasedBatchStoreMetadataFetcher fetcher = new RouterBasedBatchStoreMetadataFetcher(mockClient);
+    List<Integer> currentVersions = new ArrayList<>();
+    Consumer<BatchStoreMetadataResponse.StoreMetadata> listener =
+        storeMetadata -> currentVersions.add(storeMetadata.getCurrentVersion());
+    // The listener is given the current metadata on subscription
+    fetcher.subscribe("store1", listener);
+    Assert.assertEquals(currentVersions, Collections.singletonList(1));
+
+    // and then the metadata of the subscribed stores which has changed
+    BatchStoreMetadataResponse refreshResponse = new BatchStoreMetadataResponse();
+    refreshResponse.getStoreMetadata().put("store1", createStoreMetadata("etag2", 2));
+    Mockito.doReturn(CompletableFuture.completedFuture(OBJECT_MAPPER.writeValueAsBytes(refreshResponse)))
+        .when(mockClient)
+        .getRaw("batch_store_metadata?stores=store1:etag1");
+    fetcher.refreshSubscribedStores();
+    Assert.assertEquals(currentVersions, Arrays.asList(1, 2));
+
+    // An unsubscribed store is no longer refreshed
+    fetcher.unsubscribe("store1", listener);
+    fetcher.refreshSubscribedStores();
+    Assert.assertEquals(currentVersions, Arrays.asList(1, 2));
+    Assert.assertNull(fetcher.getStoreMetadata("store1"));
+    Mockito.verify(mockClient, Mockito.times(2)).getRaw(Mockito.anyString());
+  }
+
+  @Test
+  public void testSharedFetcher() {
+    AbstractAvroStoreClient mockClient = Mockito.mock(AbstractAvroStoreClient.class);
+    Supplier<AbstractAvroStoreClient> clientSupplier = Mockito.mock(Supplier.class);
+    Mockito.doReturn(mockClient).when(clientSupplier).get();
+    String routerKey = "testSharedFetcher";
+
+    RouterBasedBatchStoreMetadataFetcher fetcher =
+        RouterBasedBatchStoreMetadataFetcher.getSharedFetcher(routerKey, clientSupplier, Duration.ofMinutes(1));
+    Assert.assertSame(
+        RouterBasedBatchStoreMetadataFetcher.getSharedFetcher(routerKey, clientSupplier, Duration.ofMinutes(1)),
+        fetcher);
+    Mockito.verify(clientSupplier, Mockito.times(1)).get();
+
+    // The fetcher is closed once released by all its users
+    fetcher.release();
+    Mockito.verify(mockClient, Mockito.never()).close();
+    fetcher.release();
+    Mockito.verify(mockClient).close();
+
+    // A new one is created on the next call
+    RouterBasedBatchStoreMetadataFetcher newFetcher =
+        RouterBasedBatchStoreMetadataFetcher.getSharedFetcher(routerKey, clientSupplier, Duration.ofMinutes(1));
+    Assert.assertNotSame(newFetcher, fetcher);
+    Mockito.verify(clientSupplier, Mockito.times(2)).get();
+    newFetcher.release();
+  }
+
+  private static BatchStoreMetadataResponse.StoreMetadata createStoreMetadata(String etag, int currentVersion) {
+    BatchStoreMetadataResponse.StoreMetadata storeMetadata = new BatchStoreMetadataResponse.StoreMetadata();
+    storeMetadata.setEtag(etag);
+    storeMetadata.setCurrentVersion(currentVersion);
+    return storeMetadata;
+  }
+}
@@ -19,14 +19,16 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -140,6 +142,10 @@ public final class VeniceChangelogConsumerIO {
     private String store = "";
     private String consumerIdSuffix = "";
     private Duration terminationTimeout = Duration.standardSeconds(30);
+    // Number of threads polling the partitions of a reader, each with its own consumer
+    private int pollThreadCount = 1;
+    // Number of polled batches of messages buffered ahead of the reader
+    private int prefetchBufferCapacity = 8;
 
     private LocalVeniceChangelogConsumerProvider localVeniceChangelogConsumerProvider;
 
@@ -154,6 +160,8 @@ public final class VeniceChangelogConsumerIO {
       this.store = read.store;
       this.terminationTimeout = read.terminationTimeout;
       this.seekTimestamp = read.seekTimestamp;
+      this.pollThreadCount = read.pollThreadCount;
+      this.prefetchBufferCapacity = read.prefetchBufferCapacity;
       this.localVeniceChangelogConsumerProvider = read.localVeniceChangelogConsumerProvider;
     }
 
@@ -201,6 +209,38 @@ public final class VeniceChangelogConsumerIO {
       return this;
     }
 
+    public int getPollThreadCount() {
+      return pollThreadCount;
+    }
+
+    /**
+     * Sets the number of threads polling the partitions of each reader. The partitions of a reader are divided into as
+     * many groups, each polled by its own consumer, so that polling isn't limited by a single consumer.
+     */
+    public Read<K, V> setPollThreadCount(int pollThreadCount) {
+      if (pollThreadCount < 1) {
+        throw new IllegalArgumentException("Poll thread count must be positive, got: " + pollThreadCount);
+      }
+      this.pollThreadCount = pollThreadCount;
+      return this;
+    }
+
+    public int getPrefetchBufferCapacity() {
+      return prefetchBufferCapacity;
+    }
+
+    /**
+     * Sets the number of polled batches of messages which can be buffered ahead of each reader. Once the buffer is
+     * full, the poll threads block until the reader catches up.
+     */
+    public Read<K, V> setPrefetchBufferCapacity(int prefetchBufferCapacity) {
+      if (prefetchBufferCapacity < 1) {
+        throw new IllegalArgumentException("Prefetch buffer capacity must be positive, got: " + prefetchBufferCapacity);
+      }
+      this.prefetchBufferCapacity = prefetchBufferCapacity;
+      return this;
+    }
+
     public long getSeekTimestamp() {
       return seekTimestamp;
     }
@@ -358,12 +398,16 @@ public final class VeniceChangelogConsumerIO {
       extends UnboundedSource.UnboundedReader<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> {
     private final Read<K, V> read;
     private final Map<Integer, VeniceChangeCoordinate> _partitionToVeniceChangeCoordinates = new HashMap<>();
+    private final List<Set<Integer>> partitionGroups;
 
-    // NOTE: Poll consumer using separate thread for performance.
-    private final ExecutorService service = Executors.newSingleThreadExecutor();
-    private final BlockingQueue<Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>>> queue =
-        new SynchronousQueue<>();
+    // NOTE: Poll consumers using separate threads for performance, one per partition group. The polled batches are
+    // buffered in a bounded queue, so that polling overlaps with the processing of the previous batches. Checkpoints
+    // are only revised from the messages returned by the reader, so the buffered batches are polled again on restore.
+    private final ExecutorService service;
+    private final BlockingQueue<Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>>> queue;
     private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final AtomicReference<Throwable> pollFailure = new AtomicReference<>();
+    private final List<VeniceChangelogConsumer<K, V>> consumers = new ArrayList<>();
     private PeekingIterator<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> batch =
         Iterators.peekingIterator(Collections.emptyIterator());
 
@@ -373,8 +417,10 @@ public final class VeniceChangelogConsumerIO {
     private final Distribution sampledPayloadSize;
     private final Counter consumerPollCount;
     private final Counter queuePollCount;
-
-    private VeniceChangelogConsumer<K, V> consumer;
+    private final Gauge prefetchBufferSize;
+    private final Distribution queueOfferBlockedMs;
+    private final Counter queueFullCount;
+    private final Counter queueEmptyCount;
 
     PubSubMessageReader(Read<K, V> read, @Nullable VeniceCheckpointMark veniceCheckpointMark) {
       this.read = read;
@@ -382,6 +428,9 @@ public final class VeniceChangelogConsumerIO {
         veniceCheckpointMark.getVeniceChangeCoordinates()
             .forEach(c -> _partitionToVeniceChangeCoordinates.put(c.getPartition(), c));
       }
+      this.partitionGroups = getPartitionGroups(read.partitions, read.pollThreadCount);
+      this.service = Executors.newFixedThreadPool(Math.max(1, this.partitionGroups.size()));
+      this.queue = new ArrayBlockingQueue<>(read.prefetchBufferCapacity);
       final String metricPrefix = String.join("_", this.read.store, this.read.partitions.toString());
       this.checkpointPubsubTimestamp =
           Metrics.gauge(VeniceChangelogConsumerIO.class, metricPrefix + "_CheckpointPubsubTimestamp");
@@ -391,99 +440,151 @@ public final class VeniceChangelogConsumerIO {
           Metrics.distribution(VeniceChangelogConsumerIO.class, metricPrefix + "_SampledPayloadSize");
       this.consumerPollCount = Metrics.counter(VeniceChangelogConsumerIO.class, metricPrefix + "_ConsumerPollCount");
       this.queuePollCount = Metrics.counter(VeniceChangelogConsumerIO.class, metricPrefix + "_QueuePollCount");
+      this.prefetchBufferSize = Metrics.gauge(VeniceChangelogConsumerIO.class, metricPrefix + "_PrefetchBufferSize");
+      this.queueOfferBlockedMs =
+          Metrics.distribution(VeniceChangelogConsumerIO.class, metricPrefix + "_QueueOfferBlockedMs");
+      this.queueFullCount = Metrics.counter(VeniceChangelogConsumerIO.class, metricPrefix + "_QueueFullCount");
+      this.queueEmptyCount = Metrics.counter(VeniceChangelogConsumerIO.class, metricPrefix + "_QueueEmptyCount");
+    }
+
+    /** Divides the partitions into at most {@code groupCount} groups of similar sizes. */
+    static List<Set<Integer>> getPartitionGroups(Set<Integer> partitions, int groupCount) {
+      int numGroups = Math.min(groupCount, partitions.size());
+      List<Set<Integer>> partitionGroups = new ArrayList<>(numGroups);
+      for (int i = 0; i < numGroups; ++i) {
+        partitionGroups.add(new HashSet<>());
+      }
+      int index = 0;
+      for (int partition: new TreeSet<>(partitions)) {
+        partitionGroups.get(index++ % numGroups).add(partition);
+      }
+      return partitionGroups;
     }
 
     /**
-     * Initializes veniceChangeLogConsumer and subscribes to partitions as prescribed by {@link
-     * Source#split(int, PipelineOptions)}.
+     * Initializes a veniceChangeLogConsumer per partition group, subscribes them to the partitions as prescribed by
+     * {@link Source#split(int, PipelineOptions)} and starts polling them in background.
      */
     @SuppressWarnings("FutureReturnValueIgnored")
     @Override
     public boolean start() {
+      for (Set<Integer> partitionGroup: this.partitionGroups) {
+        VeniceChangelogConsumer<K, V> groupConsumer = startConsumer(partitionGroup);
+        this.consumers.add(groupConsumer);
+      }
+
+      // Keep on pulling messages in background
+      for (int i = 0; i < this.consumers.size(); i++) {
+        VeniceChangelogConsumer<K, V> groupConsumer = this.consumers.get(i);
+        Set<Integer> partitionGroup = this.partitionGroups.get(i);
+        this.service.submit(() -> consumerPollLoop(groupConsumer, partitionGroup));
+      }
+      return advance();
+    }
+
+    private VeniceChangelogConsumer<K, V> startConsumer(Set<Integer> partitionGroup) {
+      VeniceChangelogConsumer<K, V> groupConsumer;
       try {
-        this.consumer = this.read.localVeniceChangelogConsumerProvider.getVeniceChangelogConsumer(
-            this.read.getStore(),
-            this.read.getPartitions().toString() + this.read.consumerIdSuffix);
+        // With a single group, the consumer id is the same as when all the partitions were polled by one consumer. The
+        // partitions of the read are used as is, since the group may iterate them in a different order.
+        String consumerId =
+            this.partitionGroups.size() == 1 ? this.read.getPartitions().toString() : partitionGroup.toString();
+        groupConsumer = this.read.localVeniceChangelogConsumerProvider
+            .getVeniceChangelogConsumer(this.read.getStore(), consumerId + this.read.consumerIdSuffix);
       } catch (NoSuchMethodException | InvocationTargetException | InstantiationException | IllegalAccessException e) {
         throw new IllegalStateException(e);
       }
 
       try {
-        this.consumer.subscribe(this.read.partitions).get();
+        groupConsumer.subscribe(partitionGroup).get();
       } catch (ExecutionException | InterruptedException e) {
         throw new IllegalStateException(e);
       }
 
-      Set<VeniceChangeCoordinate> veniceChangeCoordinates = read.partitions.stream()
+      Set<VeniceChangeCoordinate> veniceChangeCoordinates = partitionGroup.stream()
           .map(partition -> _partitionToVeniceChangeCoordinates.get(partition))
           .filter(Objects::nonNull)
           .collect(Collectors.toSet());
       try {
         CheckPointProperties checkPointProperties =
             new CheckPointProperties(veniceChangeCoordinates, read.seekTimestamp, read.store);
-        this.read.getSeekWhence().apply(this.consumer, checkPointProperties).get();
+        this.read.getSeekWhence().apply(groupConsumer, checkPointProperties).get();
       } catch (ExecutionException | InterruptedException e) {
         LOG.error(
             "Store={} failed to {}={} for partitions={}",
             this.read.store,
             this.read.seekWhence,
             veniceChangeCoordinates,
-            this.read.partitions,
+            partitionGroup,
             e);
         if (!(e.getCause() instanceof VeniceCoordinateOutOfRangeException)) {
           throw new IllegalStateException(e);
         }
         LOG.warn("SeekingToEndOfPush because checkpoint is likely beyond retention.");
         try {
-          this.consumer.seekToEndOfPush().get();
+          groupConsumer.seekToEndOfPush().get();
         } catch (ExecutionException | InterruptedException ee) {
           throw new IllegalStateException(ee);
         }
       }
-
-      // Keep on pulling messages in background
-      this.service.submit(this::consumerPollLoop);
-      return advance();
+      return groupConsumer;
     }
 
-    /** Adds messages to the queue if venice change capture consumer returns any on polling. */
-    private void consumerPollLoop() {
+    /**
+     * Adds messages to the queue if venice change capture consumer returns any on polling. Blocks while the queue is
+     * full, i.e. while the reader is behind, which is recorded by the backpressure metrics.
+     */
+    private void consumerPollLoop(VeniceChangelogConsumer<K, V> groupConsumer, Set<Integer> partitionGroup) {
+      long pollTimeoutMs = this.read.getPollTimeout().getMillis();
       Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> messages = Collections.emptyList();
-      do {
-        if (messages.isEmpty()) {
-          messages = this.consumer.poll(this.read.getPollTimeout().getMillis());
-          consumerPollCount.inc();
-          LOG.debug(
-              "Polled & received {} messages from the consumer for partitions {}",
-              messages.size(),
-              this.read.getPartitions());
-          continue;
-        }
+      try {
+        while (!this.closed.get()) {
+          if (messages.isEmpty()) {
+            messages = groupConsumer.poll(pollTimeoutMs);
+            consumerPollCount.inc();
+            LOG.debug(
+                "Polled & received {} messages from the consumer for partitions {}",
+                messages.size(),
+                partitionGroup);
+            continue;
+          }
 
-        try {
-          // NOTE(SynchronousQueue): Block and wait for another thread to receive.
-          this.queue.put(messages);
-          LOG.debug("Added {} messages to queue for partitions {}", messages.size(), this.read.getPartitions());
-          messages = Collections.emptyList();
-        } catch (InterruptedException e) {
-          LOG.error("{} consumer thread interrupted", this, e);
-          break; // exit
+          long offerStartTime = System.currentTimeMillis();
+          if (this.queue.offer(messages, pollTimeoutMs, TimeUnit.MILLISECONDS)) {
+            LOG.debug("Added {} messages to queue for partitions {}", messages.size(), partitionGroup);
+            messages = Collections.emptyList();
+          } else {
+            queueFullCount.inc();
+          }
+          queueOfferBlockedMs.update(System.currentTimeMillis() - offerStartTime);
         }
-      } while (!this.closed.get());
-      LOG.info("{}: Returning from consumer pool loop", this);
+      } catch (InterruptedException e) {
+        LOG.error("{} consumer thread interrupted", this, e);
+      } catch (RuntimeException e) {
+        LOG.error("{} failed to poll partitions {}", this, partitionGroup, e);
+        this.pollFailure.compareAndSet(null, e);
+      }
+      LOG.info("{}: Returning from consumer poll loop for partitions {}", this, partitionGroup);
     }
 
-    /** Fetches latest checkpoint and updates _partitionToVeniceChangeCoordinates. */
-    void reviseCheckpoints() {
+    /**
+     * Fetches latest checkpoint and updates _partitionToVeniceChangeCoordinates. It's called for every message returned
+     * by the reader, so that the checkpoint never covers the messages which are still buffered. The checkpoint metrics
+     * are only updated when {@code updateMetrics} is set, i.e. once per batch.
+     */
+    void reviseCheckpoints(boolean updateMetrics) {
       PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate> pubSubMessage = getCurrent();
       if (pubSubMessage == null) {
         return;
       }
 
       VeniceChangeCoordinate veniceChangeCoordinate = pubSubMessage.getPosition();
-      LOG.debug("Revised checkpoint for partition {}", veniceChangeCoordinate.getPartition());
       _partitionToVeniceChangeCoordinates.put(veniceChangeCoordinate.getPartition(), veniceChangeCoordinate);
+      if (!updateMetrics) {
+        return;
+      }
 
+      LOG.debug("Revised checkpoint for partition {}", veniceChangeCoordinate.getPartition());
       this.checkpointPubsubTimestamp.set(pubSubMessage.getPubSubMessageTime());
       this.checkpointPubsubLag.set(System.currentTimeMillis() - pubSubMessage.getPubSubMessageTime());
       this.revisedCheckpoints.inc();
@@ -491,8 +592,8 @@ public final class VeniceChangelogConsumerIO {
     }
 
     /**
-     * Polls messages from the reader and makes them available in queue for consumption. Also
-     * revises checkpoints whenever the iterator advances.
+     * Takes the next batch of messages from the queue once the current one is exhausted. Also revises checkpoints
+     * whenever the iterator advances.
      */
     @Override
     public boolean advance() {
@@ -500,12 +601,19 @@ public final class VeniceChangelogConsumerIO {
         this.batch.next();
         // Return if messages are present or else if exhausted continue polling for new messages
         if (this.batch.hasNext()) {
+          reviseCheckpoints(false);
           return true;
         }
       }
 
+      Throwable failure = this.pollFailure.get();
+      if (failure != null) {
+        throw new IllegalStateException("Failed to poll store " + this.read.getStore(), failure);
+      }
+
       Collection<PubSubMessage<K, ChangeEvent<V>, VeniceChangeCoordinate>> messages;
       try {
+        this.prefetchBufferSize.set(this.queue.size());
         messages = this.queue.poll(this.read.getPollTimeout().getMillis(), TimeUnit.MILLISECONDS);
         queuePollCount.inc();
       } catch (InterruptedException e) {
@@ -514,6 +622,7 @@ public final class VeniceChangelogConsumerIO {
       }
 
       if (messages == null) {
+        queueEmptyCount.inc();
         LOG.info(
             "{} advancing timed out for store {} and partitions {}",
             this,
@@ -523,7 +632,7 @@ public final class VeniceChangelogConsumerIO {
       }
 
       this.batch = Iterators.peekingIterator(messages.iterator());
-      reviseCheckpoints();
+      reviseCheckpoints(true);
       LOG.debug(
           "Received messages for store {}, partitions {}, number of messages {}",
           this.read.getStore(),
@@ -579,19 +688,17 @@ public final class VeniceChangelogConsumerIO {
 
       // NOTE: Try-catch inside UnboundedSourceSystem closes all readers which otherwise causes NPEs
       // on instances not yet started.
-      if (this.consumer == null) {
-        return;
-      }
-
-      try {
-        this.consumer.close();
-      } catch (IllegalStateException e) {
-        LOG.info(
-            "Note: Consumer is shared across partitions. Failed to close consumer for store {}, partitions {} since it"
-                + " might already be closed. Exception reason {}",
-            read.store,
-            read.partitions,
-            e.getMessage());
+      for (VeniceChangelogConsumer<K, V> groupConsumer: this.consumers) {
+        try {
+          groupConsumer.close();
+        } catch (IllegalStateException e) {
+          LOG.info(
+              "Note: Consumer is shared across partitions. Failed to close consumer for store {}, partitions {} since"
+                  + " it might already be closed. Exception reason {}",
+              read.store,
+              read.partitions,
+              e.getMessage());
+        }
       }
     }
 
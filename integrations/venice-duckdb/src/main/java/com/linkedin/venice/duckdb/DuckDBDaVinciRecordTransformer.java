@@ -8,18 +8,25 @@ import com.linkedin.davinci.client.DaVinciRecordTransformerRecordMetadata;
 import com.linkedin.davinci.client.DaVinciRecordTransformerResult;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.sql.AvroToSQL;
+import com.linkedin.venice.sql.ColumnDefinition;
+import com.linkedin.venice.sql.DuckDBAppenderProcessor;
 import com.linkedin.venice.sql.PreparedStatementProcessor;
 import com.linkedin.venice.sql.SQLUtils;
 import com.linkedin.venice.sql.TableDefinition;
-import com.linkedin.venice.utils.concurrent.CloseableThreadLocal;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.lazy.Lazy;
 import java.sql.Connection;
 import java.sql.DriverManager;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.logging.log4j.LogManager;
@@ -38,6 +45,11 @@ import org.apache.logging.log4j.Logger;
  * - Keep the tables updated with Venice data changes
  * - Handle new Venice store versions by managing SQL table versions
  * - Provide a SQL view that always points to the current data
+ *
+ * Restarts and new versions re-load every record of the partition, so the batch data can be bulk loaded: records
+ * received before the end of push are streamed through a DuckDB appender into a staging table, and merged into the
+ * version table once the end of push is reached. Real-time updates can also be grouped into transactions of a few
+ * records instead of committing every record. See {@link DuckDBPartitionWriter}.
  */
 public class DuckDBDaVinciRecordTransformer
     extends DaVinciRecordTransformer<GenericRecord, GenericRecord, GenericRecord> {
@@ -45,15 +57,27 @@ public class DuckDBDaVinciRecordTransformer
   private static final String duckDBFilePath = "my_database.duckdb";
   private static final String createViewStatementTemplate = "CREATE OR REPLACE VIEW \"%s\" AS SELECT * FROM \"%s\";";
   private static final String dropTableStatementTemplate = "DROP TABLE \"%s\";";
+  private static final String dropTableIfExistsStatementTemplate = "DROP TABLE IF EXISTS \"%s\";";
+  private static final String createStagingTableStatementTemplate =
+      "CREATE OR REPLACE TABLE \"%s\" AS SELECT *, CAST(0 AS INTEGER) AS %s, CAST(0 AS BIGINT) AS %s FROM \"%s\" "
+          + "LIMIT 0;";
+  public static final long DEFAULT_UPSERT_BATCH_FLUSH_INTERVAL_MS = 1000;
   private final AtomicBoolean setUpComplete = new AtomicBoolean();
   private final String versionTableName;
+  private final String stagingTableName;
   private final String duckDBUrl;
   private final Set<String> columnsToProject;
-  private final CloseableThreadLocal<Connection> connection;
-  private final CloseableThreadLocal<PreparedStatement> deletePreparedStatement;
-  private final CloseableThreadLocal<PreparedStatement> upsertPreparedStatement;
+  private final boolean bulkLoadEnabled;
+  private final int upsertBatchSize;
+  private final String upsertStatement;
+  private final String deleteStatement;
+  private final String stagingDeleteStatement;
   private final PreparedStatementProcessor upsertProcessor;
   private final PreparedStatementProcessor deleteProcessor;
+  private final DuckDBAppenderProcessor appenderProcessor;
+  private final Map<Integer, DuckDBPartitionWriter> partitionWriters = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService upsertBatchFlusher;
+  private final String keyColumns;
 
   /**
    * @param baseDir directory where DuckDB files will be stored
@@ -69,35 +93,71 @@ public class DuckDBDaVinciRecordTransformer
       DaVinciRecordTransformerConfig recordTransformerConfig,
       String baseDir,
       Set<String> columnsToProject) {
+    this(
+        storeName,
+        storeVersion,
+        keySchema,
+        inputValueSchema,
+        outputValueSchema,
+        recordTransformerConfig,
+        baseDir,
+        columnsToProject,
+        false,
+        1,
+        DEFAULT_UPSERT_BATCH_FLUSH_INTERVAL_MS);
+  }
+
+  /**
+   * @param baseDir directory where DuckDB files will be stored
+   * @param columnsToProject specific columns to include (leave null/empty for all columns)
+   * @param bulkLoadEnabled whether to bulk load the records received before the end of push through a staging table
+   * @param upsertBatchSize max number of upserts and deletes committed in a single transaction after the end of push
+   * @param upsertBatchFlushIntervalMs interval at which the pending upserts and deletes are committed, if the batch
+   *                                   size is greater than 1
+   * @throws VeniceException if database setup fails
+   */
+  public DuckDBDaVinciRecordTransformer(
+      String storeName,
+      int storeVersion,
+      Schema keySchema,
+      Schema inputValueSchema,
+      Schema outputValueSchema,
+      DaVinciRecordTransformerConfig recordTransformerConfig,
+      String baseDir,
+      Set<String> columnsToProject,
+      boolean bulkLoadEnabled,
+      int upsertBatchSize,
+      long upsertBatchFlushIntervalMs) {
     super(storeName, storeVersion, keySchema, inputValueSchema, outputValueSchema, recordTransformerConfig);
     this.versionTableName = buildStoreNameWithVersion(storeVersion);
+    this.stagingTableName = versionTableName + "_staging";
     this.duckDBUrl = "jdbc:duckdb:" + baseDir + "/" + duckDBFilePath;
     this.columnsToProject = columnsToProject;
-    String deleteStatement = AvroToSQL.deleteStatement(versionTableName, keySchema);
-    String upsertStatement = AvroToSQL.upsertStatement(versionTableName, keySchema, inputValueSchema, columnsToProject);
-    this.connection = CloseableThreadLocal.withInitial(() -> {
-      try {
-        return DriverManager.getConnection(duckDBUrl);
-      } catch (SQLException e) {
-        throw new VeniceException("Failed to connect to DB!", e);
-      }
-    });
-    this.deletePreparedStatement = CloseableThreadLocal.withInitial(() -> {
-      try {
-        return this.connection.get().prepareStatement(deleteStatement);
-      } catch (SQLException e) {
-        throw new VeniceException("Failed to create PreparedStatement for: " + deleteStatement, e);
-      }
-    });
-    this.upsertPreparedStatement = CloseableThreadLocal.withInitial(() -> {
-      try {
-        return this.connection.get().prepareStatement(upsertStatement);
-      } catch (SQLException e) {
-        throw new VeniceException("Failed to create PreparedStatement for: " + upsertStatement, e);
-      }
-    });
+    this.bulkLoadEnabled = bulkLoadEnabled;
+    this.upsertBatchSize = upsertBatchSize;
+    this.deleteStatement = AvroToSQL.deleteStatement(versionTableName, keySchema);
+    this.upsertStatement = AvroToSQL.upsertStatement(versionTableName, keySchema, inputValueSchema, columnsToProject);
+    this.stagingDeleteStatement = AvroToSQL.deleteStatement(stagingTableName, keySchema);
     this.upsertProcessor = AvroToSQL.upsertProcessor(keySchema, inputValueSchema, columnsToProject);
     this.deleteProcessor = AvroToSQL.deleteProcessor(keySchema);
+    this.appenderProcessor = AvroToSQL.appenderProcessor(keySchema, inputValueSchema, columnsToProject);
+    this.keyColumns = AvroToSQL
+        .getTableDefinition(versionTableName, keySchema, inputValueSchema, columnsToProject, SKIP, true)
+        .getPrimaryKeyColumns()
+        .stream()
+        .map(ColumnDefinition::getName)
+        .collect(Collectors.joining(", "));
+    if (upsertBatchSize > 1) {
+      this.upsertBatchFlusher = Executors
+          .newSingleThreadScheduledExecutor(new DaemonThreadFactory("DuckDB-Upsert-Flusher-" + versionTableName));
+      this.upsertBatchFlusher.scheduleWithFixedDelay(
+          this::flushPartitionWriters,
+          upsertBatchFlushIntervalMs,
+          upsertBatchFlushIntervalMs,
+          TimeUnit.MILLISECONDS);
+    } else {
+      this.upsertBatchFlusher = null;
+    }
   }
 
   /**
@@ -121,7 +181,7 @@ public class DuckDBDaVinciRecordTransformer
       Lazy<GenericRecord> value,
       int partitionId,
       DaVinciRecordTransformerRecordMetadata recordMetadata) {
-    this.upsertProcessor.process(key.get(), value.get(), this.upsertPreparedStatement.get());
+    getPartitionWriter(partitionId).put(key.get(), value.get());
   }
 
   /**
@@ -132,7 +192,7 @@ public class DuckDBDaVinciRecordTransformer
       Lazy<GenericRecord> key,
       int partitionId,
       DaVinciRecordTransformerRecordMetadata recordMetadata) {
-    this.deleteProcessor.process(key.get(), null, this.deletePreparedStatement.get());
+    getPartitionWriter(partitionId).delete(key.get());
   }
 
   /**
@@ -142,6 +202,9 @@ public class DuckDBDaVinciRecordTransformer
    * the existing table structure is compatible. If this is the current version,
    * it also creates a SQL view pointing to this table.
    *
+   * If bulk loading is enabled, the records of the partition are bulk loaded until
+   * its end of push is reached, see {@link #onEndOfPush(int)}.
+   *
    * @param partitionId what partition is being subscribed
    * @param isCurrentVersion true if this is the active store version
    * @throws VeniceException if table creation fails or structure is incompatible
@@ -149,10 +212,21 @@ public class DuckDBDaVinciRecordTransformer
    */
   @Override
   synchronized public void onStartVersionIngestion(int partitionId, boolean isCurrentVersion) {
-    if (setUpComplete.get()) {
-      return;
+    if (!setUpComplete.get()) {
+      setUpTables(isCurrentVersion);
     }
 
+    if (bulkLoadEnabled) {
+      // Until the end of push, the records of the partition are either batch data or recovered from local storage
+      DuckDBPartitionWriter previousWriter =
+          partitionWriters.put(partitionId, createPartitionWriter(partitionId, true));
+      if (previousWriter != null) {
+        previousWriter.close();
+      }
+    }
+  }
+
+  private void setUpTables(boolean isCurrentVersion) {
     try (Connection connection = DriverManager.getConnection(duckDBUrl);
         Statement stmt = connection.createStatement()) {
       TableDefinition desiredTableDefinition = AvroToSQL.getTableDefinition(
@@ -181,6 +255,17 @@ public class DuckDBDaVinciRecordTransformer
         stmt.execute(createViewStatement);
       }
 
+      if (bulkLoadEnabled) {
+        // Rows left over in the staging table by a previous run will be loaded again, so they are discarded
+        String createStagingTableStatement = String.format(
+            createStagingTableStatementTemplate,
+            stagingTableName,
+            DuckDBPartitionWriter.PARTITION_COLUMN_NAME,
+            DuckDBPartitionWriter.SEQUENCE_COLUMN_NAME,
+            versionTableName);
+        stmt.execute(createStagingTableStatement);
+      }
+
       setUpComplete.set(true);
     } catch (SQLException e) {
       throw new RuntimeException(e);
@@ -198,6 +283,7 @@ public class DuckDBDaVinciRecordTransformer
    */
   @Override
   public void onEndVersionIngestion(int currentVersion) {
+    flushPartitionWriters();
     try (Connection connection = DriverManager.getConnection(duckDBUrl);
         Statement stmt = connection.createStatement()) {
       // Swap to current version
@@ -210,12 +296,27 @@ public class DuckDBDaVinciRecordTransformer
         // Drop DuckDB table for storeVersion as it's retired
         String dropTableStatement = String.format(dropTableStatementTemplate, versionTableName);
         stmt.execute(dropTableStatement);
+        stmt.execute(String.format(dropTableIfExistsStatementTemplate, stagingTableName));
       }
     } catch (SQLException e) {
       throw new RuntimeException(e);
     }
   }
 
+  /**
+   * Merges the records of the partition which were bulk loaded into the staging table into the version table. The
+   * following records of the partition are upserted into the version table directly.
+   *
+   * @param partitionId the partition which has consumed all its batch data
+   */
+  @Override
+  public void onEndOfPush(int partitionId) {
+    DuckDBPartitionWriter partitionWriter = partitionWriters.get(partitionId);
+    if (partitionWriter != null) {
+      partitionWriter.endBulkLoad();
+    }
+  }
+
   /**
    * Indicates this transformer works with consistent record schemas.
    *
@@ -251,8 +352,43 @@ public class DuckDBDaVinciRecordTransformer
    */
   @Override
   public void close() {
-    this.deletePreparedStatement.close();
-    this.upsertPreparedStatement.close();
-    this.connection.close();
+    if (this.upsertBatchFlusher != null) {
+      this.upsertBatchFlusher.shutdownNow();
+    }
+    for (DuckDBPartitionWriter partitionWriter: this.partitionWriters.values()) {
+      partitionWriter.close();
+    }
+    this.partitionWriters.clear();
+  }
+
+  private DuckDBPartitionWriter getPartitionWriter(int partitionId) {
+    return partitionWriters.computeIfAbsent(partitionId, p -> createPartitionWriter(p, false));
+  }
+
+  private DuckDBPartitionWriter createPartitionWriter(int partitionId, boolean bulkLoading) {
+    return new DuckDBPartitionWriter(
+        partitionId,
+        duckDBUrl,
+        versionTableName,
+        stagingTableName,
+        keyColumns,
+        upsertStatement,
+        deleteStatement,
+        stagingDeleteStatement,
+        upsertProcessor,
+        deleteProcessor,
+        appenderProcessor,
+        bulkLoading,
+        upsertBatchSize);
+  }
+
+  private void flushPartitionWriters() {
+    for (DuckDBPartitionWriter partitionWriter: partitionWriters.values()) {
+      try {
+        partitionWriter.flush();
+      } catch (Exception e) {
+        LOGGER.error("Failed to flush pending upserts into table: {}", versionTableName, e);
+      }
+    }
   }
 }
@@ -0,0 +1,236 @@
+package com.linkedin.venice.duckdb;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.sql.DuckDBAppenderProcessor;
+import com.linkedin.venice.sql.PreparedStatementProcessor;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.duckdb.DuckDBAppender;
+import org.duckdb.DuckDBConnection;
+
+
+/**
+ * Writes the records of a single partition into the DuckDB table of a store version.
+ *
+ * While bulk loading, i.e. before the end of push, puts are streamed through a {@link DuckDBAppender} into the staging
+ * table of the version, which is much faster than executing an upsert per record, and {@link #endBulkLoad()} merges
+ * them into the version table. Puts and deletes are then executed with prepared statements, and if the upsert batch
+ * size is greater than 1, they are grouped into transactions of up to that many statements. A transaction is committed
+ * once it's full, or by {@link #flush()} which is called periodically so that the latest updates become visible.
+ *
+ * All the methods are synchronized, since the records of a partition can be processed by multiple threads during
+ * recovery, and the pending transaction is committed by another thread.
+ */
+class DuckDBPartitionWriter implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(DuckDBPartitionWriter.class);
+  static final String PARTITION_COLUMN_NAME = "__venice_partition";
+  static final String SEQUENCE_COLUMN_NAME = "__venice_sequence";
+  /**
+   * A key can be appended more than once to the staging table, e.g. if records are consumed again after a restart, so
+   * only the last row of each key is merged, as a single statement can't replace the same row twice.
+   */
+  private static final String MERGE_STATEMENT_TEMPLATE =
+      "INSERT OR REPLACE INTO \"%s\" SELECT * EXCLUDE (%s, %s) FROM \"%s\" WHERE %s = %d "
+          + "QUALIFY row_number() OVER (PARTITION BY %s ORDER BY %s DESC) = 1;";
+  private static final String STAGING_CLEANUP_STATEMENT_TEMPLATE = "DELETE FROM \"%s\" WHERE %s = %d;";
+
+  private final int partitionId;
+  private final String stagingTableName;
+  private final int upsertBatchSize;
+  private final PreparedStatementProcessor upsertProcessor;
+  private final PreparedStatementProcessor deleteProcessor;
+  private final DuckDBAppenderProcessor appenderProcessor;
+  private final Connection connection;
+  private final PreparedStatement upsertPreparedStatement;
+  private final PreparedStatement deletePreparedStatement;
+  private final String versionTableName;
+  private final String keyColumns;
+  private final String stagingDeleteStatement;
+  private PreparedStatement stagingDeletePreparedStatement;
+  private DuckDBAppender appender;
+  private boolean bulkLoading;
+  private long stagingSequence;
+  private int pendingStatementCount;
+
+  DuckDBPartitionWriter(
+      int partitionId,
+      String duckDBUrl,
+      String versionTableName,
+      String stagingTableName,
+      String keyColumns,
+      String upsertStatement,
+      String deleteStatement,
+      String stagingDeleteStatement,
+      PreparedStatementProcessor upsertProcessor,
+      PreparedStatementProcessor deleteProcessor,
+      DuckDBAppenderProcessor appenderProcessor,
+      boolean bulkLoading,
+      int upsertBatchSize) {
+    this.partitionId = partitionId;
+    this.versionTableName = versionTableName;
+    this.stagingTableName = stagingTableName;
+    this.keyColumns = keyColumns;
+    this.stagingDeleteStatement = stagingDeleteStatement;
+    this.upsertProcessor = upsertProcessor;
+    this.deleteProcessor = deleteProcessor;
+    this.appenderProcessor = appenderProcessor;
+    this.bulkLoading = bulkLoading;
+    this.upsertBatchSize = upsertBatchSize;
+    try {
+      this.connection = DriverManager.getConnection(duckDBUrl);
+      this.upsertPreparedStatement = connection.prepareStatement(upsertStatement);
+      this.deletePreparedStatement = connection.prepareStatement(deleteStatement);
+      connection.setAutoCommit(bulkLoading || upsertBatchSize <= 1);
+    } catch (SQLException e) {
+      throw new VeniceException("Failed to set up DuckDB writer for partition: " + partitionId, e);
+    }
+  }
+
+  synchronized void put(GenericRecord key, GenericRecord value) {
+    if (bulkLoading) {
+      try {
+        if (appender == null) {
+          appender = connection.unwrap(DuckDBConnection.class)
+              .createAppender(DuckDBConnection.DEFAULT_SCHEMA, stagingTableName);
+        }
+        appender.beginRow();
+        appenderProcessor.append(key, value, appender);
+        appender.append(partitionId);
+        appender.append(stagingSequence++);
+        appender.endRow();
+      } catch (SQLException e) {
+        throw new VeniceException("Failed to append to staging table: " + stagingTableName, e);
+      }
+      return;
+    }
+    upsertProcessor.process(key, value, upsertPreparedStatement);
+    endStatement();
+  }
+
+  synchronized void delete(GenericRecord key) {
+    if (bulkLoading) {
+      try {
+        // The key might have been appended to the staging table, so it has to be removed from there as well
+        if (appender != null) {
+          appender.flush();
+        }
+        if (stagingDeletePreparedStatement == null) {
+          stagingDeletePreparedStatement = connection.prepareStatement(stagingDeleteStatement);
+        }
+      } catch (SQLException e) {
+        throw new VeniceException("Failed to delete from staging table: " + stagingTableName, e);
+      }
+      deleteProcessor.process(key, null, stagingDeletePreparedStatement);
+      deleteProcessor.process(key, null, deletePreparedStatement);
+      return;
+    }
+    deleteProcessor.process(key, null, deletePreparedStatement);
+    endStatement();
+  }
+
+  /**
+   * Merges the rows appended to the staging table into the version table, keeping only the last row of each key, and
+   * switches to upserts for the following records.
+   */
+  synchronized void endBulkLoad() {
+    if (!bulkLoading) {
+      return;
+    }
+    long startTime = System.currentTimeMillis();
+    try {
+      if (appender != null) {
+        appender.close();
+        appender = null;
+      }
+      if (stagingDeletePreparedStatement != null) {
+        stagingDeletePreparedStatement.close();
+        stagingDeletePreparedStatement = null;
+      }
+      connection.setAutoCommit(false);
+      try (Statement stmt = connection.createStatement()) {
+        // Unable to convert to prepared statement as table and column names can't be parameterized
+        stmt.execute(
+            String.format(
+                MERGE_STATEMENT_TEMPLATE,
+                versionTableName,
+                PARTITION_COLUMN_NAME,
+                SEQUENCE_COLUMN_NAME,
+                stagingTableName,
+                PARTITION_COLUMN_NAME,
+                partitionId,
+                keyColumns,
+                SEQUENCE_COLUMN_NAME));
+        stmt.execute(
+            String.format(STAGING_CLEANUP_STATEMENT_TEMPLATE, stagingTableName, PARTITION_COLUMN_NAME, partitionId));
+        connection.commit();
+      } catch (SQLException e) {
+        connection.rollback();
+        throw e;
+      }
+      connection.setAutoCommit(upsertBatchSize <= 1);
+    } catch (SQLException e) {
+      throw new VeniceException("Failed to merge staging table: " + stagingTableName, e);
+    }
+    bulkLoading = false;
+    LOGGER.info(
+        "Merged {} staged rows of partition {} from {} in {} ms",
+        stagingSequence,
+        partitionId,
+        stagingTableName,
+        System.currentTimeMillis() - startTime);
+  }
+
+  /**
+   * Commits the pending upserts and deletes, if any.
+   */
+  synchronized void flush() {
+    if (pendingStatementCount == 0) {
+      return;
+    }
+    try {
+      connection.commit();
+      pendingStatementCount = 0;
+    } catch (SQLException e) {
+      throw new VeniceException("Failed to commit pending statements for partition: " + partitionId, e);
+    }
+  }
+
+  synchronized boolean isBulkLoading() {
+    return bulkLoading;
+  }
+
+  private void endStatement() {
+    if (upsertBatchSize > 1 && ++pendingStatementCount >= upsertBatchSize) {
+      flush();
+    }
+  }
+
+  /**
+   * Commits the pending statements and closes the connection. Rows which have been appended to the staging table but
+   * not merged yet are flushed as well, they are discarded when the staging table is set up again.
+   */
+  @Override
+  public synchronized void close() {
+    try {
+      flush();
+      if (appender != null) {
+        appender.close();
+      }
+      if (stagingDeletePreparedStatement != null) {
+        stagingDeletePreparedStatement.close();
+      }
+      upsertPreparedStatement.close();
+      deletePreparedStatement.close();
+      connection.close();
+    } catch (SQLException e) {
+      throw new VeniceException("Failed to close DuckDB writer for partition: " + partitionId, e);
+    }
+  }
+}
@@ -173,6 +173,17 @@ public class AvroToSQL {
     return new KeyOnlyPreparedStatementProcessor(keySchema);
   }
 
+  /**
+   * N.B.: Unlike the rest of this class, this is specific to DuckDB, as appenders are not part of the JDBC API.
+   */
+  @Nonnull
+  public static DuckDBAppenderProcessor appenderProcessor(
+      @Nonnull Schema keySchema,
+      @Nonnull Schema valueSchema,
+      @Nonnull Set<String> columnsToProject) {
+    return new DuckDBAppenderProcessor(keySchema, valueSchema, columnsToProject);
+  }
+
   @Nullable
   static JDBCType getCorrespondingType(Schema.Field field) {
     Schema fieldSchema = field.schema();
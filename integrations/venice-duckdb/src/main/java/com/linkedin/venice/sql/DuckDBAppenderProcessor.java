@@ -0,0 +1,120 @@
+package com.linkedin.venice.sql;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.GenericRecord;
+import org.duckdb.DuckDBAppender;
+
+
+/**
+ * This class provides plumbing to append the fields of Avro records to a {@link DuckDBAppender}, which is much faster
+ * than executing a {@link java.sql.PreparedStatement} per record when loading a large number of rows.
+ *
+ * Unlike a {@link java.sql.PreparedStatement}, the appender has no parameter indices, so the columns are appended in
+ * the same order as the columns of {@link AvroToSQL#getTableDefinition}, i.e. the key fields followed by the projected
+ * value fields. It's up to the caller to begin and end the row, so that extra columns can be appended after these.
+ */
+public class DuckDBAppenderProcessor {
+  private final List<Column> columns = new ArrayList<>();
+
+  DuckDBAppenderProcessor(
+      @Nonnull Schema keySchema,
+      @Nonnull Schema valueSchema,
+      @Nonnull Set<String> columnsToProject) {
+    Objects.requireNonNull(keySchema);
+    Objects.requireNonNull(valueSchema);
+    Objects.requireNonNull(columnsToProject);
+    for (Schema.Field field: AvroToSQL.combineColumns(keySchema, valueSchema, columnsToProject)) {
+      if (AvroToSQL.getCorrespondingType(field) == null) {
+        // Skipped field.
+        continue;
+      }
+      Schema.Type fieldType = field.schema().getType();
+      if (fieldType == Schema.Type.UNION) {
+        // getCorrespondingType only supports unions of null and another type, so the other branch is the type
+        List<Schema> unionBranches = field.schema().getTypes();
+        fieldType = unionBranches.get(unionBranches.get(0).getType() == Schema.Type.NULL ? 1 : 0).getType();
+      }
+      columns.add(new Column(keySchema.getFields().contains(field), field.pos(), fieldType, field.name()));
+    }
+  }
+
+  /**
+   * Appends the columns of the given key and value to the current row of the appender.
+   */
+  public void append(GenericRecord key, GenericRecord value, DuckDBAppender appender) {
+    for (Column column: columns) {
+      Object fieldValue = (column.isKeyField ? key : value).get(column.fieldPosition);
+      try {
+        appendField(column, fieldValue, appender);
+      } catch (SQLException e) {
+        throw new VeniceException(
+            "Failed to append field. Name: '" + column.fieldName + "; type: " + column.fieldType + "; value: "
+                + fieldValue,
+            e);
+      }
+    }
+  }
+
+  private static void appendField(Column column, Object fieldValue, DuckDBAppender appender) throws SQLException {
+    if (fieldValue == null) {
+      // N.B.: The appender appends a NULL for a null string, regardless of the type of the column.
+      appender.append((String) null);
+      return;
+    }
+    switch (column.fieldType) {
+      case FIXED:
+        appender.appendByteArray(((GenericFixed) fieldValue).bytes());
+        break;
+      case BYTES:
+        appender.appendByteArray(ByteUtils.extractByteArray((ByteBuffer) fieldValue));
+        break;
+      case STRING:
+        appender.append(fieldValue.toString());
+        break;
+      case INT:
+        appender.append((int) fieldValue);
+        break;
+      case LONG:
+        appender.append((long) fieldValue);
+        break;
+      case FLOAT:
+        appender.append((float) fieldValue);
+        break;
+      case DOUBLE:
+        appender.append((double) fieldValue);
+        break;
+      case BOOLEAN:
+        appender.append((boolean) fieldValue);
+        break;
+      case NULL:
+        appender.append((String) null);
+        break;
+      default:
+        throw new IllegalStateException("Should have skipped field '" + column.fieldName + "' but somehow didn't!");
+    }
+  }
+
+  private static class Column {
+    private final boolean isKeyField;
+    private final int fieldPosition;
+    private final Schema.Type fieldType;
+    private final String fieldName;
+
+    private Column(boolean isKeyField, int fieldPosition, Schema.Type fieldType, String fieldName) {
+      this.isKeyField = isKeyField;
+      this.fieldPosition = fieldPosition;
+      this.fieldType = fieldType;
+      this.fieldName = fieldName;
+    }
+  }
+}
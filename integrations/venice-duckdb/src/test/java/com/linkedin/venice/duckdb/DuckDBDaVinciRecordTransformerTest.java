@@ -261,6 +261,84 @@ public class DuckDBDaVinciRecordTransformerTest {
     }
   }
 
+  @Test
+  public void testBulkLoadAndBatchedUpserts() throws SQLException {
+    String tempDir = Utils.getTempDataDirectory().getAbsolutePath();
+
+    DaVinciRecordTransformerConfig dummyRecordTransformerConfig = new DaVinciRecordTransformerConfig.Builder()
+        .setRecordTransformerFunction(
+            (storeName, storeVersion, keySchema, inputValueSchema, outputValueSchema, config) -> null)
+        .setStoreRecordsInDaVinci(false)
+        .build();
+
+    try (DuckDBDaVinciRecordTransformer recordTransformer = new DuckDBDaVinciRecordTransformer(
+        storeName,
+        storeVersion,
+        SINGLE_FIELD_RECORD_SCHEMA,
+        NAME_RECORD_V1_SCHEMA,
+        NAME_RECORD_V1_SCHEMA,
+        dummyRecordTransformerConfig,
+        tempDir,
+        columnsToProject,
+        true,
+        2,
+        Long.MAX_VALUE);
+        Connection connection = DriverManager.getConnection(recordTransformer.getDuckDBUrl());
+        Statement stmt = connection.createStatement()) {
+      recordTransformer.onStartVersionIngestion(partitionId, true);
+
+      // Batch data is staged, and only the last value of a key is merged
+      put(recordTransformer, "key", "Goose", "Duck");
+      put(recordTransformer, "key", "Duck", "Goose");
+      put(recordTransformer, "deletedKey", "Duck", "Goose");
+      recordTransformer.processDelete(getKey("deletedKey"), partitionId, null);
+      assertRowCount(stmt, 0);
+
+      recordTransformer.onEndOfPush(partitionId);
+      assertDataset1(stmt, storeName);
+      try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + storeName + "_v" + storeVersion + "_staging")) {
+        assertTrue(rs.next());
+        assertEquals(rs.getInt(1), 0, "The staging table should be empty after the merge!");
+      }
+
+      // Real-time updates are committed once the batch is full
+      put(recordTransformer, "key2", "Duck", "Goose");
+      assertRowCount(stmt, 1);
+      put(recordTransformer, "key3", "Duck", "Goose");
+      assertRowCount(stmt, 3);
+
+      recordTransformer.processDelete(getKey("key3"), partitionId, null);
+      assertRowCount(stmt, 3);
+      // Pending updates are committed when the version ingestion ends
+      recordTransformer.onEndVersionIngestion(storeVersion);
+      assertRowCount(stmt, 2);
+    }
+  }
+
+  private static Lazy<GenericRecord> getKey(String key) {
+    GenericRecord keyRecord = new GenericData.Record(SINGLE_FIELD_RECORD_SCHEMA);
+    keyRecord.put("key", key);
+    return Lazy.of(() -> keyRecord);
+  }
+
+  private static void put(
+      DuckDBDaVinciRecordTransformer recordTransformer,
+      String key,
+      String firstName,
+      String lastName) {
+    GenericRecord valueRecord = new GenericData.Record(NAME_RECORD_V1_SCHEMA);
+    valueRecord.put("firstName", firstName);
+    valueRecord.put("lastName", lastName);
+    recordTransformer.processPut(getKey(key), Lazy.of(() -> valueRecord), partitionId, null);
+  }
+
+  private static void assertRowCount(Statement statement, int expectedRowCount) throws SQLException {
+    try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + storeName)) {
+      assertTrue(rs.next());
+      assertEquals(rs.getInt(1), expectedRowCount);
+    }
+  }
+
   private void assertDataset1(Statement statement, String storeName) throws SQLException {
     try (ResultSet rs = statement.executeQuery("SELECT * FROM " + storeName)) {
       assertTrue(rs.next(), "There should be a first row!");
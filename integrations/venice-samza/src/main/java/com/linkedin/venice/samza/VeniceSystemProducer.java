@@ -1,5 +1,7 @@
 package com.linkedin.venice.samza;
 
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_WORKER_COUNT;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_WORKER_QUEUE_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
 import static com.linkedin.venice.pubsub.PubSubConstants.PUBSUB_BROKER_ADDRESS;
 import static com.linkedin.venice.pubsub.adapter.kafka.producer.ApacheKafkaProducerConfig.KAFKA_BUFFER_MEMORY;
@@ -34,6 +36,7 @@ import com.linkedin.venice.controllerapi.VersionCreationResponse;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.producer.PartitionedProducerExecutor;
 import com.linkedin.venice.pushmonitor.HybridStoreQuotaStatus;
 import com.linkedin.venice.pushmonitor.RouterBasedHybridStoreQuotaMonitor;
 import com.linkedin.venice.pushmonitor.RouterBasedPushMonitor;
@@ -56,17 +59,21 @@ import com.linkedin.venice.writer.VeniceWriter;
 import com.linkedin.venice.writer.VeniceWriterFactory;
 import com.linkedin.venice.writer.VeniceWriterHook;
 import com.linkedin.venice.writer.VeniceWriterOptions;
+import io.tehuti.metrics.MetricsRepository;
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericDatumWriter;
@@ -96,6 +103,13 @@ import org.apache.samza.system.SystemProducer;
  * 2. The child controller when either:
  *     a. The Venice system is deployed in a single-colo mode; or
  *     b. The {@link Version.PushType} is {@link Version.PushType#STREAM} and the job is configured to write data in NON_AGGREGATE mode
+ *
+ * By default, records are validated, serialized and handed to the writer on the Samza task thread. If
+ * {@link com.linkedin.venice.ConfigKeys#CLIENT_PRODUCER_WORKER_COUNT} is set, only the key is validated and serialized
+ * on the task thread, and the rest is done by a {@link PartitionedProducerExecutor}, whose workers are sharded by key
+ * so that the records of a key are still written in order. Exceptions thrown by the workers are rethrown by the
+ * following send or flush, and {@link #flush(String)} waits for the workers to hand over all the records sent before
+ * it.
  */
 public class VeniceSystemProducer implements SystemProducer, Closeable {
   private static final Logger LOGGER = LogManager.getLogger(VeniceSystemProducer.class);
@@ -116,6 +130,8 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
   private static final DatumWriter<Boolean> BOOL_DATUM_WRITER = new GenericDatumWriter<>(BOOL_SCHEMA);
 
   private static final WriteComputeHandlerV1 writeComputeHandlerV1 = new WriteComputeHandlerV1();
+  private static final int DEFAULT_WORKER_QUEUE_CAPACITY = 10000;
+  private static final long DISPATCHER_SHUTDOWN_TIMEOUT_SECONDS = 60;
 
   // Immutable state
   private final String veniceChildD2ZkHost;
@@ -130,6 +146,7 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
   private final Time time;
   private final String runningFabric;
   private final boolean verifyLatestProtocolPresent;
+  private final MetricsRepository metricsRepository;
   private final Map<String, D2ClientEnvelope> d2ZkHostToClientEnvelopeMap = new HashMap<>();
   private final VeniceConcurrentHashMap<Schema, Pair<Integer, Integer>> valueSchemaToIdsMap =
       new VeniceConcurrentHashMap<>();
@@ -165,6 +182,9 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
   private Optional<String> routerUrl = Optional.empty();
 
   private AbstractVeniceWriter<byte[], byte[], byte[]> veniceWriter = null;
+  // Null if the records are dispatched on the Samza task thread
+  private PartitionedProducerExecutor dispatcher = null;
+  private final AtomicReference<Throwable> dispatchException = new AtomicReference<>();
   private final VeniceWriterHook writerHook;
   private Optional<RouterBasedPushMonitor> pushMonitor = Optional.empty();
   private Optional<RouterBasedHybridStoreQuotaMonitor> hybridStoreQuotaMonitor = Optional.empty();
@@ -185,6 +205,7 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
     this.partitioners = config.getPartitioners();
     this.time = config.getTime();
     this.writerHook = config.getWriterHook();
+    this.metricsRepository = config.getMetricsRepository();
     if (config.getRouterUrl() != null) {
       this.routerUrl = Optional.of(config.getRouterUrl());
     }
@@ -504,6 +525,7 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
     }
 
     this.veniceWriter = getVeniceWriter(versionCreationResponse);
+    this.dispatcher = createDispatcher();
 
     if (pushMonitor.isPresent()) {
       /**
@@ -545,6 +567,7 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
   @Override
   public synchronized void stop() {
     this.isStarted = false;
+    shutdownDispatcher();
     Utils.closeQuietlyWithErrorLogged(veniceWriter);
     if (Version.PushType.STREAM_REPROCESSING.equals(pushType) && pushMonitor.isPresent()) {
       String versionTopic = Version.composeVersionTopicFromStreamReprocessingTopic(topicName);
@@ -672,10 +695,37 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
     }
 
     final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
+    if (dispatcher == null) {
+      dispatch(serializedKey, valueObject, logicalTimestamp, completableFuture);
+      return completableFuture;
+    }
 
+    throwIfDispatchFailed();
+    final Object value = valueObject;
+    final long timestamp = logicalTimestamp;
+    // Records of the same key always go to the same worker, so they are handed to the writer in order
+    dispatcher.submit(Arrays.hashCode(serializedKey), () -> {
+      try {
+        dispatch(serializedKey, value, timestamp, completableFuture);
+      } catch (Throwable e) {
+        dispatchException.compareAndSet(null, e);
+        completableFuture.completeExceptionally(e);
+      }
+    });
+    return completableFuture;
+  }
+
+  /**
+   * Resolves the value schema, serializes the value and hands the record to the underlying {@link VeniceWriter}.
+   */
+  private void dispatch(
+      byte[] serializedKey,
+      Object valueObject,
+      long logicalTimestamp,
+      CompletableFuture<Void> completableFuture) {
     if (valueObject == null) {
       getInternalWriter().delete(serializedKey, logicalTimestamp, new CompletableFutureCallback(completableFuture));
-      return completableFuture;
+      return;
     }
 
     Schema valueObjectSchema = getSchemaFromObject(valueObject);
@@ -722,7 +772,6 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
           logicalTimestamp,
           new CompletableFutureCallback(completableFuture));
     }
-    return completableFuture;
   }
 
   public CompletableFuture<Void> put(Object keyObject, Object valueObject) {
@@ -740,7 +789,55 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
    */
   @Override
   public void flush(String s) {
+    if (dispatcher != null) {
+      // Wait for the workers to hand over all the records which have been sent so far
+      CompletableFuture<?>[] markers = new CompletableFuture[dispatcher.getWorkerCount()];
+      for (int i = 0; i < markers.length; i++) {
+        CompletableFuture<Void> marker = new CompletableFuture<>();
+        dispatcher.submit(i, () -> marker.complete(null));
+        markers[i] = marker;
+      }
+      CompletableFuture.allOf(markers).join();
+    }
     getInternalWriter().flush();
+    throwIfDispatchFailed();
+  }
+
+  private void throwIfDispatchFailed() {
+    Throwable e = dispatchException.get();
+    if (e != null) {
+      throw new SamzaException("Failed to dispatch a record to Venice store " + storeName, e);
+    }
+  }
+
+  private PartitionedProducerExecutor createDispatcher() {
+    int workerCount = Integer.parseInt(additionalConfigs.getOrDefault(CLIENT_PRODUCER_WORKER_COUNT, "0"));
+    if (workerCount <= 0) {
+      return null;
+    }
+    int workerQueueCapacity = Integer.parseInt(
+        additionalConfigs.getOrDefault(
+            CLIENT_PRODUCER_WORKER_QUEUE_CAPACITY,
+            Integer.toString(DEFAULT_WORKER_QUEUE_CAPACITY)));
+    LOGGER.info("Dispatching records of store {} on {} workers", storeName, workerCount);
+    return new PartitionedProducerExecutor(workerCount, workerQueueCapacity, 0, 0, storeName, metricsRepository);
+  }
+
+  private void shutdownDispatcher() {
+    if (dispatcher == null) {
+      return;
+    }
+    dispatcher.shutdown();
+    try {
+      if (!dispatcher.awaitTermination(DISPATCHER_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        LOGGER.warn("Timed out waiting for the dispatch workers of store {} to terminate", storeName);
+        dispatcher.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      dispatcher.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    dispatcher = null;
   }
 
   private static Schema getSchemaFromObject(Object object) {
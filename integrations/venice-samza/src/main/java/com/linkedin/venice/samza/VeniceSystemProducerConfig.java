@@ -6,6 +6,7 @@ import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.writer.VeniceWriterHook;
+import io.tehuti.metrics.MetricsRepository;
 import java.util.Objects;
 import java.util.Optional;
 import org.apache.samza.config.Config;
@@ -36,6 +37,7 @@ public class VeniceSystemProducerConfig {
   private final VeniceWriterHook writerHook;
   private final Config samzaConfig;
   private final String routerUrl;
+  private final MetricsRepository metricsRepository;
 
   // ZK-based connection (mutually exclusive with D2Client and discoveryUrl)
   private final String veniceChildD2ZkHost;
@@ -68,6 +70,7 @@ public class VeniceSystemProducerConfig {
     this.writerHook = builder.writerHook;
     this.samzaConfig = builder.samzaConfig;
     this.routerUrl = builder.routerUrl;
+    this.metricsRepository = builder.metricsRepository;
   }
 
   public String getStoreName() {
@@ -142,6 +145,10 @@ public class VeniceSystemProducerConfig {
     return routerUrl;
   }
 
+  public MetricsRepository getMetricsRepository() {
+    return metricsRepository;
+  }
+
   /**
    * Returns a new {@link Builder} pre-populated with all fields from this config instance.
    * This is useful when a subclass needs to create a modified copy of an existing config
@@ -163,7 +170,8 @@ public class VeniceSystemProducerConfig {
         .setTime(time)
         .setWriterHook(writerHook)
         .setSamzaConfig(samzaConfig)
-        .setRouterUrl(routerUrl);
+        .setRouterUrl(routerUrl)
+        .setMetricsRepository(metricsRepository);
     sslFactory.ifPresent(builder::setSslFactory);
     partitioners.ifPresent(builder::setPartitioners);
     return builder;
@@ -188,6 +196,7 @@ public class VeniceSystemProducerConfig {
     private VeniceWriterHook writerHook;
     private Config samzaConfig;
     private String routerUrl;
+    private MetricsRepository metricsRepository;
 
     /** @param storeName the Venice store to write to (required) */
     public Builder setStoreName(String storeName) {
@@ -297,6 +306,12 @@ public class VeniceSystemProducerConfig {
       return this;
     }
 
+    /** @param metricsRepository repository for the dispatch worker metrics, or null to disable them */
+    public Builder setMetricsRepository(MetricsRepository metricsRepository) {
+      this.metricsRepository = metricsRepository;
+      return this;
+    }
+
     public VeniceSystemProducerConfig build() {
       Objects.requireNonNull(storeName, "storeName cannot be null");
       Objects.requireNonNull(pushType, "pushType cannot be null");
@@ -1,6 +1,7 @@
 package com.linkedin.venice.samza;
 
 import static com.linkedin.venice.CommonConfigKeys.SSL_ENABLED;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_WORKER_COUNT;
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
 import static com.linkedin.venice.ConfigKeys.VALIDATE_VENICE_INTERNAL_SCHEMA_VERSION;
 import static com.linkedin.venice.ConfigKeys.VENICE_PARTITIONERS;
@@ -14,14 +15,17 @@ import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -32,6 +36,7 @@ import com.linkedin.venice.controllerapi.MultiSchemaResponse;
 import com.linkedin.venice.controllerapi.SchemaResponse;
 import com.linkedin.venice.controllerapi.StoreResponse;
 import com.linkedin.venice.controllerapi.VersionCreationResponse;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.StoreInfo;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.meta.VersionImpl;
@@ -48,12 +53,15 @@ import com.linkedin.venice.writer.update.UpdateBuilder;
 import com.linkedin.venice.writer.update.UpdateBuilderImpl;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.samza.SamzaException;
 import org.apache.samza.config.Config;
+import org.apache.samza.config.MapConfig;
 import org.apache.samza.system.OutgoingMessageEnvelope;
 import org.apache.samza.system.SystemProducer;
 import org.apache.samza.system.SystemStream;
@@ -486,6 +494,13 @@ public class VeniceSystemProducerTest {
   private VeniceSystemProducer buildStartedProducerSpy(
       ControllerClient mockControllerClient,
       VeniceWriter<byte[], byte[], byte[]> mockWriter) {
+    return buildStartedProducerSpy(mockControllerClient, mockWriter, null);
+  }
+
+  private VeniceSystemProducer buildStartedProducerSpy(
+      ControllerClient mockControllerClient,
+      VeniceWriter<byte[], byte[], byte[]> mockWriter,
+      Config samzaConfig) {
     VeniceSystemProducer producer = new VeniceSystemProducer(
         new VeniceSystemProducerConfig.Builder().setStoreName("test_store")
             .setPushType(Version.PushType.STREAM)
@@ -493,6 +508,7 @@ public class VeniceSystemProducerTest {
             .setRunningFabric("dc-0")
             .setFactory(mock(VeniceSystemFactory.class))
             .setDiscoveryUrl("discoveryUrl")
+            .setSamzaConfig(samzaConfig)
             .build());
     VeniceSystemProducer producerSpy = spy(producer);
     doNothing().when(producerSpy).setupClientsAndReInitProvider();
@@ -587,6 +603,45 @@ public class VeniceSystemProducerTest {
     producerSpy.stop();
   }
 
+  @Test
+  public void testSendDispatchesOnWorkers() {
+    VeniceWriter<byte[], byte[], byte[]> mockWriter = mock(VeniceWriter.class);
+    ControllerClient mockControllerClient = buildMockControllerClient(1, 1, true, "test_store_rt");
+    VeniceSystemProducer producerSpy = buildStartedProducerSpy(
+        mockControllerClient,
+        mockWriter,
+        new MapConfig(Collections.singletonMap(CLIENT_PRODUCER_WORKER_COUNT, "4")));
+
+    for (int i = 0; i < 100; i++) {
+      producerSpy.send("key" + i, "value" + i);
+    }
+    producerSpy.send((Object) "key0", null);
+    // Flush returns once the workers have handed all the records to the writer
+    producerSpy.flush("test_store");
+
+    verify(mockWriter, times(100)).update(any(), any(), eq(1), eq(1), anyLong(), any());
+    verify(mockWriter).delete(any(), anyLong(), any());
+    verify(mockWriter).flush();
+    producerSpy.stop();
+  }
+
+  @Test
+  public void testDispatchFailureIsRethrown() {
+    VeniceWriter<byte[], byte[], byte[]> mockWriter = mock(VeniceWriter.class);
+    doThrow(new VeniceException("Failed to put")).when(mockWriter).put(any(), any(), anyInt(), anyLong(), any());
+    ControllerClient mockControllerClient = buildMockControllerClient(1, -1);
+    VeniceSystemProducer producerSpy = buildStartedProducerSpy(
+        mockControllerClient,
+        mockWriter,
+        new MapConfig(Collections.singletonMap(CLIENT_PRODUCER_WORKER_COUNT, "2")));
+
+    CompletableFuture<Void> future = producerSpy.send("myKey", "myValue");
+    assertThrows(() -> future.join());
+    assertThrows(SamzaException.class, () -> producerSpy.flush("test_store"));
+    assertThrows(SamzaException.class, () -> producerSpy.send("myKey", "myValue"));
+    producerSpy.stop();
+  }
+
   @Test
   public void testBuilderSucceedsWithDiscoveryUrl() {
     VeniceSystemProducer producer = new VeniceSystemProducer(
@@ -21,6 +21,11 @@ public class HttpConstants {
   public static final String VENICE_SCHEMA_ID = "X-VENICE-SCHEMA-ID";
   public static final String VENICE_REQUEST_RCU = "X-VENICE-RCU";
   public static final String VENICE_RETRY = "X-VENICE-RETRY";
+  /**
+   * The absolute deadline of a read request in epoch milliseconds, which is set by the clients and forwarded by Router,
+   * so that storage nodes could skip the work for the requests the clients have already given up on.
+   */
+  public static final String VENICE_REQUEST_DEADLINE_MS = "X-VENICE-REQUEST-DEADLINE-MS";
 
   public static final String VENICE_COMPRESSION_STRATEGY = "X-VENICE-COMPRESSION-STRATEGY";
   /**
@@ -60,6 +60,9 @@ public class VeniceConstants {
 
   // URI: /store_state/storeName
   public static final String TYPE_STORE_STATE = "store_state";
+
+  // URI: /batch_store_metadata?stores=${storeName1},${storeName2}:${etag2}
+  public static final String TYPE_BATCH_STORE_METADATA = "batch_store_metadata";
   // End of router request path
 
   public static final String NATIVE_REPLICATION_DEFAULT_SOURCE_FABRIC = "prod-lva1";
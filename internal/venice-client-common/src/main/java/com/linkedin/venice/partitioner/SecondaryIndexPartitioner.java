@@ -0,0 +1,73 @@
+package com.linkedin.venice.partitioner;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.nio.ByteBuffer;
+import org.apache.avro.Schema;
+
+
+/**
+ * Partitioner of the secondary index view topics. The key of a secondary index entry is an Avro record which starts
+ * with the index value as an Avro string, followed by the primary key. This partitioner only hashes the index value, so
+ * all the entries of the same index value are in the same partition regardless of their primary keys.
+ */
+public class SecondaryIndexPartitioner extends VenicePartitioner {
+  private final DefaultVenicePartitioner delegate = new DefaultVenicePartitioner();
+
+  public SecondaryIndexPartitioner() {
+    super();
+  }
+
+  public SecondaryIndexPartitioner(VeniceProperties props) {
+    this(props, null);
+  }
+
+  public SecondaryIndexPartitioner(VeniceProperties props, Schema schema) {
+    super(props, schema);
+  }
+
+  @Override
+  public int getPartitionId(byte[] keyBytes, int numPartitions) {
+    return getPartitionId(keyBytes, 0, keyBytes.length, numPartitions);
+  }
+
+  @Override
+  public int getPartitionId(byte[] keyBytes, int offset, int length, int numPartitions) {
+    return delegate.getPartitionId(keyBytes, offset, getIndexValueLength(keyBytes, offset, length), numPartitions);
+  }
+
+  @Override
+  public int getPartitionId(ByteBuffer keyByteBuffer, int numPartitions) {
+    return getPartitionId(
+        keyByteBuffer.array(),
+        keyByteBuffer.position() + keyByteBuffer.arrayOffset(),
+        keyByteBuffer.remaining(),
+        numPartitions);
+  }
+
+  /**
+   * @return the length of the index value, including its zig-zag encoded varint length prefix.
+   */
+  static int getIndexValueLength(byte[] keyBytes, int offset, int length) {
+    long zigZagLength = 0;
+    int shift = 0;
+    int position = offset;
+    int end = offset + length;
+    while (true) {
+      if (position >= end || shift > 63) {
+        throw new VeniceException("Malformed secondary index key, the index value length can't be decoded");
+      }
+      int b = keyBytes[position++] & 0xFF;
+      zigZagLength |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        break;
+      }
+      shift += 7;
+    }
+    long stringLength = (zigZagLength >>> 1) ^ -(zigZagLength & 1);
+    if (stringLength < 0 || stringLength > end - position) {
+      throw new VeniceException("Malformed secondary index key, invalid index value length: " + stringLength);
+    }
+    return (int) (position - offset + stringLength);
+  }
+}
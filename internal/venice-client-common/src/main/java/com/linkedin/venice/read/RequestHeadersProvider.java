@@ -3,6 +3,7 @@ package com.linkedin.venice.read;
 import static com.linkedin.venice.HttpConstants.VENICE_CLIENT_COMPUTE;
 import static com.linkedin.venice.HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID;
 import static com.linkedin.venice.HttpConstants.VENICE_KEY_COUNT;
+import static com.linkedin.venice.HttpConstants.VENICE_REQUEST_DEADLINE_MS;
 
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelperCommon;
 import com.linkedin.avroutil1.compatibility.AvroVersion;
@@ -86,4 +87,31 @@ public class RequestHeadersProvider {
     }
     return headers;
   }
+
+  /**
+   * Add the absolute deadline header to the given headers if the request timeout is positive, so that the backend
+   * could stop working on the request once the client has given up on it.
+   *
+   * @return the passed headers for chaining.
+   */
+  public static Map<String, String> addRequestDeadlineHeader(Map<String, String> headers, long requestTimeoutInMs) {
+    if (requestTimeoutInMs > 0) {
+      headers.put(VENICE_REQUEST_DEADLINE_MS, Long.toString(System.currentTimeMillis() + requestTimeoutInMs));
+    }
+    return headers;
+  }
+
+  /**
+   * @return the deadline in epoch milliseconds carried by the header, or -1 if the header is absent or malformed.
+   */
+  public static long parseRequestDeadlineHeader(String headerValue) {
+    if (headerValue == null) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(headerValue.trim());
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
 }
@@ -0,0 +1,126 @@
+package com.linkedin.venice.read;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * The wire format of the prefix-scan and range-scan read API, which is shared by the storage node, the router and the
+ * thin client.
+ *
+ * A scan request is a GET request to {@link #SCAN_TYPE}/${resource}/${partition} on the storage node, or
+ * {@link #SCAN_TYPE}/${storeName} on the router, with the following optional query parameters, and all the key
+ * parameters are url-safe base64 encoded serialized keys:
+ * 1. {@link #PREFIX_PARAM}: only return the keys starting with the given prefix.
+ * 2. {@link #START_PARAM} and {@link #END_PARAM}: only return the keys in [start, end).
+ * 3. {@link #LIMIT_PARAM}: the max number of records to return, which is capped by the storage node.
+ * 4. {@link #CONTINUATION_PARAM}: the continuation token returned along with the previous page.
+ *
+ * The response body is a page of records ordered by the serialized keys, and each record is encoded as:
+ * [key length (int)][key][value schema id (int)][value length (int)][value], where the value is uncompressed.
+ * The continuation token to fetch the next page is returned in the {@link #CONTINUATION_HEADER} header, and the header
+ * is absent once the scan is complete.
+ */
+public class ScanProtocol {
+  public static final String SCAN_TYPE = "scan";
+  public static final String PREFIX_PARAM = "prefix";
+  public static final String START_PARAM = "start";
+  public static final String END_PARAM = "end";
+  public static final String LIMIT_PARAM = "limit";
+  public static final String CONTINUATION_PARAM = "continuation";
+  public static final String CONTINUATION_HEADER = "X-VENICE-SCAN-CONTINUATION";
+
+  private ScanProtocol() {
+  }
+
+  public static class Record {
+    private final byte[] key;
+    private final int schemaId;
+    private final ByteBuffer value;
+
+    public Record(byte[] key, int schemaId, ByteBuffer value) {
+      this.key = key;
+      this.schemaId = schemaId;
+      this.value = value;
+    }
+
+    public byte[] getKey() {
+      return key;
+    }
+
+    public int getSchemaId() {
+      return schemaId;
+    }
+
+    public ByteBuffer getValue() {
+      return value;
+    }
+  }
+
+  /**
+   * Builder of the response body, which tracks the encoded size to enforce the per-request byte limit.
+   */
+  public static class PageWriter {
+    private final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    private final DataOutputStream outputStream = new DataOutputStream(byteStream);
+    private int recordCount = 0;
+
+    public void write(byte[] key, int schemaId, ByteBuffer value) {
+      try {
+        outputStream.writeInt(key.length);
+        outputStream.write(key);
+        outputStream.writeInt(schemaId);
+        outputStream.writeInt(value.remaining());
+        if (value.hasArray()) {
+          outputStream.write(value.array(), value.arrayOffset() + value.position(), value.remaining());
+        } else {
+          byte[] valueBytes = new byte[value.remaining()];
+          value.duplicate().get(valueBytes);
+          outputStream.write(valueBytes);
+        }
+      } catch (IOException e) {
+        throw new VeniceException("Failed to encode the scan record", e);
+      }
+      recordCount++;
+    }
+
+    public int getRecordCount() {
+      return recordCount;
+    }
+
+    public int getSize() {
+      return outputStream.size();
+    }
+
+    public byte[] toByteArray() {
+      return byteStream.toByteArray();
+    }
+  }
+
+  public static List<Record> parsePage(byte[] body) {
+    List<Record> records = new ArrayList<>();
+    if (body == null) {
+      return records;
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(body);
+    try {
+      while (buffer.hasRemaining()) {
+        byte[] key = new byte[buffer.getInt()];
+        buffer.get(key);
+        int schemaId = buffer.getInt();
+        int valueLength = buffer.getInt();
+        ByteBuffer value = ByteBuffer.wrap(body, buffer.position(), valueLength).slice();
+        buffer.position(buffer.position() + valueLength);
+        records.add(new Record(key, schemaId, value));
+      }
+    } catch (RuntimeException e) {
+      throw new VeniceException("Malformed scan page at position: " + buffer.position(), e);
+    }
+    return records;
+  }
+}
@@ -0,0 +1,279 @@
+package com.linkedin.venice.reliability;
+
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * The AdaptiveConcurrencyLimiter continuously estimates the optimal number of in-flight requests a backend can handle
+ * by observing the request latency, and it borrows the gradient idea from TCP Vegas and Netflix's concurrency-limits.
+ *
+ * High-level idea:
+ * 1. Every completed request contributes a latency sample, and the samples are aggregated per {@link #sampleWindowMs}.
+ * 2. The average latency of the latest window is the short-term latency, and the long-term latency is an EWMA of the
+ *    short-term latency across {@link #longWindowCount} windows, which tracks the no-load latency of the backend.
+ * 3. At the end of each window, the limit is updated with the following formula:
+ *    gradient = max(0.5, min(1, rttTolerance * longTermLatency / shortTermLatency))
+ *    newLimit = limit * gradient + sqrt(limit)
+ *    When the latency goes up because requests are queueing up (compaction storm, GC, etc.), the gradient drops below
+ *    1 and the limit shrinks, otherwise, the limit keeps probing upwards by sqrt(limit).
+ * 4. The limit only grows when the in-flight requests were actually close to the limit in the window, so an idle
+ *    backend won't inflate the limit indefinitely.
+ * 5. The limit is partitioned fairly across keys (such as stores): a key can always use up to its fair share, which is
+ *    limit / activeKeyCount, while it can only borrow beyond its fair share when the total in-flight requests are below
+ *    {@link #borrowRatio} * limit, so the remaining capacity is reserved for the keys under their fair share.
+ */
+public class AdaptiveConcurrencyLimiter {
+  private static final Logger LOGGER = LogManager.getLogger(AdaptiveConcurrencyLimiter.class);
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double rttTolerance;
+  private final double smoothing;
+  private final long sampleWindowMs;
+  private final int minSampleCountPerWindow;
+  private final int longWindowCount;
+  private final double borrowRatio;
+  private final Time time;
+
+  private final AtomicInteger totalInFlight = new AtomicInteger();
+  private final AtomicInteger activeKeyCount = new AtomicInteger();
+  private final Map<String, AtomicInteger> inFlightPerKey = new VeniceConcurrentHashMap<>();
+
+  private final LongAdder windowLatencySum = new LongAdder();
+  private final LongAdder windowSampleCount = new LongAdder();
+  private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+
+  private volatile double limit;
+  private volatile double longTermLatencyMs = -1;
+  private volatile long windowStartTimeMs;
+
+  private AdaptiveConcurrencyLimiter(Builder builder) {
+    if (builder.minLimit <= 0 || builder.minLimit > builder.maxLimit) {
+      throw new IllegalArgumentException(
+          "Invalid limit range: [" + builder.minLimit + ", " + builder.maxLimit + "], and min limit should be positive");
+    }
+    if (builder.rttTolerance < 1) {
+      throw new IllegalArgumentException("RTT tolerance should be at least 1, but got: " + builder.rttTolerance);
+    }
+    if (builder.smoothing <= 0 || builder.smoothing > 1) {
+      throw new IllegalArgumentException("Smoothing should be in (0, 1], but got: " + builder.smoothing);
+    }
+    if (builder.borrowRatio <= 0 || builder.borrowRatio > 1) {
+      throw new IllegalArgumentException("Borrow ratio should be in (0, 1], but got: " + builder.borrowRatio);
+    }
+    this.minLimit = builder.minLimit;
+    this.maxLimit = builder.maxLimit;
+    this.rttTolerance = builder.rttTolerance;
+    this.smoothing = builder.smoothing;
+    this.sampleWindowMs = builder.sampleWindowMs;
+    this.minSampleCountPerWindow = builder.minSampleCountPerWindow;
+    this.longWindowCount = builder.longWindowCount;
+    this.borrowRatio = builder.borrowRatio;
+    this.time = builder.time;
+    this.limit = Math.max(minLimit, Math.min(maxLimit, builder.initialLimit));
+    this.windowStartTimeMs = time.getMilliseconds();
+  }
+
+  /**
+   * Try to acquire a permit for the given key, and the caller must call {@link #release(String)} with the same key
+   * once the request is done if and only if this function returns true.
+   *
+   * @return true if the request is allowed, false if it should be rejected.
+   */
+  public boolean tryAcquire(String key) {
+    int currentLimit = getLimit();
+    int inFlight = totalInFlight.incrementAndGet();
+    if (inFlight > currentLimit) {
+      totalInFlight.decrementAndGet();
+      return false;
+    }
+    AtomicInteger keyInFlightCounter = inFlightPerKey.computeIfAbsent(key, k -> new AtomicInteger());
+    int keyInFlight = keyInFlightCounter.incrementAndGet();
+    if (keyInFlight == 1) {
+      activeKeyCount.incrementAndGet();
+    }
+    if (inFlight > currentLimit * borrowRatio && keyInFlight > getFairShare(currentLimit)) {
+      // The key is over its fair share, and the remaining capacity is reserved for other keys.
+      releaseKey(keyInFlightCounter);
+      totalInFlight.decrementAndGet();
+      return false;
+    }
+    windowMaxInFlight.accumulateAndGet(inFlight, Math::max);
+    return true;
+  }
+
+  public void release(String key) {
+    AtomicInteger keyInFlightCounter = inFlightPerKey.get(key);
+    if (keyInFlightCounter == null) {
+      LOGGER.warn("Received a release for key: {} without any acquired permit", key);
+      return;
+    }
+    releaseKey(keyInFlightCounter);
+    totalInFlight.decrementAndGet();
+  }
+
+  /**
+   * Record the latency of a completed request, and it is expected to only record the latency of the requests, which
+   * were served normally, since the latency of the failed or rejected requests doesn't reflect the backend capacity.
+   */
+  public void recordLatency(double latencyMs) {
+    windowLatencySum.add((long) (Math.max(latencyMs, 0) * 1000));
+    windowSampleCount.increment();
+    long now = time.getMilliseconds();
+    if (now - windowStartTimeMs >= sampleWindowMs) {
+      maybeUpdateLimit(now);
+    }
+  }
+
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  public int getInFlightCount() {
+    return totalInFlight.get();
+  }
+
+  int getInFlightCount(String key) {
+    AtomicInteger keyInFlightCounter = inFlightPerKey.get(key);
+    return keyInFlightCounter == null ? 0 : keyInFlightCounter.get();
+  }
+
+  double getLongTermLatencyMs() {
+    return longTermLatencyMs;
+  }
+
+  private int getFairShare(int currentLimit) {
+    return Math.max(1, currentLimit / Math.max(1, activeKeyCount.get()));
+  }
+
+  private void releaseKey(AtomicInteger keyInFlightCounter) {
+    if (keyInFlightCounter.decrementAndGet() == 0) {
+      activeKeyCount.decrementAndGet();
+    }
+  }
+
+  private synchronized void maybeUpdateLimit(long now) {
+    if (now - windowStartTimeMs < sampleWindowMs) {
+      // Updated by another thread already
+      return;
+    }
+    long sampleCount = windowSampleCount.sumThenReset();
+    long latencySum = windowLatencySum.sumThenReset();
+    int maxInFlight = windowMaxInFlight.getAndSet(totalInFlight.get());
+    windowStartTimeMs = now;
+    if (sampleCount < minSampleCountPerWindow) {
+      // Not enough samples to make a meaningful decision
+      return;
+    }
+    double shortTermLatencyMs = Math.max((double) latencySum / sampleCount / 1000, 0.001);
+    if (longTermLatencyMs < 0) {
+      longTermLatencyMs = shortTermLatencyMs;
+    } else {
+      longTermLatencyMs = longTermLatencyMs + (shortTermLatencyMs - longTermLatencyMs) / longWindowCount;
+      if (longTermLatencyMs > 2 * shortTermLatencyMs) {
+        // The backend has recovered, so let the long-term latency catch up faster.
+        longTermLatencyMs = Math.max(shortTermLatencyMs, longTermLatencyMs * 0.95);
+      }
+    }
+
+    double currentLimit = limit;
+    double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longTermLatencyMs / shortTermLatencyMs));
+    double newLimit = currentLimit * gradient + Math.sqrt(currentLimit);
+    if (maxInFlight < currentLimit / 2) {
+      // The backend is not saturated, so there is no evidence to support a higher limit.
+      newLimit = Math.min(newLimit, currentLimit);
+    }
+    newLimit = currentLimit * (1 - smoothing) + newLimit * smoothing;
+    newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    if ((int) newLimit != (int) currentLimit) {
+      LOGGER.debug(
+          "Concurrency limit updated from {} to {}, short-term latency: {}ms, long-term latency: {}ms",
+          (int) currentLimit,
+          (int) newLimit,
+          shortTermLatencyMs,
+          longTermLatencyMs);
+    }
+    limit = newLimit;
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+    private int initialLimit = 200;
+    private int minLimit = 20;
+    private int maxLimit = 2000;
+    private double rttTolerance = 1.5;
+    private double smoothing = 0.2;
+    private long sampleWindowMs = 1000; // 1s
+    private int minSampleCountPerWindow = 10;
+    private int longWindowCount = 100;
+    private double borrowRatio = 0.9;
+    private Time time = new SystemTime();
+
+    public Builder setInitialLimit(int initialLimit) {
+      this.initialLimit = initialLimit;
+      return this;
+    }
+
+    public Builder setMinLimit(int minLimit) {
+      this.minLimit = minLimit;
+      return this;
+    }
+
+    public Builder setMaxLimit(int maxLimit) {
+      this.maxLimit = maxLimit;
+      return this;
+    }
+
+    /**
+     * How much the short-term latency can exceed the long-term latency before the limit starts shrinking.
+     */
+    public Builder setRttTolerance(double rttTolerance) {
+      this.rttTolerance = rttTolerance;
+      return this;
+    }
+
+    public Builder setSmoothing(double smoothing) {
+      this.smoothing = smoothing;
+      return this;
+    }
+
+    public Builder setSampleWindowMs(long sampleWindowMs) {
+      this.sampleWindowMs = sampleWindowMs;
+      return this;
+    }
+
+    public Builder setMinSampleCountPerWindow(int minSampleCountPerWindow) {
+      this.minSampleCountPerWindow = minSampleCountPerWindow;
+      return this;
+    }
+
+    public Builder setLongWindowCount(int longWindowCount) {
+      this.longWindowCount = Math.max(1, longWindowCount);
+      return this;
+    }
+
+    public Builder setBorrowRatio(double borrowRatio) {
+      this.borrowRatio = borrowRatio;
+      return this;
+    }
+
+    public Builder setTime(Time time) {
+      this.time = time;
+      return this;
+    }
+
+    public AdaptiveConcurrencyLimiter build() {
+      return new AdaptiveConcurrencyLimiter(this);
+    }
+  }
+}
@@ -0,0 +1,256 @@
+package com.linkedin.venice.reliability;
+
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+
+/**
+ * A latency-aware replica selector shared by the Router and Fast Client.
+ *
+ * High-level idea:
+ * 1. It keeps a time-decaying EWMA of the response latency and the error rate per host. The latency EWMA is
+ *    peak-sensitive: a sample higher than the current estimation replaces it right away, while lower samples decay
+ *    it gradually, so a GC pause or a compaction is reflected after a single slow response.
+ * 2. The cost of a host is: latencyEwma * (pendingRequestCount + 1) * (1 + errorPenalty * errorRateEwma) / weight.
+ * 3. The weight implements slow-start: a host which just joined (or came back after being absent for longer than
+ *    {@link #hostStateExpiryMs}, such as a restarted host) ramps up linearly from {@link #slowStartMinWeight} to 1
+ *    within {@link #slowStartWindowMs}, so that it won't be flooded with requests while its caches are still cold.
+ * 4. Host selection is using power-of-two-choices: two distinct candidates are picked randomly and the one with the
+ *    lower cost wins, which avoids the herd behavior of always picking the globally best host.
+ */
+public class LatencyAwareReplicaSelector {
+  private final long decayWindowMs;
+  private final double errorPenalty;
+  private final long slowStartWindowMs;
+  private final double slowStartMinWeight;
+  private final long hostStateExpiryMs;
+  private final ToLongFunction<String> pendingRequestCounter;
+  private final Time time;
+
+  private final Map<String, HostState> hostStateMap = new VeniceConcurrentHashMap<>();
+
+  private LatencyAwareReplicaSelector(Builder builder) {
+    if (builder.decayWindowMs <= 0) {
+      throw new IllegalArgumentException("Decay window should be positive, but got: " + builder.decayWindowMs);
+    }
+    if (builder.slowStartMinWeight <= 0 || builder.slowStartMinWeight > 1) {
+      throw new IllegalArgumentException(
+          "Slow start min weight should be in (0, 1], but got: " + builder.slowStartMinWeight);
+    }
+    this.decayWindowMs = builder.decayWindowMs;
+    this.errorPenalty = builder.errorPenalty;
+    this.slowStartWindowMs = builder.slowStartWindowMs;
+    this.slowStartMinWeight = builder.slowStartMinWeight;
+    this.hostStateExpiryMs = builder.hostStateExpiryMs;
+    this.pendingRequestCounter = builder.pendingRequestCounter;
+    this.time = builder.time;
+  }
+
+  /**
+   * Select a host from the given candidates, which are expected to be healthy already.
+   *
+   * @return the selected host, or null if there is no candidate.
+   */
+  public String select(List<String> candidates) {
+    return select(candidates, Function.identity());
+  }
+
+  public <H> H select(List<H> candidates, Function<H, String> hostIdFunction) {
+    int candidateCount = candidates.size();
+    if (candidateCount == 0) {
+      return null;
+    }
+    if (candidateCount == 1) {
+      return candidates.get(0);
+    }
+    long now = time.getMilliseconds();
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int firstIndex = random.nextInt(candidateCount);
+    int secondIndex = random.nextInt(candidateCount - 1);
+    if (secondIndex >= firstIndex) {
+      secondIndex++;
+    }
+    H first = candidates.get(firstIndex);
+    H second = candidates.get(secondIndex);
+    HostState firstState = getHostState(hostIdFunction.apply(first), now);
+    HostState secondState = getHostState(hostIdFunction.apply(second), now);
+
+    /**
+     * A host without any latency sample yet is assumed to be as fast as the other candidate, and the slow-start weight
+     * will keep it from being flooded.
+     */
+    double firstLatency = firstState.hasLatencySample() ? firstState.latencyEwmaMs : secondState.latencyEwmaMs;
+    double secondLatency = secondState.hasLatencySample() ? secondState.latencyEwmaMs : firstState.latencyEwmaMs;
+    double firstCost = computeCost(firstState, firstLatency, now);
+    double secondCost = computeCost(secondState, secondLatency, now);
+    if (firstCost == secondCost) {
+      return random.nextBoolean() ? first : second;
+    }
+    return firstCost < secondCost ? first : second;
+  }
+
+  /**
+   * Record the outcome of a request sent to the given host.
+   *
+   * @param latencyMs the response latency in milliseconds.
+   * @param success whether the request succeeded or not, and both 200 and 404 are considered successful.
+   */
+  public void recordResponse(String hostId, double latencyMs, boolean success) {
+    long now = time.getMilliseconds();
+    getHostState(hostId, now).update(latencyMs, success, now);
+  }
+
+  /**
+   * Reset the state of the given host, so it will go through the slow start again, which is useful when the caller
+   * knows that the host has been restarted.
+   */
+  public void resetHost(String hostId) {
+    hostStateMap.remove(hostId);
+  }
+
+  double getCost(String hostId) {
+    long now = time.getMilliseconds();
+    HostState hostState = getHostState(hostId, now);
+    return computeCost(hostState, hostState.hasLatencySample() ? hostState.latencyEwmaMs : 1.0, now);
+  }
+
+  double getLatencyEwmaMs(String hostId) {
+    HostState hostState = hostStateMap.get(hostId);
+    return hostState == null ? -1 : hostState.latencyEwmaMs;
+  }
+
+  double getErrorRateEwma(String hostId) {
+    HostState hostState = hostStateMap.get(hostId);
+    return hostState == null ? 0 : hostState.errorRateEwma;
+  }
+
+  private double computeCost(HostState hostState, double latencyMs, long now) {
+    long pendingRequestCount = pendingRequestCounter == null ? 0 : pendingRequestCounter.applyAsLong(hostState.hostId);
+    double cost = Math.max(latencyMs, 0.001) * (Math.max(pendingRequestCount, 0) + 1)
+        * (1 + errorPenalty * hostState.errorRateEwma);
+    return cost / getSlowStartWeight(hostState, now);
+  }
+
+  private double getSlowStartWeight(HostState hostState, long now) {
+    if (slowStartWindowMs <= 0) {
+      return 1;
+    }
+    long elapsedMs = now - hostState.firstSeenTimeMs;
+    if (elapsedMs >= slowStartWindowMs) {
+      return 1;
+    }
+    return slowStartMinWeight + (1 - slowStartMinWeight) * Math.max(elapsedMs, 0) / slowStartWindowMs;
+  }
+
+  private HostState getHostState(String hostId, long now) {
+    HostState hostState = hostStateMap.computeIfAbsent(hostId, h -> new HostState(h, now));
+    if (hostStateExpiryMs > 0 && now - hostState.lastSeenTimeMs > hostStateExpiryMs) {
+      /**
+       * The host hasn't been seen for a long time, which normally means it has been out of rotation (restarted,
+       * unhealthy, re-balanced, etc.), so its state is stale and it should go through the slow start again.
+       */
+      HostState newHostState = new HostState(hostId, now);
+      hostStateMap.put(hostId, newHostState);
+      return newHostState;
+    }
+    hostState.lastSeenTimeMs = now;
+    return hostState;
+  }
+
+  private class HostState {
+    private final String hostId;
+    private final long firstSeenTimeMs;
+    private volatile long lastSeenTimeMs;
+    private volatile long lastUpdateTimeMs = -1;
+    private volatile double latencyEwmaMs = 0;
+    private volatile double errorRateEwma = 0;
+
+    HostState(String hostId, long now) {
+      this.hostId = hostId;
+      this.firstSeenTimeMs = now;
+      this.lastSeenTimeMs = now;
+    }
+
+    boolean hasLatencySample() {
+      return lastUpdateTimeMs >= 0;
+    }
+
+    synchronized void update(double latencyMs, boolean success, long now) {
+      double errorSample = success ? 0 : 1;
+      if (!hasLatencySample()) {
+        latencyEwmaMs = latencyMs;
+        errorRateEwma = errorSample;
+      } else {
+        // Time-based decay, so the estimation is independent of the request rate.
+        double alpha = 1 - Math.exp(-(double) Math.max(now - lastUpdateTimeMs, 0) / decayWindowMs);
+        latencyEwmaMs =
+            latencyMs > latencyEwmaMs ? latencyMs : latencyEwmaMs + alpha * (latencyMs - latencyEwmaMs);
+        errorRateEwma = errorRateEwma + alpha * (errorSample - errorRateEwma);
+      }
+      lastUpdateTimeMs = now;
+    }
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+    private long decayWindowMs = 10000; // 10s
+    private double errorPenalty = 10.0;
+    private long slowStartWindowMs = 60000; // 1min
+    private double slowStartMinWeight = 0.1;
+    private long hostStateExpiryMs = 5 * 60000; // 5min
+    private ToLongFunction<String> pendingRequestCounter;
+    private Time time = new SystemTime();
+
+    public Builder setDecayWindowMs(long decayWindowMs) {
+      this.decayWindowMs = decayWindowMs;
+      return this;
+    }
+
+    public Builder setErrorPenalty(double errorPenalty) {
+      this.errorPenalty = errorPenalty;
+      return this;
+    }
+
+    public Builder setSlowStartWindowMs(long slowStartWindowMs) {
+      this.slowStartWindowMs = slowStartWindowMs;
+      return this;
+    }
+
+    public Builder setSlowStartMinWeight(double slowStartMinWeight) {
+      this.slowStartMinWeight = slowStartMinWeight;
+      return this;
+    }
+
+    public Builder setHostStateExpiryMs(long hostStateExpiryMs) {
+      this.hostStateExpiryMs = hostStateExpiryMs;
+      return this;
+    }
+
+    /**
+     * The pending request counter is maintained by the caller, such as Router or Fast Client, and it is used to
+     * penalize the hosts with requests queued up already.
+     */
+    public Builder setPendingRequestCounter(ToLongFunction<String> pendingRequestCounter) {
+      this.pendingRequestCounter = pendingRequestCounter;
+      return this;
+    }
+
+    public Builder setTime(Time time) {
+      this.time = time;
+      return this;
+    }
+
+    public LatencyAwareReplicaSelector build() {
+      return new LatencyAwareReplicaSelector(this);
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package com.linkedin.venice.routerapi;
+
+import com.linkedin.venice.controllerapi.ControllerResponse;
+import com.linkedin.venice.controllerapi.MultiSchemaResponse;
+import com.linkedin.venice.schema.SchemaData;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Response of the router's batch store metadata endpoint, which returns the metadata of a list of stores in a single
+ * round trip: /batch_store_metadata?stores=${storeName1},${storeName2}:${etag2},...
+ *
+ * Each store of the request can carry the etag of the metadata the client already has, in which case the store is only
+ * part of {@link #getStoreMetadata()} if its metadata has changed since. Stores which can't be found in the cluster of
+ * the router are listed in {@link #getMissingStores()}.
+ */
+public class BatchStoreMetadataResponse extends ControllerResponse {
+  public static final String STORES = "stores";
+  public static final String STORE_SEPARATOR = ",";
+  public static final String ETAG_SEPARATOR = ":";
+
+  private Map<String, StoreMetadata> storeMetadata = new HashMap<>();
+  private List<String> missingStores = new ArrayList<>();
+
+  public Map<String, StoreMetadata> getStoreMetadata() {
+    return storeMetadata;
+  }
+
+  public void setStoreMetadata(Map<String, StoreMetadata> storeMetadata) {
+    this.storeMetadata = storeMetadata;
+  }
+
+  public List<String> getMissingStores() {
+    return missingStores;
+  }
+
+  public void setMissingStores(List<String> missingStores) {
+    this.missingStores = missingStores;
+  }
+
+  public static class StoreMetadata {
+    /**
+     * Digest of all the other fields, which the client sends back on the next request to skip unchanged stores.
+     */
+    private String etag;
+    private String cluster;
+    private MultiSchemaResponse.Schema keySchema;
+    private MultiSchemaResponse.Schema[] valueSchemas;
+    private int superSetSchemaId = SchemaData.INVALID_VALUE_SCHEMA_ID;
+    private MultiSchemaResponse.Schema[] updateSchemas;
+    private int currentVersion;
+    private int partitionCount;
+    private String partitionerClass;
+    private Map<String, String> partitionerParams;
+    private String d2Service;
+    private String serverD2Service;
+
+    public String getEtag() {
+      return etag;
+    }
+
+    public void setEtag(String etag) {
+      this.etag = etag;
+    }
+
+    public String getCluster() {
+      return cluster;
+    }
+
+    public void setCluster(String cluster) {
+      this.cluster = cluster;
+    }
+
+    public MultiSchemaResponse.Schema getKeySchema() {
+      return keySchema;
+    }
+
+    public void setKeySchema(MultiSchemaResponse.Schema keySchema) {
+      this.keySchema = keySchema;
+    }
+
+    public MultiSchemaResponse.Schema[] getValueSchemas() {
+      return valueSchemas;
+    }
+
+    public void setValueSchemas(MultiSchemaResponse.Schema[] valueSchemas) {
+      this.valueSchemas = valueSchemas;
+    }
+
+    public int getSuperSetSchemaId() {
+      return superSetSchemaId;
+    }
+
+    public void setSuperSetSchemaId(int superSetSchemaId) {
+      this.superSetSchemaId = superSetSchemaId;
+    }
+
+    public MultiSchemaResponse.Schema[] getUpdateSchemas() {
+      return updateSchemas;
+    }
+
+    public void setUpdateSchemas(MultiSchemaResponse.Schema[] updateSchemas) {
+      this.updateSchemas = updateSchemas;
+    }
+
+    public int getCurrentVersion() {
+      return currentVersion;
+    }
+
+    public void setCurrentVersion(int currentVersion) {
+      this.currentVersion = currentVersion;
+    }
+
+    public int getPartitionCount() {
+      return partitionCount;
+    }
+
+    public void setPartitionCount(int partitionCount) {
+      this.partitionCount = partitionCount;
+    }
+
+    public String getPartitionerClass() {
+      return partitionerClass;
+    }
+
+    public void setPartitionerClass(String partitionerClass) {
+      this.partitionerClass = partitionerClass;
+    }
+
+    public Map<String, String> getPartitionerParams() {
+      return partitionerParams;
+    }
+
+    public void setPartitionerParams(Map<String, String> partitionerParams) {
+      this.partitionerParams = partitionerParams;
+    }
+
+    public String getD2Service() {
+      return d2Service;
+    }
+
+    public void setD2Service(String d2Service) {
+      this.d2Service = d2Service;
+    }
+
+    public String getServerD2Service() {
+      return serverD2Service;
+    }
+
+    public void setServerD2Service(String serverD2Service) {
+      this.serverD2Service = serverD2Service;
+    }
+  }
+}
@@ -4,6 +4,7 @@ import static com.linkedin.venice.HttpConstants.VENICE_API_VERSION;
 import static com.linkedin.venice.HttpConstants.VENICE_CLIENT_COMPUTE;
 import static com.linkedin.venice.HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID;
 import static com.linkedin.venice.HttpConstants.VENICE_KEY_COUNT;
+import static com.linkedin.venice.HttpConstants.VENICE_REQUEST_DEADLINE_MS;
 import static com.linkedin.venice.HttpConstants.VENICE_STREAMING;
 import static com.linkedin.venice.HttpConstants.VENICE_SUPPORTED_COMPRESSION_STRATEGY;
 
@@ -57,4 +58,19 @@ public class RequestHeadersProviderTest {
     Assert.assertEquals(headers.size(), 4);
     Assert.assertFalse(headers.containsKey(VENICE_CLIENT_COMPUTE));
   }
+
+  @Test
+  public void testRequestDeadlineHeader() {
+    Map<String, String> headers = RequestHeadersProvider.getStreamingBatchGetHeaders(1);
+    Assert.assertSame(RequestHeadersProvider.addRequestDeadlineHeader(headers, 0), headers);
+    Assert.assertFalse(headers.containsKey(VENICE_REQUEST_DEADLINE_MS));
+
+    long before = System.currentTimeMillis();
+    RequestHeadersProvider.addRequestDeadlineHeader(headers, 100);
+    long deadline = RequestHeadersProvider.parseRequestDeadlineHeader(headers.get(VENICE_REQUEST_DEADLINE_MS));
+    Assert.assertTrue(deadline >= before + 100 && deadline <= System.currentTimeMillis() + 100);
+
+    Assert.assertEquals(RequestHeadersProvider.parseRequestDeadlineHeader(null), -1);
+    Assert.assertEquals(RequestHeadersProvider.parseRequestDeadlineHeader("abc"), -1);
+  }
 }
@@ -0,0 +1,54 @@
+package com.linkedin.venice.read;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import org.testng.annotations.Test;
+
+
+public class ScanProtocolTest {
+  @Test
+  public void testPageRoundTrip() {
+    ScanProtocol.PageWriter writer = new ScanProtocol.PageWriter();
+    byte[] value1 = "value1".getBytes();
+    // Value in the middle of a larger array
+    byte[] paddedValue = "__value2__".getBytes();
+    ByteBuffer directValue = ByteBuffer.allocateDirect(6);
+    directValue.put("value3".getBytes()).flip();
+
+    writer.write("key1".getBytes(), 1, ByteBuffer.wrap(value1));
+    writer.write("key2".getBytes(), 2, ByteBuffer.wrap(paddedValue, 2, 6));
+    writer.write("key3".getBytes(), 3, directValue);
+    writer.write("key4".getBytes(), 4, ByteBuffer.allocate(0));
+    assertEquals(writer.getRecordCount(), 4);
+    byte[] page = writer.toByteArray();
+    assertEquals(writer.getSize(), page.length);
+
+    List<ScanProtocol.Record> records = ScanProtocol.parsePage(page);
+    assertEquals(records.size(), 4);
+    for (int i = 0; i < records.size(); i++) {
+      ScanProtocol.Record record = records.get(i);
+      assertTrue(Arrays.equals(record.getKey(), ("key" + (i + 1)).getBytes()));
+      assertEquals(record.getSchemaId(), i + 1);
+      String expectedValue = i == 3 ? "" : "value" + (i + 1);
+      assertEquals(new String(ByteUtils.extractByteArray(record.getValue())), expectedValue);
+    }
+  }
+
+  @Test
+  public void testParseEmptyAndMalformedPage() {
+    assertTrue(ScanProtocol.parsePage(null).isEmpty());
+    assertTrue(ScanProtocol.parsePage(new byte[0]).isEmpty());
+
+    ScanProtocol.PageWriter writer = new ScanProtocol.PageWriter();
+    writer.write("key".getBytes(), 1, ByteBuffer.wrap("value".getBytes()));
+    byte[] page = writer.toByteArray();
+    assertThrows(VeniceException.class, () -> ScanProtocol.parsePage(Arrays.copyOf(page, page.length - 1)));
+  }
+}
@@ -0,0 +1,151 @@
+package com.linkedin.venice.reliability;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import com.linkedin.venice.utils.Time;
+import org.testng.annotations.Test;
+
+
+public class AdaptiveConcurrencyLimiterTest {
+  @Test
+  public void testInvalidConfigs() {
+    expectThrows(
+        IllegalArgumentException.class,
+        () -> AdaptiveConcurrencyLimiter.newBuilder().setMinLimit(0).build());
+    expectThrows(
+        IllegalArgumentException.class,
+        () -> AdaptiveConcurrencyLimiter.newBuilder().setMinLimit(100).setMaxLimit(10).build());
+    expectThrows(
+        IllegalArgumentException.class,
+        () -> AdaptiveConcurrencyLimiter.newBuilder().setRttTolerance(0.5).build());
+    expectThrows(
+        IllegalArgumentException.class,
+        () -> AdaptiveConcurrencyLimiter.newBuilder().setBorrowRatio(0).build());
+  }
+
+  @Test
+  public void testAcquireAndRelease() {
+    AdaptiveConcurrencyLimiter limiter =
+        AdaptiveConcurrencyLimiter.newBuilder().setInitialLimit(10).setMinLimit(1).setBorrowRatio(1).build();
+    for (int i = 0; i < 10; i++) {
+      assertTrue(limiter.tryAcquire("store1"));
+    }
+    assertFalse(limiter.tryAcquire("store1"));
+    assertFalse(limiter.tryAcquire("store2"));
+    assertEquals(limiter.getInFlightCount(), 10);
+    assertEquals(limiter.getInFlightCount("store1"), 10);
+
+    limiter.release("store1");
+    assertEquals(limiter.getInFlightCount(), 9);
+    assertTrue(limiter.tryAcquire("store2"));
+    assertEquals(limiter.getInFlightCount("store2"), 1);
+
+    // Unknown key is ignored
+    limiter.release("unknown_store");
+    assertEquals(limiter.getInFlightCount(), 10);
+  }
+
+  @Test
+  public void testFairShare() {
+    AdaptiveConcurrencyLimiter limiter =
+        AdaptiveConcurrencyLimiter.newBuilder().setInitialLimit(10).setMinLimit(1).setBorrowRatio(0.5).build();
+    // A single store can borrow until half of the limit
+    for (int i = 0; i < 5; i++) {
+      assertTrue(limiter.tryAcquire("store1"));
+    }
+    // store1 is the only active store, so its fair share is the whole limit
+    for (int i = 0; i < 5; i++) {
+      assertTrue(limiter.tryAcquire("store1"));
+    }
+    limiter.release("store1");
+    limiter.release("store1");
+    limiter.release("store1");
+    limiter.release("store1");
+    assertEquals(limiter.getInFlightCount("store1"), 6);
+
+    // Once store2 becomes active, store1 is over its fair share, which is 5, so it can't borrow any more
+    assertTrue(limiter.tryAcquire("store2"));
+    assertFalse(limiter.tryAcquire("store1"));
+    assertEquals(limiter.getInFlightCount("store1"), 6);
+    // store2 is still under its fair share
+    assertTrue(limiter.tryAcquire("store2"));
+    assertTrue(limiter.tryAcquire("store2"));
+    assertTrue(limiter.tryAcquire("store2"));
+    assertFalse(limiter.tryAcquire("store2"));
+    assertEquals(limiter.getInFlightCount(), 10);
+  }
+
+  @Test
+  public void testLimitAdaptsToLatency() {
+    Time time = mock(Time.class);
+    long now = 100000L;
+    doReturn(now).when(time).getMilliseconds();
+    AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.newBuilder()
+        .setInitialLimit(100)
+        .setMinLimit(10)
+        .setMaxLimit(1000)
+        .setSampleWindowMs(1000)
+        .setMinSampleCountPerWindow(10)
+        .setTime(time)
+        .build();
+
+    // Saturate the limiter with healthy latency, and the limit should keep growing
+    for (int window = 0; window < 5; window++) {
+      int limit = limiter.getLimit();
+      for (int i = 0; i < limit; i++) {
+        assertTrue(limiter.tryAcquire("store1"));
+      }
+      for (int i = 0; i < limit - 1; i++) {
+        limiter.release("store1");
+        limiter.recordLatency(1);
+      }
+      // The limit is updated once the window ends
+      now += 1000;
+      doReturn(now).when(time).getMilliseconds();
+      limiter.release("store1");
+      limiter.recordLatency(1);
+      assertTrue(limiter.getLimit() > limit, "Limit should grow, but got: " + limiter.getLimit());
+    }
+    assertEquals(limiter.getLongTermLatencyMs(), 1d, 0.0001);
+
+    // Latency goes up a lot, and the limit should shrink
+    int limitBeforeSlowdown = limiter.getLimit();
+    for (int window = 0; window < 5; window++) {
+      for (int i = 0; i < 20; i++) {
+        limiter.recordLatency(10);
+      }
+      now += 1000;
+      doReturn(now).when(time).getMilliseconds();
+      limiter.recordLatency(10);
+    }
+    assertTrue(limiter.getLimit() < limitBeforeSlowdown, "Limit should shrink, but got: " + limiter.getLimit());
+
+    // The limit won't grow without enough in-flight requests even the latency is healthy
+    int limitBeforeIdle = limiter.getLimit();
+    for (int window = 0; window < 5; window++) {
+      for (int i = 0; i < 20; i++) {
+        limiter.recordLatency(1);
+      }
+      now += 1000;
+      doReturn(now).when(time).getMilliseconds();
+      limiter.recordLatency(1);
+    }
+    assertTrue(limiter.getLimit() <= limitBeforeIdle);
+
+    // The limit is never below the min limit
+    for (int window = 0; window < 100; window++) {
+      for (int i = 0; i < 20; i++) {
+        limiter.recordLatency(1000);
+      }
+      now += 1000;
+      doReturn(now).when(time).getMilliseconds();
+      limiter.recordLatency(1000);
+    }
+    assertEquals(limiter.getLimit(), 10);
+  }
+}
@@ -0,0 +1,115 @@
+package com.linkedin.venice.reliability;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.utils.Time;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+
+public class LatencyAwareReplicaSelectorTest {
+  @Test
+  public void testSelectPrefersFastHost() {
+    Time time = mock(Time.class);
+    doReturn(100000L).when(time).getMilliseconds();
+    LatencyAwareReplicaSelector selector =
+        LatencyAwareReplicaSelector.newBuilder().setSlowStartWindowMs(0).setTime(time).build();
+    assertNull(selector.select(Collections.emptyList()));
+    assertEquals(selector.select(Collections.singletonList("host1")), "host1");
+
+    selector.recordResponse("host1", 1, true);
+    selector.recordResponse("host2", 50, true);
+    List<String> candidates = Arrays.asList("host1", "host2");
+    for (int i = 0; i < 100; i++) {
+      assertEquals(selector.select(candidates), "host1");
+    }
+  }
+
+  @Test
+  public void testPeakEwmaAndDecay() {
+    Time time = mock(Time.class);
+    doReturn(100000L).when(time).getMilliseconds();
+    LatencyAwareReplicaSelector selector =
+        LatencyAwareReplicaSelector.newBuilder().setDecayWindowMs(1000).setTime(time).build();
+    selector.recordResponse("host1", 2, true);
+    // A single slow response is reflected right away
+    selector.recordResponse("host1", 200, true);
+    assertEquals(selector.getLatencyEwmaMs("host1"), 200d);
+
+    // Fast responses decay the estimation gradually
+    doReturn(101000L).when(time).getMilliseconds();
+    selector.recordResponse("host1", 2, true);
+    double latency = selector.getLatencyEwmaMs("host1");
+    assertTrue(latency > 2 && latency < 200, "Unexpected latency ewma: " + latency);
+    doReturn(110000L).when(time).getMilliseconds();
+    selector.recordResponse("host1", 2, true);
+    assertTrue(selector.getLatencyEwmaMs("host1") < 3);
+  }
+
+  @Test
+  public void testErrorPenalty() {
+    Time time = mock(Time.class);
+    doReturn(100000L).when(time).getMilliseconds();
+    LatencyAwareReplicaSelector selector =
+        LatencyAwareReplicaSelector.newBuilder().setSlowStartWindowMs(0).setTime(time).build();
+    selector.recordResponse("host1", 5, true);
+    selector.recordResponse("host2", 5, false);
+    assertEquals(selector.getErrorRateEwma("host2"), 1d);
+    assertTrue(selector.getCost("host2") > selector.getCost("host1"));
+    assertEquals(selector.select(Arrays.asList("host1", "host2")), "host1");
+  }
+
+  @Test
+  public void testPendingRequestCount() {
+    Time time = mock(Time.class);
+    doReturn(100000L).when(time).getMilliseconds();
+    Map<String, Long> pendingRequestCounts = new HashMap<>();
+    pendingRequestCounts.put("host1", 20L);
+    pendingRequestCounts.put("host2", 0L);
+    LatencyAwareReplicaSelector selector = LatencyAwareReplicaSelector.newBuilder()
+        .setSlowStartWindowMs(0)
+        .setPendingRequestCounter(pendingRequestCounts::get)
+        .setTime(time)
+        .build();
+    selector.recordResponse("host1", 5, true);
+    selector.recordResponse("host2", 10, true);
+    assertEquals(selector.select(Arrays.asList("host1", "host2")), "host2");
+  }
+
+  @Test
+  public void testSlowStart() {
+    Time time = mock(Time.class);
+    doReturn(100000L).when(time).getMilliseconds();
+    LatencyAwareReplicaSelector selector = LatencyAwareReplicaSelector.newBuilder()
+        .setSlowStartWindowMs(10000)
+        .setSlowStartMinWeight(0.1)
+        .setHostStateExpiryMs(60000)
+        .setTime(time)
+        .build();
+    selector.recordResponse("host1", 5, true);
+    double initialCost = selector.getCost("host1");
+
+    doReturn(105000L).when(time).getMilliseconds();
+    double halfWayCost = selector.getCost("host1");
+    assertTrue(halfWayCost < initialCost);
+
+    doReturn(110000L).when(time).getMilliseconds();
+    double fullCost = selector.getCost("host1");
+    assertTrue(fullCost < halfWayCost);
+    assertEquals(fullCost, 5d, 0.0001);
+
+    // The host goes through slow start again after being absent for a long time
+    doReturn(200000L).when(time).getMilliseconds();
+    assertEquals(selector.getLatencyEwmaMs("host1"), 5d);
+    assertTrue(selector.getCost("host1") > fullCost);
+    assertEquals(selector.getLatencyEwmaMs("host1"), 0d);
+  }
+}
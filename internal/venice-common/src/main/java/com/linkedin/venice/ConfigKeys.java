@@ -220,6 +220,18 @@ public class ConfigKeys {
   public static final String DA_VINCI_CURRENT_VERSION_BOOTSTRAPPING_QUOTA_BYTES_PER_SECOND =
       "da.vinci.current.version.bootstrapping.quota.bytes.per.second";
 
+  /**
+   * Whether to serve the hot keys out of an in-memory tier in front of the on-disk storage engines, which is enabled
+   * by the TIERED storage class of Da Vinci.
+   */
+  public static final String DA_VINCI_HOT_TIER_ENABLED = "da.vinci.hot.tier.enabled";
+
+  /**
+   * The total size of the keys and values kept in the in-memory tier of the host, when
+   * {@link #DA_VINCI_HOT_TIER_ENABLED} is true.
+   */
+  public static final String DA_VINCI_HOT_TIER_CAPACITY_IN_BYTES = "da.vinci.hot.tier.capacity.in.bytes";
+
   // Unordered throttlers aren't compatible with Shared Kafka Consumer and have no effect when Shared Consumer is used.
   public static final String KAFKA_FETCH_QUOTA_UNORDERED_BYTES_PER_SECOND =
       "kafka.fetch.quota.unordered.bytes.per.second";
@@ -485,6 +497,29 @@ public class ConfigKeys {
    */
   public static final String LOG_COMPACTION_DUPLICATE_KEY_THRESHOLD = "log.compaction.duplicate.key.threshold";
 
+  /**
+   * Whether scheduled log compaction only repushes the stores with at least one partition whose estimated ratio of
+   * superseded records is at least {@link #LOG_COMPACTION_PARTITION_DUPLICATE_RATIO_THRESHOLD}. By default, the ratios
+   * are estimated from the unique keys tracked by the servers, see
+   * {@link #SERVER_UNIQUE_INGESTED_KEY_COUNT_HLL_ENABLED}.
+   */
+  public static final String LOG_COMPACTION_DUPLICATE_RATIO_SELECTION_ENABLED =
+      "log.compaction.duplicate.ratio.selection.enabled";
+
+  /**
+   * Estimated ratio of superseded records of a partition above which its store is selected for log compaction
+   */
+  public static final String LOG_COMPACTION_PARTITION_DUPLICATE_RATIO_THRESHOLD =
+      "log.compaction.partition.duplicate.ratio.threshold";
+
+  /**
+   * Class name of the implementation of interface
+   * {@link com.linkedin.venice.controller.logcompaction.PartitionDuplicateRatioEstimator} used to select the stores
+   * for log compaction, instead of the default one fed by the servers
+   */
+  public static final String PARTITION_DUPLICATE_RATIO_ESTIMATOR_CLASS_NAME =
+      "controller.partition.duplicate.ratio.estimator.class.name";
+
   /**
    * This config is to indicate the max retention policy we have setup for deprecated jobs currently and in the past.
    * And this is used to decide whether the topic is deprecated or not during topic cleanup.
@@ -539,6 +574,29 @@ public class ConfigKeys {
   public static final String CONTROLLER_ZK_SHARED_META_SYSTEM_SCHEMA_STORE_AUTO_CREATION_ENABLED =
       "controller.zk.shared.metadata.system.schema.store.auto.creation.enabled";
 
+  /**
+   * Whether controller should write the store metadata into ZK in the compact binary format instead of json. All the
+   * components reading the store metadata from ZK must be able to read the binary format before turning it on, i.e.
+   * readers must be rolled out before writers. Check {@link com.linkedin.venice.helix.StoreBinarySerializer} for more
+   * details.
+   */
+  public static final String CONTROLLER_STORE_METADATA_BINARY_FORMAT_ENABLED =
+      "controller.store.metadata.binary.format.enabled";
+
+  /**
+   * Whether to compress the store metadata written in the binary format with gzip.
+   */
+  public static final String CONTROLLER_STORE_METADATA_COMPRESSION_ENABLED =
+      "controller.store.metadata.compression.enabled";
+
+  /**
+   * The protocol version of the store metadata written in the binary format, which defaults to the latest one known
+   * by the controller. Readers can only decode the protocol versions they know, so when the store metadata protocol
+   * is evolved, keep this pinned to the previous version until all the readers are upgraded, then bump it.
+   */
+  public static final String CONTROLLER_STORE_METADATA_BINARY_PROTOCOL_VERSION =
+      "controller.store.metadata.binary.protocol.version";
+
   /**
    * Whether controller should enforce SSL.
    */
@@ -1050,6 +1108,74 @@ public class ConfigKeys {
   public static final String SERVER_STORE_TO_EARLY_TERMINATION_THRESHOLD_MS_MAP =
       "server.store.to.early.termination.threshold.ms.map";
 
+  /**
+   * Whether to schedule the read requests with per-store weighted fair queueing, please find more details here:
+   * {@code com.linkedin.venice.listener.StoreAwareReadRequestScheduler}.
+   */
+  public static final String SERVER_READ_REQUEST_SCHEDULER_ENABLED = "server.read.request.scheduler.enabled";
+
+  /**
+   * The weight map of the read request scheduler: the key will be store name, and the value will be the weight.
+   * The stores not in this map will have the weight of 1.
+   */
+  public static final String SERVER_READ_REQUEST_SCHEDULER_STORE_TO_WEIGHT_MAP =
+      "server.read.request.scheduler.store.to.weight.map";
+
+  /**
+   * The read requests, which have been queued for longer than this threshold, will be rejected with the service
+   * overloaded status. 0 means no limit.
+   */
+  public static final String SERVER_READ_REQUEST_SCHEDULER_QUEUE_DELAY_SLO_MS =
+      "server.read.request.scheduler.queue.delay.slo.ms";
+
+  /**
+   * The per-store override of {@link #SERVER_READ_REQUEST_SCHEDULER_QUEUE_DELAY_SLO_MS}.
+   */
+  public static final String SERVER_READ_REQUEST_SCHEDULER_STORE_TO_QUEUE_DELAY_SLO_MS_MAP =
+      "server.read.request.scheduler.store.to.queue.delay.slo.ms.map";
+
+  /**
+   * Whether to sample the hot keys on the read path, and pre-warm the block cache of the future version with them once
+   * the future version is ready to serve, so that the version swap won't come with a cold block cache.
+   */
+  public static final String SERVER_BLOCK_CACHE_WARMUP_ENABLED = "server.block.cache.warmup.enabled";
+
+  /**
+   * The max number of hot keys tracked per store, which is also the max number of keys to warm up per version.
+   */
+  public static final String SERVER_BLOCK_CACHE_WARMUP_HOT_KEY_COUNT_PER_STORE =
+      "server.block.cache.warmup.hot.key.count.per.store";
+
+  /**
+   * One out of this number of key lookups will be sampled for hot key tracking.
+   */
+  public static final String SERVER_BLOCK_CACHE_WARMUP_KEY_SAMPLING_INTERVAL =
+      "server.block.cache.warmup.key.sampling.interval";
+
+  /**
+   * The max number of warm-up reads per second across all the stores, so that the warm-up won't compete with the
+   * online traffic.
+   */
+  public static final String SERVER_BLOCK_CACHE_WARMUP_MAX_READS_PER_SECOND =
+      "server.block.cache.warmup.max.reads.per.second";
+
+  /**
+   * Whether to serve the prefix-scan and range-scan requests, check {@link com.linkedin.venice.read.ScanProtocol}.
+   */
+  public static final String SERVER_SCAN_ENABLED = "server.scan.enabled";
+
+  /**
+   * The max number of records returned by a single scan request, and the scan needs to be resumed with the continuation
+   * token to fetch more.
+   */
+  public static final String SERVER_SCAN_MAX_RECORDS_PER_REQUEST = "server.scan.max.records.per.request";
+
+  /**
+   * The max size of the records returned by a single scan request. A page always contains at least one record, so a
+   * page could exceed this limit by the size of its last record.
+   */
+  public static final String SERVER_SCAN_MAX_BYTES_PER_REQUEST = "server.scan.max.bytes.per.request";
+
   /**
    * The following config is used to control the maximum database lookup requests queued, when the queue is full,
    * server will propagate the back pressure to the caller.
@@ -1691,6 +1817,27 @@ public class ConfigKeys {
   public static final String PARENT_CONTROLLER_WAITING_TIME_FOR_CONSUMPTION_MS =
       "parent.controller.waiting.time.for.consumption.ms";
 
+  /**
+   * The number of threads the parent controller uses to query the job status from the child regions in parallel.
+   */
+  public static final String PARENT_CONTROLLER_CHILD_REGION_QUERY_THREAD_COUNT =
+      "parent.controller.child.region.query.thread.count";
+
+  /**
+   * How long the parent controller waits for the child regions to return the job status of a push. The regions which
+   * don't respond in time are reported as failed to fetch the status.
+   */
+  public static final String PARENT_CONTROLLER_CHILD_REGION_QUERY_TIMEOUT_MS =
+      "parent.controller.child.region.query.timeout.ms";
+
+  /**
+   * How long the job status returned by the child regions is reused for the other pollers of the same push. The
+   * pollers which arrive while the child regions are being queried always share the same queries, and 0 means the
+   * job status is not reused after the queries finish.
+   */
+  public static final String PARENT_CONTROLLER_CHILD_REGION_JOB_STATUS_CACHE_TTL_MS =
+      "parent.controller.child.region.job.status.cache.ttl.ms";
+
   /**
    * The maximum time allowed for worker threads to execute admin messages in one cycle. A cycle is the processing of
    * delegated admin messages by some number of worker thread(s) defined by {@code ADMIN_CONSUMPTION_MAX_WORKER_THREAD_POOL_SIZE}.
@@ -2035,6 +2182,11 @@ public class ConfigKeys {
    */
   public static final String ROUTER_DICTIONARY_PROCESSING_THREADS = "router.dictionary.processing.threads";
 
+  /**
+   * Maximum time allowed for router to fetch a page of a scan request from a storage node.
+   */
+  public static final String ROUTER_SCAN_REQUEST_TIMEOUT_MS = "router.scan.request.timeout.ms";
+
   /**
    * A config that determines whether to use Helix customized view for hybrid store quota
    */
@@ -2440,6 +2592,12 @@ public class ConfigKeys {
    */
   public static final String CONTROLLER_JETTY_CONFIG_OVERRIDE_PREFIX = "controller.jetty.";
 
+  /**
+   * The maximum number of requests which can concurrently wait on a controller for the status of a push job to change.
+   * Each of them holds a thread of the Spark server, and the requests beyond it get the current job status right away.
+   */
+  public static final String CONTROLLER_JOB_STATUS_MAX_CONCURRENT_WAITS = "controller.job.status.max.concurrent.waits";
+
   /**
    * The number of records
    */
@@ -3016,6 +3174,22 @@ public class ConfigKeys {
   public static final String SERVER_LOAD_CONTROLLER_COMPUTE_LATENCY_ACCEPT_THRESHOLD_IN_MS =
       "server.load.controller.compute.latency.accept.threshold.in.ms";
 
+  /**
+   * Please find more details here: {@link com.linkedin.venice.reliability.AdaptiveConcurrencyLimiter}.
+   */
+  public static final String SERVER_ADAPTIVE_CONCURRENCY_LIMITER_ENABLED =
+      "server.adaptive.concurrency.limiter.enabled";
+  public static final String SERVER_ADAPTIVE_CONCURRENCY_LIMITER_INITIAL_LIMIT =
+      "server.adaptive.concurrency.limiter.initial.limit";
+  public static final String SERVER_ADAPTIVE_CONCURRENCY_LIMITER_MIN_LIMIT =
+      "server.adaptive.concurrency.limiter.min.limit";
+  public static final String SERVER_ADAPTIVE_CONCURRENCY_LIMITER_MAX_LIMIT =
+      "server.adaptive.concurrency.limiter.max.limit";
+  public static final String SERVER_ADAPTIVE_CONCURRENCY_LIMITER_RTT_TOLERANCE =
+      "server.adaptive.concurrency.limiter.rtt.tolerance";
+  public static final String SERVER_ADAPTIVE_CONCURRENCY_LIMITER_SAMPLE_WINDOW_IN_MS =
+      "server.adaptive.concurrency.limiter.sample.window.in.ms";
+
   public static final String SERVER_INACTIVE_TOPIC_PARTITION_CHECKER_ENABLED =
       "server.inactive.topic.partition.checker.enabled";
 
@@ -3025,6 +3199,40 @@ public class ConfigKeys {
   public static final String SERVER_INACTIVE_TOPIC_PARTITION_CHECKER_THRESHOLD_IN_SECONDS =
       "server.inactive.topic.partition.checker.threshold.in.seconds";
 
+  /**
+   * Whether to periodically move the busy topic-partitions from the most loaded shared consumer to the least loaded one
+   * within each consumer pool, check {@literal com.linkedin.davinci.kafka.consumer.ConsumerPartitionBalancer}.
+   */
+  public static final String SERVER_CONSUMER_PARTITION_BALANCER_ENABLED = "server.consumer.partition.balancer.enabled";
+
+  public static final String SERVER_CONSUMER_PARTITION_BALANCER_INTERVAL_IN_SECONDS =
+      "server.consumer.partition.balancer.interval.in.seconds";
+
+  /**
+   * The balancer only acts when the byte rate of the most loaded consumer exceeds the average byte rate of the pool by
+   * more than this ratio, e.g. 0.5 means 1.5x of the average.
+   */
+  public static final String SERVER_CONSUMER_PARTITION_BALANCER_IMBALANCE_THRESHOLD =
+      "server.consumer.partition.balancer.imbalance.threshold";
+
+  /**
+   * The balancer only moves partitions away from a consumer which has at least one partition lagging by more than this
+   * number of records, since a busy consumer which keeps up doesn't need any help. A non-positive value disables the
+   * lag check.
+   */
+  public static final String SERVER_CONSUMER_PARTITION_BALANCER_LAG_THRESHOLD =
+      "server.consumer.partition.balancer.lag.threshold";
+
+  /**
+   * A moved topic-partition won't be moved again within this period, which keeps the balancer from bouncing the same
+   * partition between consumers.
+   */
+  public static final String SERVER_CONSUMER_PARTITION_BALANCER_PARTITION_COOLDOWN_IN_SECONDS =
+      "server.consumer.partition.balancer.partition.cooldown.in.seconds";
+
+  public static final String SERVER_CONSUMER_PARTITION_BALANCER_MAX_MIGRATIONS_PER_RUN =
+      "server.consumer.partition.balancer.max.migrations.per.run";
+
   /**
    * Config to enable/disable lag based replica auto-resubscribe feature.
    * Default is false as we will plan to roll out step-by-step.
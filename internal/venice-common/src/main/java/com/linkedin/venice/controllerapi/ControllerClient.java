@@ -27,11 +27,13 @@ import static com.linkedin.venice.controllerapi.ControllerApiConstants.INCREMENT
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.IS_ABORT_MIGRATION_CLEANUP;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.IS_SYSTEM_STORE;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.IS_WRITE_COMPUTE_ENABLED;
+import static com.linkedin.venice.controllerapi.ControllerApiConstants.JOB_STATUS_WAIT_TIMEOUT_MS;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.KAFKA_TOPIC_LOG_COMPACTION_ENABLED;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.KAFKA_TOPIC_MIN_IN_SYNC_REPLICA;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.KAFKA_TOPIC_RETENTION_IN_MS;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.KAFKA_TOPIC_UNCLEAN_LEADER_ELECTION_ENABLED;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.KEY_SCHEMA;
+import static com.linkedin.venice.controllerapi.ControllerApiConstants.LAST_KNOWN_JOB_STATUS_DIGEST;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.LOOK_BACK_MS;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.NAME;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.OPERATION;
@@ -855,6 +857,40 @@ public class ControllerClient implements Closeable {
         isTargetRegionPushWithDeferredSwap);
   }
 
+  /**
+   * Long-polling variant of {@link #queryOverallJobStatus(String, Optional, String, boolean)}. The controller only
+   * responds once the status digest of the job differs from {@code lastKnownStatusDigest}, once the job reaches a
+   * terminal status, or after {@code waitTimeoutMs}, whichever comes first. Controllers which don't support
+   * {@link ControllerRoute#JOB_STATUS_CHANGE} respond with an {@link ErrorType#BAD_REQUEST} error, in which case the
+   * caller should fall back to polling the job status.
+   *
+   * @param lastKnownStatusDigest the {@link JobStatusQueryResponse#getStatusDigest()} of the last response, or null to
+   *                              get the current status right away.
+   */
+  public JobStatusQueryResponse waitForOverallJobStatusChange(
+      String kafkaTopic,
+      Optional<String> incrementalPushVersion,
+      String targetedRegions,
+      boolean isTargetRegionPushWithDeferredSwap,
+      String lastKnownStatusDigest,
+      long waitTimeoutMs) {
+    String storeName = Version.parseStoreFromKafkaTopicName(kafkaTopic);
+    int version = Version.parseVersionFromKafkaTopicName(kafkaTopic);
+    QueryParams params = newParams().add(NAME, storeName)
+        .add(VERSION, version)
+        .add(INCREMENTAL_PUSH_VERSION, incrementalPushVersion)
+        .add(TARGET_REGION_PUSH_WITH_DEFERRED_SWAP, isTargetRegionPushWithDeferredSwap)
+        .add(JOB_STATUS_WAIT_TIMEOUT_MS, waitTimeoutMs);
+    if (StringUtils.isNotEmpty(targetedRegions)) {
+      params.add(TARGETED_REGIONS, targetedRegions);
+    }
+    if (lastKnownStatusDigest != null) {
+      params.add(LAST_KNOWN_JOB_STATUS_DIGEST, lastKnownStatusDigest);
+    }
+    int timeoutMs = (int) Math.min(Integer.MAX_VALUE, waitTimeoutMs + 5L * QUERY_JOB_STATUS_TIMEOUT);
+    return request(ControllerRoute.JOB_STATUS_CHANGE, params, JobStatusQueryResponse.class, timeoutMs, 1, null, null);
+  }
+
   public JobStatusQueryResponse queryOverallJobStatus(
       String kafkaTopic,
       Optional<String> incrementalPushVersion,
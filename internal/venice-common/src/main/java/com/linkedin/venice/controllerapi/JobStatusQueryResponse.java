@@ -6,6 +6,7 @@ import com.linkedin.venice.pushmonitor.ExecutionStatus;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 
 /**
@@ -130,6 +131,21 @@ public class JobStatusQueryResponse
     return uncompletedPartitions;
   }
 
+  /**
+   * @return a digest of the overall status and of the status of each region, which changes whenever any of these
+   *         statuses changes. It's used to wait for the next status change of a job, see
+   *         {@link ControllerRoute#JOB_STATUS_CHANGE}.
+   */
+  @JsonIgnore
+  public String getStatusDigest() {
+    StringBuilder digest = new StringBuilder(String.valueOf(status));
+    if (extraInfo != null) {
+      new TreeMap<>(extraInfo)
+          .forEach((region, regionStatus) -> digest.append(',').append(region).append('=').append(regionStatus));
+    }
+    return digest.toString();
+  }
+
   public String toString() {
     return JobStatusQueryResponse.class.getSimpleName() + "(\n" + "version: " + version + ",\n" + "status: " + status
         + ",\n" + "statusDetails: " + statusDetails + ",\n" + "extraInfo: " + extraInfo + ",\n" + "extraDetails: "
@@ -7,6 +7,9 @@ import com.linkedin.venice.meta.ReadOnlyStore;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.StoreDataChangedListener;
+import com.linkedin.venice.meta.StorePropertiesChangedListener;
+import com.linkedin.venice.meta.VeniceSerializer;
+import com.linkedin.venice.meta.ZKStore;
 import com.linkedin.venice.utils.HelixUtils;
 import com.linkedin.venice.utils.PathResourceRegistry;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
@@ -49,14 +52,25 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
       String clusterName,
       HelixAdapterSerializer compositeSerializer,
       ClusterLockManager clusterLockManager) {
+    this(zkClient, clusterName, compositeSerializer, clusterLockManager, new StoreBinarySerializer());
+  }
+
+  /**
+   * @param storeSerializer the serializer of the store znodes, which should be able to read all the formats in use.
+   */
+  protected CachedReadOnlyStoreRepository(
+      ZkClient zkClient,
+      String clusterName,
+      HelixAdapterSerializer compositeSerializer,
+      ClusterLockManager clusterLockManager,
+      VeniceSerializer<Store> storeSerializer) {
     this.zkClient = zkClient;
     this.zkDataAccessor = new ZkBaseDataAccessor<>(zkClient);
     this.clusterName = clusterName;
     this.clusterStoreRepositoryPath =
         Paths.get(HelixUtils.getHelixClusterZkPath(clusterName), STORE_REPOSITORY_PATH).toString();
     compositeSerializer.registerSerializer(clusterStoreRepositoryPath, new VeniceJsonSerializer<>(Integer.TYPE));
-    compositeSerializer
-        .registerSerializer(getStoreZkPath(PathResourceRegistry.WILDCARD_MATCH_ANY), new StoreJSONSerializer());
+    compositeSerializer.registerSerializer(getStoreZkPath(PathResourceRegistry.WILDCARD_MATCH_ANY), storeSerializer);
     zkClient.setZkSerializer(compositeSerializer);
     this.clusterLockManager = clusterLockManager;
   }
@@ -167,9 +181,12 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
       if (oldStore == null) {
         totalStoreReadQuota.addAndGet(newStore.getReadQuotaInCU());
         notifyStoreCreated(newStore);
-      } else if (!oldStore.equals(newStore)) {
-        totalStoreReadQuota.addAndGet(newStore.getReadQuotaInCU() - oldStore.getReadQuotaInCU());
-        notifyStoreChanged(newStore);
+      } else {
+        Set<String> changedProperties = getChangedProperties(oldStore, newStore);
+        if (changedProperties == null ? !oldStore.equals(newStore) : !changedProperties.isEmpty()) {
+          totalStoreReadQuota.addAndGet(newStore.getReadQuotaInCU() - oldStore.getReadQuotaInCU());
+          notifyStoreChanged(newStore, changedProperties);
+        }
       }
       return oldStore;
     }
@@ -186,6 +203,16 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
     }
   }
 
+  /**
+   * @return the changed fields of the store, or null if they can't be computed for the given store types.
+   */
+  private static Set<String> getChangedProperties(Store oldStore, Store newStore) {
+    if (oldStore instanceof ZKStore && newStore instanceof ZKStore) {
+      return ((ZKStore) newStore).getChangedProperties((ZKStore) oldStore);
+    }
+    return null;
+  }
+
   protected final String getStoreZkPath(String storeName) {
     return Paths.get(clusterStoreRepositoryPath, storeName).toString();
   }
@@ -234,9 +261,13 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   }
 
   protected void notifyStoreChanged(Store store) {
+    notifyStoreChanged(store, null);
+  }
+
+  protected void notifyStoreChanged(Store store, Set<String> changedProperties) {
     for (StoreDataChangedListener listener: listeners) {
       try {
-        listener.handleStoreChanged(store);
+        StorePropertiesChangedListener.notifyStoreChanged(listener, store, changedProperties);
       } catch (Throwable e) {
         LOGGER.error("Could not handle store updating event for store: {}", store.getName(), e);
       }
@@ -7,6 +7,8 @@ import com.linkedin.venice.meta.Partition;
 import com.linkedin.venice.meta.PartitionAssignment;
 import com.linkedin.venice.meta.RoutingDataRepository;
 import com.linkedin.venice.pushmonitor.ExecutionStatus;
+import com.linkedin.venice.stats.RoutingTableChangeStats;
+import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import java.util.Collection;
@@ -73,8 +75,24 @@ public abstract class HelixBaseRoutingRepository
 
   protected final Map<PropertyType, List<String>> dataSource;
 
+  /**
+   * The partition assignments built in the previous routing table change, so that only the assignments of the changed
+   * resources are rebuilt. It should only be accessed while holding its own monitor.
+   */
+  protected final PartitionAssignmentCache partitionAssignmentCache = new PartitionAssignmentCache();
+
+  private final RoutingTableChangeStats routingTableChangeStats;
+
   public HelixBaseRoutingRepository(SafeHelixManager manager) {
+    this(manager, null);
+  }
+
+  /**
+   * @param routingTableChangeStats the stats of the routing table changes, or null to skip the reporting.
+   */
+  public HelixBaseRoutingRepository(SafeHelixManager manager, RoutingTableChangeStats routingTableChangeStats) {
     this.manager = manager;
+    this.routingTableChangeStats = routingTableChangeStats;
     listenerManager = new ListenerManager<>(null); // TODO make thread count configurable
     keyBuilder = new PropertyKey.Builder(manager.getClusterName());
     dataSource = new HashMap<>();
@@ -135,6 +153,9 @@ public abstract class HelixBaseRoutingRepository
   public void clear() {
     // removeListener method is a thread safe method, we don't need to lock here again.
     manager.removeListener(keyBuilder.controller(), this);
+    synchronized (partitionAssignmentCache) {
+      partitionAssignmentCache.clear();
+    }
     if (routingTableProvider != null) {
       routingTableProvider.removeRoutingTableChangeListener(this);
       try {
@@ -292,18 +313,37 @@ public abstract class HelixBaseRoutingRepository
       return;
     }
     PropertyType helixPropertyType = routingTableSnapshot.getPropertyType();
-    switch (helixPropertyType) {
-      case EXTERNALVIEW:
-        LOGGER.debug("Received Helix routing table change on External View");
-        onExternalViewDataChange(routingTableSnapshot);
-        break;
-      case CUSTOMIZEDVIEW:
-        LOGGER.debug("Received Helix routing table change on Customized View");
-        onCustomizedViewDataChange(routingTableSnapshot);
-        break;
-      default:
-        LOGGER.warn("Received Helix routing table change on invalid type: {}.", helixPropertyType);
+    long startTimeNs = System.nanoTime();
+    int rebuiltResourceCount;
+    int reusedResourceCount;
+    synchronized (partitionAssignmentCache) {
+      partitionAssignmentCache.resetResourceCounts();
+      switch (helixPropertyType) {
+        case EXTERNALVIEW:
+          LOGGER.debug("Received Helix routing table change on External View");
+          onExternalViewDataChange(routingTableSnapshot);
+          break;
+        case CUSTOMIZEDVIEW:
+          LOGGER.debug("Received Helix routing table change on Customized View");
+          onCustomizedViewDataChange(routingTableSnapshot);
+          break;
+        default:
+          LOGGER.warn("Received Helix routing table change on invalid type: {}.", helixPropertyType);
+          return;
+      }
+      rebuiltResourceCount = partitionAssignmentCache.getRebuiltResourceCount();
+      reusedResourceCount = partitionAssignmentCache.getReusedResourceCount();
+    }
+    double latencyMs = LatencyUtils.getElapsedTimeFromNSToMS(startTimeNs);
+    if (routingTableChangeStats != null) {
+      routingTableChangeStats.recordRoutingTableChange(latencyMs, rebuiltResourceCount, reusedResourceCount);
     }
+    LOGGER.debug(
+        "Handled Helix routing table change on {} in {}ms, with {} resources rebuilt and {} resources reused.",
+        helixPropertyType,
+        latencyMs,
+        rebuiltResourceCount,
+        reusedResourceCount);
   }
 
   protected abstract void onExternalViewDataChange(RoutingTableSnapshot routingTableSnapshot);
@@ -16,7 +16,9 @@ import com.linkedin.venice.pushmonitor.ExecutionStatus;
 import com.linkedin.venice.pushmonitor.PartitionStatus;
 import com.linkedin.venice.pushmonitor.ReadOnlyPartitionStatus;
 import com.linkedin.venice.routerapi.ReplicaState;
+import com.linkedin.venice.stats.RoutingTableChangeStats;
 import com.linkedin.venice.utils.HelixUtils;
+import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
@@ -53,11 +55,25 @@ public class HelixCustomizedViewOfflinePushRepository extends HelixBaseRoutingRe
 
   private final boolean enableReplicaStatusHistory;
 
+  /**
+   * Resources with listeners subscribed since their partition assignment was last built, which still need to be given
+   * the current partition statuses.
+   */
+  private final Set<String> resourcesWithNewListeners = VeniceConcurrentHashMap.newKeySet();
+
   public HelixCustomizedViewOfflinePushRepository(
       SafeHelixManager manager,
       ReadOnlyStoreRepository storeRepository,
       boolean enableReplicaStatusHistory) {
-    super(manager);
+    this(manager, storeRepository, enableReplicaStatusHistory, null);
+  }
+
+  public HelixCustomizedViewOfflinePushRepository(
+      SafeHelixManager manager,
+      ReadOnlyStoreRepository storeRepository,
+      boolean enableReplicaStatusHistory,
+      RoutingTableChangeStats routingTableChangeStats) {
+    super(manager, routingTableChangeStats);
     dataSource.put(PropertyType.CUSTOMIZEDVIEW, Collections.singletonList(HelixPartitionState.OFFLINE_PUSH.name()));
     this.storeRepository = storeRepository;
     this.storeRepository.registerStoreDataChangedListener(new StoreChangeListener());
@@ -127,56 +143,44 @@ public class HelixCustomizedViewOfflinePushRepository extends HelixBaseRoutingRe
           customizedViewCollection.stream().map(CustomizedView::getResourceName).collect(Collectors.toSet());
 
       Set<String> instancesSeenInCustomizedViewButMissingFromLiveInstances = new HashSet<>();
+      // Only rebuild the partition assignments of the resources whose customized view or instances changed.
+      partitionAssignmentCache.startUpdate(liveInstanceSnapshot);
+      boolean hasNewWildcardListeners = resourcesWithNewListeners.remove(Utils.WILDCARD_MATCH_ANY);
       for (CustomizedView customizedView: customizedViewCollection) {
         String resourceName = customizedView.getResourceName();
         int partitionCount = getPartitionCount(resourceName);
         if (partitionCount == STORE_VERSION_PARTITION_COUNT_NOT_FOUND) {
           continue;
         }
-        PartitionAssignment partitionAssignment = new PartitionAssignment(resourceName, partitionCount);
-        for (String partitionName: customizedView.getPartitionSet()) {
-          // Get instance to customized state map for this partition from local memory.
-          Map<String, String> instanceStateMap = customizedView.getStateMap(partitionName);
-          EnumMap<ExecutionStatus, List<Instance>> executionStatusToInstanceMap = new EnumMap<>(ExecutionStatus.class);
-          // Populate customized state to instance set map
-          for (Map.Entry<String, String> entry: instanceStateMap.entrySet()) {
-            String instanceName = entry.getKey();
-            String instanceState = entry.getValue();
-            Instance instance = liveInstanceSnapshot.get(instanceName);
-            if (instance != null) {
-              ExecutionStatus status;
-              try {
-                status = ExecutionStatus.valueOf(instanceState);
-              } catch (Exception e) {
-                LOGGER.warn("Instance: {} unrecognized status: {}.", instanceName, instanceState);
-                continue;
-              }
-              executionStatusToInstanceMap.computeIfAbsent(status, s -> new ArrayList<>()).add(instance);
-            } else {
-              instancesSeenInCustomizedViewButMissingFromLiveInstances.add(instanceName);
-            }
-          }
-          // Update partitionAssignment of customized state
-          int partitionId = HelixUtils.getPartitionId(partitionName);
-          partitionAssignment
-              .addPartition(new Partition(partitionId, new EnumMap<>(HelixState.class), executionStatusToInstanceMap));
-
-          // Update partition status to trigger callback
-          // Note we do not change the callback function which listens on PartitionStatus change, instead, we populate
-          // partition status with partition assignment data of customized view
-          PartitionStatus partitionStatus = new PartitionStatus(partitionId);
-          for (Map.Entry<ExecutionStatus, List<Instance>> entry: executionStatusToInstanceMap.entrySet()) {
-            for (Instance instance: entry.getValue()) {
-              partitionStatus.updateReplicaStatus(instance.getNodeId(), entry.getKey(), enableReplicaStatusHistory);
+        // Removed before the partition statuses are triggered, so that a listener which subscribes after that is
+        // notified on the next change.
+        boolean hasNewListeners = resourcesWithNewListeners.remove(resourceName) || hasNewWildcardListeners;
+        PartitionAssignment partitionAssignment =
+            partitionAssignmentCache.getUnchangedAssignment(customizedView, partitionCount);
+        if (partitionAssignment != null) {
+          if (hasNewListeners) {
+            // Give the new listeners the initial partition statuses, which they'd miss otherwise until the customized
+            // view of this resource changes.
+            for (Partition partition: partitionAssignment.getAllPartitions()) {
+              triggerPartitionStatusChange(
+                  resourceName,
+                  partition.getId(),
+                  partition.getAllInstancesByExecutionStatus());
             }
           }
-          listenerManager.trigger(
-              resourceName,
-              listener -> listener
-                  .onPartitionStatusChange(resourceName, ReadOnlyPartitionStatus.fromPartitionStatus(partitionStatus)));
+        } else {
+          partitionAssignment = buildPartitionAssignment(
+              customizedView,
+              partitionCount,
+              liveInstanceSnapshot,
+              instancesSeenInCustomizedViewButMissingFromLiveInstances);
+          partitionAssignmentCache.putAssignment(customizedView, partitionAssignment);
         }
         newResourceAssignment.setPartitionAssignment(resourceName, partitionAssignment);
       }
+      partitionAssignmentCache.finishUpdate();
+      // The listeners of the resources which aren't in the customized view yet are notified once they're added.
+      resourcesWithNewListeners.removeIf(resourceName -> !resourcesInCustomizedView.contains(resourceName));
       if (!instancesSeenInCustomizedViewButMissingFromLiveInstances.isEmpty()) {
         LOGGER.warn(
             "The following instances were found in the CV, but missing from Live Instances: {}",
@@ -218,6 +222,78 @@ public class HelixCustomizedViewOfflinePushRepository extends HelixBaseRoutingRe
     }
   }
 
+  /**
+   * Build the partition assignment of the given customized view, and trigger the partition status change of each
+   * partition, since the partition assignment is only rebuilt when the customized view changed.
+   */
+  private PartitionAssignment buildPartitionAssignment(
+      CustomizedView customizedView,
+      int partitionCount,
+      Map<String, Instance> liveInstanceSnapshot,
+      Set<String> instancesSeenInCustomizedViewButMissingFromLiveInstances) {
+    String resourceName = customizedView.getResourceName();
+    PartitionAssignment partitionAssignment = new PartitionAssignment(resourceName, partitionCount);
+    for (String partitionName: customizedView.getPartitionSet()) {
+      // Get instance to customized state map for this partition from local memory.
+      Map<String, String> instanceStateMap = customizedView.getStateMap(partitionName);
+      EnumMap<ExecutionStatus, List<Instance>> executionStatusToInstanceMap = new EnumMap<>(ExecutionStatus.class);
+      // Populate customized state to instance set map
+      for (Map.Entry<String, String> entry: instanceStateMap.entrySet()) {
+        String instanceName = entry.getKey();
+        String instanceState = entry.getValue();
+        Instance instance = liveInstanceSnapshot.get(instanceName);
+        if (instance != null) {
+          ExecutionStatus status;
+          try {
+            status = ExecutionStatus.valueOf(instanceState);
+          } catch (Exception e) {
+            LOGGER.warn("Instance: {} unrecognized status: {}.", instanceName, instanceState);
+            continue;
+          }
+          executionStatusToInstanceMap.computeIfAbsent(status, s -> new ArrayList<>()).add(instance);
+        } else {
+          instancesSeenInCustomizedViewButMissingFromLiveInstances.add(instanceName);
+        }
+      }
+      // Update partitionAssignment of customized state
+      int partitionId = HelixUtils.getPartitionId(partitionName);
+      partitionAssignment
+          .addPartition(new Partition(partitionId, new EnumMap<>(HelixState.class), executionStatusToInstanceMap));
+
+      triggerPartitionStatusChange(resourceName, partitionId, executionStatusToInstanceMap);
+    }
+    return partitionAssignment;
+  }
+
+  private void triggerPartitionStatusChange(
+      String resourceName,
+      int partitionId,
+      Map<ExecutionStatus, List<Instance>> executionStatusToInstanceMap) {
+    // Update partition status to trigger callback
+    // Note we do not change the callback function which listens on PartitionStatus change, instead, we populate
+    // partition status with partition assignment data of customized view
+    PartitionStatus partitionStatus = new PartitionStatus(partitionId);
+    for (Map.Entry<ExecutionStatus, List<Instance>> entry: executionStatusToInstanceMap.entrySet()) {
+      for (Instance instance: entry.getValue()) {
+        partitionStatus.updateReplicaStatus(instance.getNodeId(), entry.getKey(), enableReplicaStatusHistory);
+      }
+    }
+    listenerManager.trigger(
+        resourceName,
+        listener -> listener
+            .onPartitionStatusChange(resourceName, ReadOnlyPartitionStatus.fromPartitionStatus(partitionStatus)));
+  }
+
+  /**
+   * The partition statuses are only triggered for the resources rebuilt on a customized view change, so the resource
+   * is remembered to give the new listener the current partition statuses on the next change.
+   */
+  @Override
+  public void subscribeRoutingDataChange(String kafkaTopic, RoutingDataChangedListener listener) {
+    super.subscribeRoutingDataChange(kafkaTopic, listener);
+    resourcesWithNewListeners.add(kafkaTopic);
+  }
+
   // test only
   Map<String, Integer> getResourceToPartitionCountMap() {
     return Collections.unmodifiableMap(this.resourceToPartitionCountMap);
@@ -7,6 +7,7 @@ import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.Partition;
 import com.linkedin.venice.meta.PartitionAssignment;
 import com.linkedin.venice.pushmonitor.ExecutionStatus;
+import com.linkedin.venice.stats.RoutingTableChangeStats;
 import com.linkedin.venice.utils.HelixUtils;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import java.util.ArrayList;
@@ -41,7 +42,11 @@ public class HelixExternalViewRepository extends HelixBaseRoutingRepository impl
   private volatile Map<String, Integer> resourceToIdealPartitionCountMap;
 
   public HelixExternalViewRepository(SafeHelixManager manager) {
-    super(manager);
+    this(manager, null);
+  }
+
+  public HelixExternalViewRepository(SafeHelixManager manager, RoutingTableChangeStats routingTableChangeStats) {
+    super(manager, routingTableChangeStats);
     dataSource.put(PropertyType.EXTERNALVIEW, Collections.emptyList());
   }
 
@@ -109,6 +114,8 @@ public class HelixExternalViewRepository extends HelixBaseRoutingRepository impl
       }
     }
 
+    // Only rebuild the partition assignments of the resources whose external view or instances changed.
+    partitionAssignmentCache.startUpdate(liveInstanceSnapshot);
     for (ExternalView externalView: externalViewCollection) {
       String resourceName = externalView.getResourceName();
       if (!resourceToPartitionCountMapSnapshot.containsKey(resourceName)) {
@@ -118,35 +125,16 @@ public class HelixExternalViewRepository extends HelixBaseRoutingRepository impl
             resourceName);
         continue;
       }
+      int partitionCount = resourceToPartitionCountMapSnapshot.get(resourceName);
       PartitionAssignment partitionAssignment =
-          new PartitionAssignment(resourceName, resourceToPartitionCountMapSnapshot.get(resourceName));
-      for (String partitionName: externalView.getPartitionSet()) {
-        // Get instance to state map for this partition from local memory.
-        Map<String, String> instanceStateMap = externalView.getStateMap(partitionName);
-        EnumMap<HelixState, List<Instance>> stateToInstanceMap = new EnumMap<>(HelixState.class);
-        for (Map.Entry<String, String> entry: instanceStateMap.entrySet()) {
-          String instanceName = entry.getKey();
-          String instanceState = entry.getValue();
-          Instance instance = liveInstanceSnapshot.get(instanceName);
-          if (instance != null) {
-            HelixState state;
-            try {
-              state = HelixState.valueOf(instanceState);
-            } catch (Exception e) {
-              LOGGER.warn("Instance: {} unrecognized state: {}.", instanceName, instanceState);
-              continue;
-            }
-            stateToInstanceMap.computeIfAbsent(state, k -> new ArrayList<>()).add(instance);
-          } else {
-            LOGGER.warn("Cannot find instance '{}' in /LIVEINSTANCES", instanceName);
-          }
-        }
-        int partitionId = HelixUtils.getPartitionId(partitionName);
-        partitionAssignment
-            .addPartition(new Partition(partitionId, stateToInstanceMap, new EnumMap<>(ExecutionStatus.class)));
+          partitionAssignmentCache.getUnchangedAssignment(externalView, partitionCount);
+      if (partitionAssignment == null) {
+        partitionAssignment = buildPartitionAssignment(externalView, partitionCount, liveInstanceSnapshot);
+        partitionAssignmentCache.putAssignment(externalView, partitionAssignment);
       }
       newResourceAssignment.setPartitionAssignment(resourceName, partitionAssignment);
     }
+    partitionAssignmentCache.finishUpdate();
     ResourceAssignmentChanges updates;
     synchronized (resourceAssignment) {
       // Update the live instances as well. Helix updates live instances in this routing data changed event.
@@ -156,9 +144,7 @@ public class HelixExternalViewRepository extends HelixBaseRoutingRepository impl
       updates = resourceAssignment.updateResourceAssignment(newResourceAssignment);
     }
     LOGGER.info("External view is changed: {}", updates);
-    // Start sending notification to listeners. As we can not get the changed data only from Helix, so we just notify
-    // all listeners.
-    // And assume that the listener would compare and decide how to handle this event.
+    // Only notify the listeners of the resources whose partition assignment changed.
 
     for (String kafkaTopic: updates.getUpdatedResources()) {
       PartitionAssignment partitionAssignment = resourceAssignment.getPartitionAssignment(kafkaTopic);
@@ -171,6 +157,39 @@ public class HelixExternalViewRepository extends HelixBaseRoutingRepository impl
     }
   }
 
+  private PartitionAssignment buildPartitionAssignment(
+      ExternalView externalView,
+      int partitionCount,
+      Map<String, Instance> liveInstanceSnapshot) {
+    PartitionAssignment partitionAssignment = new PartitionAssignment(externalView.getResourceName(), partitionCount);
+    for (String partitionName: externalView.getPartitionSet()) {
+      // Get instance to state map for this partition from local memory.
+      Map<String, String> instanceStateMap = externalView.getStateMap(partitionName);
+      EnumMap<HelixState, List<Instance>> stateToInstanceMap = new EnumMap<>(HelixState.class);
+      for (Map.Entry<String, String> entry: instanceStateMap.entrySet()) {
+        String instanceName = entry.getKey();
+        String instanceState = entry.getValue();
+        Instance instance = liveInstanceSnapshot.get(instanceName);
+        if (instance != null) {
+          HelixState state;
+          try {
+            state = HelixState.valueOf(instanceState);
+          } catch (Exception e) {
+            LOGGER.warn("Instance: {} unrecognized state: {}.", instanceName, instanceState);
+            continue;
+          }
+          stateToInstanceMap.computeIfAbsent(state, k -> new ArrayList<>()).add(instance);
+        } else {
+          LOGGER.warn("Cannot find instance '{}' in /LIVEINSTANCES", instanceName);
+        }
+      }
+      int partitionId = HelixUtils.getPartitionId(partitionName);
+      partitionAssignment
+          .addPartition(new Partition(partitionId, stateToInstanceMap, new EnumMap<>(ExecutionStatus.class)));
+    }
+    return partitionAssignment;
+  }
+
   private void refreshResourceToIdealPartitionCountMap(List<IdealState> idealStates) {
     HashMap<String, Integer> partitionCountMap = new HashMap<>();
     for (IdealState idealState: idealStates) {
@@ -5,6 +5,7 @@ import com.linkedin.venice.exceptions.VeniceNoStoreException;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.StoreDataChangedListener;
+import com.linkedin.venice.meta.StorePropertiesChangedListener;
 import com.linkedin.venice.meta.SystemStore;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -276,7 +277,7 @@ public class HelixReadOnlyStoreRepositoryAdapter implements ReadOnlyStoreReposit
   /**
    * {@link StoreDataChangedListener} to handle all the events from {@link #regularStoreDataChangedListener}.
    */
-  public class VeniceStoreDataChangedListener implements StoreDataChangedListener {
+  public class VeniceStoreDataChangedListener implements StorePropertiesChangedListener {
     /**
      * Notify the store creation and maybe the corresponding system store creation.
      * TODO: so far, this function only supports {@link VeniceSystemStoreType#META_STORE}, and if you plan to support
@@ -396,10 +397,15 @@ public class HelixReadOnlyStoreRepositoryAdapter implements ReadOnlyStoreReposit
      * @param store
      */
     public void handleStoreChanged(Store store) {
+      handleStoreChanged(store, null);
+    }
+
+    @Override
+    public void handleStoreChanged(Store store, Set<String> changedProperties) {
       listeners.forEach(listener -> {
         // Notify the regular store change
         try {
-          listener.handleStoreChanged(store);
+          StorePropertiesChangedListener.notifyStoreChanged(listener, store, changedProperties);
         } catch (Throwable t) {
           LOGGER.error(
               "Received exception while invoking `handleStoreChanged` of listener: {} with store: {}.",
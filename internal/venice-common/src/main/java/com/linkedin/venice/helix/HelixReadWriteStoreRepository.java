@@ -4,6 +4,7 @@ import com.linkedin.venice.exceptions.VeniceNoStoreException;
 import com.linkedin.venice.exceptions.VeniceStoreAlreadyExistsException;
 import com.linkedin.venice.meta.ReadWriteStoreRepository;
 import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.VeniceSerializer;
 import com.linkedin.venice.system.store.MetaStoreWriter;
 import com.linkedin.venice.utils.HelixUtils;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
@@ -30,7 +31,21 @@ public class HelixReadWriteStoreRepository extends CachedReadOnlyStoreRepository
       String clusterName,
       Optional<MetaStoreWriter> metaStoreWriter,
       ClusterLockManager storeLock) {
-    super(zkClient, clusterName, compositeSerializer, storeLock);
+    this(zkClient, compositeSerializer, clusterName, metaStoreWriter, storeLock, new StoreBinarySerializer());
+  }
+
+  /**
+   * @param storeSerializer decides the format of the store znodes written by this repository, see
+   *                        {@link StoreBinarySerializer}.
+   */
+  public HelixReadWriteStoreRepository(
+      ZkClient zkClient,
+      HelixAdapterSerializer compositeSerializer,
+      String clusterName,
+      Optional<MetaStoreWriter> metaStoreWriter,
+      ClusterLockManager storeLock,
+      VeniceSerializer<Store> storeSerializer) {
+    super(zkClient, clusterName, compositeSerializer, storeLock, storeSerializer);
     this.clusterName = clusterName;
     this.metaStoreWriter = metaStoreWriter;
   }
@@ -0,0 +1,118 @@
+package com.linkedin.venice.helix;
+
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.PartitionAssignment;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.helix.HelixProperty;
+
+
+/**
+ * Cache the {@link PartitionAssignment} built from the Helix view of each resource in the previous routing table
+ * change, so that a routing table change only needs to rebuild the assignments of the resources whose view changed,
+ * instead of all the resources in the cluster.
+ *
+ * A cached assignment is reused if the view of the resource, the expected number of partitions and all the instances
+ * referenced by the view are the same as the ones it was built from, since the assignment only contains the instances
+ * which were live at that time. Helix keeps the same view objects for the unchanged resources across snapshots, so the
+ * view comparison is a reference check in most cases.
+ *
+ * This class is not thread-safe, and it should only be accessed while handling a routing table change:
+ * {@link #startUpdate}, then {@link #getUnchangedAssignment} or {@link #putAssignment} for each resource in the view,
+ * and {@link #finishUpdate} in the end to evict the resources which are gone.
+ */
+class PartitionAssignmentCache {
+  private Map<String, CachedAssignment> cachedAssignments = new HashMap<>();
+  private Map<String, CachedAssignment> updatedAssignments = new HashMap<>();
+  private Map<String, Instance> liveInstances = new HashMap<>();
+  private int rebuiltResourceCount = 0;
+  private int reusedResourceCount = 0;
+
+  void startUpdate(Map<String, Instance> liveInstanceSnapshot) {
+    this.liveInstances = liveInstanceSnapshot;
+    this.updatedAssignments = new HashMap<>();
+  }
+
+  /**
+   * @return the cached assignment of the resource if it could be reused, otherwise null and the caller needs to build
+   *         the assignment and put it back by {@link #putAssignment}.
+   */
+  PartitionAssignment getUnchangedAssignment(HelixProperty view, int partitionCount) {
+    CachedAssignment cachedAssignment = cachedAssignments.get(view.getResourceName());
+    if (cachedAssignment == null || !cachedAssignment.isReusable(view, partitionCount, liveInstances)) {
+      return null;
+    }
+    updatedAssignments.put(view.getResourceName(), cachedAssignment);
+    reusedResourceCount++;
+    return cachedAssignment.partitionAssignment;
+  }
+
+  void putAssignment(HelixProperty view, PartitionAssignment partitionAssignment) {
+    Map<String, Instance> referencedInstances = new HashMap<>();
+    for (Map<String, String> instanceStateMap: view.getRecord().getMapFields().values()) {
+      for (String instanceName: instanceStateMap.keySet()) {
+        referencedInstances.computeIfAbsent(instanceName, liveInstances::get);
+      }
+    }
+    updatedAssignments
+        .put(view.getResourceName(), new CachedAssignment(view, partitionAssignment, referencedInstances));
+    rebuiltResourceCount++;
+  }
+
+  void finishUpdate() {
+    this.cachedAssignments = updatedAssignments;
+    this.updatedAssignments = new HashMap<>();
+  }
+
+  void clear() {
+    cachedAssignments = new HashMap<>();
+    updatedAssignments = new HashMap<>();
+  }
+
+  void resetResourceCounts() {
+    rebuiltResourceCount = 0;
+    reusedResourceCount = 0;
+  }
+
+  int getRebuiltResourceCount() {
+    return rebuiltResourceCount;
+  }
+
+  int getReusedResourceCount() {
+    return reusedResourceCount;
+  }
+
+  private static class CachedAssignment {
+    private final HelixProperty view;
+    private final PartitionAssignment partitionAssignment;
+    /**
+     * The instances referenced by the view, and the value is null if the instance was not live.
+     */
+    private final Map<String, Instance> referencedInstances;
+
+    CachedAssignment(
+        HelixProperty view,
+        PartitionAssignment partitionAssignment,
+        Map<String, Instance> referencedInstances) {
+      this.view = view;
+      this.partitionAssignment = partitionAssignment;
+      this.referencedInstances = referencedInstances;
+    }
+
+    boolean isReusable(HelixProperty newView, int partitionCount, Map<String, Instance> liveInstances) {
+      if (partitionAssignment.getExpectedNumberOfPartitions() != partitionCount) {
+        return false;
+      }
+      if (view != newView && !view.getRecord().equals(newView.getRecord())) {
+        return false;
+      }
+      for (Map.Entry<String, Instance> entry: referencedInstances.entrySet()) {
+        if (!Objects.equals(entry.getValue(), liveInstances.get(entry.getKey()))) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package com.linkedin.venice.helix;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.GzipCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.VeniceSerializer;
+import com.linkedin.venice.meta.ZKStore;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.systemstore.schemas.StoreMetaValue;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.Utils;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Serializer used to convert the data between {@link Store} and a compact binary format, which is the Avro binary
+ * encoding of the {@link com.linkedin.venice.systemstore.schemas.StoreProperties} backing {@link ZKStore}, the same
+ * record written to the meta system store. The binary format is about an order of magnitude smaller and faster to
+ * parse than the pretty-printed json written by {@link StoreJSONSerializer}.
+ *
+ * Binary format: [magic byte][format version][compression strategy][protocol version (int)][payload], where the
+ * payload is the optionally compressed {@link StoreMetaValue} of the given protocol version. The payload is decoded
+ * with the schema of that protocol version as the writer schema, and resolved against the compiled one.
+ *
+ * Deserialization supports both formats, and the format to write is configurable, so the migration goes like this:
+ * 1. Roll out this serializer to all the components reading the store metadata, which keep reading the json znodes.
+ * 2. Turn on the binary format in controllers, and every znode gets converted the next time the store is updated.
+ *
+ * Readers can only decode the protocol versions they were built with, so readers must always be upgraded before
+ * writers. When a new protocol version of {@link StoreMetaValue} is introduced, controllers should keep writing the
+ * previous protocol version, which is configurable, until all the readers are upgraded.
+ */
+public class StoreBinarySerializer implements VeniceSerializer<Store> {
+  /**
+   * A json document never starts with this byte.
+   */
+  static final byte MAGIC_BYTE = 0;
+  static final byte FORMAT_VERSION = 1;
+  private static final int HEADER_SIZE = 3 + Integer.BYTES;
+  /**
+   * Same limit as {@link VeniceJsonSerializer}.
+   */
+  private static final int SERIALIZED_SIZE_LIMIT = 0xfffff;
+
+  private static final InternalAvroSpecificSerializer<StoreMetaValue> STORE_META_VALUE_SERIALIZER =
+      AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE.getSerializer();
+  private static final int PROTOCOL_VERSION =
+      AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE.getCurrentProtocolVersion();
+  private static final GzipCompressor GZIP_COMPRESSOR = new GzipCompressor();
+
+  private final StoreJSONSerializer jsonSerializer = new StoreJSONSerializer();
+  private final boolean binaryFormatEnabled;
+  private final CompressionStrategy compressionStrategy;
+  private final int writerProtocolVersion;
+  /**
+   * Only set when writing an older protocol version than the compiled one, to convert the compiled record to it.
+   */
+  private final RecordDeserializer<GenericRecord> writerProtocolDeserializer;
+  private final RecordSerializer<GenericRecord> writerProtocolSerializer;
+
+  /**
+   * Read both formats, and write json.
+   */
+  public StoreBinarySerializer() {
+    this(false, CompressionStrategy.NO_OP);
+  }
+
+  /**
+   * @param binaryFormatEnabled whether to write the binary format, otherwise json is written.
+   * @param compressionStrategy the compression of the binary format, and only {@link CompressionStrategy#NO_OP} and
+   *                            {@link CompressionStrategy#GZIP} are supported.
+   */
+  public StoreBinarySerializer(boolean binaryFormatEnabled, CompressionStrategy compressionStrategy) {
+    this(binaryFormatEnabled, compressionStrategy, PROTOCOL_VERSION);
+  }
+
+  /**
+   * @param writerProtocolVersion the protocol version of the binary format to write, which can be older than the
+   *                              compiled one so that readers which haven't been upgraded yet could still read it.
+   */
+  public StoreBinarySerializer(
+      boolean binaryFormatEnabled,
+      CompressionStrategy compressionStrategy,
+      int writerProtocolVersion) {
+    if (compressionStrategy != CompressionStrategy.NO_OP && compressionStrategy != CompressionStrategy.GZIP) {
+      throw new VeniceException("Unsupported compression strategy: " + compressionStrategy);
+    }
+    this.binaryFormatEnabled = binaryFormatEnabled;
+    this.compressionStrategy = compressionStrategy;
+    this.writerProtocolVersion = writerProtocolVersion;
+    if (writerProtocolVersion == PROTOCOL_VERSION) {
+      this.writerProtocolDeserializer = null;
+      this.writerProtocolSerializer = null;
+    } else {
+      Schema writerProtocolSchema =
+          Utils.getAllSchemasFromResources(AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE)
+              .get(writerProtocolVersion);
+      if (writerProtocolSchema == null || writerProtocolVersion > PROTOCOL_VERSION) {
+        throw new VeniceException(
+            "Unsupported protocol version: " + writerProtocolVersion + ", the latest protocol version is: "
+                + PROTOCOL_VERSION);
+      }
+      this.writerProtocolDeserializer = SerializerDeserializerFactory.getAvroGenericDeserializer(
+          AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE.getCurrentProtocolVersionSchema(),
+          writerProtocolSchema);
+      this.writerProtocolSerializer = SerializerDeserializerFactory.getAvroGenericSerializer(writerProtocolSchema);
+    }
+  }
+
+  @Override
+  public byte[] serialize(Store object, String path) throws IOException {
+    if (!binaryFormatEnabled) {
+      return jsonSerializer.serialize(object, path);
+    }
+    if (!(object instanceof ZKStore)) {
+      throw new VeniceException("This serializer only supports ZKStore type for binary serialization");
+    }
+    StoreMetaValue value = new StoreMetaValue();
+    value.storeProperties = ((ZKStore) object).dataModel();
+    byte[] payload = STORE_META_VALUE_SERIALIZER.serialize(null, value);
+    if (writerProtocolSerializer != null) {
+      // Drop the fields unknown to the writer protocol version by resolving the compiled schema against it
+      payload = writerProtocolSerializer.serialize(writerProtocolDeserializer.deserialize(payload));
+    }
+    if (compressionStrategy == CompressionStrategy.GZIP) {
+      payload = GZIP_COMPRESSOR.compress(payload);
+    }
+    if (HEADER_SIZE + payload.length > SERIALIZED_SIZE_LIMIT) {
+      throw new IOException("Serialized store exceeded the size limit of " + SERIALIZED_SIZE_LIMIT + " bytes");
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+    buffer.put(MAGIC_BYTE);
+    buffer.put(FORMAT_VERSION);
+    buffer.put((byte) compressionStrategy.getValue());
+    buffer.putInt(writerProtocolVersion);
+    buffer.put(payload);
+    return buffer.array();
+  }
+
+  @Override
+  public Store deserialize(byte[] bytes, String path) throws IOException {
+    if (!isBinaryFormat(bytes)) {
+      return jsonSerializer.deserialize(bytes, path);
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    buffer.get();
+    byte formatVersion = buffer.get();
+    if (formatVersion != FORMAT_VERSION) {
+      throw new IOException("Unsupported format version: " + formatVersion + " of store: " + path);
+    }
+    CompressionStrategy storedCompressionStrategy = CompressionStrategy.valueOf(buffer.get());
+    int protocolVersion = buffer.getInt();
+    byte[] payload;
+    if (storedCompressionStrategy == CompressionStrategy.GZIP) {
+      payload = ByteUtils.extractByteArray(GZIP_COMPRESSOR.decompress(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE));
+    } else if (storedCompressionStrategy == CompressionStrategy.NO_OP) {
+      payload = Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length);
+    } else {
+      throw new IOException("Unsupported compression strategy: " + storedCompressionStrategy + " of store: " + path);
+    }
+    if (protocolVersion > PROTOCOL_VERSION) {
+      throw new IOException(
+          "Store: " + path + " is written with protocol version: " + protocolVersion
+              + ", which is newer than the latest known protocol version: " + PROTOCOL_VERSION
+              + ". The readers of the store metadata must be upgraded before the writers");
+    }
+    StoreMetaValue value;
+    try {
+      value = STORE_META_VALUE_SERIALIZER.deserialize(payload, protocolVersion);
+    } catch (VeniceException e) {
+      throw new IOException("Failed to decode store: " + path + " of protocol version: " + protocolVersion, e);
+    }
+    if (value.storeProperties == null) {
+      throw new IOException("Missing store properties of store: " + path);
+    }
+    return new ZKStore(value.storeProperties);
+  }
+
+  static boolean isBinaryFormat(byte[] bytes) {
+    return bytes != null && bytes.length >= HEADER_SIZE && bytes[0] == MAGIC_BYTE;
+  }
+}
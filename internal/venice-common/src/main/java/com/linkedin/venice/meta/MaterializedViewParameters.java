@@ -31,7 +31,13 @@ public enum MaterializedViewParameters {
   /**
    * Parameter key used to specify the top level fields to perform projection on for records in the materialized view.
    */
-  MATERIALIZED_VIEW_PROJECTION_FIELDS;
+  MATERIALIZED_VIEW_PROJECTION_FIELDS,
+
+  /**
+   * Parameter key used to specify the top level value fields to build the index key on for a
+   * {@link com.linkedin.venice.views.SecondaryIndexView}.
+   */
+  MATERIALIZED_VIEW_SECONDARY_INDEX_FIELDS;
 
   public static class Builder {
     private String viewName;
@@ -39,6 +45,7 @@ public enum MaterializedViewParameters {
     private String partitionerParams;
     private String partitionCount;
     private List<String> projectionFields = Collections.emptyList();
+    private List<String> secondaryIndexFields = Collections.emptyList();
 
     public Builder(String viewName) {
       this.viewName = Objects.requireNonNull(viewName, "View name cannot be null for ViewParameters");
@@ -57,6 +64,10 @@ public enum MaterializedViewParameters {
           throw new VeniceException("Failed to parse the provided projection fields: " + projectionFieldsString, e);
         }
       }
+      String secondaryIndexFieldsString = viewParams.get(MATERIALIZED_VIEW_SECONDARY_INDEX_FIELDS.name());
+      if (secondaryIndexFieldsString != null) {
+        this.secondaryIndexFields = parseSecondaryIndexFields(secondaryIndexFieldsString);
+      }
     }
 
     public Builder setPartitioner(String partitioner) {
@@ -88,6 +99,11 @@ public enum MaterializedViewParameters {
       return this;
     }
 
+    public Builder setSecondaryIndexFields(List<String> secondaryIndexFields) {
+      this.secondaryIndexFields = secondaryIndexFields;
+      return this;
+    }
+
     public Map<String, String> build() {
       Map<String, String> viewParams = new HashMap<>();
       viewParams.put(MATERIALIZED_VIEW_NAME.name(), viewName);
@@ -109,7 +125,26 @@ public enum MaterializedViewParameters {
           throw new VeniceException("Failed to convert the projection fields to a string property", e);
         }
       }
+      if (!secondaryIndexFields.isEmpty()) {
+        try {
+          viewParams.put(
+              MATERIALIZED_VIEW_SECONDARY_INDEX_FIELDS.name(),
+              ObjectMapperFactory.getInstance().writeValueAsString(secondaryIndexFields));
+        } catch (JsonProcessingException e) {
+          throw new VeniceException("Failed to convert the secondary index fields to a string property", e);
+        }
+      }
       return viewParams;
     }
   }
+
+  public static List<String> parseSecondaryIndexFields(String secondaryIndexFieldsString) {
+    try {
+      return ObjectMapperFactory.getInstance().readValue(secondaryIndexFieldsString, List.class);
+    } catch (JsonProcessingException e) {
+      throw new VeniceException(
+          "Failed to parse the provided secondary index fields: " + secondaryIndexFieldsString,
+          e);
+    }
+  }
 }
@@ -34,5 +34,9 @@ public enum QueryAction {
 
   // HOST_HEARTBEAT_LAG is a GET request to /(optional) version topic filter/(optional) partition filter/(optional)
   // lagging replica filter from server admin tool.
-  HOST_HEARTBEAT_LAG
+  HOST_HEARTBEAT_LAG,
+
+  // SCAN is a GET request to /scan/resourcename/partition on the storage node to fetch a page of the records in a key
+  // prefix or key range, check ScanProtocol for the details
+  SCAN
 }
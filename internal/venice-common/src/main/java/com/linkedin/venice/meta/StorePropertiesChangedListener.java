@@ -0,0 +1,32 @@
+package com.linkedin.venice.meta;
+
+import java.util.Set;
+
+
+/**
+ * A {@link StoreDataChangedListener}, which gets the names of the changed fields of
+ * {@link com.linkedin.venice.systemstore.schemas.StoreProperties} along with the store change, so that the listeners
+ * only interested in a few fields can skip the irrelevant changes.
+ */
+public interface StorePropertiesChangedListener extends StoreDataChangedListener {
+  /**
+   * Invoked instead of {@link #handleStoreChanged(Store)} when the changed fields are known.
+   *
+   * Do NOT try to acquire the lock of store repository again in the implementation, otherwise a dead lock issue will
+   * happen.
+   */
+  void handleStoreChanged(Store store, Set<String> changedProperties);
+
+  /**
+   * Notify the given listener of the store change, with the changed fields if the listener can take them.
+   *
+   * @param changedProperties the changed fields, or null if they are unknown.
+   */
+  static void notifyStoreChanged(StoreDataChangedListener listener, Store store, Set<String> changedProperties) {
+    if (changedProperties != null && listener instanceof StorePropertiesChangedListener) {
+      ((StorePropertiesChangedListener) listener).handleStoreChanged(store, changedProperties);
+    } else {
+      listener.handleStoreChanged(store);
+    }
+  }
+}
@@ -15,10 +15,13 @@ import com.linkedin.venice.utils.StoreUtils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import org.apache.avro.Schema;
 import org.apache.avro.util.Utf8;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -56,6 +59,12 @@ import org.apache.logging.log4j.Logger;
 public class ZKStore extends AbstractStore implements DataModelBackedStructure<StoreProperties> {
   private static final Logger LOGGER = LogManager.getLogger(ZKStore.class);
 
+  /**
+   * Name of the {@link StoreProperties} field holding the versions, which is reported by
+   * {@link #getChangedProperties(ZKStore)}.
+   */
+  public static final String VERSIONS_PROPERTY = "versions";
+
   /**
    * Internal data model
    */
@@ -278,6 +287,21 @@ public class ZKStore extends AbstractStore implements DataModelBackedStructure<S
     return this.storeProperties;
   }
 
+  /**
+   * @return the names of the top-level {@link StoreProperties} fields, whose values are different from the given store.
+   */
+  public Set<String> getChangedProperties(ZKStore other) {
+    Set<String> changedProperties = new HashSet<>();
+    for (Schema.Field field: storeProperties.getSchema().getFields()) {
+      Object value = storeProperties.get(field.pos());
+      Object otherValue = other.storeProperties.get(field.pos());
+      if (AvroCompatibilityUtils.compareSpecificData(value, otherValue, field.schema()) != 0) {
+        changedProperties.add(field.name());
+      }
+    }
+    return changedProperties;
+  }
+
   @Override
   public String getName() {
     return this.storeProperties.name.toString();
@@ -0,0 +1,41 @@
+package com.linkedin.venice.stats;
+
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.Total;
+
+
+/**
+ * The stats keep track of the cost of handling the Helix routing table changes in
+ * {@link com.linkedin.venice.helix.HelixBaseRoutingRepository}.
+ */
+public class RoutingTableChangeStats extends AbstractVeniceStats {
+  /**
+   * The time to convert a routing table snapshot to the Venice routing data, including the listener notifications.
+   */
+  private final Sensor routingTableChangeLatencySensor;
+  /**
+   * The number of resources whose partition assignment is rebuilt in a routing table change.
+   */
+  private final Sensor rebuiltResourceCountSensor;
+  /**
+   * The number of resources whose partition assignment is reused since their views didn't change.
+   */
+  private final Sensor reusedResourceCountSensor;
+
+  public RoutingTableChangeStats(MetricsRepository metricsRepository, String name) {
+    super(metricsRepository, name);
+    routingTableChangeLatencySensor =
+        registerSensorIfAbsent("routing_table_change_latency", new Avg(), new Max(), new Total());
+    rebuiltResourceCountSensor = registerSensorIfAbsent("rebuilt_resource_count", new Avg(), new Max(), new Total());
+    reusedResourceCountSensor = registerSensorIfAbsent("reused_resource_count", new Avg(), new Max(), new Total());
+  }
+
+  public void recordRoutingTableChange(double latencyMs, int rebuiltResourceCount, int reusedResourceCount) {
+    routingTableChangeLatencySensor.record(latencyMs);
+    rebuiltResourceCountSensor.record(rebuiltResourceCount);
+    reusedResourceCountSensor.record(reusedResourceCount);
+  }
+}
@@ -33,6 +33,7 @@ public class RocksDBUtils {
   private static final String TEMP_SST_FILE_PREFIX = "sst_file_";
   private static final String TEMP_RMD_SST_FILE_PREFIX = "sst_rmd_file_";
   private static final String TEMP_SNAPSHOT_DIR = ".snapshot_files";
+  private static final String MEMORY_MAPPED_FILE_DIR = ".mmap_files";
   private static final String TEMP_TRANSFERRED_PARTITION_DIR_PREFIX = "temp_transferred_";
 
   public static String getPartitionDbName(String storeName, int partitionId) {
@@ -87,6 +88,10 @@ public class RocksDBUtils {
     return composePartitionDbDir(dbDir, topicName, partitionId) + File.separator + TEMP_SST_FILE_DIR;
   }
 
+  public static String composeMemoryMappedFileDir(String dbDir, String topicName, int partitionId) {
+    return composePartitionDbDir(dbDir, topicName, partitionId) + File.separator + MEMORY_MAPPED_FILE_DIR;
+  }
+
   public static String composeTempRMDSSTFileDir(String dbDir, String topicName, int partitionId) {
     return composePartitionDbDir(dbDir, topicName, partitionId) + File.separator + TEMP_RMD_SST_FILE_DIR;
   }
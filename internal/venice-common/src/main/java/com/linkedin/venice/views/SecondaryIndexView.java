@@ -0,0 +1,187 @@
+package com.linkedin.venice.views;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.MaterializedViewParameters;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.ViewConfig;
+import com.linkedin.venice.partitioner.SecondaryIndexPartitioner;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * A materialized view keyed by one or more top level value fields of the store, a.k.a. a secondary index.
+ *
+ * <p>Every record of the store has one entry in the view, whose key is an Avro record of the index value and the
+ * primary key (see {@link #getIndexKeySchema(Schema)}), and whose value is the value of the record. The set of primary
+ * keys with a given index value is the set of entries whose key starts with that index value, which can be read with a
+ * key prefix lookup on the view store, e.g. {@code compute().executeWithFilter(...)} on the index value field. The view
+ * is partitioned by {@link SecondaryIndexPartitioner}, so all the entries of an index value are in the same partition.
+ *
+ * <p>The entries are maintained by {@code SecondaryIndexViewWriter} from the old and new values of every write, so the
+ * old entry of a key is deleted when the index value of the key changes. The old value is only available to the view
+ * writers of active/active ingestion, so hybrid stores need to be active/active to have a secondary index view.
+ */
+public class SecondaryIndexView extends MaterializedView {
+  public static final String SECONDARY_INDEX_VIEW_WRITER_CLASS_NAME =
+      "com.linkedin.davinci.store.view.SecondaryIndexViewWriter";
+  public static final String INDEX_VALUE_FIELD_NAME = "indexValue";
+  public static final String PRIMARY_KEY_FIELD_NAME = "primaryKey";
+  private static final String INDEX_KEY_RECORD_NAME = "SecondaryIndexKey";
+  private static final String INDEX_KEY_NAMESPACE = "com.linkedin.venice.views";
+  private final List<String> indexFields;
+
+  public SecondaryIndexView(Properties props, String storeName, Map<String, String> viewParameters) {
+    super(props, storeName, viewParameters);
+    String indexFieldsString =
+        viewParameters.get(MaterializedViewParameters.MATERIALIZED_VIEW_SECONDARY_INDEX_FIELDS.name());
+    this.indexFields = indexFieldsString == null
+        ? Collections.emptyList()
+        : MaterializedViewParameters.parseSecondaryIndexFields(indexFieldsString);
+  }
+
+  /**
+   * {@link MaterializedViewParameters#MATERIALIZED_VIEW_SECONDARY_INDEX_FIELDS} is required, and the partitioner has to
+   * be {@link SecondaryIndexPartitioner}. The view entries are keyed by a different key than the store, so chunked
+   * values are not supported, and hybrid stores have to be active/active to provide the old values.
+   */
+  @Override
+  public void validateConfigs(Store store) {
+    super.validateConfigs(store);
+    if (indexFields.isEmpty()) {
+      throw new VeniceException(
+          MaterializedViewParameters.MATERIALIZED_VIEW_SECONDARY_INDEX_FIELDS.name()
+              + " is required for secondary index view!");
+    }
+    String viewPartitioner = viewParameters.get(MaterializedViewParameters.MATERIALIZED_VIEW_PARTITIONER.name());
+    if (!SecondaryIndexPartitioner.class.getCanonicalName().equals(viewPartitioner)) {
+      throw new VeniceException(
+          "Secondary index view has to be partitioned by " + SecondaryIndexPartitioner.class.getCanonicalName()
+              + ", but got: " + viewPartitioner);
+    }
+    if (store.isChunkingEnabled()) {
+      throw new VeniceException("Secondary index view is not supported for stores with chunking enabled");
+    }
+    if (store.isHybrid() && !store.isActiveActiveReplicationEnabled()) {
+      throw new VeniceException("Secondary index view is only supported for hybrid stores with active/active enabled");
+    }
+    // Check if there is already a secondary index view on the same fields
+    for (Map.Entry<String, ViewConfig> viewConfigEntry: store.getViewConfigs().entrySet()) {
+      ViewConfig viewConfig = viewConfigEntry.getValue();
+      if (viewConfig.getViewClassName().equals(SecondaryIndexView.class.getCanonicalName())) {
+        String configIndexFields = viewConfig.getViewParameters()
+            .get(MaterializedViewParameters.MATERIALIZED_VIEW_SECONDARY_INDEX_FIELDS.name());
+        if (configIndexFields != null
+            && MaterializedViewParameters.parseSecondaryIndexFields(configIndexFields).equals(indexFields)) {
+          throw new VeniceException(
+              "A secondary index view on the same fields already exist, view name: " + viewConfigEntry.getKey());
+        }
+      }
+    }
+  }
+
+  @Override
+  public String getWriterClassName() {
+    return SECONDARY_INDEX_VIEW_WRITER_CLASS_NAME;
+  }
+
+  public List<String> getIndexFields() {
+    return indexFields;
+  }
+
+  /**
+   * @return the index value of the given value record, or null if the record or any of the index fields is null, in
+   *         which case the record is not indexed.
+   */
+  public String getIndexValue(GenericRecord value) {
+    if (value == null) {
+      return null;
+    }
+    List<Object> fieldValues = new ArrayList<>(indexFields.size());
+    for (String indexField: indexFields) {
+      // The field might not exist in the older value schemas
+      fieldValues.add(value.getSchema().getField(indexField) == null ? null : value.get(indexField));
+    }
+    return composeIndexValue(fieldValues);
+  }
+
+  /**
+   * Composes the index value from the values of the index fields, in the order of
+   * {@link MaterializedViewParameters#MATERIALIZED_VIEW_SECONDARY_INDEX_FIELDS}. A single string field is indexed as
+   * is, and anything else is indexed by its Avro JSON string, e.g. {@code 42} or {@code ["US", 42]}.
+   *
+   * @return the index value, or null if any of the field values is null.
+   */
+  public static String composeIndexValue(List<?> fieldValues) {
+    for (Object fieldValue: fieldValues) {
+      if (fieldValue == null) {
+        return null;
+      }
+    }
+    if (fieldValues.size() == 1) {
+      Object fieldValue = fieldValues.get(0);
+      return fieldValue instanceof CharSequence ? fieldValue.toString() : GenericData.get().toString(fieldValue);
+    }
+    return GenericData.get().toString(fieldValues);
+  }
+
+  public static String composeIndexValue(Object... fieldValues) {
+    return composeIndexValue(Arrays.asList(fieldValues));
+  }
+
+  /**
+   * @return the serialized key of the index entry, which is the serialized {@link #getIndexKeySchema(Schema)} record.
+   */
+  public static byte[] getIndexKey(String indexValue, byte[] primaryKeyBytes) {
+    byte[] prefix = getIndexKeyPrefix(indexValue);
+    byte[] indexKey = new byte[prefix.length + primaryKeyBytes.length];
+    System.arraycopy(prefix, 0, indexKey, 0, prefix.length);
+    System.arraycopy(primaryKeyBytes, 0, indexKey, prefix.length, primaryKeyBytes.length);
+    return indexKey;
+  }
+
+  /**
+   * @return the key prefix shared by all the index entries of the given index value, which is the index value encoded
+   *         as an Avro string.
+   */
+  public static byte[] getIndexKeyPrefix(String indexValue) {
+    byte[] indexValueBytes = indexValue.getBytes(StandardCharsets.UTF_8);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(indexValueBytes.length + 5);
+    // Avro encodes the string length as a zig-zag varint
+    long zigZagLength = ((long) indexValueBytes.length << 1) ^ ((long) indexValueBytes.length >> 63);
+    while ((zigZagLength & ~0x7FL) != 0) {
+      outputStream.write((int) ((zigZagLength & 0x7F) | 0x80));
+      zigZagLength >>>= 7;
+    }
+    outputStream.write((int) zigZagLength);
+    outputStream.write(indexValueBytes, 0, indexValueBytes.length);
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * @return the key schema of the view store, which is a record of the index value and the primary key.
+   */
+  public static Schema getIndexKeySchema(Schema keySchema) {
+    Schema indexKeySchema = Schema.createRecord(
+        INDEX_KEY_RECORD_NAME,
+        "Key of the secondary index view entries",
+        INDEX_KEY_NAMESPACE,
+        false);
+    indexKeySchema.setFields(
+        Arrays.asList(
+            AvroCompatibilityHelper
+                .createSchemaField(INDEX_VALUE_FIELD_NAME, Schema.create(Schema.Type.STRING), "", null),
+            AvroCompatibilityHelper.createSchemaField(PRIMARY_KEY_FIELD_NAME, keySchema, "", null)));
+    return indexKeySchema;
+  }
+}
@@ -44,6 +44,15 @@ public class ViewUtils {
     return view;
   }
 
+  /**
+   * @return true if the view class is {@link MaterializedView} or one of its sub-types, which are written to their own
+   *         view topics by the same ingestion and push job paths.
+   */
+  public static boolean isMaterializedView(String viewClass) {
+    return MaterializedView.class.getCanonicalName().equals(viewClass)
+        || SecondaryIndexView.class.getCanonicalName().equals(viewClass);
+  }
+
   public static String flatViewConfigMapString(Map<String, ViewConfig> viewConfigMap) throws JsonProcessingException {
     ObjectMapper mapper = ObjectMapperFactory.getInstance();
     Map<String, String> flatMap = new HashMap<>();
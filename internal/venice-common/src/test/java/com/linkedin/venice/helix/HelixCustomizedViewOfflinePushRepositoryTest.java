@@ -3,25 +3,35 @@ package com.linkedin.venice.helix;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.RoutingDataRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.VersionImpl;
+import com.linkedin.venice.pushmonitor.ExecutionStatus;
+import com.linkedin.venice.pushmonitor.ReadOnlyPartitionStatus;
 import com.linkedin.venice.utils.DataProviderUtils;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import org.apache.helix.model.CustomizedView;
 import org.apache.helix.model.LiveInstance;
 import org.apache.helix.spectator.RoutingTableSnapshot;
+import org.mockito.ArgumentCaptor;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 
 public class HelixCustomizedViewOfflinePushRepositoryTest {
+  private static final long LISTENER_TIMEOUT_MS = 1000;
+
   @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
   public void testCustomizedViewStoreHandle(boolean enableReplicaStatusHistory) {
     SafeHelixManager manager = mock(SafeHelixManager.class);
@@ -54,4 +64,43 @@ public class HelixCustomizedViewOfflinePushRepositoryTest {
     storeChangeListener.handleStoreDeleted("abc");
     Assert.assertTrue(customizedViewOfflinePushRepository.getResourceToPartitionCountMap().isEmpty());
   }
+
+  @Test
+  public void testPartitionStatusOfNewListenerWithUnchangedCustomizedView() {
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    Store store = mock(Store.class);
+    VersionImpl version = new VersionImpl("abc", 1, "jobID");
+    version.setPartitionCount(1);
+    when(store.getVersion(anyInt())).thenReturn(version);
+    when(storeRepository.getStore(anyString())).thenReturn(store);
+    HelixCustomizedViewOfflinePushRepository customizedViewOfflinePushRepository =
+        new HelixCustomizedViewOfflinePushRepository(mock(SafeHelixManager.class), storeRepository, false);
+    CustomizedView customizedView = new CustomizedView("abc_v1");
+    customizedView.getRecord()
+        .setMapField("abc_v1_0", Collections.singletonMap("localhost_1234", ExecutionStatus.COMPLETED.name()));
+    RoutingTableSnapshot routingTableSnapshot = mock(RoutingTableSnapshot.class);
+    when(routingTableSnapshot.getCustomizeViews()).thenReturn(Collections.singletonList(customizedView));
+    when(routingTableSnapshot.getCustomizedStateType()).thenReturn(HelixPartitionState.OFFLINE_PUSH.name());
+    when(routingTableSnapshot.getLiveInstances())
+        .thenReturn(Collections.singletonList(new LiveInstance("localhost_1234")));
+
+    RoutingDataRepository.RoutingDataChangedListener listener =
+        mock(RoutingDataRepository.RoutingDataChangedListener.class);
+    customizedViewOfflinePushRepository.subscribeRoutingDataChange("abc_v1", listener);
+    customizedViewOfflinePushRepository.onCustomizedViewDataChange(routingTableSnapshot);
+    verify(listener, timeout(LISTENER_TIMEOUT_MS)).onPartitionStatusChange(eq("abc_v1"), any());
+
+    // The partition assignment is reused, but the listener subscribed since still gets the partition statuses once
+    RoutingDataRepository.RoutingDataChangedListener newListener =
+        mock(RoutingDataRepository.RoutingDataChangedListener.class);
+    customizedViewOfflinePushRepository.subscribeRoutingDataChange("abc_v1", newListener);
+    customizedViewOfflinePushRepository.onCustomizedViewDataChange(routingTableSnapshot);
+    customizedViewOfflinePushRepository.onCustomizedViewDataChange(routingTableSnapshot);
+    ArgumentCaptor<ReadOnlyPartitionStatus> partitionStatusCaptor =
+        ArgumentCaptor.forClass(ReadOnlyPartitionStatus.class);
+    verify(newListener, after(LISTENER_TIMEOUT_MS).times(1))
+        .onPartitionStatusChange(eq("abc_v1"), partitionStatusCaptor.capture());
+    Assert.assertEquals(partitionStatusCaptor.getValue().getPartitionId(), 0);
+    Assert.assertEquals(partitionStatusCaptor.getValue().getReplicaStatus("localhost_1234"), ExecutionStatus.COMPLETED);
+  }
 }
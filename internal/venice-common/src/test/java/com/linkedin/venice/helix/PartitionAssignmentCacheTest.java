@@ -0,0 +1,99 @@
+package com.linkedin.venice.helix;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.PartitionAssignment;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.helix.model.ExternalView;
+import org.testng.annotations.Test;
+
+
+public class PartitionAssignmentCacheTest {
+  private static final String RESOURCE = "test_store_v1";
+
+  private static ExternalView createExternalView(String instanceId) {
+    ExternalView externalView = new ExternalView(RESOURCE);
+    externalView.setState(RESOURCE + "_0", instanceId, HelixState.LEADER_STATE);
+    return externalView;
+  }
+
+  private static Map<String, Instance> createLiveInstances(String... instanceIds) {
+    Map<String, Instance> liveInstances = new HashMap<>();
+    for (String instanceId: instanceIds) {
+      liveInstances.put(instanceId, new Instance(instanceId, "localhost", Integer.parseInt(instanceId)));
+    }
+    return liveInstances;
+  }
+
+  private static PartitionAssignment update(
+      PartitionAssignmentCache cache,
+      ExternalView externalView,
+      int partitionCount,
+      Map<String, Instance> liveInstances) {
+    cache.resetResourceCounts();
+    cache.startUpdate(liveInstances);
+    PartitionAssignment partitionAssignment = cache.getUnchangedAssignment(externalView, partitionCount);
+    if (partitionAssignment == null) {
+      partitionAssignment = new PartitionAssignment(externalView.getResourceName(), partitionCount);
+      cache.putAssignment(externalView, partitionAssignment);
+    }
+    cache.finishUpdate();
+    return partitionAssignment;
+  }
+
+  @Test
+  public void testReuseUnchangedAssignment() {
+    PartitionAssignmentCache cache = new PartitionAssignmentCache();
+    ExternalView externalView = createExternalView("1");
+    PartitionAssignment partitionAssignment = update(cache, externalView, 1, createLiveInstances("1", "2"));
+    assertEquals(cache.getRebuiltResourceCount(), 1);
+    assertEquals(cache.getReusedResourceCount(), 0);
+
+    // Same view object, or an equal view with other instances changed
+    assertSame(update(cache, externalView, 1, createLiveInstances("1", "2")), partitionAssignment);
+    assertSame(update(cache, createExternalView("1"), 1, createLiveInstances("1", "3")), partitionAssignment);
+    assertEquals(cache.getRebuiltResourceCount(), 0);
+    assertEquals(cache.getReusedResourceCount(), 1);
+  }
+
+  @Test
+  public void testRebuildChangedAssignment() {
+    PartitionAssignmentCache cache = new PartitionAssignmentCache();
+    Map<String, Instance> liveInstances = createLiveInstances("1", "2");
+    update(cache, createExternalView("1"), 1, liveInstances);
+
+    // The view changed
+    update(cache, createExternalView("2"), 1, liveInstances);
+    assertEquals(cache.getRebuiltResourceCount(), 1);
+    assertEquals(cache.getReusedResourceCount(), 0);
+
+    // The partition count changed
+    PartitionAssignment partitionAssignment = update(cache, createExternalView("2"), 2, liveInstances);
+    assertEquals(cache.getRebuiltResourceCount(), 1);
+    assertEquals(partitionAssignment.getExpectedNumberOfPartitions(), 2);
+
+    // The instance in the view left
+    update(cache, createExternalView("2"), 2, createLiveInstances("1"));
+    assertEquals(cache.getRebuiltResourceCount(), 1);
+    assertEquals(cache.getReusedResourceCount(), 0);
+  }
+
+  @Test
+  public void testEvictDeletedResource() {
+    PartitionAssignmentCache cache = new PartitionAssignmentCache();
+    Map<String, Instance> liveInstances = createLiveInstances("1");
+    ExternalView externalView = createExternalView("1");
+    update(cache, externalView, 1, liveInstances);
+
+    // The resource is gone from the view
+    cache.startUpdate(liveInstances);
+    cache.finishUpdate();
+
+    cache.startUpdate(liveInstances);
+    assertNull(cache.getUnchangedAssignment(externalView, 1));
+  }
+}
@@ -0,0 +1,99 @@
+package com.linkedin.venice.helix;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.VersionImpl;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.utils.TestUtils;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class StoreBinarySerializerTest {
+  private static Store createStore() {
+    Store store = TestUtils.createTestStore("s1", "owner", 1L);
+    store.addVersion(new VersionImpl(store.getName(), 1, "pushJobId"));
+    store.addVersion(new VersionImpl(store.getName(), 2, "pushJobId2"));
+    store.setCurrentVersion(1);
+    store.setReadQuotaInCU(100);
+    return store;
+  }
+
+  @DataProvider(name = "compressionStrategies")
+  public Object[][] compressionStrategies() {
+    return new Object[][] { { CompressionStrategy.NO_OP }, { CompressionStrategy.GZIP } };
+  }
+
+  @Test(dataProvider = "compressionStrategies")
+  public void testBinaryFormat(CompressionStrategy compressionStrategy) throws IOException {
+    Store store = createStore();
+    StoreBinarySerializer serializer = new StoreBinarySerializer(true, compressionStrategy);
+    byte[] bytes = serializer.serialize(store, "");
+    assertTrue(StoreBinarySerializer.isBinaryFormat(bytes));
+    assertEquals(serializer.deserialize(bytes, ""), store);
+    // Readers with the default config could read the binary format as well
+    assertEquals(new StoreBinarySerializer().deserialize(bytes, ""), store);
+
+    byte[] jsonBytes = new StoreJSONSerializer().serialize(store, "");
+    assertTrue(bytes.length < jsonBytes.length);
+  }
+
+  @Test
+  public void testJsonFormat() throws IOException {
+    Store store = createStore();
+    StoreBinarySerializer serializer = new StoreBinarySerializer();
+    byte[] bytes = serializer.serialize(store, "");
+    assertFalse(StoreBinarySerializer.isBinaryFormat(bytes));
+    assertEquals(new StoreJSONSerializer().deserialize(bytes, ""), store);
+
+    // The json written before the migration could still be read after turning on the binary format
+    byte[] jsonBytes = new StoreJSONSerializer().serialize(store, "");
+    assertEquals(new StoreBinarySerializer(true, CompressionStrategy.GZIP).deserialize(jsonBytes, ""), store);
+  }
+
+  @Test
+  public void testWriteOlderProtocolVersion() throws IOException {
+    int latestProtocolVersion = AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE.getCurrentProtocolVersion();
+    int olderProtocolVersion = latestProtocolVersion - 1;
+    Store store = createStore();
+    byte[] bytes = new StoreBinarySerializer(true, CompressionStrategy.GZIP, olderProtocolVersion).serialize(store, "");
+    assertEquals(ByteBuffer.wrap(bytes).getInt(3), olderProtocolVersion);
+
+    // Decoded with the older protocol version as the writer schema
+    Store deserializedStore = new StoreBinarySerializer().deserialize(bytes, "");
+    assertEquals(deserializedStore.getName(), store.getName());
+    assertEquals(deserializedStore.getCurrentVersion(), store.getCurrentVersion());
+    assertEquals(deserializedStore.getReadQuotaInCU(), store.getReadQuotaInCU());
+    assertEquals(deserializedStore.getVersions().size(), 2);
+
+    assertThrows(
+        VeniceException.class,
+        () -> new StoreBinarySerializer(true, CompressionStrategy.NO_OP, latestProtocolVersion + 1));
+  }
+
+  @Test
+  public void testReadNewerProtocolVersion() throws IOException {
+    byte[] bytes = new StoreBinarySerializer(true, CompressionStrategy.NO_OP).serialize(createStore(), "");
+    // Written by a newer writer, which must not be rolled out before the readers
+    int newerProtocolVersion = AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE.getCurrentProtocolVersion() + 1;
+    ByteBuffer.wrap(bytes).putInt(3, newerProtocolVersion);
+    assertThrows(IOException.class, () -> new StoreBinarySerializer().deserialize(bytes, ""));
+  }
+
+  @Test
+  public void testInvalidInput() throws IOException {
+    assertThrows(VeniceException.class, () -> new StoreBinarySerializer(true, CompressionStrategy.ZSTD_WITH_DICT));
+
+    byte[] bytes = new StoreBinarySerializer(true, CompressionStrategy.NO_OP).serialize(createStore(), "");
+    bytes[1] = StoreBinarySerializer.FORMAT_VERSION + 1;
+    assertThrows(IOException.class, () -> new StoreBinarySerializer().deserialize(bytes, ""));
+  }
+}
@@ -426,4 +426,19 @@ public class TestZKStore {
     store.updateVersionForDaVinciHeartbeat(1, true);
     Assert.assertTrue(store.getVersion(1).getIsDavinciHeartbeatReported());
   }
+
+  @Test
+  public void testGetChangedProperties() {
+    ZKStore store = (ZKStore) TestUtils.createTestStore("s1", "owner", System.currentTimeMillis());
+    ZKStore clone = (ZKStore) store.cloneStore();
+    assertTrue(store.getChangedProperties(clone).isEmpty());
+
+    clone.addVersion(new VersionImpl(clone.getName(), 1, "pushJobId"));
+    clone.setReadQuotaInCU(store.getReadQuotaInCU() + 1);
+    Set<String> changedProperties = store.getChangedProperties(clone);
+    assertEquals(changedProperties.size(), 3);
+    assertTrue(changedProperties.contains(ZKStore.VERSIONS_PROPERTY));
+    assertTrue(changedProperties.contains("largestUsedVersionNumber"));
+    assertTrue(changedProperties.contains("readQuotaInCU"));
+  }
 }
@@ -0,0 +1,143 @@
+package com.linkedin.venice.views;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.meta.MaterializedViewParameters;
+import com.linkedin.venice.meta.PartitionerConfig;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.ViewConfig;
+import com.linkedin.venice.meta.ViewConfigImpl;
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.partitioner.SecondaryIndexPartitioner;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.annotations.Test;
+
+
+public class SecondaryIndexViewTest {
+  private static final Schema VALUE_SCHEMA = AvroCompatibilityHelper.parse(
+      "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"country\",\"type\":[\"null\",\"string\"],"
+          + "\"default\":null},{\"name\":\"age\",\"type\":\"int\",\"default\":0}]}");
+  private static final Schema KEY_SCHEMA = AvroCompatibilityHelper.parse("\"string\"");
+
+  private static Map<String, String> getViewParams(String viewName, String... indexFields) {
+    return new MaterializedViewParameters.Builder(viewName).setPartitionCount(6)
+        .setPartitioner(SecondaryIndexPartitioner.class.getCanonicalName())
+        .setSecondaryIndexFields(Arrays.asList(indexFields))
+        .build();
+  }
+
+  private static GenericRecord getValue(String country, int age) {
+    GenericRecord value = new GenericData.Record(VALUE_SCHEMA);
+    value.put("country", country);
+    value.put("age", age);
+    return value;
+  }
+
+  @Test
+  public void testGetIndexValue() {
+    SecondaryIndexView singleFieldView =
+        new SecondaryIndexView(new Properties(), "test-store", getViewParams("byCountry", "country"));
+    assertEquals(singleFieldView.getIndexValue(getValue("US", 42)), "US");
+    assertNull(singleFieldView.getIndexValue(getValue(null, 42)));
+    assertNull(singleFieldView.getIndexValue(null));
+
+    SecondaryIndexView multiFieldView =
+        new SecondaryIndexView(new Properties(), "test-store", getViewParams("byCountryAndAge", "country", "age"));
+    assertEquals(multiFieldView.getIndexValue(getValue("US", 42)), "[\"US\", 42]");
+    assertEquals(multiFieldView.getIndexValue(getValue("US", 42)), SecondaryIndexView.composeIndexValue("US", 42));
+    assertNull(multiFieldView.getIndexValue(getValue(null, 42)));
+  }
+
+  @Test
+  public void testIndexKeyMatchesIndexKeySchema() {
+    RecordSerializer<Object> keySerializer = SerializerDeserializerFactory.getAvroGenericSerializer(KEY_SCHEMA);
+    Schema indexKeySchema = SecondaryIndexView.getIndexKeySchema(KEY_SCHEMA);
+    RecordSerializer<Object> indexKeySerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(indexKeySchema);
+    GenericRecord indexKeyRecord = new GenericData.Record(indexKeySchema);
+    indexKeyRecord.put(SecondaryIndexView.INDEX_VALUE_FIELD_NAME, "US");
+    indexKeyRecord.put(SecondaryIndexView.PRIMARY_KEY_FIELD_NAME, "user-1");
+
+    byte[] indexKey = SecondaryIndexView.getIndexKey("US", keySerializer.serialize("user-1"));
+    assertEquals(indexKey, indexKeySerializer.serialize(indexKeyRecord));
+    byte[] prefix = SecondaryIndexView.getIndexKeyPrefix("US");
+    assertEquals(Arrays.copyOf(indexKey, prefix.length), prefix);
+  }
+
+  @Test
+  public void testIndexEntriesAreCoLocated() {
+    RecordSerializer<Object> keySerializer = SerializerDeserializerFactory.getAvroGenericSerializer(KEY_SCHEMA);
+    SecondaryIndexPartitioner partitioner = new SecondaryIndexPartitioner();
+    DefaultVenicePartitioner defaultPartitioner = new DefaultVenicePartitioner();
+    byte[] prefix = SecondaryIndexView.getIndexKeyPrefix("US");
+    int expectedPartition = defaultPartitioner.getPartitionId(prefix, 16);
+    for (int i = 0; i < 10; i++) {
+      byte[] indexKey = SecondaryIndexView.getIndexKey("US", keySerializer.serialize("user-" + i));
+      assertEquals(partitioner.getPartitionId(indexKey, 16), expectedPartition);
+      // A buffer sliced out of a larger array has a non-zero array offset
+      byte[] paddedIndexKey = new byte[indexKey.length + 4];
+      System.arraycopy(indexKey, 0, paddedIndexKey, 3, indexKey.length);
+      ByteBuffer slicedIndexKey = ByteBuffer.wrap(paddedIndexKey, 2, indexKey.length + 1).slice();
+      slicedIndexKey.position(1);
+      assertEquals(partitioner.getPartitionId(slicedIndexKey, 16), expectedPartition);
+    }
+    assertThrows(() -> partitioner.getPartitionId(new byte[] { 20, 'U', 'S' }, 16));
+  }
+
+  @Test
+  public void testValidateConfigs() {
+    Store store = mock(Store.class);
+    doReturn(12).when(store).getPartitionCount();
+    PartitionerConfig partitionerConfig = mock(PartitionerConfig.class);
+    doReturn(DefaultVenicePartitioner.class.getCanonicalName()).when(partitionerConfig).getPartitionerClass();
+    doReturn(partitionerConfig).when(store).getPartitionerConfig();
+    doReturn(Collections.emptyMap()).when(store).getViewConfigs();
+    Properties properties = new Properties();
+
+    new SecondaryIndexView(properties, "test-store", getViewParams("byCountry", "country")).validateConfigs(store);
+    // Fail due to missing index fields
+    assertThrows(
+        () -> new SecondaryIndexView(properties, "test-store", getViewParams("byCountry")).validateConfigs(store));
+    // Fail due to a partitioner which doesn't co-locate the index entries
+    Map<String, String> viewParams = getViewParams("byCountry", "country");
+    viewParams.put(
+        MaterializedViewParameters.MATERIALIZED_VIEW_PARTITIONER.name(),
+        DefaultVenicePartitioner.class.getCanonicalName());
+    assertThrows(() -> new SecondaryIndexView(properties, "test-store", viewParams).validateConfigs(store));
+    // Fail due to hybrid store without active/active
+    doReturn(true).when(store).isHybrid();
+    assertThrows(
+        () -> new SecondaryIndexView(properties, "test-store", getViewParams("byCountry", "country"))
+            .validateConfigs(store));
+    doReturn(true).when(store).isActiveActiveReplicationEnabled();
+    new SecondaryIndexView(properties, "test-store", getViewParams("byCountry", "country")).validateConfigs(store);
+    // Fail due to chunking
+    doReturn(true).when(store).isChunkingEnabled();
+    assertThrows(
+        () -> new SecondaryIndexView(properties, "test-store", getViewParams("byCountry", "country"))
+            .validateConfigs(store));
+    doReturn(false).when(store).isChunkingEnabled();
+    // Fail due to an existing index on the same fields
+    ViewConfig existingViewConfig =
+        new ViewConfigImpl(SecondaryIndexView.class.getCanonicalName(), getViewParams("countryIndex", "country"));
+    doReturn(Collections.singletonMap("countryIndex", existingViewConfig)).when(store).getViewConfigs();
+    assertThrows(
+        () -> new SecondaryIndexView(properties, "test-store", getViewParams("byCountry", "country"))
+            .validateConfigs(store));
+    new SecondaryIndexView(properties, "test-store", getViewParams("byAge", "age")).validateConfigs(store);
+  }
+}
@@ -14,6 +14,7 @@ import com.linkedin.davinci.client.DaVinciConfig;
 import com.linkedin.venice.client.store.ClientConfig;
 import com.linkedin.venice.controller.Admin;
 import com.linkedin.venice.controller.server.AdminSparkServer;
+import com.linkedin.venice.controller.server.JobRoutes;
 import com.linkedin.venice.controller.server.VeniceControllerRequestHandler;
 import com.linkedin.venice.controllerapi.ControllerRoute;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -170,6 +171,7 @@ public class ServiceFactory {
           bannedRoutes,
           null,
           false,
+          JobRoutes.DEFAULT_MAX_CONCURRENT_JOB_STATUS_WAITS,
           new PubSubTopicRepository(),
           requestHandler);
       server.start();
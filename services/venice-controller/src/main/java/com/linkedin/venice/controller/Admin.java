@@ -61,6 +61,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import org.apache.avro.Schema;
 
 
@@ -516,6 +517,22 @@ public interface Admin extends AutoCloseable, Closeable {
       String targetedRegions,
       boolean isTargetRegionPushWithDeferredSwap);
 
+  /**
+   * Registers a waiter for the next update of the status of the offline push of the given kafka topic. It must be
+   * registered before the status is read, and be unregistered with {@link #unregisterOffLinePushStatusChangeWaiter}.
+   *
+   * N.B.: Admins which aren't notified of status updates, e.g. the parent controller which aggregates the statuses of
+   * the child regions, return null, in which case there is nothing to wait for.
+   *
+   * @return the latch released on the next status update, or null if the admin isn't notified of status updates.
+   */
+  default CountDownLatch registerOffLinePushStatusChangeWaiter(String clusterName, String kafkaTopic) {
+    return null;
+  }
+
+  default void unregisterOffLinePushStatusChangeWaiter(String clusterName, String kafkaTopic, CountDownLatch latch) {
+  }
+
   /**
    * Return the ssl or non-ssl bootstrap servers based on the given flag.
    * @return kafka bootstrap servers url, if there are multiple will be comma separated.
@@ -0,0 +1,275 @@
+package com.linkedin.venice.controller;
+
+import com.linkedin.venice.controller.stats.ChildRegionJobStatusStats;
+import com.linkedin.venice.controllerapi.ControllerClient;
+import com.linkedin.venice.controllerapi.JobStatusQueryResponse;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.LogContext;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Queries the job status of a push from the child regions for the parent controller.
+ *
+ * <p>The child regions are queried in parallel by a bounded thread pool, and each caller waits at most
+ * {@code queryTimeoutMs} for the round to finish, so a slow region only delays the callers by the timeout instead of
+ * stalling the rest of the regions. A region which doesn't respond in time is reported as timed out.
+ *
+ * <p>A round of queries is shared by all the callers asking for the same cluster, topic, incremental push version and
+ * regions while it is in flight, and for {@code cacheTtlMs} after it finishes, so many pollers of the same push only
+ * cost one round of child controller calls. The round is not shared after {@code queryTimeoutMs}, so a region which
+ * hangs doesn't make the following callers time out right away.
+ */
+public class ChildRegionJobStatusFetcher implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(ChildRegionJobStatusFetcher.class);
+  private static final String UNKNOWN_LEADER_CONTROLLER_URL = "unknown leader";
+
+  private final long queryTimeoutMs;
+  private final long cacheTtlMs;
+  private final ChildRegionJobStatusStats stats;
+  private final Time time;
+  private final ExecutorService executor;
+  private final Map<QueryKey, QueryRound> queryRounds = new VeniceConcurrentHashMap<>();
+
+  public ChildRegionJobStatusFetcher(
+      int threadCount,
+      long queryTimeoutMs,
+      long cacheTtlMs,
+      ChildRegionJobStatusStats stats,
+      Time time,
+      LogContext logContext) {
+    this.queryTimeoutMs = queryTimeoutMs;
+    this.cacheTtlMs = cacheTtlMs;
+    this.stats = stats;
+    this.time = time;
+    this.executor = Executors.newFixedThreadPool(
+        Math.max(1, threadCount),
+        new DaemonThreadFactory("ChildRegionJobStatusFetcher", logContext));
+  }
+
+  /**
+   * @return the job status of every region in {@code controllerClients}, keyed by region.
+   */
+  public Map<String, RegionJobStatus> fetch(
+      String clusterName,
+      String kafkaTopic,
+      Optional<String> incrementalPushVersion,
+      Map<String, ControllerClient> controllerClients) {
+    QueryKey key =
+        new QueryKey(clusterName, kafkaTopic, incrementalPushVersion.orElse(null), controllerClients.keySet());
+    long currentTimeMs = time.getMilliseconds();
+    QueryRound[] newRound = new QueryRound[1];
+    QueryRound round = queryRounds.compute(key, (k, existingRound) -> {
+      if (existingRound != null && !existingRound.isExpired(currentTimeMs)) {
+        return existingRound;
+      }
+      newRound[0] = startQueryRound(kafkaTopic, incrementalPushVersion, controllerClients, currentTimeMs);
+      return newRound[0];
+    });
+    if (round == newRound[0]) {
+      stats.recordCacheMiss();
+      queryRounds.values().removeIf(queryRound -> queryRound.isExpired(currentTimeMs));
+    } else {
+      stats.recordCacheHit();
+    }
+    return round.await(kafkaTopic);
+  }
+
+  private QueryRound startQueryRound(
+      String kafkaTopic,
+      Optional<String> incrementalPushVersion,
+      Map<String, ControllerClient> controllerClients,
+      long startTimeMs) {
+    Map<String, CompletableFuture<RegionJobStatus>> regionFutures = new HashMap<>(controllerClients.size());
+    for (Map.Entry<String, ControllerClient> entry: controllerClients.entrySet()) {
+      ControllerClient controllerClient = entry.getValue();
+      regionFutures.put(
+          entry.getKey(),
+          CompletableFuture
+              .supplyAsync(() -> queryRegion(controllerClient, kafkaTopic, incrementalPushVersion), executor));
+    }
+    QueryRound round = new QueryRound(regionFutures, startTimeMs);
+    CompletableFuture.allOf(regionFutures.values().toArray(new CompletableFuture[0])).whenComplete((ignored, e) -> {
+      long finishTimeMs = time.getMilliseconds();
+      round.finishTimeMs = finishTimeMs;
+      stats.recordFanOutLatency(finishTimeMs - startTimeMs);
+    });
+    return round;
+  }
+
+  private static RegionJobStatus queryRegion(
+      ControllerClient controllerClient,
+      String kafkaTopic,
+      Optional<String> incrementalPushVersion) {
+    String leaderControllerUrl;
+    try {
+      leaderControllerUrl = controllerClient.getLeaderControllerUrl();
+    } catch (VeniceException e) {
+      return RegionJobStatus.leaderDiscoveryFailure(e);
+    }
+    JobStatusQueryResponse response = controllerClient.queryJobStatus(kafkaTopic, incrementalPushVersion);
+    return new RegionJobStatus(leaderControllerUrl, response);
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    try {
+      executor.awaitTermination(30, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * The outcome of querying the job status from one region. Either {@link #getLeaderDiscoveryException()} is set, or
+   * {@link #getResponse()} is set, which is an error response if the query failed or timed out.
+   */
+  public static class RegionJobStatus {
+    private final String leaderControllerUrl;
+    private final JobStatusQueryResponse response;
+    private final VeniceException leaderDiscoveryException;
+
+    RegionJobStatus(String leaderControllerUrl, JobStatusQueryResponse response) {
+      this(leaderControllerUrl, response, null);
+    }
+
+    private RegionJobStatus(
+        String leaderControllerUrl,
+        JobStatusQueryResponse response,
+        VeniceException leaderDiscoveryException) {
+      this.leaderControllerUrl = leaderControllerUrl;
+      this.response = response;
+      this.leaderDiscoveryException = leaderDiscoveryException;
+    }
+
+    static RegionJobStatus leaderDiscoveryFailure(VeniceException e) {
+      return new RegionJobStatus(null, null, e);
+    }
+
+    static RegionJobStatus queryFailure(String error) {
+      JobStatusQueryResponse response = new JobStatusQueryResponse();
+      response.setError(error);
+      return new RegionJobStatus(UNKNOWN_LEADER_CONTROLLER_URL, response, null);
+    }
+
+    /**
+     * @return the URL of the leader controller of the region, null if the leader discovery failed, or a
+     *         placeholder if the query timed out or threw.
+     */
+    public String getLeaderControllerUrl() {
+      return leaderControllerUrl;
+    }
+
+    public JobStatusQueryResponse getResponse() {
+      return response;
+    }
+
+    public VeniceException getLeaderDiscoveryException() {
+      return leaderDiscoveryException;
+    }
+  }
+
+  private class QueryRound {
+    private final Map<String, CompletableFuture<RegionJobStatus>> regionFutures;
+    private final long startTimeMs;
+    private volatile long finishTimeMs = -1;
+
+    QueryRound(Map<String, CompletableFuture<RegionJobStatus>> regionFutures, long startTimeMs) {
+      this.regionFutures = regionFutures;
+      this.startTimeMs = startTimeMs;
+    }
+
+    boolean isExpired(long currentTimeMs) {
+      if (currentTimeMs - startTimeMs >= queryTimeoutMs) {
+        return true;
+      }
+      for (CompletableFuture<RegionJobStatus> regionFuture: regionFutures.values()) {
+        if (!regionFuture.isDone()) {
+          return false;
+        }
+      }
+      // The finish time is recorded by a callback which can run after the callers see the results.
+      if (finishTimeMs < 0) {
+        return cacheTtlMs <= 0;
+      }
+      return currentTimeMs - finishTimeMs >= cacheTtlMs;
+    }
+
+    Map<String, RegionJobStatus> await(String kafkaTopic) {
+      long deadlineMs = startTimeMs + queryTimeoutMs;
+      Map<String, RegionJobStatus> regionJobStatuses = new HashMap<>(regionFutures.size());
+      for (Map.Entry<String, CompletableFuture<RegionJobStatus>> entry: regionFutures.entrySet()) {
+        String region = entry.getKey();
+        RegionJobStatus regionJobStatus;
+        try {
+          long remainingTimeMs = Math.max(0, deadlineMs - time.getMilliseconds());
+          regionJobStatus = entry.getValue().get(remainingTimeMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+          LOGGER.warn("Timed out after {} ms querying {} for job status of {}", queryTimeoutMs, region, kafkaTopic);
+          stats.recordQueryTimeout();
+          regionJobStatus =
+              RegionJobStatus.queryFailure("Timed out after " + queryTimeoutMs + " ms querying job status");
+        } catch (ExecutionException e) {
+          LOGGER.warn("Couldn't query {} for job status of {}", region, kafkaTopic, e.getCause());
+          regionJobStatus = RegionJobStatus.queryFailure(String.valueOf(e.getCause()));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new VeniceException("Interrupted while querying job status of " + kafkaTopic, e);
+        }
+        regionJobStatuses.put(region, regionJobStatus);
+      }
+      return regionJobStatuses;
+    }
+  }
+
+  private static class QueryKey {
+    private final String clusterName;
+    private final String kafkaTopic;
+    private final String incrementalPushVersion;
+    private final Set<String> regions;
+
+    QueryKey(String clusterName, String kafkaTopic, String incrementalPushVersion, Set<String> regions) {
+      this.clusterName = clusterName;
+      this.kafkaTopic = kafkaTopic;
+      this.incrementalPushVersion = incrementalPushVersion;
+      this.regions = new HashSet<>(regions);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      QueryKey queryKey = (QueryKey) o;
+      return Objects.equals(clusterName, queryKey.clusterName) && Objects.equals(kafkaTopic, queryKey.kafkaTopic)
+          && Objects.equals(incrementalPushVersion, queryKey.incrementalPushVersion)
+          && regions.equals(queryKey.regions);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(clusterName, kafkaTopic, incrementalPushVersion, regions);
+    }
+  }
+}
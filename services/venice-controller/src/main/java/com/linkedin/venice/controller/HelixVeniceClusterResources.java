@@ -4,6 +4,7 @@ import com.linkedin.venice.VeniceResource;
 import com.linkedin.venice.acl.AclCreationDeletionListener;
 import com.linkedin.venice.acl.DynamicAccessController;
 import com.linkedin.venice.common.VeniceSystemStoreType;
+import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.controller.logcompaction.LogCompactionService;
 import com.linkedin.venice.controller.multitaskscheduler.MultiTaskSchedulerService;
 import com.linkedin.venice.controller.stats.AggPartitionHealthStats;
@@ -21,6 +22,7 @@ import com.linkedin.venice.helix.HelixReadWriteStoreRepositoryAdapter;
 import com.linkedin.venice.helix.HelixStatusMessageChannel;
 import com.linkedin.venice.helix.SafeHelixManager;
 import com.linkedin.venice.helix.StoragePersonaRepository;
+import com.linkedin.venice.helix.StoreBinarySerializer;
 import com.linkedin.venice.helix.VeniceOfflinePushMonitorAccessor;
 import com.linkedin.venice.helix.ZkRoutersClusterManager;
 import com.linkedin.venice.helix.ZkStoreConfigAccessor;
@@ -34,6 +36,7 @@ import com.linkedin.venice.pushmonitor.AggPushStatusCleanUpStats;
 import com.linkedin.venice.pushmonitor.LeakedPushStatusCleanUpService;
 import com.linkedin.venice.pushmonitor.PushMonitorDelegator;
 import com.linkedin.venice.stats.HelixMessageChannelStats;
+import com.linkedin.venice.stats.RoutingTableChangeStats;
 import com.linkedin.venice.system.store.MetaStoreWriter;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
@@ -143,7 +146,11 @@ public class HelixVeniceClusterResources implements VeniceResource {
         adapterSerializer,
         clusterName,
         metaStoreWriter,
-        clusterLockManager);
+        clusterLockManager,
+        new StoreBinarySerializer(
+            config.isStoreMetadataBinaryFormatEnabled(),
+            config.isStoreMetadataCompressionEnabled() ? CompressionStrategy.GZIP : CompressionStrategy.NO_OP,
+            config.getStoreMetadataBinaryProtocolVersion()));
     this.storeMetadataRepository = new HelixReadWriteStoreRepositoryAdapter(
         admin.getReadOnlyZKSharedSystemStoreRepository(),
         readWriteStoreRepository,
@@ -168,9 +175,14 @@ public class HelixVeniceClusterResources implements VeniceResource {
       // messages.
       spectatorManager = getSpectatorManager(clusterName, zkClient.getServers());
     }
-    this.routingDataRepository = new HelixExternalViewRepository(spectatorManager);
-    this.customizedViewRepo =
-        new HelixCustomizedViewOfflinePushRepository(this.helixManager, storeMetadataRepository, true);
+    this.routingDataRepository = new HelixExternalViewRepository(
+        spectatorManager,
+        new RoutingTableChangeStats(metricsRepository, clusterName + "-routing_table_external_view"));
+    this.customizedViewRepo = new HelixCustomizedViewOfflinePushRepository(
+        this.helixManager,
+        storeMetadataRepository,
+        true,
+        new RoutingTableChangeStats(metricsRepository, clusterName + "-routing_table_customized_view"));
     this.messageChannel = new HelixStatusMessageChannel(
         helixManager,
         new HelixMessageChannelStats(metricsRepository, clusterName),
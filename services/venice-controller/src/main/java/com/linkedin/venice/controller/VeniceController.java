@@ -280,6 +280,7 @@ public class VeniceController {
         multiClusterConfigs.getDisabledRoutes(),
         multiClusterConfigs.getCommonConfig().getJettyConfigOverrides(),
         multiClusterConfigs.getCommonConfig().isDisableParentRequestTopicForStreamPushes(),
+        multiClusterConfigs.getCommonConfig().getMaxConcurrentJobStatusWaits(),
         pubSubTopicRepository,
         secure ? secureRequestHandler : unsecureRequestHandler);
   }
@@ -76,6 +76,7 @@ import static com.linkedin.venice.ConfigKeys.CONTROLLER_HELIX_SERVER_CLUSTER_TOP
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_HELIX_SERVER_CLUSTER_TOPOLOGY_AWARE;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_INSTANCE_TAG_LIST;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_JETTY_CONFIG_OVERRIDE_PREFIX;
+import static com.linkedin.venice.ConfigKeys.CONTROLLER_JOB_STATUS_MAX_CONCURRENT_WAITS;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_MIN_SCHEMA_COUNT_TO_KEEP;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_NAME;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_PARENT_EXTERNAL_SUPERSET_SCHEMA_GENERATION_ENABLED;
@@ -104,6 +105,9 @@ import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORAGE_CLUSTER_HELIX_CL
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_GRAVEYARD_CLEANUP_DELAY_MINUTES;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_GRAVEYARD_CLEANUP_ENABLED;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_GRAVEYARD_CLEANUP_SLEEP_INTERVAL_BETWEEN_LIST_FETCH_MINUTES;
+import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_METADATA_BINARY_FORMAT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_METADATA_BINARY_PROTOCOL_VERSION;
+import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_METADATA_COMPRESSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_RECREATION_AFTER_DELETION_TIME_WINDOW_SECONDS;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_SYSTEM_SCHEMA_CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_SYSTEM_STORE_ACL_SYNCHRONIZATION_DELAY_MS;
@@ -168,8 +172,10 @@ import static com.linkedin.venice.ConfigKeys.KME_REGISTRATION_FROM_MESSAGE_HEADE
 import static com.linkedin.venice.ConfigKeys.LEAKED_PUSH_STATUS_CLEAN_UP_SERVICE_SLEEP_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.LEAKED_RESOURCE_ALLOWED_LINGER_TIME_MS;
 import static com.linkedin.venice.ConfigKeys.LOG_COMPACTION_DUPLICATE_KEY_THRESHOLD;
+import static com.linkedin.venice.ConfigKeys.LOG_COMPACTION_DUPLICATE_RATIO_SELECTION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.LOG_COMPACTION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.LOG_COMPACTION_INTERVAL_MS;
+import static com.linkedin.venice.ConfigKeys.LOG_COMPACTION_PARTITION_DUPLICATE_RATIO_THRESHOLD;
 import static com.linkedin.venice.ConfigKeys.LOG_COMPACTION_SCHEDULING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.LOG_COMPACTION_THREAD_COUNT;
 import static com.linkedin.venice.ConfigKeys.LOG_COMPACTION_THRESHOLD_MS;
@@ -185,12 +191,16 @@ import static com.linkedin.venice.ConfigKeys.NATIVE_REPLICATION_SOURCE_FABRIC;
 import static com.linkedin.venice.ConfigKeys.NATIVE_REPLICATION_SOURCE_FABRIC_AS_DEFAULT_FOR_BATCH_ONLY_STORES;
 import static com.linkedin.venice.ConfigKeys.NATIVE_REPLICATION_SOURCE_FABRIC_AS_DEFAULT_FOR_HYBRID_STORES;
 import static com.linkedin.venice.ConfigKeys.OFFLINE_JOB_START_TIMEOUT_MS;
+import static com.linkedin.venice.ConfigKeys.PARENT_CONTROLLER_CHILD_REGION_JOB_STATUS_CACHE_TTL_MS;
+import static com.linkedin.venice.ConfigKeys.PARENT_CONTROLLER_CHILD_REGION_QUERY_THREAD_COUNT;
+import static com.linkedin.venice.ConfigKeys.PARENT_CONTROLLER_CHILD_REGION_QUERY_TIMEOUT_MS;
 import static com.linkedin.venice.ConfigKeys.PARENT_CONTROLLER_MAX_ERRORED_TOPIC_NUM_TO_KEEP;
 import static com.linkedin.venice.ConfigKeys.PARENT_CONTROLLER_METADATA_STORE_CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.PARENT_CONTROLLER_WAITING_TIME_FOR_CONSUMPTION_MS;
 import static com.linkedin.venice.ConfigKeys.PARENT_KAFKA_CLUSTER_FABRIC_LIST;
 import static com.linkedin.venice.ConfigKeys.PARTICIPANT_MESSAGE_STORE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.PARTITION_COUNT_ROUND_UP_SIZE;
+import static com.linkedin.venice.ConfigKeys.PARTITION_DUPLICATE_RATIO_ESTIMATOR_CLASS_NAME;
 import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
 import static com.linkedin.venice.ConfigKeys.PUBSUB_PRODUCER_TIMESTAMP_FALLBACK_ENABLED;
 import static com.linkedin.venice.ConfigKeys.PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_CONSUMER_POOL_SIZE;
@@ -242,6 +252,7 @@ import com.linkedin.venice.authorization.DefaultIdentityParser;
 import com.linkedin.venice.client.store.ClientConfig;
 import com.linkedin.venice.common.VeniceSystemStoreType;
 import com.linkedin.venice.controller.helix.HelixCapacityConfig;
+import com.linkedin.venice.controller.server.JobRoutes;
 import com.linkedin.venice.controllerapi.ControllerRoute;
 import com.linkedin.venice.exceptions.ConfigurationException;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -256,6 +267,7 @@ import com.linkedin.venice.pubsub.PubSubPositionDeserializer;
 import com.linkedin.venice.pubsub.PubSubPositionTypeRegistry;
 import com.linkedin.venice.pubsub.PubSubUtil;
 import com.linkedin.venice.pushmonitor.LeakedPushStatusCleanUpService;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.status.BatchJobHeartbeatConfigs;
 import com.linkedin.venice.utils.HelixUtils;
 import com.linkedin.venice.utils.LogContext;
@@ -316,6 +328,9 @@ public class VeniceControllerClusterConfig {
   private final String clusterDiscoveryD2ServiceName;
   private final Map<String, String> childDataCenterControllerD2Map;
   private final int parentControllerWaitingTimeForConsumptionMs;
+  private final int parentControllerChildRegionQueryThreadCount;
+  private final long parentControllerChildRegionQueryTimeoutMs;
+  private final long parentControllerChildRegionJobStatusCacheTtlMs;
   private final String batchJobHeartbeatStoreCluster;// Name of cluster where the batch job liveness heartbeat store
                                                      // should exist.
   private final boolean batchJobHeartbeatEnabled; // whether the controller is enabled to use batch job liveness
@@ -374,6 +389,9 @@ public class VeniceControllerClusterConfig {
   private final boolean disableParentTopicTruncationUponCompletion;
   private final Set<String> parentFabrics;
   private final boolean zkSharedMetaSystemSchemaStoreAutoCreationEnabled;
+  private final boolean storeMetadataBinaryFormatEnabled;
+  private final boolean storeMetadataCompressionEnabled;
+  private final int storeMetadataBinaryProtocolVersion;
   /**
    * To decide whether to initialize push status store related components.
    */
@@ -603,6 +621,11 @@ public class VeniceControllerClusterConfig {
    */
   private final VeniceProperties jettyConfigOverrides;
 
+  /**
+   * Maximum number of requests concurrently waiting for a push job status change
+   */
+  private final int maxConcurrentJobStatusWaits;
+
   /**
    * Config which disables request_topic calls to the parent controller for stream pushes.  This is meant to discourage
    * the use of the parent colo for aggregating pushed data, users should instead push to their local colo and allow
@@ -660,6 +683,9 @@ public class VeniceControllerClusterConfig {
   private final long logCompactionIntervalMS;
   private final long logCompactionVersionStalenessThresholdMS;
   private final long logCompactionDuplicateKeyThreshold;
+  private final boolean isLogCompactionDuplicateRatioSelectionEnabled;
+  private final double logCompactionPartitionDuplicateRatioThreshold;
+  private final String partitionDuplicateRatioEstimatorClassName;
 
   /**
    * Configs for Dead Store Endpoint
@@ -846,6 +872,8 @@ public class VeniceControllerClusterConfig {
     this.leakedResourceAllowedLingerTimeInMs =
         props.getLong(LEAKED_RESOURCE_ALLOWED_LINGER_TIME_MS, TimeUnit.DAYS.toMillis(7));
     this.jettyConfigOverrides = props.clipAndFilterNamespace(CONTROLLER_JETTY_CONFIG_OVERRIDE_PREFIX);
+    this.maxConcurrentJobStatusWaits =
+        props.getInt(CONTROLLER_JOB_STATUS_MAX_CONCURRENT_WAITS, JobRoutes.DEFAULT_MAX_CONCURRENT_JOB_STATUS_WAITS);
     this.disableParentRequestTopicForStreamPushes =
         props.getBoolean(CONTROLLER_DISABLE_PARENT_REQUEST_TOPIC_FOR_STREAM_PUSHES, false);
     this.enableStreamPushSourceGridFabricOverride =
@@ -982,6 +1010,12 @@ public class VeniceControllerClusterConfig {
 
     this.parentControllerWaitingTimeForConsumptionMs =
         props.getInt(PARENT_CONTROLLER_WAITING_TIME_FOR_CONSUMPTION_MS, 30 * Time.MS_PER_SECOND);
+    this.parentControllerChildRegionQueryThreadCount =
+        props.getInt(PARENT_CONTROLLER_CHILD_REGION_QUERY_THREAD_COUNT, 16);
+    this.parentControllerChildRegionQueryTimeoutMs =
+        props.getLong(PARENT_CONTROLLER_CHILD_REGION_QUERY_TIMEOUT_MS, 2 * Time.MS_PER_MINUTE);
+    this.parentControllerChildRegionJobStatusCacheTtlMs =
+        props.getLong(PARENT_CONTROLLER_CHILD_REGION_JOB_STATUS_CACHE_TTL_MS, 0);
     this.batchJobHeartbeatStoreCluster = props.getString(
         BatchJobHeartbeatConfigs.HEARTBEAT_STORE_CLUSTER_CONFIG.getConfigName(),
         BatchJobHeartbeatConfigs.HEARTBEAT_STORE_CLUSTER_CONFIG.getDefaultValue());
@@ -1085,6 +1119,11 @@ public class VeniceControllerClusterConfig {
      */
     this.zkSharedMetaSystemSchemaStoreAutoCreationEnabled =
         props.getBoolean(CONTROLLER_ZK_SHARED_META_SYSTEM_SCHEMA_STORE_AUTO_CREATION_ENABLED, false);
+    this.storeMetadataBinaryFormatEnabled = props.getBoolean(CONTROLLER_STORE_METADATA_BINARY_FORMAT_ENABLED, false);
+    this.storeMetadataCompressionEnabled = props.getBoolean(CONTROLLER_STORE_METADATA_COMPRESSION_ENABLED, false);
+    this.storeMetadataBinaryProtocolVersion = props.getInt(
+        CONTROLLER_STORE_METADATA_BINARY_PROTOCOL_VERSION,
+        AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE.getCurrentProtocolVersion());
     this.pushStatusStoreHeartbeatExpirationTimeInSeconds = props.getLong(
         PUSH_STATUS_STORE_HEARTBEAT_EXPIRATION_TIME_IN_SECONDS,
         DEFAULT_PUSH_STATUS_STORE_HEARTBEAT_EXPIRATION_TIME_IN_SECONDS);
@@ -1244,6 +1283,12 @@ public class VeniceControllerClusterConfig {
         LOG_COMPACTION_VERSION_STALENESS_THRESHOLD_MS,
         props.getLong(LOG_COMPACTION_THRESHOLD_MS, TimeUnit.HOURS.toMillis(24)));
     this.logCompactionDuplicateKeyThreshold = props.getLong(LOG_COMPACTION_DUPLICATE_KEY_THRESHOLD, 0);
+    this.isLogCompactionDuplicateRatioSelectionEnabled =
+        isLogCompactionEnabled && props.getBoolean(LOG_COMPACTION_DUPLICATE_RATIO_SELECTION_ENABLED, false);
+    this.logCompactionPartitionDuplicateRatioThreshold =
+        props.getDouble(LOG_COMPACTION_PARTITION_DUPLICATE_RATIO_THRESHOLD, 0.5);
+    this.partitionDuplicateRatioEstimatorClassName =
+        props.getString(PARTITION_DUPLICATE_RATIO_ESTIMATOR_CLASS_NAME, "");
 
     this.isDeadStoreEndpointEnabled = props.getBoolean(ConfigKeys.CONTROLLER_DEAD_STORE_ENDPOINT_ENABLED, false);
     this.deadStoreStatsClassName = props.getString(ConfigKeys.CONTROLLER_DEAD_STORE_STATS_CLASS_NAME, "");
@@ -1383,6 +1428,8 @@ public class VeniceControllerClusterConfig {
     LOGGER.info("\tlogCompactionIntervalMS: {}", logCompactionIntervalMS);
     LOGGER.info("\tlogCompactionVersionStalenessThresholdMS: {}", logCompactionVersionStalenessThresholdMS);
     LOGGER.info("\tlogCompactionDuplicateKeyThreshold: {}", logCompactionDuplicateKeyThreshold);
+    LOGGER.info("\tisLogCompactionDuplicateRatioSelectionEnabled: {}", isLogCompactionDuplicateRatioSelectionEnabled);
+    LOGGER.info("\tlogCompactionPartitionDuplicateRatioThreshold: {}", logCompactionPartitionDuplicateRatioThreshold);
   }
 
   /**
@@ -1650,6 +1697,10 @@ public class VeniceControllerClusterConfig {
     return jettyConfigOverrides;
   }
 
+  public int getMaxConcurrentJobStatusWaits() {
+    return maxConcurrentJobStatusWaits;
+  }
+
   public int getReplicationMetadataVersion() {
     return replicationMetadataVersion;
   }
@@ -1824,6 +1875,18 @@ public class VeniceControllerClusterConfig {
     return parentControllerWaitingTimeForConsumptionMs;
   }
 
+  public int getParentControllerChildRegionQueryThreadCount() {
+    return parentControllerChildRegionQueryThreadCount;
+  }
+
+  public long getParentControllerChildRegionQueryTimeoutMs() {
+    return parentControllerChildRegionQueryTimeoutMs;
+  }
+
+  public long getParentControllerChildRegionJobStatusCacheTtlMs() {
+    return parentControllerChildRegionJobStatusCacheTtlMs;
+  }
+
   public String getBatchJobHeartbeatStoreCluster() {
     return batchJobHeartbeatStoreCluster;
   }
@@ -2000,6 +2063,18 @@ public class VeniceControllerClusterConfig {
     return zkSharedMetaSystemSchemaStoreAutoCreationEnabled;
   }
 
+  public boolean isStoreMetadataBinaryFormatEnabled() {
+    return storeMetadataBinaryFormatEnabled;
+  }
+
+  public boolean isStoreMetadataCompressionEnabled() {
+    return storeMetadataCompressionEnabled;
+  }
+
+  public int getStoreMetadataBinaryProtocolVersion() {
+    return storeMetadataBinaryProtocolVersion;
+  }
+
   public long getPushStatusStoreHeartbeatExpirationTimeInSeconds() {
     return pushStatusStoreHeartbeatExpirationTimeInSeconds;
   }
@@ -2459,6 +2534,18 @@ public class VeniceControllerClusterConfig {
     return logCompactionDuplicateKeyThreshold;
   }
 
+  public boolean isLogCompactionDuplicateRatioSelectionEnabled() {
+    return isLogCompactionDuplicateRatioSelectionEnabled;
+  }
+
+  public double getLogCompactionPartitionDuplicateRatioThreshold() {
+    return logCompactionPartitionDuplicateRatioThreshold;
+  }
+
+  public String getPartitionDuplicateRatioEstimatorClassName() {
+    return partitionDuplicateRatioEstimatorClassName;
+  }
+
   public boolean isDeadStoreEndpointEnabled() {
     return isDeadStoreEndpointEnabled;
   }
@@ -155,6 +155,18 @@ public class VeniceControllerMultiClusterConfig {
     return getCommonConfig().getParentControllerWaitingTimeForConsumptionMs();
   }
 
+  public int getParentControllerChildRegionQueryThreadCount() {
+    return getCommonConfig().getParentControllerChildRegionQueryThreadCount();
+  }
+
+  public long getParentControllerChildRegionQueryTimeoutMs() {
+    return getCommonConfig().getParentControllerChildRegionQueryTimeoutMs();
+  }
+
+  public long getParentControllerChildRegionJobStatusCacheTtlMs() {
+    return getCommonConfig().getParentControllerChildRegionJobStatusCacheTtlMs();
+  }
+
   public String getBatchJobHeartbeatStoreCluster() {
     return getCommonConfig().getBatchJobHeartbeatStoreCluster();
   }
@@ -375,6 +387,14 @@ public class VeniceControllerMultiClusterConfig {
     return getCommonConfig().getRepushOrchestratorConfigs();
   }
 
+  public boolean isLogCompactionDuplicateRatioSelectionEnabled() {
+    return getCommonConfig().isLogCompactionDuplicateRatioSelectionEnabled();
+  }
+
+  public String getPartitionDuplicateRatioEstimatorClassName() {
+    return getCommonConfig().getPartitionDuplicateRatioEstimatorClassName();
+  }
+
   public boolean isLogCompactionEnabled() {
     return getCommonConfig().isLogCompactionEnabled();
   }
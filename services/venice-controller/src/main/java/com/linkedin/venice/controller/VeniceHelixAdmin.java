@@ -71,8 +71,11 @@ import com.linkedin.venice.controller.kafka.protocol.admin.StoreViewConfigRecord
 import com.linkedin.venice.controller.kafka.protocol.serializer.AdminOperationSerializer;
 import com.linkedin.venice.controller.logcompaction.CompactionManager;
 import com.linkedin.venice.controller.logcompaction.LogCompactionService;
+import com.linkedin.venice.controller.logcompaction.DuplicateRatioRepushCandidateFilter;
+import com.linkedin.venice.controller.logcompaction.PartitionDuplicateRatioEstimator;
 import com.linkedin.venice.controller.logcompaction.RepushCandidateFilter;
 import com.linkedin.venice.controller.logcompaction.RepushCandidateTrigger;
+import com.linkedin.venice.controller.logcompaction.ServerIngestionDuplicateRatioEstimator;
 import com.linkedin.venice.controller.logcompaction.StoreRepushCandidateFilter;
 import com.linkedin.venice.controller.logcompaction.VersionStalenessTrigger;
 import com.linkedin.venice.controller.multitaskscheduler.MultiTaskSchedulerService;
@@ -278,6 +281,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -285,6 +289,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -473,6 +478,8 @@ public class VeniceHelixAdmin implements Admin, StoreCleaner {
 
   private final DataRecoveryManager dataRecoveryManager;
   private CompactionManager compactionManager;
+  // null unless log compaction selects the stores by duplicate ratio with the default estimator
+  private ServerIngestionDuplicateRatioEstimator serverIngestionDuplicateRatioEstimator;
   private final ParticipantStoreClientsManager participantStoreClientsManager;
   protected final PubSubTopicRepository pubSubTopicRepository;
 
@@ -894,7 +901,8 @@ public class VeniceHelixAdmin implements Admin, StoreCleaner {
   private Set<RepushCandidateFilter> getRepushCandidateFiltersFromControllerConfig(
       VeniceControllerMultiClusterConfig multiClusterConfigs) {
 
-    Set<RepushCandidateFilter> candidateFilters = new HashSet<>();
+    // Ordered, so that the filter by duplicate ratio, which queries the servers, only runs on the remaining stores
+    Set<RepushCandidateFilter> candidateFilters = new LinkedHashSet<>();
 
     // Default prerequisite filter
     candidateFilters.add(new StoreRepushCandidateFilter(multiClusterConfigs));
@@ -918,6 +926,13 @@ public class VeniceHelixAdmin implements Admin, StoreCleaner {
       }
     }
 
+    if (multiClusterConfigs.isLogCompactionDuplicateRatioSelectionEnabled()) {
+      candidateFilters.add(
+          new DuplicateRatioRepushCandidateFilter(
+              multiClusterConfigs,
+              getPartitionDuplicateRatioEstimatorFromControllerConfig(multiClusterConfigs)));
+    }
+
     return candidateFilters;
   }
 
@@ -952,6 +967,29 @@ public class VeniceHelixAdmin implements Admin, StoreCleaner {
     return candidateTriggers;
   }
 
+  private PartitionDuplicateRatioEstimator getPartitionDuplicateRatioEstimatorFromControllerConfig(
+      VeniceControllerMultiClusterConfig multiClusterConfigs) {
+    String estimatorClassName = multiClusterConfigs.getPartitionDuplicateRatioEstimatorClassName();
+    if (StringUtils.isEmpty(estimatorClassName)) {
+      ServerIngestionDuplicateRatioEstimator estimator = new ServerIngestionDuplicateRatioEstimator(this);
+      this.serverIngestionDuplicateRatioEstimator = estimator;
+      return estimator;
+    }
+    try {
+      Class<? extends PartitionDuplicateRatioEstimator> estimatorClass = ReflectUtils.loadClass(estimatorClassName);
+      PartitionDuplicateRatioEstimator estimator = ReflectUtils.callConstructor(
+          estimatorClass,
+          new Class[] { VeniceControllerMultiClusterConfig.class },
+          new Object[] { multiClusterConfigs });
+      LOGGER.info("Successfully loaded partition duplicate ratio estimator class: {}", estimatorClassName);
+      return estimator;
+    } catch (Exception e) {
+      throw new VeniceException(
+          "Failed to load partition duplicate ratio estimator class through reflect: " + estimatorClassName,
+          e);
+    }
+  }
+
   private VeniceProperties getPubSubSSLPropertiesFromControllerConfig(String pubSubBootstrapServers) {
     VeniceControllerClusterConfig controllerConfig = multiClusterConfigs.getCommonConfig();
 
@@ -7482,6 +7520,26 @@ public class VeniceHelixAdmin implements Admin, StoreCleaner {
     return list.get(0);
   }
 
+  /**
+   * @see Admin#registerOffLinePushStatusChangeWaiter(String, String)
+   */
+  @Override
+  public CountDownLatch registerOffLinePushStatusChangeWaiter(String clusterName, String kafkaTopic) {
+    checkControllerLeadershipFor(clusterName);
+    return getHelixVeniceClusterResources(clusterName).getPushMonitor().registerPushStatusChangeWaiter(kafkaTopic);
+  }
+
+  /**
+   * @see Admin#unregisterOffLinePushStatusChangeWaiter(String, String, CountDownLatch)
+   */
+  @Override
+  public void unregisterOffLinePushStatusChangeWaiter(String clusterName, String kafkaTopic, CountDownLatch latch) {
+    // The latches go away with the push monitor if the leadership was lost in the meantime
+    if (isLeaderControllerFor(clusterName)) {
+      getHelixVeniceClusterResources(clusterName).getPushMonitor().unregisterPushStatusChangeWaiter(kafkaTopic, latch);
+    }
+  }
+
   private ExecutionStatusWithDetails getIncrementalPushStatus(
       String clusterName,
       String kafkaTopic,
@@ -8854,6 +8912,7 @@ public class VeniceHelixAdmin implements Admin, StoreCleaner {
       Utils.closeQuietlyWithErrorLogged(this.topicManagerRepository);
       Utils.closeQuietlyWithErrorLogged(this.pushJobDetailsStoreClient);
       Utils.closeQuietlyWithErrorLogged(this.livenessHeartbeatStoreClient);
+      Utils.closeQuietlyWithErrorLogged(this.serverIngestionDuplicateRatioEstimator);
       this.clusterControllerClientPerColoMap.values()
           .forEach(ccMap -> ccMap.values().forEach(Utils::closeQuietlyWithErrorLogged));
       D2ClientUtils.shutdownClient(this.d2Client);
@@ -167,6 +167,7 @@ import com.linkedin.venice.controller.lingeringjob.LingeringStoreVersionChecker;
 import com.linkedin.venice.controller.logcompaction.CompactionManager;
 import com.linkedin.venice.controller.migration.MigrationPushStrategyZKAccessor;
 import com.linkedin.venice.controller.repush.RepushJobRequest;
+import com.linkedin.venice.controller.stats.ChildRegionJobStatusStats;
 import com.linkedin.venice.controller.supersetschema.DefaultSupersetSchemaGenerator;
 import com.linkedin.venice.controller.supersetschema.SupersetSchemaGenerator;
 import com.linkedin.venice.controller.util.ParentControllerConfigUpdateUtils;
@@ -236,6 +237,7 @@ import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.meta.VersionStatus;
 import com.linkedin.venice.meta.ViewConfig;
 import com.linkedin.venice.meta.ViewConfigImpl;
+import com.linkedin.venice.partitioner.SecondaryIndexPartitioner;
 import com.linkedin.venice.persona.StoragePersona;
 import com.linkedin.venice.protocols.controller.PubSubPositionGrpcWireFormat;
 import com.linkedin.venice.pubsub.PubSubTopicRepository;
@@ -281,7 +283,7 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
-import com.linkedin.venice.views.MaterializedView;
+import com.linkedin.venice.views.SecondaryIndexView;
 import com.linkedin.venice.views.VeniceView;
 import com.linkedin.venice.views.ViewUtils;
 import com.linkedin.venice.writer.VeniceWriter;
@@ -358,6 +360,7 @@ public class VeniceParentHelixAdmin implements Admin {
   // Based on JavaDoc "Threads that have not been used for sixty seconds are terminated and removed from the cache."
   private final ExecutorService asyncSetupExecutor = Executors.newCachedThreadPool();
   private final ExecutorService topicCheckerExecutor = Executors.newSingleThreadExecutor();
+  private final ChildRegionJobStatusFetcher childRegionJobStatusFetcher;
   private final TerminalStateTopicCheckerForParentController terminalStateTopicChecker;
   private final SystemStoreAclSynchronizationTask systemStoreAclSynchronizationTask;
   private final UserSystemStoreLifeCycleHelper systemStoreLifeCycleHelper;
@@ -531,6 +534,13 @@ public class VeniceParentHelixAdmin implements Admin {
         this.veniceHelixAdmin.getStoreConfigRepo(),
         this.multiClusterConfigs.getTerminalStateTopicCheckerDelayMs());
     topicCheckerExecutor.submit(terminalStateTopicChecker);
+    this.childRegionJobStatusFetcher = new ChildRegionJobStatusFetcher(
+        this.multiClusterConfigs.getParentControllerChildRegionQueryThreadCount(),
+        this.multiClusterConfigs.getParentControllerChildRegionQueryTimeoutMs(),
+        this.multiClusterConfigs.getParentControllerChildRegionJobStatusCacheTtlMs(),
+        new ChildRegionJobStatusStats(metricsRepository),
+        new SystemTime(),
+        logContext);
     systemStoreAclSynchronizationTask =
         authorizerService
             .map(
@@ -3352,7 +3362,7 @@ public class VeniceParentHelixAdmin implements Admin {
 
   private ViewConfig validateAndDecorateStoreViewConfig(Store store, ViewConfig viewConfig, String viewName) {
     // TODO: Pass a proper properties object here. Today this isn't used in this context
-    if (viewConfig.getViewClassName().equals(MaterializedView.class.getCanonicalName())) {
+    if (ViewUtils.isMaterializedView(viewConfig.getViewClassName())) {
       if (viewName.contains(VERSION_SEPARATOR)) {
         throw new VeniceException(String.format("View name cannot contain version separator: %s", VERSION_SEPARATOR));
       }
@@ -3363,7 +3373,12 @@ public class VeniceParentHelixAdmin implements Admin {
       Map<String, String> viewParams = viewConfig.getViewParameters();
       MaterializedViewParameters.Builder decoratedViewParamBuilder =
           new MaterializedViewParameters.Builder(viewName, viewParams);
-      if (!viewParams.containsKey(MaterializedViewParameters.MATERIALIZED_VIEW_PARTITIONER.name())) {
+      if (viewConfig.getViewClassName().equals(SecondaryIndexView.class.getCanonicalName())) {
+        // The entries of an index value have to be co-located regardless of the store partitioner
+        if (!viewParams.containsKey(MaterializedViewParameters.MATERIALIZED_VIEW_PARTITIONER.name())) {
+          decoratedViewParamBuilder.setPartitioner(SecondaryIndexPartitioner.class.getCanonicalName());
+        }
+      } else if (!viewParams.containsKey(MaterializedViewParameters.MATERIALIZED_VIEW_PARTITIONER.name())) {
         decoratedViewParamBuilder.setPartitioner(store.getPartitionerConfig().getPartitionerClass());
         if (!store.getPartitionerConfig().getPartitionerParams().isEmpty()) {
           decoratedViewParamBuilder.setPartitionerParams(store.getPartitionerConfig().getPartitionerParams());
@@ -4133,6 +4148,7 @@ public class VeniceParentHelixAdmin implements Admin {
     int numChildRegionsFailedToFetchStatus = 0;
     Set<String> targetedRegionSet = parseRegionsFilterList(targetedRegions);
 
+    Map<String, ControllerClient> queriedControllerClients = new HashMap<>();
     for (Map.Entry<String, ControllerClient> entry: controllerClients.entrySet()) {
       String region = entry.getKey();
       // if targetedRegions is present, and it is not a target region push with deferred swap, only query the targeted
@@ -4141,18 +4157,24 @@ public class VeniceParentHelixAdmin implements Admin {
       if (!targetedRegionSet.isEmpty() && !targetedRegionSet.contains(region) && !isTargetRegionPushWithDeferredSwap) {
         continue;
       }
-      ControllerClient controllerClient = entry.getValue();
-      String leaderControllerUrl;
-      try {
-        leaderControllerUrl = controllerClient.getLeaderControllerUrl();
-      } catch (VeniceException exception) {
+      queriedControllerClients.put(region, entry.getValue());
+    }
+    Map<String, ChildRegionJobStatusFetcher.RegionJobStatus> regionJobStatuses = childRegionJobStatusFetcher
+        .fetch(clusterName, kafkaTopic, incrementalPushVersion, queriedControllerClients);
+
+    for (Map.Entry<String, ChildRegionJobStatusFetcher.RegionJobStatus> entry: regionJobStatuses.entrySet()) {
+      String region = entry.getKey();
+      ChildRegionJobStatusFetcher.RegionJobStatus regionJobStatus = entry.getValue();
+      VeniceException exception = regionJobStatus.getLeaderDiscoveryException();
+      if (exception != null) {
         LOGGER.warn("Couldn't query {} for job status of {}", region, kafkaTopic, exception);
         statuses.put(region, ExecutionStatus.UNKNOWN);
         extraInfo.put(region, ExecutionStatus.UNKNOWN.toString());
         extraDetails.put(region, "Failed to get leader controller url " + exception.getMessage());
         continue;
       }
-      JobStatusQueryResponse response = controllerClient.queryJobStatus(kafkaTopic, incrementalPushVersion);
+      String leaderControllerUrl = regionJobStatus.getLeaderControllerUrl();
+      JobStatusQueryResponse response = regionJobStatus.getResponse();
       if (response.isError()) {
         numChildRegionsFailedToFetchStatus += 1;
         LOGGER.warn("Couldn't query {} for job {} status: {}", region, kafkaTopic, response.getError());
@@ -5119,6 +5141,7 @@ public class VeniceParentHelixAdmin implements Admin {
     if (systemStoreAclSynchronizationTask != null) {
       systemStoreAclSynchronizationTask.close();
     }
+    childRegionJobStatusFetcher.close();
     topicCheckerExecutor.shutdownNow();
     asyncSetupExecutor.shutdownNow();
     if (systemStoreAclSynchronizationExecutor != null) {
@@ -0,0 +1,78 @@
+package com.linkedin.venice.controller.logcompaction;
+
+import com.linkedin.venice.controller.VeniceControllerMultiClusterConfig;
+import com.linkedin.venice.meta.StoreInfo;
+import com.linkedin.venice.meta.Version;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Prerequisite filter that only nominates the stores with at least one partition of the current version whose
+ * estimated ratio of superseded records is at least the cluster's
+ * {@link com.linkedin.venice.ConfigKeys#LOG_COMPACTION_PARTITION_DUPLICATE_RATIO_THRESHOLD}. The ratios are given by a
+ * {@link PartitionDuplicateRatioEstimator}.
+ *
+ * <p>A store whose ratios can't be estimated for every partition of its current version isn't filtered out, so that it
+ * is compacted as if the filter was disabled.</p>
+ */
+public class DuplicateRatioRepushCandidateFilter implements RepushCandidateFilter {
+  private static final Logger LOGGER = LogManager.getLogger(DuplicateRatioRepushCandidateFilter.class);
+
+  private final PartitionDuplicateRatioEstimator duplicateRatioEstimator;
+  private final Map<String, Double> duplicateRatioThresholdByCluster = new HashMap<>();
+
+  public DuplicateRatioRepushCandidateFilter(
+      VeniceControllerMultiClusterConfig multiClusterConfig,
+      PartitionDuplicateRatioEstimator duplicateRatioEstimator) {
+    this.duplicateRatioEstimator = duplicateRatioEstimator;
+    for (String clusterName: multiClusterConfig.getClusters()) {
+      this.duplicateRatioThresholdByCluster.put(
+          clusterName,
+          multiClusterConfig.getControllerConfig(clusterName).getLogCompactionPartitionDuplicateRatioThreshold());
+    }
+  }
+
+  @Override
+  public boolean apply(String clusterName, StoreInfo storeInfo) {
+    Optional<Version> currentVersion = storeInfo.getVersion(storeInfo.getCurrentVersion());
+    if (!currentVersion.isPresent()) {
+      return true;
+    }
+    // The partition count of the store may have changed since the current version was pushed
+    int partitionCount = currentVersion.get().getPartitionCount();
+    Map<Integer, Double> duplicateRatios = duplicateRatioEstimator.getDuplicateRatios(clusterName, storeInfo);
+    if (duplicateRatios == null || duplicateRatios.size() < partitionCount) {
+      LOGGER.info(
+          "Incomplete duplicate ratio estimate for store: {} with {} partitions: {}",
+          storeInfo.getName(),
+          partitionCount,
+          duplicateRatios);
+      return true;
+    }
+    Double duplicateRatioThreshold = duplicateRatioThresholdByCluster.get(clusterName);
+    if (duplicateRatioThreshold == null) {
+      return true;
+    }
+    for (Map.Entry<Integer, Double> entry: duplicateRatios.entrySet()) {
+      if (entry.getValue() >= duplicateRatioThreshold) {
+        LOGGER.info(
+            "Partition: {} of store: {} has a duplicate ratio of {}, at least {}",
+            entry.getKey(),
+            storeInfo.getName(),
+            entry.getValue(),
+            duplicateRatioThreshold);
+        return true;
+      }
+    }
+    LOGGER.info(
+        "No partition of store: {} has a duplicate ratio of at least {}: {}",
+        storeInfo.getName(),
+        duplicateRatioThreshold,
+        duplicateRatios);
+    return false;
+  }
+}
@@ -0,0 +1,24 @@
+package com.linkedin.venice.controller.logcompaction;
+
+import com.linkedin.venice.meta.StoreInfo;
+import java.util.Map;
+
+
+/**
+ * {@code PartitionDuplicateRatioEstimator} estimates, for each partition of the current version of a store, the ratio
+ * of records in the version topic which have been superseded by a later record of the same key.
+ *
+ * <p>The estimates are used to only schedule log compaction for the stores with at least one partition where most of
+ * the topic is made of superseded records, see {@link DuplicateRatioRepushCandidateFilter}. The default implementation,
+ * {@link ServerIngestionDuplicateRatioEstimator}, derives them from the unique keys ingested by the servers.</p>
+ *
+ * <p>Other implementations are loaded through reflection and must have a constructor taking a
+ * {@link com.linkedin.venice.controller.VeniceControllerMultiClusterConfig}.</p>
+ */
+public interface PartitionDuplicateRatioEstimator {
+  /**
+   * @return the estimated ratio, between 0 and 1, of superseded records by partition id, or an empty map if the ratios
+   *         of this store can't be estimated
+   */
+  Map<Integer, Double> getDuplicateRatios(String clusterName, StoreInfo storeInfo);
+}
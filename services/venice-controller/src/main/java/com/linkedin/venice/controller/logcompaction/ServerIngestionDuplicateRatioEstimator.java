@@ -0,0 +1,184 @@
+package com.linkedin.venice.controller.logcompaction;
+
+import static com.linkedin.venice.serialization.avro.AvroProtocolDefinition.SERVER_ADMIN_RESPONSE;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.admin.protocol.response.AdminResponseRecord;
+import com.linkedin.venice.admin.protocol.response.ConsumptionStateSnapshot;
+import com.linkedin.venice.annotation.VisibleForTesting;
+import com.linkedin.venice.controller.VeniceHelixAdmin;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.OnlineInstanceFinder;
+import com.linkedin.venice.meta.QueryAction;
+import com.linkedin.venice.meta.ServerAdminAction;
+import com.linkedin.venice.meta.StoreInfo;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.ObjectMapperFactory;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.IOUtils;
+import org.apache.datasketches.hll.HllSketch;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Default {@link PartitionDuplicateRatioEstimator}, fed by the ingestion state of the servers.
+ *
+ * <p>With {@link com.linkedin.venice.ConfigKeys#SERVER_UNIQUE_INGESTED_KEY_COUNT_HLL_ENABLED}, each replica tracks the
+ * keys it ingested in a HyperLogLog sketch, which is checkpointed in its offset record. This estimator fetches the
+ * offset record of a ready-to-serve replica of each partition through {@link ServerAdminAction#DUMP_INGESTION_STATE},
+ * and compares the estimated number of unique keys to the number of records in the version topic partition:
+ * {@code ratio = 1 - uniqueKeys / records}.</p>
+ *
+ * <p>The estimate of a store is empty as soon as one of its partitions has no replica tracking its keys.</p>
+ */
+public class ServerIngestionDuplicateRatioEstimator implements PartitionDuplicateRatioEstimator, Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(ServerIngestionDuplicateRatioEstimator.class);
+  private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getInstance();
+  private static final int SERVER_REQUEST_TIMEOUT_MS = 10000;
+  private static final String UNIQUE_INGESTED_KEY_COUNT_HLL_SKETCH_FIELD = "uniqueIngestedKeyCountHllSketch";
+
+  private final VeniceHelixAdmin admin;
+  private final boolean isSslEnabled;
+  private final CloseableHttpAsyncClient httpAsyncClient;
+
+  public ServerIngestionDuplicateRatioEstimator(VeniceHelixAdmin admin) {
+    this.admin = admin;
+    Optional<SSLFactory> sslFactory = admin.getSslFactory();
+    this.isSslEnabled = sslFactory.isPresent();
+    this.httpAsyncClient = HttpAsyncClients.custom()
+        .setDefaultRequestConfig(RequestConfig.custom().setSocketTimeout(SERVER_REQUEST_TIMEOUT_MS).build())
+        .setSSLContext(sslFactory.map(SSLFactory::getSSLContext).orElse(null))
+        .build();
+    this.httpAsyncClient.start();
+  }
+
+  @Override
+  public Map<Integer, Double> getDuplicateRatios(String clusterName, StoreInfo storeInfo) {
+    Optional<Version> currentVersion = storeInfo.getVersion(storeInfo.getCurrentVersion());
+    if (!currentVersion.isPresent()) {
+      return Collections.emptyMap();
+    }
+    String topicName = currentVersion.get().kafkaTopicName();
+    PubSubTopic versionTopic = admin.getPubSubTopicRepository().getTopic(topicName);
+    OnlineInstanceFinder instanceFinder =
+        admin.getHelixVeniceClusterResources(clusterName).getCustomizedViewRepository();
+    Map<Integer, Double> duplicateRatios = new HashMap<>();
+    for (int partition = 0; partition < currentVersion.get().getPartitionCount(); partition++) {
+      List<Instance> instances = instanceFinder.getReadyToServeInstances(topicName, partition);
+      long uniqueKeyCount = fetchUniqueIngestedKeyCount(topicName, partition, instances);
+      if (uniqueKeyCount < 0) {
+        LOGGER.info("No unique ingested key count for partition: {} of topic: {}", partition, topicName);
+        return Collections.emptyMap();
+      }
+      long recordCount =
+          admin.getTopicManager().getNumRecordsInPartition(new PubSubTopicPartitionImpl(versionTopic, partition));
+      duplicateRatios.put(partition, getDuplicateRatio(uniqueKeyCount, recordCount));
+    }
+    return duplicateRatios;
+  }
+
+  @VisibleForTesting
+  static double getDuplicateRatio(long uniqueKeyCount, long recordCount) {
+    if (recordCount <= 0) {
+      return 0;
+    }
+    // The estimate of the unique keys can be slightly above the record count, e.g. for a partition without any update
+    return Math.max(0, 1 - (double) uniqueKeyCount / recordCount);
+  }
+
+  /**
+   * @return the estimated number of unique keys ingested in the partition by the first replica which tracks them, or -1
+   *         if no replica does
+   */
+  private long fetchUniqueIngestedKeyCount(String topicName, int partition, List<Instance> instances) {
+    for (Instance instance: instances) {
+      String url = instance.getHostUrl(isSslEnabled) + QueryAction.ADMIN.toString().toLowerCase() + "/" + topicName
+          + "/" + ServerAdminAction.DUMP_INGESTION_STATE.toString().toLowerCase() + "/" + partition;
+      try {
+        HttpResponse response =
+            httpAsyncClient.execute(new HttpGet(url), null).get(SERVER_REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+          LOGGER.warn(
+              "Got status code {} from host {} while dumping the ingestion state of partition {} of topic {}",
+              response.getStatusLine().getStatusCode(),
+              instance,
+              partition,
+              topicName);
+          continue;
+        }
+        byte[] responseBody;
+        try (InputStream bodyStream = response.getEntity().getContent()) {
+          responseBody = IOUtils.toByteArray(bodyStream);
+        }
+        Header schemaIdHeader = response.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID);
+        // Like in the admin tool, schema id 1 stands for the records written with schema 2 by older servers
+        int schemaId = schemaIdHeader == null || Integer.parseInt(schemaIdHeader.getValue()) == 1
+            ? SERVER_ADMIN_RESPONSE.getCurrentProtocolVersion()
+            : Integer.parseInt(schemaIdHeader.getValue());
+        AdminResponseRecord responseRecord = SERVER_ADMIN_RESPONSE.getSerializer().deserialize(responseBody, schemaId);
+        if (responseRecord.partitionConsumptionStates == null) {
+          continue;
+        }
+        for (ConsumptionStateSnapshot snapshot: responseRecord.partitionConsumptionStates) {
+          // The servers dump the offset record as a JSON string
+          if (snapshot.partitionId == partition && snapshot.offsetRecord instanceof CharSequence) {
+            long uniqueKeyCount = getUniqueIngestedKeyCount(snapshot.offsetRecord.toString());
+            if (uniqueKeyCount >= 0) {
+              return uniqueKeyCount;
+            }
+          }
+        }
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Failed to dump the ingestion state of partition {} of topic {} from host {}",
+            partition,
+            topicName,
+            instance,
+            e);
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @param offsetRecordJson the offset record of a replica, as dumped by the server, whose bytes fields are hex strings
+   * @return the estimated number of unique keys of the sketch checkpointed in the offset record, or -1 if there is none
+   */
+  @VisibleForTesting
+  static long getUniqueIngestedKeyCount(String offsetRecordJson) throws IOException {
+    JsonNode sketchNode = OBJECT_MAPPER.readTree(offsetRecordJson).path(UNIQUE_INGESTED_KEY_COUNT_HLL_SKETCH_FIELD);
+    // A nullable field is encoded as a union, e.g. {"bytes": "0a01..."}
+    JsonNode sketchBytesNode = sketchNode.path("bytes");
+    if (!sketchBytesNode.isTextual() || sketchBytesNode.asText().isEmpty()) {
+      return -1;
+    }
+    return (long) HllSketch.heapify(ByteUtils.fromHexString(sketchBytesNode.asText())).getEstimate();
+  }
+
+  @Override
+  public void close() throws IOException {
+    httpAsyncClient.close();
+  }
+}
@@ -64,6 +64,7 @@ import static com.linkedin.venice.controllerapi.ControllerRoute.GET_VALUE_SCHEMA
 import static com.linkedin.venice.controllerapi.ControllerRoute.GET_VALUE_SCHEMA_ID;
 import static com.linkedin.venice.controllerapi.ControllerRoute.IS_STORE_VERSION_READY_FOR_DATA_RECOVERY;
 import static com.linkedin.venice.controllerapi.ControllerRoute.JOB;
+import static com.linkedin.venice.controllerapi.ControllerRoute.JOB_STATUS_CHANGE;
 import static com.linkedin.venice.controllerapi.ControllerRoute.KILL_OFFLINE_PUSH_JOB;
 import static com.linkedin.venice.controllerapi.ControllerRoute.LAST_SUCCEED_EXECUTION_ID;
 import static com.linkedin.venice.controllerapi.ControllerRoute.LEADER_CONTROLLER;
@@ -180,6 +181,7 @@ public class AdminSparkServer extends AbstractVeniceService {
   private final List<ControllerRoute> disabledRoutes;
 
   private final boolean disableParentRequestTopicForStreamPushes;
+  private final int maxConcurrentJobStatusWaits;
   private final PubSubTopicRepository pubSubTopicRepository;
   private final VeniceControllerRequestHandler requestHandler;
   private final LogContext logContext;
@@ -196,6 +198,7 @@ public class AdminSparkServer extends AbstractVeniceService {
       List<ControllerRoute> disabledRoutes,
       VeniceProperties jettyConfigOverrides,
       boolean disableParentRequestTopicForStreamPushes,
+      int maxConcurrentJobStatusWaits,
       PubSubTopicRepository pubSubTopicRepository,
       VeniceControllerRequestHandler requestHandler) {
     this.logContext = admin.getLogContext();
@@ -223,6 +226,7 @@ public class AdminSparkServer extends AbstractVeniceService {
     httpService = Service.ignite();
     this.disabledRoutes = disabledRoutes;
     this.disableParentRequestTopicForStreamPushes = disableParentRequestTopicForStreamPushes;
+    this.maxConcurrentJobStatusWaits = maxConcurrentJobStatusWaits;
     this.pubSubTopicRepository = pubSubTopicRepository;
   }
 
@@ -303,7 +307,7 @@ public class AdminSparkServer extends AbstractVeniceService {
         new ControllerRoutes(sslEnabled, accessController, pubSubTopicRepository, requestHandler);
     StoresRoutes storesRoutes =
         new StoresRoutes(sslEnabled, accessController, pubSubTopicRepository, requestHandler.getStoreRequestHandler());
-    JobRoutes jobRoutes = new JobRoutes(sslEnabled, accessController);
+    JobRoutes jobRoutes = new JobRoutes(sslEnabled, accessController, maxConcurrentJobStatusWaits);
     SkipAdminRoute skipAdminRoute = new SkipAdminRoute(sslEnabled, accessController);
     CreateVersion createVersion = new CreateVersion(sslEnabled, accessController, this.checkReadMethodForKafka);
     CreateStore createStoreRoute = new CreateStore(sslEnabled, accessController);
@@ -367,6 +371,9 @@ public class AdminSparkServer extends AbstractVeniceService {
             newClusterBuildOutRoutes.copyOverStoreSchemasAndConfigs(admin)));
 
     httpService.get(JOB.getPath(), new VeniceParentControllerRegionStateHandler(admin, jobRoutes.jobStatus(admin)));
+    httpService.get(
+        JOB_STATUS_CHANGE.getPath(),
+        new VeniceParentControllerRegionStateHandler(admin, jobRoutes.jobStatusChange(admin)));
     httpService.post(
         KILL_OFFLINE_PUSH_JOB.getPath(),
         new VeniceParentControllerRegionStateHandler(admin, jobRoutes.killOfflinePushJob(admin)));
@@ -3,6 +3,8 @@ package com.linkedin.venice.controller.server;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.CLUSTER;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.FABRIC;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.INCREMENTAL_PUSH_VERSION;
+import static com.linkedin.venice.controllerapi.ControllerApiConstants.JOB_STATUS_WAIT_TIMEOUT_MS;
+import static com.linkedin.venice.controllerapi.ControllerApiConstants.LAST_KNOWN_JOB_STATUS_DIGEST;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.NAME;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.TARGETED_REGIONS;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.TARGET_REGION_PUSH_WITH_DEFERRED_SWAP;
@@ -10,6 +12,7 @@ import static com.linkedin.venice.controllerapi.ControllerApiConstants.TOPIC;
 import static com.linkedin.venice.controllerapi.ControllerApiConstants.VERSION;
 import static com.linkedin.venice.controllerapi.ControllerRoute.GET_ONGOING_INCREMENTAL_PUSH_VERSIONS;
 import static com.linkedin.venice.controllerapi.ControllerRoute.JOB;
+import static com.linkedin.venice.controllerapi.ControllerRoute.JOB_STATUS_CHANGE;
 import static com.linkedin.venice.controllerapi.ControllerRoute.KILL_OFFLINE_PUSH_JOB;
 import static com.linkedin.venice.controllerapi.ControllerRoute.SEND_PUSH_JOB_DETAILS;
 
@@ -22,13 +25,19 @@ import com.linkedin.venice.controllerapi.JobStatusQueryResponse;
 import com.linkedin.venice.controllerapi.routes.PushJobStatusUploadResponse;
 import com.linkedin.venice.exceptions.ErrorType;
 import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.pushmonitor.ExecutionStatus;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.status.protocol.PushJobDetails;
 import com.linkedin.venice.status.protocol.PushJobStatusRecordKey;
+import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.Utils;
 import java.util.Collections;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import org.apache.http.HttpStatus;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -37,11 +46,32 @@ import spark.Route;
 
 public class JobRoutes extends AbstractRoute {
   private static final Logger LOGGER = LogManager.getLogger(JobRoutes.class);
+  static final long DEFAULT_JOB_STATUS_WAIT_TIMEOUT_MS = Time.MS_PER_MINUTE;
+  static final long MAX_JOB_STATUS_WAIT_TIMEOUT_MS = 5 * Time.MS_PER_MINUTE;
+  /**
+   * The job status is recomputed at least this often while waiting, in case some status update isn't notified.
+   */
+  static final long JOB_STATUS_RECHECK_INTERVAL_MS = 30 * Time.MS_PER_SECOND;
+  public static final int DEFAULT_MAX_CONCURRENT_JOB_STATUS_WAITS = 64;
+
   private final InternalAvroSpecificSerializer<PushJobDetails> pushJobDetailsSerializer =
       AvroProtocolDefinition.PUSH_JOB_DETAILS.getSerializer();
+  /**
+   * Each waiting request holds a server thread, so the number of concurrent waits is bounded. Requests beyond it get
+   * the current job status right away, and the clients wait before polling again.
+   */
+  private final Semaphore jobStatusWaitPermits;
 
   public JobRoutes(boolean sslEnabled, Optional<DynamicAccessController> accessController) {
+    this(sslEnabled, accessController, DEFAULT_MAX_CONCURRENT_JOB_STATUS_WAITS);
+  }
+
+  public JobRoutes(
+      boolean sslEnabled,
+      Optional<DynamicAccessController> accessController,
+      int maxConcurrentJobStatusWaits) {
     super(sslEnabled, accessController);
+    this.jobStatusWaitPermits = new Semaphore(maxConcurrentJobStatusWaits);
   }
 
   /**
@@ -79,6 +109,121 @@ public class JobRoutes extends AbstractRoute {
     };
   }
 
+  /**
+   * Long-polling variant of {@link #jobStatus(Admin)}, which waits for the job status to change before responding.
+   */
+  public Route jobStatusChange(Admin admin) {
+    return (request, response) -> {
+      JobStatusQueryResponse responseObject = new JobStatusQueryResponse();
+      response.type(HttpConstants.JSON);
+      try {
+        // No ACL check for getting job metadata
+        AdminSparkServer.validateParams(request, JOB_STATUS_CHANGE.getParams(), admin);
+        String cluster = request.queryParams(CLUSTER);
+        String store = request.queryParams(NAME);
+        int versionNumber = Utils.parseIntFromString(request.queryParams(VERSION), VERSION);
+        String incrementalPushVersion = AdminSparkServer.getOptionalParameterValue(request, INCREMENTAL_PUSH_VERSION);
+        String targetedRegions = request.queryParams(TARGETED_REGIONS);
+        boolean isTargetRegionPushWithDeferredSwap =
+            Boolean.parseBoolean(request.queryParams(TARGET_REGION_PUSH_WITH_DEFERRED_SWAP));
+        String region = AdminSparkServer.getOptionalParameterValue(request, FABRIC);
+        String lastKnownStatusDigest = request.queryParams(LAST_KNOWN_JOB_STATUS_DIGEST);
+        String waitTimeoutMs = request.queryParams(JOB_STATUS_WAIT_TIMEOUT_MS);
+        responseObject = waitForJobStatusChange(
+            cluster,
+            store,
+            versionNumber,
+            admin,
+            Optional.ofNullable(incrementalPushVersion),
+            region,
+            targetedRegions,
+            isTargetRegionPushWithDeferredSwap,
+            lastKnownStatusDigest,
+            waitTimeoutMs == null
+                ? DEFAULT_JOB_STATUS_WAIT_TIMEOUT_MS
+                : Utils.parseLongFromString(waitTimeoutMs, JOB_STATUS_WAIT_TIMEOUT_MS));
+      } catch (Throwable e) {
+        responseObject.setError(e);
+        AdminSparkServer.handleError(e, request, response);
+      }
+      return AdminSparkServer.OBJECT_MAPPER.writeValueAsString(responseObject);
+    };
+  }
+
+  /**
+   * Returns the job status once its {@link JobStatusQueryResponse#getStatusDigest()} differs from the last known one,
+   * once it's terminal, or once the wait timeout elapses. The status is recomputed whenever the admin is notified of a
+   * push status update, and at least every {@link #JOB_STATUS_RECHECK_INTERVAL_MS}. The waiter for the next update is
+   * always registered before the status is read, so that an update in between wakes up the wait right away.
+   *
+   * Admins which aren't notified of the status updates, e.g. the parent controller, return the current status right
+   * away, since recomputing it until it changes would query all the child regions over and over for each waiting
+   * request. The clients then wait for their polling interval before asking again.
+   */
+  JobStatusQueryResponse waitForJobStatusChange(
+      String cluster,
+      String store,
+      int versionNumber,
+      Admin admin,
+      Optional<String> incrementalPushVersion,
+      String region,
+      String targetedRegions,
+      boolean isTargetRegionPushWithDeferredSwap,
+      String lastKnownStatusDigest,
+      long waitTimeoutMs) throws InterruptedException {
+    String kafkaTopicName = Version.composeKafkaTopic(store, versionNumber);
+    CountDownLatch statusChangeLatch = admin.registerOffLinePushStatusChangeWaiter(cluster, kafkaTopicName);
+    try {
+      JobStatusQueryResponse responseObject = populateJobStatus(
+          cluster,
+          store,
+          versionNumber,
+          admin,
+          incrementalPushVersion,
+          region,
+          targetedRegions,
+          isTargetRegionPushWithDeferredSwap);
+      if (statusChangeLatch == null || !isJobStatusUnchanged(responseObject, lastKnownStatusDigest)
+          || !jobStatusWaitPermits.tryAcquire()) {
+        return responseObject;
+      }
+      try {
+        long deadline = System.currentTimeMillis() + Math.min(waitTimeoutMs, MAX_JOB_STATUS_WAIT_TIMEOUT_MS);
+        long remainingMs;
+        while ((remainingMs = deadline - System.currentTimeMillis()) > 0) {
+          statusChangeLatch.await(Math.min(remainingMs, JOB_STATUS_RECHECK_INTERVAL_MS), TimeUnit.MILLISECONDS);
+          CountDownLatch previousStatusChangeLatch = statusChangeLatch;
+          statusChangeLatch = admin.registerOffLinePushStatusChangeWaiter(cluster, kafkaTopicName);
+          admin.unregisterOffLinePushStatusChangeWaiter(cluster, kafkaTopicName, previousStatusChangeLatch);
+          responseObject = populateJobStatus(
+              cluster,
+              store,
+              versionNumber,
+              admin,
+              incrementalPushVersion,
+              region,
+              targetedRegions,
+              isTargetRegionPushWithDeferredSwap);
+          if (!isJobStatusUnchanged(responseObject, lastKnownStatusDigest)) {
+            break;
+          }
+        }
+        return responseObject;
+      } finally {
+        jobStatusWaitPermits.release();
+      }
+    } finally {
+      if (statusChangeLatch != null) {
+        admin.unregisterOffLinePushStatusChangeWaiter(cluster, kafkaTopicName, statusChangeLatch);
+      }
+    }
+  }
+
+  private static boolean isJobStatusUnchanged(JobStatusQueryResponse responseObject, String lastKnownStatusDigest) {
+    return lastKnownStatusDigest != null && !ExecutionStatus.valueOf(responseObject.getStatus()).isTerminal()
+        && Objects.equals(responseObject.getStatusDigest(), lastKnownStatusDigest);
+  }
+
   JobStatusQueryResponse populateJobStatus(
       String cluster,
       String store,
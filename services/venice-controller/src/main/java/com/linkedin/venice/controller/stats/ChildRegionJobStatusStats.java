@@ -0,0 +1,55 @@
+package com.linkedin.venice.controller.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.AsyncGauge;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.OccurrenceRate;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Stats of the job status queries which the parent controller fans out to the child regions. A cache hit is a caller
+ * which shares the query round of another caller instead of starting its own.
+ */
+public class ChildRegionJobStatusStats extends AbstractVeniceStats {
+  private final Sensor fanOutLatencySensor;
+  private final Sensor queryTimeoutSensor;
+  private final Sensor cacheHitSensor;
+  private final Sensor cacheMissSensor;
+  private final LongAdder cacheHitCount = new LongAdder();
+  private final LongAdder cacheMissCount = new LongAdder();
+
+  public ChildRegionJobStatusStats(MetricsRepository metricsRepository) {
+    super(metricsRepository, "ChildRegionJobStatus");
+    fanOutLatencySensor = registerSensor("fan_out_latency", new Avg(), new Max());
+    queryTimeoutSensor = registerSensor("query_timeout", new OccurrenceRate());
+    cacheHitSensor = registerSensor("cache_hit", new OccurrenceRate());
+    cacheMissSensor = registerSensor("cache_miss", new OccurrenceRate());
+    registerSensor(new AsyncGauge((ignored, ignored2) -> {
+      long hitCount = cacheHitCount.sum();
+      long totalCount = hitCount + cacheMissCount.sum();
+      return totalCount == 0 ? 0 : (double) hitCount / totalCount;
+    }, "cache_hit_ratio"));
+  }
+
+  public void recordFanOutLatency(double latencyInMs) {
+    fanOutLatencySensor.record(latencyInMs);
+  }
+
+  public void recordQueryTimeout() {
+    queryTimeoutSensor.record();
+  }
+
+  public void recordCacheHit() {
+    cacheHitCount.increment();
+    cacheHitSensor.record();
+  }
+
+  public void recordCacheMiss() {
+    cacheMissCount.increment();
+    cacheMissSensor.record();
+  }
+}
@@ -56,6 +56,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.commons.lang.StringUtils;
@@ -106,6 +107,8 @@ public abstract class AbstractPushMonitor
   private final VeniceWriterFactory veniceWriterFactory;
   private String sequentialRollForwardFirstRegion = null;
   private final CurrentVersionChangeNotifier currentVersionChangeNotifier;
+  // Latches released on the next status update of each topic, see registerPushStatusChangeWaiter
+  private final Map<String, StatusChangeLatch> topicToStatusChangeLatchMap = new VeniceConcurrentHashMap<>();
 
   public interface CurrentVersionChangeNotifier {
     void onCurrentVersionChange(Store store, String clusterName, int currentVersion, int previousVersion);
@@ -297,6 +300,7 @@ public abstract class AbstractPushMonitor
         cleanupPushStatus(pushStatus, deletePushStatus);
       }
       pushStatusCollector.unsubscribeTopic(kafkaTopic);
+      notifyPushStatusChange(kafkaTopic);
       LOGGER.info("Stopped monitoring push on topic: {}", kafkaTopic);
     }
   }
@@ -787,10 +791,38 @@ public abstract class AbstractPushMonitor
       offlinePushAccessor.updateOfflinePushStatus(clonedPushStatus);
       // Update local copy
       topicToPushMap.put(kafkaTopic, clonedPushStatus);
+      notifyPushStatusChange(kafkaTopic);
       return clonedPushStatus;
     }
   }
 
+  @Override
+  public CountDownLatch registerPushStatusChangeWaiter(String kafkaTopic) {
+    return topicToStatusChangeLatchMap.compute(kafkaTopic, (k, latch) -> {
+      StatusChangeLatch statusChangeLatch = latch == null ? new StatusChangeLatch() : latch;
+      statusChangeLatch.waiterCount++;
+      return statusChangeLatch;
+    });
+  }
+
+  @Override
+  public void unregisterPushStatusChangeWaiter(String kafkaTopic, CountDownLatch latch) {
+    // Released latches are already removed, and a new latch may have been registered for the topic since
+    topicToStatusChangeLatchMap.computeIfPresent(
+        kafkaTopic,
+        (k, currentLatch) -> currentLatch == latch && --currentLatch.waiterCount == 0 ? null : currentLatch);
+  }
+
+  /**
+   * Wakes up the requests waiting for the status of the given topic to change. The next requests wait on a new latch.
+   */
+  protected void notifyPushStatusChange(String kafkaTopic) {
+    CountDownLatch latch = topicToStatusChangeLatchMap.remove(kafkaTopic);
+    if (latch != null) {
+      latch.countDown();
+    }
+  }
+
   protected long getDurationInSec(OfflinePushStatus pushStatus) {
     long start = pushStatus.getStartTimeSec();
     return System.currentTimeMillis() / Time.MS_PER_SECOND - start;
@@ -825,6 +857,7 @@ public abstract class AbstractPushMonitor
 
       onPartitionStatusChange(pushStatus);
     }
+    notifyPushStatusChange(topic);
   }
 
   protected void onPartitionStatusChange(OfflinePushStatus offlinePushStatus) {
@@ -983,8 +1016,7 @@ public abstract class AbstractPushMonitor
         // Check whether to send EOP for materialized view topic(s)
         boolean isFlinkVeniceViewsEnabled = store.isFlinkVeniceViewsEnabled();
         for (ViewConfig rawView: viewConfigMap.values()) {
-          if (MaterializedView.class.getCanonicalName().equals(rawView.getViewClassName())
-              && !isFlinkVeniceViewsEnabled) {
+          if (ViewUtils.isMaterializedView(rawView.getViewClassName()) && !isFlinkVeniceViewsEnabled) {
             VeniceView veniceView = ViewUtils.getVeniceView(
                 rawView.getViewClassName(),
                 new Properties(),
@@ -1322,4 +1354,16 @@ public abstract class AbstractPushMonitor
   public boolean isOfflinePushMonitorDaVinciPushStatusEnabled() {
     return isOfflinePushMonitorDaVinciPushStatusEnabled;
   }
+
+  /**
+   * Latch of the next status update of a topic. It's kept until it's released, or until none of the requests which
+   * registered it waits anymore. The waiter count is only updated by the remapping functions of the latch map.
+   */
+  private static class StatusChangeLatch extends CountDownLatch {
+    private int waiterCount;
+
+    StatusChangeLatch() {
+      super(1);
+    }
+  }
 }
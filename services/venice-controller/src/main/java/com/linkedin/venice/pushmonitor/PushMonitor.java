@@ -9,6 +9,7 @@ import com.linkedin.venice.pushstatushelper.PushStatusStoreReader;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 
 
 /**
@@ -139,4 +140,20 @@ public interface PushMonitor {
   List<Instance> getReadyToServeInstances(PartitionAssignment partitionAssignment, int partitionId);
 
   boolean isOfflinePushMonitorDaVinciPushStatusEnabled();
+
+  /**
+   * Registers a waiter for the next update of the status of the push, or of one of its partitions. This lets job status
+   * requests wait for the next status transition instead of being repeated by the clients. The waiter must be
+   * registered before the status is read, so that an update in between isn't missed, and it must be unregistered with
+   * {@link #unregisterPushStatusChangeWaiter} once done waiting.
+   *
+   * @return the latch released on the next status update, which is shared by all the waiters of the topic.
+   */
+  CountDownLatch registerPushStatusChangeWaiter(String kafkaTopic);
+
+  /**
+   * Unregisters a waiter registered with {@link #registerPushStatusChangeWaiter}. The latch is dropped if it hasn't
+   * been released and no other waiter is left.
+   */
+  void unregisterPushStatusChangeWaiter(String kafkaTopic, CountDownLatch latch);
 }
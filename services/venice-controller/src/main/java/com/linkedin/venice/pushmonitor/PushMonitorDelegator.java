@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -224,4 +225,14 @@ public class PushMonitorDelegator implements PushMonitor {
   public boolean isOfflinePushMonitorDaVinciPushStatusEnabled() {
     return partitionStatusBasedPushStatusMonitor.isOfflinePushMonitorDaVinciPushStatusEnabled();
   }
+
+  @Override
+  public CountDownLatch registerPushStatusChangeWaiter(String kafkaTopic) {
+    return partitionStatusBasedPushStatusMonitor.registerPushStatusChangeWaiter(kafkaTopic);
+  }
+
+  @Override
+  public void unregisterPushStatusChangeWaiter(String kafkaTopic, CountDownLatch latch) {
+    partitionStatusBasedPushStatusMonitor.unregisterPushStatusChangeWaiter(kafkaTopic, latch);
+  }
 }
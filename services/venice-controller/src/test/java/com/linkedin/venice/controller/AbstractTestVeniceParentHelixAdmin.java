@@ -178,7 +178,7 @@ public class AbstractTestVeniceParentHelixAdmin {
         false,
         Optional.empty(),
         authorizerService,
-        metricsRepository.orElseGet(() -> mock(MetricsRepository.class)));
+        metricsRepository.orElseGet(() -> new MetricsRepository()));
     ControllerClient mockControllerClient = mock(ControllerClient.class);
     doReturn(new ControllerResponse()).when(mockControllerClient).checkResourceCleanupForStoreCreation(anyString());
     StoreResponse storeResponse = mock(StoreResponse.class);
@@ -216,6 +216,8 @@ public class AbstractTestVeniceParentHelixAdmin {
     doReturn(KAFKA_REPLICA_FACTOR).when(config).getKafkaReplicationFactor();
     doReturn(KAFKA_REPLICA_FACTOR).when(config).getAdminTopicReplicationFactor();
     doReturn(10000).when(config).getParentControllerWaitingTimeForConsumptionMs();
+    doReturn(4).when(config).getParentControllerChildRegionQueryThreadCount();
+    doReturn(10000L).when(config).getParentControllerChildRegionQueryTimeoutMs();
     doReturn("fake_kafka_bootstrap_servers").when(config).getKafkaBootstrapServers();
     // PushJobStatusStore and participant message store are disabled in this unit test by default because many
     // tests are using verify(veniceWriter).put(...) which could be unpredictable with async setup enabled.
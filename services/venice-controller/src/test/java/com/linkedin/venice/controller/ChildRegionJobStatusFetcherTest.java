@@ -0,0 +1,139 @@
+package com.linkedin.venice.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.controller.stats.ChildRegionJobStatusStats;
+import com.linkedin.venice.controllerapi.ControllerClient;
+import com.linkedin.venice.controllerapi.JobStatusQueryResponse;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.pushmonitor.ExecutionStatus;
+import com.linkedin.venice.utils.LogContext;
+import com.linkedin.venice.utils.TestMockTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class ChildRegionJobStatusFetcherTest {
+  private static final String CLUSTER_NAME = "test-cluster";
+  private static final String TOPIC = "test_store_v1";
+
+  private ChildRegionJobStatusStats stats;
+  private TestMockTime time;
+  private ChildRegionJobStatusFetcher fetcher;
+
+  @BeforeMethod
+  public void setUp() {
+    stats = mock(ChildRegionJobStatusStats.class);
+    time = new TestMockTime();
+  }
+
+  @AfterMethod
+  public void cleanUp() {
+    if (fetcher != null) {
+      fetcher.close();
+    }
+  }
+
+  private static ControllerClient mockControllerClient(String leaderControllerUrl, ExecutionStatus status) {
+    ControllerClient controllerClient = mock(ControllerClient.class);
+    doReturn(leaderControllerUrl).when(controllerClient).getLeaderControllerUrl();
+    JobStatusQueryResponse response = new JobStatusQueryResponse();
+    response.setStatus(status.toString());
+    doReturn(response).when(controllerClient).queryJobStatus(anyString(), any());
+    return controllerClient;
+  }
+
+  @Test
+  public void testFetchFromAllRegions() {
+    fetcher = new ChildRegionJobStatusFetcher(4, 10000, 0, stats, time, LogContext.EMPTY);
+    ControllerClient failedClient = mock(ControllerClient.class);
+    doThrow(new VeniceException("No leader")).when(failedClient).getLeaderControllerUrl();
+    Map<String, ControllerClient> controllerClients = new HashMap<>();
+    controllerClients.put("region-1", mockControllerClient("url-1", ExecutionStatus.COMPLETED));
+    controllerClients.put("region-2", mockControllerClient("url-2", ExecutionStatus.STARTED));
+    controllerClients.put("region-3", failedClient);
+
+    Map<String, ChildRegionJobStatusFetcher.RegionJobStatus> regionJobStatuses =
+        fetcher.fetch(CLUSTER_NAME, TOPIC, Optional.empty(), controllerClients);
+    Assert.assertEquals(regionJobStatuses.size(), 3);
+    Assert.assertEquals(regionJobStatuses.get("region-1").getLeaderControllerUrl(), "url-1");
+    Assert.assertEquals(regionJobStatuses.get("region-1").getResponse().getStatus(), "COMPLETED");
+    Assert.assertEquals(regionJobStatuses.get("region-2").getResponse().getStatus(), "STARTED");
+    Assert.assertNull(regionJobStatuses.get("region-3").getResponse());
+    Assert.assertEquals(regionJobStatuses.get("region-3").getLeaderDiscoveryException().getMessage(), "No leader");
+    verify(stats).recordCacheMiss();
+  }
+
+  @Test
+  public void testSlowRegionTimesOut() throws InterruptedException {
+    fetcher = new ChildRegionJobStatusFetcher(4, 100, 0, stats, time, LogContext.EMPTY);
+    CountDownLatch latch = new CountDownLatch(1);
+    ControllerClient slowClient = mockControllerClient("url-2", ExecutionStatus.COMPLETED);
+    doAnswer(invocation -> {
+      latch.await();
+      return null;
+    }).when(slowClient).getLeaderControllerUrl();
+    Map<String, ControllerClient> controllerClients = new HashMap<>();
+    controllerClients.put("region-1", mockControllerClient("url-1", ExecutionStatus.COMPLETED));
+    controllerClients.put("region-2", slowClient);
+
+    try {
+      Map<String, ChildRegionJobStatusFetcher.RegionJobStatus> regionJobStatuses =
+          fetcher.fetch(CLUSTER_NAME, TOPIC, Optional.empty(), controllerClients);
+      Assert.assertEquals(regionJobStatuses.get("region-1").getResponse().getStatus(), "COMPLETED");
+      Assert.assertTrue(regionJobStatuses.get("region-2").getResponse().isError());
+      verify(stats).recordQueryTimeout();
+    } finally {
+      latch.countDown();
+    }
+  }
+
+  @Test
+  public void testQueryRoundIsSharedWithinTtl() {
+    fetcher = new ChildRegionJobStatusFetcher(4, 10000, 1000, stats, time, LogContext.EMPTY);
+    ControllerClient controllerClient = mockControllerClient("url-1", ExecutionStatus.STARTED);
+    Map<String, ControllerClient> controllerClients = new HashMap<>();
+    controllerClients.put("region-1", controllerClient);
+
+    fetcher.fetch(CLUSTER_NAME, TOPIC, Optional.empty(), controllerClients);
+    fetcher.fetch(CLUSTER_NAME, TOPIC, Optional.empty(), controllerClients);
+    verify(controllerClient, times(1)).queryJobStatus(TOPIC, Optional.empty());
+    verify(stats).recordCacheMiss();
+    verify(stats).recordCacheHit();
+
+    // A different incremental push version is a different query.
+    fetcher.fetch(CLUSTER_NAME, TOPIC, Optional.of("inc_push_1"), controllerClients);
+    verify(controllerClient, times(1)).queryJobStatus(TOPIC, Optional.of("inc_push_1"));
+
+    time.sleep(TimeUnit.SECONDS.toMillis(1));
+    fetcher.fetch(CLUSTER_NAME, TOPIC, Optional.empty(), controllerClients);
+    verify(controllerClient, times(2)).queryJobStatus(TOPIC, Optional.empty());
+  }
+
+  @Test
+  public void testQueryRoundIsNotReusedWithoutTtl() {
+    fetcher = new ChildRegionJobStatusFetcher(4, 10000, 0, stats, time, LogContext.EMPTY);
+    ControllerClient controllerClient = mockControllerClient("url-1", ExecutionStatus.STARTED);
+    Map<String, ControllerClient> controllerClients = new HashMap<>();
+    controllerClients.put("region-1", controllerClient);
+
+    fetcher.fetch(CLUSTER_NAME, TOPIC, Optional.empty(), controllerClients);
+    fetcher.fetch(CLUSTER_NAME, TOPIC, Optional.empty(), controllerClients);
+    verify(controllerClient, times(2)).queryJobStatus(TOPIC, Optional.empty());
+    verify(stats, times(2)).recordCacheMiss();
+  }
+}
@@ -213,7 +213,7 @@ public class TestVeniceParentHelixAdmin extends AbstractTestVeniceParentHelixAdm
     public AsyncSetupMockVeniceParentHelixAdmin(
         VeniceHelixAdmin veniceHelixAdmin,
         VeniceControllerClusterConfig config) {
-      super(veniceHelixAdmin, TestUtils.getMultiClusterConfigFromOneCluster(config), mock(MetricsRepository.class));
+      super(veniceHelixAdmin, TestUtils.getMultiClusterConfigFromOneCluster(config), new MetricsRepository());
     }
 
     public boolean isAsyncSetupRunning(String clusterName) {
@@ -361,7 +361,7 @@ public class TestVeniceParentHelixAdmin extends AbstractTestVeniceParentHelixAdm
     parentAdmin = new VeniceParentHelixAdmin(
         internalAdmin,
         new VeniceControllerMultiClusterConfig(configMap),
-        mock(MetricsRepository.class));
+        new MetricsRepository());
     Map<String, VeniceWriter> writerMap = new HashMap<>();
     for (String cluster: configMap.keySet()) {
       ControllerClient mockControllerClient = mock(ControllerClient.class);
@@ -873,7 +873,7 @@ public class TestVeniceParentHelixAdmin extends AbstractTestVeniceParentHelixAdm
     private Map<String, Boolean> storeVersionToKillJobStatus = new HashMap<>();
 
     public PartialMockVeniceParentHelixAdmin(VeniceHelixAdmin veniceHelixAdmin, VeniceControllerClusterConfig config) {
-      super(veniceHelixAdmin, TestUtils.getMultiClusterConfigFromOneCluster(config), mock(MetricsRepository.class));
+      super(veniceHelixAdmin, TestUtils.getMultiClusterConfigFromOneCluster(config), new MetricsRepository());
     }
 
     public void setOfflineJobStatus(ExecutionStatus executionStatus) {
@@ -1933,7 +1933,7 @@ public class TestVeniceParentHelixAdmin extends AbstractTestVeniceParentHelixAdm
     parentAdmin = new VeniceParentHelixAdmin(
         internalAdmin,
         new VeniceControllerMultiClusterConfig(configMap),
-        mock(MetricsRepository.class));
+        new MetricsRepository());
 
     Map<ExecutionStatus, ControllerClient> clientMap = getMockJobStatusQueryClient();
     JobStatusQueryResponse failResponse = new JobStatusQueryResponse();
@@ -26,8 +26,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.mockito.Mockito;
@@ -396,6 +398,85 @@ public class CompactionManagerTest {
     assertTrue(storeInfoListContains(storeInfo4.getName(), cluster2StoresForCompaction));
   }
 
+  @Test
+  public void testDuplicateRatioRepushCandidateFilter() {
+    Version currentVersion = mock(Version.class);
+    when(currentVersion.getNumber()).thenReturn(2);
+    when(currentVersion.getPartitionCount()).thenReturn(4);
+    StoreInfo storeInfo = createMockStoreInfo(TEST_STORE_NAME_PREFIX + "1", currentVersion);
+    when(storeInfo.getCurrentVersion()).thenReturn(2);
+    when(storeInfo.getVersion(2)).thenReturn(Optional.of(currentVersion));
+    // The partition count of the store differs from the one of its current version
+    when(storeInfo.getPartitionCount()).thenReturn(8);
+
+    VeniceControllerClusterConfig clusterConfig = mock(VeniceControllerClusterConfig.class);
+    when(clusterConfig.getLogCompactionPartitionDuplicateRatioThreshold()).thenReturn(0.5);
+    VeniceControllerMultiClusterConfig multiClusterConfig = mock(VeniceControllerMultiClusterConfig.class);
+    when(multiClusterConfig.getClusters()).thenReturn(Collections.singleton(TEST_CLUSTER_NAME_1));
+    when(multiClusterConfig.getControllerConfig(TEST_CLUSTER_NAME_1)).thenReturn(clusterConfig);
+    PartitionDuplicateRatioEstimator estimator = mock(PartitionDuplicateRatioEstimator.class);
+    DuplicateRatioRepushCandidateFilter filter = new DuplicateRatioRepushCandidateFilter(multiClusterConfig, estimator);
+
+    // No estimate, the store is compacted as if the filter was disabled
+    when(estimator.getDuplicateRatios(TEST_CLUSTER_NAME_1, storeInfo)).thenReturn(Collections.emptyMap());
+    assertTrue(filter.apply(TEST_CLUSTER_NAME_1, storeInfo));
+
+    Map<Integer, Double> duplicateRatios = new HashMap<>();
+    duplicateRatios.put(0, 0.1);
+    duplicateRatios.put(1, 0.2);
+    duplicateRatios.put(2, 0.3);
+    when(estimator.getDuplicateRatios(TEST_CLUSTER_NAME_1, storeInfo)).thenReturn(duplicateRatios);
+    // Estimate missing a partition of the current version
+    assertTrue(filter.apply(TEST_CLUSTER_NAME_1, storeInfo));
+
+    // No partition above the threshold, the store isn't worth compacting
+    duplicateRatios.put(3, 0.4);
+    assertFalse(filter.apply(TEST_CLUSTER_NAME_1, storeInfo));
+
+    duplicateRatios.put(3, 0.5);
+    assertTrue(filter.apply(TEST_CLUSTER_NAME_1, storeInfo));
+
+    // No current version
+    when(storeInfo.getVersion(2)).thenReturn(Optional.empty());
+    assertTrue(filter.apply(TEST_CLUSTER_NAME_1, storeInfo));
+  }
+
+  @Test
+  public void testFilterStoresByDuplicateRatio() {
+    Version version = mock(Version.class);
+    when(version.getPartitionCount()).thenReturn(1);
+    StoreInfo storeInfo1 = createMockStoreInfo(TEST_STORE_NAME_PREFIX + "1", version);
+    StoreInfo storeInfo2 = createMockStoreInfo(TEST_STORE_NAME_PREFIX + "2", version);
+    for (StoreInfo storeInfo: Arrays.asList(storeInfo1, storeInfo2)) {
+      when(storeInfo.getCurrentVersion()).thenReturn(1);
+      when(storeInfo.getVersion(1)).thenReturn(Optional.of(version));
+    }
+
+    VeniceControllerClusterConfig clusterConfig = mock(VeniceControllerClusterConfig.class);
+    when(clusterConfig.isLogCompactionEnabled()).thenReturn(true);
+    when(clusterConfig.getLogCompactionPartitionDuplicateRatioThreshold()).thenReturn(0.5);
+    VeniceControllerMultiClusterConfig multiClusterConfig = mock(VeniceControllerMultiClusterConfig.class);
+    when(multiClusterConfig.getClusters()).thenReturn(Collections.singleton(TEST_CLUSTER_NAME_1));
+    when(multiClusterConfig.getControllerConfig(TEST_CLUSTER_NAME_1)).thenReturn(clusterConfig);
+    PartitionDuplicateRatioEstimator estimator = mock(PartitionDuplicateRatioEstimator.class);
+    when(estimator.getDuplicateRatios(TEST_CLUSTER_NAME_1, storeInfo1)).thenReturn(Collections.singletonMap(0, 0.8));
+    when(estimator.getDuplicateRatios(TEST_CLUSTER_NAME_1, storeInfo2)).thenReturn(Collections.singletonMap(0, 0.2));
+
+    Set<RepushCandidateFilter> candidateFilters = new LinkedHashSet<>();
+    candidateFilters.add(new StoreRepushCandidateFilter(multiClusterConfig));
+    candidateFilters.add(new DuplicateRatioRepushCandidateFilter(multiClusterConfig, estimator));
+    CompactionManager compactionManager = new CompactionManager(
+        mockRepushOrchestrator,
+        candidateFilters,
+        Collections.emptySet(),
+        Collections.singletonMap(TEST_CLUSTER_NAME_1, mockLogCompactionStats));
+
+    List<StoreInfo> storesForCompaction =
+        compactionManager.filterStoresForCompaction(Arrays.asList(storeInfo1, storeInfo2), TEST_CLUSTER_NAME_1);
+    assertTrue(storeInfoListContains(storeInfo1.getName(), storesForCompaction));
+    assertFalse(storeInfoListContains(storeInfo2.getName(), storesForCompaction));
+  }
+
   private StoreInfo createMockStoreInfo(String storeName, Version version) {
     StoreInfo storeInfo = mock(StoreInfo.class);
     when(storeInfo.getName()).thenReturn(storeName);
@@ -0,0 +1,41 @@
+package com.linkedin.venice.controller.logcompaction;
+
+import static com.linkedin.venice.utils.TestUtils.DEFAULT_PUBSUB_CONTEXT_FOR_UNIT_TESTING;
+import static org.testng.Assert.assertEquals;
+
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.apache.datasketches.hll.HllSketch;
+import org.testng.annotations.Test;
+
+
+public class ServerIngestionDuplicateRatioEstimatorTest {
+  @Test
+  public void testGetUniqueIngestedKeyCount() throws IOException {
+    OffsetRecord offsetRecord = new OffsetRecord(
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer(),
+        DEFAULT_PUBSUB_CONTEXT_FOR_UNIT_TESTING);
+    // No key tracked by the replica
+    assertEquals(ServerIngestionDuplicateRatioEstimator.getUniqueIngestedKeyCount(offsetRecord.toJsonString()), -1);
+
+    HllSketch sketch = new HllSketch();
+    for (int i = 0; i < 100; i++) {
+      sketch.update(("key" + i).getBytes());
+    }
+    offsetRecord.setUniqueIngestedKeyCountHllSketch(ByteBuffer.wrap(sketch.toCompactByteArray()));
+    long uniqueKeyCount = ServerIngestionDuplicateRatioEstimator.getUniqueIngestedKeyCount(offsetRecord.toJsonString());
+    assertEquals(uniqueKeyCount, 100, 2);
+  }
+
+  @Test
+  public void testGetDuplicateRatio() {
+    assertEquals(ServerIngestionDuplicateRatioEstimator.getDuplicateRatio(25, 100), 0.75);
+    assertEquals(ServerIngestionDuplicateRatioEstimator.getDuplicateRatio(100, 100), 0.0);
+    // Overestimated unique keys
+    assertEquals(ServerIngestionDuplicateRatioEstimator.getDuplicateRatio(101, 100), 0.0);
+    // Empty partition
+    assertEquals(ServerIngestionDuplicateRatioEstimator.getDuplicateRatio(0, 0), 0.0);
+  }
+}
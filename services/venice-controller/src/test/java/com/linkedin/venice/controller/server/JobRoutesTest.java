@@ -5,14 +5,20 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.linkedin.venice.controller.Admin;
 import com.linkedin.venice.controller.VeniceParentHelixAdmin;
 import com.linkedin.venice.controllerapi.JobStatusQueryResponse;
+import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.pushmonitor.ExecutionStatus;
+import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.Utils;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.testng.Assert;
@@ -46,4 +52,115 @@ public class JobRoutesTest {
     LOGGER.info("extraDetails: {}", extraDetails);
     Assert.assertNotNull(extraDetails);
   }
+
+  @Test
+  public void testWaitForJobStatusChange() throws Exception {
+    Admin mockAdmin = mock(VeniceParentHelixAdmin.class);
+    doReturn(new Admin.OfflinePushStatusInfo(ExecutionStatus.STARTED)).when(mockAdmin)
+        .getOffLinePushStatus(anyString(), anyString(), any(), any(), any(), anyBoolean());
+    CountDownLatch unreleasedLatch = new CountDownLatch(1);
+    doReturn(unreleasedLatch).when(mockAdmin).registerOffLinePushStatusChangeWaiter(anyString(), anyString());
+
+    String cluster = Utils.getUniqueString("cluster");
+    String store = Utils.getUniqueString("store");
+    int version = 5;
+    String kafkaTopic = Version.composeKafkaTopic(store, version);
+    JobRoutes jobRoutes = new JobRoutes(false, Optional.empty());
+
+    // Without a last known status, the current status is returned right away
+    JobStatusQueryResponse response = jobRoutes
+        .waitForJobStatusChange(cluster, store, version, mockAdmin, Optional.empty(), null, null, false, null, 1000);
+    Assert.assertEquals(response.getStatus(), ExecutionStatus.STARTED.toString());
+    verify(mockAdmin, times(1)).registerOffLinePushStatusChangeWaiter(cluster, kafkaTopic);
+    verify(mockAdmin, times(1)).unregisterOffLinePushStatusChangeWaiter(cluster, kafkaTopic, unreleasedLatch);
+
+    // The status changes right after it's read, which releases the latch registered beforehand
+    String lastKnownStatusDigest = response.getStatusDigest();
+    CountDownLatch releasedLatch = new CountDownLatch(0);
+    doReturn(releasedLatch).doReturn(unreleasedLatch)
+        .when(mockAdmin)
+        .registerOffLinePushStatusChangeWaiter(anyString(), anyString());
+    doReturn(new Admin.OfflinePushStatusInfo(ExecutionStatus.STARTED))
+        .doReturn(new Admin.OfflinePushStatusInfo(ExecutionStatus.COMPLETED))
+        .when(mockAdmin)
+        .getOffLinePushStatus(anyString(), anyString(), any(), any(), any(), anyBoolean());
+    response = jobRoutes.waitForJobStatusChange(
+        cluster,
+        store,
+        version,
+        mockAdmin,
+        Optional.empty(),
+        null,
+        null,
+        false,
+        lastKnownStatusDigest,
+        Time.MS_PER_MINUTE);
+    Assert.assertEquals(response.getStatus(), ExecutionStatus.COMPLETED.toString());
+    verify(mockAdmin, times(1)).unregisterOffLinePushStatusChangeWaiter(cluster, kafkaTopic, releasedLatch);
+    verify(mockAdmin, times(2)).unregisterOffLinePushStatusChangeWaiter(cluster, kafkaTopic, unreleasedLatch);
+
+    // The unchanged status is returned after the timeout
+    doReturn(new Admin.OfflinePushStatusInfo(ExecutionStatus.STARTED)).when(mockAdmin)
+        .getOffLinePushStatus(anyString(), anyString(), any(), any(), any(), anyBoolean());
+    response = jobRoutes.waitForJobStatusChange(
+        cluster,
+        store,
+        version,
+        mockAdmin,
+        Optional.empty(),
+        null,
+        null,
+        false,
+        lastKnownStatusDigest,
+        100);
+    Assert.assertEquals(response.getStatusDigest(), lastKnownStatusDigest);
+
+    // The unchanged status is returned right away once all the concurrent waits are taken
+    jobRoutes = new JobRoutes(false, Optional.empty(), 0);
+    response = jobRoutes.waitForJobStatusChange(
+        cluster,
+        store,
+        version,
+        mockAdmin,
+        Optional.empty(),
+        null,
+        null,
+        false,
+        lastKnownStatusDigest,
+        Time.MS_PER_MINUTE);
+    Assert.assertEquals(response.getStatusDigest(), lastKnownStatusDigest);
+  }
+
+  @Test(timeOut = 10 * Time.MS_PER_SECOND)
+  public void testWaitForJobStatusChangeWithoutStatusUpdateNotifications() throws Exception {
+    // The parent admin isn't notified of the status updates of the child regions
+    Admin mockAdmin = mock(VeniceParentHelixAdmin.class);
+    doReturn(new Admin.OfflinePushStatusInfo(ExecutionStatus.STARTED)).when(mockAdmin)
+        .getOffLinePushStatus(anyString(), anyString(), any(), any(), any(), anyBoolean());
+    doReturn(null).when(mockAdmin).registerOffLinePushStatusChangeWaiter(anyString(), anyString());
+
+    String cluster = Utils.getUniqueString("cluster");
+    String store = Utils.getUniqueString("store");
+    int version = 5;
+    JobRoutes jobRoutes = new JobRoutes(false, Optional.empty());
+    String lastKnownStatusDigest = jobRoutes
+        .waitForJobStatusChange(cluster, store, version, mockAdmin, Optional.empty(), null, null, false, null, 1000)
+        .getStatusDigest();
+
+    // The unchanged status is returned right away, instead of being recomputed until the timeout
+    JobStatusQueryResponse response = jobRoutes.waitForJobStatusChange(
+        cluster,
+        store,
+        version,
+        mockAdmin,
+        Optional.empty(),
+        null,
+        null,
+        false,
+        lastKnownStatusDigest,
+        JobRoutes.MAX_JOB_STATUS_WAIT_TIMEOUT_MS);
+    Assert.assertEquals(response.getStatusDigest(), lastKnownStatusDigest);
+    verify(mockAdmin, times(2)).getOffLinePushStatus(anyString(), anyString(), any(), any(), any(), anyBoolean());
+    verify(mockAdmin, never()).unregisterOffLinePushStatusChangeWaiter(anyString(), anyString(), any());
+  }
 }
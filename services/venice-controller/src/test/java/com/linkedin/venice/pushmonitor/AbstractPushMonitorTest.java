@@ -73,6 +73,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -201,6 +202,33 @@ public abstract class AbstractPushMonitorTest {
         OfflinePushStrategy.WAIT_N_MINUS_ONE_REPLCIA_PER_PARTITION);
   }
 
+  @Test
+  public void testPushStatusChangeWaiters() throws Exception {
+    monitor.startMonitorOfflinePush(
+        topic,
+        numberOfPartition,
+        replicationFactor,
+        OfflinePushStrategy.WAIT_N_MINUS_ONE_REPLCIA_PER_PARTITION);
+    // Times out without any status update, and the waiters of a topic share the same latch
+    CountDownLatch latch = monitor.registerPushStatusChangeWaiter(topic);
+    Assert.assertFalse(latch.await(1, TimeUnit.MILLISECONDS));
+    Assert.assertSame(monitor.registerPushStatusChangeWaiter(topic), latch);
+    monitor.unregisterPushStatusChangeWaiter(topic, latch);
+    Assert.assertSame(monitor.registerPushStatusChangeWaiter(topic), latch);
+    monitor.unregisterPushStatusChangeWaiter(topic, latch);
+    monitor.unregisterPushStatusChangeWaiter(topic, latch);
+    // The latch is dropped once nobody waits on it anymore
+    Assert.assertEquals(latch.getCount(), 1);
+    Assert.assertNotSame(monitor.registerPushStatusChangeWaiter(topic), latch);
+
+    // An update between the registration and the wait isn't missed
+    latch = monitor.registerPushStatusChangeWaiter(topic);
+    monitor.markOfflinePushAsError(topic, "mocked_error_push");
+    Assert.assertTrue(latch.await(0, TimeUnit.MILLISECONDS));
+    monitor.unregisterPushStatusChangeWaiter(topic, latch);
+    Assert.assertNotSame(monitor.registerPushStatusChangeWaiter(topic), latch);
+  }
+
   @Test
   public void testStopMonitorOfflinePush() {
     monitor.startMonitorOfflinePush(
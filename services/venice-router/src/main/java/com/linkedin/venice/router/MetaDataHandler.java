@@ -1,5 +1,6 @@
 package com.linkedin.venice.router;
 
+import static com.linkedin.venice.VeniceConstants.TYPE_BATCH_STORE_METADATA;
 import static com.linkedin.venice.VeniceConstants.TYPE_PUSH_STATUS;
 import static com.linkedin.venice.VeniceConstants.TYPE_STORE_STATE;
 import static com.linkedin.venice.VeniceConstants.TYPE_STREAM_HYBRID_STORE_QUOTA;
@@ -38,6 +39,7 @@ import com.linkedin.venice.controllerapi.MultiSchemaResponse;
 import com.linkedin.venice.controllerapi.SchemaResponse;
 import com.linkedin.venice.controllerapi.VersionCreationResponse;
 import com.linkedin.venice.exceptions.ErrorType;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceHttpException;
 import com.linkedin.venice.exceptions.VeniceNoHelixResourceException;
 import com.linkedin.venice.helix.HelixCustomizedViewOfflinePushRepository;
@@ -50,6 +52,7 @@ import com.linkedin.venice.meta.ReadOnlyStoreConfigRepository;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.StoreConfig;
+import com.linkedin.venice.meta.StoreDataChangedListener;
 import com.linkedin.venice.meta.SystemStore;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.pushmonitor.ExecutionStatus;
@@ -58,6 +61,7 @@ import com.linkedin.venice.pushstatushelper.PushStatusStoreReader;
 import com.linkedin.venice.router.api.RouterResourceType;
 import com.linkedin.venice.router.api.VenicePathParserHelper;
 import com.linkedin.venice.router.api.VeniceVersionFinder;
+import com.linkedin.venice.routerapi.BatchStoreMetadataResponse;
 import com.linkedin.venice.routerapi.HybridStoreQuotaStatusResponse;
 import com.linkedin.venice.routerapi.PushStatusResponse;
 import com.linkedin.venice.routerapi.ReplicaState;
@@ -66,6 +70,7 @@ import com.linkedin.venice.schema.SchemaData;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
 import com.linkedin.venice.stats.D2Stats;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.ExceptionUtils;
 import com.linkedin.venice.utils.ObjectMapperFactory;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
@@ -80,15 +85,19 @@ import io.netty.util.ReferenceCountUtil;
 import io.tehuti.metrics.MetricsRepository;
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateExpiredException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.commons.lang.StringUtils;
@@ -107,6 +116,9 @@ import org.apache.logging.log4j.Logger;
  * 4. All value schema lookup: /value_schema/{$storeName}, and it will return all the value schema
  *    of the specified store in json format. The client can use
  *    {@link com.linkedin.venice.controllerapi.MultiSchemaResponse} to parse it.
+ * 5. Batch store metadata lookup: /batch_store_metadata?stores=${storeName1},${storeName2}:${etag2},..., and it will
+ *    return the schemas, current version, partitioner config and routing info of all the stores whose metadata has
+ *    changed since the provided etag. The client can use {@link BatchStoreMetadataResponse} to parse it.
  */
 @ChannelHandler.Sharable
 public class MetaDataHandler extends SimpleChannelInboundHandler<HttpRequest> {
@@ -159,6 +171,34 @@ public class MetaDataHandler extends SimpleChannelInboundHandler<HttpRequest> {
   private final MetricsRepository metricsRepository;
   private final Map<String, D2Stats> d2StatsMap = new VeniceConcurrentHashMap<>();
 
+  private static final String STORE_METADATA_ETAG_ALGORITHM = "MD5";
+
+  /**
+   * Metadata of each store as of its last batch lookup, so that it isn't serialized and hashed again for every request.
+   * Entries are dropped when their store changes, and recomputed when the schemas or the current version change.
+   */
+  private final Map<String, CachedStoreMetadata> storeMetadataCache = new VeniceConcurrentHashMap<>();
+  /**
+   * Bumped on every store change, so that metadata computed from a store which has changed since isn't cached.
+   */
+  private volatile long storeMetadataCacheGeneration = 0;
+  private final StoreDataChangedListener storeMetadataCacheInvalidator = new StoreDataChangedListener() {
+    @Override
+    public void handleStoreCreated(Store store) {
+      invalidateStoreMetadata(store.getName());
+    }
+
+    @Override
+    public void handleStoreDeleted(String storeName) {
+      invalidateStoreMetadata(storeName);
+    }
+
+    @Override
+    public void handleStoreChanged(Store store) {
+      invalidateStoreMetadata(store.getName());
+    }
+  };
+
   public MetaDataHandler(
       HelixCustomizedViewOfflinePushRepository routingDataRepository,
       ReadOnlySchemaRepository schemaRepo,
@@ -189,6 +229,7 @@ public class MetaDataHandler extends SimpleChannelInboundHandler<HttpRequest> {
     this.veniceVersionFinder = versionFinder;
     this.pushStatusStoreReader = pushStatusStoreReader;
     this.metricsRepository = metricsRepository;
+    this.storeRepository.registerStoreDataChangedListener(storeMetadataCacheInvalidator);
   }
 
   @Override
@@ -260,6 +301,10 @@ public class MetaDataHandler extends SimpleChannelInboundHandler<HttpRequest> {
         case TYPE_BLOB_DISCOVERY:
           handleBlobDiscovery(ctx, helper, req);
           break;
+        case TYPE_BATCH_STORE_METADATA:
+          // URI: /batch_store_metadata?stores=${storeName1},${storeName2}:${etag2}
+          handleBatchStoreMetadataLookup(ctx, helper, req);
+          break;
         default:
           // SimpleChannelInboundHandler automatically releases the request after channelRead0 is done.
           // since we're passing it on to the next handler, we need to retain an extra reference.
@@ -535,6 +580,198 @@ public class MetaDataHandler extends SimpleChannelInboundHandler<HttpRequest> {
     setupResponseAndFlush(OK, OBJECT_MAPPER.writeValueAsBytes(response), true, ctx);
   }
 
+  /**
+   * Returns the metadata of the requested stores in a single response, so that clients reading from many stores don't
+   * need a round trip per store and per schema. A store can be requested along with the etag of the metadata the client
+   * already has, in which case it's left out of the response unless its metadata has changed since.
+   */
+  private void handleBatchStoreMetadataLookup(
+      ChannelHandlerContext ctx,
+      VenicePathParserHelper helper,
+      HttpRequest request) throws IOException {
+    String stores = helper.extractQueryParameters(request).get(BatchStoreMetadataResponse.STORES);
+    checkResourceName(
+        stores,
+        "/" + TYPE_BATCH_STORE_METADATA + "?" + BatchStoreMetadataResponse.STORES
+            + "=${storeName1},${storeName2}:${etag2}");
+
+    BatchStoreMetadataResponse responseObject = new BatchStoreMetadataResponse();
+    responseObject.setCluster(clusterName);
+    // Read before the stores, so that a store changed in the meantime is seen as such
+    long cacheGeneration = storeMetadataCacheGeneration;
+    for (String storeAndEtag: stores.split(BatchStoreMetadataResponse.STORE_SEPARATOR)) {
+      int etagIndex = storeAndEtag.indexOf(BatchStoreMetadataResponse.ETAG_SEPARATOR);
+      String storeName = etagIndex < 0 ? storeAndEtag : storeAndEtag.substring(0, etagIndex);
+      String etag = etagIndex < 0 ? null : storeAndEtag.substring(etagIndex + 1);
+      if (storeName.isEmpty()) {
+        continue;
+      }
+      Store store = storeRepository.getStore(storeName);
+      if (store == null) {
+        responseObject.getMissingStores().add(storeName);
+        continue;
+      }
+      BatchStoreMetadataResponse.StoreMetadata storeMetadata = getStoreMetadata(store, cacheGeneration);
+      if (!storeMetadata.getEtag().equals(etag)) {
+        responseObject.getStoreMetadata().put(storeName, storeMetadata);
+      }
+    }
+    setupResponseAndFlush(OK, OBJECT_MAPPER.writeValueAsBytes(responseObject), true, ctx);
+  }
+
+  /**
+   * @param cacheGeneration the {@link #storeMetadataCacheGeneration} read before the store, the metadata is only cached
+   *                        if no store has changed since
+   */
+  private BatchStoreMetadataResponse.StoreMetadata getStoreMetadata(Store store, long cacheGeneration)
+      throws IOException {
+    String storeName = store.getName();
+    // The current version and the schemas can change without any store change
+    int currentVersionNumber;
+    try {
+      currentVersionNumber = veniceVersionFinder.getVersion(storeName, null);
+    } catch (VeniceException e) {
+      // e.g. the store is disabled for reads, in which case there is no version to read from
+      currentVersionNumber = Store.NON_EXISTING_VERSION;
+    }
+    Collection<SchemaEntry> valueSchemas = schemaRepo.getValueSchemas(storeName);
+    Collection<DerivedSchemaEntry> updateSchemas = schemaRepo.getDerivedSchemas(storeName);
+    CachedStoreMetadata cachedStoreMetadata = storeMetadataCache.get(storeName);
+    if (cachedStoreMetadata != null
+        && cachedStoreMetadata.isUpToDate(currentVersionNumber, valueSchemas, updateSchemas)) {
+      return cachedStoreMetadata.storeMetadata;
+    }
+    BatchStoreMetadataResponse.StoreMetadata storeMetadata =
+        computeStoreMetadata(store, currentVersionNumber, valueSchemas, updateSchemas);
+    synchronized (storeMetadataCache) {
+      if (cacheGeneration == storeMetadataCacheGeneration) {
+        storeMetadataCache.put(
+            storeName,
+            new CachedStoreMetadata(storeMetadata, currentVersionNumber, valueSchemas, updateSchemas));
+      }
+    }
+    return storeMetadata;
+  }
+
+  private void invalidateStoreMetadata(String storeName) {
+    synchronized (storeMetadataCache) {
+      storeMetadataCacheGeneration++;
+      storeMetadataCache.remove(storeName);
+    }
+  }
+
+  private BatchStoreMetadataResponse.StoreMetadata computeStoreMetadata(
+      Store store,
+      int currentVersionNumber,
+      Collection<SchemaEntry> valueSchemas,
+      Collection<DerivedSchemaEntry> updateSchemas) throws IOException {
+    String storeName = store.getName();
+    BatchStoreMetadataResponse.StoreMetadata storeMetadata = new BatchStoreMetadataResponse.StoreMetadata();
+    storeMetadata.setCluster(clusterName);
+    SchemaEntry keySchema = schemaRepo.getKeySchema(storeName);
+    if (keySchema != null) {
+      storeMetadata.setKeySchema(toMultiSchemaResponseSchema(keySchema.getId(), keySchema.getSchemaStr()));
+    }
+    // Schemas are sorted by id so that the etag of unchanged metadata is stable
+    storeMetadata.setValueSchemas(
+        valueSchemas.stream()
+            .filter(entry -> entry.getId() > 0)
+            .sorted(Comparator.comparingInt(SchemaEntry::getId))
+            .map(entry -> toMultiSchemaResponseSchema(entry.getId(), entry.getSchemaStr()))
+            .toArray(MultiSchemaResponse.Schema[]::new));
+    storeMetadata.setSuperSetSchemaId(store.getLatestSuperSetValueSchemaId());
+    storeMetadata.setUpdateSchemas(
+        updateSchemas.stream()
+            .sorted(
+                Comparator.comparingInt(DerivedSchemaEntry::getValueSchemaID)
+                    .thenComparingInt(DerivedSchemaEntry::getId))
+            .map(entry -> {
+              MultiSchemaResponse.Schema schema =
+                  toMultiSchemaResponseSchema(entry.getValueSchemaID(), entry.getSchemaStr());
+              schema.setDerivedSchemaId(entry.getId());
+              return schema;
+            })
+            .toArray(MultiSchemaResponse.Schema[]::new));
+
+    storeMetadata.setCurrentVersion(currentVersionNumber);
+    Version currentVersion = store.getVersion(currentVersionNumber);
+    PartitionerConfig partitionerConfig = store.getPartitionerConfig();
+    storeMetadata.setPartitionCount(store.getPartitionCount());
+    if (currentVersion != null) {
+      storeMetadata.setPartitionCount(currentVersion.getPartitionCount());
+      if (currentVersion.getPartitionerConfig() != null) {
+        partitionerConfig = currentVersion.getPartitionerConfig();
+      }
+    }
+    if (partitionerConfig != null) {
+      storeMetadata.setPartitionerClass(partitionerConfig.getPartitionerClass());
+      if (partitionerConfig.getPartitionerParams() != null) {
+        storeMetadata.setPartitionerParams(new TreeMap<>(partitionerConfig.getPartitionerParams()));
+      }
+    }
+    storeMetadata.setD2Service(getD2ServiceByClusterName(clusterName));
+    storeMetadata.setServerD2Service(getServerD2ServiceByClusterName(clusterName));
+
+    try {
+      byte[] digest = MessageDigest.getInstance(STORE_METADATA_ETAG_ALGORITHM)
+          .digest(OBJECT_MAPPER.writeValueAsBytes(storeMetadata));
+      storeMetadata.setEtag(ByteUtils.toHexString(digest));
+    } catch (NoSuchAlgorithmException e) {
+      throw new VeniceException("Failed to compute the metadata etag of store: " + storeName, e);
+    }
+    return storeMetadata;
+  }
+
+  /**
+   * Metadata of a store, along with what it was computed from besides the store itself.
+   */
+  private static class CachedStoreMetadata {
+    private final BatchStoreMetadataResponse.StoreMetadata storeMetadata;
+    private final int currentVersion;
+    private final int valueSchemaCount;
+    private final int maxValueSchemaId;
+    private final int updateSchemaCount;
+
+    CachedStoreMetadata(
+        BatchStoreMetadataResponse.StoreMetadata storeMetadata,
+        int currentVersion,
+        Collection<SchemaEntry> valueSchemas,
+        Collection<DerivedSchemaEntry> updateSchemas) {
+      this.storeMetadata = storeMetadata;
+      this.currentVersion = currentVersion;
+      this.valueSchemaCount = valueSchemas.size();
+      this.maxValueSchemaId = getMaxSchemaId(valueSchemas);
+      this.updateSchemaCount = updateSchemas.size();
+    }
+
+    /**
+     * Schemas are immutable once registered, and can only be added or deleted, so they are unchanged as long as their
+     * count and the highest value schema id are.
+     */
+    boolean isUpToDate(
+        int currentVersion,
+        Collection<SchemaEntry> valueSchemas,
+        Collection<DerivedSchemaEntry> updateSchemas) {
+      return this.currentVersion == currentVersion && valueSchemaCount == valueSchemas.size()
+          && maxValueSchemaId == getMaxSchemaId(valueSchemas) && updateSchemaCount == updateSchemas.size();
+    }
+
+    private static int getMaxSchemaId(Collection<SchemaEntry> schemas) {
+      int maxSchemaId = SchemaData.INVALID_VALUE_SCHEMA_ID;
+      for (SchemaEntry schema: schemas) {
+        maxSchemaId = Math.max(maxSchemaId, schema.getId());
+      }
+      return maxSchemaId;
+    }
+  }
+
+  private static MultiSchemaResponse.Schema toMultiSchemaResponseSchema(int id, String schemaStr) {
+    MultiSchemaResponse.Schema schema = new MultiSchemaResponse.Schema();
+    schema.setId(id);
+    schema.setSchemaStr(schemaStr);
+    return schema;
+  }
+
   /**
    * Handles the discovery of blob transfer nodes based on store settings.
    * Retrieves host names for live DVC nodes ready to transfer blobs.
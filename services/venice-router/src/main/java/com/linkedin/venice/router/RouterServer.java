@@ -84,6 +84,7 @@ import com.linkedin.venice.router.throttle.RouterThrottler;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.service.AbstractVeniceService;
 import com.linkedin.venice.servicediscovery.ServiceDiscoveryAnnouncer;
+import com.linkedin.venice.stats.RoutingTableChangeStats;
 import com.linkedin.venice.stats.ThreadPoolOtelMetricEntity;
 import com.linkedin.venice.stats.ThreadPoolStats;
 import com.linkedin.venice.stats.VeniceJVMStats;
@@ -396,7 +397,11 @@ public class RouterServer extends AbstractVeniceService {
     this.metaStoreShadowReader = config.isMetaStoreShadowReadEnabled()
         ? Optional.of(new MetaStoreShadowReader(this.schemaRepository))
         : Optional.empty();
-    this.routingDataRepository = new HelixCustomizedViewOfflinePushRepository(manager, metadataRepository, false);
+    this.routingDataRepository = new HelixCustomizedViewOfflinePushRepository(
+        manager,
+        metadataRepository,
+        false,
+        new RoutingTableChangeStats(metricsRepository, config.getClusterName() + "-routing_table_customized_view"));
     this.hybridStoreQuotaRepository = config.isHelixHybridStoreQuotaEnabled()
         ? Optional.of(new HelixHybridStoreQuotaRepository(manager))
         : Optional.empty();
@@ -572,6 +577,9 @@ public class RouterServer extends AbstractVeniceService {
         routerStats);
     scatterGatherMode =
         new VeniceDelegateMode(config, routerStats, routeHttpRequestStats, dispatcher.getPerRouteStatsByType());
+    if (config.getMultiKeyRoutingStrategy().equals(VeniceMultiKeyRoutingStrategy.LATENCY_AWARE_ROUTING)) {
+      scatterGatherMode.initLatencyAwareReplicaSelector(dispatcher.getLatencyAwareReplicaSelector());
+    }
 
     if (config.isRouterHeartBeatEnabled()) {
       heartbeat = new RouterHeartbeat(
@@ -714,6 +722,12 @@ public class RouterServer extends AbstractVeniceService {
     AdminOperationsStats adminOperationsStats = new AdminOperationsStats(this.metricsRepository, "admin_stats", config);
     AdminOperationsHandler adminOperationsHandler =
         new AdminOperationsHandler(accessController.orElse(null), this, adminOperationsStats);
+    ScanRequestHandler scanRequestHandler = new ScanRequestHandler(
+        versionFinder,
+        routingDataRepository,
+        storageNodeClient,
+        config.isSslToStorageNodes(),
+        config.getScanRequestTimeoutMs());
 
     // TODO: deprecate non-ssl port
     if (!config.isEnforcingSecureOnly()) {
@@ -737,6 +751,7 @@ public class RouterServer extends AbstractVeniceService {
                 pipeline.addLast("VerifySslHandler", unsecureRouterSslVerificationHandler);
                 pipeline.addLast("MetadataHandler", metaDataHandler);
                 pipeline.addLast("AdminOperationsHandler", adminOperationsHandler);
+                pipeline.addLast("ScanRequestHandler", scanRequestHandler);
                 addStreamingHandler(pipeline);
                 addOptionalChannelHandlersToPipeline(pipeline);
               })
@@ -799,6 +814,7 @@ public class RouterServer extends AbstractVeniceService {
       pipeline.addLast("MetadataHandler", metaDataHandler);
       pipeline.addLast("AdminOperationsHandler", adminOperationsHandler);
       pipeline.addLast("RouterThrottleHandler", routerThrottleHandler);
+      pipeline.addLast("ScanRequestHandler", scanRequestHandler);
       addStreamingHandler(pipeline);
       addOptionalChannelHandlersToPipeline(pipeline);
     };
@@ -809,6 +825,7 @@ public class RouterServer extends AbstractVeniceService {
       pipeline.addLast("AdminOperationsHandler", adminOperationsHandler);
       pipeline.addLast("RouterStoreAclHandler", aclHandler);
       pipeline.addLast("RouterThrottleHandler", routerThrottleHandler);
+      pipeline.addLast("ScanRequestHandler", scanRequestHandler);
       addStreamingHandler(pipeline);
       addOptionalChannelHandlersToPipeline(pipeline);
     };
@@ -0,0 +1,334 @@
+package com.linkedin.venice.router;
+
+import static com.linkedin.venice.HttpConstants.HTTP_GET;
+import static com.linkedin.venice.router.api.VenicePathParserHelper.parseRequest;
+import static com.linkedin.venice.utils.NettyUtils.setupResponseAndFlush;
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_LENGTH;
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.METHOD_NOT_ALLOWED;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+
+import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VeniceNoStoreException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.OnlineInstanceFinder;
+import com.linkedin.venice.meta.QueryAction;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.read.ScanProtocol;
+import com.linkedin.venice.router.api.RouterResourceType;
+import com.linkedin.venice.router.api.VenicePathParserHelper;
+import com.linkedin.venice.router.api.VeniceVersionFinder;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.httpclient.StorageNodeClient;
+import com.linkedin.venice.router.httpclient.VeniceMetaDataRequest;
+import com.linkedin.venice.utils.EncodingUtils;
+import com.linkedin.venice.utils.RedundantExceptionFilter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.util.ReferenceCountUtil;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.commons.lang.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This handler serves the scan requests to /scan/${storeName}, check {@link ScanProtocol} for the parameters.
+ *
+ * A scan walks through the partitions of the store version one by one, and each page of the records is fetched from
+ * one of the ready-to-serve replicas of the current partition, so the records are ordered by the serialized keys
+ * within a partition, but not across partitions. The continuation token returned to the client is opaque, and it pins
+ * the store version, the partition and the last key of the previous page, so a scan is not affected by version swaps.
+ */
+@ChannelHandler.Sharable
+public class ScanRequestHandler extends SimpleChannelInboundHandler<HttpRequest> {
+  private static final Logger LOGGER = LogManager.getLogger(ScanRequestHandler.class);
+  private static final RedundantExceptionFilter EXCEPTION_FILTER =
+      RedundantExceptionFilter.getRedundantExceptionFilter();
+  private static final String[] FORWARDED_PARAMS =
+      { ScanProtocol.PREFIX_PARAM, ScanProtocol.START_PARAM, ScanProtocol.END_PARAM, ScanProtocol.LIMIT_PARAM };
+  /**
+   * Max number of partitions queried to fetch a single page, so that a sparse prefix or range doesn't fan out to all
+   * the partitions of the store within one client request.
+   */
+  static final int MAX_PARTITIONS_PER_PAGE = 16;
+
+  private final VeniceVersionFinder versionFinder;
+  private final OnlineInstanceFinder onlineInstanceFinder;
+  private final StorageNodeClient storageNodeClient;
+  private final boolean sslToStorageNodes;
+  private final int requestTimeoutMs;
+
+  public ScanRequestHandler(
+      VeniceVersionFinder versionFinder,
+      OnlineInstanceFinder onlineInstanceFinder,
+      StorageNodeClient storageNodeClient,
+      boolean sslToStorageNodes,
+      int requestTimeoutMs) {
+    this.versionFinder = versionFinder;
+    this.onlineInstanceFinder = onlineInstanceFinder;
+    this.storageNodeClient = storageNodeClient;
+    this.sslToStorageNodes = sslToStorageNodes;
+    this.requestTimeoutMs = requestTimeoutMs;
+  }
+
+  @Override
+  public void channelRead0(ChannelHandlerContext ctx, HttpRequest req) {
+    VenicePathParserHelper helper = parseRequest(req);
+    if (helper.getResourceType() != RouterResourceType.TYPE_SCAN) {
+      // Pass request to the next channel if it's not a scan request
+      ReferenceCountUtil.retain(req);
+      ctx.fireChannelRead(req);
+      return;
+    }
+    if (!HttpMethod.GET.equals(req.method())) {
+      sendErrorResponse(METHOD_NOT_ALLOWED, "Scan request only supports GET method", ctx);
+      return;
+    }
+    String storeName = helper.getResourceName();
+    if (StringUtils.isEmpty(storeName)) {
+      sendErrorResponse(BAD_REQUEST, "Scan request must specify a store name", ctx);
+      return;
+    }
+
+    Map<String, String> params = helper.extractQueryParameters(req);
+    ScanPosition position;
+    try {
+      String token = params.get(ScanProtocol.CONTINUATION_PARAM);
+      if (token == null) {
+        int version = versionFinder
+            .getVersion(storeName, req instanceof BasicFullHttpRequest ? (BasicFullHttpRequest) req : null);
+        if (version == Store.NON_EXISTING_VERSION) {
+          sendErrorResponse(SERVICE_UNAVAILABLE, "No ready-to-serve version of store: " + storeName, ctx);
+          return;
+        }
+        position = new ScanPosition(version, 0, null);
+      } else {
+        position = ScanPosition.decode(token);
+      }
+    } catch (VeniceNoStoreException e) {
+      sendErrorResponse(NOT_FOUND, e.getMessage(), ctx);
+      return;
+    } catch (VeniceException e) {
+      sendErrorResponse(BAD_REQUEST, e.getMessage(), ctx);
+      return;
+    }
+
+    fetchPage(storeName, position, params).whenComplete((response, throwable) -> {
+      if (throwable != null) {
+        String errorMsg = "Failed to scan store: " + storeName + ", " + throwable.getMessage();
+        if (!EXCEPTION_FILTER.isRedundantException(errorMsg)) {
+          LOGGER.error(errorMsg, throwable);
+        }
+        sendErrorResponse(INTERNAL_SERVER_ERROR, errorMsg, ctx);
+      } else {
+        ctx.writeAndFlush(response);
+      }
+    });
+  }
+
+  /**
+   * Fetch the next page from the partition of the given position, and the exhausted partitions returning an empty page
+   * are skipped. The skipping stops after {@link #MAX_PARTITIONS_PER_PAGE} partitions or once the request timeout has
+   * elapsed, in which case an empty page is returned along with the continuation token of the next partition, so the
+   * client can only tell the scan is complete by the absence of the continuation token.
+   */
+  CompletableFuture<FullHttpResponse> fetchPage(String storeName, ScanPosition position, Map<String, String> params) {
+    return fetchPage(storeName, position, params, 1, System.currentTimeMillis() + requestTimeoutMs);
+  }
+
+  private CompletableFuture<FullHttpResponse> fetchPage(
+      String storeName,
+      ScanPosition position,
+      Map<String, String> params,
+      int queriedPartitions,
+      long deadlineMs) {
+    String topic = Version.composeKafkaTopic(storeName, position.version);
+    int partitionCount;
+    List<Instance> instances;
+    try {
+      partitionCount = onlineInstanceFinder.getNumberOfPartitions(topic);
+      if (position.partition < 0 || position.partition >= partitionCount) {
+        return CompletableFuture.completedFuture(
+            buildResponse(BAD_REQUEST, "Invalid continuation token for store: " + storeName, HttpConstants.TEXT_PLAIN));
+      }
+      instances = onlineInstanceFinder.getReadyToServeInstances(topic, position.partition);
+    } catch (VeniceException e) {
+      return CompletableFuture.completedFuture(
+          buildResponse(SERVICE_UNAVAILABLE, "Resource: " + topic + " is not available", HttpConstants.TEXT_PLAIN));
+    }
+    if (instances.isEmpty()) {
+      return CompletableFuture.completedFuture(
+          buildResponse(
+              SERVICE_UNAVAILABLE,
+              "No ready-to-serve instance for partition: " + position.partition + " of resource: " + topic,
+              HttpConstants.TEXT_PLAIN));
+    }
+    Instance instance = instances.get(ThreadLocalRandom.current().nextInt(instances.size()));
+
+    VeniceMetaDataRequest request = new VeniceMetaDataRequest(
+        instance,
+        buildStorageNodeQuery(topic, position, params),
+        HTTP_GET,
+        sslToStorageNodes);
+    request.setTimeout(requestTimeoutMs);
+    CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+    storageNodeClient.sendRequest(request, responseFuture);
+
+    return responseFuture.thenCompose(response -> {
+      byte[] body;
+      try {
+        ByteBuf content = response.getContentInByteBuf();
+        body = new byte[content.readableBytes()];
+        content.readBytes(body);
+      } catch (IOException e) {
+        throw new VeniceException("Failed to read the scan response of resource: " + topic, e);
+      }
+      if (response.getStatusCode() != OK.code()) {
+        return CompletableFuture.completedFuture(
+            buildResponse(HttpResponseStatus.valueOf(response.getStatusCode()), body, HttpConstants.TEXT_PLAIN));
+      }
+      ScanPosition nextPosition = null;
+      String continuationKey = response.getFirstHeader(ScanProtocol.CONTINUATION_HEADER);
+      if (continuationKey != null) {
+        nextPosition = new ScanPosition(
+            position.version,
+            position.partition,
+            EncodingUtils.base64DecodeFromString(continuationKey));
+      } else if (position.partition + 1 < partitionCount) {
+        nextPosition = new ScanPosition(position.version, position.partition + 1, null);
+        if (body.length == 0 && queriedPartitions < MAX_PARTITIONS_PER_PAGE
+            && System.currentTimeMillis() < deadlineMs) {
+          return fetchPage(storeName, nextPosition, params, queriedPartitions + 1, deadlineMs);
+        }
+      }
+      FullHttpResponse scanResponse = buildResponse(OK, body, HttpConstants.BINARY);
+      if (nextPosition != null) {
+        scanResponse.headers().set(ScanProtocol.CONTINUATION_HEADER, nextPosition.encode());
+      }
+      return CompletableFuture.completedFuture(scanResponse);
+    });
+  }
+
+  private static String buildStorageNodeQuery(String topic, ScanPosition position, Map<String, String> params) {
+    StringBuilder query = new StringBuilder(QueryAction.SCAN.toString().toLowerCase()).append("/")
+        .append(topic)
+        .append("/")
+        .append(position.partition);
+    char separator = '?';
+    for (String name: FORWARDED_PARAMS) {
+      String value = params.get(name);
+      if (value != null) {
+        query.append(separator).append(name).append("=").append(urlEncode(value));
+        separator = '&';
+      }
+    }
+    if (position.key != null) {
+      query.append(separator)
+          .append(ScanProtocol.CONTINUATION_PARAM)
+          .append("=")
+          .append(urlEncode(EncodingUtils.base64EncodeToString(position.key)));
+    }
+    return query.toString();
+  }
+
+  private static String urlEncode(String value) {
+    try {
+      return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+    } catch (UnsupportedEncodingException e) {
+      throw new VeniceException(e);
+    }
+  }
+
+  private static FullHttpResponse buildResponse(HttpResponseStatus status, String message, String contentType) {
+    return buildResponse(status, message.getBytes(StandardCharsets.UTF_8), contentType);
+  }
+
+  private static FullHttpResponse buildResponse(HttpResponseStatus status, byte[] body, String contentType) {
+    FullHttpResponse response = new DefaultFullHttpResponse(HTTP_1_1, status, Unpooled.wrappedBuffer(body));
+    response.headers().set(CONTENT_TYPE, contentType);
+    response.headers().set(CONTENT_LENGTH, response.content().readableBytes());
+    return response;
+  }
+
+  private static void sendErrorResponse(HttpResponseStatus status, String errorMsg, ChannelHandlerContext ctx) {
+    setupResponseAndFlush(status, errorMsg.getBytes(StandardCharsets.UTF_8), false, ctx);
+  }
+
+  /**
+   * The position of a scan, which is encoded as [version (int)][partition (int)][key length (int)][key] in the
+   * continuation token, and the key length is -1 if the scan starts from the beginning of the partition.
+   */
+  static class ScanPosition {
+    final int version;
+    final int partition;
+    final byte[] key;
+
+    ScanPosition(int version, int partition, byte[] key) {
+      this.version = version;
+      this.partition = partition;
+      this.key = key;
+    }
+
+    String encode() {
+      int keyLength = key == null ? 0 : key.length;
+      ByteBuffer buffer = ByteBuffer.allocate(3 * Integer.BYTES + keyLength);
+      buffer.putInt(version);
+      buffer.putInt(partition);
+      if (key == null) {
+        buffer.putInt(-1);
+      } else {
+        buffer.putInt(key.length);
+        buffer.put(key);
+      }
+      return EncodingUtils.base64EncodeToString(buffer.array());
+    }
+
+    static ScanPosition decode(String token) {
+      try {
+        ByteBuffer buffer = ByteBuffer.wrap(EncodingUtils.base64DecodeFromString(token));
+        int version = buffer.getInt();
+        int partition = buffer.getInt();
+        int keyLength = buffer.getInt();
+        byte[] key = null;
+        if (keyLength > buffer.remaining()) {
+          throw new VeniceException("Invalid continuation token: " + token);
+        } else if (keyLength >= 0) {
+          key = new byte[keyLength];
+          buffer.get(key);
+        }
+        if (buffer.hasRemaining()) {
+          throw new VeniceException("Invalid continuation token: " + token);
+        }
+        return new ScanPosition(version, partition, key);
+      } catch (IllegalArgumentException | BufferUnderflowException e) {
+        throw new VeniceException("Invalid continuation token: " + token);
+      }
+    }
+  }
+}
@@ -91,6 +91,7 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_RESPONSE_AGGREGATION_QUEUE_C
 import static com.linkedin.venice.ConfigKeys.ROUTER_RESPONSE_AGGREGATION_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_RETRY_MANAGER_CORE_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_ROUTING_COMPUTATION_MODE;
+import static com.linkedin.venice.ConfigKeys.ROUTER_SCAN_REQUEST_TIMEOUT_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLEGET_TARDY_LATENCY_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_KEY_LONG_TAIL_RETRY_BUDGET_PERCENT_DECIMAL;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SLOW_SCATTER_REQUEST_THRESHOLD_MS;
@@ -198,6 +199,7 @@ public class VeniceRouterConfig implements RouterRetryConfig {
   private final long httpasyncclientConnectionWarmingSleepIntervalMs;
   private final int dictionaryRetrievalTimeMs;
   private final int routerDictionaryProcessingThreads;
+  private final int scanRequestTimeoutMs;
   private final int httpasyncclientConnectionWarmingLowWaterMark;
   private final int httpasyncclientConnectionWarmingExecutorThreadNum;
   private final long httpasyncclientConnectionWarmingNewInstanceDelayJoinMs;
@@ -349,6 +351,7 @@ public class VeniceRouterConfig implements RouterRetryConfig {
       dictionaryRetrievalTimeMs =
           (int) props.getLong(ROUTER_DICTIONARY_RETRIEVAL_TIME_MS, TimeUnit.SECONDS.toMillis(30));
       routerDictionaryProcessingThreads = props.getInt(ROUTER_DICTIONARY_PROCESSING_THREADS, 3);
+      scanRequestTimeoutMs = (int) props.getLong(ROUTER_SCAN_REQUEST_TIMEOUT_MS, TimeUnit.SECONDS.toMillis(10));
       httpasyncclientConnectionWarmingLowWaterMark =
           props.getInt(ROUTER_HTTPASYNCCLIENT_CONNECTION_WARMING_LOW_WATER_MARK, 60);
       httpasyncclientConnectionWarmingExecutorThreadNum =
@@ -698,6 +701,10 @@ public class VeniceRouterConfig implements RouterRetryConfig {
     return routerDictionaryProcessingThreads;
   }
 
+  public int getScanRequestTimeoutMs() {
+    return scanRequestTimeoutMs;
+  }
+
   public int getHttpasyncclientConnectionWarmingLowWaterMark() {
     return httpasyncclientConnectionWarmingLowWaterMark;
   }
@@ -2,6 +2,7 @@ package com.linkedin.venice.router.acl;
 
 import static com.linkedin.venice.router.api.RouterResourceType.TYPE_COMPUTE;
 import static com.linkedin.venice.router.api.RouterResourceType.TYPE_INVALID;
+import static com.linkedin.venice.router.api.RouterResourceType.TYPE_SCAN;
 import static com.linkedin.venice.router.api.RouterResourceType.TYPE_STORAGE;
 
 import com.linkedin.venice.acl.AclCreationDeletionListener;
@@ -30,7 +31,7 @@ public class RouterStoreAclHandler extends AbstractStoreAclHandler<RouterResourc
 
   @Override
   protected boolean needsAclValidation(RouterResourceType resourceType) {
-    if (resourceType == TYPE_STORAGE || resourceType == TYPE_COMPUTE) {
+    if (resourceType == TYPE_STORAGE || resourceType == TYPE_COMPUTE || resourceType == TYPE_SCAN) {
       return true;
     }
 
@@ -17,6 +17,7 @@ import com.linkedin.alpini.router.api.ScatterGatherRequest;
 import com.linkedin.venice.exceptions.QuotaExceededException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.reliability.LatencyAwareReplicaSelector;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
@@ -99,10 +100,17 @@ public class VeniceDelegateMode extends ScatterGatherMode {
    */
   private final ScatterGatherMode HELIX_ASSISTED_MODE_FOR_MULTI_KEY_REQUEST = new HelixAssistedScatterGatherMode();
 
+  /**
+   * Latency-aware routing to pick the replica with the lowest latency/error/load cost by power-of-two-choices.
+   */
+  private final ScatterGatherMode LATENCY_AWARE_MODE_FOR_MULTI_KEY_REQUEST =
+      new LatencyAwareRoutingModeForMultiKeyRequest();
+
   private RouterThrottler readRequestThrottler;
   private RouteHttpRequestStats routeHttpRequestStats;
 
   private HelixGroupSelector helixGroupSelector;
+  private LatencyAwareReplicaSelector latencyAwareReplicaSelector;
 
   private final VeniceMultiKeyRoutingStrategy multiKeyRoutingStrategy;
   private final ScatterGatherMode scatterGatherModeForMultiKeyRequest;
@@ -138,6 +146,9 @@ public class VeniceDelegateMode extends ScatterGatherMode {
       case HELIX_ASSISTED_ROUTING:
         this.scatterGatherModeForMultiKeyRequest = HELIX_ASSISTED_MODE_FOR_MULTI_KEY_REQUEST;
         break;
+      case LATENCY_AWARE_ROUTING:
+        this.scatterGatherModeForMultiKeyRequest = LATENCY_AWARE_MODE_FOR_MULTI_KEY_REQUEST;
+        break;
       default:
         throw new VeniceException("Unknown multi-key routing strategy: " + this.multiKeyRoutingStrategy);
     }
@@ -186,6 +197,17 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     this.helixGroupSelector = helixGroupSelector;
   }
 
+  public void initLatencyAwareReplicaSelector(LatencyAwareReplicaSelector latencyAwareReplicaSelector) {
+    if (this.latencyAwareReplicaSelector != null) {
+      throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+          null,
+          null,
+          INTERNAL_SERVER_ERROR,
+          "LatencyAwareReplicaSelector has already been initialized before, and no further update expected!");
+    }
+    this.latencyAwareReplicaSelector = latencyAwareReplicaSelector;
+  }
+
   @Nonnull
   @Override
   public <H, P extends ResourcePath<K>, K, R> Scatter<H, P, K> scatter(
@@ -211,6 +233,14 @@ public class VeniceDelegateMode extends ScatterGatherMode {
           INTERNAL_SERVER_ERROR,
           "HelixGroupSelector has not been setup yet");
     }
+    if (multiKeyRoutingStrategy.equals(VeniceMultiKeyRoutingStrategy.LATENCY_AWARE_ROUTING)
+        && latencyAwareReplicaSelector == null) {
+      throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+          null,
+          null,
+          INTERNAL_SERVER_ERROR,
+          "LatencyAwareReplicaSelector has not been setup yet");
+    }
     P path = scatter.getPath();
     if (!(path instanceof VenicePath)) {
       throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
@@ -378,6 +408,9 @@ public class VeniceDelegateMode extends ScatterGatherMode {
    */
   private <H> H selectLeastLoadedHost(List<H> hosts, VenicePath path, RouteHttpStats routeHttpStats)
       throws RouterException {
+    if (latencyAwareReplicaSelector != null) {
+      return selectHostByLatencyAwareSelector(hosts, path);
+    }
     if (latencyBasedRoutingEnabled) {
       return selectLeastLoadedHostByLatency(hosts, path, routeHttpStats);
     } else {
@@ -469,6 +502,24 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     return selectedHost;
   }
 
+  /**
+   * Select host by {@link LatencyAwareReplicaSelector} among the hosts, which can serve the current request.
+   */
+  private <H> H selectHostByLatencyAwareSelector(List<H> hosts, VenicePath path) throws RouterException {
+    List<H> candidateHosts = new ArrayList<>(hosts.size());
+    for (H h: hosts) {
+      if (path.canRequestStorageNode(((Instance) h).getNodeId())) {
+        candidateHosts.add(h);
+      }
+    }
+    if (candidateHosts.isEmpty()) {
+      throwNoHostAvailableException(path);
+    }
+    H selectedHost = latencyAwareReplicaSelector.select(candidateHosts, h -> ((Instance) h).getNodeId());
+    hosts.removeIf(aHost -> !aHost.equals(selectedHost));
+    return selectedHost;
+  }
+
   /**
    * Helper method to throw appropriate exception when no host is available.
    */
@@ -791,6 +842,27 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     }
   }
 
+  /**
+   * This mode route the request to the replica picked by {@link LatencyAwareReplicaSelector}.
+   */
+  class LatencyAwareRoutingModeForMultiKeyRequest extends ScatterGatherModeForMultiKeyRequest {
+    protected LatencyAwareRoutingModeForMultiKeyRequest() {
+      super("LATENCY_AWARE_MODE_FOR_MULTI_GET");
+    }
+
+    @Override
+    protected <H, K> void selectHostForPartition(
+        List<H> partitionReplicas,
+        List<K> partitionKeys,
+        VenicePath venicePath,
+        Map<H, KeyPartitionSet<H, K>> hostMap,
+        int groupNum,
+        int assignedGroupId) throws RouterException {
+      H selectedHost = selectHostByLatencyAwareSelector(partitionReplicas, venicePath);
+      populateHostMap(hostMap, selectedHost, partitionKeys);
+    }
+  }
+
   /**
    * This following mode will leverage Helix Zone/Group for routing.
    * Here are the steps:
@@ -19,6 +19,7 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.reliability.LatencyAwareReplicaSelector;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.httpclient.PortableHttpResponse;
@@ -103,6 +104,12 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
 
+  /**
+   * Only available when {@link VeniceMultiKeyRoutingStrategy#LATENCY_AWARE_ROUTING} is enabled, and it is shared with
+   * {@link VeniceDelegateMode} for replica selection.
+   */
+  private final LatencyAwareReplicaSelector latencyAwareReplicaSelector;
+
   public VeniceDispatcher(
       VeniceRouterConfig config,
       ReadOnlyStoreRepository storeRepository,
@@ -127,12 +134,23 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     this.leakedCompletableFutureCleanupService = new LeakedCompletableFutureCleanupService();
     this.leakedCompletableFutureCleanupService.start();
     this.routerStats = routerStats;
+    if (VeniceMultiKeyRoutingStrategy.LATENCY_AWARE_ROUTING.equals(config.getMultiKeyRoutingStrategy())) {
+      this.latencyAwareReplicaSelector = LatencyAwareReplicaSelector.newBuilder()
+          .setPendingRequestCounter(routeHttpRequestStats::getPendingRequestCount)
+          .build();
+    } else {
+      this.latencyAwareReplicaSelector = null;
+    }
   }
 
   public RouterStats<RouteHttpStats> getPerRouteStatsByType() {
     return perRouteStatsByType;
   }
 
+  public LatencyAwareReplicaSelector getLatencyAwareReplicaSelector() {
+    return latencyAwareReplicaSelector;
+  }
+
   @Override
   public void dispatch(
       @Nonnull Scatter<Instance, VenicePath, RouterKey> scatter,
@@ -272,8 +290,15 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
       }
       return responseFuture.whenComplete((response, throwable) -> {
         RouteHttpStats perRouteStats = perRouteStatsByType.getStatsByType(requestType);
-        perRouteStats
-            .recordResponseWaitingTime(storageNode.getHost(), LatencyUtils.getElapsedTimeFromNSToMS(startTime));
+        double responseWaitingTime = LatencyUtils.getElapsedTimeFromNSToMS(startTime);
+        perRouteStats.recordResponseWaitingTime(storageNode.getHost(), responseWaitingTime);
+        if (latencyAwareReplicaSelector != null) {
+          int statusCode = response != null ? response.getStatusCode() : HttpStatus.SC_INTERNAL_SERVER_ERROR;
+          latencyAwareReplicaSelector.recordResponse(
+              storageNode.getNodeId(),
+              responseWaitingTime,
+              throwable == null && (statusCode == HttpStatus.SC_OK || statusCode == HttpStatus.SC_NOT_FOUND));
+        }
         routeHttpRequestStats.recordFinishedRequest(storageNode.getNodeId());
         pendingRequestThrottler.take();
         responseFutureMap.remove(requestId);
@@ -11,5 +11,8 @@ public enum VeniceMultiKeyRoutingStrategy {
   // This mode will send the request to the least loaded host of all the available replicas.
   LEAST_LOADED_ROUTING,
   // This mode will try to limit the fanout inside one helix group/zone.
-  HELIX_ASSISTED_ROUTING
+  HELIX_ASSISTED_ROUTING,
+  // This mode will pick the replica with the lower latency/error/load cost out of two random ones, and it also applies
+  // to single get requests.
+  LATENCY_AWARE_ROUTING
 }
@@ -7,7 +7,9 @@ import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.RoutingDataRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.StoreDataChangedListener;
+import com.linkedin.venice.meta.StorePropertiesChangedListener;
 import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.meta.ZKStore;
 import com.linkedin.venice.partitioner.VenicePartitioner;
 import com.linkedin.venice.utils.HelixUtils;
 import com.linkedin.venice.utils.PartitionUtils;
@@ -18,6 +20,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 
@@ -106,7 +109,15 @@ public class VenicePartitionFinder implements PartitionFinder<RouterKey> {
     return PartitionUtils.getVenicePartitioner(partitionerConfig.getPartitionerClass(), partitionerProperties);
   }
 
-  private final StoreDataChangedListener storeChangeListener = new StoreDataChangedListener() {
+  private final StoreDataChangedListener storeChangeListener = new StorePropertiesChangedListener() {
+    @Override
+    public void handleStoreChanged(Store store, Set<String> changedProperties) {
+      // Only the version list matters here
+      if (changedProperties.contains(ZKStore.VERSIONS_PROPERTY)) {
+        handleStoreChanged(store);
+      }
+    }
+
     @Override
     public void handleStoreChanged(Store store) {
       String storeName = store.getName();
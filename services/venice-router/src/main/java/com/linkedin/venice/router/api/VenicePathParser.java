@@ -27,6 +27,7 @@ import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.StoreDataChangedListener;
 import com.linkedin.venice.meta.StoreName;
 import com.linkedin.venice.meta.StoreVersionName;
+import com.linkedin.venice.read.RequestHeadersProvider;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VeniceComputePath;
@@ -298,6 +299,9 @@ public class VenicePathParser implements ExtendedResourcePathParser<VenicePath,
         throw RouterExceptionAndTrackingUtils
             .newRouterExceptionAndTracking(null, null, BAD_REQUEST, "Method: " + method + " is not allowed");
       }
+      path.setRequestDeadlineMs(
+          RequestHeadersProvider
+              .parseRequestDeadlineHeader(fullHttpRequest.headers().get(HttpConstants.VENICE_REQUEST_DEADLINE_MS)));
       RequestType requestType = path.getRequestType();
       if (StreamingUtils.isStreamingEnabled(fullHttpRequest)) {
         if (requestType.equals(RequestType.MULTI_GET) || requestType.equals(RequestType.COMPUTE)) {
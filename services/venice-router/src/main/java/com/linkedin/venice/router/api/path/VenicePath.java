@@ -34,6 +34,10 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
   private final VeniceResponseDecompressor responseDecompressor;
   private boolean retryRequest = false;
   private long originalRequestStartTs = -1;
+  /**
+   * The absolute deadline in epoch milliseconds propagated by the client, and -1 means no deadline.
+   */
+  private long requestDeadlineMs = -1;
   /**
    * This slow storage node set, which will be decided by the scattered requests of the original request.
    * And this set is mostly used to decide whether we should send retry request to any specific storage node or not.
@@ -136,6 +140,7 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
     slowStorageNodeSet = originalPath.slowStorageNodeSet;
     ignoreSlowStorageNodes = originalPath.ignoreSlowStorageNodes;
     setOriginalRequestStartTs(originalPath.getOriginalRequestStartTs());
+    setRequestDeadlineMs(originalPath.getRequestDeadlineMs());
   }
 
   public boolean isRetryRequest() {
@@ -150,6 +155,14 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
     this.originalRequestStartTs = originalRequestStartTs;
   }
 
+  public long getRequestDeadlineMs() {
+    return requestDeadlineMs;
+  }
+
+  public void setRequestDeadlineMs(long requestDeadlineMs) {
+    this.requestDeadlineMs = requestDeadlineMs;
+  }
+
   public abstract int getLongTailRetryThresholdMs();
 
   public void requestStorageNode(String storageNode) {
@@ -223,6 +236,10 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
     if (isStreamingRequest()) {
       setupHeaderFunc.accept(HttpConstants.VENICE_STREAMING, "1");
     }
+    // Deadline
+    if (requestDeadlineMs > 0) {
+      setupHeaderFunc.accept(HttpConstants.VENICE_REQUEST_DEADLINE_MS, Long.toString(requestDeadlineMs));
+    }
   }
 
   public HttpUriRequest composeRouterRequest(String storageNodeUri) {
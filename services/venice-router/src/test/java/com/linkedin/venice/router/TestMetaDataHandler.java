@@ -2,6 +2,7 @@ package com.linkedin.venice.router;
 
 import static com.linkedin.venice.HttpConstants.JSON;
 import static com.linkedin.venice.HttpConstants.TEXT_PLAIN;
+import static com.linkedin.venice.VeniceConstants.TYPE_BATCH_STORE_METADATA;
 import static com.linkedin.venice.VeniceConstants.TYPE_STORE_STATE;
 import static com.linkedin.venice.VeniceConstants.TYPE_STREAM_HYBRID_STORE_QUOTA;
 import static com.linkedin.venice.VeniceConstants.TYPE_STREAM_REPROCESSING_HYBRID_STORE_QUOTA;
@@ -47,6 +48,7 @@ import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.SerializableSystemStore;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.StoreConfig;
+import com.linkedin.venice.meta.StoreDataChangedListener;
 import com.linkedin.venice.meta.SystemStore;
 import com.linkedin.venice.meta.SystemStoreAttributes;
 import com.linkedin.venice.meta.SystemStoreAttributesImpl;
@@ -56,6 +58,8 @@ import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
 import com.linkedin.venice.pushmonitor.ExecutionStatus;
 import com.linkedin.venice.pushmonitor.HybridStoreQuotaStatus;
 import com.linkedin.venice.pushstatushelper.PushStatusStoreReader;
+import com.linkedin.venice.router.api.VeniceVersionFinder;
+import com.linkedin.venice.routerapi.BatchStoreMetadataResponse;
 import com.linkedin.venice.routerapi.HybridStoreQuotaStatusResponse;
 import com.linkedin.venice.routerapi.ReplicaState;
 import com.linkedin.venice.routerapi.ResourceStateResponse;
@@ -164,6 +168,28 @@ public class TestMetaDataHandler {
       Map<String, String> clusterToServerD2ServiceMap,
       HelixReadOnlyStoreRepository helixReadOnlyStoreRepository,
       PushStatusStoreReader pushStatusStoreReader) throws IOException {
+    return passRequestToMetadataHandler(
+        requestUri,
+        routing,
+        schemaRepo,
+        storeConfigRepository,
+        clusterToD2ServiceMap,
+        clusterToServerD2ServiceMap,
+        helixReadOnlyStoreRepository,
+        pushStatusStoreReader,
+        null);
+  }
+
+  public FullHttpResponse passRequestToMetadataHandler(
+      String requestUri,
+      HelixCustomizedViewOfflinePushRepository routing,
+      ReadOnlySchemaRepository schemaRepo,
+      HelixReadOnlyStoreConfigRepository storeConfigRepository,
+      Map<String, String> clusterToD2ServiceMap,
+      Map<String, String> clusterToServerD2ServiceMap,
+      HelixReadOnlyStoreRepository helixReadOnlyStoreRepository,
+      PushStatusStoreReader pushStatusStoreReader,
+      VeniceVersionFinder versionFinder) throws IOException {
     ChannelHandlerContext ctx = Mockito.mock(ChannelHandlerContext.class);
 
     FullHttpRequest httpRequest = Mockito.mock(FullHttpRequest.class);
@@ -179,6 +205,10 @@ public class TestMetaDataHandler {
     } else {
       schemaRepoToUse = schemaRepo;
     }
+    // The handler listens to the store changes
+    HelixReadOnlyStoreRepository storeRepositoryToUse = helixReadOnlyStoreRepository == null
+        ? Mockito.mock(HelixReadOnlyStoreRepository.class)
+        : helixReadOnlyStoreRepository;
 
     MetaDataHandler handler = new MetaDataHandler(
         routing,
@@ -186,13 +216,13 @@ public class TestMetaDataHandler {
         storeConfigRepository,
         clusterToD2ServiceMap,
         clusterToServerD2ServiceMap,
-        helixReadOnlyStoreRepository,
+        storeRepositoryToUse,
         Optional.of(hybridStoreQuotaRepository),
         "test-cluster",
         ZK_ADDRESS,
         KAFKA_BOOTSTRAP_SERVERS,
         false,
-        null,
+        versionFinder,
         pushStatusStoreReader,
         metricsRepository);
     handler.channelRead0(ctx, httpRequest);
@@ -1884,4 +1914,188 @@ public class TestMetaDataHandler {
     Assert.assertEquals(response.status(), HttpResponseStatus.OK);
     Assert.assertEquals(response.headers().get(CONTENT_TYPE), JSON);
   }
+
+  @Test
+  public void testBatchStoreMetadataLookup() throws IOException {
+    String storeName = "test-store";
+    String missingStoreName = "missing-store";
+    String clusterName = "test-cluster";
+    String d2Service = "test-d2-service";
+    String serverD2Service = "test-server-d2-service";
+    String partitionerClass = DefaultVenicePartitioner.class.getName();
+
+    ReadOnlySchemaRepository schemaRepo = Mockito.mock(ReadOnlySchemaRepository.class);
+    Mockito.doReturn(new SchemaEntry(1, "\"string\"")).when(schemaRepo).getKeySchema(storeName);
+    // Value schemas are returned out of order, they should be sorted by id in the response
+    Mockito.doReturn(Arrays.asList(new SchemaEntry(2, "\"long\""), new SchemaEntry(1, "\"int\"")))
+        .when(schemaRepo)
+        .getValueSchemas(storeName);
+    Mockito.doReturn(Collections.emptyList()).when(schemaRepo).getDerivedSchemas(storeName);
+
+    Store store = Mockito.mock(Store.class);
+    Mockito.doReturn(storeName).when(store).getName();
+    Mockito.doReturn(SchemaData.INVALID_VALUE_SCHEMA_ID).when(store).getLatestSuperSetValueSchemaId();
+    PartitionerConfig partitionerConfig = new PartitionerConfigImpl();
+    partitionerConfig.setPartitionerClass(partitionerClass);
+    Mockito.doReturn(partitionerConfig).when(store).getPartitionerConfig();
+    Version version = Mockito.mock(Version.class);
+    Mockito.doReturn(10).when(version).getPartitionCount();
+    Mockito.doReturn(version).when(store).getVersion(1);
+    HelixReadOnlyStoreRepository storeRepository = Mockito.mock(HelixReadOnlyStoreRepository.class);
+    Mockito.doReturn(store).when(storeRepository).getStore(storeName);
+
+    VeniceVersionFinder versionFinder = Mockito.mock(VeniceVersionFinder.class);
+    Mockito.doReturn(1).when(versionFinder).getVersion(storeName, null);
+
+    FullHttpResponse response = passRequestToMetadataHandler(
+        "http://myRouterHost:4567/" + TYPE_BATCH_STORE_METADATA + "?stores=" + storeName + "," + missingStoreName,
+        null,
+        schemaRepo,
+        Mockito.mock(HelixReadOnlyStoreConfigRepository.class),
+        Collections.singletonMap(clusterName, d2Service),
+        Collections.singletonMap(clusterName, serverD2Service),
+        storeRepository,
+        Mockito.mock(PushStatusStoreReader.class),
+        versionFinder);
+
+    Assert.assertEquals(response.status(), HttpResponseStatus.OK);
+    Assert.assertEquals(response.headers().get(CONTENT_TYPE), JSON);
+    BatchStoreMetadataResponse batchResponse =
+        OBJECT_MAPPER.readValue(response.content().array(), BatchStoreMetadataResponse.class);
+    Assert.assertFalse(batchResponse.isError());
+    Assert.assertEquals(batchResponse.getMissingStores(), Collections.singletonList(missingStoreName));
+    Assert.assertEquals(batchResponse.getStoreMetadata().size(), 1);
+    BatchStoreMetadataResponse.StoreMetadata storeMetadata = batchResponse.getStoreMetadata().get(storeName);
+    Assert.assertNotNull(storeMetadata.getEtag());
+    Assert.assertEquals(storeMetadata.getCluster(), clusterName);
+    Assert.assertEquals(storeMetadata.getKeySchema().getSchemaStr(), "\"string\"");
+    Assert.assertEquals(storeMetadata.getValueSchemas().length, 2);
+    Assert.assertEquals(storeMetadata.getValueSchemas()[0].getId(), 1);
+    Assert.assertEquals(storeMetadata.getValueSchemas()[0].getSchemaStr(), "\"int\"");
+    Assert.assertEquals(storeMetadata.getValueSchemas()[1].getId(), 2);
+    Assert.assertEquals(storeMetadata.getUpdateSchemas().length, 0);
+    Assert.assertEquals(storeMetadata.getCurrentVersion(), 1);
+    Assert.assertEquals(storeMetadata.getPartitionCount(), 10);
+    Assert.assertEquals(storeMetadata.getPartitionerClass(), partitionerClass);
+    Assert.assertEquals(storeMetadata.getD2Service(), d2Service);
+    Assert.assertEquals(storeMetadata.getServerD2Service(), serverD2Service);
+
+    // The store is left out of the response if its metadata hasn't changed since the provided etag
+    String etag = storeMetadata.getEtag();
+    response = passRequestToMetadataHandler(
+        "http://myRouterHost:4567/" + TYPE_BATCH_STORE_METADATA + "?stores=" + storeName + ":" + etag,
+        null,
+        schemaRepo,
+        Mockito.mock(HelixReadOnlyStoreConfigRepository.class),
+        Collections.singletonMap(clusterName, d2Service),
+        Collections.singletonMap(clusterName, serverD2Service),
+        storeRepository,
+        Mockito.mock(PushStatusStoreReader.class),
+        versionFinder);
+    batchResponse = OBJECT_MAPPER.readValue(response.content().array(), BatchStoreMetadataResponse.class);
+    Assert.assertTrue(batchResponse.getStoreMetadata().isEmpty());
+    Assert.assertTrue(batchResponse.getMissingStores().isEmpty());
+
+    // A new current version changes the etag
+    Mockito.doReturn(2).when(versionFinder).getVersion(storeName, null);
+    response = passRequestToMetadataHandler(
+        "http://myRouterHost:4567/" + TYPE_BATCH_STORE_METADATA + "?stores=" + storeName + ":" + etag,
+        null,
+        schemaRepo,
+        Mockito.mock(HelixReadOnlyStoreConfigRepository.class),
+        Collections.singletonMap(clusterName, d2Service),
+        Collections.singletonMap(clusterName, serverD2Service),
+        storeRepository,
+        Mockito.mock(PushStatusStoreReader.class),
+        versionFinder);
+    batchResponse = OBJECT_MAPPER.readValue(response.content().array(), BatchStoreMetadataResponse.class);
+    storeMetadata = batchResponse.getStoreMetadata().get(storeName);
+    Assert.assertNotNull(storeMetadata);
+    Assert.assertNotEquals(storeMetadata.getEtag(), etag);
+    Assert.assertEquals(storeMetadata.getCurrentVersion(), 2);
+  }
+
+  @Test
+  public void testBatchStoreMetadataLookupCache() throws IOException {
+    String storeName = "test-store";
+    String clusterName = "test-cluster";
+
+    ReadOnlySchemaRepository schemaRepo = Mockito.mock(ReadOnlySchemaRepository.class);
+    Mockito.doReturn(new SchemaEntry(1, "\"string\"")).when(schemaRepo).getKeySchema(storeName);
+    Mockito.doReturn(Collections.singletonList(new SchemaEntry(1, "\"int\"")))
+        .when(schemaRepo)
+        .getValueSchemas(storeName);
+    Mockito.doReturn(Collections.emptyList()).when(schemaRepo).getDerivedSchemas(storeName);
+
+    Store store = Mockito.mock(Store.class);
+    Mockito.doReturn(storeName).when(store).getName();
+    Mockito.doReturn(SchemaData.INVALID_VALUE_SCHEMA_ID).when(store).getLatestSuperSetValueSchemaId();
+    Mockito.doReturn(new PartitionerConfigImpl()).when(store).getPartitionerConfig();
+    Version version = Mockito.mock(Version.class);
+    Mockito.doReturn(10).when(version).getPartitionCount();
+    Mockito.doReturn(version).when(store).getVersion(1);
+    HelixReadOnlyStoreRepository storeRepository = Mockito.mock(HelixReadOnlyStoreRepository.class);
+    Mockito.doReturn(store).when(storeRepository).getStore(storeName);
+
+    VeniceVersionFinder versionFinder = Mockito.mock(VeniceVersionFinder.class);
+    Mockito.doReturn(1).when(versionFinder).getVersion(storeName, null);
+
+    MetaDataHandler handler = new MetaDataHandler(
+        null,
+        schemaRepo,
+        Mockito.mock(HelixReadOnlyStoreConfigRepository.class),
+        Collections.singletonMap(clusterName, "test-d2-service"),
+        Collections.singletonMap(clusterName, "test-server-d2-service"),
+        storeRepository,
+        Optional.of(hybridStoreQuotaRepository),
+        clusterName,
+        ZK_ADDRESS,
+        KAFKA_BOOTSTRAP_SERVERS,
+        false,
+        versionFinder,
+        Mockito.mock(PushStatusStoreReader.class),
+        metricsRepository);
+    ArgumentCaptor<StoreDataChangedListener> listenerCaptor =
+        ArgumentCaptor.forClass(StoreDataChangedListener.class);
+    Mockito.verify(storeRepository).registerStoreDataChangedListener(listenerCaptor.capture());
+    String requestUri = "http://myRouterHost:4567/" + TYPE_BATCH_STORE_METADATA + "?stores=" + storeName;
+
+    String etag = getBatchStoreMetadataEtag(handler, requestUri, storeName);
+    Mockito.verify(store, Mockito.times(1)).getPartitionerConfig();
+
+    // The cached metadata is returned as long as neither the store nor its schemas have changed
+    Assert.assertEquals(getBatchStoreMetadataEtag(handler, requestUri, storeName), etag);
+    Mockito.verify(store, Mockito.times(1)).getPartitionerConfig();
+
+    // A store change invalidates the cached metadata
+    listenerCaptor.getValue().handleStoreChanged(store);
+    Assert.assertEquals(getBatchStoreMetadataEtag(handler, requestUri, storeName), etag);
+    Mockito.verify(store, Mockito.times(2)).getPartitionerConfig();
+
+    // So does a new value schema, without any store change
+    Mockito.doReturn(Arrays.asList(new SchemaEntry(1, "\"int\""), new SchemaEntry(2, "\"long\"")))
+        .when(schemaRepo)
+        .getValueSchemas(storeName);
+    String newEtag = getBatchStoreMetadataEtag(handler, requestUri, storeName);
+    Assert.assertNotEquals(newEtag, etag);
+    Mockito.verify(store, Mockito.times(3)).getPartitionerConfig();
+    Assert.assertEquals(getBatchStoreMetadataEtag(handler, requestUri, storeName), newEtag);
+    Mockito.verify(store, Mockito.times(3)).getPartitionerConfig();
+  }
+
+  private static String getBatchStoreMetadataEtag(MetaDataHandler handler, String requestUri, String storeName)
+      throws IOException {
+    ChannelHandlerContext ctx = Mockito.mock(ChannelHandlerContext.class);
+    FullHttpRequest httpRequest = Mockito.mock(FullHttpRequest.class);
+    Mockito.doReturn(EmptyHttpHeaders.INSTANCE).when(httpRequest).headers();
+    Mockito.doReturn(requestUri).when(httpRequest).uri();
+    handler.channelRead0(ctx, httpRequest);
+    ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+    Mockito.verify(ctx).writeAndFlush(captor.capture());
+    FullHttpResponse response = (FullHttpResponse) captor.getValue();
+    Assert.assertEquals(response.status(), HttpResponseStatus.OK);
+    BatchStoreMetadataResponse batchResponse =
+        OBJECT_MAPPER.readValue(response.content().array(), BatchStoreMetadataResponse.class);
+    return batchResponse.getStoreMetadata().get(storeName).getEtag();
+  }
 }
@@ -0,0 +1,196 @@
+package com.linkedin.venice.router;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.OnlineInstanceFinder;
+import com.linkedin.venice.read.ScanProtocol;
+import com.linkedin.venice.router.api.VeniceVersionFinder;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.httpclient.StorageNodeClient;
+import com.linkedin.venice.router.httpclient.VeniceMetaDataRequest;
+import com.linkedin.venice.utils.EncodingUtils;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestScanRequestHandler {
+  private static final String STORE_NAME = "test_store";
+
+  @Test
+  public void testScanPositionEncoding() {
+    ScanRequestHandler.ScanPosition position = ScanRequestHandler.ScanPosition
+        .decode(new ScanRequestHandler.ScanPosition(3, 5, "key".getBytes()).encode());
+    Assert.assertEquals(position.version, 3);
+    Assert.assertEquals(position.partition, 5);
+    Assert.assertEquals(position.key, "key".getBytes());
+
+    position = ScanRequestHandler.ScanPosition.decode(new ScanRequestHandler.ScanPosition(3, 0, null).encode());
+    Assert.assertEquals(position.partition, 0);
+    Assert.assertNull(position.key);
+
+    Assert.assertThrows(VeniceException.class, () -> ScanRequestHandler.ScanPosition.decode("!!!"));
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> ScanRequestHandler.ScanPosition.decode(EncodingUtils.base64EncodeToString(new byte[] { 1, 2, 3 })));
+    // Key length beyond the token
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> ScanRequestHandler.ScanPosition
+            .decode(EncodingUtils.base64EncodeToString(new byte[] { 0, 0, 0, 1, 0, 0, 0, 1, 0, 0, 0, 9, 1 })));
+  }
+
+  @Test
+  public void testFetchPageAcrossPartitions() throws Exception {
+    String topic = STORE_NAME + "_v1";
+    OnlineInstanceFinder onlineInstanceFinder = mock(OnlineInstanceFinder.class);
+    doReturn(3).when(onlineInstanceFinder).getNumberOfPartitions(topic);
+    doReturn(Collections.singletonList(new Instance("host_1", "host", 1234))).when(onlineInstanceFinder)
+        .getReadyToServeInstances(anyString(), anyInt());
+
+    // Partition 0 is empty, and partition 1 returns a page with more records after it
+    byte[] page = "page".getBytes();
+    List<String> queries = new ArrayList<>();
+    StorageNodeClient storageNodeClient = mock(StorageNodeClient.class);
+    doAnswer(invocation -> {
+      VeniceMetaDataRequest request = invocation.getArgument(0);
+      CompletableFuture<PortableHttpResponse> future = invocation.getArgument(1);
+      queries.add(request.getQuery());
+      PortableHttpResponse response = mock(PortableHttpResponse.class);
+      doReturn(HttpResponseStatus.OK.code()).when(response).getStatusCode();
+      if (request.getQuery().startsWith("scan/" + topic + "/0")) {
+        doReturn(Unpooled.EMPTY_BUFFER).when(response).getContentInByteBuf();
+      } else {
+        doReturn(Unpooled.wrappedBuffer(page)).when(response).getContentInByteBuf();
+        doReturn(EncodingUtils.base64EncodeToString("last".getBytes())).when(response)
+            .getFirstHeader(ScanProtocol.CONTINUATION_HEADER);
+      }
+      future.complete(response);
+      return null;
+    }).when(storageNodeClient).sendRequest(any(VeniceMetaDataRequest.class), any());
+
+    ScanRequestHandler handler =
+        new ScanRequestHandler(mock(VeniceVersionFinder.class), onlineInstanceFinder, storageNodeClient, false, 1000);
+    Map<String, String> params = new HashMap<>();
+    params.put(ScanProtocol.PREFIX_PARAM, "cA==");
+    params.put(ScanProtocol.LIMIT_PARAM, "10");
+    FullHttpResponse response =
+        handler.fetchPage(STORE_NAME, new ScanRequestHandler.ScanPosition(1, 0, null), params).get();
+
+    Assert.assertEquals(response.status(), HttpResponseStatus.OK);
+    Assert.assertEquals(response.content().readableBytes(), page.length);
+    Assert.assertEquals(queries.size(), 2);
+    Assert.assertEquals(queries.get(0), "scan/" + topic + "/0?prefix=cA%3D%3D&limit=10");
+    Assert.assertEquals(queries.get(1), "scan/" + topic + "/1?prefix=cA%3D%3D&limit=10");
+    ScanRequestHandler.ScanPosition nextPosition =
+        ScanRequestHandler.ScanPosition.decode(response.headers().get(ScanProtocol.CONTINUATION_HEADER));
+    Assert.assertEquals(nextPosition.version, 1);
+    Assert.assertEquals(nextPosition.partition, 1);
+    Assert.assertEquals(nextPosition.key, "last".getBytes());
+
+    // Resume from the continuation token, and the last partition completes the scan
+    queries.clear();
+    doReturn(Collections.emptyList()).when(onlineInstanceFinder).getReadyToServeInstances(topic, 2);
+    response = handler.fetchPage(STORE_NAME, new ScanRequestHandler.ScanPosition(1, 2, null), params).get();
+    Assert.assertEquals(response.status(), HttpResponseStatus.SERVICE_UNAVAILABLE);
+    Assert.assertTrue(queries.isEmpty());
+
+    response = handler.fetchPage(STORE_NAME, new ScanRequestHandler.ScanPosition(1, 3, null), params).get();
+    Assert.assertEquals(response.status(), HttpResponseStatus.BAD_REQUEST);
+
+    response = handler.fetchPage(STORE_NAME, nextPosition, params).get();
+    Assert.assertEquals(queries.get(0), "scan/" + topic + "/1?prefix=cA%3D%3D&limit=10&continuation=bGFzdA%3D%3D");
+  }
+
+  @Test
+  public void testFetchPageBoundsSkippedPartitions() throws Exception {
+    String topic = STORE_NAME + "_v1";
+    int partitionCount = ScanRequestHandler.MAX_PARTITIONS_PER_PAGE + 4;
+    OnlineInstanceFinder onlineInstanceFinder = mock(OnlineInstanceFinder.class);
+    doReturn(partitionCount).when(onlineInstanceFinder).getNumberOfPartitions(topic);
+    doReturn(Collections.singletonList(new Instance("host_1", "host", 1234))).when(onlineInstanceFinder)
+        .getReadyToServeInstances(anyString(), anyInt());
+
+    // All the partitions are empty
+    List<String> queries = new ArrayList<>();
+    StorageNodeClient storageNodeClient = mock(StorageNodeClient.class);
+    doAnswer(invocation -> {
+      VeniceMetaDataRequest request = invocation.getArgument(0);
+      CompletableFuture<PortableHttpResponse> future = invocation.getArgument(1);
+      queries.add(request.getQuery());
+      PortableHttpResponse response = mock(PortableHttpResponse.class);
+      doReturn(HttpResponseStatus.OK.code()).when(response).getStatusCode();
+      doReturn(Unpooled.EMPTY_BUFFER).when(response).getContentInByteBuf();
+      future.complete(response);
+      return null;
+    }).when(storageNodeClient).sendRequest(any(VeniceMetaDataRequest.class), any());
+
+    ScanRequestHandler handler =
+        new ScanRequestHandler(mock(VeniceVersionFinder.class), onlineInstanceFinder, storageNodeClient, false, 1000);
+    FullHttpResponse response =
+        handler.fetchPage(STORE_NAME, new ScanRequestHandler.ScanPosition(1, 0, null), new HashMap<>()).get();
+
+    // The page stops after the max number of partitions, with an empty body and the token of the next partition
+    Assert.assertEquals(response.status(), HttpResponseStatus.OK);
+    Assert.assertEquals(response.content().readableBytes(), 0);
+    Assert.assertEquals(queries.size(), ScanRequestHandler.MAX_PARTITIONS_PER_PAGE);
+    ScanRequestHandler.ScanPosition nextPosition =
+        ScanRequestHandler.ScanPosition.decode(response.headers().get(ScanProtocol.CONTINUATION_HEADER));
+    Assert.assertEquals(nextPosition.partition, ScanRequestHandler.MAX_PARTITIONS_PER_PAGE);
+    Assert.assertNull(nextPosition.key);
+
+    // The remaining partitions complete the scan
+    queries.clear();
+    response = handler.fetchPage(STORE_NAME, nextPosition, new HashMap<>()).get();
+    Assert.assertEquals(response.status(), HttpResponseStatus.OK);
+    Assert.assertEquals(queries.size(), 4);
+    Assert.assertNull(response.headers().get(ScanProtocol.CONTINUATION_HEADER));
+
+    // A request timeout which has already elapsed stops after the first partition
+    queries.clear();
+    handler =
+        new ScanRequestHandler(mock(VeniceVersionFinder.class), onlineInstanceFinder, storageNodeClient, false, 0);
+    response = handler.fetchPage(STORE_NAME, new ScanRequestHandler.ScanPosition(1, 0, null), new HashMap<>()).get();
+    Assert.assertEquals(queries.size(), 1);
+    nextPosition = ScanRequestHandler.ScanPosition.decode(response.headers().get(ScanProtocol.CONTINUATION_HEADER));
+    Assert.assertEquals(nextPosition.partition, 1);
+  }
+
+  @Test
+  public void testPassThroughNonScanRequest() {
+    ScanRequestHandler handler = new ScanRequestHandler(
+        mock(VeniceVersionFinder.class),
+        mock(OnlineInstanceFinder.class),
+        mock(StorageNodeClient.class),
+        false,
+        1000);
+    ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+    FullHttpRequest request = mock(FullHttpRequest.class);
+    doReturn("/storage/" + STORE_NAME + "/key").when(request).uri();
+    doReturn(HttpMethod.GET).when(request).method();
+
+    handler.channelRead0(ctx, request);
+    verify(ctx).fireChannelRead(request);
+    verify(ctx, never()).writeAndFlush(any());
+  }
+}
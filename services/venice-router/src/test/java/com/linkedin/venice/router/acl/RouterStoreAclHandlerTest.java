@@ -366,11 +366,13 @@ public class RouterStoreAclHandlerTest {
         case TYPE_RESOURCE_STATE:
         case TYPE_CURRENT_VERSION:
         case TYPE_BLOB_DISCOVERY:
+        case TYPE_BATCH_STORE_METADATA:
         case TYPE_REQUEST_TOPIC:
           verify(spyMockAccessController, never()).hasAccess(any(), any(), any());
           break;
         case TYPE_STORAGE:
         case TYPE_COMPUTE:
+        case TYPE_SCAN:
           verify(spyMockAccessController).hasAccess(any(), eq(storeName), any());
           break;
         case TYPE_INVALID:
@@ -409,9 +411,13 @@ public class RouterStoreAclHandlerTest {
       case TYPE_STORAGE:
       case TYPE_COMPUTE:
         return "/" + resourceType.toString().toLowerCase() + "/" + storeName + "/ABCDEFG";
+      case TYPE_SCAN:
+        return "/" + resourceType.toString().toLowerCase() + "/" + storeName + "?limit=10";
       case TYPE_BLOB_DISCOVERY:
         return "/" + resourceType.toString().toLowerCase() + "?store=" + storeName
             + "&store_version=1&store_partition=2";
+      case TYPE_BATCH_STORE_METADATA:
+        return "/" + resourceType.toString().toLowerCase() + "?stores=" + storeName;
       case TYPE_INVALID:
         return "/invalid";
       default:
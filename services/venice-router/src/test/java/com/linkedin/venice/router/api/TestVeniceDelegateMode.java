@@ -1,6 +1,7 @@
 package com.linkedin.venice.router.api;
 
 import static com.linkedin.venice.router.api.VeniceMultiKeyRoutingStrategy.HELIX_ASSISTED_ROUTING;
+import static com.linkedin.venice.router.api.VeniceMultiKeyRoutingStrategy.LATENCY_AWARE_ROUTING;
 import static com.linkedin.venice.router.api.VeniceMultiKeyRoutingStrategy.LEAST_LOADED_ROUTING;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
@@ -30,6 +31,7 @@ import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.RetryManager;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.reliability.LatencyAwareReplicaSelector;
 import com.linkedin.venice.router.RouterRetryConfig;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VenicePath;
@@ -1257,4 +1259,138 @@ public class TestVeniceDelegateMode {
     // Should select the only available host
     Assert.assertEquals(requests.iterator().next().getHosts().get(0), instance1);
   }
+
+  /**
+   * Scatter a request with one key per partition by {@link VeniceMultiKeyRoutingStrategy#LATENCY_AWARE_ROUTING},
+   * where every partition is served by all the given replicas.
+   *
+   * @return the selected host of each partition
+   */
+  private List<Instance> scatterWithLatencyAwareRouting(
+      LatencyAwareReplicaSelector latencyAwareReplicaSelector,
+      RequestType requestType,
+      List<Instance> replicas,
+      int partitionCount) throws RouterException {
+    String resourceName = Utils.getUniqueString("test_store") + "_v1";
+    Map<String, List<Instance>> partitionInstanceMap = new HashMap<>();
+    Map<RouterKey, String> keyPartitionMap = new HashMap<>();
+    List<RouterKey> keys = new ArrayList<>();
+    for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+      String partitionName = HelixUtils.getPartitionName(resourceName, partitionId);
+      // The host selection trims the replica list in place
+      partitionInstanceMap.put(partitionName, new ArrayList<>(replicas));
+      RouterKey key = new RouterKey(("key" + partitionId).getBytes());
+      key.setPartitionId(partitionId);
+      keys.add(key);
+      keyPartitionMap.put(key, partitionName);
+    }
+
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(LATENCY_AWARE_ROUTING).when(config).getMultiKeyRoutingStrategy();
+    doReturn(RoutingComputationMode.SEQUENTIAL).when(config).getRoutingComputationMode();
+    VeniceDelegateMode scatterMode = new VeniceDelegateMode(
+        config,
+        mock(RouterStats.class),
+        mock(RouteHttpRequestStats.class),
+        mock(RouterStats.class));
+    scatterMode.initReadRequestThrottler(getReadRequestThrottle(false));
+    if (latencyAwareReplicaSelector != null) {
+      scatterMode.initLatencyAwareReplicaSelector(latencyAwareReplicaSelector);
+    }
+
+    Scatter<Instance, VenicePath, RouterKey> scatter = new Scatter(
+        getVenicePath(resourceName, requestType, keys),
+        getPathParser(),
+        VeniceRole.REPLICA,
+        RoutingComputationMode.SEQUENTIAL.getRequestCollectionSupplier());
+    Scatter<Instance, VenicePath, RouterKey> finalScatter = scatterMode.scatter(
+        scatter,
+        requestType == RequestType.SINGLE_GET ? "GET" : "POST",
+        resourceName,
+        getPartitionFinder(keyPartitionMap),
+        getHostFinder(partitionInstanceMap),
+        getHostHealthMonitor(),
+        VeniceRole.REPLICA);
+
+    List<Instance> selectedHosts = new ArrayList<>();
+    for (ScatterGatherRequest<Instance, RouterKey> request: finalScatter.getOnlineRequests()) {
+      Assert.assertEquals(request.getHosts().size(), 1);
+      for (int i = 0; i < request.getPartitionKeys().size(); i++) {
+        selectedHosts.add(request.getHosts().get(0));
+      }
+    }
+    Assert.assertEquals(selectedHosts.size(), partitionCount);
+    return selectedHosts;
+  }
+
+  @Test
+  public void testLatencyAwareRoutingWithSkewedLatencies() throws RouterException {
+    Instance instance1 = Instance.fromNodeId("host1_1234");
+    Instance instance2 = Instance.fromNodeId("host2_1234");
+    Instance instance3 = Instance.fromNodeId("host3_1234");
+    List<Instance> replicas = new ArrayList<>();
+    replicas.add(instance1);
+    replicas.add(instance2);
+    replicas.add(instance3);
+
+    LatencyAwareReplicaSelector latencyAwareReplicaSelector =
+        LatencyAwareReplicaSelector.newBuilder().setSlowStartWindowMs(0).build();
+    // host2 is way slower than the others, so it always loses the power-of-two-choices
+    latencyAwareReplicaSelector.recordResponse(instance1.getNodeId(), 5, true);
+    latencyAwareReplicaSelector.recordResponse(instance2.getNodeId(), 200, true);
+    latencyAwareReplicaSelector.recordResponse(instance3.getNodeId(), 6, true);
+
+    Set<Instance> selectedHosts = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      selectedHosts
+          .addAll(scatterWithLatencyAwareRouting(latencyAwareReplicaSelector, RequestType.SINGLE_GET, replicas, 1));
+      selectedHosts
+          .addAll(scatterWithLatencyAwareRouting(latencyAwareReplicaSelector, RequestType.MULTI_GET, replicas, 3));
+    }
+    Assert.assertFalse(selectedHosts.contains(instance2), "The slow host shouldn't be selected");
+    Assert.assertTrue(selectedHosts.contains(instance1));
+    Assert.assertTrue(selectedHosts.contains(instance3));
+
+    // With only two replicas, the fast one is always picked
+    List<Instance> twoReplicas = new ArrayList<>();
+    twoReplicas.add(instance1);
+    twoReplicas.add(instance2);
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals(
+          scatterWithLatencyAwareRouting(latencyAwareReplicaSelector, RequestType.SINGLE_GET, twoReplicas, 1).get(0),
+          instance1);
+    }
+  }
+
+  @Test
+  public void testLatencyAwareRoutingWithoutLatencySamples() throws RouterException {
+    Instance instance1 = Instance.fromNodeId("host1_1234");
+    Instance instance2 = Instance.fromNodeId("host2_1234");
+    Instance instance3 = Instance.fromNodeId("host3_1234");
+    List<Instance> replicas = new ArrayList<>();
+    replicas.add(instance1);
+    replicas.add(instance2);
+    replicas.add(instance3);
+
+    // Without any latency sample, all the replicas share the traffic instead of a single one getting all of it
+    LatencyAwareReplicaSelector latencyAwareReplicaSelector =
+        LatencyAwareReplicaSelector.newBuilder().setSlowStartWindowMs(0).build();
+    Set<Instance> selectedHosts = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      selectedHosts
+          .addAll(scatterWithLatencyAwareRouting(latencyAwareReplicaSelector, RequestType.SINGLE_GET, replicas, 1));
+      selectedHosts
+          .addAll(scatterWithLatencyAwareRouting(latencyAwareReplicaSelector, RequestType.MULTI_GET, replicas, 3));
+    }
+    Assert.assertEquals(selectedHosts, new HashSet<>(replicas));
+  }
+
+  @Test(expectedExceptions = RouterException.class, expectedExceptionsMessageRegExp = ".*LatencyAwareReplicaSelector has not been setup yet")
+  public void testLatencyAwareRoutingWithoutReplicaSelector() throws RouterException {
+    scatterWithLatencyAwareRouting(
+        null,
+        RequestType.MULTI_GET,
+        Collections.singletonList(Instance.fromNodeId("host1_1234")),
+        1);
+  }
 }
@@ -1,13 +1,18 @@
 package com.linkedin.venice.router.api;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 
 import com.linkedin.alpini.router.api.ScatterGatherRequest;
 import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.reliability.LatencyAwareReplicaSelector;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.httpclient.PortableHttpResponse;
@@ -18,6 +23,7 @@ import com.linkedin.venice.router.stats.RouteHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import io.tehuti.metrics.MetricsRepository;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import org.apache.http.HttpStatus;
@@ -183,4 +189,48 @@ public class VeniceDispatcherTest {
       dispatcher.stop();
     }
   }
+
+  @Test
+  public void testLatencyAwareReplicaSelector() {
+    when(mockConfig.getMultiKeyRoutingStrategy()).thenReturn(VeniceMultiKeyRoutingStrategy.LEAST_LOADED_ROUTING);
+    VeniceDispatcher dispatcher = new VeniceDispatcher(
+        mockConfig,
+        mockStoreRepository,
+        mockPerStoreStats,
+        mockMetricsRepository,
+        mockStorageNodeClient,
+        mockRouteHttpRequestStats,
+        mockAggHostHealthStats,
+        mockRouterStats);
+    try {
+      assertNull(dispatcher.getLatencyAwareReplicaSelector());
+    } finally {
+      dispatcher.stop();
+    }
+
+    when(mockConfig.getMultiKeyRoutingStrategy()).thenReturn(VeniceMultiKeyRoutingStrategy.LATENCY_AWARE_ROUTING);
+    dispatcher = new VeniceDispatcher(
+        mockConfig,
+        mockStoreRepository,
+        mockPerStoreStats,
+        mockMetricsRepository,
+        mockStorageNodeClient,
+        mockRouteHttpRequestStats,
+        mockAggHostHealthStats,
+        mockRouterStats);
+    try {
+      LatencyAwareReplicaSelector latencyAwareReplicaSelector = dispatcher.getLatencyAwareReplicaSelector();
+      assertNotNull(latencyAwareReplicaSelector);
+      latencyAwareReplicaSelector.recordResponse("host1_1234", 10, true);
+      latencyAwareReplicaSelector.recordResponse("host2_1234", 10, true);
+      // The pending requests tracked by the router are part of the cost of each host
+      doReturn(100L).when(mockRouteHttpRequestStats).getPendingRequestCount("host1_1234");
+      doReturn(0L).when(mockRouteHttpRequestStats).getPendingRequestCount("host2_1234");
+      for (int i = 0; i < 10; i++) {
+        assertEquals(latencyAwareReplicaSelector.select(Arrays.asList("host1_1234", "host2_1234")), "host2_1234");
+      }
+    } finally {
+      dispatcher.stop();
+    }
+  }
 }
@@ -2,10 +2,12 @@ package com.linkedin.venice.router.api.path;
 
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 import com.linkedin.alpini.base.concurrency.Executors;
+import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.meta.NameRepository;
 import com.linkedin.venice.meta.RetryManager;
 import com.linkedin.venice.read.RequestType;
@@ -20,6 +22,8 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import java.time.Clock;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
@@ -255,4 +259,24 @@ public class TestVenicePath {
       }
     }
   }
+
+  @Test
+  public void testRequestDeadlinePropagation() {
+    TestMockTime time = new TestMockTime();
+    SmartRetryVenicePath orgPath = new SmartRetryVenicePath(time, disabledRetryManager);
+    Map<String, String> headers = new HashMap<>();
+    orgPath.setupVeniceHeaders(headers::put);
+    assertFalse(headers.containsKey(HttpConstants.VENICE_REQUEST_DEADLINE_MS));
+
+    long deadlineMs = System.currentTimeMillis() + 100;
+    orgPath.setRequestDeadlineMs(deadlineMs);
+    orgPath.setupVeniceHeaders(headers::put);
+    assertEquals(headers.get(HttpConstants.VENICE_REQUEST_DEADLINE_MS), Long.toString(deadlineMs));
+
+    // Sub-paths and retry paths share the deadline of the original request
+    SmartRetryVenicePath retryPath = new SmartRetryVenicePath(time, disabledRetryManager);
+    retryPath.setRetryRequest();
+    retryPath.setupRetryRelatedInfo(orgPath);
+    assertEquals(retryPath.getRequestDeadlineMs(), deadlineMs);
+  }
 }
@@ -181,10 +181,13 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
     } else {
       this.serverConnectionStatsHandler = null;
     }
-    if (serverConfig.isLoadControllerEnabled()) {
+    if (serverConfig.isLoadControllerEnabled() || serverConfig.isAdaptiveConcurrencyLimiterEnabled()) {
       this.loadControllerHandler =
           new ServerLoadControllerHandler(serverConfig, new ServerLoadStats(metricsRepository, "server_load"));
-      LOGGER.info("Server load controller is enabled");
+      LOGGER.info(
+          "Server load controller is enabled: {}, adaptive concurrency limiter is enabled: {}",
+          serverConfig.isLoadControllerEnabled(),
+          serverConfig.isAdaptiveConcurrencyLimiterEnabled());
     } else {
       this.loadControllerHandler = null;
       LOGGER.info("Server load controller is disabled");
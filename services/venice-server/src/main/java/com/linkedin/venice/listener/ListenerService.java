@@ -3,6 +3,7 @@ package com.linkedin.venice.listener;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.storage.DiskHealthCheckService;
+import com.linkedin.davinci.storage.HotKeySampler;
 import com.linkedin.davinci.storage.IngestionMetadataRetriever;
 import com.linkedin.davinci.storage.ReadMetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
@@ -18,6 +19,7 @@ import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.service.AbstractVeniceService;
+import com.linkedin.venice.stats.AggServerReadRequestSchedulerStats;
 import com.linkedin.venice.stats.ThreadPoolStats;
 import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
 import io.grpc.ServerInterceptor;
@@ -60,6 +62,7 @@ public class ListenerService extends AbstractVeniceService {
   private final ThreadPoolExecutor computeExecutor;
   private final ThreadPoolExecutor grpcExecutor;
   private ThreadPoolExecutor sslHandshakeExecutor;
+  private HotKeySampler hotKeySampler;
 
   // TODO: move netty config to a config file
   private static int nettyBacklogSize = 1000;
@@ -115,6 +118,19 @@ public class ListenerService extends AbstractVeniceService {
         diskHealthService,
         compressorFactory,
         resourceReadUsageTracker);
+    if (serverConfig.isReadRequestSchedulerEnabled()) {
+      requestHandler.setReadRequestSchedulers(
+          createReadRequestScheduler(executor, metricsRepository, "storage_execution"),
+          createReadRequestScheduler(computeExecutor, metricsRepository, "storage_compute"));
+      LOGGER.info("Read request scheduler is enabled");
+    }
+    if (serverConfig.isBlockCacheWarmupEnabled()) {
+      hotKeySampler = new HotKeySampler(
+          serverConfig.getBlockCacheWarmupHotKeyCountPerStore(),
+          serverConfig.getBlockCacheWarmupKeySamplingInterval());
+      requestHandler.setHotKeySampler(hotKeySampler);
+      LOGGER.info("Hot key sampling for block cache warm-up is enabled");
+    }
 
     HttpChannelInitializer channelInitializer = new HttpChannelInitializer(
         storeMetadataRepository,
@@ -217,6 +233,13 @@ public class ListenerService extends AbstractVeniceService {
     }
   }
 
+  /**
+   * @return the sampler of the keys being read, or null if block cache warm-up is disabled.
+   */
+  public HotKeySampler getHotKeySampler() {
+    return hotKeySampler;
+  }
+
   protected ThreadPoolExecutor createThreadPool(int threadCount, String threadNamePrefix, int capacity) {
     return ThreadPoolFactory.createThreadPool(
         threadCount,
@@ -226,6 +249,18 @@ public class ListenerService extends AbstractVeniceService {
         serverConfig.getBlockingQueueType());
   }
 
+  private StoreAwareReadRequestScheduler createReadRequestScheduler(
+      ThreadPoolExecutor threadPoolExecutor,
+      MetricsRepository metricsRepository,
+      String schedulerName) {
+    return new StoreAwareReadRequestScheduler(
+        threadPoolExecutor,
+        serverConfig.getReadRequestSchedulerStoreToWeightMap(),
+        serverConfig.getReadRequestSchedulerQueueDelaySloMs(),
+        serverConfig.getReadRequestSchedulerStoreToQueueDelaySloMsMap(),
+        new AggServerReadRequestSchedulerStats(serverConfig.getClusterName(), metricsRepository, schedulerName));
+  }
+
   protected StorageReadRequestHandler createRequestHandler(
       ThreadPoolExecutor executor,
       ThreadPoolExecutor computeExecutor,
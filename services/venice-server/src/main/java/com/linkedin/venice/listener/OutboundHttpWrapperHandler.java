@@ -18,6 +18,9 @@ import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.listener.response.AbstractReadResponse;
 import com.linkedin.venice.listener.response.BinaryResponse;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
+import com.linkedin.venice.listener.response.ScanResponse;
+import com.linkedin.venice.read.ScanProtocol;
+import com.linkedin.venice.utils.EncodingUtils;
 import com.linkedin.venice.utils.ExceptionUtils;
 import com.linkedin.venice.utils.ObjectMapperFactory;
 import io.netty.buffer.ByteBuf;
@@ -53,6 +56,7 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
     int responseRcu = 1;
     CompressionStrategy compressionStrategy = CompressionStrategy.NO_OP;
     boolean isStreamingResponse = false;
+    byte[] scanContinuationKey = null;
 
     FullHttpResponse response = null;
     try {
@@ -93,6 +97,11 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
         body = ((BinaryResponse) msg).getBody();
         contentType = HttpConstants.BINARY;
         responseStatus = ((BinaryResponse) msg).getStatus();
+      } else if (msg instanceof ScanResponse) {
+        ScanResponse scanResponse = (ScanResponse) msg;
+        body = scanResponse.getBody();
+        contentType = HttpConstants.BINARY;
+        scanContinuationKey = scanResponse.getContinuationKey();
       } else if (msg instanceof AdminResponse) {
         AdminResponse adminResponse = (AdminResponse) msg;
         if (!adminResponse.isError()) {
@@ -199,6 +208,9 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
     if (isStreamingResponse) {
       response.headers().set(HttpConstants.VENICE_STREAMING_RESPONSE, "1");
     }
+    if (scanContinuationKey != null) {
+      response.headers().set(ScanProtocol.CONTINUATION_HEADER, EncodingUtils.base64EncodeToString(scanContinuationKey));
+    }
 
     /** {@link io.netty.handler.timeout.IdleStateHandler} is in charge of detecting the state
      *  of connection, and {@link RouterRequestHttpHandler} will close the connection if necessary.
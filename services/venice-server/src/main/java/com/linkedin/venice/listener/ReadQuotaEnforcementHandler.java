@@ -9,6 +9,7 @@ import com.linkedin.davinci.store.StorageEngine;
 import com.linkedin.venice.exceptions.VeniceNoHelixResourceException;
 import com.linkedin.venice.helix.HelixCustomizedViewOfflinePushRepository;
 import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.listener.request.ScanRequest;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
 import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.Partition;
@@ -42,6 +43,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.IntSupplier;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -67,6 +69,7 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
   private final int enforcementCapacityMultiple; // Token bucket capacity is refill amount times this multiplier
   private final RateLimiterType storeVersionRateLimiterType;
   private final boolean quotaInitializationFallbackEnabled;
+  private final int scanMaxRecordsPerRequest;
   /**
    * Used for quota allocation when global view of the partition/replica assignment is not available.
    */
@@ -105,6 +108,7 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
     this.enforcementCapacityMultiple = serverConfig.getQuotaEnforcementCapacityMultiple();
     this.storeVersionRateLimiterType = serverConfig.getStoreVersionQpsRateLimiterType();
     this.quotaInitializationFallbackEnabled = serverConfig.isReadQuotaInitializationFallbackEnabled();
+    this.scanMaxRecordsPerRequest = serverConfig.getScanMaxRecordsPerRequest();
     this.clock = clock;
     this.thisNodeId = nodeId;
     this.storageNodeRateLimiter = getRateLimiter(
@@ -246,7 +250,31 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
    * @return QuotaEnforcementResult
    */
   public QuotaEnforcementResult enforceQuota(RouterRequest request) {
-    String storeName = request.getStoreName();
+    return enforceQuota(
+        request.getStoreName(),
+        request.getResourceName(),
+        request.isRetryRequest(),
+        () -> getRcu(request));
+  }
+
+  /**
+   * Enforce quota for a page of a scan. The page is charged upfront with the most records it can return, i.e. the
+   * limit of the request capped by the server side max records per scan request, as the actual count is only known
+   * once the records have been read.
+   */
+  public QuotaEnforcementResult enforceQuota(ScanRequest request) {
+    return enforceQuota(request.getStoreName(), request.getResourceName(), false, () -> getScanRcu(request));
+  }
+
+  int getScanRcu(ScanRequest request) {
+    return Math.max(1, Math.min(request.getLimit(), scanMaxRecordsPerRequest));
+  }
+
+  private QuotaEnforcementResult enforceQuota(
+      String storeName,
+      String resourceName,
+      boolean isRetryRequest,
+      IntSupplier readCapacityUnitsSupplier) {
     Store store = storeRepository.getStore(storeName);
     if (store == null) {
       return QuotaEnforcementResult.BAD_REQUEST;
@@ -259,8 +287,8 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
       return QuotaEnforcementResult.ALLOWED;
     }
 
-    int readCapacityUnits = getRcu(request);
-    int version = Version.parseVersionFromKafkaTopicName(request.getResourceName());
+    int readCapacityUnits = readCapacityUnitsSupplier.getAsInt();
+    int version = Version.parseVersionFromKafkaTopicName(resourceName);
     if (!isInitialized()) {
       stats.recordAllowedUnintentionally(storeName, version, readCapacityUnits);
       return QuotaEnforcementResult.ALLOWED;
@@ -269,10 +297,10 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
     /*
      * First check per store version level quota; don't throttle retried request at store version level
      */
-    VeniceRateLimiter veniceRateLimiter = storeVersionRateLimiters.get(request.getResourceName());
+    VeniceRateLimiter veniceRateLimiter = storeVersionRateLimiters.get(resourceName);
     if (veniceRateLimiter != null) {
-      if (!request.isRetryRequest() && !veniceRateLimiter.tryAcquirePermit(readCapacityUnits)) {
-        stats.recordRejected(request.getStoreName(), version, readCapacityUnits);
+      if (!isRetryRequest && !veniceRateLimiter.tryAcquirePermit(readCapacityUnits)) {
+        stats.recordRejected(storeName, version, readCapacityUnits);
         return QuotaEnforcementResult.REJECTED;
       }
     } else {
@@ -293,31 +321,53 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
     return QuotaEnforcementResult.ALLOWED;
   }
 
+  @Override
+  public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+    if (msg instanceof ScanRequest) {
+      ScanRequest request = (ScanRequest) msg;
+      if (handleQuotaEnforcementResult(ctx, enforceQuota(request), request.getResourceName())) {
+        ctx.fireChannelRead(request);
+      }
+      return;
+    }
+    super.channelRead(ctx, msg);
+  }
+
   @Override
   public void channelRead0(ChannelHandlerContext ctx, RouterRequest request) {
-    QuotaEnforcementResult result = enforceQuota(request);
+    if (handleQuotaEnforcementResult(ctx, enforceQuota(request), request.getResourceName())) {
+      // If we reach here, the request is allowed; retain the request and pass it to the next handler
+      ReferenceCountUtil.retain(request);
+      ctx.fireChannelRead(request);
+    }
+  }
 
+  /**
+   * Sends the error response of a rejected request.
+   * @return whether the request is allowed and should be passed to the next handler
+   */
+  private boolean handleQuotaEnforcementResult(
+      ChannelHandlerContext ctx,
+      QuotaEnforcementResult result,
+      String resourceName) {
     if (result == QuotaEnforcementResult.BAD_REQUEST) {
       ctx.writeAndFlush(
           new HttpShortcutResponse(
-              INVALID_REQUEST_RESOURCE_MSG + request.getResourceName(),
+              INVALID_REQUEST_RESOURCE_MSG + resourceName,
               HttpResponseStatus.BAD_REQUEST));
-      return;
+      return false;
     }
 
     if (result == QuotaEnforcementResult.REJECTED) {
       ctx.writeAndFlush(new HttpShortcutResponse(HttpResponseStatus.TOO_MANY_REQUESTS));
-      return;
+      return false;
     }
 
     if (result == QuotaEnforcementResult.OVER_CAPACITY) {
       ctx.writeAndFlush(new HttpShortcutResponse(SERVER_OVER_CAPACITY_MSG, HttpResponseStatus.SERVICE_UNAVAILABLE));
-      return;
+      return false;
     }
-
-    // If we reach here, the request is allowed; retain the request and pass it to the next handler
-    ReferenceCountUtil.retain(request);
-    ctx.fireChannelRead(request);
+    return true;
   }
 
   @Override
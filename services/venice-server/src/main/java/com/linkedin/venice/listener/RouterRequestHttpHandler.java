@@ -11,6 +11,7 @@ import com.linkedin.venice.listener.request.HeartbeatRequest;
 import com.linkedin.venice.listener.request.MetadataFetchRequest;
 import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
 import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.listener.request.ScanRequest;
 import com.linkedin.venice.listener.request.StorePropertiesFetchRequest;
 import com.linkedin.venice.listener.request.TopicPartitionIngestionContextRequest;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
@@ -158,6 +159,11 @@ public class RouterRequestHttpHandler extends SimpleChannelInboundHandler<FullHt
           HeartbeatRequest heartbeatRequest = HeartbeatRequest.parseGetHttpRequest(uri.getPath(), requestParts);
           ctx.fireChannelRead(heartbeatRequest);
           break;
+        case SCAN:
+          ScanRequest scanRequest = ScanRequest.parseGetHttpRequest(req.uri(), requestParts);
+          statsHandler.setStoreName(scanRequest.getStoreName());
+          ctx.fireChannelRead(scanRequest);
+          break;
         default:
           throw new VeniceException("Unrecognized query action");
       }
@@ -4,15 +4,21 @@ import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
 import com.linkedin.venice.meta.QueryAction;
+import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.reliability.AdaptiveConcurrencyLimiter;
 import com.linkedin.venice.reliability.LoadController;
+import com.linkedin.venice.request.RequestHelper;
 import com.linkedin.venice.stats.ServerLoadStats;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.util.AttributeKey;
 import io.netty.util.ReferenceCountUtil;
+import java.net.URI;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -22,11 +28,22 @@ import org.apache.logging.log4j.Logger;
  * If there are many requests, which are suffering from the high latency, the server will
  * start rejecting the requests and return the service overloaded response, so that the
  * clients can back off upon overloaded signals.
+ *
+ * Optionally, this handler can also enforce an adaptive concurrency limit through {@link AdaptiveConcurrencyLimiter},
+ * which estimates the optimal number of in-flight read requests from the observed latency and partitions it fairly
+ * across stores. The excess requests are rejected with the same service overloaded response, which is retriable
+ * by both Router and Fast Client.
  */
 @ChannelHandler.Sharable
 public class ServerLoadControllerHandler extends SimpleChannelInboundHandler<HttpRequest> {
   private static final Logger LOGGER = LogManager.getLogger(ServerLoadControllerHandler.class);
   private static final String STORAGE_QUERY_ACTION = QueryAction.STORAGE.toString().toLowerCase();
+  private static final String COMPUTE_QUERY_ACTION = QueryAction.COMPUTE.toString().toLowerCase();
+  /**
+   * The store name of the permit acquired from the adaptive concurrency limiter for the ongoing request of the channel.
+   */
+  static final AttributeKey<String> ADAPTIVE_CONCURRENCY_PERMIT_KEY =
+      AttributeKey.valueOf("adaptive-concurrency-permit");
 
   public static final HttpResponseStatus OVERLOADED_RESPONSE_STATUS =
       new HttpResponseStatus(HttpConstants.SC_SERVICE_OVERLOADED, "Service Overloaded");
@@ -34,39 +51,104 @@ public class ServerLoadControllerHandler extends SimpleChannelInboundHandler<Htt
 
   private final VeniceServerConfig serverConfig;
   private final LoadController loadController;
+  private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
   private final ServerLoadStats loadStats;
 
   public ServerLoadControllerHandler(VeniceServerConfig serverConfig, ServerLoadStats loadStats) {
     this.serverConfig = serverConfig;
-    this.loadController = LoadController.newBuilder()
-        .setWindowSizeInSec(serverConfig.getLoadControllerWindowSizeInSec())
-        .setAcceptMultiplier(serverConfig.getLoadControllerAcceptMultiplier())
-        .setMaxRejectionRatio(serverConfig.getLoadControllerMaxRejectionRatio())
-        .setRejectionRatioUpdateIntervalInSec(serverConfig.getLoadControllerRejectionRatioUpdateIntervalInSec())
-        .build();
+    if (serverConfig.isLoadControllerEnabled()) {
+      this.loadController = LoadController.newBuilder()
+          .setWindowSizeInSec(serverConfig.getLoadControllerWindowSizeInSec())
+          .setAcceptMultiplier(serverConfig.getLoadControllerAcceptMultiplier())
+          .setMaxRejectionRatio(serverConfig.getLoadControllerMaxRejectionRatio())
+          .setRejectionRatioUpdateIntervalInSec(serverConfig.getLoadControllerRejectionRatioUpdateIntervalInSec())
+          .build();
+    } else {
+      this.loadController = null;
+    }
+    if (serverConfig.isAdaptiveConcurrencyLimiterEnabled()) {
+      this.adaptiveConcurrencyLimiter = AdaptiveConcurrencyLimiter.newBuilder()
+          .setInitialLimit(serverConfig.getAdaptiveConcurrencyLimiterInitialLimit())
+          .setMinLimit(serverConfig.getAdaptiveConcurrencyLimiterMinLimit())
+          .setMaxLimit(serverConfig.getAdaptiveConcurrencyLimiterMaxLimit())
+          .setRttTolerance(serverConfig.getAdaptiveConcurrencyLimiterRttTolerance())
+          .setSampleWindowMs(serverConfig.getAdaptiveConcurrencyLimiterSampleWindowMs())
+          .build();
+      LOGGER.info(
+          "Adaptive concurrency limiter is enabled with initial limit: {}, limit range: [{}, {}]",
+          serverConfig.getAdaptiveConcurrencyLimiterInitialLimit(),
+          serverConfig.getAdaptiveConcurrencyLimiterMinLimit(),
+          serverConfig.getAdaptiveConcurrencyLimiterMaxLimit());
+    } else {
+      this.adaptiveConcurrencyLimiter = null;
+    }
     this.loadStats = loadStats;
   }
 
   @Override
   protected void channelRead0(ChannelHandlerContext ctx, HttpRequest msg) throws Exception {
-    if (!msg.uri().contains(STORAGE_QUERY_ACTION)) {
-      ReferenceCountUtil.retain(msg);
-      ctx.fireChannelRead(msg);
-      return;
-    }
+    String uri = msg.uri();
+    boolean isStorageRequest = uri.contains(STORAGE_QUERY_ACTION);
     // Only throttle regular requests
-    loadStats.recordRejectionRatio(loadController.getRejectionRatio());
+    if (loadController != null && isStorageRequest) {
+      loadStats.recordRejectionRatio(loadController.getRejectionRatio());
 
-    if (loadController.shouldRejectRequest()) {
-      loadStats.recordRejectedRequest();
-      ctx.writeAndFlush(new HttpShortcutResponse(SERVICE_OVERLOADED_MESSAGE, OVERLOADED_RESPONSE_STATUS));
-    } else {
-      ReferenceCountUtil.retain(msg);
-      ctx.fireChannelRead(msg);
+      if (loadController.shouldRejectRequest()) {
+        loadStats.recordRejectedRequest();
+        ctx.writeAndFlush(new HttpShortcutResponse(SERVICE_OVERLOADED_MESSAGE, OVERLOADED_RESPONSE_STATUS));
+        return;
+      }
+    }
+    if (adaptiveConcurrencyLimiter != null && (isStorageRequest || uri.contains(COMPUTE_QUERY_ACTION))) {
+      String storeName = getStoreName(uri);
+      if (storeName != null) {
+        if (!adaptiveConcurrencyLimiter.tryAcquire(storeName)) {
+          loadStats.recordAdaptiveConcurrencyRejectedRequest();
+          ctx.writeAndFlush(new HttpShortcutResponse(SERVICE_OVERLOADED_MESSAGE, OVERLOADED_RESPONSE_STATUS));
+          return;
+        }
+        String previousStoreName = ctx.channel().attr(ADAPTIVE_CONCURRENCY_PERMIT_KEY).getAndSet(storeName);
+        if (previousStoreName != null) {
+          // Shouldn't happen since the permit is released once the response is flushed, but be defensive.
+          adaptiveConcurrencyLimiter.release(previousStoreName);
+        }
+      }
+    }
+    ReferenceCountUtil.retain(msg);
+    ctx.fireChannelRead(msg);
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    // Release the permit if the channel is closed before the response is sent out.
+    releaseAdaptiveConcurrencyPermit(ctx.channel());
+    super.channelInactive(ctx);
+  }
+
+  /**
+   * This function is invoked once the response of the request on the given channel is flushed.
+   */
+  public void recordLatency(Channel channel, RequestType requestType, double latency, int responseStatusCode) {
+    if (adaptiveConcurrencyLimiter != null && releaseAdaptiveConcurrencyPermit(channel)) {
+      /**
+       * Only the latency of the requests served normally reflects the capacity of the server, and the quota rejected
+       * requests or the failed requests are excluded.
+       */
+      if (responseStatusCode == HttpResponseStatus.OK.code()
+          || responseStatusCode == HttpResponseStatus.NOT_FOUND.code()) {
+        adaptiveConcurrencyLimiter.recordLatency(latency);
+      }
+      loadStats.recordAdaptiveConcurrencyLimit(
+          adaptiveConcurrencyLimiter.getLimit(),
+          adaptiveConcurrencyLimiter.getInFlightCount());
     }
+    recordLatency(requestType, latency, responseStatusCode);
   }
 
   public void recordLatency(RequestType requestType, double latency, int responseStatusCode) {
+    if (loadController == null) {
+      return;
+    }
     /**
      * Only record the request when the response is available to avoid rejecting many requests at startup time.
      */
@@ -98,8 +180,41 @@ public class ServerLoadControllerHandler extends SimpleChannelInboundHandler<Htt
 
   }
 
+  private boolean releaseAdaptiveConcurrencyPermit(Channel channel) {
+    if (adaptiveConcurrencyLimiter == null) {
+      return false;
+    }
+    String storeName = channel.attr(ADAPTIVE_CONCURRENCY_PERMIT_KEY).getAndSet(null);
+    if (storeName == null) {
+      return false;
+    }
+    adaptiveConcurrencyLimiter.release(storeName);
+    return true;
+  }
+
+  /**
+   * The uri of the read request is in the format of "/storage/{resource_name}/..." or "/compute/{resource_name}".
+   * A malformed uri is treated as a request without store, and it will be rejected by the downstream handlers.
+   */
+  static String getStoreName(String uri) {
+    String[] requestParts;
+    try {
+      requestParts = RequestHelper.getRequestParts(URI.create(uri));
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+    if (requestParts.length < 3 || requestParts[2].isEmpty()) {
+      return null;
+    }
+    return Version.parseStoreFromKafkaTopicName(requestParts[2]);
+  }
+
   // For testing purpose
   LoadController getLoadController() {
     return loadController;
   }
+
+  AdaptiveConcurrencyLimiter getAdaptiveConcurrencyLimiter() {
+    return adaptiveConcurrencyLimiter;
+  }
 }
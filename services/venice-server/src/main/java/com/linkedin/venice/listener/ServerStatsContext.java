@@ -209,6 +209,7 @@ public class ServerStatsContext {
     if (this.isRequestTerminatedEarly) {
       // Tehuti-only: OTel captures this via READ_CALL_COUNT with HTTP 408 status dimension
       serverHttpRequestStats.recordEarlyTerminatedEarlyRequest();
+      consumeIntIfAbove(serverHttpRequestStats::recordEarlyTerminatedKeyCount, this.requestKeyCount, 0);
     }
     if (flushLatency >= 0) {
       serverHttpRequestStats.recordFlushLatency(flushLatency);
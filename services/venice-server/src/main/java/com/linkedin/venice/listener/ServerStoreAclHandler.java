@@ -153,12 +153,14 @@ public class ServerStoreAclHandler extends AbstractStoreAclHandler<QueryAction>
   }
 
   /**
-   * In Venice Server, the resource name is actually a Kafka topic name for STORAGE/COMPUTE but store name for DICTIONARY.
+   * In Venice Server, the resource name is actually a Kafka topic name for STORAGE/COMPUTE/SCAN but store name for
+   * DICTIONARY.
    */
   private String extractStoreName(String resourceName, QueryAction queryAction) {
     switch (queryAction) {
       case STORAGE:
       case COMPUTE:
+      case SCAN:
         return Version.parseStoreFromKafkaTopicName(resourceName);
       case DICTIONARY:
         return resourceName;
@@ -130,6 +130,7 @@ public class StatsHandler extends ChannelDuplexHandler {
         }
         if (loadControllerHandler != null) {
           loadControllerHandler.recordLatency(
+              ctx.channel(),
               serverStatsContext.getRequestType(),
               elapsedTime,
               serverStatsContext.getResponseStatus().code());
@@ -13,12 +13,14 @@ import com.linkedin.davinci.listener.response.ReplicaIngestionResponse;
 import com.linkedin.davinci.listener.response.ServerCurrentVersionResponse;
 import com.linkedin.davinci.listener.response.StorePropertiesPayload;
 import com.linkedin.davinci.storage.DiskHealthCheckService;
+import com.linkedin.davinci.storage.HotKeySampler;
 import com.linkedin.davinci.storage.IngestionMetadataRetriever;
 import com.linkedin.davinci.storage.ReadMetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.chunking.BatchGetChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
+import com.linkedin.davinci.store.AbstractStorageIterator;
 import com.linkedin.davinci.store.StorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
@@ -45,6 +47,7 @@ import com.linkedin.venice.listener.request.MetadataFetchRequest;
 import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
 import com.linkedin.venice.listener.request.MultiKeyRouterRequestWrapper;
 import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.listener.request.ScanRequest;
 import com.linkedin.venice.listener.request.StorePropertiesFetchRequest;
 import com.linkedin.venice.listener.request.TopicPartitionIngestionContextRequest;
 import com.linkedin.venice.listener.response.BinaryResponse;
@@ -53,6 +56,7 @@ import com.linkedin.venice.listener.response.HttpShortcutResponse;
 import com.linkedin.venice.listener.response.MultiGetResponseWrapper;
 import com.linkedin.venice.listener.response.MultiKeyResponseWrapper;
 import com.linkedin.venice.listener.response.ParallelMultiKeyResponseWrapper;
+import com.linkedin.venice.listener.response.ScanResponse;
 import com.linkedin.venice.listener.response.SingleGetResponseWrapper;
 import com.linkedin.venice.listener.response.stats.ComputeResponseStatsWithSizeProfiling;
 import com.linkedin.venice.listener.response.stats.MultiGetResponseStatsWithSizeProfiling;
@@ -60,6 +64,7 @@ import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.read.ScanProtocol;
 import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.schema.SchemaData;
@@ -71,6 +76,7 @@ import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.streaming.StreamingConstants;
 import com.linkedin.venice.streaming.StreamingUtils;
+import com.linkedin.venice.utils.ArrayUtils;
 import com.linkedin.venice.utils.AvroRecordUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.ComplementSet;
@@ -78,11 +84,14 @@ import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
 import com.linkedin.venice.utils.StoreVersionStateUtils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -94,6 +103,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.function.Supplier;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -111,6 +121,11 @@ import org.apache.logging.log4j.Logger;
 @ChannelHandler.Sharable
 public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private static final Logger LOGGER = LogManager.getLogger(StorageReadRequestHandler.class);
+  /**
+   * The number of keys looked up between two deadline checks in a multi-key request, so that a request past its
+   * deadline stops in the middle of the batch without checking the clock for every key.
+   */
+  private static final int DEADLINE_CHECK_KEY_INTERVAL = 16;
   private static final RedundantExceptionFilter REDUNDANT_LOGGING_FILTER =
       RedundantExceptionFilter.getRedundantExceptionFilter();
   private final DiskHealthCheckService diskHealthCheckService;
@@ -131,6 +146,16 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       new VeniceConcurrentHashMap<>();
   private final StorageEngineBackedCompressorFactory compressorFactory;
   private final Consumer<String> resourceReadUsageTracker;
+  /**
+   * Optional schedulers in front of {@link #executor} and {@link #computeExecutor} to isolate the stores from each
+   * other, and the tasks are submitted to the executors directly if they are not set.
+   */
+  private StoreAwareReadRequestScheduler storageScheduler;
+  private StoreAwareReadRequestScheduler computeScheduler;
+  /**
+   * Optional sampler of the keys being read, which is used to pre-warm the block cache of the future versions.
+   */
+  private HotKeySampler hotKeySampler;
 
   /**
    * The function handles below are used to drive the K/V size profiling, which is enabled (or not) by an immutable
@@ -323,6 +348,16 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           }
           HttpResponseStatus status = getHttpResponseStatus(e);
           context.writeAndFlush(new HttpShortcutResponse("No storage exists for: " + e.getStoreName(), status));
+        } else if (throwable instanceof VeniceRequestQueueDelayExceededException) {
+          VeniceRequestQueueDelayExceededException e = (VeniceRequestQueueDelayExceededException) throwable;
+          String msg = "Request queue delay exceeded for store: " + e.getStoreName();
+          if (!REDUNDANT_LOGGING_FILTER.isRedundantException(msg)) {
+            LOGGER.warn(msg, e);
+          }
+          context.writeAndFlush(
+              new HttpShortcutResponse(
+                  e.getMessage(),
+                  VeniceRequestQueueDelayExceededException.getHttpResponseStatus()));
         } else if (throwable instanceof VeniceRequestEarlyTerminationException) {
           VeniceRequestEarlyTerminationException e = (VeniceRequestEarlyTerminationException) throwable;
           String msg = "Request timed out for store: " + e.getStoreName();
@@ -399,6 +434,42 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     } else if (message instanceof HeartbeatRequest) {
       ReplicaIngestionResponse response = handleHeartbeatRequest((HeartbeatRequest) message);
       context.writeAndFlush(response);
+    } else if (message instanceof ScanRequest) {
+      ScanRequest request = (ScanRequest) message;
+      if (!serverConfig.isScanEnabled()) {
+        context.writeAndFlush(
+            new HttpShortcutResponse(
+                "Scan is not enabled on this storage node",
+                HttpResponseStatus.METHOD_NOT_ALLOWED));
+        return;
+      }
+      this.resourceReadUsageTracker.accept(request.getResourceName());
+      handleScanRequest(request).whenComplete((response, throwable) -> {
+        if (throwable == null) {
+          context.writeAndFlush(response);
+          return;
+        }
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+          throwable = throwable.getCause();
+        }
+        if (throwable instanceof VeniceNoStoreException) {
+          VeniceNoStoreException e = (VeniceNoStoreException) throwable;
+          context.writeAndFlush(
+              new HttpShortcutResponse("No storage exists for: " + e.getStoreName(), getHttpResponseStatus(e)));
+        } else if (throwable instanceof OperationNotAllowedException) {
+          context
+              .writeAndFlush(new HttpShortcutResponse(throwable.getMessage(), HttpResponseStatus.METHOD_NOT_ALLOWED));
+        } else {
+          LOGGER.error(
+              "Exception thrown for scan request of partition: {} of: {} from: {}",
+              request.getPartition(),
+              request.getResourceName(),
+              context.channel(),
+              throwable);
+          context.writeAndFlush(
+              new HttpShortcutResponse(throwable.getMessage(), HttpResponseStatus.INTERNAL_SERVER_ERROR));
+        }
+      });
     } else {
       context.writeAndFlush(
           new HttpShortcutResponse(
@@ -459,6 +530,33 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     return new PerStoreVersionState(storageEngine, storeDeserializerCache);
   }
 
+  /**
+   * Set up the schedulers to enforce the weighted fair sharing of {@link #executor} and {@link #computeExecutor} across
+   * stores, and it should be invoked before serving any traffic.
+   */
+  public void setReadRequestSchedulers(
+      StoreAwareReadRequestScheduler storageScheduler,
+      StoreAwareReadRequestScheduler computeScheduler) {
+    this.storageScheduler = storageScheduler;
+    this.computeScheduler = computeScheduler;
+  }
+
+  public void setHotKeySampler(HotKeySampler hotKeySampler) {
+    this.hotKeySampler = hotKeySampler;
+  }
+
+  private static <T> CompletableFuture<T> submitReadTask(
+      StoreAwareReadRequestScheduler scheduler,
+      ThreadPoolExecutor threadPoolExecutor,
+      String storeName,
+      int cost,
+      Supplier<T> task) {
+    if (scheduler == null) {
+      return CompletableFuture.supplyAsync(task, threadPoolExecutor);
+    }
+    return scheduler.submit(storeName, cost, task);
+  }
+
   private StorageEngine getStorageEngineOrThrow(String storeVersion) {
     StorageEngine storageEngine = storageEngineRepository.getLocalStorageEngine(storeVersion);
     if (storageEngine == null) {
@@ -470,7 +568,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   public CompletableFuture<ReadResponse> handleSingleGetRequest(GetRouterRequest request) {
     final int queueLen = this.executor.getQueue().size();
     final long preSubmissionTimeNs = System.nanoTime();
-    return CompletableFuture.supplyAsync(() -> {
+    return submitReadTask(storageScheduler, executor, request.getStoreName(), 1, () -> {
       if (request.shouldRequestBeTerminatedEarly()) {
         throw new VeniceRequestEarlyTerminationException(request.getStoreName());
       }
@@ -480,6 +578,9 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       String topic = request.getResourceName();
       PerStoreVersionState perStoreVersionState = getPerStoreVersionState(topic);
       byte[] key = request.getKeyBytes();
+      if (hotKeySampler != null) {
+        hotKeySampler.sample(request.getStoreName(), key);
+      }
 
       StorageEngine storageEngine = perStoreVersionState.storageEngine;
       StoreVersionState svs = perStoreVersionState.storageEngine.getStoreVersionState();
@@ -500,7 +601,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       response.getStats().setStorageExecutionQueueLen(queueLen);
 
       return response;
-    }, executor);
+    });
   }
 
   private CompletableFuture<ReadResponse> handleMultiGetRequestInParallel(MultiGetRouterRequestWrapper request) {
@@ -513,6 +614,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         request,
         ParallelMultiKeyResponseWrapper::multiGet,
         this.multiGetResponseProvider,
+        this.storageScheduler,
         this.executor,
         requestContext,
         this::processMultiGet);
@@ -532,6 +634,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       MultiKeyRouterRequestWrapper request,
       ParallelResponseProvider<R> parallelResponseProvider,
       IntFunction<R> individualResponseProvider,
+      StoreAwareReadRequestScheduler scheduler,
       ThreadPoolExecutor threadPoolExecutor,
       C requestContext,
       SingleBatchProcessor<K, C, R> batchProcessor) {
@@ -543,28 +646,35 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
 
     CompletableFuture<Void>[] chunkFutures = new CompletableFuture[chunkCount];
 
+    final String storeName = request.getStoreName();
     final int queueLen = threadPoolExecutor.getQueue().size();
     final long preSubmissionTimeNs = System.nanoTime();
     for (int cur = 0; cur < chunkCount; ++cur) {
       final int finalCur = cur;
-      chunkFutures[cur] = CompletableFuture.runAsync(() -> {
+      final int startPos = finalCur * this.parallelBatchGetChunkSize;
+      final int endPos = Math.min((finalCur + 1) * this.parallelBatchGetChunkSize, totalKeyNum);
+      chunkFutures[cur] = submitReadTask(scheduler, threadPoolExecutor, storeName, endPos - startPos, () -> {
         double submissionWaitTime = LatencyUtils.getElapsedTimeFromNSToMS(preSubmissionTimeNs);
 
         if (request.shouldRequestBeTerminatedEarly()) {
           throw new VeniceRequestEarlyTerminationException(request.getStoreName());
         }
 
-        int startPos = finalCur * this.parallelBatchGetChunkSize;
-        int endPos = Math.min((finalCur + 1) * this.parallelBatchGetChunkSize, totalKeyNum);
         R chunkOfResponse = responseWrapper.getChunk(finalCur);
         batchProcessor.process(startPos, endPos, keys, requestContext, chunkOfResponse);
 
         chunkOfResponse.getStats().setStorageExecutionSubmissionWaitTime(submissionWaitTime);
-      }, threadPoolExecutor);
+        return null;
+      });
     }
 
     return CompletableFuture.allOf(chunkFutures).handle((v, e) -> {
       if (e != null) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof VeniceRequestQueueDelayExceededException) {
+          // Keep the original exception, so the request can be rejected with the retriable status.
+          throw (VeniceRequestQueueDelayExceededException) cause;
+        }
         throw new VeniceException(e);
       }
 
@@ -573,6 +683,17 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     });
   }
 
+  /**
+   * Stop the lookups of a multi-key request in the middle of the batch once it is past its deadline, since the
+   * partial response will be discarded anyway.
+   */
+  private static void checkDeadline(RequestContext requestContext, int startPos, int cur) {
+    if (cur > startPos && (cur - startPos) % DEADLINE_CHECK_KEY_INTERVAL == 0
+        && requestContext.request.shouldRequestBeTerminatedEarly()) {
+      throw new VeniceRequestEarlyTerminationException(requestContext.request.getStoreName());
+    }
+  }
+
   private void processMultiGet(
       int startPos,
       int endPos,
@@ -582,8 +703,12 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     MultiGetRouterRequestKeyV1 key;
     MultiGetResponseRecordV1 record;
     for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
+      checkDeadline(requestContext, startPos, subChunkCur);
       key = keys.get(subChunkCur);
       response.getStats().addKeySize(key.getKeyBytes().remaining());
+      if (hotKeySampler != null) {
+        hotKeySampler.sample(requestContext.request.getStoreName(), key.getKeyBytes());
+      }
       record = BatchGetChunkingAdapter.get(
           requestContext.storeVersion.storageEngine,
           key.partitionId,
@@ -615,7 +740,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   public CompletableFuture<ReadResponse> handleMultiGetRequest(MultiGetRouterRequestWrapper request) {
     final int queueLen = this.executor.getQueue().size();
     final long preSubmissionTimeNs = System.nanoTime();
-    return CompletableFuture.supplyAsync(() -> {
+    return submitReadTask(storageScheduler, executor, request.getStoreName(), request.getKeyCount(), () -> {
       double submissionWaitTime = LatencyUtils.getElapsedTimeFromNSToMS(preSubmissionTimeNs);
 
       if (request.shouldRequestBeTerminatedEarly()) {
@@ -632,7 +757,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       responseWrapper.getStats().setStorageExecutionSubmissionWaitTime(submissionWaitTime);
       responseWrapper.getStats().setStorageExecutionQueueLen(queueLen);
       return responseWrapper;
-    }, executor);
+    });
   }
 
   private CompletableFuture<ReadResponse> handleComputeRequest(ComputeRouterRequestWrapper request) {
@@ -646,7 +771,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
 
     final int queueLen = this.computeExecutor.getQueue().size();
     final long preSubmissionTimeNs = System.nanoTime();
-    return CompletableFuture.supplyAsync(() -> {
+    return submitReadTask(computeScheduler, computeExecutor, request.getStoreName(), request.getKeyCount(), () -> {
       if (request.shouldRequestBeTerminatedEarly()) {
         throw new VeniceRequestEarlyTerminationException(request.getStoreName());
       }
@@ -662,7 +787,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       response.getStats().setStorageExecutionSubmissionWaitTime(submissionWaitTime);
       response.getStats().setStorageExecutionQueueLen(queueLen);
       return response;
-    }, computeExecutor);
+    });
   }
 
   private CompletableFuture<ReadResponse> handleComputeRequestInParallel(ComputeRouterRequestWrapper request) {
@@ -683,6 +808,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         request,
         ParallelMultiKeyResponseWrapper::compute,
         this.computeResponseProvider,
+        this.computeScheduler,
         this.computeExecutor,
         requestContext,
         this::processCompute);
@@ -693,12 +819,14 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
    * subtasks of the same query, as is the case when executing batch get and compute requests in parallel chunks.
    */
   private static class RequestContext {
+    final MultiKeyRouterRequestWrapper request;
     final PerStoreVersionState storeVersion;
     final boolean isChunked;
     final boolean isStreaming;
     final CompressionStrategy compressionStrategy;
 
     RequestContext(MultiKeyRouterRequestWrapper request, StorageReadRequestHandler handler) {
+      this.request = request;
       this.storeVersion = handler.getPerStoreVersionState(request.getResourceName());
       StoreVersionState svs = storeVersion.storageEngine.getStoreVersionState();
       this.isChunked = StoreVersionStateUtils.isChunked(svs);
@@ -751,8 +879,12 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     ComputeRouterRequestKeyV1 key;
     ComputeResponseRecordV1 record;
     for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
+      checkDeadline(requestContext, startPos, subChunkCur);
       key = keys.get(subChunkCur);
       response.getStats().addKeySize(key.getKeyBytes().remaining());
+      if (hotKeySampler != null) {
+        hotKeySampler.sample(requestContext.request.getStoreName(), key.getKeyBytes());
+      }
       AvroRecordUtils.clearRecord(reusableResultRecord);
       reusableValueRecord = GenericRecordChunkingAdapter.INSTANCE.get(
           requestContext.storeVersion.storageEngine,
@@ -807,6 +939,83 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     incrementOperatorCounters(response.getStats(), requestContext.operations, hits);
   }
 
+  /**
+   * Scan the key prefix or key range of the given partition in key order with the bounded readahead of the storage
+   * iterator, and stop at the first record exceeding the record or byte limit of a single request, so that a scan over
+   * a large key range is served page by page without holding a thread or a large buffer for long.
+   */
+  CompletableFuture<ScanResponse> handleScanRequest(ScanRequest request) {
+    int maxRecordCount = Math.min(request.getLimit(), serverConfig.getScanMaxRecordsPerRequest());
+    long maxBytes = serverConfig.getScanMaxBytesPerRequest();
+    return submitReadTask(storageScheduler, executor, request.getStoreName(), maxRecordCount, () -> {
+      StorageEngine storageEngine = getStorageEngineOrThrow(request.getResourceName());
+      StoreVersionState svs = storageEngine.getStoreVersionState();
+      if (StoreVersionStateUtils.isChunked(svs)) {
+        // The keys of a chunked store are suffixed, and the values could be spread across multiple chunks
+        throw new OperationNotAllowedException(
+            "Scan is not supported by chunked store version: " + request.getResourceName());
+      }
+      VeniceCompressor compressor = compressorFactory.getCompressor(
+          StoreVersionStateUtils.getCompressionStrategy(svs),
+          request.getResourceName(),
+          serverConfig.getZstdDictCompressionLevel());
+      byte[] prefix = request.getPrefix();
+      byte[] seekKey = max(max(prefix, request.getStartKey()), request.getContinuationKey());
+
+      ScanProtocol.PageWriter pageWriter = new ScanProtocol.PageWriter();
+      byte[] lastKey = null;
+      boolean hasMore = false;
+      try (AbstractStorageIterator iterator = storageEngine.getIterator(request.getPartition())) {
+        if (seekKey == null) {
+          iterator.seekToFirst();
+        } else {
+          iterator.seek(seekKey);
+        }
+        for (; iterator.isValid(); iterator.next()) {
+          byte[] key = iterator.key();
+          if (!isInScanRange(key, request)) {
+            break;
+          }
+          if (pageWriter.getRecordCount() >= maxRecordCount || pageWriter.getSize() >= maxBytes) {
+            hasMore = true;
+            break;
+          }
+          if (lastKey == null && Arrays.equals(key, request.getContinuationKey())) {
+            // The last key of the previous page
+            continue;
+          }
+          byte[] value = iterator.value();
+          int dataLength = value.length - ValueRecord.SCHEMA_HEADER_LENGTH;
+          ByteBuffer data = compressor.decompress(value, ValueRecord.SCHEMA_HEADER_LENGTH, dataLength);
+          pageWriter.write(key, ValueRecord.parseSchemaId(value), data);
+          lastKey = key;
+        }
+      } catch (IOException e) {
+        throw new VeniceException("Failed to decompress the value of: " + request.getResourceName(), e);
+      }
+      return new ScanResponse(Unpooled.wrappedBuffer(pageWriter.toByteArray()), hasMore ? lastKey : null);
+    });
+  }
+
+  private static boolean isInScanRange(byte[] key, ScanRequest request) {
+    byte[] prefix = request.getPrefix();
+    if (prefix != null) {
+      if (key.length < prefix.length) {
+        return false;
+      }
+      for (int i = 0; i < prefix.length; i++) {
+        if (key[i] != prefix[i]) {
+          return false;
+        }
+      }
+    }
+    return request.getEndKey() == null || ArrayUtils.compareUnsigned(key, request.getEndKey()) < 0;
+  }
+
+  private static byte[] max(byte[] a, byte[] b) {
+    return ArrayUtils.compareUnsigned(a, b) >= 0 ? a : b;
+  }
+
   private BinaryResponse handleDictionaryFetchRequest(DictionaryFetchRequest request) {
     ByteBuffer dictionary = ingestionMetadataRetriever.getStoreVersionCompressionDictionary(request.getResourceName());
     return new BinaryResponse(dictionary);
@@ -0,0 +1,179 @@
+package com.linkedin.venice.listener;
+
+import com.linkedin.venice.stats.AggServerReadRequestSchedulerStats;
+import com.linkedin.venice.utils.LatencyUtils;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+
+/**
+ * A weighted fair scheduler in front of a read {@link ThreadPoolExecutor}, which isolates the stores sharing the same
+ * storage node, so that a burst of large batch-get requests from one store won't starve the latency-sensitive stores.
+ *
+ * High-level idea:
+ * 1. Tasks are ordered by start-time fair queueing: every task gets a virtual start tag, which is
+ *    max(virtualTime, finishTagOfItsStore), and the finish tag of its store advances by cost / weight, where the cost
+ *    is the number of keys to look up. Tasks with the lowest start tag are executed first, so each active store gets
+ *    a share of the threads proportional to its weight, while the tasks of the same store stay in FIFO order.
+ * 2. The underlying executor is still in charge of the threads: each submitted task enqueues a token into the
+ *    executor, and whenever a token gets executed, it runs the task with the lowest start tag at that moment instead
+ *    of the task which enqueued it. This way, the executor queue length and capacity remain meaningful.
+ * 3. If a task has waited longer than the queue delay SLO of its store when it is dequeued, it is rejected right away
+ *    with {@link VeniceRequestQueueDelayExceededException} instead of doing the lookup, since the client has most
+ *    likely given up or retried on another replica already.
+ */
+public class StoreAwareReadRequestScheduler {
+  private static final int DEFAULT_WEIGHT = 1;
+
+  private final ThreadPoolExecutor executor;
+  private final Map<String, Integer> storeWeightMap;
+  private final long defaultQueueDelaySloNs;
+  private final Map<String, Long> storeQueueDelaySloNsMap;
+  private final AggServerReadRequestSchedulerStats stats;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final PriorityQueue<ScheduledTask<?>> taskQueue = new PriorityQueue<>();
+  private final Map<String, Double> storeFinishTagMap = new HashMap<>();
+  private double virtualTime = 0;
+  private long sequence = 0;
+
+  /**
+   * @param storeWeightMap the weight of each store, and the stores not in the map have the weight of 1.
+   * @param defaultQueueDelaySloMs the max queue delay of the stores without a per-store SLO, and 0 means no limit.
+   * @param storeQueueDelaySloMsMap the per-store max queue delay.
+   */
+  public StoreAwareReadRequestScheduler(
+      ThreadPoolExecutor executor,
+      Map<String, Integer> storeWeightMap,
+      long defaultQueueDelaySloMs,
+      Map<String, Integer> storeQueueDelaySloMsMap,
+      AggServerReadRequestSchedulerStats stats) {
+    this.executor = executor;
+    this.storeWeightMap = storeWeightMap == null ? Collections.emptyMap() : storeWeightMap;
+    this.defaultQueueDelaySloNs = TimeUnit.MILLISECONDS.toNanos(defaultQueueDelaySloMs);
+    this.storeQueueDelaySloNsMap = new HashMap<>();
+    if (storeQueueDelaySloMsMap != null) {
+      storeQueueDelaySloMsMap.forEach(
+          (store, sloMs) -> storeQueueDelaySloNsMap.put(store, TimeUnit.MILLISECONDS.toNanos(sloMs)));
+    }
+    this.stats = stats;
+  }
+
+  /**
+   * Schedule the given read task of the given store.
+   *
+   * @param cost the relative cost of the task, such as the number of keys to look up.
+   * @throws RejectedExecutionException if the underlying executor is saturated, which is the same behavior as
+   *         submitting the task to the executor directly.
+   */
+  public <T> CompletableFuture<T> submit(String storeName, int cost, Supplier<T> supplier) {
+    ScheduledTask<T> task = new ScheduledTask<>(storeName, supplier, System.nanoTime());
+    int weight = Math.max(storeWeightMap.getOrDefault(storeName, DEFAULT_WEIGHT), 1);
+    lock.lock();
+    try {
+      double startTag = Math.max(virtualTime, storeFinishTagMap.getOrDefault(storeName, 0d));
+      storeFinishTagMap.put(storeName, startTag + (double) Math.max(cost, 1) / weight);
+      task.startTag = startTag;
+      task.sequence = sequence++;
+      taskQueue.add(task);
+    } finally {
+      lock.unlock();
+    }
+    try {
+      executor.execute(this::runNextTask);
+    } catch (RejectedExecutionException e) {
+      /**
+       * The tokens are interchangeable, so remove one task to keep the number of the queued tasks and tokens in sync.
+       * Normally, it is the task just added, but it could have been picked up by another token already.
+       */
+      ScheduledTask<?> taskToDrop;
+      lock.lock();
+      try {
+        taskToDrop = taskQueue.remove(task) ? task : taskQueue.poll();
+      } finally {
+        lock.unlock();
+      }
+      if (taskToDrop != null && taskToDrop != task) {
+        taskToDrop.future.completeExceptionally(e);
+      }
+      if (taskToDrop == task) {
+        throw e;
+      }
+    }
+    return task.future;
+  }
+
+  int getQueuedTaskCount() {
+    lock.lock();
+    try {
+      return taskQueue.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void runNextTask() {
+    ScheduledTask<?> task;
+    lock.lock();
+    try {
+      task = taskQueue.poll();
+      if (task == null) {
+        return;
+      }
+      virtualTime = task.startTag;
+    } finally {
+      lock.unlock();
+    }
+    long queueDelayNs = System.nanoTime() - task.enqueueTimeNs;
+    if (stats != null) {
+      stats.recordQueueTime(task.storeName, LatencyUtils.convertNSToMS(queueDelayNs));
+    }
+    long queueDelaySloNs = storeQueueDelaySloNsMap.getOrDefault(task.storeName, defaultQueueDelaySloNs);
+    if (queueDelaySloNs > 0 && queueDelayNs > queueDelaySloNs) {
+      if (stats != null) {
+        stats.recordRejectedTask(task.storeName);
+      }
+      task.future.completeExceptionally(
+          new VeniceRequestQueueDelayExceededException(task.storeName, LatencyUtils.convertNSToMS(queueDelayNs)));
+      return;
+    }
+    task.run();
+  }
+
+  private static class ScheduledTask<T> implements Comparable<ScheduledTask<?>> {
+    final String storeName;
+    final Supplier<T> supplier;
+    final long enqueueTimeNs;
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    double startTag;
+    long sequence;
+
+    ScheduledTask(String storeName, Supplier<T> supplier, long enqueueTimeNs) {
+      this.storeName = storeName;
+      this.supplier = supplier;
+      this.enqueueTimeNs = enqueueTimeNs;
+    }
+
+    void run() {
+      try {
+        future.complete(supplier.get());
+      } catch (Throwable t) {
+        future.completeExceptionally(t);
+      }
+    }
+
+    @Override
+    public int compareTo(ScheduledTask<?> other) {
+      int result = Double.compare(startTag, other.startTag);
+      return result != 0 ? result : Long.compare(sequence, other.sequence);
+    }
+  }
+}
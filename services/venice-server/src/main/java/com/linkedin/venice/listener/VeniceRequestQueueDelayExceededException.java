@@ -0,0 +1,33 @@
+package com.linkedin.venice.listener;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import io.netty.handler.codec.http.HttpResponseStatus;
+
+
+/**
+ * Thrown when a read task has waited in {@link StoreAwareReadRequestScheduler} for longer than the queue delay SLO of
+ * its store, and it is mapped to the service overloaded status, so that clients can retry on another replica.
+ */
+public class VeniceRequestQueueDelayExceededException extends VeniceException {
+  private final String storeName;
+
+  public VeniceRequestQueueDelayExceededException(String storeName, double queueDelayMs) {
+    super(
+        "The request to store: " + storeName + " is rejected since it has been queued for " + queueDelayMs
+            + "ms, which exceeds the queue delay SLO");
+    this.storeName = storeName;
+  }
+
+  @Override
+  public int getHttpStatusCode() {
+    return getHttpResponseStatus().code();
+  }
+
+  public static HttpResponseStatus getHttpResponseStatus() {
+    return ServerLoadControllerHandler.OVERLOADED_RESPONSE_STATUS;
+  }
+
+  public String getStoreName() {
+    return storeName;
+  }
+}
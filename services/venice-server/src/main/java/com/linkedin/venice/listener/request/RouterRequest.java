@@ -2,9 +2,11 @@ package com.linkedin.venice.listener.request;
 
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.read.RequestHeadersProvider;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.streaming.StreamingUtils;
 import io.netty.handler.codec.http.HttpRequest;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -17,6 +19,11 @@ public abstract class RouterRequest {
   public static final long NO_REQUEST_TIMEOUT = -1;
 
   private long requestTimeoutInNS = NO_REQUEST_TIMEOUT;
+  /**
+   * The deadline propagated by the client via {@link HttpConstants#VENICE_REQUEST_DEADLINE_MS}, which is converted to
+   * the local {@link System#nanoTime()} scale when the request is parsed.
+   */
+  private final long requestDeadlineInNS;
   private final boolean isRetryRequest;
   private final String resourceName;
   private final String storeName;
@@ -25,6 +32,7 @@ public abstract class RouterRequest {
   public RouterRequest(String resourceName, HttpRequest request) {
     this.isRetryRequest = containRetryHeader(request);
     this.isStreamingRequest = StreamingUtils.isStreamingEnabled(request);
+    this.requestDeadlineInNS = parseRequestDeadline(request);
     this.resourceName = resourceName;
     this.storeName = Version.parseStoreFromKafkaTopicName(resourceName);
   }
@@ -34,6 +42,7 @@ public abstract class RouterRequest {
     this.storeName = Version.parseStoreFromKafkaTopicName(resourceName);
     this.isRetryRequest = isRetryRequest;
     this.isStreamingRequest = isStreamingRequest;
+    this.requestDeadlineInNS = NO_REQUEST_TIMEOUT;
   }
 
   public void setRequestTimeoutInNS(long requestTimeoutInNS) {
@@ -64,7 +73,25 @@ public abstract class RouterRequest {
     return request.headers().contains(HttpConstants.VENICE_RETRY);
   }
 
+  private static long parseRequestDeadline(HttpRequest request) {
+    String deadlineHeader = request.headers().get(HttpConstants.VENICE_REQUEST_DEADLINE_MS);
+    long deadlineMs = RequestHeadersProvider.parseRequestDeadlineHeader(deadlineHeader);
+    if (deadlineMs <= 0) {
+      return NO_REQUEST_TIMEOUT;
+    }
+    return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs - System.currentTimeMillis());
+  }
+
+  /**
+   * @return true if either the server-side early termination threshold or the deadline propagated by the client has
+   *         passed, and there is no point to keep working on the request.
+   */
   public boolean shouldRequestBeTerminatedEarly() {
-    return requestTimeoutInNS != NO_REQUEST_TIMEOUT && System.nanoTime() > requestTimeoutInNS;
+    if (requestTimeoutInNS == NO_REQUEST_TIMEOUT && requestDeadlineInNS == NO_REQUEST_TIMEOUT) {
+      return false;
+    }
+    long now = System.nanoTime();
+    return (requestTimeoutInNS != NO_REQUEST_TIMEOUT && now > requestTimeoutInNS)
+        || (requestDeadlineInNS != NO_REQUEST_TIMEOUT && now > requestDeadlineInNS);
   }
 }
@@ -0,0 +1,140 @@
+package com.linkedin.venice.listener.request;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.read.ScanProtocol;
+import com.linkedin.venice.utils.EncodingUtils;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * {@code ScanRequest} encapsulates a GET request to /scan/resourcename/partition on the storage node to fetch a page of
+ * the records in a key prefix or key range of the given partition. Check {@link ScanProtocol} for the parameters.
+ */
+public class ScanRequest {
+  private final String resourceName;
+  private final String storeName;
+  private final int partition;
+  private final byte[] prefix;
+  private final byte[] startKey;
+  private final byte[] endKey;
+  private final byte[] continuationKey;
+  private final int limit;
+
+  private ScanRequest(
+      String resourceName,
+      int partition,
+      byte[] prefix,
+      byte[] startKey,
+      byte[] endKey,
+      byte[] continuationKey,
+      int limit) {
+    this.resourceName = resourceName;
+    this.storeName = Version.parseStoreFromKafkaTopicName(resourceName);
+    this.partition = partition;
+    this.prefix = prefix;
+    this.startKey = startKey;
+    this.endKey = endKey;
+    this.continuationKey = continuationKey;
+    this.limit = limit;
+  }
+
+  public static ScanRequest parseGetHttpRequest(String uri, String[] requestParts) {
+    if (requestParts.length != 4) {
+      throw new VeniceException("Not a valid request for a SCAN action: " + uri);
+    }
+    // [0]""/[1]"action"/[2]"resource"/[3]"partition"
+    String resourceName = requestParts[2];
+    if (!Version.isVersionTopic(resourceName)) {
+      throw new VeniceException("Invalid store version for a SCAN action: " + uri);
+    }
+    int partition;
+    int limit;
+    Map<String, List<String>> parameters = new QueryStringDecoder(uri).parameters();
+    try {
+      // The query string is attached to the last part
+      String partitionStr = requestParts[3];
+      int queryIndex = partitionStr.indexOf('?');
+      partition = Integer.parseInt(queryIndex < 0 ? partitionStr : partitionStr.substring(0, queryIndex));
+      String limitStr = getParameter(parameters, ScanProtocol.LIMIT_PARAM);
+      limit = limitStr == null ? Integer.MAX_VALUE : Integer.parseInt(limitStr);
+    } catch (NumberFormatException e) {
+      throw new VeniceException("Invalid partition or limit for a SCAN action: " + uri);
+    }
+    if (limit <= 0) {
+      throw new VeniceException("The limit of a SCAN action should be positive, but got: " + limit);
+    }
+    return new ScanRequest(
+        resourceName,
+        partition,
+        getKeyParameter(parameters, ScanProtocol.PREFIX_PARAM),
+        getKeyParameter(parameters, ScanProtocol.START_PARAM),
+        getKeyParameter(parameters, ScanProtocol.END_PARAM),
+        getKeyParameter(parameters, ScanProtocol.CONTINUATION_PARAM),
+        limit);
+  }
+
+  private static String getParameter(Map<String, List<String>> parameters, String name) {
+    List<String> values = parameters.get(name);
+    return values == null || values.isEmpty() ? null : values.get(0);
+  }
+
+  private static byte[] getKeyParameter(Map<String, List<String>> parameters, String name) {
+    String value = getParameter(parameters, name);
+    if (value == null) {
+      return null;
+    }
+    try {
+      return EncodingUtils.base64DecodeFromString(value);
+    } catch (IllegalArgumentException e) {
+      throw new VeniceException("Invalid base64 encoded " + name + " for a SCAN action: " + value);
+    }
+  }
+
+  public String getResourceName() {
+    return resourceName;
+  }
+
+  public String getStoreName() {
+    return storeName;
+  }
+
+  public int getPartition() {
+    return partition;
+  }
+
+  /**
+   * @return the key prefix to scan, or null to scan all the keys.
+   */
+  public byte[] getPrefix() {
+    return prefix;
+  }
+
+  /**
+   * @return the inclusive lower bound of the keys to scan, or null if unbounded.
+   */
+  public byte[] getStartKey() {
+    return startKey;
+  }
+
+  /**
+   * @return the exclusive upper bound of the keys to scan, or null if unbounded.
+   */
+  public byte[] getEndKey() {
+    return endKey;
+  }
+
+  /**
+   * @return the last key returned by the previous page, and the scan resumes right after it, or null for the first
+   *         page.
+   */
+  public byte[] getContinuationKey() {
+    return continuationKey;
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+}
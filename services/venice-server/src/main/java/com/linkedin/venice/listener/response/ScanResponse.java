@@ -0,0 +1,29 @@
+package com.linkedin.venice.listener.response;
+
+import com.linkedin.venice.read.ScanProtocol;
+import io.netty.buffer.ByteBuf;
+
+
+/**
+ * A page of the records returned by a scan request, check {@link ScanProtocol} for the format.
+ */
+public class ScanResponse {
+  private final ByteBuf body;
+  private final byte[] continuationKey;
+
+  /**
+   * @param continuationKey the last key in this page if there could be more records after it, otherwise null.
+   */
+  public ScanResponse(ByteBuf body, byte[] continuationKey) {
+    this.body = body;
+    this.continuationKey = continuationKey;
+  }
+
+  public ByteBuf getBody() {
+    return body;
+  }
+
+  public byte[] getContinuationKey() {
+    return continuationKey;
+  }
+}
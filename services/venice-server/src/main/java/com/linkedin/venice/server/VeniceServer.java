@@ -16,10 +16,12 @@ import com.linkedin.davinci.helix.HelixParticipationService;
 import com.linkedin.davinci.kafka.consumer.AdaptiveThrottlerSignalService;
 import com.linkedin.davinci.kafka.consumer.KafkaStoreIngestionService;
 import com.linkedin.davinci.kafka.consumer.RemoteIngestionRepairService;
+import com.linkedin.davinci.notifier.BlockCacheWarmupNotifier;
 import com.linkedin.davinci.repository.VeniceMetadataRepositoryBuilder;
 import com.linkedin.davinci.stats.AggBlobTransferStats;
 import com.linkedin.davinci.stats.AggVersionedBlobTransferStats;
 import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
+import com.linkedin.davinci.stats.BlockCacheWarmupStats;
 import com.linkedin.davinci.stats.HeartbeatMonitoringServiceStats;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.stats.ingestion.heartbeat.HeartbeatMonitoringService;
@@ -70,6 +72,7 @@ import com.linkedin.venice.servicediscovery.ServiceDiscoveryAnnouncer;
 import com.linkedin.venice.stats.AggRocksDBStats;
 import com.linkedin.venice.stats.BackupVersionOptimizationServiceStats;
 import com.linkedin.venice.stats.DiskHealthStats;
+import com.linkedin.venice.stats.RoutingTableChangeStats;
 import com.linkedin.venice.stats.VeniceJVMStats;
 import com.linkedin.venice.system.store.ControllerClientBackedSystemSchemaInitializer;
 import com.linkedin.venice.utils.CollectionUtils;
@@ -370,10 +373,13 @@ public class VeniceServer {
     // future that will be completed with a routing data repository once the manager connects.
     CompletableFuture<SafeHelixManager> managerFuture = new CompletableFuture<>();
 
+    RoutingTableChangeStats customizedViewStats = new RoutingTableChangeStats(
+        metricsRepository,
+        serverConfig.getClusterName() + "-routing_table_customized_view");
     CompletableFuture<HelixCustomizedViewOfflinePushRepository> customizedViewFuture =
         managerFuture.thenApply(manager -> {
           HelixCustomizedViewOfflinePushRepository customizedView =
-              new HelixCustomizedViewOfflinePushRepository(manager, metadataRepo, false);
+              new HelixCustomizedViewOfflinePushRepository(manager, metadataRepo, false, customizedViewStats);
           customizedView.refresh();
           return customizedView;
         });
@@ -492,6 +498,15 @@ public class VeniceServer {
         compressorFactory,
         resourceReadUsageTracker);
     services.add(listenerService);
+    if (listenerService.getHotKeySampler() != null) {
+      kafkaStoreIngestionService.addIngestionNotifier(
+          new BlockCacheWarmupNotifier(
+              listenerService.getHotKeySampler(),
+              storageService.getStorageEngineRepository(),
+              metadataRepo,
+              serverConfig.getBlockCacheWarmupMaxReadsPerSecond(),
+              new BlockCacheWarmupStats(metricsRepository)));
+    }
 
     /**
      * Initialize Blob transfer manager for Service
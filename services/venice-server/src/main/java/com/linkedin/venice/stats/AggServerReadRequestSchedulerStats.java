@@ -0,0 +1,28 @@
+package com.linkedin.venice.stats;
+
+import io.tehuti.metrics.MetricsRepository;
+
+
+/**
+ * {@code AggServerReadRequestSchedulerStats} is the aggregate statistics for {@code ServerReadRequestSchedulerStats},
+ * which measures the queue time and rejections of the read tasks of each store.
+ */
+public class AggServerReadRequestSchedulerStats extends AbstractVeniceAggStats<ServerReadRequestSchedulerStats> {
+  public AggServerReadRequestSchedulerStats(String cluster, MetricsRepository metricsRepository, String schedulerName) {
+    super(
+        cluster,
+        metricsRepository,
+        (metrics, storeName, clusterName) -> new ServerReadRequestSchedulerStats(metrics, storeName, schedulerName),
+        false);
+  }
+
+  public void recordQueueTime(String storeName, double queueTimeMs) {
+    totalStats.recordQueueTime(queueTimeMs);
+    getStoreStats(storeName).recordQueueTime(queueTimeMs);
+  }
+
+  public void recordRejectedTask(String storeName) {
+    totalStats.recordRejectedTask();
+    getStoreStats(storeName).recordRejectedTask();
+  }
+}
@@ -85,6 +85,8 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor successRequestRatioSensor;
   // Tehuti-only: OTel captures early-terminated requests via READ_CALL_COUNT with HTTP 408 status dimension
   private final Sensor earlyTerminatedEarlyRequestCountSensor;
+  // The number of keys of the early-terminated requests, which measures the dropped work rather than the requests
+  private final Sensor earlyTerminatedKeyCountSensor;
   // Tehuti-only: OTel captures misrouted requests via READ_CALL_COUNT with HTTP 500 status dimension
   private final Sensor misroutedStoreVersionSensor;
 
@@ -403,6 +405,11 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         totalStats,
         () -> totalStats.earlyTerminatedEarlyRequestCountSensor,
         new OccurrenceRate());
+    earlyTerminatedKeyCountSensor = registerPerStoreAndTotal(
+        "early_terminated_key_count",
+        totalStats,
+        () -> totalStats.earlyTerminatedKeyCountSensor,
+        new Rate());
 
     if (isKeyValueProfilingEnabled || requestType == RequestType.SINGLE_GET) {
       final MeasurableStat[] valueSizeStats;
@@ -641,6 +648,10 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     earlyTerminatedEarlyRequestCountSensor.record();
   }
 
+  public void recordEarlyTerminatedKeyCount(int keyCount) {
+    earlyTerminatedKeyCountSensor.record(keyCount);
+  }
+
   public void recordKeySizeInByte(int keySize) {
     requestKeySizeMetric.record(keySize);
   }
@@ -4,6 +4,7 @@ import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
 import io.tehuti.metrics.stats.Avg;
 import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.Min;
 import io.tehuti.metrics.stats.OccurrenceRate;
 
 
@@ -12,6 +13,9 @@ public class ServerLoadStats extends AbstractVeniceStats {
   private final Sensor rejectedRequestSensor;
   private final Sensor acceptedRequestSensor;
   private final Sensor rejectionRatioSensor;
+  private final Sensor adaptiveConcurrencyRejectedRequestSensor;
+  private final Sensor adaptiveConcurrencyLimitSensor;
+  private final Sensor adaptiveConcurrencyInFlightSensor;
 
   public ServerLoadStats(MetricsRepository metricsRepository, String name) {
     super(metricsRepository, name);
@@ -20,6 +24,10 @@ public class ServerLoadStats extends AbstractVeniceStats {
     rejectedRequestSensor = registerSensorIfAbsent("rejected_request", new OccurrenceRate());
     acceptedRequestSensor = registerSensorIfAbsent("accepted_request", new OccurrenceRate());
     rejectionRatioSensor = registerSensorIfAbsent("rejection_ratio", new Avg(), new Max());
+    adaptiveConcurrencyRejectedRequestSensor =
+        registerSensorIfAbsent("adaptive_concurrency_rejected_request", new OccurrenceRate());
+    adaptiveConcurrencyLimitSensor = registerSensorIfAbsent("adaptive_concurrency_limit", new Avg(), new Min());
+    adaptiveConcurrencyInFlightSensor = registerSensorIfAbsent("adaptive_concurrency_in_flight", new Avg(), new Max());
   }
 
   public void recordTotalRequest() {
@@ -37,4 +45,13 @@ public class ServerLoadStats extends AbstractVeniceStats {
   public void recordRejectionRatio(double rejectionRatio) {
     rejectionRatioSensor.record(rejectionRatio);
   }
+
+  public void recordAdaptiveConcurrencyRejectedRequest() {
+    adaptiveConcurrencyRejectedRequestSensor.record();
+  }
+
+  public void recordAdaptiveConcurrencyLimit(int limit, int inFlightCount) {
+    adaptiveConcurrencyLimitSensor.record(limit);
+    adaptiveConcurrencyInFlightSensor.record(inFlightCount);
+  }
 }
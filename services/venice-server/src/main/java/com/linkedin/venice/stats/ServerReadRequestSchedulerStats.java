@@ -0,0 +1,32 @@
+package com.linkedin.venice.stats;
+
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.OccurrenceRate;
+
+
+/**
+ * Per-store stats of {@link com.linkedin.venice.listener.StoreAwareReadRequestScheduler}, which measure how long the
+ * read tasks of each store wait in the scheduler and how many of them are rejected because of the queue delay SLO.
+ */
+public class ServerReadRequestSchedulerStats extends AbstractVeniceStats {
+  private final Sensor queueTimeSensor;
+  private final Sensor rejectedTaskSensor;
+
+  public ServerReadRequestSchedulerStats(MetricsRepository metricsRepository, String name, String schedulerName) {
+    super(metricsRepository, name);
+    String queueTimeSensorName = schedulerName + "_scheduler_queue_time";
+    queueTimeSensor = registerSensorIfAbsent(
+        queueTimeSensorName,
+        TehutiUtils.getPercentileStatWithAvgAndMax(getName(), queueTimeSensorName));
+    rejectedTaskSensor = registerSensorIfAbsent(schedulerName + "_scheduler_rejected_task", new OccurrenceRate());
+  }
+
+  public void recordQueueTime(double queueTimeMs) {
+    queueTimeSensor.record(queueTimeMs);
+  }
+
+  public void recordRejectedTask() {
+    rejectedTaskSensor.record();
+  }
+}
@@ -373,12 +373,14 @@ public class ServerStatsContextTest {
     ServerHttpRequestStats stats = mock(ServerHttpRequestStats.class);
     context.setFlushLatency(25.5);
     context.setRequestTerminatedEarly();
+    context.setRequestKeyCount(10);
     context.setResponseSize(1024);
 
     context.recordBasicMetrics(stats);
 
     verify(stats).recordFlushLatency(25.5);
     verify(stats).recordEarlyTerminatedEarlyRequest();
+    verify(stats).recordEarlyTerminatedKeyCount(10);
     verify(stats).recordResponseSize(OK_RESPONSE_STATUS, OK_VENICE_STATUS, 1024);
   }
 
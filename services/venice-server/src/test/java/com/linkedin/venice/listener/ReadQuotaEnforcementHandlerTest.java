@@ -39,6 +39,7 @@ import com.linkedin.venice.listener.grpc.GrpcRequestContext;
 import com.linkedin.venice.listener.grpc.handlers.GrpcReadQuotaEnforcementHandler;
 import com.linkedin.venice.listener.grpc.handlers.VeniceServerGrpcHandler;
 import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.listener.request.ScanRequest;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
 import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.Partition;
@@ -328,6 +329,52 @@ public class ReadQuotaEnforcementHandlerTest {
     assertNotNull(builder.getErrorMessage());
   }
 
+  @Test
+  public void testQuotaEnforcementForScanRequest() throws Exception {
+    String storeName = "test_store";
+    int version = 1;
+    String resourceName = Version.composeKafkaTopic(storeName, version);
+    Store store = mock(Store.class);
+    when(storeRepository.getStore(storeName)).thenReturn(store);
+    when(store.isStorageNodeReadQuotaEnabled()).thenReturn(true);
+    doReturn(100).when(serverConfig).getScanMaxRecordsPerRequest();
+    ScanRequest scanRequest = mock(ScanRequest.class);
+    doReturn(storeName).when(scanRequest).getStoreName();
+    doReturn(resourceName).when(scanRequest).getResourceName();
+    doReturn(Integer.MAX_VALUE).when(scanRequest).getLimit();
+    initializeQuotaEnforcementHandlers();
+    VeniceRateLimiter veniceRateLimiter = mock(VeniceRateLimiter.class);
+    quotaEnforcementHandler.setStoreVersionRateLimiter(resourceName, veniceRateLimiter);
+    VeniceRateLimiter storageNodeRateLimiter = mock(VeniceRateLimiter.class);
+    when(storageNodeRateLimiter.tryAcquirePermit(anyInt())).thenReturn(true);
+    quotaEnforcementHandler.setStorageNodeRateLimiter(storageNodeRateLimiter);
+
+    // A page is charged with the server side max records per scan request when its limit is higher
+    assertEquals(quotaEnforcementHandler.getScanRcu(scanRequest), 100);
+    when(veniceRateLimiter.tryAcquirePermit(100)).thenReturn(false);
+    assertEquals(quotaEnforcementHandler.enforceQuota(scanRequest), QuotaEnforcementResult.REJECTED);
+    verify(mockAggStats).recordRejected(eq(storeName), eq(version), eq(100L));
+
+    ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+    quotaEnforcementHandler.channelRead(ctx, scanRequest);
+    ArgumentCaptor<Object> responseCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(ctx).writeAndFlush(responseCaptor.capture());
+    Object response = responseCaptor.getValue();
+    assertTrue(response instanceof HttpShortcutResponse);
+    assertEquals(((HttpShortcutResponse) response).getStatus(), HttpResponseStatus.TOO_MANY_REQUESTS);
+    verify(ctx, never()).fireChannelRead(any());
+
+    // And with its own limit otherwise
+    doReturn(10).when(scanRequest).getLimit();
+    assertEquals(quotaEnforcementHandler.getScanRcu(scanRequest), 10);
+    when(veniceRateLimiter.tryAcquirePermit(10)).thenReturn(true);
+    ctx = mock(ChannelHandlerContext.class);
+    quotaEnforcementHandler.channelRead(ctx, scanRequest);
+    verify(ctx).fireChannelRead(scanRequest);
+    verify(ctx, never()).writeAndFlush(any());
+    verify(mockAggStats).recordAllowed(eq(storeName), eq(version), eq(10L));
+  }
+
   // both storeVersion quota and server capacity are sufficient to allow the request
   @Test
   public void testQuotaEnforcement() {
@@ -59,6 +59,25 @@ public class RouterRequestHttpHandlerTest {
     Assert.assertNotNull(requestObject);
   }
 
+  @Test
+  public void testRequestDeadlineHeader() {
+    String path = "/storage/store_v1/1/key1";
+    HttpRequest msg = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, path);
+    String[] requestParts = RequestHelper.getRequestParts(URI.create(msg.uri()));
+    Assert.assertFalse(GetRouterRequest.parseGetHttpRequest(msg, requestParts).shouldRequestBeTerminatedEarly());
+
+    // The client has given up on the request already
+    msg.headers().set(HttpConstants.VENICE_REQUEST_DEADLINE_MS, Long.toString(System.currentTimeMillis() - 1000));
+    Assert.assertTrue(GetRouterRequest.parseGetHttpRequest(msg, requestParts).shouldRequestBeTerminatedEarly());
+
+    msg.headers().set(HttpConstants.VENICE_REQUEST_DEADLINE_MS, Long.toString(System.currentTimeMillis() + 60000));
+    Assert.assertFalse(GetRouterRequest.parseGetHttpRequest(msg, requestParts).shouldRequestBeTerminatedEarly());
+
+    // Malformed header is ignored
+    msg.headers().set(HttpConstants.VENICE_REQUEST_DEADLINE_MS, "not_a_number");
+    Assert.assertFalse(GetRouterRequest.parseGetHttpRequest(msg, requestParts).shouldRequestBeTerminatedEarly());
+  }
+
   public void testRequestParsing(String path, String expectedStore, int expectedPartition, byte[] expectedKey)
       throws Exception {
 
@@ -1,19 +1,26 @@
 package com.linkedin.venice.listener;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.venice.listener.response.HttpShortcutResponse;
 import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.reliability.AdaptiveConcurrencyLimiter;
 import com.linkedin.venice.reliability.LoadController;
 import com.linkedin.venice.stats.ServerLoadStats;
 import com.linkedin.venice.utils.TestUtils;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.HttpRequest;
 import java.util.concurrent.TimeUnit;
 import org.testng.annotations.Test;
@@ -83,4 +90,71 @@ public class ServerLoadControllerHandlerTest {
 
   }
 
+  @Test
+  public void testAdaptiveConcurrencyLimiter() throws Exception {
+    VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+    doReturn(false).when(serverConfig).isLoadControllerEnabled();
+    doReturn(true).when(serverConfig).isAdaptiveConcurrencyLimiterEnabled();
+    doReturn(2).when(serverConfig).getAdaptiveConcurrencyLimiterInitialLimit();
+    doReturn(1).when(serverConfig).getAdaptiveConcurrencyLimiterMinLimit();
+    doReturn(100).when(serverConfig).getAdaptiveConcurrencyLimiterMaxLimit();
+    doReturn(1.5).when(serverConfig).getAdaptiveConcurrencyLimiterRttTolerance();
+    doReturn(1000L).when(serverConfig).getAdaptiveConcurrencyLimiterSampleWindowMs();
+    ServerLoadStats loadStats = mock(ServerLoadStats.class);
+
+    ServerLoadControllerHandler serverLoadControllerHandler = new ServerLoadControllerHandler(serverConfig, loadStats);
+    assertNull(serverLoadControllerHandler.getLoadController());
+    AdaptiveConcurrencyLimiter limiter = serverLoadControllerHandler.getAdaptiveConcurrencyLimiter();
+
+    HttpRequest request = mock(HttpRequest.class);
+    doReturn("/storage/test_store_v1/0/key").when(request).uri();
+    ChannelHandlerContext ctx1 = mock(ChannelHandlerContext.class);
+    Channel channel1 = new EmbeddedChannel();
+    doReturn(channel1).when(ctx1).channel();
+    ChannelHandlerContext ctx2 = mock(ChannelHandlerContext.class);
+    Channel channel2 = new EmbeddedChannel();
+    doReturn(channel2).when(ctx2).channel();
+    ChannelHandlerContext ctx3 = mock(ChannelHandlerContext.class);
+    doReturn(new EmbeddedChannel()).when(ctx3).channel();
+
+    serverLoadControllerHandler.channelRead0(ctx1, request);
+    serverLoadControllerHandler.channelRead0(ctx2, request);
+    verify(ctx1).fireChannelRead(request);
+    verify(ctx2).fireChannelRead(request);
+    assertEquals(limiter.getInFlightCount(), 2);
+
+    // Exceeding the limit
+    serverLoadControllerHandler.channelRead0(ctx3, request);
+    verify(ctx3, never()).fireChannelRead(any());
+    verify(ctx3).writeAndFlush(any(HttpShortcutResponse.class));
+    verify(loadStats).recordAdaptiveConcurrencyRejectedRequest();
+
+    // Non-storage requests are not limited
+    HttpRequest metadataRequest = mock(HttpRequest.class);
+    doReturn("/metadata/test_store").when(metadataRequest).uri();
+    serverLoadControllerHandler.channelRead0(ctx3, metadataRequest);
+    verify(ctx3).fireChannelRead(metadataRequest);
+
+    // The permit is released once the response is sent out
+    serverLoadControllerHandler.recordLatency(channel1, RequestType.SINGLE_GET, 1, 200);
+    assertEquals(limiter.getInFlightCount(), 1);
+    verify(loadStats, never()).recordTotalRequest();
+    // Recording twice won't release twice
+    serverLoadControllerHandler.recordLatency(channel1, RequestType.SINGLE_GET, 1, 200);
+    assertEquals(limiter.getInFlightCount(), 1);
+
+    // The permit is released when the channel is closed
+    serverLoadControllerHandler.channelInactive(ctx2);
+    assertEquals(limiter.getInFlightCount(), 0);
+  }
+
+  @Test
+  public void testGetStoreName() {
+    assertEquals(ServerLoadControllerHandler.getStoreName("/storage/test_store_v1/0/key"), "test_store");
+    assertEquals(ServerLoadControllerHandler.getStoreName("/storage/test_store_v3?f=b64"), "test_store");
+    assertEquals(ServerLoadControllerHandler.getStoreName("/compute/test_store_v2"), "test_store");
+    assertNull(ServerLoadControllerHandler.getStoreName("/storage"));
+    assertNull(ServerLoadControllerHandler.getStoreName("/storage/test_store_v1/0/key with space"));
+    assertNull(ServerLoadControllerHandler.getStoreName("/storage/test_store_v1/%zz"));
+  }
 }
@@ -325,6 +325,7 @@ public class ServerStoreAclHandlerTest {
         case STORAGE:
         case COMPUTE:
         case DICTIONARY:
+        case SCAN:
           verify(spyMockAccessController).hasAccess(any(), eq(TEST_STORE_NAME), any());
           break;
         default:
@@ -358,6 +359,9 @@ public class ServerStoreAclHandlerTest {
       case HOST_HEARTBEAT_LAG:
         return "/" + QueryAction.HOST_HEARTBEAT_LAG.toString().toLowerCase() + "/" + TEST_STORE_VERSION + "/"
             + TEST_STORE_PARTITION + "/false";
+      case SCAN:
+        return "/" + QueryAction.SCAN.toString().toLowerCase() + "/" + TEST_STORE_VERSION + "/" + TEST_STORE_PARTITION
+            + "?limit=10";
       default:
         throw new IllegalArgumentException("Invalid query action: " + queryAction);
     }
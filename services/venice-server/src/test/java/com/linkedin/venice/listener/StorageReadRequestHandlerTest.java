@@ -35,6 +35,7 @@ import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.IngestionMetadataRetriever;
 import com.linkedin.davinci.storage.ReadMetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.store.AbstractStorageIterator;
 import com.linkedin.davinci.store.StorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
@@ -64,12 +65,14 @@ import com.linkedin.venice.listener.request.HeartbeatRequest;
 import com.linkedin.venice.listener.request.MetadataFetchRequest;
 import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
 import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.listener.request.ScanRequest;
 import com.linkedin.venice.listener.request.TopicPartitionIngestionContextRequest;
 import com.linkedin.venice.listener.response.AbstractReadResponse;
 import com.linkedin.venice.listener.response.ComputeResponseWrapper;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
 import com.linkedin.venice.listener.response.MultiGetResponseWrapper;
 import com.linkedin.venice.listener.response.MultiKeyResponseWrapper;
+import com.linkedin.venice.listener.response.ScanResponse;
 import com.linkedin.venice.listener.response.SingleGetResponseWrapper;
 import com.linkedin.venice.listener.response.stats.AbstractReadResponseStats;
 import com.linkedin.venice.listener.response.stats.MultiKeyResponseStats;
@@ -93,6 +96,7 @@ import com.linkedin.venice.pubsub.PubSubTopicRepository;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.mock.SimplePartitioner;
 import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.read.ScanProtocol;
 import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.request.RequestHelper;
@@ -118,7 +122,9 @@ import com.linkedin.venice.storage.protocol.ChunkId;
 import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.streaming.StreamingUtils;
+import com.linkedin.venice.utils.ArrayUtils;
 import com.linkedin.venice.utils.DataProviderUtils;
+import com.linkedin.venice.utils.EncodingUtils;
 import com.linkedin.venice.utils.ValueSize;
 import com.linkedin.venice.utils.concurrent.BlockingQueueType;
 import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
@@ -1063,6 +1069,130 @@ public class StorageReadRequestHandlerTest {
     assertEquals(((AbstractReadResponseStats) responseObject.getStats()).getKeyNotFoundCount(), missingRecordCount);
   }
 
+  @Test
+  public void testScanRequest() throws Exception {
+    int partition = 0;
+    List<byte[]> keys = new ArrayList<>();
+    List<byte[]> values = new ArrayList<>();
+    for (String key: new String[] { "a1", "a2", "a3", "a4", "a5", "b1" }) {
+      keys.add(key.getBytes());
+      values.add(ValueRecord.create(1, ("value_" + key).getBytes()).serialize());
+    }
+    doAnswer(invocation -> new ListStorageIterator(keys, values)).when(storageEngine).getIterator(partition);
+    doReturn(2).when(serverConfig).getScanMaxRecordsPerRequest();
+    doReturn(Long.MAX_VALUE).when(serverConfig).getScanMaxBytesPerRequest();
+    StorageReadRequestHandler requestHandler = createStorageReadRequestHandler();
+
+    // The prefix is paged by the server side max records per request, which is lower than the limit of the request
+    String prefixParams = ScanProtocol.PREFIX_PARAM + "=" + EncodingUtils.base64EncodeToString("a".getBytes()) + "&"
+        + ScanProtocol.LIMIT_PARAM + "=10";
+    ScanResponse response = requestHandler.handleScanRequest(createScanRequest(partition, prefixParams)).get();
+    assertScanPage(response, "a1", "a2");
+    assertEquals(response.getContinuationKey(), "a2".getBytes());
+
+    // The key of the continuation token itself is skipped
+    response = requestHandler.handleScanRequest(
+        createScanRequest(partition, prefixParams + "&" + getContinuationParam(response.getContinuationKey()))).get();
+    assertScanPage(response, "a3", "a4");
+    assertEquals(response.getContinuationKey(), "a4".getBytes());
+
+    // The last page of the prefix completes the scan
+    response = requestHandler.handleScanRequest(
+        createScanRequest(partition, prefixParams + "&" + getContinuationParam(response.getContinuationKey()))).get();
+    assertScanPage(response, "a5");
+    Assert.assertNull(response.getContinuationKey());
+
+    // The limit of the request caps the page when it's lower, and the range end is exclusive
+    String rangeParams = ScanProtocol.START_PARAM + "=" + EncodingUtils.base64EncodeToString("a2".getBytes()) + "&"
+        + ScanProtocol.END_PARAM + "=" + EncodingUtils.base64EncodeToString("a4".getBytes()) + "&"
+        + ScanProtocol.LIMIT_PARAM + "=1";
+    response = requestHandler.handleScanRequest(createScanRequest(partition, rangeParams)).get();
+    assertScanPage(response, "a2");
+    assertEquals(response.getContinuationKey(), "a2".getBytes());
+    response = requestHandler.handleScanRequest(
+        createScanRequest(partition, rangeParams + "&" + getContinuationParam(response.getContinuationKey()))).get();
+    assertScanPage(response, "a3");
+    Assert.assertNull(response.getContinuationKey());
+
+    // The byte limit stops the page after the first record
+    doReturn(1L).when(serverConfig).getScanMaxBytesPerRequest();
+    response = requestHandler.handleScanRequest(createScanRequest(partition, prefixParams)).get();
+    assertScanPage(response, "a1");
+    assertEquals(response.getContinuationKey(), "a1".getBytes());
+  }
+
+  private static ScanRequest createScanRequest(int partition, String params) {
+    String uri = "/" + QueryAction.SCAN.toString().toLowerCase() + "/test-store_v1/" + partition + "?" + params;
+    return ScanRequest.parseGetHttpRequest(uri, RequestHelper.getRequestParts(URI.create(uri)));
+  }
+
+  private static String getContinuationParam(byte[] continuationKey) {
+    return ScanProtocol.CONTINUATION_PARAM + "=" + EncodingUtils.base64EncodeToString(continuationKey);
+  }
+
+  private static void assertScanPage(ScanResponse response, String... expectedKeys) {
+    byte[] body = new byte[response.getBody().readableBytes()];
+    response.getBody().readBytes(body);
+    List<ScanProtocol.Record> records = ScanProtocol.parsePage(body);
+    assertEquals(records.size(), expectedKeys.length);
+    for (int i = 0; i < expectedKeys.length; i++) {
+      assertEquals(records.get(i).getKey(), expectedKeys[i].getBytes());
+      assertEquals(records.get(i).getSchemaId(), 1);
+      assertEquals(StandardCharsets.UTF_8.decode(records.get(i).getValue()).toString(), "value_" + expectedKeys[i]);
+    }
+  }
+
+  /**
+   * Iterator over the given keys, which must be sorted, and their values.
+   */
+  private static class ListStorageIterator extends AbstractStorageIterator {
+    private final List<byte[]> keys;
+    private final List<byte[]> values;
+    private int index = 0;
+
+    ListStorageIterator(List<byte[]> keys, List<byte[]> values) {
+      this.keys = keys;
+      this.values = values;
+    }
+
+    @Override
+    public boolean isValid() {
+      return index < keys.size();
+    }
+
+    @Override
+    public byte[] key() {
+      return keys.get(index);
+    }
+
+    @Override
+    public byte[] value() {
+      return values.get(index);
+    }
+
+    @Override
+    public void next() {
+      index++;
+    }
+
+    @Override
+    public void seek(byte[] key) {
+      index = 0;
+      while (index < keys.size() && ArrayUtils.compareUnsigned(keys.get(index), key) < 0) {
+        index++;
+      }
+    }
+
+    @Override
+    public void seekToFirst() {
+      index = 0;
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+
   private SchemaReader getMockSchemaReader(Schema keySchema, Schema valueSchema) {
     SchemaReader schemaReader = mock(SchemaReader.class);
     doReturn(keySchema).when(schemaReader).getKeySchema();
@@ -0,0 +1,189 @@
+package com.linkedin.venice.listener;
+
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.stats.AggServerReadRequestSchedulerStats;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class StoreAwareReadRequestSchedulerTest {
+  private ThreadPoolExecutor executor;
+
+  @BeforeMethod
+  public void setUp() {
+    executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+  }
+
+  @AfterMethod
+  public void cleanUp() {
+    executor.shutdownNow();
+  }
+
+  private CompletableFuture<Void> blockExecutor(StoreAwareReadRequestScheduler scheduler, CountDownLatch latch) {
+    return scheduler.submit("blocker", 1, () -> {
+      try {
+        latch.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return null;
+    });
+  }
+
+  @Test
+  public void testFairSharingAcrossStores() throws Exception {
+    StoreAwareReadRequestScheduler scheduler =
+        new StoreAwareReadRequestScheduler(executor, Collections.emptyMap(), 0, Collections.emptyMap(), null);
+    CountDownLatch latch = new CountDownLatch(1);
+    CompletableFuture<Void> blocker = blockExecutor(scheduler, latch);
+
+    List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+    List<CompletableFuture<String>> futures = new ArrayList<>();
+    // A store with a burst of large batch-get requests
+    for (int i = 0; i < 10; i++) {
+      String taskName = "batch_store_" + i;
+      futures.add(scheduler.submit("batch_store", 100, () -> {
+        executionOrder.add(taskName);
+        return taskName;
+      }));
+    }
+    // A latency-sensitive store with single-get requests
+    for (int i = 0; i < 2; i++) {
+      String taskName = "single_get_store_" + i;
+      futures.add(scheduler.submit("single_get_store", 1, () -> {
+        executionOrder.add(taskName);
+        return taskName;
+      }));
+    }
+    latch.countDown();
+    blocker.get(10, TimeUnit.SECONDS);
+    for (CompletableFuture<String> future: futures) {
+      future.get(10, TimeUnit.SECONDS);
+    }
+
+    assertEquals(executionOrder.size(), 12);
+    // The single-get requests don't need to wait for the whole burst
+    assertTrue(executionOrder.indexOf("single_get_store_1") <= 2, "Unexpected execution order: " + executionOrder);
+    // FIFO within the same store
+    for (int i = 1; i < 10; i++) {
+      assertTrue(executionOrder.indexOf("batch_store_" + (i - 1)) < executionOrder.indexOf("batch_store_" + i));
+    }
+    assertEquals(scheduler.getQueuedTaskCount(), 0);
+  }
+
+  @Test
+  public void testWeight() throws Exception {
+    StoreAwareReadRequestScheduler scheduler = new StoreAwareReadRequestScheduler(
+        executor,
+        Collections.singletonMap("heavy_store", 4),
+        0,
+        Collections.emptyMap(),
+        null);
+    CountDownLatch latch = new CountDownLatch(1);
+    blockExecutor(scheduler, latch);
+
+    List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+    List<CompletableFuture<String>> futures = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      futures.add(scheduler.submit("heavy_store", 10, () -> {
+        executionOrder.add("heavy_store");
+        return null;
+      }));
+      futures.add(scheduler.submit("light_store", 10, () -> {
+        executionOrder.add("light_store");
+        return null;
+      }));
+    }
+    latch.countDown();
+    for (CompletableFuture<String> future: futures) {
+      future.get(10, TimeUnit.SECONDS);
+    }
+    // The heavy store gets 4x of the share while both stores are active
+    List<String> firstTen = executionOrder.subList(0, 10);
+    assertEquals(Collections.frequency(firstTen, "heavy_store"), 8, "Unexpected execution order: " + executionOrder);
+  }
+
+  @Test
+  public void testQueueDelaySlo() throws Exception {
+    AggServerReadRequestSchedulerStats stats = mock(AggServerReadRequestSchedulerStats.class);
+    StoreAwareReadRequestScheduler scheduler = new StoreAwareReadRequestScheduler(
+        executor,
+        Collections.emptyMap(),
+        10000,
+        Collections.singletonMap("strict_store", 10),
+        stats);
+    CountDownLatch latch = new CountDownLatch(1);
+    blockExecutor(scheduler, latch);
+
+    CompletableFuture<String> strictFuture = scheduler.submit("strict_store", 1, () -> "strict");
+    CompletableFuture<String> relaxedFuture = scheduler.submit("relaxed_store", 1, () -> "relaxed");
+    Thread.sleep(50);
+    latch.countDown();
+
+    ExecutionException e = expectThrows(ExecutionException.class, () -> strictFuture.get(10, TimeUnit.SECONDS));
+    assertTrue(e.getCause() instanceof VeniceRequestQueueDelayExceededException);
+    assertEquals(
+        ((VeniceRequestQueueDelayExceededException) e.getCause()).getHttpStatusCode(),
+        ServerLoadControllerHandler.OVERLOADED_RESPONSE_STATUS.code());
+    assertEquals(relaxedFuture.get(10, TimeUnit.SECONDS), "relaxed");
+
+    verify(stats).recordRejectedTask("strict_store");
+    verify(stats, never()).recordRejectedTask("relaxed_store");
+    verify(stats, atLeastOnce()).recordQueueTime(eq("relaxed_store"), anyDouble());
+  }
+
+  @Test
+  public void testTaskFailure() {
+    StoreAwareReadRequestScheduler scheduler =
+        new StoreAwareReadRequestScheduler(executor, Collections.emptyMap(), 0, Collections.emptyMap(), null);
+    CompletableFuture<String> future = scheduler.submit("test_store", 1, () -> {
+      throw new VeniceException("Lookup failure");
+    });
+    ExecutionException e = expectThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+    assertTrue(e.getCause() instanceof VeniceException);
+    assertEquals(e.getCause().getMessage(), "Lookup failure");
+  }
+
+  @Test
+  public void testExecutorSaturated() throws Exception {
+    executor.shutdownNow();
+    executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+    StoreAwareReadRequestScheduler scheduler =
+        new StoreAwareReadRequestScheduler(executor, Collections.emptyMap(), 0, Collections.emptyMap(), null);
+    CountDownLatch latch = new CountDownLatch(1);
+    blockExecutor(scheduler, latch);
+    // Wait for the blocker to occupy the thread
+    while (executor.getActiveCount() == 0) {
+      Thread.sleep(1);
+    }
+    CompletableFuture<String> queuedFuture = scheduler.submit("test_store", 1, () -> "queued");
+    expectThrows(RejectedExecutionException.class, () -> scheduler.submit("test_store", 1, () -> "rejected"));
+    assertEquals(scheduler.getQueuedTaskCount(), 1);
+
+    latch.countDown();
+    assertEquals(queuedFuture.get(10, TimeUnit.SECONDS), "queued");
+    assertEquals(scheduler.getQueuedTaskCount(), 0);
+  }
+}
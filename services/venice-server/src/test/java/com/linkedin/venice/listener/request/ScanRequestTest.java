@@ -0,0 +1,56 @@
+package com.linkedin.venice.listener.request;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.QueryAction;
+import com.linkedin.venice.read.ScanProtocol;
+import com.linkedin.venice.request.RequestHelper;
+import com.linkedin.venice.utils.EncodingUtils;
+import java.net.URI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ScanRequestTest {
+  private static final String SCAN_URI_PREFIX = "/" + QueryAction.SCAN.toString().toLowerCase() + "/test_store_v1/3";
+
+  private static ScanRequest parse(String uri) {
+    return ScanRequest.parseGetHttpRequest(uri, RequestHelper.getRequestParts(URI.create(uri)));
+  }
+
+  @Test
+  public void testParseGetValidHttpRequest() {
+    ScanRequest request = parse(SCAN_URI_PREFIX);
+    Assert.assertEquals(request.getResourceName(), "test_store_v1");
+    Assert.assertEquals(request.getStoreName(), "test_store");
+    Assert.assertEquals(request.getPartition(), 3);
+    Assert.assertNull(request.getPrefix());
+    Assert.assertNull(request.getStartKey());
+    Assert.assertNull(request.getEndKey());
+    Assert.assertNull(request.getContinuationKey());
+    Assert.assertEquals(request.getLimit(), Integer.MAX_VALUE);
+
+    String uri = SCAN_URI_PREFIX + "?" + ScanProtocol.PREFIX_PARAM + "="
+        + EncodingUtils.base64EncodeToString("p".getBytes()) + "&" + ScanProtocol.START_PARAM + "="
+        + EncodingUtils.base64EncodeToString("p1".getBytes()) + "&" + ScanProtocol.END_PARAM + "="
+        + EncodingUtils.base64EncodeToString("p9".getBytes()) + "&" + ScanProtocol.CONTINUATION_PARAM + "="
+        + EncodingUtils.base64EncodeToString("p5".getBytes()) + "&" + ScanProtocol.LIMIT_PARAM + "=10";
+    request = parse(uri);
+    Assert.assertEquals(request.getPartition(), 3);
+    Assert.assertEquals(request.getPrefix(), "p".getBytes());
+    Assert.assertEquals(request.getStartKey(), "p1".getBytes());
+    Assert.assertEquals(request.getEndKey(), "p9".getBytes());
+    Assert.assertEquals(request.getContinuationKey(), "p5".getBytes());
+    Assert.assertEquals(request.getLimit(), 10);
+  }
+
+  @Test
+  public void testParseGetInvalidHttpRequest() {
+    String[] invalidUris = { "/" + QueryAction.SCAN.toString().toLowerCase() + "/test_store_v1",
+        "/" + QueryAction.SCAN.toString().toLowerCase() + "/test_store/3",
+        "/" + QueryAction.SCAN.toString().toLowerCase() + "/test_store_v1/abc", SCAN_URI_PREFIX + "?limit=0",
+        SCAN_URI_PREFIX + "?limit=abc", SCAN_URI_PREFIX + "?prefix=!!!" };
+    for (String uri: invalidUris) {
+      Assert.assertThrows(VeniceException.class, () -> parse(uri));
+    }
+  }
+}
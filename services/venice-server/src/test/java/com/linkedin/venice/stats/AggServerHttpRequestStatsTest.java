@@ -332,9 +332,11 @@ public class AggServerHttpRequestStatsTest {
 
     // --- Tehuti-only sensors (early terminated, misrouted) ---
     singleGetPerStore.recordEarlyTerminatedEarlyRequest();
+    singleGetPerStore.recordEarlyTerminatedKeyCount(1);
     singleGetPerStore.recordMisroutedStoreVersionRequest();
 
     assertPerStoreAndTotal(store, "early_terminated_request_count.OccurrenceRate");
+    assertPerStoreAndTotal(store, "early_terminated_key_count.Rate");
     assertPerStoreAndTotal(store, "misrouted_store_version_request_count.OccurrenceRate");
 
     // --- Compute op metrics (MetricEntityStateOneEnum via createComputeOpMetric) ---